@@ -4,12 +4,14 @@ import com.ldbc.driver.client.CalculateWorkloadStatisticsMode;
 import com.ldbc.driver.client.ClientMode;
 import com.ldbc.driver.client.CreateValidationParamsMode;
 import com.ldbc.driver.client.ExecuteWorkloadMode;
+import com.ldbc.driver.client.MergeResultsMode;
 import com.ldbc.driver.client.PrintHelpMode;
 import com.ldbc.driver.client.ValidateDatabaseMode;
 import com.ldbc.driver.control.ConsoleAndFileDriverConfiguration;
 import com.ldbc.driver.control.ControlService;
 import com.ldbc.driver.control.DriverConfiguration;
 import com.ldbc.driver.control.DriverConfigurationException;
+import com.ldbc.driver.control.DriverRuntimeConfiguration;
 import com.ldbc.driver.control.LocalControlService;
 import com.ldbc.driver.control.Log4jLoggingServiceFactory;
 import com.ldbc.driver.control.LoggingService;
@@ -142,6 +144,17 @@ public class Client
             }
             return new CalculateWorkloadStatisticsMode( controlService, RANDOM_SEED );
         }
+        else if ( false == DriverRuntimeConfiguration.mergeResultsDirectories(
+                controlService.configuration().asMap() ).isEmpty() )
+        {
+            // Merge Results
+            if ( null == controlService.configuration().resultDirPath() )
+            {
+                throw new ClientException( format( "Missing required parameters: %s",
+                        ConsoleAndFileDriverConfiguration.RESULT_DIR_PATH_ARG ) );
+            }
+            return new MergeResultsMode( controlService );
+        }
         else
         {
             // Execute Workload
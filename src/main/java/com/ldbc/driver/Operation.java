@@ -2,14 +2,20 @@ package com.ldbc.driver;
 
 import com.ldbc.driver.temporal.TemporalUtil;
 
+import java.util.Collection;
 import java.util.Map;
 
+import static java.lang.String.format;
+
 public abstract class Operation<RESULT_TYPE>
 {
     private static final TemporalUtil temporalutil = new TemporalUtil();
     private long scheduledStartTimeAsMilli = -1;
     private long timeStamp = -1;
     private long dependencyTimeStamp = -1;
+    // set by OperationPool, for operations that are returned to it once executed
+    private OperationPool pool = null;
+    private boolean recycled = false;
 
     public final void setScheduledStartTimeAsMilli( long scheduledStartTimeAsMilli )
     {
@@ -43,6 +49,51 @@ public abstract class Operation<RESULT_TYPE>
 
     public abstract int type();
 
+    final OperationPool pool()
+    {
+        return pool;
+    }
+
+    final void setPool( OperationPool pool )
+    {
+        this.pool = pool;
+    }
+
+    final boolean isRecycled()
+    {
+        return recycled;
+    }
+
+    /**
+     * Called by {@link OperationPool} as the operation is returned to it, and as it is taken from it again, when all
+     * times are reset too
+     */
+    final void setRecycled( boolean recycled )
+    {
+        this.recycled = recycled;
+        if ( false == recycled )
+        {
+            this.scheduledStartTimeAsMilli = -1;
+            this.timeStamp = -1;
+            this.dependencyTimeStamp = -1;
+        }
+    }
+
+    /**
+     * Operations that may be taken from an {@link OperationPool} call this before returning any of their parameters,
+     * so any use of them once they were returned to the pool fails, rather than returning parameters of another
+     * operation
+     */
+    protected final void checkNotRecycled()
+    {
+        if ( recycled )
+        {
+            throw new IllegalStateException( format(
+                    "%s was used after it was recycled, operations must not be retained once they were executed",
+                    getClass().getSimpleName() ) );
+        }
+    }
+
     @Override
     public String toString()
     {
@@ -59,4 +110,26 @@ public abstract class Operation<RESULT_TYPE>
             throws SerializingMarshallingException;
 
     public abstract String serializeResult( Object operationResultInstance ) throws SerializingMarshallingException;
+
+    /**
+     * Number of rows in a result of this operation, recorded per operation type. Collections count their elements,
+     * any other result counts as one row. Operations with other result shapes should override this.
+     *
+     * @return result cardinality, or -1 if it should not be recorded
+     */
+    public int resultCardinality( RESULT_TYPE result )
+    {
+        if ( null == result )
+        {
+            return 0;
+        }
+        else if ( result instanceof Collection )
+        {
+            return ((Collection) result).size();
+        }
+        else
+        {
+            return 1;
+        }
+    }
 }
@@ -2,8 +2,10 @@ package com.ldbc.driver;
 
 import com.ldbc.driver.runtime.ConcurrentErrorReporter;
 import com.ldbc.driver.runtime.coordination.CompletionTimeWriter;
+import com.ldbc.driver.runtime.metrics.DriverOverheadRecorder;
 import com.ldbc.driver.runtime.metrics.MetricsCollectionException;
 import com.ldbc.driver.runtime.metrics.MetricsService;
+import com.ldbc.driver.runtime.metrics.OperationTracer;
 import com.ldbc.driver.runtime.scheduling.Spinner;
 import com.ldbc.driver.runtime.scheduling.SpinnerCheck;
 import com.ldbc.driver.temporal.TimeSource;
@@ -32,6 +34,20 @@ public class OperationHandlerRunnableContext implements Runnable, Poolable
     // set by DependencyAndNonDependencyHandlersRetriever
     private SpinnerCheck beforeExecuteCheck = null;
 
+    // set by OperationHandlerRunnableContextRetriever, only when driver overhead is recorded or operations are traced
+    private DriverOverheadRecorder driverOverheadRecorder = null;
+    private OperationTracer operationTracer = null;
+    private Thread dispatchThread = null;
+    private long dispatchTimeAsNano = -1;
+    private TimedSpinnerCheck timedBeforeExecuteCheck = null;
+
+    // set by ChildOperationExecutor, for operations spawned by a traced operation
+    private long parentTraceId = OperationTracer.NO_TRACE;
+    private long traceId = OperationTracer.NO_TRACE;
+
+    // set by OperationHandlerRunnableContextRetriever, for operations executed by the driver
+    private boolean recycleOperationOnCleanup = false;
+
     private boolean initialized = false;
 
     private ResultReporter.SimpleResultReporter resultReporter = null;
@@ -73,6 +89,12 @@ public class OperationHandlerRunnableContext implements Runnable, Poolable
         this.operation = operation;
         this.completionTimeWriter = completionTimeWriter;
         this.beforeExecuteCheck = Spinner.TRUE_CHECK;
+        this.driverOverheadRecorder = null;
+        this.operationTracer = null;
+        this.dispatchThread = null;
+        this.parentTraceId = OperationTracer.NO_TRACE;
+        this.traceId = OperationTracer.NO_TRACE;
+        this.recycleOperationOnCleanup = false;
         this.initialized = true;
     }
 
@@ -91,6 +113,49 @@ public class OperationHandlerRunnableContext implements Runnable, Poolable
         beforeExecuteCheck = check;
     }
 
+    /**
+     * Enables recording of driver overhead stages and/or tracing for the operation this context was initialized with
+     *
+     * @param driverOverheadRecorder null to not record driver overhead
+     * @param operationTracer null to not trace
+     * @param dispatchThread thread that dispatched the operation for execution
+     * @param dispatchTimeAsNano time at which the operation was dispatched for execution
+     */
+    public final void setDriverInstrumentation( DriverOverheadRecorder driverOverheadRecorder,
+            OperationTracer operationTracer,
+            Thread dispatchThread,
+            long dispatchTimeAsNano )
+    {
+        this.driverOverheadRecorder = driverOverheadRecorder;
+        this.operationTracer = operationTracer;
+        this.dispatchThread = dispatchThread;
+        this.dispatchTimeAsNano = dispatchTimeAsNano;
+    }
+
+    /**
+     * Returns the operation to the {@link OperationPool} it was taken from, if any, on {@link #cleanup()}
+     */
+    public final void recycleOperationOnCleanup()
+    {
+        this.recycleOperationOnCleanup = true;
+    }
+
+    /**
+     * Makes the operation part of the trace of the operation that spawned it, so it is traced too
+     */
+    public final void setParentTraceId( long parentTraceId )
+    {
+        this.parentTraceId = parentTraceId;
+    }
+
+    /**
+     * @return trace id of the operation once it has run, {@link OperationTracer#NO_TRACE} if it was not traced
+     */
+    public final long traceId()
+    {
+        return traceId;
+    }
+
     public final Operation operation()
     {
         return operation;
@@ -130,13 +195,58 @@ public class OperationHandlerRunnableContext implements Runnable, Poolable
         }
         try
         {
-            if ( !spinner.waitForScheduledStartTime( operation, beforeExecuteCheck ) )
+            boolean instrumented = null != driverOverheadRecorder || null != operationTracer;
+            long dequeueTimeAsNano = 0;
+            long checksPassedTimeAsNano = -1;
+            long spinnerExitTimeAsNano = 0;
+            SpinnerCheck check = beforeExecuteCheck;
+            if ( instrumented )
+            {
+                dequeueTimeAsNano = timeSource.nanoSnapshot();
+                if ( null != driverOverheadRecorder )
+                {
+                    driverOverheadRecorder.record(
+                            DriverOverheadRecorder.Stage.QUEUE_WAIT,
+                            dequeueTimeAsNano - dispatchTimeAsNano );
+                }
+                if ( Spinner.TRUE_CHECK != beforeExecuteCheck )
+                {
+                    if ( null == timedBeforeExecuteCheck )
+                    {
+                        timedBeforeExecuteCheck = new TimedSpinnerCheck( timeSource );
+                    }
+                    timedBeforeExecuteCheck.reset( beforeExecuteCheck, dequeueTimeAsNano );
+                    check = timedBeforeExecuteCheck;
+                }
+            }
+            if ( !spinner.waitForScheduledStartTime( operation, check ) )
             {
                 // TODO something more elaborate here? see comments in Spinner
                 // TODO should probably report failed operation
                 // Spinner result indicates operation should not be processed
                 return;
             }
+            if ( instrumented )
+            {
+                spinnerExitTimeAsNano = timeSource.nanoSnapshot();
+                if ( check == timedBeforeExecuteCheck )
+                {
+                    checksPassedTimeAsNano = timedBeforeExecuteCheck.checksPassedTimeAsNano();
+                }
+                if ( null != driverOverheadRecorder )
+                {
+                    if ( checksPassedTimeAsNano >= 0 )
+                    {
+                        driverOverheadRecorder.record(
+                                DriverOverheadRecorder.Stage.CT_WAIT,
+                                checksPassedTimeAsNano - dequeueTimeAsNano );
+                    }
+                    driverOverheadRecorder.record(
+                            DriverOverheadRecorder.Stage.SPINNER_WAIT,
+                            spinnerExitTimeAsNano - Math.max( dequeueTimeAsNano, checksPassedTimeAsNano ) );
+                }
+            }
+            resultReporter.resetPhaseDurations();
             resultReporter.setActualStartTimeAsMilli( timeSource.nowAsMilli() );
             long startOfLatencyMeasurementAsNano = timeSource.nanoSnapshot();
             operationHandler.executeOperation( operation, dbConnectionState, resultReporter );
@@ -155,8 +265,34 @@ public class OperationHandlerRunnableContext implements Runnable, Poolable
                         resultReporter.actualStartTimeAsMilli(),
                         resultReporter.runDurationAsNano(),
                         resultReporter.resultCode(),
-                        operation.timeStamp()
+                        operation.timeStamp(),
+                        resultReporter.phaseDurationsAsNano(),
+                        resultReporter.resultCardinality()
                 );
+                if ( instrumented )
+                {
+                    long completedTimeAsNano = timeSource.nanoSnapshot();
+                    if ( null != driverOverheadRecorder )
+                    {
+                        driverOverheadRecorder.record(
+                                DriverOverheadRecorder.Stage.METRICS_SUBMIT,
+                                completedTimeAsNano - endOfLatencyMeasurementAsNano );
+                    }
+                    if ( null != operationTracer )
+                    {
+                        traceId = operationTracer.trace(
+                                operation,
+                                parentTraceId,
+                                dispatchThread,
+                                dispatchTimeAsNano,
+                                dequeueTimeAsNano,
+                                checksPassedTimeAsNano,
+                                spinnerExitTimeAsNano,
+                                startOfLatencyMeasurementAsNano,
+                                endOfLatencyMeasurementAsNano,
+                                completedTimeAsNano );
+                    }
+                }
             }
         }
         catch ( Throwable e )
@@ -183,7 +319,65 @@ public class OperationHandlerRunnableContext implements Runnable, Poolable
 
     public final void cleanup()
     {
+        Operation recycledOperation = (recycleOperationOnCleanup) ? operation : null;
         release();
+        if ( null != recycledOperation && null != recycledOperation.pool() )
+        {
+            try
+            {
+                recycledOperation.pool().recycle( recycledOperation );
+            }
+            catch ( IllegalStateException e )
+            {
+                errorReporter.reportError( this, e.getMessage() );
+            }
+        }
+    }
+
+    /**
+     * Delegates to another check, remembering when it first stopped {@link SpinnerCheck.SpinnerCheckResult#STILL_CHECKING}
+     */
+    private static class TimedSpinnerCheck implements SpinnerCheck
+    {
+        private final TimeSource timeSource;
+        private SpinnerCheck check = null;
+        private long checksPassedTimeAsNano;
+        private boolean checking;
+
+        private TimedSpinnerCheck( TimeSource timeSource )
+        {
+            this.timeSource = timeSource;
+        }
+
+        private void reset( SpinnerCheck check, long startTimeAsNano )
+        {
+            this.check = check;
+            this.checksPassedTimeAsNano = startTimeAsNano;
+            this.checking = true;
+        }
+
+        private long checksPassedTimeAsNano()
+        {
+            return checksPassedTimeAsNano;
+        }
+
+        @Override
+        public SpinnerCheckResult doCheck( Operation operation )
+        {
+            SpinnerCheckResult result = check.doCheck( operation );
+            if ( checking && SpinnerCheckResult.STILL_CHECKING != result )
+            {
+                checksPassedTimeAsNano = timeSource.nanoSnapshot();
+                checking = false;
+            }
+            return result;
+        }
+
+        @Override
+        public boolean handleFailedCheck( Operation operation )
+        {
+            return check.handleFailedCheck( operation );
+        }
     }
 
     // Note, this should not really be public API, it is from the StormPot Poolable interface
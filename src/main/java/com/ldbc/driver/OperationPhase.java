@@ -0,0 +1,37 @@
+package com.ldbc.driver;
+
+/**
+ * Phases of executing an operation that handlers may time themselves, to break down the runtime measured by the
+ * driver. Each phase has a fixed slot (its ordinal), see {@link ResultReporter#recordPhaseDuration(OperationPhase,
+ * long)}.
+ */
+public enum OperationPhase
+{
+    CONNECTION_ACQUISITION( "connection_acquisition" ),
+    QUERY_EXECUTION( "query_execution" ),
+    RESULT_DESERIALIZATION( "result_deserialization" ),
+    OTHER( "other" );
+
+    public static final int COUNT = values().length;
+    private static final OperationPhase[] PHASES = values();
+
+    private final String metricName;
+
+    OperationPhase( String metricName )
+    {
+        this.metricName = metricName;
+    }
+
+    /**
+     * @return name under which metrics of this phase are reported
+     */
+    public String metricName()
+    {
+        return metricName;
+    }
+
+    public static OperationPhase fromSlot( int slot )
+    {
+        return PHASES[slot];
+    }
+}
@@ -0,0 +1,111 @@
+package com.ldbc.driver;
+
+import java.util.concurrent.ArrayBlockingQueue;
+
+import static java.lang.String.format;
+
+/**
+ * Instances of one operation type, returned to the pool once executed (see
+ * {@link OperationHandlerRunnableContext#cleanup()}) and reinitialized with the parameters of later operations, so
+ * steady state execution does not allocate an instance per operation. Only operations executed by the driver are
+ * returned, e.g., not those kept as validation parameters.
+ * <p>
+ * Handlers must not retain operations once they executed them. To detect those that do, recycled operations can be
+ * quarantined before they are reused, so any use of their parameters meanwhile fails, see
+ * {@link Operation#checkNotRecycled()}, as does recycling an operation twice.
+ * <p>
+ * Pools are bounded, operations returned to a full pool are left to the garbage collector.
+ */
+public class OperationPool<OPERATION_TYPE extends Operation>
+{
+    // null when disabled
+    private final ArrayBlockingQueue<OPERATION_TYPE> operations;
+    // null unless detecting retention
+    private final ArrayBlockingQueue<OPERATION_TYPE> quarantine;
+
+    /**
+     * @return pool that never returns recycled operations, i.e., operations are always new instances
+     */
+    public static <T extends Operation> OperationPool<T> disabled()
+    {
+        return new OperationPool<>( 0, false );
+    }
+
+    /**
+     * @param capacity maximum number of operations kept for reuse, 0 disables the pool
+     * @param detectRetention quarantine as many recycled operations before they are reused
+     */
+    public OperationPool( int capacity, boolean detectRetention )
+    {
+        if ( capacity < 0 )
+        {
+            throw new IllegalArgumentException( format( "Capacity must not be negative: %s", capacity ) );
+        }
+        this.operations = (0 == capacity) ? null : new ArrayBlockingQueue<OPERATION_TYPE>( capacity );
+        this.quarantine = (0 == capacity || false == detectRetention)
+                          ? null
+                          : new ArrayBlockingQueue<OPERATION_TYPE>( capacity );
+    }
+
+    public boolean isEnabled()
+    {
+        return null != operations;
+    }
+
+    /**
+     * @return recycled operation, to be reinitialized by the caller, or null if there is none
+     */
+    public OPERATION_TYPE take()
+    {
+        if ( null == operations )
+        {
+            return null;
+        }
+        OPERATION_TYPE operation = operations.poll();
+        if ( null != operation )
+        {
+            operation.setRecycled( false );
+        }
+        return operation;
+    }
+
+    /**
+     * @return the new operation, which is returned to this pool once executed
+     */
+    public OPERATION_TYPE adopt( OPERATION_TYPE operation )
+    {
+        if ( null != operations )
+        {
+            operation.setPool( this );
+        }
+        return operation;
+    }
+
+    @SuppressWarnings( "unchecked" )
+    void recycle( Operation operation )
+    {
+        if ( operation.isRecycled() )
+        {
+            throw new IllegalStateException(
+                    format( "%s was recycled twice\nOperation: %s", operation.getClass().getSimpleName(),
+                            operation ) );
+        }
+        operation.setRecycled( true );
+        if ( null == quarantine )
+        {
+            operations.offer( (OPERATION_TYPE) operation );
+        }
+        else
+        {
+            // once the quarantine is full, the operations quarantined longest are released for reuse
+            while ( false == quarantine.offer( (OPERATION_TYPE) operation ) )
+            {
+                OPERATION_TYPE releasedOperation = quarantine.poll();
+                if ( null != releasedOperation )
+                {
+                    operations.offer( releasedOperation );
+                }
+            }
+        }
+    }
+}
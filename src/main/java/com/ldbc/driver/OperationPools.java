@@ -0,0 +1,63 @@
+package com.ldbc.driver;
+
+import com.ldbc.driver.control.DriverConfigurationException;
+import com.ldbc.driver.control.DriverRuntimeConfiguration;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * One {@link OperationPool} per operation type, all alike, as configured by
+ * {@link DriverRuntimeConfiguration#OPERATION_RECYCLING}
+ */
+public class OperationPools
+{
+    private final int capacity;
+    private final boolean detectRetention;
+    private final Map<Class<? extends Operation>,OperationPool<? extends Operation>> pools = new HashMap<>();
+
+    public static OperationPools disabled()
+    {
+        return new OperationPools( 0, false );
+    }
+
+    public static OperationPools fromParams( Map<String,String> params ) throws DriverConfigurationException
+    {
+        switch ( DriverRuntimeConfiguration.operationRecycling( params ) )
+        {
+        case POOLED:
+            return new OperationPools( DriverRuntimeConfiguration.operationPoolSize( params ), false );
+        case POOLED_DETECT_RETENTION:
+            return new OperationPools( DriverRuntimeConfiguration.operationPoolSize( params ), true );
+        default:
+            return disabled();
+        }
+    }
+
+    /**
+     * @param capacity capacity of each pool, 0 disables them
+     */
+    public OperationPools( int capacity, boolean detectRetention )
+    {
+        this.capacity = capacity;
+        this.detectRetention = detectRetention;
+    }
+
+    public boolean isEnabled()
+    {
+        return capacity > 0;
+    }
+
+    @SuppressWarnings( "unchecked" )
+    public synchronized <OPERATION_TYPE extends Operation> OperationPool<OPERATION_TYPE> poolFor(
+            Class<OPERATION_TYPE> operationType )
+    {
+        OperationPool<OPERATION_TYPE> pool = (OperationPool<OPERATION_TYPE>) pools.get( operationType );
+        if ( null == pool )
+        {
+            pool = new OperationPool<>( capacity, detectRetention );
+            pools.put( operationType, pool );
+        }
+        return pool;
+    }
+}
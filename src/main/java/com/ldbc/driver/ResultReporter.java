@@ -2,6 +2,8 @@ package com.ldbc.driver;
 
 import com.ldbc.driver.runtime.ConcurrentErrorReporter;
 
+import java.util.Arrays;
+
 import static java.lang.String.format;
 
 public interface ResultReporter
@@ -19,17 +21,37 @@ public interface ResultReporter
 
     long actualStartTimeAsMilli();
 
+    /**
+     * Optionally called by handlers to report how long a phase of executing the operation took, e.g., acquiring a
+     * connection. Reporting the same phase more than once adds up the durations.
+     */
+    void recordPhaseDuration( OperationPhase phase, long durationAsNano );
+
+    /**
+     * @return duration of each phase, indexed by {@link OperationPhase} slot, negative for phases not reported
+     */
+    long[] phaseDurationsAsNano();
+
+    /**
+     * @return number of rows in the reported result, see {@link Operation#resultCardinality(Object)}, negative if
+     * not known
+     */
+    int resultCardinality();
+
     class SimpleResultReporter implements ResultReporter
     {
         private final ConcurrentErrorReporter errorReporter;
         private Object result = null;
         private int resultCode = -1;
+        private int resultCardinality = -1;
         private long actualStartTimeAsMilli = -1;
         private long runDurationAsNano = -1;
+        private final long[] phaseDurationsAsNano = new long[OperationPhase.COUNT];
 
         public SimpleResultReporter( ConcurrentErrorReporter errorReporter )
         {
             this.errorReporter = errorReporter;
+            resetPhaseDurations();
         }
 
         public <OTHER_RESULT_TYPE> void report(
@@ -51,6 +73,7 @@ public interface ResultReporter
                 errorReporter.reportError( this, errMsg );
                 throw new DbException( errMsg );
             }
+            this.resultCardinality = operation.resultCardinality( result );
         }
 
         @Override
@@ -87,6 +110,32 @@ public interface ResultReporter
             return result;
         }
 
+        @Override
+        public void recordPhaseDuration( OperationPhase phase, long durationAsNano )
+        {
+            int slot = phase.ordinal();
+            phaseDurationsAsNano[slot] = (phaseDurationsAsNano[slot] < 0)
+                                         ? durationAsNano
+                                         : phaseDurationsAsNano[slot] + durationAsNano;
+        }
+
+        @Override
+        public long[] phaseDurationsAsNano()
+        {
+            return phaseDurationsAsNano;
+        }
+
+        @Override
+        public int resultCardinality()
+        {
+            return resultCardinality;
+        }
+
+        public void resetPhaseDurations()
+        {
+            Arrays.fill( phaseDurationsAsNano, -1 );
+        }
+
         @Override
         public String toString()
         {
@@ -94,8 +143,10 @@ public interface ResultReporter
                    "\t-->errorReporter=" + errorReporter + "\n" +
                    "\t-->result=" + result + "\n" +
                    "\t-->resultCode=" + resultCode + "\n" +
+                   "\t-->resultCardinality=" + resultCardinality + "\n" +
                    "\t-->actualStartTimeAsMilli=" + actualStartTimeAsMilli + "\n" +
                    "\t-->runDurationAsNano=" + runDurationAsNano + "\n" +
+                   "\t-->phaseDurationsAsNano=" + Arrays.toString( phaseDurationsAsNano ) + "\n" +
                    '}';
         }
     }
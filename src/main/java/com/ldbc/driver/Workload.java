@@ -3,11 +3,14 @@ package com.ldbc.driver;
 import com.ldbc.driver.control.DriverConfiguration;
 import com.ldbc.driver.generator.GeneratorFactory;
 import com.ldbc.driver.validation.ResultsLogValidationTolerances;
+import com.ldbc.driver.validation.SerializedValidationParamsCodec;
+import com.ldbc.driver.validation.ValidationParamsCodec;
 
 import java.io.Closeable;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
@@ -80,6 +83,30 @@ public abstract class Workload implements Closeable
     protected abstract WorkloadStreams getStreams( GeneratorFactory generators, boolean hasDbConnected )
             throws WorkloadException;
 
+    /**
+     * Streams, advanced past their first operations, as given by startForStream, in the stream order of
+     * {@link WorkloadStreams#skipOperations(GeneratorFactory, WorkloadStreams, long[])}
+     */
+    public final WorkloadStreams streams( GeneratorFactory gf, boolean hasDbConnected, long[] startForStream )
+            throws WorkloadException
+    {
+        if ( false == isInitialized )
+        { throw new WorkloadException( "Workload has not been initialized" ); }
+        return getStreams( gf, hasDbConnected, startForStream );
+    }
+
+    /**
+     * Takes and discards the skipped operations by default, workloads able to seek their streams to those offsets
+     * directly should override it.
+     */
+    protected WorkloadStreams getStreams( GeneratorFactory gf, boolean hasDbConnected, long[] startForStream )
+            throws WorkloadException
+    {
+        WorkloadStreams workloadStreams = getStreams( gf, hasDbConnected );
+        WorkloadStreams.skipOperations( gf, workloadStreams, startForStream );
+        return workloadStreams;
+    }
+
     public DbValidationParametersFilter dbValidationParametersFilter( final Integer requiredValidationParameterCount )
     {
         return new DbValidationParametersFilter()
@@ -126,6 +153,32 @@ public abstract class Workload implements Closeable
 
     public abstract Operation marshalOperation( String serializedOperation ) throws SerializingMarshallingException;
 
+    /**
+     * Encodes operations and results of binary validation parameters files, by default as their string serialization
+     */
+    public ValidationParamsCodec validationParamsCodec()
+    {
+        return new SerializedValidationParamsCodec( this );
+    }
+
+    /**
+     * Encodes the operations of workload schedules, see {@link WorkloadSchedule}, by default as those of validation
+     * parameters
+     */
+    protected ValidationParamsCodec workloadScheduleCodec()
+    {
+        return validationParamsCodec();
+    }
+
+    /**
+     * Streams decoded from persisted inputs other than those of the workload, e.g., workload schedules, are passed
+     * through here, so they are decoded as the workload decodes its own streams, by default by the thread taking them
+     */
+    protected Iterator<Operation> decodeAhead( Iterator<Operation> operations )
+    {
+        return operations;
+    }
+
     public abstract boolean resultsEqual( Operation operation, Object result1, Object result2 )
             throws WorkloadException;
 
@@ -0,0 +1,367 @@
+package com.ldbc.driver;
+
+import com.ldbc.driver.control.DriverConfiguration;
+import com.ldbc.driver.generator.Generator;
+import com.ldbc.driver.generator.GeneratorException;
+import com.ldbc.driver.validation.ValidationParamsCodec;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static java.lang.String.format;
+
+/**
+ * Persisted schedule of the streams of a workload: the operations of each stream, from an offset and up to a limit,
+ * with their scheduled start times and time stamps as generated, i.e., before they are offset and compressed for a
+ * run. It is what {@link WorkloadStreams#createNewWorkloadWithOffsetAndLimitedWorkloadStreams} otherwise builds from
+ * the workload inputs, on every run.
+ * <p>
+ * Operations are persisted as their type followed by their fields, as encoded by the codec of the workload, see
+ * {@link Workload#workloadScheduleCodec()}, and replayed from memory-mapped windows of the file, through
+ * {@link Workload#decodeAhead(Iterator)}. Child operations are not persisted, they are generated during runs, as
+ * always.
+ * <p>
+ * A schedule is only used with the configuration it was written with, see
+ * {@link WorkloadStreamsIndex#keyFor(DriverConfiguration)}, and with the same offset, limit and database connection.
+ */
+public class WorkloadSchedule
+{
+    static final int MAGIC = 0x4C575343;
+    static final int VERSION = 2;
+    private static final int WINDOW_SIZE_IN_BYTES = 256 * 1024 * 1024;
+    // scheduled start time, time stamp, dependency time stamp, operation type, length of encoded operation fields
+    private static final int RECORD_HEADER_SIZE_IN_BYTES = 8 + 8 + 8 + 4 + 4;
+
+    private final File scheduleFile;
+    private final long minimumTimeStamp;
+    // start and end file positions of the records of each stream, in the stream order of
+    // WorkloadStreams#skipOperations: asynchronous dependency and non-dependency streams, then those of each
+    // blocking stream
+    private final long[] startPositionForStream;
+    private final long[] endPositionForStream;
+
+    /**
+     * @return file of the schedule of the streams from offset, up to limit, named after the configured schedule file,
+     * so schedules of warmup and run phases are kept apart
+     */
+    public static File scheduleFileFor( File workloadScheduleFile, long offset, long limit )
+    {
+        return new File( workloadScheduleFile.getAbsoluteFile().getParentFile(),
+                workloadScheduleFile.getName() + "." + offset + "-" + limit );
+    }
+
+    /**
+     * @return schedule persisted in the file, or null if there is none, or it was written with another key, offset,
+     * limit or database connection
+     */
+    public static WorkloadSchedule read( File scheduleFile, long key, long offset, long limit,
+            boolean hasDbConnected ) throws IOException
+    {
+        if ( false == scheduleFile.exists() )
+        {
+            return null;
+        }
+        try ( DataInputStream in =
+                      new DataInputStream( new BufferedInputStream( new FileInputStream( scheduleFile ) ) ) )
+        {
+            if ( MAGIC != in.readInt() || VERSION != in.readInt() || key != in.readLong() ||
+                 offset != in.readLong() || limit != in.readLong() || hasDbConnected != in.readBoolean() )
+            {
+                return null;
+            }
+            long minimumTimeStamp = in.readLong();
+            int streamCount = in.readInt();
+            long[] startPositionForStream = new long[streamCount];
+            long[] endPositionForStream = new long[streamCount];
+            for ( int stream = 0; stream < streamCount; stream++ )
+            {
+                startPositionForStream[stream] = in.readLong();
+                endPositionForStream[stream] = in.readLong();
+            }
+            return new WorkloadSchedule( scheduleFile, minimumTimeStamp, startPositionForStream,
+                    endPositionForStream );
+        }
+    }
+
+    /**
+     * Takes all operations of the streams, which must be limited, and persists them
+     */
+    public static void write( File scheduleFile, long key, long offset, long limit, boolean hasDbConnected,
+            long minimumTimeStamp, WorkloadStreams workloadStreams, Workload workload )
+            throws IOException, WorkloadException
+    {
+        List<Iterator<Operation>> streams = streamsOf( workloadStreams );
+        int headerSizeInBytes = 4 + 4 + 8 + 8 + 8 + 1 + 8 + 4 + streams.size() * 16;
+        long[] positionForStream = new long[streams.size() + 1];
+        ValidationParamsCodec codec = workload.workloadScheduleCodec();
+        // fields of each operation are encoded here first, as their length precedes them
+        ByteArrayOutputStream encodedOperation = new ByteArrayOutputStream();
+        DataOutputStream encodedOperationOut = new DataOutputStream( encodedOperation );
+        // written aside, so an interrupted write does not leave a corrupt schedule behind
+        File tempScheduleFile = new File( scheduleFile.getAbsolutePath() + ".tmp" );
+        try ( DataOutputStream out =
+                      new DataOutputStream( new BufferedOutputStream( new FileOutputStream( tempScheduleFile ) ) ) )
+        {
+            out.writeInt( MAGIC );
+            out.writeInt( VERSION );
+            out.writeLong( key );
+            out.writeLong( offset );
+            out.writeLong( limit );
+            out.writeBoolean( hasDbConnected );
+            out.writeLong( minimumTimeStamp );
+            out.writeInt( streams.size() );
+            // stream positions are only known once streams are written
+            out.write( new byte[streams.size() * 16] );
+            long position = headerSizeInBytes;
+            for ( int stream = 0; stream < streams.size(); stream++ )
+            {
+                positionForStream[stream] = position;
+                Iterator<Operation> operations = streams.get( stream );
+                while ( operations.hasNext() )
+                {
+                    Operation operation = operations.next();
+                    encodedOperation.reset();
+                    try
+                    {
+                        codec.writeOperation( operation, encodedOperationOut );
+                    }
+                    catch ( SerializingMarshallingException e )
+                    {
+                        throw new WorkloadException(
+                                format( "Error encoding operation for workload schedule\n%s", operation ), e );
+                    }
+                    out.writeLong( operation.scheduledStartTimeAsMilli() );
+                    out.writeLong( operation.timeStamp() );
+                    out.writeLong( operation.dependencyTimeStamp() );
+                    out.writeInt( operation.type() );
+                    out.writeInt( encodedOperation.size() );
+                    encodedOperation.writeTo( out );
+                    position += RECORD_HEADER_SIZE_IN_BYTES + encodedOperation.size();
+                }
+            }
+            positionForStream[streams.size()] = position;
+        }
+        try ( RandomAccessFile file = new RandomAccessFile( tempScheduleFile, "rw" ) )
+        {
+            file.seek( headerSizeInBytes - streams.size() * 16 );
+            for ( int stream = 0; stream < streams.size(); stream++ )
+            {
+                file.writeLong( positionForStream[stream] );
+                file.writeLong( positionForStream[stream + 1] );
+            }
+        }
+        Files.move( tempScheduleFile.toPath(), scheduleFile.toPath(), StandardCopyOption.REPLACE_EXISTING );
+    }
+
+    private WorkloadSchedule( File scheduleFile, long minimumTimeStamp, long[] startPositionForStream,
+            long[] endPositionForStream )
+    {
+        this.scheduleFile = scheduleFile;
+        this.minimumTimeStamp = minimumTimeStamp;
+        this.startPositionForStream = startPositionForStream;
+        this.endPositionForStream = endPositionForStream;
+    }
+
+    public long minimumTimeStamp()
+    {
+        return minimumTimeStamp;
+    }
+
+    public int streamCount()
+    {
+        return startPositionForStream.length;
+    }
+
+    /**
+     * @param workloadStreams streams of the workload the schedule was written for, only their operation types and
+     * child operation generators are used, their operations are not taken
+     * @param workload workload that decodes the persisted operations
+     * @return streams of the persisted operations
+     */
+    public WorkloadStreams replay( WorkloadStreams workloadStreams, Workload workload ) throws WorkloadException
+    {
+        List<WorkloadStreams.WorkloadStreamDefinition> blockingStreams = workloadStreams.blockingStreamDefinitions();
+        if ( streamCount() != blockingStreams.size() * 2 + 2 )
+        {
+            throw new WorkloadException( format(
+                    "Workload streams do not match those of their schedule, which should be deleted, %s streams"
+                    + " rather than %s: %s",
+                    blockingStreams.size() * 2 + 2, streamCount(), scheduleFile.getAbsolutePath() ) );
+        }
+        WorkloadStreams replayedWorkloadStreams = new WorkloadStreams();
+        replayedWorkloadStreams.setAsynchronousStream(
+                workloadStreams.asynchronousStream().dependentOperationTypes(),
+                workloadStreams.asynchronousStream().dependencyOperationTypes(),
+                scheduledOperations( 0, workload ),
+                scheduledOperations( 1, workload ),
+                workloadStreams.asynchronousStream().childOperationGenerator()
+        );
+        for ( int i = 0; i < blockingStreams.size(); i++ )
+        {
+            replayedWorkloadStreams.addBlockingStream(
+                    blockingStreams.get( i ).dependentOperationTypes(),
+                    blockingStreams.get( i ).dependencyOperationTypes(),
+                    scheduledOperations( i * 2 + 2, workload ),
+                    scheduledOperations( i * 2 + 3, workload ),
+                    blockingStreams.get( i ).childOperationGenerator()
+            );
+        }
+        return replayedWorkloadStreams;
+    }
+
+    private Iterator<Operation> scheduledOperations( int stream, Workload workload )
+    {
+        return workload.decodeAhead( new ScheduledOperations( scheduleFile, startPositionForStream[stream],
+                endPositionForStream[stream], workload.workloadScheduleCodec() ) );
+    }
+
+    private static List<Iterator<Operation>> streamsOf( WorkloadStreams workloadStreams )
+    {
+        List<Iterator<Operation>> streams = new ArrayList<>();
+        streams.add( workloadStreams.asynchronousStream().dependencyOperations() );
+        streams.add( workloadStreams.asynchronousStream().nonDependencyOperations() );
+        for ( WorkloadStreams.WorkloadStreamDefinition blockingStream : workloadStreams.blockingStreamDefinitions() )
+        {
+            streams.add( blockingStream.dependencyOperations() );
+            streams.add( blockingStream.nonDependencyOperations() );
+        }
+        return streams;
+    }
+
+    /**
+     * Operations of one stream, read from a memory-mapped window of the file, which is moved forward, to the next
+     * record, when that record does not fit in it. Fields of operations are decoded straight from the window.
+     */
+    private static class ScheduledOperations extends Generator<Operation>
+    {
+        private final File scheduleFile;
+        private final long endPosition;
+        private final ValidationParamsCodec codec;
+        private final WindowInputStream windowInputStream = new WindowInputStream();
+        private final DataInputStream windowInput = new DataInputStream( windowInputStream );
+        private long position;
+        private MappedByteBuffer window = null;
+        private long windowStartPosition = 0;
+
+        private ScheduledOperations( File scheduleFile, long startPosition, long endPosition,
+                ValidationParamsCodec codec )
+        {
+            this.scheduleFile = scheduleFile;
+            this.position = startPosition;
+            this.endPosition = endPosition;
+            this.codec = codec;
+        }
+
+        @Override
+        protected Operation doNext() throws GeneratorException
+        {
+            if ( position >= endPosition )
+            {
+                // the mapping is released once the window is garbage collected
+                window = null;
+                return null;
+            }
+            mapRecord( RECORD_HEADER_SIZE_IN_BYTES );
+            int recordPosition = (int) (position - windowStartPosition);
+            long scheduledStartTimeAsMilli = window.getLong( recordPosition );
+            long timeStamp = window.getLong( recordPosition + 8 );
+            long dependencyTimeStamp = window.getLong( recordPosition + 16 );
+            int operationType = window.getInt( recordPosition + 24 );
+            int length = window.getInt( recordPosition + 28 );
+            mapRecord( RECORD_HEADER_SIZE_IN_BYTES + length );
+            recordPosition = (int) (position - windowStartPosition);
+            // the codec reads the fields of the record only
+            window.position( recordPosition + RECORD_HEADER_SIZE_IN_BYTES );
+            window.limit( recordPosition + RECORD_HEADER_SIZE_IN_BYTES + length );
+            windowInputStream.window = window;
+            Operation operation;
+            try
+            {
+                operation = codec.readOperation( operationType, windowInput );
+            }
+            catch ( IOException | SerializingMarshallingException e )
+            {
+                throw new GeneratorException( format( "Error decoding operation of workload schedule: %s",
+                        scheduleFile.getAbsolutePath() ), e );
+            }
+            finally
+            {
+                window.clear();
+            }
+            operation.setScheduledStartTimeAsMilli( scheduledStartTimeAsMilli );
+            operation.setTimeStamp( timeStamp );
+            operation.setDependencyTimeStamp( dependencyTimeStamp );
+            position += RECORD_HEADER_SIZE_IN_BYTES + length;
+            return operation;
+        }
+
+        private void mapRecord( int recordSizeInBytes )
+        {
+            if ( null != window && position + recordSizeInBytes <= windowStartPosition + window.capacity() )
+            {
+                return;
+            }
+            long windowSizeInBytes = Math.max( recordSizeInBytes,
+                    Math.min( WINDOW_SIZE_IN_BYTES, endPosition - position ) );
+            // mappings remain valid once their channel is closed
+            try ( FileChannel channel = FileChannel.open( scheduleFile.toPath(), StandardOpenOption.READ ) )
+            {
+                window = channel.map( FileChannel.MapMode.READ_ONLY, position, windowSizeInBytes );
+                windowStartPosition = position;
+            }
+            catch ( IOException e )
+            {
+                throw new GeneratorException(
+                        format( "Error mapping workload schedule: %s", scheduleFile.getAbsolutePath() ), e );
+            }
+        }
+    }
+
+    /**
+     * Reads the remaining bytes of a window, up to its limit
+     */
+    private static class WindowInputStream extends InputStream
+    {
+        private ByteBuffer window = null;
+
+        @Override
+        public int read()
+        {
+            return window.hasRemaining() ? window.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read( byte[] bytes, int offset, int length )
+        {
+            if ( 0 == length )
+            {
+                return 0;
+            }
+            if ( false == window.hasRemaining() )
+            {
+                return -1;
+            }
+            int readLength = Math.min( length, window.remaining() );
+            window.get( bytes, offset, readLength );
+            return readLength;
+        }
+    }
+}
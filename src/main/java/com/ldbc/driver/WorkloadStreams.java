@@ -3,14 +3,17 @@ package com.ldbc.driver;
 import com.google.common.collect.Iterators;
 import com.google.common.collect.PeekingIterator;
 import com.ldbc.driver.control.DriverConfiguration;
+import com.ldbc.driver.control.DriverRuntimeConfiguration;
 import com.ldbc.driver.control.LoggingService;
 import com.ldbc.driver.control.LoggingServiceFactory;
 import com.ldbc.driver.generator.GeneratorFactory;
+import com.ldbc.driver.temporal.TemporalUtil;
 import com.ldbc.driver.util.Tuple;
 import com.ldbc.driver.util.Tuple3;
 import com.ldbc.driver.workloads.ClassNameWorkloadFactory;
 import com.ldbc.driver.workloads.WorkloadFactory;
 
+import java.io.File;
 import java.io.IOException;
 import java.text.DecimalFormat;
 import java.util.ArrayList;
@@ -25,6 +28,8 @@ import static java.lang.String.format;
 
 public class WorkloadStreams
 {
+    private static final TemporalUtil TEMPORAL_UTIL = new TemporalUtil();
+
     private WorkloadStreamDefinition asynchronousStream = null;
     private List<WorkloadStreamDefinition> blockingStreams = new ArrayList<>();
 
@@ -247,49 +252,139 @@ public class WorkloadStreams
             long limit,
             LoggingServiceFactory loggingServiceFactory ) throws WorkloadException, IOException
     {
+        LoggingService loggingService =
+                loggingServiceFactory.loggingServiceFor( WorkloadStreams.class.getSimpleName() );
+        File workloadScheduleFile = DriverRuntimeConfiguration.workloadScheduleFile( configuration.asMap() );
+        if ( null == workloadScheduleFile )
+        {
+            return offsetAndLimitedWorkloadStreams(
+                    workloadFactory,
+                    configuration,
+                    gf,
+                    returnStreamsWithDbConnector,
+                    offset,
+                    limit,
+                    loggingService
+            );
+        }
+
         // ================================
-        // ====== Calculate Limits ========
+        // ====== Replay Schedule =========
         // ================================
 
-        // get workload
-        Workload workload = workloadFactory.createWorkload();
-        workload.init( configuration );
-        // retrieve unbounded streams
-        boolean hasDbConnected = false;
-        WorkloadStreams unlimitedWorkloadStreams = workload.streams( gf, hasDbConnected );
-        List<Iterator<Operation>> streams = new ArrayList<>();
-        List<ChildOperationGenerator> childOperationGenerators = new ArrayList<>();
+        File scheduleFile = WorkloadSchedule.scheduleFileFor( workloadScheduleFile, offset, limit );
+        long key = WorkloadStreamsIndex.keyFor( configuration );
+        WorkloadSchedule schedule =
+                WorkloadSchedule.read( scheduleFile, key, offset, limit, returnStreamsWithDbConnector );
+        WorkloadStreams workloadStreams;
+        Workload workload;
+        if ( null == schedule )
+        {
+            Tuple3<WorkloadStreams,Workload,Long> streamsAndWorkloadAndMinimumTimeStamp =
+                    offsetAndLimitedWorkloadStreams(
+                            workloadFactory,
+                            configuration,
+                            gf,
+                            returnStreamsWithDbConnector,
+                            offset,
+                            limit,
+                            loggingService
+                    );
+            loggingService.info( format( "Writing workload schedule: %s", scheduleFile.getAbsolutePath() ) );
+            // operations are taken from the streams as they are written, only their definitions remain to be used
+            workloadStreams = streamsAndWorkloadAndMinimumTimeStamp._1();
+            workload = streamsAndWorkloadAndMinimumTimeStamp._2();
+            WorkloadSchedule.write(
+                    scheduleFile,
+                    key,
+                    offset,
+                    limit,
+                    returnStreamsWithDbConnector,
+                    streamsAndWorkloadAndMinimumTimeStamp._3(),
+                    workloadStreams,
+                    workload
+            );
+            schedule = WorkloadSchedule.read( scheduleFile, key, offset, limit, returnStreamsWithDbConnector );
+        }
+        else
+        {
+            loggingService.info( format( "Replaying workload schedule: %s", scheduleFile.getAbsolutePath() ) );
+            workload = workloadFactory.createWorkload();
+            workload.init( configuration );
+            // their operations are never taken, only their definitions are used
+            workloadStreams = workload.streams( gf, returnStreamsWithDbConnector );
+        }
 
-        streams.add( unlimitedWorkloadStreams.asynchronousStream().dependencyOperations() );
-        childOperationGenerators.add( unlimitedWorkloadStreams.asynchronousStream().childOperationGenerator() );
+        return Tuple.tuple3(
+                schedule.replay( workloadStreams, workload ),
+                workload,
+                schedule.minimumTimeStamp()
+        );
+    }
 
-        streams.add( unlimitedWorkloadStreams.asynchronousStream().nonDependencyOperations() );
-        childOperationGenerators.add( unlimitedWorkloadStreams.asynchronousStream().childOperationGenerator() );
+    private static Tuple3<WorkloadStreams,Workload,Long> offsetAndLimitedWorkloadStreams(
+            WorkloadFactory workloadFactory,
+            DriverConfiguration configuration,
+            GeneratorFactory gf,
+            boolean returnStreamsWithDbConnector,
+            long offset,
+            long limit,
+            LoggingService loggingService ) throws WorkloadException, IOException
+    {
+        // ================================
+        // ====== Calculate Limits ========
+        // ================================
 
-        for ( WorkloadStreamDefinition stream : unlimitedWorkloadStreams.blockingStreamDefinitions() )
+        long limitsStartTimeAsNano = System.nanoTime();
+        File indexFile = DriverRuntimeConfiguration.workloadStreamsIndexFile( configuration.asMap() );
+        WorkloadStreamsIndex index = (null == indexFile)
+                                     ? null
+                                     : WorkloadStreamsIndex.read( indexFile, WorkloadStreamsIndex.keyFor( configuration ) );
+        WorkloadStreamsIndex.Checkpoint offsetCheckpoint = (null == index) ? null : index.checkpointFor( offset );
+        WorkloadStreamsIndex.Checkpoint limitCheckpoint = (null == offsetCheckpoint)
+                                                          ? null
+                                                          : index.checkpointFor(
+                                                                  offsetCheckpoint.operationCount() + limit );
+
+        long[] startForStream;
+        long[] limitForStream;
+        long minimumTimeStamp;
+        if ( null != limitCheckpoint )
         {
-            streams.add( stream.dependencyOperations() );
-            childOperationGenerators.add( stream.childOperationGenerator() );
-
-            streams.add( stream.nonDependencyOperations() );
-            childOperationGenerators.add( stream.childOperationGenerator() );
+            loggingService.info( format( "Calculated workload stream limits from index: %s",
+                    indexFile.getAbsolutePath() ) );
+            startForStream = offsetCheckpoint.operationCountForStream();
+            limitForStream = limitCheckpoint.operationCountForStream();
+            for ( int i = 0; i < limitForStream.length; i++ )
+            {
+                limitForStream[i] = limitForStream[i] - startForStream[i];
+            }
+            minimumTimeStamp = (limit > 0) ? offsetCheckpoint.nextTimeStamp() : Long.MAX_VALUE;
         }
-
-        // stream through streams once, to calculate how many operations are needed from each,
-        // to get operation_count in total
-        Tuple3<long[],long[],Long> limitsAndMinimumsForStream =
-                WorkloadStreams.fromAmongAllRetrieveTopCountFromOffset(
-                        streams,
-                        offset,
-                        limit,
-                        childOperationGenerators,
-                        loggingServiceFactory
-                );
-        long[] startForStream = limitsAndMinimumsForStream._1();
-        long[] limitForStream = limitsAndMinimumsForStream._2();
-        long minimumTimeStamp = limitsAndMinimumsForStream._3();
-
-        workload.close();
+        else
+        {
+            // stream through streams once, to calculate how many operations are needed from each,
+            // to get operation_count in total
+            Tuple3<long[],long[],Long> limitsAndMinimumsForStream = scanForOffsetAndLimit(
+                    workloadFactory,
+                    configuration,
+                    gf,
+                    offset,
+                    limit,
+                    index,
+                    loggingService
+            );
+            startForStream = limitsAndMinimumsForStream._1();
+            limitForStream = limitsAndMinimumsForStream._2();
+            minimumTimeStamp = limitsAndMinimumsForStream._3();
+            if ( null != index )
+            {
+                index.write( indexFile );
+            }
+        }
+        long streamsStartTimeAsNano = System.nanoTime();
+        loggingService.info( format( "Calculated workload stream limits in: %s",
+                TEMPORAL_UTIL.nanoDurationToString( streamsStartTimeAsNano - limitsStartTimeAsNano ) ) );
 
         // ================================
         // ====== Create Limited Streams ==
@@ -298,22 +393,14 @@ public class WorkloadStreams
         WorkloadStreams workloadStreams = new WorkloadStreams();
 
         // reinitialize workload, so it can be streamed through from the beginning
-        workload = workloadFactory.createWorkload();
+        Workload workload = workloadFactory.createWorkload();
         workload.init( configuration );
 
-        // retrieve unbounded streams
-        unlimitedWorkloadStreams = workload.streams( gf, returnStreamsWithDbConnector );
+        // retrieve unbounded streams, advanced to offsets
+        WorkloadStreams unlimitedWorkloadStreams =
+                workload.streams( gf, returnStreamsWithDbConnector, startForStream );
         List<WorkloadStreamDefinition> unlimitedBlockingStreams = unlimitedWorkloadStreams.blockingStreamDefinitions();
 
-        // advance to offsets
-        gf.consume( unlimitedWorkloadStreams.asynchronousStream().dependencyOperations(), startForStream[0] );
-        gf.consume( unlimitedWorkloadStreams.asynchronousStream().nonDependencyOperations(), startForStream[1] );
-        for ( int i = 0; i < unlimitedBlockingStreams.size(); i++ )
-        {
-            gf.consume( unlimitedBlockingStreams.get( i ).dependencyOperations(), startForStream[i * 2 + 2] );
-            gf.consume( unlimitedBlockingStreams.get( i ).nonDependencyOperations(), startForStream[i * 2 + 3] );
-        }
-
         // copy unbounded streams to new workload streams instance, from offsets, applying limits
         workloadStreams.setAsynchronousStream(
                 unlimitedWorkloadStreams.asynchronousStream().dependentOperationTypes(),
@@ -333,6 +420,9 @@ public class WorkloadStreams
             );
         }
 
+        loggingService.info( format( "Retrieved workload streams in: %s",
+                TEMPORAL_UTIL.nanoDurationToString( System.nanoTime() - streamsStartTimeAsNano ) ) );
+
         return Tuple.tuple3(
                 workloadStreams,
                 workload,
@@ -341,213 +431,350 @@ public class WorkloadStreams
     }
 
     // returns (start_per_stream, end_per_stream, minimum_timestamp)
-    public static Tuple3<long[],long[],Long> fromAmongAllRetrieveTopCountFromOffset(
-            List<Iterator<Operation>> streams,
+    private static Tuple3<long[],long[],Long> scanForOffsetAndLimit(
+            WorkloadFactory workloadFactory,
+            DriverConfiguration configuration,
+            GeneratorFactory gf,
             long offset,
             long limit,
-            List<ChildOperationGenerator> childOperationGenerators,
-            LoggingServiceFactory loggingServiceFactory ) throws WorkloadException
+            WorkloadStreamsIndex index,
+            LoggingService loggingService ) throws WorkloadException, IOException
     {
-        LoggingService loggingService =
-                loggingServiceFactory.loggingServiceFor( WorkloadStreams.class.getSimpleName() );
-        final DecimalFormat numberFormat = new DecimalFormat( "###,###,###,###,###" );
-        final Object result = null;
-        Operation operation;
-        ChildOperationGenerator childOperationGenerator;
-        // last operation retrieved (which has not yet been counted) from each stream
-        Operation[] streamHeads = new Operation[streams.size()];
-        for ( int i = 0; i < streams.size(); i++ )
+        // get workload
+        Workload workload = workloadFactory.createWorkload();
+        workload.init( configuration );
+        // retrieve unbounded streams, from the latest indexed position before the offset, if there is one
+        boolean hasDbConnected = false;
+        WorkloadStreamsIndex.Checkpoint resumeCheckpoint =
+                (null == index) ? null : index.resumableCheckpointFor( offset );
+        WorkloadStreams unlimitedWorkloadStreams = (null == resumeCheckpoint)
+                                                   ? workload.streams( gf, hasDbConnected )
+                                                   : workload.streams( gf, hasDbConnected,
+                                                           resumeCheckpoint.operationCountForStream() );
+        List<Iterator<Operation>> streams = new ArrayList<>();
+        List<ChildOperationGenerator> childOperationGenerators = new ArrayList<>();
+        addStreamsOf( unlimitedWorkloadStreams, streams, childOperationGenerators );
+
+        if ( null != index )
         {
-            streamHeads[i] = null;
+            boolean hasChildOperationGenerators = false;
+            for ( ChildOperationGenerator childOperationGenerator : childOperationGenerators )
+            {
+                hasChildOperationGenerators = hasChildOperationGenerators || null != childOperationGenerator;
+            }
+            if ( false == index.matches( streams.size(), hasChildOperationGenerators ) )
+            {
+                if ( null != resumeCheckpoint )
+                {
+                    throw new WorkloadException( format(
+                            "Workload streams do not match those of their index, which should be deleted, %s streams"
+                            + " and %s child operation generators",
+                            streams.size(), (hasChildOperationGenerators) ? "with" : "without" ) );
+                }
+                index.reset( streams.size(), hasChildOperationGenerators );
+            }
         }
 
-        // ================================================
-        // ===== advance to start point of each stream =====
-        // ================================================
-
-        // count of operations to retrieve from that particular stream
-        long[] kForStreamOffset = new long[streams.size()];
-        for ( int i = 0; i < streams.size(); i++ )
+        StreamsScan scan = (null == resumeCheckpoint)
+                           ? new StreamsScan( streams, childOperationGenerators, index, new long[streams.size()], 0 )
+                           : new StreamsScan( streams, childOperationGenerators, index,
+                                   resumeCheckpoint.operationCountForStream(), resumeCheckpoint.operationCount() );
+        if ( null != resumeCheckpoint )
         {
-            kForStreamOffset[i] = 0;
+            loggingService.info( format( "Resuming scan from workload streams index, after %s operations",
+                    resumeCheckpoint.operationCount() ) );
+        }
+        scan.scanTo( offset, false, "OFFSET", 0, offset, loggingService );
+        long[] startForStream = scan.operationCountForStream();
+        long offsetOperationCount = scan.operationCount();
+        if ( null != index )
+        {
+            index.add( scan.checkpoint( offset ) );
         }
-        long kSoFarOffset = 0;
 
-        while ( kSoFarOffset < offset )
+        scan.scanTo( offsetOperationCount + limit, true, "RUN", offsetOperationCount, limit, loggingService );
+        long[] limitForStream = scan.operationCountForStream();
+        for ( int i = 0; i < limitForStream.length; i++ )
         {
-            long minAsMilli = Long.MAX_VALUE;
-            int indexOfMin = -1;
-            for ( int i = 0; i < streams.size(); i++ )
-            {
-                if ( null != streamHeads[i] || streams.get( i ).hasNext() )
-                {
-                    if ( null == streamHeads[i] )
-                    {
-                        streamHeads[i] = streams.get( i ).next();
-                    }
+            limitForStream[i] = limitForStream[i] - startForStream[i];
+        }
+        if ( null != index )
+        {
+            index.add( scan.checkpoint( offsetOperationCount + limit ) );
+        }
 
-                    long streamHeadTimeStampAsMilli = streamHeads[i].timeStamp();
+        workload.close();
 
-                    if ( -1 == streamHeadTimeStampAsMilli )
-                    {
-                        throw new WorkloadException(
-                                format( "Operation must have time stamp\n%s", streamHeads[i] ) );
-                    }
+        return Tuple.tuple3(
+                startForStream,
+                limitForStream,
+                scan.minimumTimeStamp()
+        );
+    }
 
-                    if ( -1 == streamHeads[i].dependencyTimeStamp() )
-                    {
-                        throw new WorkloadException(
-                                format( "Operation must have dependency time stamp\n%s", streamHeads[i] ) );
-                    }
+    /**
+     * Advances the streams of a workload past their first operations, the number of operations to skip in each stream
+     * is given in the order of {@link #fromAmongAllRetrieveTopCountFromOffset}: asynchronous dependency and
+     * non-dependency streams, followed by those of each blocking stream.
+     */
+    public static void skipOperations(
+            GeneratorFactory gf,
+            WorkloadStreams workloadStreams,
+            long[] startForStream ) throws WorkloadException
+    {
+        List<WorkloadStreamDefinition> blockingStreams = workloadStreams.blockingStreamDefinitions();
+        if ( startForStream.length != blockingStreams.size() * 2 + 2 )
+        {
+            throw new WorkloadException( format( "Expected offsets for %s streams, found %s",
+                    blockingStreams.size() * 2 + 2, startForStream.length ) );
+        }
+        gf.consume( workloadStreams.asynchronousStream().dependencyOperations(), startForStream[0] );
+        gf.consume( workloadStreams.asynchronousStream().nonDependencyOperations(), startForStream[1] );
+        for ( int i = 0; i < blockingStreams.size(); i++ )
+        {
+            gf.consume( blockingStreams.get( i ).dependencyOperations(), startForStream[i * 2 + 2] );
+            gf.consume( blockingStreams.get( i ).nonDependencyOperations(), startForStream[i * 2 + 3] );
+        }
+    }
 
-                    if ( null != streamHeads[i] && streamHeadTimeStampAsMilli < minAsMilli )
-                    {
-                        minAsMilli = streamHeadTimeStampAsMilli;
-                        indexOfMin = i;
-                    }
-                }
-            }
-            if ( -1 == indexOfMin )
-            {
-                // iterators are empty, nothing left to retrieve
-                break;
-            }
-            kForStreamOffset[indexOfMin] = kForStreamOffset[indexOfMin] + 1;
-            kSoFarOffset = kSoFarOffset + 1;
+    private static void addStreamsOf(
+            WorkloadStreams workloadStreams,
+            List<Iterator<Operation>> streams,
+            List<ChildOperationGenerator> childOperationGenerators )
+    {
+        streams.add( workloadStreams.asynchronousStream().dependencyOperations() );
+        childOperationGenerators.add( workloadStreams.asynchronousStream().childOperationGenerator() );
 
-            operation = streamHeads[indexOfMin];
-            childOperationGenerator = childOperationGenerators.get( indexOfMin );
-            if ( null != childOperationGenerator )
-            {
-                double state = childOperationGenerator.initialState();
-                while ( null != (operation = childOperationGenerator
-                        .nextOperation( state, operation, result, operation.scheduledStartTimeAsMilli(), 0l )) )
-                {
-                    kSoFarOffset = kSoFarOffset + 1;
-                    state = childOperationGenerator.updateState( state, operation.type() );
-                }
-            }
+        streams.add( workloadStreams.asynchronousStream().nonDependencyOperations() );
+        childOperationGenerators.add( workloadStreams.asynchronousStream().childOperationGenerator() );
 
-            streamHeads[indexOfMin] = null;
+        for ( WorkloadStreamDefinition stream : workloadStreams.blockingStreamDefinitions() )
+        {
+            streams.add( stream.dependencyOperations() );
+            childOperationGenerators.add( stream.childOperationGenerator() );
 
-            if ( kSoFarOffset % 1000000 == 0 )
-            {
-                loggingService.info(
-                        format(
-                                "Scanned %s of %s - OFFSET\r",
-                                numberFormat.format( kSoFarOffset ),
-                                numberFormat.format( offset )
-                        )
-                );
-            }
+            streams.add( stream.nonDependencyOperations() );
+            childOperationGenerators.add( stream.childOperationGenerator() );
         }
-        loggingService.info(
-                format(
-                        "Scanned %s of %s - OFFSET",
-                        numberFormat.format( kSoFarOffset ),
-                        numberFormat.format( offset )
-                )
-        );
+    }
+
+    // returns (start_per_stream, end_per_stream, minimum_timestamp)
+    public static Tuple3<long[],long[],Long> fromAmongAllRetrieveTopCountFromOffset(
+            List<Iterator<Operation>> streams,
+            long offset,
+            long limit,
+            List<ChildOperationGenerator> childOperationGenerators,
+            LoggingServiceFactory loggingServiceFactory ) throws WorkloadException
+    {
+        LoggingService loggingService =
+                loggingServiceFactory.loggingServiceFor( WorkloadStreams.class.getSimpleName() );
+        StreamsScan scan = new StreamsScan( streams, childOperationGenerators, null, new long[streams.size()], 0 );
+
+        // ================================================
+        // ===== advance to start point of each stream =====
+        // ================================================
+
+        scan.scanTo( offset, false, "OFFSET", 0, offset, loggingService );
+        long[] kForStreamOffset = scan.operationCountForStream();
+        long kSoFarOffset = scan.operationCount();
 
         // ================================================
         // ===== calculate end points for each stream =====
         // ================================================
 
-        long minimumTimeStamp = Long.MAX_VALUE;
-        // count of operations to retrieve from that particular stream
-        long[] kForStreamRun = new long[streams.size()];
+        scan.scanTo( kSoFarOffset + limit, true, "RUN", kSoFarOffset, limit, loggingService );
+        long[] kForStreamRun = scan.operationCountForStream();
         for ( int i = 0; i < streams.size(); i++ )
         {
-            kForStreamRun[i] = 0;
+            kForStreamRun[i] = kForStreamRun[i] - kForStreamOffset[i];
         }
-        long kSoFarRun = 0;
 
-        while ( kSoFarRun < limit )
+        return Tuple.tuple3(
+                kForStreamOffset,
+                kForStreamRun,
+                scan.minimumTimeStamp()
+        );
+    }
+
+    /**
+     * Takes operations from among all streams, in time stamp order, counting how many are taken from each stream.
+     * Child operations are counted too, though not attributed to any stream.
+     */
+    private static class StreamsScan
+    {
+        private final List<Iterator<Operation>> streams;
+        private final List<ChildOperationGenerator> childOperationGenerators;
+        private final WorkloadStreamsIndex index;
+        // last operation retrieved (which has not yet been counted) from each stream
+        private final Operation[] streamHeads;
+        private final DecimalFormat numberFormat = new DecimalFormat( "###,###,###,###,###" );
+        // count of operations retrieved from that particular stream
+        private final long[] operationCountForStream;
+        private long operationCount;
+        private long minimumTimeStamp = Long.MAX_VALUE;
+
+        private StreamsScan(
+                List<Iterator<Operation>> streams,
+                List<ChildOperationGenerator> childOperationGenerators,
+                WorkloadStreamsIndex index,
+                long[] operationCountForStream,
+                long operationCount )
         {
-            long minAsMilli = Long.MAX_VALUE;
-            int indexOfMin = -1;
-            for ( int i = 0; i < streams.size(); i++ )
+            this.streams = streams;
+            this.childOperationGenerators = childOperationGenerators;
+            this.index = index;
+            this.streamHeads = new Operation[streams.size()];
+            this.operationCountForStream = operationCountForStream.clone();
+            this.operationCount = operationCount;
+        }
+
+        private long[] operationCountForStream()
+        {
+            return operationCountForStream.clone();
+        }
+
+        private long operationCount()
+        {
+            return operationCount;
+        }
+
+        private long minimumTimeStamp()
+        {
+            return minimumTimeStamp;
+        }
+
+        /**
+         * Scans until at least target operations were taken, or the streams are exhausted
+         */
+        private void scanTo(
+                long target,
+                boolean trackMinimumTimeStamp,
+                String phase,
+                long phaseStart,
+                long phaseTarget,
+                LoggingService loggingService ) throws WorkloadException
+        {
+            final Object result = null;
+            Operation operation;
+            ChildOperationGenerator childOperationGenerator;
+            while ( operationCount < target )
             {
-                if ( null != streamHeads[i] || streams.get( i ).hasNext() )
+                long minAsMilli = Long.MAX_VALUE;
+                int indexOfMin = -1;
+                for ( int i = 0; i < streams.size(); i++ )
                 {
-                    if ( null == streamHeads[i] )
+                    Operation streamHead = head( i );
+                    if ( null != streamHead )
                     {
-                        streamHeads[i] = streams.get( i ).next();
+                        long streamHeadTimeStampAsMilli = streamHead.timeStamp();
+
+                        if ( trackMinimumTimeStamp && streamHeadTimeStampAsMilli < minimumTimeStamp )
+                        {
+                            minimumTimeStamp = streamHeadTimeStampAsMilli;
+                        }
+
+                        if ( streamHeadTimeStampAsMilli < minAsMilli )
+                        {
+                            minAsMilli = streamHeadTimeStampAsMilli;
+                            indexOfMin = i;
+                        }
                     }
+                }
+                if ( -1 == indexOfMin )
+                {
+                    // iterators are empty, nothing left to retrieve
+                    break;
+                }
+                long previousOperationCount = operationCount;
+                operationCountForStream[indexOfMin] = operationCountForStream[indexOfMin] + 1;
+                operationCount = operationCount + 1;
 
-                    long streamHeadTimeStampAsMilli = streamHeads[i].timeStamp();
-                    long streamHeadDependencyTimeStampAsMilli = streamHeads[i].dependencyTimeStamp();
-
-                    if ( -1 == streamHeadTimeStampAsMilli )
+                operation = streamHeads[indexOfMin];
+                childOperationGenerator = childOperationGenerators.get( indexOfMin );
+                if ( null != childOperationGenerator )
+                {
+                    double state = childOperationGenerator.initialState();
+                    while ( null != (operation = childOperationGenerator
+                            .nextOperation( state, operation, result, operation.scheduledStartTimeAsMilli(), 0l )) )
                     {
-                        throw new WorkloadException(
-                                format( "Operation must have time stamp\n%s", streamHeads[i] ) );
+                        operationCount = operationCount + 1;
+                        state = childOperationGenerator.updateState( state, operation.type() );
                     }
+                }
 
-                    if ( -1 == streamHeadDependencyTimeStampAsMilli )
-                    {
-                        throw new WorkloadException(
-                                format( "Operation must have dependency time stamp\n%s", streamHeads[i] ) );
-                    }
+                streamHeads[indexOfMin] = null;
 
-                    if ( streamHeadTimeStampAsMilli < minimumTimeStamp )
-                    {
-                        minimumTimeStamp = streamHeadTimeStampAsMilli;
-                    }
+                if ( null != index && operationCount / WorkloadStreamsIndex.CHECKPOINT_INTERVAL >
+                                      previousOperationCount / WorkloadStreamsIndex.CHECKPOINT_INTERVAL )
+                {
+                    index.add( checkpoint(
+                            operationCount / WorkloadStreamsIndex.CHECKPOINT_INTERVAL *
+                            WorkloadStreamsIndex.CHECKPOINT_INTERVAL ) );
+                }
 
-                    if ( null != streamHeads[i] && streamHeadTimeStampAsMilli < minAsMilli )
-                    {
-                        minAsMilli = streamHeadTimeStampAsMilli;
-                        indexOfMin = i;
-                    }
+                if ( (operationCount - phaseStart) % 1000000 == 0 )
+                {
+                    loggingService.info(
+                            format(
+                                    "Scanned %s of %s - %s\r",
+                                    numberFormat.format( operationCount - phaseStart ),
+                                    numberFormat.format( phaseTarget ),
+                                    phase
+                            )
+                    );
                 }
             }
-            if ( -1 == indexOfMin )
-            {
-                // iterators are empty, nothing left to retrieve
-                break;
-            }
-            kForStreamRun[indexOfMin] = kForStreamRun[indexOfMin] + 1;
-            kSoFarRun = kSoFarRun + 1;
+            loggingService.info(
+                    format(
+                            "Scanned %s of %s - %s",
+                            numberFormat.format( operationCount - phaseStart ),
+                            numberFormat.format( phaseTarget ),
+                            phase
+                    )
+            );
+        }
 
-            operation = streamHeads[indexOfMin];
-            childOperationGenerator = childOperationGenerators.get( indexOfMin );
-            if ( null != childOperationGenerator )
+        /**
+         * @return current position, which is where the scan to target stopped
+         */
+        private WorkloadStreamsIndex.Checkpoint checkpoint( long target ) throws WorkloadException
+        {
+            long nextTimeStamp = Long.MAX_VALUE;
+            for ( int i = 0; i < streams.size(); i++ )
             {
-                double state = childOperationGenerator.initialState();
-                while ( null != (operation = childOperationGenerator
-                        .nextOperation( state, operation, result, operation.scheduledStartTimeAsMilli(), 0l )) )
+                Operation streamHead = head( i );
+                if ( null != streamHead && streamHead.timeStamp() < nextTimeStamp )
                 {
-                    kSoFarRun = kSoFarRun + 1;
-                    state = childOperationGenerator.updateState( state, operation.type() );
+                    nextTimeStamp = streamHead.timeStamp();
                 }
             }
+            return new WorkloadStreamsIndex.Checkpoint( target, operationCount, nextTimeStamp,
+                    operationCountForStream.clone() );
+        }
 
-            streamHeads[indexOfMin] = null;
-
-            if ( kSoFarRun % 1000000 == 0 )
+        /**
+         * @return next operation of the stream, without taking it, or null if the stream is exhausted
+         */
+        private Operation head( int i ) throws WorkloadException
+        {
+            if ( null == streamHeads[i] && streams.get( i ).hasNext() )
             {
-                loggingService.info(
-                        format( "Scanned %s of %s - RUN\r",
-                                numberFormat.format( kSoFarRun ),
-                                numberFormat.format( limit )
-                        )
-                );
+                streamHeads[i] = streams.get( i ).next();
+
+                if ( -1 == streamHeads[i].timeStamp() )
+                {
+                    throw new WorkloadException(
+                            format( "Operation must have time stamp\n%s", streamHeads[i] ) );
+                }
+
+                if ( -1 == streamHeads[i].dependencyTimeStamp() )
+                {
+                    throw new WorkloadException(
+                            format( "Operation must have dependency time stamp\n%s", streamHeads[i] ) );
+                }
             }
+            return streamHeads[i];
         }
-        loggingService.info(
-                format(
-                        "Scanned %s of %s - RUN",
-                        numberFormat.format( kSoFarRun ),
-                        numberFormat.format( limit )
-                )
-        );
-
-        return Tuple.tuple3(
-                kForStreamOffset,
-                kForStreamRun,
-                minimumTimeStamp
-        );
     }
 
     public WorkloadStreamDefinition asynchronousStream()
@@ -0,0 +1,371 @@
+package com.ldbc.driver;
+
+import com.google.common.base.Charsets;
+import com.google.common.hash.Hashing;
+import com.ldbc.driver.control.ConsoleAndFileDriverConfiguration;
+import com.ldbc.driver.control.DriverConfiguration;
+import com.ldbc.driver.control.DriverRuntimeConfiguration;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static java.lang.String.format;
+
+/**
+ * Sidecar index of the streams of a workload, persisting how many operations each stream had contributed at
+ * checkpoints of the sequence of all their operations, merged by time stamp. It is what
+ * {@link WorkloadStreams#createNewWorkloadWithOffsetAndLimitedWorkloadStreams} otherwise calculates by scanning the
+ * streams, on every run.
+ * <p>
+ * Checkpoints are recorded where scans stop, i.e., at the offsets and limits of previous runs, and every
+ * {@link #CHECKPOINT_INTERVAL} operations in between. Each also records the time stamp of the operation that follows
+ * it. Scans can resume from any checkpoint, unless the workload has child operation generators, as what those
+ * generate depends on all operations generated before.
+ * <p>
+ * An index is only used with the configuration it was built with, see {@link #keyFor(DriverConfiguration)}.
+ */
+public class WorkloadStreamsIndex
+{
+    static final int MAGIC = 0x4C575349;
+    static final int VERSION = 1;
+    public static final long CHECKPOINT_INTERVAL = 1_000_000;
+
+    // do not change which operations the streams of a workload contain
+    private static final Set<String> RUN_PARAMS = new HashSet<>( Arrays.asList(
+            ConsoleAndFileDriverConfiguration.OPERATION_COUNT_ARG,
+            ConsoleAndFileDriverConfiguration.SKIP_COUNT_ARG,
+            ConsoleAndFileDriverConfiguration.WARMUP_COUNT_ARG,
+            ConsoleAndFileDriverConfiguration.NAME_ARG,
+            ConsoleAndFileDriverConfiguration.DB_ARG,
+            ConsoleAndFileDriverConfiguration.RESULT_DIR_PATH_ARG,
+            ConsoleAndFileDriverConfiguration.THREADS_ARG,
+            ConsoleAndFileDriverConfiguration.SHOW_STATUS_ARG,
+            ConsoleAndFileDriverConfiguration.TIME_UNIT_ARG,
+            ConsoleAndFileDriverConfiguration.SPINNER_SLEEP_DURATION_ARG,
+            ConsoleAndFileDriverConfiguration.IGNORE_SCHEDULED_START_TIMES_ARG,
+            ConsoleAndFileDriverConfiguration.DB_VALIDATION_FILE_PATH_ARG,
+            ConsoleAndFileDriverConfiguration.CREATE_VALIDATION_PARAMS_ARG,
+            ConsoleAndFileDriverConfiguration.CALCULATE_WORKLOAD_STATISTICS_ARG,
+            ConsoleAndFileDriverConfiguration.HELP_ARG
+    ) );
+
+    private final long key;
+    private int streamCount = -1;
+    private boolean hasChildOperationGenerators = false;
+    // ordered by operation count, then target
+    private final List<Checkpoint> checkpoints = new ArrayList<>();
+
+    /**
+     * Hash of all configuration parameters that may change the operations of the workload streams, i.e., all
+     * except those of the driver itself, and of the size and modification time of any files and directories (one
+     * level deep) they reference. Files named like the index itself, or like the workload schedule, are ignored, so
+     * indexes and schedules (and files workloads persist next to them) may be kept with the workload inputs.
+     */
+    public static long keyFor( DriverConfiguration configuration )
+    {
+        Map<String,String> params = new TreeMap<>( configuration.asMap() );
+        List<String> ignoredFileNames = new ArrayList<>();
+        for ( File ignoredFile : new File[]{DriverRuntimeConfiguration.workloadStreamsIndexFile( params ),
+                DriverRuntimeConfiguration.workloadScheduleFile( params )} )
+        {
+            if ( null != ignoredFile )
+            {
+                ignoredFileNames.add( ignoredFile.getName() );
+            }
+        }
+        StringBuilder keyBuilder = new StringBuilder();
+        for ( Map.Entry<String,String> param : params.entrySet() )
+        {
+            if ( RUN_PARAMS.contains( param.getKey() ) ||
+                 param.getKey().startsWith( DriverRuntimeConfiguration.LDBC_DRIVER_PARAM_NAME_PREFIX ) )
+            {
+                continue;
+            }
+            keyBuilder.append( param.getKey() ).append( '=' ).append( param.getValue() ).append( '\n' );
+            if ( null == param.getValue() || param.getValue().trim().isEmpty() )
+            {
+                continue;
+            }
+            File file = new File( param.getValue().trim() );
+            appendFileState( keyBuilder, file, ignoredFileNames );
+            File[] children = (file.isDirectory()) ? file.listFiles() : null;
+            if ( null != children )
+            {
+                Arrays.sort( children );
+                for ( File child : children )
+                {
+                    appendFileState( keyBuilder, child, ignoredFileNames );
+                }
+            }
+        }
+        return Hashing.murmur3_128().hashString( keyBuilder, Charsets.UTF_8 ).asLong();
+    }
+
+    private static void appendFileState( StringBuilder keyBuilder, File file, List<String> ignoredFileNames )
+    {
+        if ( false == file.exists() )
+        {
+            return;
+        }
+        for ( String ignoredFileName : ignoredFileNames )
+        {
+            if ( file.getName().startsWith( ignoredFileName ) )
+            {
+                return;
+            }
+        }
+        if ( file.isDirectory() )
+        {
+            // changes whenever files are added to it, e.g., indexes and schedules, its files are hashed instead
+            keyBuilder.append( file.getName() ).append( '\n' );
+        }
+        else
+        {
+            keyBuilder.append( file.getName() ).append( ':' ).append( file.length() ).append( ':' )
+                    .append( file.lastModified() ).append( '\n' );
+        }
+    }
+
+    /**
+     * @return index persisted in the file, or an empty index if there is none, or it was built with another key
+     */
+    public static WorkloadStreamsIndex read( File indexFile, long key ) throws IOException
+    {
+        WorkloadStreamsIndex index = new WorkloadStreamsIndex( key );
+        if ( false == indexFile.exists() )
+        {
+            return index;
+        }
+        try ( DataInputStream in = new DataInputStream( new BufferedInputStream( new FileInputStream( indexFile ) ) ) )
+        {
+            if ( MAGIC != in.readInt() || VERSION != in.readInt() || key != in.readLong() )
+            {
+                return index;
+            }
+            int streamCount = in.readInt();
+            boolean hasChildOperationGenerators = in.readBoolean();
+            int checkpointCount = in.readInt();
+            index.reset( streamCount, hasChildOperationGenerators );
+            for ( int i = 0; i < checkpointCount; i++ )
+            {
+                long target = in.readLong();
+                long operationCount = in.readLong();
+                long nextTimeStamp = in.readLong();
+                long[] operationCountForStream = new long[streamCount];
+                for ( int stream = 0; stream < streamCount; stream++ )
+                {
+                    operationCountForStream[stream] = in.readLong();
+                }
+                index.checkpoints.add( new Checkpoint( target, operationCount, nextTimeStamp,
+                        operationCountForStream ) );
+            }
+        }
+        return index;
+    }
+
+    public WorkloadStreamsIndex( long key )
+    {
+        this.key = key;
+    }
+
+    public void write( File indexFile ) throws IOException
+    {
+        // written aside, so an interrupted write does not leave a corrupt index behind
+        File tempIndexFile = new File( indexFile.getAbsolutePath() + ".tmp" );
+        try ( DataOutputStream out =
+                      new DataOutputStream( new BufferedOutputStream( new FileOutputStream( tempIndexFile ) ) ) )
+        {
+            out.writeInt( MAGIC );
+            out.writeInt( VERSION );
+            out.writeLong( key );
+            out.writeInt( streamCount );
+            out.writeBoolean( hasChildOperationGenerators );
+            out.writeInt( checkpoints.size() );
+            for ( Checkpoint checkpoint : checkpoints )
+            {
+                out.writeLong( checkpoint.target );
+                out.writeLong( checkpoint.operationCount );
+                out.writeLong( checkpoint.nextTimeStamp );
+                for ( long count : checkpoint.operationCountForStream )
+                {
+                    out.writeLong( count );
+                }
+            }
+        }
+        Files.move( tempIndexFile.toPath(), indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING );
+    }
+
+    /**
+     * @return true if the index was built from streams like these, i.e., its checkpoints can be used with them
+     */
+    public boolean matches( int streamCount, boolean hasChildOperationGenerators )
+    {
+        return this.streamCount == streamCount && this.hasChildOperationGenerators == hasChildOperationGenerators;
+    }
+
+    /**
+     * Discards all checkpoints, e.g., when they were recorded for other streams
+     */
+    public void reset( int streamCount, boolean hasChildOperationGenerators )
+    {
+        this.streamCount = streamCount;
+        this.hasChildOperationGenerators = hasChildOperationGenerators;
+        checkpoints.clear();
+    }
+
+    /**
+     * @return position of the streams once at least operationCount operations were taken from them, or null if it
+     * is not known
+     */
+    public Checkpoint checkpointFor( long operationCount )
+    {
+        for ( Checkpoint checkpoint : checkpoints )
+        {
+            if ( checkpoint.isFor( operationCount ) )
+            {
+                return checkpoint;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return latest checkpoint a scan to operationCount can resume from, or null if it must start from the beginning
+     */
+    public Checkpoint resumableCheckpointFor( long operationCount )
+    {
+        if ( hasChildOperationGenerators )
+        {
+            return null;
+        }
+        Checkpoint resumableCheckpoint = null;
+        for ( Checkpoint checkpoint : checkpoints )
+        {
+            if ( checkpoint.operationCount <= operationCount )
+            {
+                resumableCheckpoint = checkpoint;
+            }
+        }
+        return resumableCheckpoint;
+    }
+
+    public void add( Checkpoint checkpoint )
+    {
+        if ( checkpoint.operationCountForStream.length != streamCount )
+        {
+            throw new IllegalArgumentException(
+                    format( "Checkpoint has %s streams, index has %s", checkpoint.operationCountForStream.length,
+                            streamCount ) );
+        }
+        for ( Checkpoint existingCheckpoint : checkpoints )
+        {
+            if ( existingCheckpoint.target == checkpoint.target &&
+                 existingCheckpoint.operationCount == checkpoint.operationCount )
+            {
+                return;
+            }
+        }
+        checkpoints.add( checkpoint );
+        Collections.sort( checkpoints, new Comparator<Checkpoint>()
+        {
+            @Override
+            public int compare( Checkpoint checkpoint1, Checkpoint checkpoint2 )
+            {
+                int byOperationCount = Long.compare( checkpoint1.operationCount, checkpoint2.operationCount );
+                return (0 != byOperationCount) ? byOperationCount
+                                               : Long.compare( checkpoint1.target, checkpoint2.target );
+            }
+        } );
+    }
+
+    public List<Checkpoint> checkpoints()
+    {
+        return Collections.unmodifiableList( checkpoints );
+    }
+
+    /**
+     * Position of the streams at the first point, between operations taken from them (and their child operations),
+     * where at least target operations have been taken, or where the streams were exhausted before that
+     */
+    public static class Checkpoint
+    {
+        private final long target;
+        private final long operationCount;
+        private final long nextTimeStamp;
+        private final long[] operationCountForStream;
+
+        public Checkpoint( long target, long operationCount, long nextTimeStamp, long[] operationCountForStream )
+        {
+            this.target = target;
+            this.operationCount = operationCount;
+            this.nextTimeStamp = nextTimeStamp;
+            this.operationCountForStream = operationCountForStream;
+        }
+
+        public long target()
+        {
+            return target;
+        }
+
+        /**
+         * @return operations taken, including child operations, at least target unless the streams were exhausted
+         */
+        public long operationCount()
+        {
+            return operationCount;
+        }
+
+        /**
+         * @return time stamp of the next operation, Long.MAX_VALUE if the streams are exhausted
+         */
+        public long nextTimeStamp()
+        {
+            return nextTimeStamp;
+        }
+
+        public long[] operationCountForStream()
+        {
+            return operationCountForStream.clone();
+        }
+
+        boolean isExhausted()
+        {
+            return Long.MAX_VALUE == nextTimeStamp;
+        }
+
+        // no point between operations lies between target and operation count, and none follows exhaustion
+        private boolean isFor( long operationCount )
+        {
+            return (target <= operationCount && operationCount <= this.operationCount) ||
+                   (isExhausted() && this.operationCount <= operationCount);
+        }
+
+        @Override
+        public String toString()
+        {
+            return "Checkpoint{" +
+                   "target=" + target +
+                   ", operationCount=" + operationCount +
+                   ", nextTimeStamp=" + nextTimeStamp +
+                   ", operationCountForStream=" + Arrays.toString( operationCountForStream ) +
+                   '}';
+        }
+    }
+}
@@ -8,6 +8,7 @@ import com.ldbc.driver.Workload;
 import com.ldbc.driver.WorkloadException;
 import com.ldbc.driver.WorkloadStreams;
 import com.ldbc.driver.control.ControlService;
+import com.ldbc.driver.control.DriverRuntimeConfiguration;
 import com.ldbc.driver.control.LoggingService;
 import com.ldbc.driver.csv.simple.SimpleCsvFileWriter;
 import com.ldbc.driver.generator.GeneratorFactory;
@@ -15,6 +16,7 @@ import com.ldbc.driver.generator.RandomDataGeneratorFactory;
 import com.ldbc.driver.util.ClassLoaderHelper;
 import com.ldbc.driver.util.Tuple3;
 import com.ldbc.driver.validation.ValidationParam;
+import com.ldbc.driver.validation.ValidationParamsBinaryWriter;
 import com.ldbc.driver.validation.ValidationParamsGenerator;
 import com.ldbc.driver.validation.ValidationParamsToCsvRows;
 
@@ -117,45 +119,61 @@ public class CreateValidationParamsMode implements ClientMode<Object>
             // TODO get from config parameter
             boolean performSerializationMarshallingChecks = true;
 
-            loggingService.info(
-                    format( "Generating database validation file: %s", validationFileToGenerate.getAbsolutePath() ) );
+            DriverRuntimeConfiguration.ValidationParamsFormat validationParamsFormat =
+                    DriverRuntimeConfiguration.validationParamsFormat( controlService.configuration().asMap() );
+
+            loggingService.info( format( "Generating %s database validation file: %s",
+                    validationParamsFormat, validationFileToGenerate.getAbsolutePath() ) );
 
             Iterator<ValidationParam> validationParamsGenerator = new ValidationParamsGenerator(
                     db,
                     w.dbValidationParametersFilter( validationSetSize ),
                     timeMappedOperations );
 
-            Iterator<String[]> csvRows = new ValidationParamsToCsvRows(
-                    validationParamsGenerator,
-                    w,
-                    performSerializationMarshallingChecks );
-
+            DecimalFormat decimalFormat = new DecimalFormat( "###,###,##0" );
             int rowsWrittenSoFar = 0;
-            try ( SimpleCsvFileWriter simpleCsvFileWriter = new SimpleCsvFileWriter(
-                    validationFileToGenerate,
-                    SimpleCsvFileWriter.DEFAULT_COLUMN_SEPARATOR ) )
+            if ( DriverRuntimeConfiguration.ValidationParamsFormat.BINARY == validationParamsFormat )
             {
-                DecimalFormat decimalFormat = new DecimalFormat( "###,###,##0" );
-                while ( csvRows.hasNext() )
+                try ( ValidationParamsBinaryWriter validationParamsWriter = new ValidationParamsBinaryWriter(
+                        validationFileToGenerate,
+                        w,
+                        performSerializationMarshallingChecks ) )
                 {
-                    String[] csvRow = csvRows.next();
-                    simpleCsvFileWriter.writeRow( csvRow );
-                    rowsWrittenSoFar++;
-                    if ( rowsWrittenSoFar % 10 == 0 )
+                    while ( validationParamsGenerator.hasNext() )
                     {
-                        loggingService.info(
-                                format(
-                                        "%s / %s Validation Parameters Created\r",
-                                        decimalFormat.format( rowsWrittenSoFar ),
-                                        decimalFormat.format( validationSetSize )
-                                )
-                        );
+                        validationParamsWriter.write( validationParamsGenerator.next() );
+                        rowsWrittenSoFar++;
+                        logProgress( rowsWrittenSoFar, validationSetSize, decimalFormat );
                     }
                 }
+                catch ( Exception e )
+                {
+                    throw new ClientException( "Error trying to write validation parameters to binary file writer", e );
+                }
             }
-            catch ( Exception e )
+            else
             {
-                throw new ClientException( "Error trying to write validation parameters to CSV file writer", e );
+                Iterator<String[]> csvRows = new ValidationParamsToCsvRows(
+                        validationParamsGenerator,
+                        w,
+                        performSerializationMarshallingChecks );
+
+                try ( SimpleCsvFileWriter simpleCsvFileWriter = new SimpleCsvFileWriter(
+                        validationFileToGenerate,
+                        SimpleCsvFileWriter.DEFAULT_COLUMN_SEPARATOR ) )
+                {
+                    while ( csvRows.hasNext() )
+                    {
+                        String[] csvRow = csvRows.next();
+                        simpleCsvFileWriter.writeRow( csvRow );
+                        rowsWrittenSoFar++;
+                        logProgress( rowsWrittenSoFar, validationSetSize, decimalFormat );
+                    }
+                }
+                catch ( Exception e )
+                {
+                    throw new ClientException( "Error trying to write validation parameters to CSV file writer", e );
+                }
             }
 
             int validationParametersGenerated =
@@ -170,4 +188,18 @@ public class CreateValidationParamsMode implements ClientMode<Object>
         }
         return null;
     }
+
+    private void logProgress( int rowsWrittenSoFar, int validationSetSize, DecimalFormat decimalFormat )
+    {
+        if ( rowsWrittenSoFar % 10 == 0 )
+        {
+            loggingService.info(
+                    format(
+                            "%s / %s Validation Parameters Created\r",
+                            decimalFormat.format( rowsWrittenSoFar ),
+                            decimalFormat.format( validationSetSize )
+                    )
+            );
+        }
+    }
 }
@@ -8,6 +8,9 @@ import com.ldbc.driver.Workload;
 import com.ldbc.driver.WorkloadException;
 import com.ldbc.driver.WorkloadStreams;
 import com.ldbc.driver.control.ControlService;
+import com.ldbc.driver.control.DriverConfigurationException;
+import com.ldbc.driver.control.DriverRuntimeConfiguration;
+import com.ldbc.driver.control.DriverRuntimeConfiguration.ResultsLogFormat;
 import com.ldbc.driver.control.LoggingService;
 import com.ldbc.driver.generator.GeneratorFactory;
 import com.ldbc.driver.generator.RandomDataGeneratorFactory;
@@ -18,13 +21,24 @@ import com.ldbc.driver.runtime.coordination.CompletionTimeException;
 import com.ldbc.driver.runtime.coordination.CompletionTimeService;
 import com.ldbc.driver.runtime.coordination.CompletionTimeServiceAssistant;
 import com.ldbc.driver.runtime.coordination.CompletionTimeWriter;
+import com.ldbc.driver.runtime.metrics.BinaryResultsLogWriter;
 import com.ldbc.driver.runtime.metrics.DisruptorSbeMetricsService;
+import com.ldbc.driver.runtime.metrics.DriverPause;
+import com.ldbc.driver.runtime.metrics.DriverOverheadRecorder;
+import com.ldbc.driver.runtime.metrics.DriverPauseMonitor;
+import com.ldbc.driver.runtime.metrics.HdrHistogramMetricsService;
+import com.ldbc.driver.runtime.metrics.IntervalHistogramLoggingMetricsService;
 import com.ldbc.driver.runtime.metrics.JsonWorkloadMetricsFormatter;
+import com.ldbc.driver.runtime.metrics.LiveMetricsExporter;
 import com.ldbc.driver.runtime.metrics.MetricsCollectionException;
 import com.ldbc.driver.runtime.metrics.MetricsManager;
 import com.ldbc.driver.runtime.metrics.MetricsService;
 import com.ldbc.driver.runtime.metrics.NullResultsLogWriter;
+import com.ldbc.driver.runtime.metrics.OperationTracer;
+import com.ldbc.driver.runtime.metrics.ResultsLogCsvConverter;
+import com.ldbc.driver.runtime.metrics.ResultsLogReader;
 import com.ldbc.driver.runtime.metrics.ResultsLogWriter;
+import com.ldbc.driver.runtime.metrics.SimpleResultsLogReader;
 import com.ldbc.driver.runtime.metrics.SimpleResultsLogWriter;
 import com.ldbc.driver.runtime.metrics.WorkloadResultsSnapshot;
 import com.ldbc.driver.runtime.metrics.WorkloadStatusSnapshot;
@@ -36,14 +50,18 @@ import com.ldbc.driver.validation.ResultsLogValidationResult;
 import com.ldbc.driver.validation.ResultsLogValidationSummary;
 import com.ldbc.driver.validation.ResultsLogValidationTolerances;
 import com.ldbc.driver.validation.ResultsLogValidator;
+import org.HdrHistogram.Recorder;
 
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.net.InetSocketAddress;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 import static java.lang.String.format;
@@ -63,6 +81,10 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
     private CompletionTimeService completionTimeService = null;
     private WorkloadRunner workloadRunner = null;
     private ResultsLogWriter resultsLogWriter = null;
+    private LiveMetricsExporter liveMetricsExporter = null;
+    private DriverPauseMonitor pauseMonitor = null;
+    private DriverOverheadRecorder driverOverheadRecorder = null;
+    private OperationTracer operationTracer = null;
 
     public ExecuteWorkloadMode(
             ControlService controlService,
@@ -151,22 +173,14 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
     {
         ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
         GeneratorFactory gf = new GeneratorFactory( new RandomDataGeneratorFactory( randomSeed ) );
+        StartupTimings startupTimings = new StartupTimings();
 
-        //  ================================
-        //  ===  Results Log CSV Writer  ===
-        //  ================================
+        //  ===================
+        //  ===  Results Log  ==
+        //  ===================
+        // created before anything else, its presence marks the start of this benchmark phase
         File resultsLog = resultsDirectory.getOrCreateResultsLogFile( warmup );
-        try
-        {
-            resultsLogWriter = (null == resultsLog)
-                               ? new NullResultsLogWriter()
-                               : new SimpleResultsLogWriter( resultsLog, controlService.configuration().timeUnit() );
-        }
-        catch ( IOException e )
-        {
-            throw new ClientException(
-                    format( "Error creating results log writer for: %s", resultsLog.getAbsolutePath() ), e );
-        }
+        ResultsLogFormat resultsLogFormat = resultsDirectory.resultsLogFormat();
 
         //  ==================
         //  ===  Workload  ===
@@ -204,6 +218,46 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
                     controlService.configuration().workloadClassName() ), e );
         }
         loggingService.info( format( "Loaded workload: %s", workload.getClass().getName() ) );
+        startupTimings.phaseCompleted( "Workload streams" );
+
+        //  ===========================
+        //  ===  Results Log Writer  ==
+        //  ===========================
+        File resultsLogToWrite = (ResultsLogFormat.BINARY == resultsLogFormat && null != resultsLog)
+                                 ? resultsDirectory.getOrCreateBinaryResultsLogFile( warmup )
+                                 : resultsLog;
+        boolean resultsLogResultCardinality = DriverRuntimeConfiguration.resultsLogResultCardinality(
+                controlService.configuration().asMap() );
+        try
+        {
+            if ( null == resultsLogToWrite )
+            {
+                resultsLogWriter = new NullResultsLogWriter();
+            }
+            else if ( ResultsLogFormat.BINARY == resultsLogFormat )
+            {
+                resultsLogWriter = new BinaryResultsLogWriter(
+                        resultsLogToWrite,
+                        controlService.configuration().timeUnit(),
+                        MetricsManager.toOperationNameArray( workload.operationTypeToClassMapping() ),
+                        resultsLogResultCardinality
+                );
+            }
+            else
+            {
+                resultsLogWriter = new SimpleResultsLogWriter(
+                        resultsLogToWrite,
+                        controlService.configuration().timeUnit(),
+                        resultsLogResultCardinality
+                );
+            }
+        }
+        catch ( IOException | MetricsCollectionException e )
+        {
+            throw new ClientException(
+                    format( "Error creating results log writer for: %s", resultsLogToWrite.getAbsolutePath() ), e );
+        }
+        startupTimings.phaseCompleted( "Results log writer" );
 
         loggingService.info( format( "Retrieving workload stream: %s", workload.getClass().getSimpleName() ) );
         controlService.setWorkloadStartTimeAsMilli( System.currentTimeMillis() + TimeUnit.SECONDS.toMillis( 5 ) );
@@ -221,6 +275,7 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
         {
             throw new ClientException( "Error while retrieving operation stream for workload", e );
         }
+        startupTimings.phaseCompleted( "Time mapping" );
 
         //  ================
         //  =====  DB  =====
@@ -243,28 +298,98 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
             }
             loggingService.info( format( "Loaded DB: %s", database.getClass().getName() ) );
         }
+        startupTimings.phaseCompleted( "Database connector" );
 
         //  ========================
         //  ===  Metrics Service  ==
         //  ========================
+        long intervalLogIntervalAsMilli = resultsDirectory.intervalLogIntervalAsMilli();
+        boolean intervalLogEnabled = resultsDirectory.exists() && intervalLogIntervalAsMilli > 0;
+        Recorder[] intervalRecorders = null;
         try
         {
-            // TODO create metrics service factory so different ones can be easily created
-            metricsService = new DisruptorSbeMetricsService(
-                    timeSource,
-                    errorReporter,
-                    controlService.configuration().timeUnit(),
-                    DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
-                    resultsLogWriter,
-                    workload.operationTypeToClassMapping(),
-                    controlService.loggingServiceFactory()
-            );
+            Map<String,String> params = controlService.configuration().asMap();
+            switch ( DriverRuntimeConfiguration.metricsService( params ) )
+            {
+            case HDR_RECORDER:
+                metricsService = new HdrHistogramMetricsService(
+                        timeSource,
+                        errorReporter,
+                        controlService.configuration().timeUnit(),
+                        DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                        resultsLogWriter,
+                        workload.operationTypeToClassMapping(),
+                        controlService.loggingServiceFactory()
+                );
+                break;
+            default:
+                // interval recording is done by a disruptor consumer, rather than by the workers
+                if ( intervalLogEnabled )
+                {
+                    intervalRecorders = IntervalHistogramLoggingMetricsService.newIntervalRecorders(
+                            workload.operationTypeToClassMapping() );
+                }
+                metricsService = new DisruptorSbeMetricsService(
+                        timeSource,
+                        errorReporter,
+                        controlService.configuration().timeUnit(),
+                        DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                        resultsLogWriter,
+                        workload.operationTypeToClassMapping(),
+                        controlService.loggingServiceFactory(),
+                        DriverRuntimeConfiguration.metricsRingBufferSize( params ),
+                        DisruptorSbeMetricsService.waitStrategyFor(
+                                DriverRuntimeConfiguration.metricsWaitStrategy( params ) ),
+                        intervalRecorders
+                );
+                break;
+            }
+        }
+        catch ( DriverConfigurationException e )
+        {
+            throw new ClientException( "Error reading metrics service configuration", e );
         }
         catch ( MetricsCollectionException e )
         {
             throw new ClientException( "Error creating metrics service", e );
         }
 
+        if ( intervalLogEnabled )
+        {
+            try
+            {
+                if ( null == intervalRecorders )
+                {
+                    metricsService = new IntervalHistogramLoggingMetricsService(
+                            metricsService,
+                            errorReporter,
+                            controlService.configuration().timeUnit(),
+                            DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                            workload.operationTypeToClassMapping(),
+                            resultsDirectory.getOrCreateIntervalLogFile( warmup ),
+                            intervalLogIntervalAsMilli
+                    );
+                }
+                else
+                {
+                    metricsService = new IntervalHistogramLoggingMetricsService(
+                            metricsService,
+                            errorReporter,
+                            controlService.configuration().timeUnit(),
+                            workload.operationTypeToClassMapping(),
+                            intervalRecorders,
+                            resultsDirectory.getOrCreateIntervalLogFile( warmup ),
+                            intervalLogIntervalAsMilli
+                    );
+                }
+            }
+            catch ( MetricsCollectionException e )
+            {
+                throw new ClientException( "Error creating interval log metrics service", e );
+            }
+        }
+        startupTimings.phaseCompleted( "Metrics service" );
+
         //  =================================
         //  ===  Completion Time Service  ===
         //  =================================
@@ -281,6 +406,61 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
         {
             throw new ClientException( "Error instantiating Completion Time Service", e );
         }
+        startupTimings.phaseCompleted( "Completion time service" );
+
+        //  ======================
+        //  ===  Live Metrics  ===
+        //  ======================
+        long liveMetricsIntervalAsMilli;
+        try
+        {
+            Map<String,String> params = controlService.configuration().asMap();
+            liveMetricsIntervalAsMilli = DriverRuntimeConfiguration.liveMetricsIntervalAsMilli( params );
+            boolean jmxEnabled = DriverRuntimeConfiguration.jmxEnabled( params );
+            int metricsHttpPort = DriverRuntimeConfiguration.metricsHttpPort( params );
+            if ( jmxEnabled || metricsHttpPort > 0 )
+            {
+                String metricsHttpHost = DriverRuntimeConfiguration.metricsHttpHost( params );
+                liveMetricsExporter = new LiveMetricsExporter( jmxEnabled, metricsHttpHost, metricsHttpPort );
+                if ( metricsHttpPort > 0 )
+                {
+                    InetSocketAddress httpAddress = liveMetricsExporter.httpAddress();
+                    loggingService.info( format( "Serving live metrics on http://%s:%s%s",
+                            httpAddress.getHostString(), httpAddress.getPort(), LiveMetricsExporter.HTTP_PATH ) );
+                }
+            }
+        }
+        catch ( DriverConfigurationException | MetricsCollectionException e )
+        {
+            throw new ClientException( "Error creating live metrics exporter", e );
+        }
+        startupTimings.phaseCompleted( "Live metrics" );
+
+        //  ======================
+        //  ===  Driver Pauses  ===
+        //  ======================
+        try
+        {
+            Map<String,String> params = controlService.configuration().asMap();
+            long pauseMonitorResolutionAsMilli = DriverRuntimeConfiguration.pauseMonitorResolutionAsMilli( params );
+            if ( pauseMonitorResolutionAsMilli > 0 )
+            {
+                pauseMonitor = new DriverPauseMonitor(
+                        timeSource,
+                        errorReporter,
+                        pauseMonitorResolutionAsMilli,
+                        DriverRuntimeConfiguration.pauseMonitorThresholdAsMilli( params ),
+                        (resultsDirectory.exists()) ? resultsDirectory.getOrCreatePauseLogFile( warmup ) : null,
+                        DriverRuntimeConfiguration.pauseMonitorLogIntervalAsMilli( params )
+                );
+                pauseMonitor.start();
+            }
+        }
+        catch ( DriverConfigurationException | MetricsCollectionException e )
+        {
+            throw new ClientException( "Error creating driver pause monitor", e );
+        }
+        startupTimings.phaseCompleted( "Driver pause monitor" );
 
         //  ========================
         //  ===  Workload Runner  ==
@@ -288,6 +468,28 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
         loggingService.info( format( "Instantiating %s", WorkloadRunner.class.getSimpleName() ) );
         try
         {
+            driverOverheadRecorder =
+                    (DriverRuntimeConfiguration.driverOverhead( controlService.configuration().asMap() ))
+                    ? new DriverOverheadRecorder()
+                    : null;
+            Map<String,String> params = controlService.configuration().asMap();
+            if ( DriverRuntimeConfiguration.tracing( params ) )
+            {
+                if ( resultsDirectory.exists() )
+                {
+                    operationTracer = new OperationTracer(
+                            resultsDirectory.getOrCreateTraceFile( warmup ),
+                            timeSource,
+                            DriverRuntimeConfiguration.traceSampleRate( params ),
+                            DriverRuntimeConfiguration.traceThresholdAsMilli( params )
+                    );
+                }
+                else
+                {
+                    loggingService.info(
+                            "Operation tracing requires a results directory, operations will not be traced" );
+                }
+            }
             int operationHandlerExecutorsBoundedQueueSize = DefaultQueues.DEFAULT_BOUND_1000;
             workloadRunner = new WorkloadRunner(
                     timeSource,
@@ -301,12 +503,17 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
                     controlService.configuration().statusDisplayIntervalAsSeconds(),
                     controlService.configuration().spinnerSleepDurationAsMilli(),
                     controlService.configuration().ignoreScheduledStartTimes(),
-                    operationHandlerExecutorsBoundedQueueSize );
+                    operationHandlerExecutorsBoundedQueueSize,
+                    liveMetricsExporter,
+                    liveMetricsIntervalAsMilli,
+                    driverOverheadRecorder,
+                    operationTracer );
         }
         catch ( Exception e )
         {
             throw new ClientException( format( "Error instantiating %s", WorkloadRunner.class.getSimpleName() ), e );
         }
+        startupTimings.phaseCompleted( "Workload runner" );
 
         //  ===========================================
         //  ===  Initialize Completion Time Service  ==
@@ -365,10 +572,21 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
             throw new ClientException(
                     "Error while writing initial initiated and completed times to Completion Time Service", e );
         }
+        startupTimings.phaseCompleted( "Completion time initialization" );
+
+        loggingService.info( startupTimings.toString() );
+        long startupHeadroomAsMilli = controlService.workloadStartTimeAsMilli() - System.currentTimeMillis();
+        if ( startupHeadroomAsMilli < 0 )
+        {
+            loggingService.info( format(
+                    "Startup completed %s after the workload start time, early operations will start late",
+                    temporalUtil.milliDurationToString( -startupHeadroomAsMilli ) ) );
+        }
     }
 
     private void doExecute( boolean warmup ) throws ClientException
     {
+        List<DriverPause> driverPauses = null;
         try
         {
             ConcurrentErrorReporter errorReporter = workloadRunner.getFuture().get();
@@ -383,6 +601,46 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
         {
             throw new ClientException( "Error running workload", e );
         }
+        finally
+        {
+            if ( null != liveMetricsExporter )
+            {
+                try
+                {
+                    liveMetricsExporter.close();
+                }
+                catch ( MetricsCollectionException e )
+                {
+                    loggingService.info( "Error closing live metrics exporter: " + e.getMessage() );
+                }
+                liveMetricsExporter = null;
+            }
+            if ( null != pauseMonitor )
+            {
+                try
+                {
+                    driverPauses = pauseMonitor.shutdown();
+                    logDriverPauses( driverPauses );
+                }
+                catch ( MetricsCollectionException e )
+                {
+                    loggingService.info( "Error shutting down driver pause monitor: " + e.getMessage() );
+                }
+                pauseMonitor = null;
+            }
+            if ( null != operationTracer )
+            {
+                try
+                {
+                    loggingService.info( format( "Traced %s operations", operationTracer.shutdown() ) );
+                }
+                catch ( MetricsCollectionException e )
+                {
+                    loggingService.info( "Error shutting down operation tracer: " + e.getMessage() );
+                }
+                operationTracer = null;
+            }
+        }
 
         loggingService.info( "Shutting down completion time service..." );
         try
@@ -400,6 +658,10 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
         {
             workloadResults = metricsService.getWriter().results();
             metricsService.shutdown();
+            if ( null != driverOverheadRecorder )
+            {
+                workloadResults = workloadResults.withDriverOverheadMetrics( driverOverheadRecorder.snapshot() );
+            }
         }
         catch ( MetricsCollectionException e )
         {
@@ -433,6 +695,34 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
                         controlService.configuration().toPropertiesString().getBytes( StandardCharsets.UTF_8 )
                 );
                 resultsLogWriter.close();
+                if ( ResultsLogFormat.BINARY == resultsDirectory.resultsLogFormat() )
+                {
+                    File resultsLog = resultsDirectory.getOrCreateResultsLogFile( warmup );
+                    loggingService.info( format( "Converting binary results log to %s...",
+                            resultsLog.getAbsolutePath() ) );
+                    ResultsLogCsvConverter.binaryToCsv(
+                            resultsDirectory.getOrCreateBinaryResultsLogFile( warmup ),
+                            resultsLog
+                    );
+                }
+                if ( null != driverPauses )
+                {
+                    File pauseTimeline = resultsDirectory.getOrCreatePauseTimelineFile( warmup );
+                    loggingService.info( format( "Exporting driver pause timeline to %s...",
+                            pauseTimeline.getAbsolutePath() ) );
+                    DriverPauseMonitor.writeTimeline( driverPauses, pauseTimeline );
+                    File resultsOverlappingPauses = resultsDirectory.getOrCreateResultsOverlappingPausesFile( warmup );
+                    try ( ResultsLogReader resultsLogReader =
+                                  new SimpleResultsLogReader( resultsDirectory.getOrCreateResultsLogFile( warmup ) ) )
+                    {
+                        long resultsOverlappingPausesCount = DriverPauseMonitor.writeResultsOverlappingPauses(
+                                resultsLogReader,
+                                driverPauses,
+                                resultsOverlappingPauses );
+                        loggingService.info( format( "%s results overlapped driver pauses, exported to %s",
+                                resultsOverlappingPausesCount, resultsOverlappingPauses.getAbsolutePath() ) );
+                    }
+                }
                 if ( !controlService.configuration().ignoreScheduledStartTimes() )
                 {
                     loggingService.info( "Validating workload results..." );
@@ -471,4 +761,29 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
             throw new ClientException( "Could not export workload metrics", e );
         }
     }
+
+    private void logDriverPauses( List<DriverPause> driverPauses )
+    {
+        long gcCount = 0;
+        long gcDurationAsNano = 0;
+        long hiccupCount = 0;
+        for ( DriverPause driverPause : driverPauses )
+        {
+            if ( DriverPause.Source.GC == driverPause.source() )
+            {
+                gcCount++;
+                gcDurationAsNano += driverPause.durationAsNano();
+            }
+            else
+            {
+                hiccupCount++;
+            }
+        }
+        loggingService.info( format( "Driver pauses: %s hiccups above threshold (max %s ms), " +
+                                     "%s garbage collections (total %s ms)",
+                hiccupCount,
+                TimeUnit.NANOSECONDS.toMillis( pauseMonitor.hiccupHistogram().getMaxValue() ),
+                gcCount,
+                TimeUnit.NANOSECONDS.toMillis( gcDurationAsNano ) ) );
+    }
 }
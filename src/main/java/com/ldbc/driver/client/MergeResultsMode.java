@@ -0,0 +1,230 @@
+package com.ldbc.driver.client;
+
+import com.google.common.base.Charsets;
+import com.ldbc.driver.ClientException;
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.Workload;
+import com.ldbc.driver.control.ControlService;
+import com.ldbc.driver.control.DriverConfiguration;
+import com.ldbc.driver.control.DriverConfigurationException;
+import com.ldbc.driver.control.DriverRuntimeConfiguration;
+import com.ldbc.driver.control.LoggingService;
+import com.ldbc.driver.runtime.metrics.DisruptorSbeMetricsService;
+import com.ldbc.driver.runtime.metrics.JsonWorkloadMetricsFormatter;
+import com.ldbc.driver.runtime.metrics.MetricsManager;
+import com.ldbc.driver.runtime.metrics.ResultsLogReader;
+import com.ldbc.driver.runtime.metrics.ResultsMerger;
+import com.ldbc.driver.runtime.metrics.SimpleResultsLogReader;
+import com.ldbc.driver.runtime.metrics.WorkloadResultsSnapshot;
+import com.ldbc.driver.util.ClassLoaderHelper;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+
+/**
+ * Merges the (measurement phase) results of several results directories, e.g., written by driver processes that
+ * each executed a shard of the load, into the results directory of this configuration. Runtime histograms are merged
+ * per operation type, see {@link ResultsMerger}, and the combined results are written as results summary and, if
+ * enabled, as interval log with one histogram per operation type and time window.
+ * <p>
+ * Results are read from the results log of each directory, or from its interval log if it has no results log.
+ */
+public class MergeResultsMode implements ClientMode<WorkloadResultsSnapshot>
+{
+    private final ControlService controlService;
+    private final LoggingService loggingService;
+
+    private List<File> resultsDirectoriesToMerge = null;
+    private ResultsDirectory resultsDirectory = null;
+    private TimeUnit unit = null;
+    private Map<Integer,Class<? extends Operation>> operationTypeToClassMapping = null;
+    private long windowAsMilli;
+
+    public MergeResultsMode( ControlService controlService ) throws ClientException
+    {
+        this.controlService = controlService;
+        this.loggingService = controlService.loggingServiceFactory().loggingServiceFor( getClass().getSimpleName() );
+    }
+
+    @Override
+    public void init() throws ClientException
+    {
+        Map<String,String> params = controlService.configuration().asMap();
+        try
+        {
+            resultsDirectoriesToMerge = DriverRuntimeConfiguration.mergeResultsDirectories( params );
+            windowAsMilli = DriverRuntimeConfiguration.mergeResultsWindowAsMilli( params );
+        }
+        catch ( DriverConfigurationException e )
+        {
+            throw new ClientException( "Error reading merge results configuration", e );
+        }
+        if ( resultsDirectoriesToMerge.isEmpty() )
+        {
+            throw new ClientException( "No results directories to merge" );
+        }
+        resultsDirectory = new ResultsDirectory( controlService.configuration() );
+        if ( false == resultsDirectory.exists() )
+        {
+            throw new ClientException( "Merged results require a results directory to be configured" );
+        }
+
+        String workloadClassName = controlService.configuration().workloadClassName();
+        for ( File resultsDirectoryToMerge : resultsDirectoriesToMerge )
+        {
+            if ( false == resultsDirectoryToMerge.isDirectory() )
+            {
+                throw new ClientException(
+                        format( "Not a results directory: %s", resultsDirectoryToMerge.getAbsolutePath() ) );
+            }
+            if ( resultsDirectoryToMerge.getAbsoluteFile().equals(
+                    new File( controlService.configuration().resultDirPath() ).getAbsoluteFile() ) )
+            {
+                throw new ClientException( format( "Can not merge results into one of the merged directories: %s",
+                        resultsDirectoryToMerge.getAbsolutePath() ) );
+            }
+            DriverConfiguration configuration;
+            try
+            {
+                configuration = ResultsDirectory.findConfiguration( resultsDirectoryToMerge, false );
+            }
+            catch ( Exception e )
+            {
+                throw new ClientException( format( "Error reading configuration of: %s",
+                        resultsDirectoryToMerge.getAbsolutePath() ), e );
+            }
+            if ( null == configuration )
+            {
+                throw new ClientException( format( "No configuration found in: %s",
+                        resultsDirectoryToMerge.getAbsolutePath() ) );
+            }
+            if ( null == workloadClassName )
+            {
+                workloadClassName = configuration.workloadClassName();
+            }
+            else if ( false == workloadClassName.equals( configuration.workloadClassName() ) )
+            {
+                throw new ClientException( format( "Can not merge results of different workloads: %s and %s (in %s)",
+                        workloadClassName, configuration.workloadClassName(),
+                        resultsDirectoryToMerge.getAbsolutePath() ) );
+            }
+            if ( null == unit )
+            {
+                unit = configuration.timeUnit();
+            }
+            else if ( unit != configuration.timeUnit() )
+            {
+                throw new ClientException( format( "Can not merge results of different time units: %s and %s (in %s)",
+                        unit, configuration.timeUnit(), resultsDirectoryToMerge.getAbsolutePath() ) );
+            }
+        }
+
+        try ( Workload workload = ClassLoaderHelper.loadWorkload( workloadClassName ) )
+        {
+            operationTypeToClassMapping = workload.operationTypeToClassMapping();
+        }
+        catch ( Exception e )
+        {
+            throw new ClientException( format( "Error loading workload class: %s", workloadClassName ), e );
+        }
+        loggingService.info( format( "Merging results of %s directories of workload: %s",
+                resultsDirectoriesToMerge.size(), workloadClassName ) );
+    }
+
+    @Override
+    public WorkloadResultsSnapshot startExecutionAndAwaitCompletion() throws ClientException
+    {
+        ResultsMerger resultsMerger;
+        try
+        {
+            resultsMerger = new ResultsMerger(
+                    unit,
+                    DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                    operationTypeToClassMapping,
+                    windowAsMilli,
+                    controlService.loggingServiceFactory() );
+        }
+        catch ( Exception e )
+        {
+            throw new ClientException( "Error creating results merger", e );
+        }
+
+        for ( File resultsDirectoryToMerge : resultsDirectoriesToMerge )
+        {
+            try
+            {
+                File resultsLog = ResultsDirectory.findResultsLogFile( resultsDirectoryToMerge, false );
+                File intervalLog = ResultsDirectory.findIntervalLogFile( resultsDirectoryToMerge, false );
+                long count;
+                if ( null != resultsLog && resultsLog.length() > 0 )
+                {
+                    try ( ResultsLogReader reader = new SimpleResultsLogReader( resultsLog ) )
+                    {
+                        count = resultsMerger.addResultsLog( reader );
+                    }
+                    loggingService.info( format( "Merged %s results from %s", count, resultsLog.getAbsolutePath() ) );
+                }
+                else if ( null != intervalLog && intervalLog.length() > 0 )
+                {
+                    count = resultsMerger.addIntervalLog( intervalLog );
+                    loggingService.info( format( "Merged %s results from %s", count, intervalLog.getAbsolutePath() ) );
+                }
+                else
+                {
+                    throw new ClientException( format( "No results log or interval log found in: %s",
+                            resultsDirectoryToMerge.getAbsolutePath() ) );
+                }
+            }
+            catch ( ClientException e )
+            {
+                throw e;
+            }
+            catch ( Exception e )
+            {
+                throw new ClientException(
+                        format( "Error merging results of: %s", resultsDirectoryToMerge.getAbsolutePath() ), e );
+            }
+        }
+
+        WorkloadResultsSnapshot workloadResults = resultsMerger.results();
+        loggingService.detailedResult( workloadResults );
+        try
+        {
+            File resultsSummaryFile = resultsDirectory.getOrCreateResultsSummaryFile( false );
+            loggingService.info(
+                    format( "Exporting merged workload metrics to %s...", resultsSummaryFile.getAbsolutePath() ) );
+            try ( OutputStream outputStream = new FileOutputStream( resultsSummaryFile ) )
+            {
+                MetricsManager.export( workloadResults,
+                        new JsonWorkloadMetricsFormatter(),
+                        outputStream,
+                        Charsets.UTF_8
+                );
+            }
+            Files.write(
+                    resultsDirectory.getOrCreateConfigurationFile( false ).toPath(),
+                    controlService.configuration().toPropertiesString().getBytes( StandardCharsets.UTF_8 )
+            );
+            if ( resultsMerger.windowCount() > 0 )
+            {
+                File intervalLog = resultsDirectory.getOrCreateIntervalLogFile( false );
+                loggingService.info( format( "Exporting merged interval log (%s windows of %s ms) to %s...",
+                        resultsMerger.windowCount(), windowAsMilli, intervalLog.getAbsolutePath() ) );
+                resultsMerger.writeIntervalLog( intervalLog );
+            }
+        }
+        catch ( Exception e )
+        {
+            throw new ClientException( "Error encountered while exporting merged results", e );
+        }
+        return workloadResults;
+    }
+}
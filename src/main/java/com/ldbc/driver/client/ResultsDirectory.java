@@ -6,6 +6,8 @@ import com.ldbc.driver.ClientException;
 import com.ldbc.driver.control.ConsoleAndFileDriverConfiguration;
 import com.ldbc.driver.control.DriverConfiguration;
 import com.ldbc.driver.control.DriverConfigurationException;
+import com.ldbc.driver.control.DriverRuntimeConfiguration;
+import com.ldbc.driver.control.DriverRuntimeConfiguration.ResultsLogFormat;
 import com.ldbc.driver.csv.simple.SimpleCsvFileReader;
 import com.ldbc.driver.util.FileUtils;
 import com.ldbc.driver.util.MapUtils;
@@ -26,6 +28,7 @@ import static com.ldbc.driver.client.ResultsDirectory.BenchmarkPhase.MEASUREMENT
 import static com.ldbc.driver.client.ResultsDirectory.BenchmarkPhase.NOT_FOUND;
 import static com.ldbc.driver.client.ResultsDirectory.BenchmarkPhase.WARMUP;
 import static com.ldbc.driver.client.ResultsDirectory.BenchmarkPhase.WARMUP_FINISHED;
+import static java.lang.String.format;
 import static java.util.stream.Collectors.joining;
 
 public class ResultsDirectory
@@ -43,7 +46,13 @@ public class ResultsDirectory
     private static final String WARMUP_IDENTIFIER = "-WARMUP-";
 
     private static final String RESULTS_LOG_FILENAME_SUFFIX = "-results_log.csv";
+    private static final String BINARY_RESULTS_LOG_FILENAME_SUFFIX = "-results_log.bin";
     private static final String RESULTS_METRICS_FILENAME_SUFFIX = "-results.json";
+    private static final String RESULTS_INTERVAL_LOG_FILENAME_SUFFIX = "-results_intervals.hlog";
+    private static final String PAUSE_LOG_FILENAME_SUFFIX = "-pauses.hlog";
+    private static final String PAUSE_TIMELINE_FILENAME_SUFFIX = "-pauses.csv";
+    private static final String RESULTS_OVERLAPPING_PAUSES_FILENAME_SUFFIX = "-results_log_pauses.csv";
+    private static final String TRACE_FILENAME_SUFFIX = "-trace.json";
     private static final String RESULTS_CONFIGURATION_FILENAME_SUFFIX = "-configuration.properties";
 
     private static final String RESULTS_VALIDATION_FILENAME_SUFFIX = "-validation.json";
@@ -113,6 +122,108 @@ public class ResultsDirectory
         return resultsLog;
     }
 
+    File getOrCreateBinaryResultsLogFile( boolean warmup ) throws ClientException
+    {
+        File binaryResultsLog = getBinaryResultsLogFile( warmup );
+        if ( !binaryResultsLog.exists() )
+        {
+            try
+            {
+                FileUtils.createOrFail( binaryResultsLog );
+            }
+            catch ( IOException e )
+            {
+                throw new ClientException(
+                        "Error creating binary results log file: " + binaryResultsLog.getAbsolutePath(), e );
+            }
+        }
+        return binaryResultsLog;
+    }
+
+    private File getBinaryResultsLogFile( boolean warmup )
+    {
+        return new File( resultsDir, binaryResultsLogFilename( configuration, warmup ) );
+    }
+
+    File getOrCreateIntervalLogFile( boolean warmup ) throws ClientException
+    {
+        File intervalLog = getIntervalLogFile( warmup );
+        if ( !intervalLog.exists() )
+        {
+            try
+            {
+                FileUtils.createOrFail( intervalLog );
+            }
+            catch ( IOException e )
+            {
+                throw new ClientException( "Error creating interval log file: " + intervalLog.getAbsolutePath(), e );
+            }
+        }
+        return intervalLog;
+    }
+
+    private File getIntervalLogFile( boolean warmup )
+    {
+        return new File( resultsDir, intervalLogFilename( configuration, warmup ) );
+    }
+
+    File getOrCreatePauseLogFile( boolean warmup ) throws ClientException
+    {
+        return getOrCreateFile( getPauseLogFile( warmup ), "pause log" );
+    }
+
+    private File getPauseLogFile( boolean warmup )
+    {
+        return new File( resultsDir, filename( configuration, warmup, PAUSE_LOG_FILENAME_SUFFIX ) );
+    }
+
+    File getOrCreatePauseTimelineFile( boolean warmup ) throws ClientException
+    {
+        return getOrCreateFile( getPauseTimelineFile( warmup ), "pause timeline" );
+    }
+
+    private File getPauseTimelineFile( boolean warmup )
+    {
+        return new File( resultsDir, filename( configuration, warmup, PAUSE_TIMELINE_FILENAME_SUFFIX ) );
+    }
+
+    File getOrCreateResultsOverlappingPausesFile( boolean warmup ) throws ClientException
+    {
+        return getOrCreateFile( getResultsOverlappingPausesFile( warmup ), "results overlapping pauses" );
+    }
+
+    private File getResultsOverlappingPausesFile( boolean warmup )
+    {
+        return new File( resultsDir, filename( configuration, warmup, RESULTS_OVERLAPPING_PAUSES_FILENAME_SUFFIX ) );
+    }
+
+    File getOrCreateTraceFile( boolean warmup ) throws ClientException
+    {
+        return getOrCreateFile( getTraceFile( warmup ), "trace" );
+    }
+
+    private File getTraceFile( boolean warmup )
+    {
+        return new File( resultsDir, filename( configuration, warmup, TRACE_FILENAME_SUFFIX ) );
+    }
+
+    private static File getOrCreateFile( File file, String description ) throws ClientException
+    {
+        if ( !file.exists() )
+        {
+            try
+            {
+                FileUtils.createOrFail( file );
+            }
+            catch ( IOException e )
+            {
+                throw new ClientException( format( "Error creating %s file: %s", description, file.getAbsolutePath() ),
+                        e );
+            }
+        }
+        return file;
+    }
+
     public File getResultsLogFile( boolean warmup ) throws ClientException
     {
         return getResultsLogFile( resultsDir, configuration, warmup );
@@ -216,6 +327,10 @@ public class ResultsDirectory
         else
         {
             Set<File> expectedFiles = new HashSet<>();
+            boolean binaryResultsLog = ResultsLogFormat.BINARY == resultsLogFormat();
+            boolean intervalLog = intervalLogIntervalAsMilli() > 0;
+            boolean pauseMonitor = pauseMonitorResolutionAsMilli() > 0;
+            boolean tracing = tracing();
             if ( configuration.warmupCount() > 0 )
             {
                 if ( !configuration.ignoreScheduledStartTimes() )
@@ -223,6 +338,24 @@ public class ResultsDirectory
                     expectedFiles.add( getResultsValidationFile( true ) );
                 }
                 expectedFiles.add( getResultsLogFile( true ) );
+                if ( binaryResultsLog )
+                {
+                    expectedFiles.add( getBinaryResultsLogFile( true ) );
+                }
+                if ( intervalLog )
+                {
+                    expectedFiles.add( getIntervalLogFile( true ) );
+                }
+                if ( pauseMonitor )
+                {
+                    expectedFiles.add( getPauseLogFile( true ) );
+                    expectedFiles.add( getPauseTimelineFile( true ) );
+                    expectedFiles.add( getResultsOverlappingPausesFile( true ) );
+                }
+                if ( tracing )
+                {
+                    expectedFiles.add( getTraceFile( true ) );
+                }
                 expectedFiles.add( getResultsSummaryFile( true ) );
                 expectedFiles.add( getConfigurationFile( true ) );
             }
@@ -231,12 +364,78 @@ public class ResultsDirectory
                 expectedFiles.add( getResultsValidationFile( false ) );
             }
             expectedFiles.add( getResultsLogFile( false ) );
+            if ( binaryResultsLog )
+            {
+                expectedFiles.add( getBinaryResultsLogFile( false ) );
+            }
+            if ( intervalLog )
+            {
+                expectedFiles.add( getIntervalLogFile( false ) );
+            }
+            if ( pauseMonitor )
+            {
+                expectedFiles.add( getPauseLogFile( false ) );
+                expectedFiles.add( getPauseTimelineFile( false ) );
+                expectedFiles.add( getResultsOverlappingPausesFile( false ) );
+            }
+            if ( tracing )
+            {
+                expectedFiles.add( getTraceFile( false ) );
+            }
             expectedFiles.add( getResultsSummaryFile( false ) );
             expectedFiles.add( getConfigurationFile( false ) );
             return expectedFiles;
         }
     }
 
+    ResultsLogFormat resultsLogFormat() throws ClientException
+    {
+        try
+        {
+            return DriverRuntimeConfiguration.resultsLogFormat( configuration.asMap() );
+        }
+        catch ( DriverConfigurationException e )
+        {
+            throw new ClientException( "Error reading results log format", e );
+        }
+    }
+
+    long intervalLogIntervalAsMilli() throws ClientException
+    {
+        try
+        {
+            return DriverRuntimeConfiguration.intervalLogIntervalAsMilli( configuration.asMap() );
+        }
+        catch ( DriverConfigurationException e )
+        {
+            throw new ClientException( "Error reading interval log interval", e );
+        }
+    }
+
+    long pauseMonitorResolutionAsMilli() throws ClientException
+    {
+        try
+        {
+            return DriverRuntimeConfiguration.pauseMonitorResolutionAsMilli( configuration.asMap() );
+        }
+        catch ( DriverConfigurationException e )
+        {
+            throw new ClientException( "Error reading pause monitor resolution", e );
+        }
+    }
+
+    boolean tracing() throws ClientException
+    {
+        try
+        {
+            return DriverRuntimeConfiguration.tracing( configuration.asMap() );
+        }
+        catch ( DriverConfigurationException e )
+        {
+            throw new ClientException( "Error reading operation tracing configuration", e );
+        }
+    }
+
     public static BenchmarkPhase phase( File resultsDir )
             throws ClientException, DriverConfigurationException, IOException
     {
@@ -319,13 +518,39 @@ public class ResultsDirectory
         return ConsoleAndFileDriverConfiguration.fromParamsMap( configurationMap );
     }
 
-    private static File findResultsLogFile( File resultsDir, boolean warmup )
+    /**
+     * @return results log of a run written to the given results directory, or null if not found
+     */
+    static File findResultsLogFile( File resultsDir, boolean warmup )
+            throws DriverConfigurationException, IOException
+    {
+        return findSingleFile( resultsDir, warmup, RESULTS_LOG_FILENAME_SUFFIX, "results log" );
+    }
+
+    /**
+     * @return configuration of a run written to the given results directory, or null if not found
+     */
+    static DriverConfiguration findConfiguration( File resultsDir, boolean warmup )
             throws DriverConfigurationException, IOException
     {
-        FileFilter resultsLogFileFilter = file ->
+        File configurationFile = findConfigurationFile( resultsDir, warmup );
+        return (null == configurationFile) ? null : getConfigurationFrom( configurationFile );
+    }
+
+    /**
+     * @return interval log of a run written to the given results directory, or null if not found
+     */
+    static File findIntervalLogFile( File resultsDir, boolean warmup )
+    {
+        return findSingleFile( resultsDir, warmup, RESULTS_INTERVAL_LOG_FILENAME_SUFFIX, "interval log" );
+    }
+
+    private static File findSingleFile( File resultsDir, boolean warmup, String filenameSuffix, String description )
+    {
+        FileFilter fileFilter = file ->
                 file.getName().contains( WARMUP_IDENTIFIER ) == warmup &&
-                file.getName().endsWith( RESULTS_LOG_FILENAME_SUFFIX );
-        File[] resultFiles = resultsDir.listFiles( resultsLogFileFilter );
+                file.getName().endsWith( filenameSuffix );
+        File[] resultFiles = resultsDir.listFiles( fileFilter );
         if ( null == resultFiles || resultFiles.length == 0 )
         {
             return null;
@@ -333,7 +558,7 @@ public class ResultsDirectory
         else if ( resultFiles.length > 1 )
         {
             throw new RuntimeException(
-                    "Expected to find 1 results log file, but found: " +
+                    "Expected to find 1 " + description + " file, but found: " +
                     Arrays.stream( resultFiles ).map( File::getAbsolutePath ).collect( joining( "," ) ) );
         }
         else
@@ -366,12 +591,30 @@ public class ResultsDirectory
                         : configuration.name() + RESULTS_LOG_FILENAME_SUFFIX;
     }
 
+    private static String binaryResultsLogFilename( DriverConfiguration configuration, boolean warmup )
+    {
+        return (warmup) ? configuration.name() + WARMUP_IDENTIFIER + BINARY_RESULTS_LOG_FILENAME_SUFFIX
+                        : configuration.name() + BINARY_RESULTS_LOG_FILENAME_SUFFIX;
+    }
+
+    private static String intervalLogFilename( DriverConfiguration configuration, boolean warmup )
+    {
+        return (warmup) ? configuration.name() + WARMUP_IDENTIFIER + RESULTS_INTERVAL_LOG_FILENAME_SUFFIX
+                        : configuration.name() + RESULTS_INTERVAL_LOG_FILENAME_SUFFIX;
+    }
+
     private static String resultsSummaryFilename( DriverConfiguration configuration, boolean warmup )
     {
         return (warmup) ? configuration.name() + WARMUP_IDENTIFIER + RESULTS_METRICS_FILENAME_SUFFIX
                         : configuration.name() + RESULTS_METRICS_FILENAME_SUFFIX;
     }
 
+    private static String filename( DriverConfiguration configuration, boolean warmup, String filenameSuffix )
+    {
+        return (warmup) ? configuration.name() + WARMUP_IDENTIFIER + filenameSuffix
+                        : configuration.name() + filenameSuffix;
+    }
+
     private static String configurationFilename( DriverConfiguration configuration, boolean warmup )
     {
         return (warmup) ? configuration.name() + WARMUP_IDENTIFIER + RESULTS_CONFIGURATION_FILENAME_SUFFIX
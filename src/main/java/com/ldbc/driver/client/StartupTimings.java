@@ -0,0 +1,77 @@
+package com.ldbc.driver.client;
+
+import com.ldbc.driver.temporal.TemporalUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.lang.String.format;
+
+/**
+ * Durations of the consecutive phases of starting a benchmark phase (e.g., retrieving workload streams,
+ * initializing the database connector), each measured from the end of the phase before it
+ */
+public class StartupTimings
+{
+    private final TemporalUtil temporalUtil = new TemporalUtil();
+    private final List<String> phases = new ArrayList<>();
+    private final List<Long> durationsAsNano = new ArrayList<>();
+    private final long startTimeAsNano;
+    private long lastPhaseEndTimeAsNano;
+
+    public StartupTimings()
+    {
+        this.startTimeAsNano = System.nanoTime();
+        this.lastPhaseEndTimeAsNano = startTimeAsNano;
+    }
+
+    public void phaseCompleted( String phase )
+    {
+        long nowAsNano = System.nanoTime();
+        phases.add( phase );
+        durationsAsNano.add( nowAsNano - lastPhaseEndTimeAsNano );
+        lastPhaseEndTimeAsNano = nowAsNano;
+    }
+
+    public List<String> phases()
+    {
+        return phases;
+    }
+
+    public long durationAsNano( String phase )
+    {
+        int index = phases.indexOf( phase );
+        if ( -1 == index )
+        {
+            throw new IllegalArgumentException( format( "Unknown startup phase: %s", phase ) );
+        }
+        return durationsAsNano.get( index );
+    }
+
+    public long totalDurationAsNano()
+    {
+        return lastPhaseEndTimeAsNano - startTimeAsNano;
+    }
+
+    @Override
+    public String toString()
+    {
+        int phaseWidth = "Total".length();
+        for ( String phase : phases )
+        {
+            phaseWidth = Math.max( phaseWidth, phase.length() );
+        }
+        long totalDurationAsNano = Math.max( 1, totalDurationAsNano() );
+        StringBuilder sb = new StringBuilder( "Startup timings:" );
+        for ( int i = 0; i < phases.size(); i++ )
+        {
+            sb.append( format( "\n  %-" + phaseWidth + "s  %s (%.1f%%)",
+                    phases.get( i ),
+                    temporalUtil.nanoDurationToString( durationsAsNano.get( i ) ),
+                    durationsAsNano.get( i ) * 100.0 / totalDurationAsNano ) );
+        }
+        sb.append( format( "\n  %-" + phaseWidth + "s  %s", "Total",
+                temporalUtil.nanoDurationToString( totalDurationAsNano() ) ) );
+        return sb.toString();
+    }
+}
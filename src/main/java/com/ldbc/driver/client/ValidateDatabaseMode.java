@@ -14,9 +14,11 @@ import com.ldbc.driver.util.ClassLoaderHelper;
 import com.ldbc.driver.validation.DbValidationResult;
 import com.ldbc.driver.validation.DbValidator;
 import com.ldbc.driver.validation.ValidationParam;
+import com.ldbc.driver.validation.ValidationParamsBinaryReader;
 import com.ldbc.driver.validation.ValidationParamsFromCsvRows;
 import org.apache.commons.io.FileUtils;
 
+import java.io.Closeable;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
@@ -87,27 +89,41 @@ public class ValidateDatabaseMode implements ClientMode<DbValidationResult>
                             db.getClass().getName(), validationParamsFile.getAbsolutePath() ) );
 
             int validationParamsCount;
-            SimpleCsvFileReader validationParamsReader;
+            Iterator<ValidationParam> validationParams;
+            Closeable validationParamsReader;
             try
             {
-                validationParamsReader = new SimpleCsvFileReader( validationParamsFile,
-                        SimpleCsvFileReader.DEFAULT_COLUMN_SEPARATOR_REGEX_STRING );
-                validationParamsCount = Iterators.size( validationParamsReader );
-                validationParamsReader.close();
-                validationParamsReader = new SimpleCsvFileReader( validationParamsFile,
-                        SimpleCsvFileReader.DEFAULT_COLUMN_SEPARATOR_REGEX_STRING );
+                if ( ValidationParamsBinaryReader.isBinaryValidationParams( validationParamsFile ) )
+                {
+                    ValidationParamsBinaryReader binaryReader =
+                            new ValidationParamsBinaryReader( validationParamsFile, w );
+                    validationParamsCount = binaryReader.entryCount();
+                    validationParams = binaryReader;
+                    validationParamsReader = binaryReader;
+                }
+                else
+                {
+                    SimpleCsvFileReader csvReader = new SimpleCsvFileReader( validationParamsFile,
+                            SimpleCsvFileReader.DEFAULT_COLUMN_SEPARATOR_REGEX_STRING );
+                    validationParamsCount = Iterators.size( csvReader );
+                    csvReader.close();
+                    csvReader = new SimpleCsvFileReader( validationParamsFile,
+                            SimpleCsvFileReader.DEFAULT_COLUMN_SEPARATOR_REGEX_STRING );
+                    validationParams = new ValidationParamsFromCsvRows( csvReader, w );
+                    validationParamsReader = csvReader;
+                }
             }
             catch ( IOException e )
             {
-                throw new ClientException( "Error encountered trying to create CSV file reader", e );
+                throw new ClientException( "Error encountered trying to create validation parameters file reader", e );
             }
 
             DbValidationResult databaseValidationResult;
             try
             {
-                Iterator<ValidationParam> validationParams =
-                        new ValidationParamsFromCsvRows( validationParamsReader, w );
-                DbValidator dbValidator = new DbValidator();
+                int threadCount = controlService.configuration().threadCount();
+                loggingService.info( format( "Validating database with %s thread(s)", threadCount ) );
+                DbValidator dbValidator = new DbValidator( threadCount );
                 databaseValidationResult = dbValidator.validate(
                         validationParams,
                         db,
@@ -0,0 +1,455 @@
+package com.ldbc.driver.control;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static java.lang.String.format;
+
+/**
+ * Optional driver runtime parameters, passed like any other non-core parameter (e.g. -p key|value or via a
+ * properties file) and read from {@link DriverConfiguration#asMap()}
+ */
+public abstract class DriverRuntimeConfiguration
+{
+    public final static String LDBC_DRIVER_PARAM_NAME_PREFIX = "ldbc.driver.";
+
+    /*
+     * Metrics Service
+     */
+    public enum MetricsServiceType
+    {
+        // all results are serialized through a single disruptor consumer thread
+        DISRUPTOR,
+        // every writer records into its own histogram recorders, which are merged on demand
+        HDR_RECORDER
+    }
+
+    public final static String METRICS_SERVICE = LDBC_DRIVER_PARAM_NAME_PREFIX + "metrics_service";
+    public final static MetricsServiceType DEFAULT_METRICS_SERVICE = MetricsServiceType.DISRUPTOR;
+
+    public static MetricsServiceType metricsService( Map<String,String> params ) throws DriverConfigurationException
+    {
+        return enumValue( params, METRICS_SERVICE, MetricsServiceType.class, DEFAULT_METRICS_SERVICE );
+    }
+
+    // consumer wait strategy of the DISRUPTOR metrics service ring buffer
+    public enum MetricsWaitStrategy
+    {
+        BLOCKING,
+        LITE_BLOCKING,
+        SLEEPING,
+        YIELDING,
+        BUSY_SPIN
+    }
+
+    public final static String METRICS_WAIT_STRATEGY = LDBC_DRIVER_PARAM_NAME_PREFIX + "metrics_wait_strategy";
+    public final static MetricsWaitStrategy DEFAULT_METRICS_WAIT_STRATEGY = MetricsWaitStrategy.BLOCKING;
+    // must be a power of 2
+    public final static String METRICS_RING_BUFFER_SIZE = LDBC_DRIVER_PARAM_NAME_PREFIX + "metrics_ring_buffer_size";
+    public final static int DEFAULT_METRICS_RING_BUFFER_SIZE = 1024;
+
+    public static MetricsWaitStrategy metricsWaitStrategy( Map<String,String> params )
+            throws DriverConfigurationException
+    {
+        return enumValue( params, METRICS_WAIT_STRATEGY, MetricsWaitStrategy.class, DEFAULT_METRICS_WAIT_STRATEGY );
+    }
+
+    public static int metricsRingBufferSize( Map<String,String> params ) throws DriverConfigurationException
+    {
+        long ringBufferSize = longValue( params, METRICS_RING_BUFFER_SIZE, DEFAULT_METRICS_RING_BUFFER_SIZE );
+        if ( ringBufferSize <= 0 || ringBufferSize > (1 << 30) || Long.bitCount( ringBufferSize ) != 1 )
+        {
+            throw new DriverConfigurationException(
+                    format( "%s must be a positive power of 2: %s", METRICS_RING_BUFFER_SIZE, ringBufferSize ) );
+        }
+        return (int) ringBufferSize;
+    }
+
+    /*
+     * Results Log
+     */
+    public enum ResultsLogFormat
+    {
+        // pipe separated text, written directly
+        CSV,
+        // fixed width binary records, converted to CSV once the run completes
+        BINARY
+    }
+
+    public final static String RESULTS_LOG_FORMAT = LDBC_DRIVER_PARAM_NAME_PREFIX + "results_log_format";
+    public final static ResultsLogFormat DEFAULT_RESULTS_LOG_FORMAT = ResultsLogFormat.CSV;
+
+    public static ResultsLogFormat resultsLogFormat( Map<String,String> params ) throws DriverConfigurationException
+    {
+        return enumValue( params, RESULTS_LOG_FORMAT, ResultsLogFormat.class, DEFAULT_RESULTS_LOG_FORMAT );
+    }
+
+    // adds a result_cardinality column (rows returned by each operation) to the results log
+    public final static String RESULTS_LOG_RESULT_CARDINALITY =
+            LDBC_DRIVER_PARAM_NAME_PREFIX + "results_log_result_cardinality";
+    public final static boolean DEFAULT_RESULTS_LOG_RESULT_CARDINALITY = false;
+
+    public static boolean resultsLogResultCardinality( Map<String,String> params )
+    {
+        return booleanValue( params, RESULTS_LOG_RESULT_CARDINALITY, DEFAULT_RESULTS_LOG_RESULT_CARDINALITY );
+    }
+
+    /*
+     * Interval Log
+     */
+    // 0 disables the interval (latency over time) histogram log
+    public final static String INTERVAL_LOG_INTERVAL_AS_MILLI =
+            LDBC_DRIVER_PARAM_NAME_PREFIX + "interval_log_interval_ms";
+    public final static long DEFAULT_INTERVAL_LOG_INTERVAL_AS_MILLI = 0;
+
+    public static long intervalLogIntervalAsMilli( Map<String,String> params ) throws DriverConfigurationException
+    {
+        long intervalAsMilli =
+                longValue( params, INTERVAL_LOG_INTERVAL_AS_MILLI, DEFAULT_INTERVAL_LOG_INTERVAL_AS_MILLI );
+        if ( intervalAsMilli < 0 )
+        {
+            throw new DriverConfigurationException(
+                    format( "%s must not be negative: %s", INTERVAL_LOG_INTERVAL_AS_MILLI, intervalAsMilli ) );
+        }
+        return intervalAsMilli;
+    }
+
+    /*
+     * Live Metrics
+     */
+    public final static String JMX_ENABLED = LDBC_DRIVER_PARAM_NAME_PREFIX + "jmx";
+    public final static boolean DEFAULT_JMX_ENABLED = false;
+    // 0 disables the HTTP (Prometheus text format) metrics endpoint
+    public final static String METRICS_HTTP_PORT = LDBC_DRIVER_PARAM_NAME_PREFIX + "metrics_http_port";
+    public final static int DEFAULT_METRICS_HTTP_PORT = 0;
+    // host/address the HTTP metrics endpoint binds to, loopback unless set (e.g. 0.0.0.0 for all interfaces)
+    public final static String METRICS_HTTP_HOST = LDBC_DRIVER_PARAM_NAME_PREFIX + "metrics_http_host";
+    public final static String LIVE_METRICS_INTERVAL_AS_MILLI =
+            LDBC_DRIVER_PARAM_NAME_PREFIX + "live_metrics_interval_ms";
+    public final static long DEFAULT_LIVE_METRICS_INTERVAL_AS_MILLI = 1000;
+
+    public static boolean jmxEnabled( Map<String,String> params )
+    {
+        return booleanValue( params, JMX_ENABLED, DEFAULT_JMX_ENABLED );
+    }
+
+    public static int metricsHttpPort( Map<String,String> params ) throws DriverConfigurationException
+    {
+        long port = longValue( params, METRICS_HTTP_PORT, DEFAULT_METRICS_HTTP_PORT );
+        if ( port < 0 || port > 65535 )
+        {
+            throw new DriverConfigurationException( format( "Invalid %s: %s", METRICS_HTTP_PORT, port ) );
+        }
+        return (int) port;
+    }
+
+    /**
+     * @return null if the HTTP metrics endpoint should bind to the loopback address
+     */
+    public static String metricsHttpHost( Map<String,String> params )
+    {
+        String value = params.get( METRICS_HTTP_HOST );
+        return (null == value || value.trim().isEmpty()) ? null : value.trim();
+    }
+
+    public static long liveMetricsIntervalAsMilli( Map<String,String> params ) throws DriverConfigurationException
+    {
+        long intervalAsMilli =
+                longValue( params, LIVE_METRICS_INTERVAL_AS_MILLI, DEFAULT_LIVE_METRICS_INTERVAL_AS_MILLI );
+        if ( intervalAsMilli <= 0 )
+        {
+            throw new DriverConfigurationException(
+                    format( "%s must be positive: %s", LIVE_METRICS_INTERVAL_AS_MILLI, intervalAsMilli ) );
+        }
+        return intervalAsMilli;
+    }
+
+    /*
+     * Driver Pauses
+     */
+    // sleep resolution of the hiccup meter, 0 disables driver pause (hiccup and garbage collection) monitoring
+    public final static String PAUSE_MONITOR_RESOLUTION_AS_MILLI =
+            LDBC_DRIVER_PARAM_NAME_PREFIX + "pause_monitor_resolution_ms";
+    public final static long DEFAULT_PAUSE_MONITOR_RESOLUTION_AS_MILLI = 0;
+    // hiccups of at least this are added to the pause timeline, garbage collections always are
+    public final static String PAUSE_MONITOR_THRESHOLD_AS_MILLI =
+            LDBC_DRIVER_PARAM_NAME_PREFIX + "pause_monitor_threshold_ms";
+    public final static long DEFAULT_PAUSE_MONITOR_THRESHOLD_AS_MILLI = 10;
+    public final static String PAUSE_MONITOR_LOG_INTERVAL_AS_MILLI =
+            LDBC_DRIVER_PARAM_NAME_PREFIX + "pause_monitor_log_interval_ms";
+    public final static long DEFAULT_PAUSE_MONITOR_LOG_INTERVAL_AS_MILLI = 5000;
+
+    public static long pauseMonitorResolutionAsMilli( Map<String,String> params ) throws DriverConfigurationException
+    {
+        long resolutionAsMilli =
+                longValue( params, PAUSE_MONITOR_RESOLUTION_AS_MILLI, DEFAULT_PAUSE_MONITOR_RESOLUTION_AS_MILLI );
+        if ( resolutionAsMilli < 0 )
+        {
+            throw new DriverConfigurationException(
+                    format( "%s must not be negative: %s", PAUSE_MONITOR_RESOLUTION_AS_MILLI, resolutionAsMilli ) );
+        }
+        return resolutionAsMilli;
+    }
+
+    public static long pauseMonitorThresholdAsMilli( Map<String,String> params ) throws DriverConfigurationException
+    {
+        long thresholdAsMilli =
+                longValue( params, PAUSE_MONITOR_THRESHOLD_AS_MILLI, DEFAULT_PAUSE_MONITOR_THRESHOLD_AS_MILLI );
+        if ( thresholdAsMilli < 0 )
+        {
+            throw new DriverConfigurationException(
+                    format( "%s must not be negative: %s", PAUSE_MONITOR_THRESHOLD_AS_MILLI, thresholdAsMilli ) );
+        }
+        return thresholdAsMilli;
+    }
+
+    public static long pauseMonitorLogIntervalAsMilli( Map<String,String> params ) throws DriverConfigurationException
+    {
+        long intervalAsMilli =
+                longValue( params, PAUSE_MONITOR_LOG_INTERVAL_AS_MILLI, DEFAULT_PAUSE_MONITOR_LOG_INTERVAL_AS_MILLI );
+        if ( intervalAsMilli <= 0 )
+        {
+            throw new DriverConfigurationException(
+                    format( "%s must be positive: %s", PAUSE_MONITOR_LOG_INTERVAL_AS_MILLI, intervalAsMilli ) );
+        }
+        return intervalAsMilli;
+    }
+
+    /*
+     * Driver Overhead
+     */
+    // record time operations spend queued, waiting on completion time, spinning and submitting metrics
+    public final static String DRIVER_OVERHEAD = LDBC_DRIVER_PARAM_NAME_PREFIX + "driver_overhead";
+    public final static boolean DEFAULT_DRIVER_OVERHEAD = false;
+
+    public static boolean driverOverhead( Map<String,String> params )
+    {
+        return booleanValue( params, DRIVER_OVERHEAD, DEFAULT_DRIVER_OVERHEAD );
+    }
+
+    /*
+     * Operation Tracing
+     */
+    // fraction of operations to trace, 0 disables sampling
+    public final static String TRACE_SAMPLE_RATE = LDBC_DRIVER_PARAM_NAME_PREFIX + "trace_sample_rate";
+    public final static double DEFAULT_TRACE_SAMPLE_RATE = 0;
+    // operations executing for at least this are always traced, 0 disables
+    public final static String TRACE_THRESHOLD_AS_MILLI = LDBC_DRIVER_PARAM_NAME_PREFIX + "trace_threshold_ms";
+    public final static long DEFAULT_TRACE_THRESHOLD_AS_MILLI = 0;
+
+    public static double traceSampleRate( Map<String,String> params ) throws DriverConfigurationException
+    {
+        double sampleRate = doubleValue( params, TRACE_SAMPLE_RATE, DEFAULT_TRACE_SAMPLE_RATE );
+        if ( sampleRate < 0 || sampleRate > 1 )
+        {
+            throw new DriverConfigurationException(
+                    format( "%s must be in range [0,1]: %s", TRACE_SAMPLE_RATE, sampleRate ) );
+        }
+        return sampleRate;
+    }
+
+    public static long traceThresholdAsMilli( Map<String,String> params ) throws DriverConfigurationException
+    {
+        long thresholdAsMilli = longValue( params, TRACE_THRESHOLD_AS_MILLI, DEFAULT_TRACE_THRESHOLD_AS_MILLI );
+        if ( thresholdAsMilli < 0 )
+        {
+            throw new DriverConfigurationException(
+                    format( "%s must not be negative: %s", TRACE_THRESHOLD_AS_MILLI, thresholdAsMilli ) );
+        }
+        return thresholdAsMilli;
+    }
+
+    public static boolean tracing( Map<String,String> params ) throws DriverConfigurationException
+    {
+        return traceSampleRate( params ) > 0 || traceThresholdAsMilli( params ) > 0;
+    }
+
+    /*
+     * Merge Results
+     */
+    // comma separated results directories, setting it merges their results rather than executing a workload
+    public final static String MERGE_RESULTS_DIRS = LDBC_DRIVER_PARAM_NAME_PREFIX + "merge_results_dirs";
+    // size of the time windows of the merged interval log, 0 disables it
+    public final static String MERGE_RESULTS_WINDOW_AS_MILLI = LDBC_DRIVER_PARAM_NAME_PREFIX + "merge_results_window_ms";
+    public final static long DEFAULT_MERGE_RESULTS_WINDOW_AS_MILLI = 60_000;
+
+    public static List<File> mergeResultsDirectories( Map<String,String> params )
+    {
+        List<File> resultsDirectories = new ArrayList<>();
+        String value = params.get( MERGE_RESULTS_DIRS );
+        if ( null != value )
+        {
+            for ( String resultsDirectory : value.split( "," ) )
+            {
+                if ( false == resultsDirectory.trim().isEmpty() )
+                {
+                    resultsDirectories.add( new File( resultsDirectory.trim() ) );
+                }
+            }
+        }
+        return resultsDirectories;
+    }
+
+    public static long mergeResultsWindowAsMilli( Map<String,String> params ) throws DriverConfigurationException
+    {
+        long windowAsMilli =
+                longValue( params, MERGE_RESULTS_WINDOW_AS_MILLI, DEFAULT_MERGE_RESULTS_WINDOW_AS_MILLI );
+        if ( windowAsMilli < 0 )
+        {
+            throw new DriverConfigurationException(
+                    format( "%s must not be negative: %s", MERGE_RESULTS_WINDOW_AS_MILLI, windowAsMilli ) );
+        }
+        return windowAsMilli;
+    }
+
+    /*
+     * Workload Streams Index
+     */
+    // file in which per-stream offsets and limits are persisted, so later runs need not scan the streams to find them
+    public final static String WORKLOAD_STREAMS_INDEX = LDBC_DRIVER_PARAM_NAME_PREFIX + "workload_streams_index";
+
+    /**
+     * @return null if no index should be used
+     */
+    public static File workloadStreamsIndexFile( Map<String,String> params )
+    {
+        String value = params.get( WORKLOAD_STREAMS_INDEX );
+        return (null == value || value.trim().isEmpty()) ? null : new File( value.trim() );
+    }
+
+    /*
+     * Workload Schedule
+     */
+    // file after which the schedules of workload streams are named, built and persisted on the first run, and
+    // replayed rather than built from the workload inputs on later runs with the same configuration
+    public final static String WORKLOAD_SCHEDULE = LDBC_DRIVER_PARAM_NAME_PREFIX + "workload_schedule";
+
+    /**
+     * @return null if no schedule should be used
+     */
+    public static File workloadScheduleFile( Map<String,String> params )
+    {
+        String value = params.get( WORKLOAD_SCHEDULE );
+        return (null == value || value.trim().isEmpty()) ? null : new File( value.trim() );
+    }
+
+    /*
+     * Validation Parameters
+     */
+    public enum ValidationParamsFormat
+    {
+        // pipe separated JSON serialized operations and results, readable by other tools
+        JSON,
+        // length prefixed records encoded by the codec of the workload, see ValidationParamsBinaryWriter
+        BINARY
+    }
+
+    // format of created validation parameters files, the format of files being validated against is detected
+    public final static String VALIDATION_PARAMS_FORMAT = LDBC_DRIVER_PARAM_NAME_PREFIX + "validation_params_format";
+    public final static ValidationParamsFormat DEFAULT_VALIDATION_PARAMS_FORMAT = ValidationParamsFormat.JSON;
+
+    public static ValidationParamsFormat validationParamsFormat( Map<String,String> params )
+            throws DriverConfigurationException
+    {
+        return enumValue( params, VALIDATION_PARAMS_FORMAT, ValidationParamsFormat.class,
+                DEFAULT_VALIDATION_PARAMS_FORMAT );
+    }
+
+    /*
+     * Operation Recycling
+     */
+    public enum OperationRecycling
+    {
+        // every operation is a new instance
+        NONE,
+        // operations of workloads that support it are returned to per type pools once executed, and reused
+        POOLED,
+        // as POOLED, but recycled operations are quarantined before reuse, and fail if handlers still use them
+        POOLED_DETECT_RETENTION
+    }
+
+    public final static String OPERATION_RECYCLING = LDBC_DRIVER_PARAM_NAME_PREFIX + "operation_recycling";
+    public final static OperationRecycling DEFAULT_OPERATION_RECYCLING = OperationRecycling.NONE;
+    // operations kept for reuse, per operation type
+    public final static String OPERATION_POOL_SIZE = LDBC_DRIVER_PARAM_NAME_PREFIX + "operation_pool_size";
+    public final static long DEFAULT_OPERATION_POOL_SIZE = 1024;
+
+    public static OperationRecycling operationRecycling( Map<String,String> params )
+            throws DriverConfigurationException
+    {
+        return enumValue( params, OPERATION_RECYCLING, OperationRecycling.class, DEFAULT_OPERATION_RECYCLING );
+    }
+
+    public static int operationPoolSize( Map<String,String> params ) throws DriverConfigurationException
+    {
+        long poolSize = longValue( params, OPERATION_POOL_SIZE, DEFAULT_OPERATION_POOL_SIZE );
+        if ( poolSize <= 0 || poolSize > Integer.MAX_VALUE )
+        {
+            throw new DriverConfigurationException(
+                    format( "%s must be in range [1,%s]: %s", OPERATION_POOL_SIZE, Integer.MAX_VALUE, poolSize ) );
+        }
+        return (int) poolSize;
+    }
+
+    static <T extends Enum<T>> T enumValue( Map<String,String> params, String key, Class<T> enumType, T defaultValue )
+            throws DriverConfigurationException
+    {
+        String value = params.get( key );
+        if ( null == value )
+        {
+            return defaultValue;
+        }
+        try
+        {
+            return Enum.valueOf( enumType, value.trim() );
+        }
+        catch ( IllegalArgumentException e )
+        {
+            throw new DriverConfigurationException( format( "Unsupported value for %s: %s", key, value ), e );
+        }
+    }
+
+    static long longValue( Map<String,String> params, String key, long defaultValue )
+            throws DriverConfigurationException
+    {
+        String value = params.get( key );
+        if ( null == value )
+        {
+            return defaultValue;
+        }
+        try
+        {
+            return Long.parseLong( value.trim() );
+        }
+        catch ( NumberFormatException e )
+        {
+            throw new DriverConfigurationException( format( "Unable to parse value for %s: %s", key, value ), e );
+        }
+    }
+
+    static double doubleValue( Map<String,String> params, String key, double defaultValue )
+            throws DriverConfigurationException
+    {
+        String value = params.get( key );
+        if ( null == value )
+        {
+            return defaultValue;
+        }
+        try
+        {
+            return Double.parseDouble( value.trim() );
+        }
+        catch ( NumberFormatException e )
+        {
+            throw new DriverConfigurationException( format( "Unable to parse value for %s: %s", key, value ), e );
+        }
+    }
+
+    static boolean booleanValue( Map<String,String> params, String key, boolean defaultValue )
+    {
+        String value = params.get( key );
+        return (null == value) ? defaultValue : Boolean.parseBoolean( value.trim() );
+    }
+}
@@ -0,0 +1,19 @@
+package com.ldbc.driver.csv.charseeker;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Optional capability of an {@link Extractor}, to extract its value directly from UTF-8 encoded bytes.
+ * <p/>
+ * Used by {@link MappedByteBufferCharSeeker} to skip decoding values into chars, which is only worth it for values
+ * made of ASCII characters, like numbers. Extractors without this capability are given decoded chars instead.
+ */
+public interface ByteBufferExtractor
+{
+    /**
+     * @param data bytes to extract from, its position and limit must not be changed
+     * @param offset absolute index, in data, of the first byte of the value
+     * @param length number of bytes in the value
+     */
+    void extract( ByteBuffer data, int offset, int length );
+}
@@ -20,6 +20,7 @@
 package com.ldbc.driver.csv.charseeker;
 
 import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -62,6 +63,8 @@ import static java.lang.reflect.Modifier.isStatic;
  */
 public class Extractors {
     private final Map<String, Extractor<?>> instances = new HashMap<>();
+    private final char arrayDelimiter;
+    private final char tupleDelimiter;
     private final Extractor<String> string;
     private final LongExtractor long_;
     private final IntExtractor int_;
@@ -88,6 +91,8 @@ public class Extractors {
      * method to keep the feel of an enum.
      */
     public Extractors(char arrayDelimiter, char tupleDelimiter) {
+        this.arrayDelimiter = arrayDelimiter;
+        this.tupleDelimiter = tupleDelimiter;
         try {
             for (Field field : getClass().getDeclaredFields()) {
                 if (isStatic(field.getModifiers())) {
@@ -133,6 +138,14 @@ public class Extractors {
         return instance;
     }
 
+    public char arrayDelimiter() {
+        return arrayDelimiter;
+    }
+
+    public char tupleDelimiter() {
+        return tupleDelimiter;
+    }
+
     public Extractor<String> string() {
         return string;
     }
@@ -237,7 +250,7 @@ public class Extractors {
         }
     }
 
-    public static class LongExtractor extends AbstractExtractor<Long> {
+    public static class LongExtractor extends AbstractExtractor<Long> implements ByteBufferExtractor {
         private long value;
 
         LongExtractor() {
@@ -249,6 +262,11 @@ public class Extractors {
             value = extractLong(data, offset, length);
         }
 
+        @Override
+        public void extract(ByteBuffer data, int offset, int length) {
+            value = extractLong(data, offset, length);
+        }
+
         @Override
         public Long value() {
             return Long.valueOf(value);
@@ -264,7 +282,7 @@ public class Extractors {
         }
     }
 
-    public static class IntExtractor extends AbstractExtractor<Integer> {
+    public static class IntExtractor extends AbstractExtractor<Integer> implements ByteBufferExtractor {
         private int value;
 
         IntExtractor() {
@@ -276,6 +294,11 @@ public class Extractors {
             value = safeCastLongToInt(extractLong(data, offset, length));
         }
 
+        @Override
+        public void extract(ByteBuffer data, int offset, int length) {
+            value = safeCastLongToInt(extractLong(data, offset, length));
+        }
+
         @Override
         public Integer value() {
             return Integer.valueOf(value);
@@ -478,6 +501,26 @@ public class Extractors {
             return count;
         }
 
+        // array delimiters are ASCII, so they can be compared to UTF-8 encoded bytes as they are
+        protected int bytesToNextDelimiter(ByteBuffer data, int offset, int length) {
+            for (int i = 0; i < length; i++) {
+                if (data.get(offset + i) == arrayDelimiter) {
+                    return i;
+                }
+            }
+            return length;
+        }
+
+        protected int numberOfValues(ByteBuffer data, int offset, int length) {
+            int count = length > 0 ? 1 : 0;
+            for (int i = 0; i < length; i++) {
+                if (data.get(offset + i) == arrayDelimiter) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
         @Override
         public int hashCode() {
             return getClass().hashCode();
@@ -565,7 +608,7 @@ public class Extractors {
         }
     }
 
-    private static class LongArrayExtractor extends ArrayExtractor<long[]> {
+    private static class LongArrayExtractor extends ArrayExtractor<long[]> implements ByteBufferExtractor {
         private static final long[] EMPTY = new long[0];
 
         LongArrayExtractor(char arrayDelimiter) {
@@ -582,6 +625,17 @@ public class Extractors {
                 charIndex += numberOfChars;
             }
         }
+
+        @Override
+        public void extract(ByteBuffer data, int offset, int length) {
+            int numberOfValues = numberOfValues(data, offset, length);
+            value = numberOfValues > 0 ? new long[numberOfValues] : EMPTY;
+            for (int arrayIndex = 0, byteIndex = 0; arrayIndex < numberOfValues; arrayIndex++, byteIndex++) {
+                int numberOfBytes = bytesToNextDelimiter(data, offset + byteIndex, length - byteIndex);
+                value[arrayIndex] = extractLong(data, offset + byteIndex, numberOfBytes);
+                byteIndex += numberOfBytes;
+            }
+        }
     }
 
     private static class IntTupleArrayExtractor extends AbstractExtractor<int[][]> {
@@ -743,6 +797,24 @@ public class Extractors {
         return negate ? -result : result;
     }
 
+    private static long extractLong(ByteBuffer data, int offset, int length) {
+        if (length == 0) {
+            throw new NumberFormatException("For input string \"\"");
+        }
+
+        long result = 0;
+        int i = 0;
+        boolean negate = false;
+        if (data.get(offset) == '-') {
+            negate = true;
+            i++;
+        }
+        for (; i < length; i++) {
+            result = result * 10 + digit((char) (data.get(offset + i) & 0xFF));
+        }
+        return negate ? -result : result;
+    }
+
     private static int digit(char ch) {
         int digit = ch - '0';
         if ((digit < 0) || (digit > 9)) {
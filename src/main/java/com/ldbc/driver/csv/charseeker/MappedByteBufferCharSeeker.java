@@ -0,0 +1,367 @@
+package com.ldbc.driver.csv.charseeker;
+
+import com.google.common.base.Charsets;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+
+import static java.lang.String.format;
+
+/**
+ * {@link CharSeeker} that seeks directly over the UTF-8 encoded bytes of a memory-mapped file, rather than over
+ * chars decoded by a {@link java.io.Reader}, with the same semantics as {@link BufferedCharSeeker}.
+ * <p/>
+ * Values are only decoded into chars when extracted, and not at all when the {@link Extractor} is also a
+ * {@link ByteBufferExtractor}, as the number extractors are. Column delimiters and the quote character must be ASCII.
+ * <p/>
+ * Files are mapped one window at a time, so files larger than 2GB can be read, and a value can not be larger than a
+ * window. As with {@link BufferedCharSeeker}, a {@link Mark} can only be extracted until the next call to
+ * {@link #seek(Mark, int[])}.
+ */
+public class MappedByteBufferCharSeeker implements CharSeeker
+{
+    private static final int MB = 1024 * 1024;
+    public static final int DEFAULT_WINDOW_SIZE = 256 * MB;
+
+    private static final int EOL_CHAR = '\n';
+    private static final int EOL_CHAR_2 = '\r';
+    private static final int EOF = -1;
+    private static final int BACK_SLASH = '\\';
+    private static final ByteBuffer EMPTY = ByteBuffer.allocate( 0 );
+
+    private final File file;
+    private final FileChannel channel;
+    private final long fileSize;
+    private final int windowSize;
+    private final int quoteChar;
+    private final CharsetDecoder decoder = Charsets.UTF_8.newDecoder()
+            .onMalformedInput( CodingErrorAction.REPLACE )
+            .onUnmappableCharacter( CodingErrorAction.REPLACE );
+
+    private ByteBuffer buffer = EMPTY;
+    // file position of the first byte of buffer
+    private long bufferStart;
+    // positions within buffer
+    private int bufferPos;
+    private int seekStartPos;
+    // file position
+    private long lineStartPos;
+    private int lineNumber = 1;
+    private boolean eof;
+
+    // reused when extracting values that need to be unescaped or decoded
+    private byte[] unescaped = new byte[0];
+    private ByteBuffer unescapedBuffer = ByteBuffer.wrap( unescaped );
+    private char[] chars = new char[0];
+
+    public MappedByteBufferCharSeeker( File file ) throws IOException
+    {
+        this( file, DEFAULT_WINDOW_SIZE, BufferedCharSeeker.DEFAULT_QUOTE_CHAR );
+    }
+
+    public MappedByteBufferCharSeeker( File file, int windowSize, char quoteChar ) throws IOException
+    {
+        this( file, windowSize, quoteChar, 0 );
+    }
+
+    /**
+     * Starts seeking from startPosition, which should be the start of a line, e.g., one returned by
+     * {@link #position()}. Line numbers are counted from there.
+     */
+    public MappedByteBufferCharSeeker( File file, int windowSize, char quoteChar, long startPosition )
+            throws IOException
+    {
+        if ( quoteChar > 0x7F )
+        {
+            throw new IllegalArgumentException( format( "Quote character must be ASCII: %s", quoteChar ) );
+        }
+        this.file = file;
+        this.channel = new RandomAccessFile( file, "r" ).getChannel();
+        this.fileSize = channel.size();
+        this.windowSize = windowSize;
+        this.quoteChar = quoteChar;
+        if ( startPosition < 0 || startPosition > fileSize )
+        {
+            channel.close();
+            throw new IllegalArgumentException(
+                    format( "Start position %s is outside of %s, of size %s", startPosition, file, fileSize ) );
+        }
+        this.lineStartPos = startPosition;
+        map( startPosition );
+    }
+
+    /**
+     * @return file position of the next value to seek, the start of the next line after the last value of a line was
+     * seeked
+     */
+    public long position()
+    {
+        return bufferStart + bufferPos;
+    }
+
+    @Override
+    public boolean seek( Mark mark, int[] untilOneOfChars ) throws IOException
+    {
+        if ( eof )
+        {
+            return eof( mark );
+        }
+
+        // seekStartPos is moved by nextByte when a new window is mapped, that is why it is a member
+        seekStartPos = bufferPos;
+        int ch;
+        int endOffset = 1;
+        int quoteDepth = 0;
+        while ( false == eof )
+        {
+            ch = nextByte();
+            if ( quoteDepth == 0 )
+            {
+                if ( ch == quoteChar && seekStartPos == bufferPos - 1 )
+                {
+                    // opening quote, only when it is the first character of the value
+                    quoteDepth++;
+                    seekStartPos++;
+                    continue;
+                }
+                else if ( isNewLine( ch ) )
+                {
+                    break;
+                }
+                else
+                {
+                    for ( int i = 0; i < untilOneOfChars.length; i++ )
+                    {
+                        if ( ch == untilOneOfChars[i] )
+                        {
+                            mark.set( lineNumber, bufferStart + seekStartPos, bufferStart + bufferPos - endOffset, ch );
+                            return true;
+                        }
+                    }
+                }
+            }
+            else
+            {
+                if ( ch == quoteChar )
+                {
+                    if ( peekByte() == quoteChar )
+                    {
+                        // double quote, i.e. an escaped quote
+                        bufferPos++;
+                        quoteDepth = quoteDepth == 1 ? 2 : 1;
+                    }
+                    else
+                    {
+                        // closing quote
+                        endOffset++;
+                        quoteDepth--;
+                    }
+                }
+                else if ( ch == BACK_SLASH && peekByte() == quoteChar )
+                {
+                    // java style escaped quote
+                    bufferPos++;
+                }
+            }
+        }
+
+        int valueLength = bufferPos - seekStartPos - 1;
+        if ( eof && valueLength == 0 && bufferStart + seekStartPos == lineStartPos )
+        {
+            return eof( mark );
+        }
+
+        // last value of the line or file
+        mark.set( lineNumber, bufferStart + seekStartPos, bufferStart + bufferPos - endOffset,
+                Mark.END_OF_LINE_CHARACTER );
+        skipEolChars();
+        lineNumber++;
+        lineStartPos = bufferStart + bufferPos;
+        return true;
+    }
+
+    @Override
+    public <EXTRACTOR extends Extractor<?>> EXTRACTOR extract( Mark mark, EXTRACTOR extractor )
+    {
+        long from = mark.startPosition();
+        long to = mark.position();
+        if ( from < bufferStart || to > bufferStart + buffer.limit() )
+        {
+            throw new IllegalStateException( format( "%s is no longer mapped, in %s", mark, this ) );
+        }
+        ByteBuffer data = buffer;
+        int offset = (int) (from - bufferStart);
+        int length = (int) (to - from);
+        if ( isQuoted( offset ) && containsEscapes( offset, length ) )
+        {
+            length = unescape( offset, length );
+            data = unescapedBuffer;
+            offset = 0;
+        }
+        if ( extractor instanceof ByteBufferExtractor )
+        {
+            ((ByteBufferExtractor) extractor).extract( data, offset, length );
+        }
+        else
+        {
+            // decode first, it may replace chars with a larger array
+            int charsLength = decode( data, offset, length );
+            extractor.extract( chars, 0, charsLength );
+        }
+        return extractor;
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        buffer = EMPTY;
+        channel.close();
+    }
+
+    @Override
+    public String toString()
+    {
+        return format( "%s[file:%s, window:%s-%s, seekPos:%s, line:%s]",
+                getClass().getSimpleName(), file, bufferStart, bufferStart + buffer.limit(),
+                bufferStart + seekStartPos, lineNumber );
+    }
+
+    private boolean eof( Mark mark )
+    {
+        mark.set( lineNumber, -1, -1, Mark.END_OF_LINE_CHARACTER );
+        return false;
+    }
+
+    private static boolean isNewLine( int ch )
+    {
+        return ch == EOL_CHAR || ch == EOL_CHAR_2;
+    }
+
+    private void skipEolChars() throws IOException
+    {
+        while ( isNewLine( nextByte() ) )
+        {
+            // skip
+        }
+        // since nextByte advances one step
+        bufferPos--;
+    }
+
+    // advances even at the end of the file, where it returns EOF, as BufferedCharSeeker does with its EOF_CHAR
+    private int nextByte() throws IOException
+    {
+        int ch = peekByte();
+        bufferPos++;
+        if ( ch == EOF )
+        {
+            eof = true;
+        }
+        return ch;
+    }
+
+    private int peekByte() throws IOException
+    {
+        if ( bufferPos >= buffer.limit() )
+        {
+            if ( bufferStart + buffer.limit() >= fileSize )
+            {
+                return EOF;
+            }
+            if ( seekStartPos <= 1 )
+            {
+                throw new IllegalStateException(
+                        format( "Tried to read in a value larger than window size %s, in %s", windowSize, this ) );
+            }
+            // the next window starts with the current value, and the byte before it, which may be an opening quote
+            int shift = seekStartPos - 1;
+            map( bufferStart + shift );
+            bufferPos -= shift;
+            seekStartPos = 1;
+        }
+        return buffer.get( bufferPos ) & 0xFF;
+    }
+
+    private void map( long position ) throws IOException
+    {
+        long size = Math.min( windowSize, fileSize - position );
+        bufferStart = position;
+        buffer = (size == 0) ? EMPTY : channel.map( FileChannel.MapMode.READ_ONLY, position, size );
+    }
+
+    private boolean isQuoted( int offset )
+    {
+        return offset > 0 && (buffer.get( offset - 1 ) & 0xFF) == quoteChar;
+    }
+
+    private boolean containsEscapes( int offset, int length )
+    {
+        for ( int i = offset; i < offset + length; i++ )
+        {
+            int ch = buffer.get( i ) & 0xFF;
+            if ( ch == quoteChar || ch == BACK_SLASH )
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // drops the first quote of each double quote, and the back slash of each back slash quote
+    private int unescape( int offset, int length )
+    {
+        if ( unescaped.length < length )
+        {
+            unescaped = new byte[length];
+            unescapedBuffer = ByteBuffer.wrap( unescaped );
+        }
+        int unescapedLength = 0;
+        int end = offset + length;
+        for ( int i = offset; i < end; i++ )
+        {
+            int ch = buffer.get( i ) & 0xFF;
+            if ( (ch == quoteChar || ch == BACK_SLASH) && i + 1 < end && (buffer.get( i + 1 ) & 0xFF) == quoteChar )
+            {
+                i++;
+            }
+            unescaped[unescapedLength++] = buffer.get( i );
+        }
+        return unescapedLength;
+    }
+
+    private int decode( ByteBuffer data, int offset, int length )
+    {
+        // a UTF-8 encoded value never has more chars than bytes
+        if ( chars.length < length )
+        {
+            chars = new char[length];
+        }
+        for ( int i = 0; i < length; i++ )
+        {
+            byte b = data.get( offset + i );
+            if ( b < 0 )
+            {
+                return decodeNonAscii( data, offset, length );
+            }
+            chars[i] = (char) b;
+        }
+        return length;
+    }
+
+    private int decodeNonAscii( ByteBuffer data, int offset, int length )
+    {
+        ByteBuffer in = data.duplicate();
+        in.limit( offset + length );
+        in.position( offset );
+        CharBuffer out = CharBuffer.wrap( chars );
+        decoder.reset();
+        decoder.decode( in, out, true );
+        decoder.flush( out );
+        return out.position();
+    }
+}
@@ -20,6 +20,7 @@
 package com.ldbc.driver.csv.charseeker;
 
 import java.io.*;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.Iterator;
@@ -149,6 +150,54 @@ public class Readables {
                 }
             };
 
+    /**
+     * Suffix of gzipped files, which are decompressed while reading by {@link #utf8(File)} and
+     * {@link #utf8ReadAhead(File, int)}.
+     */
+    public static final String GZIP_SUFFIX = ".gz";
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    public static boolean isGzipped(File file) {
+        return file.getName().endsWith(GZIP_SUFFIX);
+    }
+
+    /**
+     * @return the file, or the gzipped file of the same name if only that exists
+     */
+    public static File plainOrGzipped(File file) {
+        File gzippedFile = new File(file.getPath() + GZIP_SUFFIX);
+        return (!file.exists() && gzippedFile.exists()) ? gzippedFile : file;
+    }
+
+    /**
+     * @return bytes of the file, decompressed if it is {@link #isGzipped(File) gzipped}
+     */
+    public static InputStream inputStream(File file) throws IOException {
+        InputStream inputStream = new FileInputStream(file);
+        try {
+            return isGzipped(file) ? new GZIPInputStream(inputStream, GZIP_BUFFER_SIZE) : inputStream;
+        } catch (IOException e) {
+            inputStream.close();
+            throw e;
+        }
+    }
+
+    /**
+     * @return UTF-8 text of the file, decompressed while reading if it is {@link #isGzipped(File) gzipped}
+     */
+    public static CharReadable utf8(File file) throws IOException {
+        return wrap(new InputStreamReader(inputStream(file), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Like {@link #utf8(File)}, but gzipped files are read, and decompressed, by a
+     * {@link ThreadAheadReadable read-ahead thread}, so readers do not wait on decompression.
+     */
+    public static CharReadable utf8ReadAhead(File file, int bufferSize) throws IOException {
+        CharReadable readable = utf8(file);
+        return isGzipped(file) ? ThreadAheadReadable.threadAhead(readable, bufferSize) : readable;
+    }
+
     public static CharReadable file(File file) throws IOException {
         return FROM_FILE.apply(file);
     }
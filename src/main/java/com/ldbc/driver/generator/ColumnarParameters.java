@@ -0,0 +1,437 @@
+package com.ldbc.driver.generator;
+
+import com.google.common.base.Charsets;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import static java.lang.String.format;
+
+/**
+ * Substitution parameters held by column, rather than as rows of boxed values. Columns of {@link Long},
+ * {@link Integer} and {@link Date} values are held in long[], columns of {@link String} values as indexes into a pool
+ * of their distinct values, encoded as UTF-8 and indexed by offset. Columns of any other values (e.g., lists) are
+ * held as they are.
+ * <p>
+ * Parameters are read once, and repeated by {@link RepeatingCursor}, as {@link RepeatingGenerator} repeats rows.
+ */
+public class ColumnarParameters
+{
+    private enum ColumnType
+    {
+        LONG,
+        INT,
+        DATE,
+        STRING,
+        OBJECT
+    }
+
+    private final int rowCount;
+    private final ColumnType[] columnTypes;
+    private final long[][] longColumns;
+    private final int[][] stringColumns;
+    private final Object[][] objectColumns;
+    // strings of all columns, string i is stringPool[stringOffsets[i]] to stringPool[stringOffsets[i + 1]]
+    private final byte[] stringPool;
+    private final int[] stringOffsets;
+
+    /**
+     * Reads all rows, which must all have the same number of columns
+     */
+    public static ColumnarParameters load( Iterator<Object[]> rows )
+    {
+        Builder builder = new Builder();
+        while ( rows.hasNext() )
+        {
+            builder.add( rows.next() );
+        }
+        return builder.build();
+    }
+
+    private ColumnarParameters(
+            int rowCount,
+            ColumnType[] columnTypes,
+            long[][] longColumns,
+            int[][] stringColumns,
+            Object[][] objectColumns,
+            byte[] stringPool,
+            int[] stringOffsets )
+    {
+        this.rowCount = rowCount;
+        this.columnTypes = columnTypes;
+        this.longColumns = longColumns;
+        this.stringColumns = stringColumns;
+        this.objectColumns = objectColumns;
+        this.stringPool = stringPool;
+        this.stringOffsets = stringOffsets;
+    }
+
+    public int rowCount()
+    {
+        return rowCount;
+    }
+
+    public int columnCount()
+    {
+        return columnTypes.length;
+    }
+
+    public long longValue( int row, int column )
+    {
+        return longColumn( row, column, ColumnType.LONG );
+    }
+
+    public int intValue( int row, int column )
+    {
+        return (int) longColumn( row, column, ColumnType.INT );
+    }
+
+    public Date dateValue( int row, int column )
+    {
+        return new Date( longColumn( row, column, ColumnType.DATE ) );
+    }
+
+    public String stringValue( int row, int column )
+    {
+        checkColumnType( column, ColumnType.STRING );
+        int string = stringColumns[column][row];
+        int offset = stringOffsets[string];
+        return new String( stringPool, offset, stringOffsets[string + 1] - offset, Charsets.UTF_8 );
+    }
+
+    /**
+     * @return value of any column, as it was read
+     */
+    public Object value( int row, int column )
+    {
+        switch ( columnTypes[column] )
+        {
+        case LONG:
+            return longValue( row, column );
+        case INT:
+            return intValue( row, column );
+        case DATE:
+            return dateValue( row, column );
+        case STRING:
+            return stringValue( row, column );
+        default:
+            return objectColumns[column][row];
+        }
+    }
+
+    public Object[] row( int row )
+    {
+        Object[] values = new Object[columnTypes.length];
+        for ( int column = 0; column < columnTypes.length; column++ )
+        {
+            values[column] = value( row, column );
+        }
+        return values;
+    }
+
+    /**
+     * @return cursor that starts over from the first row once it passes the last one
+     */
+    public RepeatingCursor repeatingCursor()
+    {
+        return new RepeatingCursor( this );
+    }
+
+    /**
+     * Rows repeated like {@link RepeatingGenerator} does, each a new array of (boxed) values
+     */
+    public Iterator<Object[]> repeatingRows()
+    {
+        final RepeatingCursor cursor = repeatingCursor();
+        return new NoRemoveIterator<Object[]>()
+        {
+            @Override
+            public boolean hasNext()
+            {
+                return cursor.hasNext();
+            }
+
+            @Override
+            public Object[] next()
+            {
+                cursor.next();
+                return cursor.row();
+            }
+        };
+    }
+
+    private long longColumn( int row, int column, ColumnType columnType )
+    {
+        checkColumnType( column, columnType );
+        return longColumns[column][row];
+    }
+
+    private void checkColumnType( int column, ColumnType columnType )
+    {
+        if ( columnType != columnTypes[column] )
+        {
+            throw new GeneratorException(
+                    format( "Column %s holds %s values, not %s values", column, columnTypes[column], columnType ) );
+        }
+    }
+
+    /**
+     * Position in the rows of {@link ColumnarParameters}, moved to the next row by {@link #next()}, and back to the
+     * first row after the last one. Values of the current row are read without boxing.
+     */
+    public static class RepeatingCursor
+    {
+        private final ColumnarParameters parameters;
+        private int row = -1;
+
+        private RepeatingCursor( ColumnarParameters parameters )
+        {
+            this.parameters = parameters;
+        }
+
+        /**
+         * @return true unless there are no rows, as it repeats them forever
+         */
+        public boolean hasNext()
+        {
+            return parameters.rowCount > 0;
+        }
+
+        public void next()
+        {
+            if ( false == hasNext() )
+            {
+                throw new GeneratorException( "No parameters to repeat" );
+            }
+            row = (row + 1 == parameters.rowCount) ? 0 : row + 1;
+        }
+
+        public long longValue( int column )
+        {
+            return parameters.longValue( row, column );
+        }
+
+        public int intValue( int column )
+        {
+            return parameters.intValue( row, column );
+        }
+
+        public Date dateValue( int column )
+        {
+            return parameters.dateValue( row, column );
+        }
+
+        public String stringValue( int column )
+        {
+            return parameters.stringValue( row, column );
+        }
+
+        public Object value( int column )
+        {
+            return parameters.value( row, column );
+        }
+
+        public Object[] row()
+        {
+            return parameters.row( row );
+        }
+    }
+
+    private static class Builder
+    {
+        private int rowCount = 0;
+        private int capacity = 1024;
+        private ColumnType[] columnTypes = null;
+        private long[][] longColumns;
+        private int[][] stringColumns;
+        private Object[][] objectColumns;
+        private final Map<String,Integer> strings = new HashMap<>();
+        private byte[] stringPool = new byte[1024];
+        private int[] stringOffsets = new int[16];
+
+        private void add( Object[] row )
+        {
+            if ( null == columnTypes )
+            {
+                columnTypes = new ColumnType[row.length];
+                longColumns = new long[row.length][];
+                stringColumns = new int[row.length][];
+                objectColumns = new Object[row.length][];
+                for ( int column = 0; column < row.length; column++ )
+                {
+                    columnTypes[column] = columnTypeOf( row[column] );
+                    allocate( column, capacity );
+                }
+            }
+            else if ( row.length != columnTypes.length )
+            {
+                throw new GeneratorException(
+                        format( "Row %s has %s columns, previous rows have %s columns: %s", rowCount, row.length,
+                                columnTypes.length, Arrays.toString( row ) ) );
+            }
+            if ( rowCount == capacity )
+            {
+                capacity = capacity * 2;
+                for ( int column = 0; column < columnTypes.length; column++ )
+                {
+                    resize( column, capacity );
+                }
+            }
+            for ( int column = 0; column < columnTypes.length; column++ )
+            {
+                if ( columnTypes[column] != columnTypeOf( row[column] ) )
+                {
+                    toObjectColumn( column );
+                }
+                set( column, row[column] );
+            }
+            rowCount++;
+        }
+
+        private ColumnarParameters build()
+        {
+            if ( null == columnTypes )
+            {
+                return new ColumnarParameters( 0, new ColumnType[0], new long[0][], new int[0][], new Object[0][],
+                        new byte[0], new int[]{0} );
+            }
+            for ( int column = 0; column < columnTypes.length; column++ )
+            {
+                resize( column, rowCount );
+            }
+            int stringCount = strings.size();
+            int stringPoolSize = stringOffsets[stringCount];
+            return new ColumnarParameters(
+                    rowCount,
+                    columnTypes,
+                    longColumns,
+                    stringColumns,
+                    objectColumns,
+                    Arrays.copyOf( stringPool, stringPoolSize ),
+                    Arrays.copyOf( stringOffsets, stringCount + 1 )
+            );
+        }
+
+        private static ColumnType columnTypeOf( Object value )
+        {
+            if ( value instanceof Long )
+            {
+                return ColumnType.LONG;
+            }
+            else if ( value instanceof Integer )
+            {
+                return ColumnType.INT;
+            }
+            else if ( value instanceof Date )
+            {
+                return ColumnType.DATE;
+            }
+            else if ( value instanceof String )
+            {
+                return ColumnType.STRING;
+            }
+            else
+            {
+                return ColumnType.OBJECT;
+            }
+        }
+
+        private void set( int column, Object value )
+        {
+            switch ( columnTypes[column] )
+            {
+            case LONG:
+                longColumns[column][rowCount] = (long) value;
+                break;
+            case INT:
+                longColumns[column][rowCount] = (int) value;
+                break;
+            case DATE:
+                longColumns[column][rowCount] = ((Date) value).getTime();
+                break;
+            case STRING:
+                stringColumns[column][rowCount] = stringIndexOf( (String) value );
+                break;
+            default:
+                objectColumns[column][rowCount] = value;
+            }
+        }
+
+        private int stringIndexOf( String value )
+        {
+            Integer index = strings.get( value );
+            if ( null != index )
+            {
+                return index;
+            }
+            int newIndex = strings.size();
+            byte[] bytes = value.getBytes( Charsets.UTF_8 );
+            int offset = stringOffsets[newIndex];
+            if ( offset + bytes.length > stringPool.length )
+            {
+                stringPool = Arrays.copyOf( stringPool, Math.max( stringPool.length * 2, offset + bytes.length ) );
+            }
+            System.arraycopy( bytes, 0, stringPool, offset, bytes.length );
+            if ( newIndex + 2 > stringOffsets.length )
+            {
+                stringOffsets = Arrays.copyOf( stringOffsets, stringOffsets.length * 2 );
+            }
+            stringOffsets[newIndex + 1] = offset + bytes.length;
+            strings.put( value, newIndex );
+            return newIndex;
+        }
+
+        // column had values of more than one type, e.g., some missing, so it holds them as they are
+        private void toObjectColumn( int column )
+        {
+            Object[] objectColumn = new Object[capacity];
+            ColumnarParameters readSoFar = new ColumnarParameters( rowCount, columnTypes, longColumns, stringColumns,
+                    objectColumns, stringPool, stringOffsets );
+            for ( int row = 0; row < rowCount; row++ )
+            {
+                objectColumn[row] = readSoFar.value( row, column );
+            }
+            columnTypes[column] = ColumnType.OBJECT;
+            longColumns[column] = null;
+            stringColumns[column] = null;
+            objectColumns[column] = objectColumn;
+        }
+
+        private void allocate( int column, int size )
+        {
+            switch ( columnTypes[column] )
+            {
+            case LONG:
+            case INT:
+            case DATE:
+                longColumns[column] = new long[size];
+                break;
+            case STRING:
+                stringColumns[column] = new int[size];
+                break;
+            default:
+                objectColumns[column] = new Object[size];
+            }
+        }
+
+        private void resize( int column, int size )
+        {
+            switch ( columnTypes[column] )
+            {
+            case LONG:
+            case INT:
+            case DATE:
+                longColumns[column] = Arrays.copyOf( longColumns[column], size );
+                break;
+            case STRING:
+                stringColumns[column] = Arrays.copyOf( stringColumns[column], size );
+                break;
+            default:
+                objectColumns[column] = Arrays.copyOf( objectColumns[column], size );
+            }
+        }
+    }
+}
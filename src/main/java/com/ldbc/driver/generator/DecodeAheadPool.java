@@ -0,0 +1,231 @@
+package com.ldbc.driver.generator;
+
+import com.ldbc.driver.runtime.DefaultQueues;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.lang.String.format;
+
+/**
+ * Decodes streams ahead of their consumers, on a pool of background threads, so consumers (e.g., the threads
+ * dispatching operations) only take ready decoded elements.
+ * <p>
+ * Each stream is decoded into batches, handed to its consumer through its own bounded queue, which only ever has
+ * that one producer and one consumer. A stream is only decoded while its queue has room, pool threads never block
+ * on a full queue, so any number of streams can share fewer threads.
+ * <p>
+ * Streams must not be used by anything else once passed to {@link #decodeAhead(Iterator)}, and must be closed
+ * only after this pool is, as decoding may be in progress until then.
+ */
+public class DecodeAheadPool implements Closeable
+{
+    public static final int DEFAULT_BATCH_SIZE = 1024;
+    public static final int DEFAULT_BATCHES_PER_STREAM = 4;
+    private static final long SHUTDOWN_TIMEOUT_AS_MILLI = TimeUnit.MINUTES.toMillis( 1 );
+
+    private final ExecutorService executorService;
+    private final int batchSize;
+    private final int batchesPerStream;
+    private final AtomicBoolean closed = new AtomicBoolean( false );
+
+    public DecodeAheadPool( int threadCount )
+    {
+        this( threadCount, DEFAULT_BATCH_SIZE, DEFAULT_BATCHES_PER_STREAM );
+    }
+
+    public DecodeAheadPool( int threadCount, int batchSize, int batchesPerStream )
+    {
+        this.batchSize = batchSize;
+        this.batchesPerStream = batchesPerStream;
+        ThreadFactory threadFactory = new ThreadFactory()
+        {
+            private int count = 0;
+
+            @Override
+            public synchronized Thread newThread( Runnable runnable )
+            {
+                Thread thread = new Thread( runnable, DecodeAheadPool.class.getSimpleName() + "-thread(" + count++ + ")" );
+                thread.setDaemon( true );
+                return thread;
+            }
+        };
+        this.executorService = Executors.newFixedThreadPool( threadCount, threadFactory );
+    }
+
+    public <T> Iterator<T> decodeAhead( Iterator<T> stream )
+    {
+        DecodeAheadIterator<T> decodeAheadIterator = new DecodeAheadIterator<>( stream );
+        decodeAheadIterator.scheduleDecoding();
+        return decodeAheadIterator;
+    }
+
+    /**
+     * Stops decoding, returning once no stream is being decoded anymore
+     */
+    @Override
+    public void close()
+    {
+        if ( closed.compareAndSet( false, true ) )
+        {
+            executorService.shutdown();
+            try
+            {
+                if ( false == executorService.awaitTermination( SHUTDOWN_TIMEOUT_AS_MILLI, TimeUnit.MILLISECONDS ) )
+                {
+                    throw new GeneratorException( format( "%s did not shutdown within %s ms",
+                            getClass().getSimpleName(), SHUTDOWN_TIMEOUT_AS_MILLI ) );
+                }
+            }
+            catch ( InterruptedException e )
+            {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static class Batch<T>
+    {
+        private final List<T> elements;
+        private final boolean last;
+        private final RuntimeException error;
+
+        private Batch( List<T> elements, boolean last, RuntimeException error )
+        {
+            this.elements = elements;
+            this.last = last;
+            this.error = error;
+        }
+    }
+
+    private class DecodeAheadIterator<T> extends NoRemoveIterator<T> implements Runnable
+    {
+        private final Iterator<T> stream;
+        private final BlockingQueue<Batch<T>> batches = DefaultQueues.newBlockingBounded( batchesPerStream );
+        // true while decoding is submitted to, or running on, the pool
+        private final AtomicBoolean decoding = new AtomicBoolean( false );
+        // only accessed by the producer, i.e., the thread decoding
+        private boolean decoded = false;
+        // only accessed by the consumer
+        private Batch<T> batch = null;
+        private int batchIndex = 0;
+        private boolean finished = false;
+
+        private DecodeAheadIterator( Iterator<T> stream )
+        {
+            this.stream = stream;
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            while ( false == finished && (null == batch || batchIndex == batch.elements.size()) )
+            {
+                // elements decoded before an error are still returned
+                if ( null != batch && null != batch.error )
+                {
+                    finished = true;
+                    throw new GeneratorException( "Error decoding stream ahead", batch.error );
+                }
+                if ( null != batch && batch.last )
+                {
+                    finished = true;
+                    break;
+                }
+                batch = takeBatch();
+                batchIndex = 0;
+            }
+            return false == finished;
+        }
+
+        @Override
+        public T next()
+        {
+            if ( false == hasNext() )
+            {
+                throw new NoSuchElementException( "Stream is exhausted" );
+            }
+            return batch.elements.get( batchIndex++ );
+        }
+
+        private Batch<T> takeBatch()
+        {
+            try
+            {
+                Batch<T> takenBatch = batches.take();
+                // there is room in the queue now, resume decoding if it stopped because there was none
+                if ( false == takenBatch.last )
+                {
+                    scheduleDecoding();
+                }
+                return takenBatch;
+            }
+            catch ( InterruptedException e )
+            {
+                Thread.currentThread().interrupt();
+                throw new GeneratorException( "Interrupted while waiting for stream to be decoded", e );
+            }
+        }
+
+        private void scheduleDecoding()
+        {
+            if ( false == closed.get() && decoding.compareAndSet( false, true ) )
+            {
+                try
+                {
+                    executorService.execute( this );
+                }
+                catch ( RejectedExecutionException e )
+                {
+                    // pool was closed concurrently
+                    decoding.set( false );
+                }
+            }
+        }
+
+        @Override
+        public void run()
+        {
+            do
+            {
+                while ( false == decoded && false == closed.get() && batches.remainingCapacity() > 0 )
+                {
+                    batches.add( decodeBatch() );
+                }
+                decoding.set( false );
+                // the consumer may have taken a batch after the last capacity check, but before decoding was unset
+            }
+            while ( false == decoded && false == closed.get() && batches.remainingCapacity() > 0 &&
+                    decoding.compareAndSet( false, true ) );
+        }
+
+        private Batch<T> decodeBatch()
+        {
+            List<T> elements = new ArrayList<>( batchSize );
+            try
+            {
+                while ( elements.size() < batchSize && stream.hasNext() )
+                {
+                    elements.add( stream.next() );
+                }
+                decoded = elements.size() < batchSize;
+                return new Batch<>( elements, decoded, null );
+            }
+            catch ( RuntimeException e )
+            {
+                decoded = true;
+                return new Batch<>( elements, true, e );
+            }
+        }
+    }
+}
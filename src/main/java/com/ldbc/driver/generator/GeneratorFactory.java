@@ -520,18 +520,13 @@ public class GeneratorFactory
      */
     public Iterator<Operation> mergeSortOperationsByScheduledStartTime( Iterator<Operation>... generators )
     {
-        return mergeSort(
-                new Comparator<Operation>()
+        return new LoserTreeMergeGenerator<>(
+                new LoserTreeMergeGenerator.KeyFunction<Operation>()
                 {
                     @Override
-                    public int compare( Operation o1, Operation o2 )
+                    public long keyOf( Operation operation )
                     {
-                        if ( o1.scheduledStartTimeAsMilli() > o2.scheduledStartTimeAsMilli() )
-                        { return 1; }
-                        else if ( o1.scheduledStartTimeAsMilli() < o2.scheduledStartTimeAsMilli() )
-                        { return -1; }
-                        else
-                        { return 0; }
+                        return operation.scheduledStartTimeAsMilli();
                     }
                 },
                 generators
@@ -546,18 +541,13 @@ public class GeneratorFactory
      */
     public Iterator<Operation> mergeSortOperationsByTimeStamp( Iterator<Operation>... generators )
     {
-        return mergeSort(
-                new Comparator<Operation>()
+        return new LoserTreeMergeGenerator<>(
+                new LoserTreeMergeGenerator.KeyFunction<Operation>()
                 {
                     @Override
-                    public int compare( Operation o1, Operation o2 )
+                    public long keyOf( Operation operation )
                     {
-                        if ( o1.timeStamp() > o2.timeStamp() )
-                        { return 1; }
-                        else if ( o1.timeStamp() < o2.timeStamp() )
-                        { return -1; }
-                        else
-                        { return 0; }
+                        return operation.timeStamp();
                     }
                 },
                 generators
@@ -572,18 +562,13 @@ public class GeneratorFactory
      */
     public <T extends Number> Iterator<T> mergeSortNumbers( Iterator<T>... generators )
     {
-        return mergeSort(
-                new Comparator<T>()
+        return new LoserTreeMergeGenerator<>(
+                new LoserTreeMergeGenerator.KeyFunction<T>()
                 {
                     @Override
-                    public int compare( T t1, T t2 )
+                    public long keyOf( T number )
                     {
-                        if ( t1.longValue() > t2.longValue() )
-                        { return 1; }
-                        else if ( t1.longValue() < t2.longValue() )
-                        { return -1; }
-                        else
-                        { return 0; }
+                        return number.longValue();
                     }
                 },
                 generators
@@ -0,0 +1,132 @@
+package com.ldbc.driver.generator;
+
+import java.util.Iterator;
+
+/**
+ * Merges generators whose elements are ordered by a long key (e.g., the time stamp of operations) into one, ordered
+ * by that key, ascending. Elements with equal keys are returned in the order of the generators they come from.
+ * <p>
+ * Generators are merged by a tournament tree of losers, so each element takes log(k) comparisons of primitive keys
+ * to merge, where k is the number of generators.
+ */
+public class LoserTreeMergeGenerator<GENERATE_TYPE> extends Generator<GENERATE_TYPE>
+{
+    public interface KeyFunction<T>
+    {
+        long keyOf( T element );
+    }
+
+    private final KeyFunction<GENERATE_TYPE> keyFunction;
+    private final Iterator<GENERATE_TYPE>[] generators;
+    private final Object[] heads;
+    private final long[] keys;
+    private final boolean[] exhausted;
+    // loser of the match played at each node, node i plays the winners of nodes 2i and 2i+1, generator i is leaf k+i
+    private final int[] losers;
+    private int winner = -1;
+
+    @SafeVarargs
+    public LoserTreeMergeGenerator( KeyFunction<GENERATE_TYPE> keyFunction, Iterator<GENERATE_TYPE>... generators )
+    {
+        this.keyFunction = keyFunction;
+        this.generators = generators;
+        this.heads = new Object[generators.length];
+        this.keys = new long[generators.length];
+        this.exhausted = new boolean[generators.length];
+        this.losers = new int[generators.length];
+    }
+
+    @Override
+    @SuppressWarnings( "unchecked" )
+    protected GENERATE_TYPE doNext() throws GeneratorException
+    {
+        if ( 0 == generators.length )
+        {
+            return null;
+        }
+        if ( -1 == winner )
+        {
+            // generators are only read from once the first element is requested
+            build();
+        }
+        if ( exhausted[winner] )
+        {
+            return null;
+        }
+        GENERATE_TYPE next = (GENERATE_TYPE) heads[winner];
+        advance( winner );
+        replay( winner );
+        return next;
+    }
+
+    private void build()
+    {
+        int k = generators.length;
+        int[] winners = new int[2 * k];
+        for ( int i = 0; i < k; i++ )
+        {
+            advance( i );
+            winners[k + i] = i;
+        }
+        for ( int node = k - 1; node >= 1; node-- )
+        {
+            int left = winners[2 * node];
+            int right = winners[2 * node + 1];
+            if ( beats( left, right ) )
+            {
+                winners[node] = left;
+                losers[node] = right;
+            }
+            else
+            {
+                winners[node] = right;
+                losers[node] = left;
+            }
+        }
+        winner = winners[1];
+    }
+
+    private void replay( int generator )
+    {
+        int candidate = generator;
+        for ( int node = (generator + generators.length) / 2; node >= 1; node = node / 2 )
+        {
+            if ( beats( losers[node], candidate ) )
+            {
+                int loser = candidate;
+                candidate = losers[node];
+                losers[node] = loser;
+            }
+        }
+        winner = candidate;
+    }
+
+    private void advance( int generator )
+    {
+        if ( generators[generator].hasNext() )
+        {
+            GENERATE_TYPE head = generators[generator].next();
+            heads[generator] = head;
+            keys[generator] = keyFunction.keyOf( head );
+        }
+        else
+        {
+            heads[generator] = null;
+            exhausted[generator] = true;
+        }
+    }
+
+    // exhausted generators lose to all others, ties on key are won by the earlier generator
+    private boolean beats( int generator, int otherGenerator )
+    {
+        if ( exhausted[generator] != exhausted[otherGenerator] )
+        {
+            return exhausted[otherGenerator];
+        }
+        if ( keys[generator] != keys[otherGenerator] )
+        {
+            return keys[generator] < keys[otherGenerator];
+        }
+        return generator < otherGenerator;
+    }
+}
@@ -0,0 +1,128 @@
+package com.ldbc.driver.generator;
+
+import com.ldbc.driver.Operation;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+import static java.lang.String.format;
+
+/**
+ * Merges streams of operations that are each scheduled periodically, i.e., operation i of a stream starts at
+ * first start time + i * interval, into one stream ordered by start time, ascending. Operations of streams due at the
+ * same time are returned in the order the streams were added.
+ * <p>
+ * Equivalent to merging {@link GeneratorFactory#assignStartTimes(Iterator, Iterator)} streams of
+ * {@link GeneratorFactory#incrementing(Number, Number)} start times by time stamp, but start times are computed from
+ * the interval of each stream and kept in a heap of primitive next due times, so only the operation that is due is
+ * taken from its stream.
+ */
+public class PeriodicOperationScheduler extends Generator<Operation>
+{
+    private Iterator<Operation>[] streams = new Iterator[0];
+    private long[] nextDueTimesAsMilli = new long[0];
+    private long[] intervalsAsMilli = new long[0];
+    // indexes of streams that are not exhausted, as a binary min heap ordered by next due time, then index
+    private int[] heap = new int[0];
+    private int heapSize = 0;
+
+    /**
+     * @param firstStartTimeAsMilli start time of the first operation of the stream
+     * @param intervalAsMilli time between start times of consecutive operations of the stream
+     * @param operations operations of the stream, to which start times are assigned
+     */
+    public PeriodicOperationScheduler addStream( long firstStartTimeAsMilli, long intervalAsMilli,
+            Iterator<Operation> operations )
+    {
+        if ( intervalAsMilli < 0 )
+        {
+            throw new GeneratorException( format( "Interval must not be negative: %s", intervalAsMilli ) );
+        }
+        int stream = streams.length;
+        streams = Arrays.copyOf( streams, stream + 1 );
+        nextDueTimesAsMilli = Arrays.copyOf( nextDueTimesAsMilli, stream + 1 );
+        intervalsAsMilli = Arrays.copyOf( intervalsAsMilli, stream + 1 );
+        heap = Arrays.copyOf( heap, stream + 1 );
+        streams[stream] = operations;
+        nextDueTimesAsMilli[stream] = firstStartTimeAsMilli;
+        intervalsAsMilli[stream] = intervalAsMilli;
+        heap[heapSize] = stream;
+        heapSize++;
+        siftUp( heapSize - 1 );
+        return this;
+    }
+
+    @Override
+    protected Operation doNext() throws GeneratorException
+    {
+        while ( heapSize > 0 )
+        {
+            int stream = heap[0];
+            if ( streams[stream].hasNext() )
+            {
+                long startTimeAsMilli = nextDueTimesAsMilli[stream];
+                Operation operation = streams[stream].next();
+                operation.setScheduledStartTimeAsMilli( startTimeAsMilli );
+                operation.setTimeStamp( startTimeAsMilli );
+                nextDueTimesAsMilli[stream] = startTimeAsMilli + intervalsAsMilli[stream];
+                siftDown( 0 );
+                return operation;
+            }
+            else
+            {
+                heapSize--;
+                heap[0] = heap[heapSize];
+                siftDown( 0 );
+            }
+        }
+        return null;
+    }
+
+    private void siftUp( int position )
+    {
+        while ( position > 0 )
+        {
+            int parent = (position - 1) / 2;
+            if ( false == isDueBefore( heap[position], heap[parent] ) )
+            {
+                return;
+            }
+            swap( position, parent );
+            position = parent;
+        }
+    }
+
+    private void siftDown( int position )
+    {
+        while ( true )
+        {
+            int left = 2 * position + 1;
+            if ( left >= heapSize )
+            {
+                return;
+            }
+            int right = left + 1;
+            int first = (right < heapSize && isDueBefore( heap[right], heap[left] )) ? right : left;
+            if ( false == isDueBefore( heap[first], heap[position] ) )
+            {
+                return;
+            }
+            swap( position, first );
+            position = first;
+        }
+    }
+
+    private boolean isDueBefore( int stream, int otherStream )
+    {
+        return (nextDueTimesAsMilli[stream] == nextDueTimesAsMilli[otherStream])
+               ? stream < otherStream
+               : nextDueTimesAsMilli[stream] < nextDueTimesAsMilli[otherStream];
+    }
+
+    private void swap( int position, int otherPosition )
+    {
+        int stream = heap[position];
+        heap[position] = heap[otherPosition];
+        heap[otherPosition] = stream;
+    }
+}
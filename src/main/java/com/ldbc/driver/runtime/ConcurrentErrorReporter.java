@@ -60,6 +60,11 @@ public class ConcurrentErrorReporter
         return !syncGetErrorMessages().isEmpty();
     }
 
+    public int errorCount()
+    {
+        return syncGetErrorMessages().size();
+    }
+
     List<ErrorReport> errorMessages()
     {
         return syncGetErrorMessages();
@@ -0,0 +1,109 @@
+package com.ldbc.driver.runtime;
+
+import com.ldbc.driver.runtime.coordination.CompletionTimeService;
+import com.ldbc.driver.runtime.executor.OperationExecutor;
+import com.ldbc.driver.runtime.metrics.LiveMetricsExporter;
+import com.ldbc.driver.runtime.metrics.LiveMetricsSnapshot;
+import com.ldbc.driver.runtime.metrics.MetricsService.MetricsServiceWriter;
+import com.ldbc.driver.runtime.metrics.WorkloadResultsSnapshot;
+import com.ldbc.driver.runtime.metrics.WorkloadStatusSnapshot;
+import com.ldbc.driver.runtime.scheduling.Spinner;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.lang.String.format;
+
+/**
+ * Periodically takes metrics snapshots and publishes them to a {@link LiveMetricsExporter}, so that exporters never
+ * have to query the metrics service themselves
+ */
+class LiveMetricsThread extends Thread
+{
+    private final long publishIntervalAsMilli;
+    private final LiveMetricsExporter liveMetricsExporter;
+    private final MetricsServiceWriter metricsServiceWriter;
+    private final ConcurrentErrorReporter errorReporter;
+    private final CompletionTimeService completionTimeService;
+    private final OperationExecutor executorForAsynchronous;
+    private final List<OperationExecutor> executorsForBlocking;
+    private final AtomicBoolean continueRunning = new AtomicBoolean( true );
+
+    LiveMetricsThread(
+            long publishIntervalAsMilli,
+            LiveMetricsExporter liveMetricsExporter,
+            MetricsServiceWriter metricsServiceWriter,
+            ConcurrentErrorReporter errorReporter,
+            CompletionTimeService completionTimeService,
+            OperationExecutor executorForAsynchronous,
+            List<OperationExecutor> executorsForBlocking )
+    {
+        super( LiveMetricsThread.class.getSimpleName() + "-" + System.currentTimeMillis() );
+        this.publishIntervalAsMilli = publishIntervalAsMilli;
+        this.liveMetricsExporter = liveMetricsExporter;
+        this.metricsServiceWriter = metricsServiceWriter;
+        this.errorReporter = errorReporter;
+        this.completionTimeService = completionTimeService;
+        this.executorForAsynchronous = executorForAsynchronous;
+        this.executorsForBlocking = executorsForBlocking;
+    }
+
+    @Override
+    public void run()
+    {
+        while ( continueRunning.get() )
+        {
+            try
+            {
+                publish();
+                Spinner.powerNap( publishIntervalAsMilli );
+            }
+            catch ( Throwable e )
+            {
+                errorReporter.reportError(
+                        this,
+                        format(
+                                "Live metrics thread encountered unexpected error - exiting\n%s",
+                                ConcurrentErrorReporter.stackTraceToString( e )
+                        )
+                );
+                break;
+            }
+        }
+    }
+
+    private void publish() throws Exception
+    {
+        WorkloadStatusSnapshot status = metricsServiceWriter.status();
+        WorkloadResultsSnapshot results = metricsServiceWriter.results();
+        Map<String,Long> uncompletedOperationHandlerCounts = new LinkedHashMap<>();
+        uncompletedOperationHandlerCounts.put(
+                "asynchronous",
+                executorForAsynchronous.uncompletedOperationHandlerCount() );
+        for ( int i = 0; i < executorsForBlocking.size(); i++ )
+        {
+            uncompletedOperationHandlerCounts.put(
+                    "blocking_" + i,
+                    executorsForBlocking.get( i ).uncompletedOperationHandlerCount() );
+        }
+        liveMetricsExporter.publish(
+                new LiveMetricsSnapshot(
+                        System.currentTimeMillis(),
+                        status.runDurationAsMilli(),
+                        status.operationCount(),
+                        status.throughput(),
+                        completionTimeService.completionTimeAsMilli(),
+                        errorReporter.errorCount(),
+                        uncompletedOperationHandlerCounts,
+                        results
+                )
+        );
+    }
+
+    synchronized public final void shutdown()
+    {
+        continueRunning.set( false );
+    }
+}
@@ -13,8 +13,11 @@ import com.ldbc.driver.runtime.executor.OperationExecutorException;
 import com.ldbc.driver.runtime.executor.OperationStreamExecutorService;
 import com.ldbc.driver.runtime.executor.SameThreadOperationExecutor;
 import com.ldbc.driver.runtime.executor.ThreadPoolOperationExecutor;
+import com.ldbc.driver.runtime.metrics.DriverOverheadRecorder;
+import com.ldbc.driver.runtime.metrics.LiveMetricsExporter;
 import com.ldbc.driver.runtime.metrics.MetricsCollectionException;
 import com.ldbc.driver.runtime.metrics.MetricsService;
+import com.ldbc.driver.runtime.metrics.OperationTracer;
 import com.ldbc.driver.runtime.scheduling.Spinner;
 import com.ldbc.driver.temporal.TimeSource;
 
@@ -50,6 +53,86 @@ public class WorkloadRunner
             long spinnerSleepDurationAsMilli,
             boolean ignoreScheduleStartTimes,
             int operationHandlerExecutorsBoundedQueueSize ) throws WorkloadException, MetricsCollectionException
+    {
+        this(
+                timeSource,
+                db,
+                workloadStreams,
+                metricsService,
+                errorReporter,
+                completionTimeService,
+                loggingServiceFactory,
+                threadCount,
+                statusDisplayIntervalAsSeconds,
+                spinnerSleepDurationAsMilli,
+                ignoreScheduleStartTimes,
+                operationHandlerExecutorsBoundedQueueSize,
+                null,
+                0
+        );
+    }
+
+    /**
+     * @param liveMetricsExporter receives metrics snapshots while the workload runs, may be null
+     * @param liveMetricsIntervalAsMilli interval between snapshots published to liveMetricsExporter
+     */
+    public WorkloadRunner(
+            TimeSource timeSource,
+            Db db,
+            WorkloadStreams workloadStreams,
+            MetricsService metricsService,
+            ConcurrentErrorReporter errorReporter,
+            CompletionTimeService completionTimeService,
+            LoggingServiceFactory loggingServiceFactory,
+            int threadCount,
+            long statusDisplayIntervalAsSeconds,
+            long spinnerSleepDurationAsMilli,
+            boolean ignoreScheduleStartTimes,
+            int operationHandlerExecutorsBoundedQueueSize,
+            LiveMetricsExporter liveMetricsExporter,
+            long liveMetricsIntervalAsMilli ) throws WorkloadException, MetricsCollectionException
+    {
+        this(
+                timeSource,
+                db,
+                workloadStreams,
+                metricsService,
+                errorReporter,
+                completionTimeService,
+                loggingServiceFactory,
+                threadCount,
+                statusDisplayIntervalAsSeconds,
+                spinnerSleepDurationAsMilli,
+                ignoreScheduleStartTimes,
+                operationHandlerExecutorsBoundedQueueSize,
+                liveMetricsExporter,
+                liveMetricsIntervalAsMilli,
+                null,
+                null
+        );
+    }
+
+    /**
+     * @param driverOverheadRecorder records time operations spend in the driver around their execution, may be null
+     * @param operationTracer traces the lifecycle of individual operations, may be null
+     */
+    public WorkloadRunner(
+            TimeSource timeSource,
+            Db db,
+            WorkloadStreams workloadStreams,
+            MetricsService metricsService,
+            ConcurrentErrorReporter errorReporter,
+            CompletionTimeService completionTimeService,
+            LoggingServiceFactory loggingServiceFactory,
+            int threadCount,
+            long statusDisplayIntervalAsSeconds,
+            long spinnerSleepDurationAsMilli,
+            boolean ignoreScheduleStartTimes,
+            int operationHandlerExecutorsBoundedQueueSize,
+            LiveMetricsExporter liveMetricsExporter,
+            long liveMetricsIntervalAsMilli,
+            DriverOverheadRecorder driverOverheadRecorder,
+            OperationTracer operationTracer ) throws WorkloadException, MetricsCollectionException
     {
         this.workloadRunnerFuture = new WorkloadRunnerFuture(
                 timeSource,
@@ -63,7 +146,11 @@ public class WorkloadRunner
                 statusDisplayIntervalAsSeconds,
                 spinnerSleepDurationAsMilli,
                 ignoreScheduleStartTimes,
-                operationHandlerExecutorsBoundedQueueSize
+                operationHandlerExecutorsBoundedQueueSize,
+                liveMetricsExporter,
+                liveMetricsIntervalAsMilli,
+                driverOverheadRecorder,
+                operationTracer
         );
     }
 
@@ -93,7 +180,11 @@ public class WorkloadRunner
                 long statusDisplayIntervalAsSeconds,
                 long spinnerSleepDurationAsMilli,
                 boolean ignoreScheduleStartTimes,
-                int operationHandlerExecutorsBoundedQueueSize ) throws MetricsCollectionException, WorkloadException
+                int operationHandlerExecutorsBoundedQueueSize,
+                LiveMetricsExporter liveMetricsExporter,
+                long liveMetricsIntervalAsMilli,
+                DriverOverheadRecorder driverOverheadRecorder,
+                OperationTracer operationTracer ) throws MetricsCollectionException, WorkloadException
         {
             this.workloadRunnerThread = new WorkloadRunnerThread(
                     timeSource,
@@ -107,7 +198,11 @@ public class WorkloadRunner
                     statusDisplayIntervalAsSeconds,
                     spinnerSleepDurationAsMilli,
                     ignoreScheduleStartTimes,
-                    operationHandlerExecutorsBoundedQueueSize
+                    operationHandlerExecutorsBoundedQueueSize,
+                    liveMetricsExporter,
+                    liveMetricsIntervalAsMilli,
+                    driverOverheadRecorder,
+                    operationTracer
             );
             this.timeSource = timeSource;
             this.errorReporter = errorReporter;
@@ -271,6 +366,7 @@ public class WorkloadRunner
     {
         private final Spinner spinner;
         private WorkloadStatusThread workloadStatusThread;
+        private LiveMetricsThread liveMetricsThread = null;
         private final ConcurrentErrorReporter errorReporter;
         private final OperationExecutor executorForAsynchronous;
         private final List<OperationExecutor> executorsForBlocking = new ArrayList<>();
@@ -296,7 +392,11 @@ public class WorkloadRunner
                 long statusDisplayIntervalAsSeconds,
                 long spinnerSleepDurationAsMilli,
                 boolean ignoreScheduleStartTimes,
-                int operationHandlerExecutorsBoundedQueueSize ) throws WorkloadException, MetricsCollectionException
+                int operationHandlerExecutorsBoundedQueueSize,
+                LiveMetricsExporter liveMetricsExporter,
+                long liveMetricsIntervalAsMilli,
+                DriverOverheadRecorder driverOverheadRecorder,
+                OperationTracer operationTracer ) throws WorkloadException, MetricsCollectionException
         {
             this.errorReporter = errorReporter;
             this.statusDisplayIntervalAsMilli = statusDisplayIntervalAsSeconds;
@@ -338,7 +438,9 @@ public class WorkloadRunner
                     timeSource,
                     errorReporter,
                     metricsService,
-                    asynchronousStream.childOperationGenerator()
+                    asynchronousStream.childOperationGenerator(),
+                    driverOverheadRecorder,
+                    operationTracer
             );
             this.asynchronousStreamExecutorService = new OperationStreamExecutorService(
                     errorReporter,
@@ -371,7 +473,9 @@ public class WorkloadRunner
                         timeSource,
                         errorReporter,
                         metricsService,
-                        blockingStream.childOperationGenerator()
+                        blockingStream.childOperationGenerator(),
+                        driverOverheadRecorder,
+                        operationTracer
                 );
                 this.executorsForBlocking.add( executorForBlocking );
                 this.blockingStreamExecutorServices.add(
@@ -383,6 +487,18 @@ public class WorkloadRunner
                         )
                 );
             }
+            if ( null != liveMetricsExporter )
+            {
+                this.liveMetricsThread = new LiveMetricsThread(
+                        liveMetricsIntervalAsMilli,
+                        liveMetricsExporter,
+                        metricsService.getWriter(),
+                        errorReporter,
+                        completionTimeService,
+                        executorForAsynchronous,
+                        executorsForBlocking
+                );
+            }
             this.stateRef = new AtomicReference<>( WorkloadRunnerThreadState.NOT_STARTED );
         }
 
@@ -398,6 +514,10 @@ public class WorkloadRunner
             {
                 workloadStatusThread.start();
             }
+            if ( null != liveMetricsThread )
+            {
+                liveMetricsThread.start();
+            }
 
             AtomicBoolean[] executorFinishedFlags = new AtomicBoolean[blockingStreamExecutorServices.size() + 1];
             executorFinishedFlags[0] = asynchronousStreamExecutorService.execute();
@@ -545,6 +665,20 @@ public class WorkloadRunner
                 );
             }
 
+            if ( null != liveMetricsThread )
+            {
+                liveMetricsThread.shutdown();
+                liveMetricsThread.interrupt();
+                try
+                {
+                    liveMetricsThread.join();
+                }
+                catch ( InterruptedException e )
+                {
+                    // do nothing
+                }
+            }
+
             if ( statusDisplayIntervalAsMilli > 0 )
             {
                 System.out.println( "Shutting down status thread..." );
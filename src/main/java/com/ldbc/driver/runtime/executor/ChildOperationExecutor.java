@@ -11,10 +11,7 @@ public class ChildOperationExecutor
 {
     public void execute(
             ChildOperationGenerator childOperationGenerator,
-            Operation operation,
-            Object result,
-            long actualStartTimeAsMilli,
-            long runDurationAsNano,
+            OperationHandlerRunnableContext parentOperationHandlerRunnableContext,
             OperationHandlerRunnableContextRetriever operationHandlerRunnableContextRetriever )
             throws WorkloadException, DbException, OperationExecutorException, CompletionTimeException
     {
@@ -27,17 +24,19 @@ public class ChildOperationExecutor
             if ( null != childOperationGenerator )
             {
                 double state = childOperationGenerator.initialState();
-                operation = childOperationGenerator.nextOperation(
+                Operation operation = childOperationGenerator.nextOperation(
                         state,
-                        operation,
-                        result,
-                        actualStartTimeAsMilli,
-                        runDurationAsNano
+                        parentOperationHandlerRunnableContext.operation(),
+                        parentOperationHandlerRunnableContext.resultReporter().result(),
+                        parentOperationHandlerRunnableContext.resultReporter().actualStartTimeAsMilli(),
+                        parentOperationHandlerRunnableContext.resultReporter().runDurationAsNano()
                 );
                 while ( null != operation )
                 {
                     OperationHandlerRunnableContext childOperationHandlerRunnableContext =
                             operationHandlerRunnableContextRetriever.getInitializedHandlerFor( operation );
+                    childOperationHandlerRunnableContext.setParentTraceId(
+                            parentOperationHandlerRunnableContext.traceId() );
                     childOperationHandlerRunnableContext.run();
                     state = childOperationGenerator.updateState( state, operation.type() );
                     operation = childOperationGenerator.nextOperation(
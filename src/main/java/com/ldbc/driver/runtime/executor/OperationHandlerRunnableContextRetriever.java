@@ -10,7 +10,9 @@ import com.ldbc.driver.runtime.coordination.CompletionTimeException;
 import com.ldbc.driver.runtime.coordination.CompletionTimeReader;
 import com.ldbc.driver.runtime.coordination.CompletionTimeWriter;
 import com.ldbc.driver.runtime.coordination.DummyCompletionTimeWriter;
+import com.ldbc.driver.runtime.metrics.DriverOverheadRecorder;
 import com.ldbc.driver.runtime.metrics.MetricsService;
+import com.ldbc.driver.runtime.metrics.OperationTracer;
 import com.ldbc.driver.runtime.scheduling.CtDependencyCheck;
 import com.ldbc.driver.runtime.scheduling.Spinner;
 import com.ldbc.driver.temporal.TimeSource;
@@ -32,7 +34,13 @@ class OperationHandlerRunnableContextRetriever
     private final Set<Class<? extends Operation>> dependencyOperationTypes;
     private final Set<Class<? extends Operation>> dependentOperationTypes;
     private final CtDependencyCheck ctDependencyCheck;
+    private final DriverOverheadRecorder driverOverheadRecorder;
+    private final OperationTracer operationTracer;
 
+    /**
+     * @param driverOverheadRecorder null to not record driver overhead
+     * @param operationTracer null to not trace operations
+     */
     OperationHandlerRunnableContextRetriever(
             WorkloadStreams.WorkloadStreamDefinition streamDefinition,
             Db db,
@@ -41,7 +49,9 @@ class OperationHandlerRunnableContextRetriever
             Spinner spinner,
             TimeSource timeSource,
             ConcurrentErrorReporter errorReporter,
-            MetricsService metricsService )
+            MetricsService metricsService,
+            DriverOverheadRecorder driverOverheadRecorder,
+            OperationTracer operationTracer )
     {
         this.db = db;
         this.completionTimeWriter = completionTimeWriter;
@@ -52,11 +62,16 @@ class OperationHandlerRunnableContextRetriever
         this.dependentOperationTypes = streamDefinition.dependentOperationTypes();
         this.dependencyOperationTypes = streamDefinition.dependencyOperationTypes();
         this.ctDependencyCheck = new CtDependencyCheck( completionTimeReader, errorReporter );
+        this.driverOverheadRecorder = driverOverheadRecorder;
+        this.operationTracer = operationTracer;
     }
 
     OperationHandlerRunnableContext getInitializedHandlerFor( Operation operation )
             throws OperationExecutorException, CompletionTimeException, DbException
     {
+        // handlers are retrieved by the thread dispatching the operation, before it is queued for execution
+        boolean instrumented = null != driverOverheadRecorder || null != operationTracer;
+        long dispatchTimeAsNano = (instrumented) ? timeSource.nanoSnapshot() : -1;
         OperationHandlerRunnableContext operationHandlerRunnableContext;
         try
         {
@@ -92,11 +107,20 @@ class OperationHandlerRunnableContextRetriever
         {
             throw new OperationExecutorException( format( "Error initializing handler for: %s", operation ), e );
         }
+        operationHandlerRunnableContext.recycleOperationOnCleanup();
         // TODO this should really be a Set<Integer> --> even PrimitiveIntSet
         if ( dependentOperationTypes.contains( operation.getClass() ) )
         {
             operationHandlerRunnableContext.setBeforeExecuteCheck( ctDependencyCheck );
         }
+        if ( instrumented )
+        {
+            operationHandlerRunnableContext.setDriverInstrumentation(
+                    driverOverheadRecorder,
+                    operationTracer,
+                    Thread.currentThread(),
+                    dispatchTimeAsNano );
+        }
         return operationHandlerRunnableContext;
     }
 }
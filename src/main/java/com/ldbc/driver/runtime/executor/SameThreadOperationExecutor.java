@@ -8,7 +8,9 @@ import com.ldbc.driver.WorkloadStreams;
 import com.ldbc.driver.runtime.ConcurrentErrorReporter;
 import com.ldbc.driver.runtime.coordination.CompletionTimeReader;
 import com.ldbc.driver.runtime.coordination.CompletionTimeWriter;
+import com.ldbc.driver.runtime.metrics.DriverOverheadRecorder;
 import com.ldbc.driver.runtime.metrics.MetricsService;
+import com.ldbc.driver.runtime.metrics.OperationTracer;
 import com.ldbc.driver.runtime.scheduling.Spinner;
 import com.ldbc.driver.temporal.TimeSource;
 
@@ -32,6 +34,36 @@ public class SameThreadOperationExecutor implements OperationExecutor
             ConcurrentErrorReporter errorReporter,
             MetricsService metricsService,
             ChildOperationGenerator childOperationGenerator )
+    {
+        this(
+                db,
+                streamDefinition,
+                completionTimeWriter,
+                completionTimeReader,
+                spinner,
+                timeSource,
+                errorReporter,
+                metricsService,
+                childOperationGenerator,
+                null,
+                null );
+    }
+
+    /**
+     * @param driverOverheadRecorder null to not record driver overhead
+     * @param operationTracer null to not trace operations
+     */
+    public SameThreadOperationExecutor( Db db,
+            WorkloadStreams.WorkloadStreamDefinition streamDefinition,
+            CompletionTimeWriter completionTimeWriter,
+            CompletionTimeReader completionTimeReader,
+            Spinner spinner,
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            MetricsService metricsService,
+            ChildOperationGenerator childOperationGenerator,
+            DriverOverheadRecorder driverOverheadRecorder,
+            OperationTracer operationTracer )
     {
         this.childOperationExecutor = new ChildOperationExecutor();
         this.childOperationGenerator = childOperationGenerator;
@@ -43,7 +75,9 @@ public class SameThreadOperationExecutor implements OperationExecutor
                 spinner,
                 timeSource,
                 errorReporter,
-                metricsService );
+                metricsService,
+                driverOverheadRecorder,
+                operationTracer );
     }
 
     @Override
@@ -58,10 +92,7 @@ public class SameThreadOperationExecutor implements OperationExecutor
             operationHandlerRunnableContext.run();
             childOperationExecutor.execute(
                     childOperationGenerator,
-                    operationHandlerRunnableContext.operation(),
-                    operationHandlerRunnableContext.resultReporter().result(),
-                    operationHandlerRunnableContext.resultReporter().actualStartTimeAsMilli(),
-                    operationHandlerRunnableContext.resultReporter().runDurationAsNano(),
+                    operationHandlerRunnableContext,
                     operationHandlerRunnableContextRetriever
             );
         }
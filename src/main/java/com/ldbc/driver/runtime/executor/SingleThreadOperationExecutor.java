@@ -76,7 +76,9 @@ public class SingleThreadOperationExecutor implements OperationExecutor
                         spinner,
                         timeSource,
                         errorReporter,
-                        metricsService
+                        metricsService,
+                        null,
+                        null
                 );
 
         this.executorThread = new SingleThreadOperationExecutorThread(
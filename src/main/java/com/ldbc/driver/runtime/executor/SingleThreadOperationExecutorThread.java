@@ -53,10 +53,7 @@ public class SingleThreadOperationExecutorThread extends Thread
                 operationHandlerRunnableContext.run();
                 childOperationExecutor.execute(
                         childOperationGenerator,
-                        operationHandlerRunnableContext.operation(),
-                        operationHandlerRunnableContext.resultReporter().result(),
-                        operationHandlerRunnableContext.resultReporter().actualStartTimeAsMilli(),
-                        operationHandlerRunnableContext.resultReporter().runDurationAsNano(),
+                        operationHandlerRunnableContext,
                         operationHandlerRunnableContextRetriever
                 );
                 operation = operationQueueEventFetcher.fetchNextEvent();
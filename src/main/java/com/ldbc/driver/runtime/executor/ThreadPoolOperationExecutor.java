@@ -9,7 +9,9 @@ import com.ldbc.driver.runtime.ConcurrentErrorReporter;
 import com.ldbc.driver.runtime.DefaultQueues;
 import com.ldbc.driver.runtime.coordination.CompletionTimeReader;
 import com.ldbc.driver.runtime.coordination.CompletionTimeWriter;
+import com.ldbc.driver.runtime.metrics.DriverOverheadRecorder;
 import com.ldbc.driver.runtime.metrics.MetricsService;
+import com.ldbc.driver.runtime.metrics.OperationTracer;
 import com.ldbc.driver.runtime.scheduling.Spinner;
 import com.ldbc.driver.temporal.TimeSource;
 
@@ -42,6 +44,41 @@ public class ThreadPoolOperationExecutor implements OperationExecutor
             ConcurrentErrorReporter errorReporter,
             MetricsService metricsService,
             ChildOperationGenerator childOperationGenerator )
+    {
+        this(
+                threadCount,
+                boundedQueueSize,
+                db,
+                streamDefinition,
+                completionTimeWriter,
+                completionTimeReader,
+                spinner,
+                timeSource,
+                errorReporter,
+                metricsService,
+                childOperationGenerator,
+                null,
+                null
+        );
+    }
+
+    /**
+     * @param driverOverheadRecorder null to not record driver overhead
+     * @param operationTracer null to not trace operations
+     */
+    public ThreadPoolOperationExecutor( int threadCount,
+            int boundedQueueSize,
+            Db db,
+            WorkloadStreams.WorkloadStreamDefinition streamDefinition,
+            CompletionTimeWriter completionTimeWriter,
+            CompletionTimeReader completionTimeReader,
+            Spinner spinner,
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            MetricsService metricsService,
+            ChildOperationGenerator childOperationGenerator,
+            DriverOverheadRecorder driverOverheadRecorder,
+            OperationTracer operationTracer )
     {
         this.operationHandlerRunnableContextRetriever = new OperationHandlerRunnableContextRetriever(
                 streamDefinition,
@@ -51,7 +88,9 @@ public class ThreadPoolOperationExecutor implements OperationExecutor
                 spinner,
                 timeSource,
                 errorReporter,
-                metricsService
+                metricsService,
+                driverOverheadRecorder,
+                operationTracer
         );
         ThreadFactory threadFactory = new ThreadFactory()
         {
@@ -208,10 +247,7 @@ public class ThreadPoolOperationExecutor implements OperationExecutor
             {
                 childOperationExecutor.execute(
                         childOperationGenerator,
-                        operationHandlerRunnableContext.operation(),
-                        operationHandlerRunnableContext.resultReporter().result(),
-                        operationHandlerRunnableContext.resultReporter().actualStartTimeAsMilli(),
-                        operationHandlerRunnableContext.resultReporter().runDurationAsNano(),
+                        operationHandlerRunnableContext,
                         operationHandlerRunnableContextRetriever
                 );
             }
@@ -0,0 +1,212 @@
+package com.ldbc.driver.runtime.metrics;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import static com.ldbc.driver.runtime.metrics.BinaryResultsLogWriter.MAGIC;
+import static com.ldbc.driver.runtime.metrics.BinaryResultsLogWriter.RECORD_SIZE_IN_BYTES;
+import static com.ldbc.driver.runtime.metrics.BinaryResultsLogWriter.RECORD_WITH_RESULT_CARDINALITY_SIZE_IN_BYTES;
+import static com.ldbc.driver.runtime.metrics.BinaryResultsLogWriter.VERSION;
+import static com.ldbc.driver.runtime.metrics.BinaryResultsLogWriter.VERSION_WITH_RESULT_CARDINALITY;
+import static java.lang.String.format;
+
+/**
+ * Reads results logs written by {@link BinaryResultsLogWriter}.
+ * Records are read from memory-mapped windows of the file, so logs larger than 2GB are supported.
+ */
+public class BinaryResultsLogReader implements ResultsLogReader
+{
+    private static final int WINDOW_SIZE_IN_BYTES = 256 * 1024 * 1024;
+
+    private final RandomAccessFile file;
+    private final FileChannel channel;
+    private final TimeUnit unit;
+    private final boolean hasResultCardinality;
+    private final int recordSizeInBytes;
+    private final int recordsPerWindow;
+    private final String[] operationNames;
+    private final long recordsOffset;
+    private final long recordCount;
+    private MappedByteBuffer window = null;
+    private long windowStartRecord = 0;
+    private long currentRecord = -1;
+    private int recordPosition = -1;
+
+    public BinaryResultsLogReader( File resultsLog ) throws IOException
+    {
+        this.file = new RandomAccessFile( resultsLog, "r" );
+        this.channel = file.getChannel();
+        try
+        {
+            if ( file.length() < 4 * 4 || MAGIC != file.readInt() )
+            {
+                throw new IOException( format( "Not a binary results log: %s", resultsLog.getAbsolutePath() ) );
+            }
+            int version = file.readInt();
+            if ( VERSION != version && VERSION_WITH_RESULT_CARDINALITY != version )
+            {
+                throw new IOException( format( "Unsupported binary results log version: %s", version ) );
+            }
+            this.hasResultCardinality = VERSION_WITH_RESULT_CARDINALITY == version;
+            this.recordSizeInBytes = (hasResultCardinality)
+                                     ? RECORD_WITH_RESULT_CARDINALITY_SIZE_IN_BYTES
+                                     : RECORD_SIZE_IN_BYTES;
+            this.recordsPerWindow = WINDOW_SIZE_IN_BYTES / recordSizeInBytes;
+            this.unit = TimeUnit.values()[file.readInt()];
+            this.operationNames = new String[file.readInt()];
+            for ( int i = 0; i < operationNames.length; i++ )
+            {
+                int nameLength = file.readInt();
+                if ( nameLength >= 0 )
+                {
+                    byte[] nameBytes = new byte[nameLength];
+                    file.readFully( nameBytes );
+                    operationNames[i] = new String( nameBytes, StandardCharsets.UTF_8 );
+                }
+            }
+            this.recordsOffset = file.getFilePointer();
+            long recordsSizeInBytes = file.length() - recordsOffset;
+            if ( 0 != recordsSizeInBytes % recordSizeInBytes )
+            {
+                throw new IOException( format( "Binary results log is truncated: %s", resultsLog.getAbsolutePath() ) );
+            }
+            this.recordCount = recordsSizeInBytes / recordSizeInBytes;
+        }
+        catch ( IOException e )
+        {
+            file.close();
+            throw e;
+        }
+    }
+
+    public long recordCount()
+    {
+        return recordCount;
+    }
+
+    public String[] operationNames()
+    {
+        return operationNames;
+    }
+
+    @Override
+    public boolean next()
+    {
+        if ( currentRecord + 1 >= recordCount )
+        {
+            currentRecord = recordCount;
+            recordPosition = -1;
+            return false;
+        }
+        currentRecord++;
+        if ( null == window || currentRecord >= windowStartRecord + recordsPerWindow )
+        {
+            mapWindowStartingAt( currentRecord );
+        }
+        recordPosition = (int) (currentRecord - windowStartRecord) * recordSizeInBytes;
+        return true;
+    }
+
+    private void mapWindowStartingAt( long record )
+    {
+        long recordsInWindow = Math.min( recordsPerWindow, recordCount - record );
+        try
+        {
+            window = channel.map(
+                    FileChannel.MapMode.READ_ONLY,
+                    recordsOffset + record * recordSizeInBytes,
+                    recordsInWindow * recordSizeInBytes );
+            windowStartRecord = record;
+        }
+        catch ( IOException e )
+        {
+            throw new RuntimeException( format( "Error mapping results log from record %s", record ), e );
+        }
+    }
+
+    @Override
+    public TimeUnit unit()
+    {
+        return unit;
+    }
+
+    public int getOperationType()
+    {
+        assertRecordPresent();
+        return window.getInt( recordPosition );
+    }
+
+    @Override
+    public String getOperationName()
+    {
+        return operationNames[getOperationType()];
+    }
+
+    @Override
+    public long getScheduledStartTimeAsMilli()
+    {
+        assertRecordPresent();
+        return window.getLong( recordPosition + 4 );
+    }
+
+    @Override
+    public long getActualStartTimeAsMilli()
+    {
+        assertRecordPresent();
+        return window.getLong( recordPosition + 12 );
+    }
+
+    @Override
+    public long getRunDurationAsNano()
+    {
+        assertRecordPresent();
+        return window.getLong( recordPosition + 20 );
+    }
+
+    @Override
+    public int getResultCode()
+    {
+        assertRecordPresent();
+        return window.getInt( recordPosition + 28 );
+    }
+
+    @Override
+    public long getOriginalStartTime()
+    {
+        assertRecordPresent();
+        return window.getLong( recordPosition + 32 );
+    }
+
+    @Override
+    public boolean hasResultCardinality()
+    {
+        return hasResultCardinality;
+    }
+
+    @Override
+    public int getResultCardinality()
+    {
+        assertRecordPresent();
+        return (hasResultCardinality) ? window.getInt( recordPosition + 40 ) : -1;
+    }
+
+    private void assertRecordPresent()
+    {
+        if ( -1 == recordPosition )
+        {
+            throw new RuntimeException( "Nothing to read. Reader has not been advanced or has reached EOF." );
+        }
+    }
+
+    @Override
+    public void close() throws Exception
+    {
+        window = null;
+        file.close();
+    }
+}
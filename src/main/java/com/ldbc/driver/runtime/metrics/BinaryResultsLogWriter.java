@@ -0,0 +1,203 @@
+package com.ldbc.driver.runtime.metrics;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+
+/**
+ * Results log made of fixed width binary records, appended to the file through a large direct buffer.
+ * <p>
+ * Layout (big endian):
+ * <pre>
+ * header:  magic (int) | version (int) | unit ordinal (int) | operation name count (int) |
+ *          per operation type: name length in bytes (int, -1 if absent) | UTF-8 name bytes
+ * records: operation type (int) | scheduled start time (long) | actual start time (long) |
+ *          run duration as nano (long) | result code (int) | original start time (long) |
+ *          result cardinality (int, version 2 only)
+ * </pre>
+ * Version 1 logs do not contain result cardinalities, version 2 logs do.
+ * Durations are stored in nanoseconds, the unit in the header is the one the log should be reported in.
+ * Use {@link BinaryResultsLogReader} to read it and {@link ResultsLogCsvConverter} to convert it to CSV.
+ */
+public class BinaryResultsLogWriter implements ResultsLogWriter
+{
+    static final int MAGIC = 0x4C524C47;
+    static final int VERSION = 1;
+    static final int VERSION_WITH_RESULT_CARDINALITY = 2;
+    static final int RECORD_SIZE_IN_BYTES = 4 + 8 + 8 + 8 + 4 + 8;
+    static final int RECORD_WITH_RESULT_CARDINALITY_SIZE_IN_BYTES = RECORD_SIZE_IN_BYTES + 4;
+    static final int DEFAULT_BUFFER_SIZE_IN_BYTES = 4 * 1024 * 1024;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private final Map<String,Integer> operationTypes;
+    private final boolean includeResultCardinality;
+    private final int recordSizeInBytes;
+    private boolean closed = false;
+
+    public BinaryResultsLogWriter( File resultsLog, TimeUnit unit, String[] operationNames ) throws IOException
+    {
+        this( resultsLog, unit, operationNames, DEFAULT_BUFFER_SIZE_IN_BYTES, false );
+    }
+
+    public BinaryResultsLogWriter( File resultsLog, TimeUnit unit, String[] operationNames,
+            boolean includeResultCardinality ) throws IOException
+    {
+        this( resultsLog, unit, operationNames, DEFAULT_BUFFER_SIZE_IN_BYTES, includeResultCardinality );
+    }
+
+    public BinaryResultsLogWriter( File resultsLog, TimeUnit unit, String[] operationNames, int bufferSizeInBytes )
+            throws IOException
+    {
+        this( resultsLog, unit, operationNames, bufferSizeInBytes, false );
+    }
+
+    public BinaryResultsLogWriter( File resultsLog, TimeUnit unit, String[] operationNames, int bufferSizeInBytes,
+            boolean includeResultCardinality ) throws IOException
+    {
+        this.includeResultCardinality = includeResultCardinality;
+        this.recordSizeInBytes = (includeResultCardinality)
+                                 ? RECORD_WITH_RESULT_CARDINALITY_SIZE_IN_BYTES
+                                 : RECORD_SIZE_IN_BYTES;
+        if ( bufferSizeInBytes < recordSizeInBytes )
+        {
+            throw new IOException( format( "Buffer size (%s) must be at least one record (%s)",
+                    bufferSizeInBytes, recordSizeInBytes ) );
+        }
+        this.operationTypes = new HashMap<>();
+        for ( int operationType = 0; operationType < operationNames.length; operationType++ )
+        {
+            if ( null != operationNames[operationType] )
+            {
+                operationTypes.put( operationNames[operationType], operationType );
+            }
+        }
+        RandomAccessFile file = new RandomAccessFile( resultsLog, "rw" );
+        file.setLength( 0 );
+        this.channel = file.getChannel();
+        this.buffer = ByteBuffer.allocateDirect( bufferSizeInBytes );
+        writeHeader( unit, operationNames );
+    }
+
+    private void writeHeader( TimeUnit unit, String[] operationNames ) throws IOException
+    {
+        ByteBuffer header = ByteBuffer.allocate( headerSizeInBytes( operationNames ) );
+        header.putInt( MAGIC );
+        header.putInt( (includeResultCardinality) ? VERSION_WITH_RESULT_CARDINALITY : VERSION );
+        header.putInt( unit.ordinal() );
+        header.putInt( operationNames.length );
+        for ( String operationName : operationNames )
+        {
+            if ( null == operationName )
+            {
+                header.putInt( -1 );
+            }
+            else
+            {
+                byte[] nameBytes = operationName.getBytes( StandardCharsets.UTF_8 );
+                header.putInt( nameBytes.length );
+                header.put( nameBytes );
+            }
+        }
+        header.flip();
+        while ( header.hasRemaining() )
+        {
+            channel.write( header );
+        }
+    }
+
+    private static int headerSizeInBytes( String[] operationNames )
+    {
+        int size = 4 * 4;
+        for ( String operationName : operationNames )
+        {
+            size += 4;
+            if ( null != operationName )
+            {
+                size += operationName.getBytes( StandardCharsets.UTF_8 ).length;
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public void write(
+            String operationName,
+            long scheduledStartTimeAsMilli,
+            long actualStartTimeAsMilli,
+            long runDurationAsNano,
+            int resultCode,
+            long originalStartTime ) throws IOException
+    {
+        write( operationName, scheduledStartTimeAsMilli, actualStartTimeAsMilli, runDurationAsNano, resultCode,
+                originalStartTime, -1 );
+    }
+
+    @Override
+    public void write(
+            String operationName,
+            long scheduledStartTimeAsMilli,
+            long actualStartTimeAsMilli,
+            long runDurationAsNano,
+            int resultCode,
+            long originalStartTime,
+            int resultCardinality ) throws IOException
+    {
+        Integer operationType = operationTypes.get( operationName );
+        if ( null == operationType )
+        {
+            throw new IOException( format( "Unknown operation: %s", operationName ) );
+        }
+        if ( buffer.remaining() < recordSizeInBytes )
+        {
+            flush();
+        }
+        buffer.putInt( operationType );
+        buffer.putLong( scheduledStartTimeAsMilli );
+        buffer.putLong( actualStartTimeAsMilli );
+        buffer.putLong( runDurationAsNano );
+        buffer.putInt( resultCode );
+        buffer.putLong( originalStartTime );
+        if ( includeResultCardinality )
+        {
+            buffer.putInt( resultCardinality );
+        }
+    }
+
+    private void flush() throws IOException
+    {
+        buffer.flip();
+        while ( buffer.hasRemaining() )
+        {
+            channel.write( buffer );
+        }
+        buffer.clear();
+    }
+
+    @Override
+    public void close() throws Exception
+    {
+        if ( closed )
+        {
+            return;
+        }
+        closed = true;
+        try
+        {
+            flush();
+            channel.force( false );
+        }
+        finally
+        {
+            channel.close();
+        }
+    }
+}
@@ -28,11 +28,28 @@ public class ContinuousMetricManager
         this.unit = unit;
     }
 
+    /**
+     * Histogram auto-resizes to the highest recorded value, for measurements without a known upper bound
+     *
+     * @param unit null for measurements that are not durations
+     */
+    public ContinuousMetricManager( String name, TimeUnit unit, int numberOfSignificantDigits )
+    {
+        histogram = new Histogram( numberOfSignificantDigits );
+        this.name = name;
+        this.unit = unit;
+    }
+
     public void addMeasurement( long value )
     {
         histogram.recordValue( value );
     }
 
+    public void addMeasurements( Histogram measurements )
+    {
+        histogram.add( measurements );
+    }
+
     public ContinuousMetricSnapshot snapshot()
     {
         return new ContinuousMetricSnapshot(
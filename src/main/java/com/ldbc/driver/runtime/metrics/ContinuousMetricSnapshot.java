@@ -1,5 +1,6 @@
 package com.ldbc.driver.runtime.metrics;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import java.util.Objects;
@@ -9,7 +10,9 @@ public class ContinuousMetricSnapshot
 {
     @JsonProperty( value = "name" )
     private String name;
+    // absent for measurements that are not durations, e.g., result cardinality
     @JsonProperty( value = "unit" )
+    @JsonInclude( JsonInclude.Include.NON_NULL )
     private TimeUnit unit;
     @JsonProperty( value = "count" )
     private long count;
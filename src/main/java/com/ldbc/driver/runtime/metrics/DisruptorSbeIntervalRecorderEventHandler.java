@@ -0,0 +1,78 @@
+package com.ldbc.driver.runtime.metrics;
+
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.metrics.sbe.MetricsEvent;
+import com.lmax.disruptor.EventHandler;
+import org.HdrHistogram.Recorder;
+import uk.co.real_logic.sbe.codec.java.DirectBuffer;
+
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+
+/**
+ * Disruptor consumer that only records runtimes of submitted operation results into per operation type interval
+ * {@link Recorder}s, e.g., those of an {@link IntervalHistogramLoggingMetricsService}
+ */
+class DisruptorSbeIntervalRecorderEventHandler implements EventHandler<DirectBuffer>
+{
+    private final ConcurrentErrorReporter errorReporter;
+    private final Recorder[] recorders;
+    private final TimeUnit unit;
+    private final long highestExpectedRuntimeDurationAsNano;
+    private final MetricsEvent metricsEvent;
+    private volatile long processedEventCount = 0L;
+
+    DisruptorSbeIntervalRecorderEventHandler(
+            ConcurrentErrorReporter errorReporter,
+            Recorder[] recorders,
+            TimeUnit unit,
+            long highestExpectedRuntimeDurationAsNano )
+    {
+        this.errorReporter = errorReporter;
+        this.recorders = recorders;
+        this.unit = unit;
+        this.highestExpectedRuntimeDurationAsNano = highestExpectedRuntimeDurationAsNano;
+        this.metricsEvent = new MetricsEvent();
+    }
+
+    long processedEventCount()
+    {
+        return processedEventCount;
+    }
+
+    @Override
+    public void onEvent( DirectBuffer event, long l, boolean b ) throws Exception
+    {
+        metricsEvent.wrapForDecode(
+                event,
+                DisruptorSbeMetricsEvent.MESSAGE_HEADER_SIZE,
+                DisruptorSbeMetricsEvent.ACTING_BLOCK_LENGTH,
+                DisruptorSbeMetricsEvent.ACTING_VERSION
+        );
+
+        switch ( metricsEvent.eventType() )
+        {
+        case DisruptorSbeMetricsEvent.SUBMIT_OPERATION_RESULT:
+        {
+            long runtime = unit.convert(
+                    Math.min( metricsEvent.runDurationAsNano(), highestExpectedRuntimeDurationAsNano ),
+                    TimeUnit.NANOSECONDS );
+            recorders[metricsEvent.operationType()].recordValue( runtime );
+            processedEventCount++;
+            break;
+        }
+        case DisruptorSbeMetricsEvent.GET_WORKLOAD_STATUS:
+        case DisruptorSbeMetricsEvent.GET_WORKLOAD_RESULTS:
+        {
+            // answered by the aggregating consumer
+            break;
+        }
+        default:
+        {
+            errorReporter.reportError( this, format( "Encountered unexpected event: %s", event.toString() ) );
+            break;
+        }
+        }
+    }
+}
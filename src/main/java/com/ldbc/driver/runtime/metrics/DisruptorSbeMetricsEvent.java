@@ -44,7 +44,7 @@ public class DisruptorSbeMetricsEvent {
 
         @Override
         public DirectBuffer newInstance() {
-            final ByteBuffer byteBuffer = ByteBuffer.allocateDirect(64);
+            final ByteBuffer byteBuffer = ByteBuffer.allocateDirect(128);
             DirectBuffer directBuffer = new DirectBuffer(byteBuffer);
             messageHeader.wrap(directBuffer, 0, MESSAGE_TEMPLATE_VERSION)
                     .blockLength(metricsEvent.sbeBlockLength())
@@ -55,6 +55,21 @@ public class DisruptorSbeMetricsEvent {
         }
     }
 
+    /**
+     * @param phaseDurationsAsNano indexed by phase slot, or null if no phases were reported
+     */
+    static void encodePhaseDurations(MetricsEvent metricsEvent, long[] phaseDurationsAsNano) {
+        for (int slot = 0; slot < MetricsEvent.phaseDurationsAsNanoLength(); slot++) {
+            metricsEvent.phaseDurationsAsNano(slot, (null == phaseDurationsAsNano) ? -1 : phaseDurationsAsNano[slot]);
+        }
+    }
+
+    static void decodePhaseDurations(MetricsEvent metricsEvent, long[] phaseDurationsAsNano) {
+        for (int slot = 0; slot < MetricsEvent.phaseDurationsAsNanoLength(); slot++) {
+            phaseDurationsAsNano[slot] = metricsEvent.phaseDurationsAsNano(slot);
+        }
+    }
+
     public static String toString(DirectBuffer event) {
         final MetricsEvent metricsEvent = new MetricsEvent();
         metricsEvent.wrapForDecode(event, MESSAGE_HEADER_SIZE, ACTING_BLOCK_LENGTH, ACTING_VERSION);
@@ -66,6 +81,11 @@ public class DisruptorSbeMetricsEvent {
                 ", runDurationAsNano=" + metricsEvent.runDurationAsNano() +
                 ", resultCode=" + metricsEvent.resultCode() +
                 ", originalStartTime=" + metricsEvent.originalStartTime() +
+                ", phaseDurationsAsNano=[" + metricsEvent.phaseDurationsAsNano(0) +
+                "," + metricsEvent.phaseDurationsAsNano(1) +
+                "," + metricsEvent.phaseDurationsAsNano(2) +
+                "," + metricsEvent.phaseDurationsAsNano(3) + "]" +
+                ", resultCardinality=" + metricsEvent.resultCardinality() +
                 '}';
     }
 }
\ No newline at end of file
@@ -14,6 +14,9 @@ import java.util.concurrent.atomic.AtomicStampedReference;
 
 import static java.lang.String.format;
 
+/**
+ * Disruptor consumer that aggregates submitted operation results and answers status and results requests
+ */
 class DisruptorSbeMetricsEventHandler implements EventHandler<DirectBuffer>
 {
     private final AtomicStampedReference<WorkloadStatusSnapshot> statusSnapshotReference =
@@ -23,14 +26,12 @@ class DisruptorSbeMetricsEventHandler implements EventHandler<DirectBuffer>
 
     private final MetricsManager metricsManager;
     private final ConcurrentErrorReporter errorReporter;
-    private final ResultsLogWriter resultsLogWriter;
-    private long processedEventCount = 0L;
-    private final String[] operationNames;
+    private volatile long processedEventCount = 0L;
     private final MetricsEvent metricsEvent;
+    private final long[] phaseDurationsAsNano = new long[MetricsEvent.phaseDurationsAsNanoLength()];
 
     DisruptorSbeMetricsEventHandler(
             ConcurrentErrorReporter errorReporter,
-            ResultsLogWriter resultsLogWriter,
             TimeUnit unit,
             TimeSource timeSource,
             long maxRuntimeDurationAsNano,
@@ -38,14 +39,12 @@ class DisruptorSbeMetricsEventHandler implements EventHandler<DirectBuffer>
             LoggingServiceFactory loggingServiceFactory ) throws MetricsCollectionException
     {
         this.errorReporter = errorReporter;
-        this.resultsLogWriter = resultsLogWriter;
         this.metricsManager = new MetricsManager(
                 timeSource,
                 unit,
                 maxRuntimeDurationAsNano,
                 operationTypeToClassMapping,
                 loggingServiceFactory );
-        operationNames = MetricsManager.toOperationNameArray( operationTypeToClassMapping );
         this.metricsEvent = new MetricsEvent();
     }
 
@@ -79,21 +78,14 @@ class DisruptorSbeMetricsEventHandler implements EventHandler<DirectBuffer>
         case DisruptorSbeMetricsEvent.SUBMIT_OPERATION_RESULT:
         {
             int operationType = metricsEvent.operationType();
-            long scheduledStartTimeAsMilli = metricsEvent.scheduledStartTimeAsMilli();
             long actualStartTimeAsMilli = metricsEvent.actualStartTimeAsMilli();
             long runDurationAsNano = metricsEvent.runDurationAsNano();
-            int resultCode = metricsEvent.resultCode();
-            long originalStartTime = metricsEvent.originalStartTime();
-
-            resultsLogWriter.write(
-                    operationNames[operationType],
-                    scheduledStartTimeAsMilli,
-                    actualStartTimeAsMilli,
-                    runDurationAsNano,
-                    resultCode,
-                    originalStartTime );
 
+            // results log is written by a separate consumer, so slow disk does not hold up aggregation
             metricsManager.measure( actualStartTimeAsMilli, runDurationAsNano, operationType );
+            DisruptorSbeMetricsEvent.decodePhaseDurations( metricsEvent, phaseDurationsAsNano );
+            metricsManager.measurePhases( operationType, phaseDurationsAsNano );
+            metricsManager.measureResultCardinality( operationType, metricsEvent.resultCardinality() );
             processedEventCount++;
             break;
         }
@@ -1,19 +1,29 @@
 package com.ldbc.driver.runtime.metrics;
 
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.control.DriverRuntimeConfiguration.MetricsWaitStrategy;
+import com.ldbc.driver.control.LoggingService;
 import com.ldbc.driver.control.LoggingServiceFactory;
 import com.ldbc.driver.runtime.ConcurrentErrorReporter;
 import com.ldbc.driver.runtime.metrics.sbe.MetricsEvent;
 import com.ldbc.driver.temporal.TimeSource;
 import com.lmax.disruptor.BlockingWaitStrategy;
+import com.lmax.disruptor.BusySpinWaitStrategy;
+import com.lmax.disruptor.EventHandler;
 import com.lmax.disruptor.EventTranslator;
 import com.lmax.disruptor.EventTranslatorVararg;
+import com.lmax.disruptor.LiteBlockingWaitStrategy;
 import com.lmax.disruptor.RingBuffer;
+import com.lmax.disruptor.SleepingWaitStrategy;
 import com.lmax.disruptor.TimeoutException;
+import com.lmax.disruptor.WaitStrategy;
+import com.lmax.disruptor.YieldingWaitStrategy;
 import com.lmax.disruptor.dsl.Disruptor;
 import com.lmax.disruptor.dsl.ProducerType;
+import org.HdrHistogram.Recorder;
 import uk.co.real_logic.sbe.codec.java.DirectBuffer;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentLinkedQueue;
@@ -23,6 +33,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicStampedReference;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.LockSupport;
 
 import static com.ldbc.driver.runtime.metrics.DisruptorSbeMetricsEvent.GET_WORKLOAD_RESULTS;
@@ -39,12 +50,35 @@ public class DisruptorSbeMetricsService implements MetricsService
     // TODO this could come from config, if we had a max_runtime parameter. for now, it can default to something
     public static final long DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO = TimeUnit.MINUTES.toNanos( 90 );
 
+    public static final int DEFAULT_RING_BUFFER_SIZE = 1024;
+
+    public static WaitStrategy waitStrategyFor( MetricsWaitStrategy metricsWaitStrategy )
+    {
+        switch ( metricsWaitStrategy )
+        {
+        case LITE_BLOCKING:
+            return new LiteBlockingWaitStrategy();
+        case SLEEPING:
+            return new SleepingWaitStrategy();
+        case YIELDING:
+            return new YieldingWaitStrategy();
+        case BUSY_SPIN:
+            return new BusySpinWaitStrategy();
+        default:
+            return new BlockingWaitStrategy();
+        }
+    }
+
     private final AtomicLong initiatedEvents = new AtomicLong( 0 );
     private final AtomicBoolean shutdown = new AtomicBoolean( false );
+    private final ProducerBackPressure producerBackPressure = new ProducerBackPressure();
     private final TimeSource timeSource;
+    private final LoggingService loggingService;
     private final RingBuffer<DirectBuffer> ringBuffer;
     private final Disruptor<DirectBuffer> disruptor;
     private final DisruptorSbeMetricsEventHandler eventHandler;
+    private final DisruptorSbeResultsLogEventHandler resultsLogEventHandler;
+    private final DisruptorSbeIntervalRecorderEventHandler intervalRecorderEventHandler;
     private final ConcurrentLinkedQueue<DisruptorSbeMetricsServiceWriter> metricsServiceWriters;
     private final ExecutorService executor;
 
@@ -57,40 +91,103 @@ public class DisruptorSbeMetricsService implements MetricsService
             Map<Integer,Class<? extends Operation>> operationTypeToClassMapping,
             LoggingServiceFactory loggingServiceFactory ) throws MetricsCollectionException
     {
-        // Specify the size of the ring buffer, must be power of 2
-        int bufferSize = 1024;
-
-        this.executor = Executors.newSingleThreadExecutor();
-        // Construct the Disruptor
-        disruptor = new Disruptor(
-                new MetricsCollectionEventFactory(),
-                bufferSize,
-                // Executor that will be used to construct new threads for consumers
-                this.executor,
-                ProducerType.MULTI,
-                new BlockingWaitStrategy()
-//                new LiteBlockingWaitStrategy()
-//                new SleepingWaitStrategy()
-//                new YieldingWaitStrategy()
-//                new BusySpinWaitStrategy()
-//                new TimeoutBlockingWaitStrategy()
-//                new PhasedBackoffWaitStrategy()
+        this(
+                timeSource,
+                errorReporter,
+                timeUnit,
+                maxRuntimeDurationAsNano,
+                resultsLogWriter,
+                operationTypeToClassMapping,
+                loggingServiceFactory,
+                DEFAULT_RING_BUFFER_SIZE,
+                new BlockingWaitStrategy(),
+                null
         );
+    }
 
-        // Connect the handler
+    /**
+     * Aggregation, results log writing and (optionally) interval recording are done by parallel consumers of the
+     * same events, so none of them holds up the others
+     *
+     * @param ringBufferSize must be a power of 2
+     * @param intervalRecorders per operation type recorders to also record runtimes into, or null
+     */
+    public DisruptorSbeMetricsService(
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            TimeUnit timeUnit,
+            long maxRuntimeDurationAsNano,
+            ResultsLogWriter resultsLogWriter,
+            Map<Integer,Class<? extends Operation>> operationTypeToClassMapping,
+            LoggingServiceFactory loggingServiceFactory,
+            int ringBufferSize,
+            WaitStrategy waitStrategy,
+            Recorder[] intervalRecorders ) throws MetricsCollectionException
+    {
+        if ( ringBufferSize <= 0 || Integer.bitCount( ringBufferSize ) != 1 )
+        {
+            throw new MetricsCollectionException(
+                    format( "Ring buffer size must be a positive power of 2: %s", ringBufferSize ) );
+        }
+
+        // Connect the handlers
+        List<EventHandler<DirectBuffer>> eventHandlers = new ArrayList<>();
         eventHandler = new DisruptorSbeMetricsEventHandler(
                 errorReporter,
-                resultsLogWriter,
                 timeUnit,
                 timeSource,
                 maxRuntimeDurationAsNano,
                 operationTypeToClassMapping,
                 loggingServiceFactory
         );
+        eventHandlers.add( eventHandler );
+        if ( resultsLogWriter instanceof NullResultsLogWriter )
+        {
+            resultsLogEventHandler = null;
+        }
+        else
+        {
+            resultsLogEventHandler = new DisruptorSbeResultsLogEventHandler(
+                    errorReporter,
+                    resultsLogWriter,
+                    MetricsManager.toOperationNameArray( operationTypeToClassMapping )
+            );
+            eventHandlers.add( resultsLogEventHandler );
+        }
+        if ( null == intervalRecorders )
+        {
+            intervalRecorderEventHandler = null;
+        }
+        else
+        {
+            intervalRecorderEventHandler = new DisruptorSbeIntervalRecorderEventHandler(
+                    errorReporter,
+                    intervalRecorders,
+                    timeUnit,
+                    maxRuntimeDurationAsNano
+            );
+            eventHandlers.add( intervalRecorderEventHandler );
+        }
+
+        // one thread per consumer
+        this.executor = Executors.newFixedThreadPool( eventHandlers.size() );
+        // Construct the Disruptor
+        disruptor = new Disruptor<>(
+                new MetricsCollectionEventFactory(),
+                ringBufferSize,
+                // Executor that will be used to construct new threads for consumers
+                this.executor,
+                ProducerType.MULTI,
+                waitStrategy
+        );
 
-        disruptor.handleEventsWith( eventHandler );
+        EventHandler[] eventHandlersArray = eventHandlers.toArray( new EventHandler[eventHandlers.size()] );
+        disruptor.handleEventsWith( eventHandlersArray );
         DisruptorExceptionHandler exceptionHandler = new DisruptorExceptionHandler( errorReporter );
-        disruptor.handleExceptionsFor( eventHandler ).with( exceptionHandler );
+        for ( EventHandler<DirectBuffer> handler : eventHandlers )
+        {
+            disruptor.handleExceptionsFor( handler ).with( exceptionHandler );
+        }
         disruptor.handleExceptionsWith( exceptionHandler );
 
         // Start the Disruptor, starts all threads running  & get the ring buffer from the Disruptor to be used for
@@ -98,9 +195,40 @@ public class DisruptorSbeMetricsService implements MetricsService
         ringBuffer = disruptor.start();
 
         this.timeSource = timeSource;
+        this.loggingService = loggingServiceFactory.loggingServiceFor( getClass().getSimpleName() );
         metricsServiceWriters = new ConcurrentLinkedQueue<>();
     }
 
+    /**
+     * @return total time producers spent waiting for ring buffer capacity, i.e., how much consumers held them up
+     */
+    public long producerWaitTimeAsNano()
+    {
+        return producerBackPressure.waitTimeAsNano.sum();
+    }
+
+    /**
+     * @return number of submitted results that found the ring buffer full
+     */
+    public long producerWaitCount()
+    {
+        return producerBackPressure.waitCount.sum();
+    }
+
+    private long processedEventCount()
+    {
+        long processedEventCount = eventHandler.processedEventCount();
+        if ( null != resultsLogEventHandler )
+        {
+            processedEventCount = Math.min( processedEventCount, resultsLogEventHandler.processedEventCount() );
+        }
+        if ( null != intervalRecorderEventHandler )
+        {
+            processedEventCount = Math.min( processedEventCount, intervalRecorderEventHandler.processedEventCount() );
+        }
+        return processedEventCount;
+    }
+
     @Override
     synchronized public void shutdown() throws MetricsCollectionException
     {
@@ -112,7 +240,7 @@ public class DisruptorSbeMetricsService implements MetricsService
         boolean shutdownSuccessful = false;
         while ( timeSource.nowAsMilli() - startTimeMs < SHUTDOWN_WAIT_TIMEOUT_AS_MILLI )
         {
-            if ( eventHandler.processedEventCount() >= initiatedEvents.get() )
+            if ( processedEventCount() >= initiatedEvents.get() )
             {
                 shutdownSuccessful = true;
                 break;
@@ -124,12 +252,26 @@ public class DisruptorSbeMetricsService implements MetricsService
             String errMsg =
                     format( "%s timed out waiting for last operations to complete\n%s/%s operations completed",
                             getClass().getSimpleName(),
-                            eventHandler.processedEventCount(),
+                            processedEventCount(),
                             initiatedEvents.get()
                     );
             throw new MetricsCollectionException( errMsg );
         }
 
+        // halt consumers before stopping their threads, otherwise they are interrupted mid-wait
+        try
+        {
+            disruptor.shutdown( SHUTDOWN_WAIT_TIMEOUT_AS_MILLI, TimeUnit.MILLISECONDS );
+        }
+        catch ( TimeoutException e )
+        {
+            String errMsg = format( "%s timed out waiting for %s to shutdown",
+                    getClass().getSimpleName(),
+                    disruptor.getClass().getSimpleName()
+            );
+            throw new MetricsCollectionException( errMsg, e );
+        }
+
         try
         {
             executor.shutdown();
@@ -155,23 +297,16 @@ public class DisruptorSbeMetricsService implements MetricsService
                     "Error encountered while trying to shutdown metrics service disruptor executor", e );
         }
 
-        try
-        {
-            disruptor.shutdown( SHUTDOWN_WAIT_TIMEOUT_AS_MILLI, TimeUnit.MILLISECONDS );
-        }
-        catch ( TimeoutException e )
-        {
-            String errMsg = format( "%s timed out waiting for %s to shutdown",
-                    getClass().getSimpleName(),
-                    disruptor.getClass().getSimpleName()
-            );
-            throw new MetricsCollectionException( errMsg, e );
-        }
         AlreadyShutdownPolicy alreadyShutdownPolicy = new AlreadyShutdownPolicy();
         for ( DisruptorSbeMetricsServiceWriter metricsServiceWriter : metricsServiceWriters )
         {
             metricsServiceWriter.setAlreadyShutdownPolicy( alreadyShutdownPolicy );
         }
+        loggingService.info( format( "Metrics ring buffer back-pressure: %s of %s results waited for capacity, " +
+                                     "for a total of %s ms",
+                producerWaitCount(),
+                initiatedEvents.get(),
+                TimeUnit.NANOSECONDS.toMillis( producerWaitTimeAsNano() ) ) );
         shutdown.set( true );
     }
 
@@ -183,7 +318,8 @@ public class DisruptorSbeMetricsService implements MetricsService
             throw new MetricsCollectionException( "Metrics service has already been shutdown" );
         }
         DisruptorSbeMetricsServiceWriter metricsServiceWriter =
-                new DisruptorSbeMetricsServiceWriter( initiatedEvents, ringBuffer, eventHandler );
+                new DisruptorSbeMetricsServiceWriter( initiatedEvents, ringBuffer, eventHandler,
+                        producerBackPressure );
         metricsServiceWriters.add( metricsServiceWriter );
         return metricsServiceWriter;
     }
@@ -193,6 +329,7 @@ public class DisruptorSbeMetricsService implements MetricsService
         private final AtomicLong initiatedEvents;
         private final RingBuffer<DirectBuffer> ringBuffer;
         private final DisruptorSbeMetricsEventHandler eventHandler;
+        private final ProducerBackPressure producerBackPressure;
         private final SubmitOperationResultTranslator submitOperationResultTranslator;
         private final GetWorkloadStatusTranslator getWorkloadStatusTranslator;
         private final GetWorkloadResultsTranslator getWorkloadResultsTranslator;
@@ -201,11 +338,13 @@ public class DisruptorSbeMetricsService implements MetricsService
 
         public DisruptorSbeMetricsServiceWriter( AtomicLong initiatedEvents,
                 RingBuffer<DirectBuffer> ringBuffer,
-                DisruptorSbeMetricsEventHandler eventHandler )
+                DisruptorSbeMetricsEventHandler eventHandler,
+                ProducerBackPressure producerBackPressure )
         {
             this.initiatedEvents = initiatedEvents;
             this.ringBuffer = ringBuffer;
             this.eventHandler = eventHandler;
+            this.producerBackPressure = producerBackPressure;
             MetricsEvent metricsEvent = new MetricsEvent();
             this.submitOperationResultTranslator = new SubmitOperationResultTranslator( metricsEvent );
             this.getWorkloadStatusTranslator = new GetWorkloadStatusTranslator( metricsEvent );
@@ -223,15 +362,27 @@ public class DisruptorSbeMetricsService implements MetricsService
                 long actualStartTimeAsMilli,
                 long runDurationAsNano,
                 int resultCode,
-                long originalStartTime) throws MetricsCollectionException
+                long originalStartTime,
+                long[] phaseDurationsAsNano,
+                int resultCardinality ) throws MetricsCollectionException
         {
             if ( null != alreadyShutdownPolicy )
             {
                 alreadyShutdownPolicy.apply();
             }
             initiatedEvents.incrementAndGet();
-            ringBuffer.publishEvent( submitOperationResultTranslator, operationType, scheduledStartTimeAsMilli,
-                    actualStartTimeAsMilli, runDurationAsNano, resultCode, originalStartTime );
+            if ( false == ringBuffer.tryPublishEvent( submitOperationResultTranslator, operationType,
+                    scheduledStartTimeAsMilli, actualStartTimeAsMilli, runDurationAsNano, resultCode,
+                    originalStartTime, phaseDurationsAsNano, resultCardinality ) )
+            {
+                // ring buffer is full, consumers are not keeping up
+                long waitStartTimeAsNano = System.nanoTime();
+                ringBuffer.publishEvent( submitOperationResultTranslator, operationType, scheduledStartTimeAsMilli,
+                        actualStartTimeAsMilli, runDurationAsNano, resultCode, originalStartTime,
+                        phaseDurationsAsNano, resultCardinality );
+                producerBackPressure.waitTimeAsNano.add( System.nanoTime() - waitStartTimeAsNano );
+                producerBackPressure.waitCount.increment();
+            }
         }
 
         @Override
@@ -265,7 +416,9 @@ public class DisruptorSbeMetricsService implements MetricsService
             {
                 LockSupport.parkNanos( TimeUnit.MILLISECONDS.toNanos( 100 ) );
             }
-            return resultsSnapshotReference.getReference();
+            return resultsSnapshotReference.getReference().withMetricsBackPressure(
+                    producerBackPressure.waitCount.sum(),
+                    producerBackPressure.waitTimeAsNano.sum() );
         }
 
         public static class SubmitOperationResultTranslator implements EventTranslatorVararg<DirectBuffer>
@@ -287,7 +440,9 @@ public class DisruptorSbeMetricsService implements MetricsService
                         .actualStartTimeAsMilli( (long) fields[2] )
                         .runDurationAsNano( (long) fields[3] )
                         .resultCode( (int) fields[4] )
-                        .originalStartTime((long) fields[5]);
+                        .originalStartTime( (long) fields[5] )
+                        .resultCardinality( (int) fields[7] );
+                DisruptorSbeMetricsEvent.encodePhaseDurations( metricsEvent, (long[]) fields[6] );
             }
         }
 
@@ -326,6 +481,12 @@ public class DisruptorSbeMetricsService implements MetricsService
         }
     }
 
+    private static class ProducerBackPressure
+    {
+        private final LongAdder waitTimeAsNano = new LongAdder();
+        private final LongAdder waitCount = new LongAdder();
+    }
+
     private static class AlreadyShutdownPolicy
     {
         void apply() throws MetricsCollectionException
@@ -0,0 +1,76 @@
+package com.ldbc.driver.runtime.metrics;
+
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.metrics.sbe.MetricsEvent;
+import com.lmax.disruptor.EventHandler;
+import uk.co.real_logic.sbe.codec.java.DirectBuffer;
+
+import static java.lang.String.format;
+
+/**
+ * Disruptor consumer that only appends submitted operation results to the results log, leaving metrics aggregation
+ * to somebody else
+ */
+class DisruptorSbeResultsLogEventHandler implements EventHandler<DirectBuffer>
+{
+    private final ConcurrentErrorReporter errorReporter;
+    private final ResultsLogWriter resultsLogWriter;
+    private final String[] operationNames;
+    private final MetricsEvent metricsEvent;
+    private volatile long processedEventCount = 0L;
+
+    DisruptorSbeResultsLogEventHandler(
+            ConcurrentErrorReporter errorReporter,
+            ResultsLogWriter resultsLogWriter,
+            String[] operationNames )
+    {
+        this.errorReporter = errorReporter;
+        this.resultsLogWriter = resultsLogWriter;
+        this.operationNames = operationNames;
+        this.metricsEvent = new MetricsEvent();
+    }
+
+    long processedEventCount()
+    {
+        return processedEventCount;
+    }
+
+    @Override
+    public void onEvent( DirectBuffer event, long l, boolean b ) throws Exception
+    {
+        metricsEvent.wrapForDecode(
+                event,
+                DisruptorSbeMetricsEvent.MESSAGE_HEADER_SIZE,
+                DisruptorSbeMetricsEvent.ACTING_BLOCK_LENGTH,
+                DisruptorSbeMetricsEvent.ACTING_VERSION
+        );
+
+        switch ( metricsEvent.eventType() )
+        {
+        case DisruptorSbeMetricsEvent.SUBMIT_OPERATION_RESULT:
+        {
+            resultsLogWriter.write(
+                    operationNames[metricsEvent.operationType()],
+                    metricsEvent.scheduledStartTimeAsMilli(),
+                    metricsEvent.actualStartTimeAsMilli(),
+                    metricsEvent.runDurationAsNano(),
+                    metricsEvent.resultCode(),
+                    metricsEvent.originalStartTime(),
+                    metricsEvent.resultCardinality() );
+            processedEventCount++;
+            break;
+        }
+        case DisruptorSbeMetricsEvent.GET_WORKLOAD_STATUS:
+        case DisruptorSbeMetricsEvent.GET_WORKLOAD_RESULTS:
+        {
+            // answered by the aggregating consumer
+            break;
+        }
+        default:
+        {
+            errorReporter.reportError( this, format( "Encountered unexpected event: %s", event.toString() ) );
+            break;
+        }
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.ldbc.driver.runtime.metrics;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records how long operations spend in each stage of the driver before and after their handler executes, to
+ * quantify how much of the observed latency is the driver itself. Stage durations are recorded by the threads
+ * executing operations, into one (thread-safe) {@link Recorder} per stage, in micro seconds.
+ */
+public class DriverOverheadRecorder
+{
+    public enum Stage
+    {
+        // from dispatch by the stream thread until a worker starts running the handler
+        QUEUE_WAIT( "queue_wait" ),
+        // waiting for completion time to pass the dependency time stamp, only for dependent operations
+        CT_WAIT( "ct_wait" ),
+        // waiting for the scheduled start time
+        SPINNER_WAIT( "spinner_wait" ),
+        // submitting the completed time and the operation result, once the handler has completed
+        METRICS_SUBMIT( "metrics_submit" );
+
+        private final String metricName;
+
+        Stage( String metricName )
+        {
+            this.metricName = metricName;
+        }
+
+        public String metricName()
+        {
+            return metricName;
+        }
+    }
+
+    private static final int NUMBER_OF_SIGNIFICANT_DIGITS = 3;
+    private static final TimeUnit UNIT = TimeUnit.MICROSECONDS;
+    private static final Stage[] STAGES = Stage.values();
+
+    private final Recorder[] recorders = new Recorder[STAGES.length];
+    private final ContinuousMetricManager[] metricManagers = new ContinuousMetricManager[STAGES.length];
+    // recycled by each recorder, which only accepts histograms it handed out itself
+    private final Histogram[] intervalHistograms = new Histogram[STAGES.length];
+
+    public DriverOverheadRecorder()
+    {
+        for ( Stage stage : STAGES )
+        {
+            // auto-resizing, waits may range from nothing to the whole run
+            recorders[stage.ordinal()] = new Recorder( NUMBER_OF_SIGNIFICANT_DIGITS );
+            metricManagers[stage.ordinal()] =
+                    new ContinuousMetricManager( stage.metricName(), UNIT, NUMBER_OF_SIGNIFICANT_DIGITS );
+        }
+    }
+
+    public void record( Stage stage, long durationAsNano )
+    {
+        recorders[stage.ordinal()].recordValue( UNIT.convert( Math.max( 0, durationAsNano ), TimeUnit.NANOSECONDS ) );
+    }
+
+    /**
+     * @return one metric per stage that has been recorded at least once, in stage order
+     */
+    public synchronized List<ContinuousMetricSnapshot> snapshot()
+    {
+        List<ContinuousMetricSnapshot> snapshots = new ArrayList<>();
+        for ( Stage stage : STAGES )
+        {
+            Histogram intervalHistogram =
+                    recorders[stage.ordinal()].getIntervalHistogram( intervalHistograms[stage.ordinal()] );
+            intervalHistograms[stage.ordinal()] = intervalHistogram;
+            metricManagers[stage.ordinal()].addMeasurements( intervalHistogram );
+            ContinuousMetricSnapshot snapshot = metricManagers[stage.ordinal()].snapshot();
+            if ( snapshot.count() > 0 )
+            {
+                snapshots.add( snapshot );
+            }
+        }
+        return snapshots;
+    }
+}
@@ -0,0 +1,72 @@
+package com.ldbc.driver.runtime.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+
+/**
+ * A period during which the driver process itself was stalled, as observed by {@link DriverPauseMonitor}
+ */
+public class DriverPause
+{
+    public enum Source
+    {
+        // the hiccup meter thread woke up late
+        HICCUP,
+        // garbage collection notification of the JVM, duration of concurrent collectors covers their whole cycle
+        GC
+    }
+
+    private final long startTimeAsMilli;
+    private final long durationAsNano;
+    private final Source source;
+    private final String detail;
+
+    public DriverPause( long startTimeAsMilli, long durationAsNano, Source source, String detail )
+    {
+        this.startTimeAsMilli = startTimeAsMilli;
+        this.durationAsNano = durationAsNano;
+        this.source = source;
+        this.detail = detail;
+    }
+
+    public long startTimeAsMilli()
+    {
+        return startTimeAsMilli;
+    }
+
+    public long durationAsNano()
+    {
+        return durationAsNano;
+    }
+
+    /**
+     * @return end time, rounded up to the next milli second so that short pauses do not vanish
+     */
+    public long endTimeAsMilli()
+    {
+        long durationAsMilli = TimeUnit.NANOSECONDS.toMillis( durationAsNano );
+        if ( TimeUnit.MILLISECONDS.toNanos( durationAsMilli ) < durationAsNano )
+        {
+            durationAsMilli++;
+        }
+        return startTimeAsMilli + durationAsMilli;
+    }
+
+    public Source source()
+    {
+        return source;
+    }
+
+    public String detail()
+    {
+        return detail;
+    }
+
+    @Override
+    public String toString()
+    {
+        return format( "DriverPause{startTimeAsMilli=%s, durationAsNano=%s, source=%s, detail='%s'}",
+                startTimeAsMilli, durationAsNano, source, detail );
+    }
+}
@@ -0,0 +1,486 @@
+package com.ldbc.driver.runtime.metrics;
+
+import com.ldbc.driver.csv.simple.SimpleCsvFileWriter;
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.scheduling.Spinner;
+import com.ldbc.driver.temporal.TimeSource;
+import com.sun.management.GarbageCollectionNotificationInfo;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+import org.HdrHistogram.Recorder;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UnsupportedEncodingException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+
+import static java.lang.String.format;
+
+/**
+ * Observes stalls of the driver process itself, which inflate the runtimes it measures just like a slow database
+ * would. Two sources are combined:
+ * <ul>
+ * <li>a hiccup meter, in the style of jHiccup: a thread repeatedly sleeps for a fixed resolution and records by how
+ * much longer than its shortest observed sleep it took to wake up</li>
+ * <li>garbage collection notifications of the JVM</li>
+ * </ul>
+ * Both are recorded into histograms (in nano seconds) that are periodically written, tagged {@link #HICCUP_TAG} and
+ * {@link #GC_TAG}, to an HdrHistogram interval log. Every garbage collection, and every hiccup of at least the
+ * threshold, is also kept as {@link DriverPause} in a timeline, which can be written next to the results and used to
+ * flag results log entries whose execution overlapped a driver pause.
+ */
+public class DriverPauseMonitor
+{
+    public static final String HICCUP_TAG = "hiccup";
+    public static final String GC_TAG = "gc";
+    public static final String HEADER_START_TIME = "start_time";
+    public static final String HEADER_DURATION = "duration_" + TimeUnit.MICROSECONDS.name();
+    public static final String HEADER_SOURCE = "source";
+    public static final String HEADER_DETAIL = "detail";
+    public static final String HEADER_RESULTS_LOG_ROW = "results_log_row";
+    public static final String HEADER_PAUSE_OVERLAP = "driver_pause_overlap_" + TimeUnit.MILLISECONDS.name();
+
+    private static final int NUMBER_OF_SIGNIFICANT_DIGITS = 3;
+    private static final long SHUTDOWN_WAIT_TIMEOUT_AS_MILLI = TimeUnit.SECONDS.toMillis( 5 );
+
+    private final Recorder hiccupRecorder = new Recorder( NUMBER_OF_SIGNIFICANT_DIGITS );
+    private final Recorder gcRecorder = new Recorder( NUMBER_OF_SIGNIFICANT_DIGITS );
+    private final Histogram hiccupHistogram = new Histogram( NUMBER_OF_SIGNIFICANT_DIGITS );
+    private final Histogram gcHistogram = new Histogram( NUMBER_OF_SIGNIFICANT_DIGITS );
+    private final Queue<DriverPause> pauses = new ConcurrentLinkedQueue<>();
+    private final List<NotificationEmitter> gcNotificationEmitters = new ArrayList<>();
+    private final NotificationListener gcNotificationListener = new GcNotificationListener();
+    private final long jvmStartTimeAsMilli = ManagementFactory.getRuntimeMXBean().getStartTime();
+    private final HiccupMeterThread hiccupMeterThread;
+    private final AtomicBoolean shutdown = new AtomicBoolean( false );
+
+    /**
+     * @param resolutionAsMilli how long the hiccup meter sleeps between measurements
+     * @param thresholdAsMilli hiccups of at least this are added to the pause timeline
+     * @param pauseLog interval log to write histograms to, null to not write any
+     */
+    public DriverPauseMonitor(
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            long resolutionAsMilli,
+            long thresholdAsMilli,
+            File pauseLog,
+            long logIntervalAsMilli ) throws MetricsCollectionException
+    {
+        if ( resolutionAsMilli <= 0 )
+        {
+            throw new MetricsCollectionException( format( "Resolution must be positive: %s", resolutionAsMilli ) );
+        }
+        if ( logIntervalAsMilli <= 0 )
+        {
+            throw new MetricsCollectionException( format( "Log interval must be positive: %s", logIntervalAsMilli ) );
+        }
+        PrintStream pauseLogStream = null;
+        if ( null != pauseLog )
+        {
+            try
+            {
+                pauseLogStream = new PrintStream( new FileOutputStream( pauseLog ), false, "UTF-8" );
+            }
+            catch ( FileNotFoundException | UnsupportedEncodingException e )
+            {
+                throw new MetricsCollectionException(
+                        format( "Error creating pause log: %s", pauseLog.getAbsolutePath() ), e );
+            }
+        }
+        this.hiccupMeterThread = new HiccupMeterThread(
+                timeSource,
+                errorReporter,
+                resolutionAsMilli,
+                TimeUnit.MILLISECONDS.toNanos( thresholdAsMilli ),
+                pauseLogStream,
+                logIntervalAsMilli );
+    }
+
+    public void start()
+    {
+        for ( GarbageCollectorMXBean garbageCollector : ManagementFactory.getGarbageCollectorMXBeans() )
+        {
+            if ( garbageCollector instanceof NotificationEmitter )
+            {
+                NotificationEmitter notificationEmitter = (NotificationEmitter) garbageCollector;
+                notificationEmitter.addNotificationListener( gcNotificationListener, null, null );
+                gcNotificationEmitters.add( notificationEmitter );
+            }
+        }
+        hiccupMeterThread.start();
+    }
+
+    /**
+     * Stops monitoring and writes the last, partial, interval to the pause log
+     *
+     * @return pause timeline, ordered by start time
+     */
+    public List<DriverPause> shutdown() throws MetricsCollectionException
+    {
+        if ( shutdown.getAndSet( true ) )
+        {
+            throw new MetricsCollectionException( "Pause monitor has already been shutdown" );
+        }
+        for ( NotificationEmitter notificationEmitter : gcNotificationEmitters )
+        {
+            try
+            {
+                notificationEmitter.removeNotificationListener( gcNotificationListener );
+            }
+            catch ( ListenerNotFoundException e )
+            {
+                // nothing to remove
+            }
+        }
+        hiccupMeterThread.shutdown();
+        try
+        {
+            hiccupMeterThread.join( SHUTDOWN_WAIT_TIMEOUT_AS_MILLI );
+        }
+        catch ( InterruptedException e )
+        {
+            throw new MetricsCollectionException( "Interrupted while waiting for pause log to be written", e );
+        }
+        if ( hiccupMeterThread.isAlive() )
+        {
+            throw new MetricsCollectionException(
+                    format( "%s timed out waiting for pause log to be written", getClass().getSimpleName() ) );
+        }
+        return pauses();
+    }
+
+    /**
+     * @return pauses observed so far, ordered by start time
+     */
+    public List<DriverPause> pauses()
+    {
+        List<DriverPause> orderedPauses = new ArrayList<>( pauses );
+        Collections.sort( orderedPauses, new Comparator<DriverPause>()
+        {
+            @Override
+            public int compare( DriverPause pause1, DriverPause pause2 )
+            {
+                return Long.compare( pause1.startTimeAsMilli(), pause2.startTimeAsMilli() );
+            }
+        } );
+        return orderedPauses;
+    }
+
+    /**
+     * @return all hiccups, in nano seconds, only complete once shutdown
+     */
+    public Histogram hiccupHistogram()
+    {
+        return hiccupHistogram;
+    }
+
+    /**
+     * @return all garbage collection pauses, in nano seconds, only complete once shutdown
+     */
+    public Histogram gcHistogram()
+    {
+        return gcHistogram;
+    }
+
+    public static void writeTimeline( List<DriverPause> pauses, File timeline ) throws MetricsCollectionException
+    {
+        try ( SimpleCsvFileWriter writer =
+                      new SimpleCsvFileWriter( timeline, SimpleCsvFileWriter.DEFAULT_COLUMN_SEPARATOR ) )
+        {
+            writer.writeRow( HEADER_START_TIME, HEADER_DURATION, HEADER_SOURCE, HEADER_DETAIL );
+            for ( DriverPause pause : pauses )
+            {
+                writer.writeRow(
+                        Long.toString( pause.startTimeAsMilli() ),
+                        Long.toString( TimeUnit.NANOSECONDS.toMicros( pause.durationAsNano() ) ),
+                        pause.source().name(),
+                        (null == pause.detail()) ? "" : pause.detail()
+                );
+            }
+        }
+        catch ( IOException e )
+        {
+            throw new MetricsCollectionException(
+                    format( "Error writing pause timeline: %s", timeline.getAbsolutePath() ), e );
+        }
+    }
+
+    /**
+     * Writes every results log entry whose execution, from actual start time until completion, overlapped at least
+     * one driver pause, along with how long it overlapped driver pauses (pauses reported by both sources are only
+     * counted once)
+     *
+     * @return number of results log entries written
+     */
+    public static long writeResultsOverlappingPauses(
+            ResultsLogReader reader,
+            List<DriverPause> pauses,
+            File resultsOverlappingPauses ) throws MetricsCollectionException
+    {
+        long[][] pauseIntervals = toDisjointIntervals( pauses );
+        long[] pauseStarts = pauseIntervals[0];
+        long[] pauseEnds = pauseIntervals[1];
+        long overlappingCount = 0;
+        try ( SimpleCsvFileWriter writer =
+                      new SimpleCsvFileWriter( resultsOverlappingPauses, SimpleCsvFileWriter.DEFAULT_COLUMN_SEPARATOR ) )
+        {
+            writer.writeRow(
+                    HEADER_RESULTS_LOG_ROW,
+                    ResultsLogWriter.HEADER_OPERATION_TYPE,
+                    ResultsLogWriter.HEADER_SCHEDULED_START_TIME,
+                    ResultsLogWriter.HEADER_ACTUAL_START_TIME,
+                    ResultsLogWriter.HEADER_EXECUTION_DURATION_PREFIX + reader.unit().name(),
+                    HEADER_PAUSE_OVERLAP
+            );
+            long row = 0;
+            while ( reader.next() )
+            {
+                row++;
+                long startTimeAsMilli = reader.getActualStartTimeAsMilli();
+                long runDurationAsNano = reader.getRunDurationAsNano();
+                long endTimeAsMilli = startTimeAsMilli + TimeUnit.NANOSECONDS.toMillis( runDurationAsNano );
+                // first pause that does not end before the operation started, pauses are disjoint so ends are ordered
+                int i = firstNotBefore( pauseEnds, startTimeAsMilli );
+                if ( i == pauseStarts.length || pauseStarts[i] > endTimeAsMilli )
+                {
+                    continue;
+                }
+                long overlapAsMilli = 0;
+                for ( ; i < pauseStarts.length && pauseStarts[i] <= endTimeAsMilli; i++ )
+                {
+                    overlapAsMilli +=
+                            Math.min( pauseEnds[i], endTimeAsMilli ) - Math.max( pauseStarts[i], startTimeAsMilli );
+                }
+                writer.writeRow(
+                        Long.toString( row ),
+                        reader.getOperationName(),
+                        Long.toString( reader.getScheduledStartTimeAsMilli() ),
+                        Long.toString( startTimeAsMilli ),
+                        Long.toString( reader.unit().convert( runDurationAsNano, TimeUnit.NANOSECONDS ) ),
+                        Long.toString( overlapAsMilli )
+                );
+                overlappingCount++;
+            }
+        }
+        catch ( IOException e )
+        {
+            throw new MetricsCollectionException( format( "Error writing results overlapping driver pauses: %s",
+                    resultsOverlappingPauses.getAbsolutePath() ), e );
+        }
+        return overlappingCount;
+    }
+
+    /**
+     * @param pauses ordered by start time
+     * @return starts and ends of the union of all pauses
+     */
+    private static long[][] toDisjointIntervals( List<DriverPause> pauses )
+    {
+        long[] starts = new long[pauses.size()];
+        long[] ends = new long[pauses.size()];
+        int count = 0;
+        for ( DriverPause pause : pauses )
+        {
+            if ( count > 0 && pause.startTimeAsMilli() <= ends[count - 1] )
+            {
+                ends[count - 1] = Math.max( ends[count - 1], pause.endTimeAsMilli() );
+            }
+            else
+            {
+                starts[count] = pause.startTimeAsMilli();
+                ends[count] = pause.endTimeAsMilli();
+                count++;
+            }
+        }
+        long[][] intervals = new long[2][];
+        intervals[0] = Arrays.copyOf( starts, count );
+        intervals[1] = Arrays.copyOf( ends, count );
+        return intervals;
+    }
+
+    private static int firstNotBefore( long[] orderedValues, long value )
+    {
+        int low = 0;
+        int high = orderedValues.length;
+        while ( low < high )
+        {
+            int middle = (low + high) >>> 1;
+            if ( orderedValues[middle] < value )
+            {
+                low = middle + 1;
+            }
+            else
+            {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private class GcNotificationListener implements NotificationListener
+    {
+        @Override
+        public void handleNotification( Notification notification, Object handback )
+        {
+            if ( false == GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(
+                    notification.getType() ) )
+            {
+                return;
+            }
+            GarbageCollectionNotificationInfo info =
+                    GarbageCollectionNotificationInfo.from( (CompositeData) notification.getUserData() );
+            long durationAsNano = TimeUnit.MILLISECONDS.toNanos( info.getGcInfo().getDuration() );
+            gcRecorder.recordValue( durationAsNano );
+            pauses.add( new DriverPause(
+                    jvmStartTimeAsMilli + info.getGcInfo().getStartTime(),
+                    durationAsNano,
+                    DriverPause.Source.GC,
+                    format( "%s (%s, %s)", info.getGcName(), info.getGcAction(), info.getGcCause() ) ) );
+        }
+    }
+
+    private class HiccupMeterThread extends Thread
+    {
+        private final TimeSource timeSource;
+        private final ConcurrentErrorReporter errorReporter;
+        private final long resolutionAsMilli;
+        private final long thresholdAsNano;
+        private final PrintStream pauseLogStream;
+        private final HistogramLogWriter histogramLogWriter;
+        private final long logIntervalAsMilli;
+        private final AtomicBoolean continueRunning = new AtomicBoolean( true );
+        private Histogram hiccupIntervalHistogram = null;
+        private Histogram gcIntervalHistogram = null;
+        private long startTimeAsMilli;
+
+        private HiccupMeterThread(
+                TimeSource timeSource,
+                ConcurrentErrorReporter errorReporter,
+                long resolutionAsMilli,
+                long thresholdAsNano,
+                PrintStream pauseLogStream,
+                long logIntervalAsMilli )
+        {
+            super( HiccupMeterThread.class.getSimpleName() + "-" + System.currentTimeMillis() );
+            setDaemon( true );
+            this.timeSource = timeSource;
+            this.errorReporter = errorReporter;
+            this.resolutionAsMilli = resolutionAsMilli;
+            this.thresholdAsNano = thresholdAsNano;
+            this.pauseLogStream = pauseLogStream;
+            this.histogramLogWriter = (null == pauseLogStream) ? null : new HistogramLogWriter( pauseLogStream );
+            this.logIntervalAsMilli = logIntervalAsMilli;
+        }
+
+        @Override
+        public void run()
+        {
+            try
+            {
+                startTimeAsMilli = timeSource.nowAsMilli();
+                if ( null != histogramLogWriter )
+                {
+                    histogramLogWriter.outputLogFormatVersion();
+                    histogramLogWriter.outputComment( "Driver hiccups and garbage collection pauses in NANOSECONDS" );
+                    histogramLogWriter.outputStartTime( startTimeAsMilli );
+                    histogramLogWriter.setBaseTime( startTimeAsMilli );
+                    histogramLogWriter.outputLegend();
+                }
+                long nextLogTimeAsMilli = startTimeAsMilli + logIntervalAsMilli;
+                // sleeping is never exact, only time beyond the shortest observed sleep is counted as hiccup
+                long shortestObservedSleepAsNano = Long.MAX_VALUE;
+                while ( continueRunning.get() )
+                {
+                    long beforeSleepAsNano = timeSource.nanoSnapshot();
+                    Spinner.powerNap( resolutionAsMilli );
+                    long sleepAsNano = timeSource.nanoSnapshot() - beforeSleepAsNano;
+                    shortestObservedSleepAsNano = Math.min( shortestObservedSleepAsNano, sleepAsNano );
+                    long hiccupAsNano = sleepAsNano - shortestObservedSleepAsNano;
+                    hiccupRecorder.recordValue( hiccupAsNano );
+                    long nowAsMilli = timeSource.nowAsMilli();
+                    if ( hiccupAsNano >= thresholdAsNano && hiccupAsNano > 0 )
+                    {
+                        pauses.add( new DriverPause(
+                                nowAsMilli - TimeUnit.NANOSECONDS.toMillis( hiccupAsNano ),
+                                hiccupAsNano,
+                                DriverPause.Source.HICCUP,
+                                null ) );
+                    }
+                    if ( nowAsMilli >= nextLogTimeAsMilli )
+                    {
+                        writeIntervalHistograms();
+                        nextLogTimeAsMilli += logIntervalAsMilli;
+                    }
+                }
+                // last, partial, interval
+                writeIntervalHistograms();
+            }
+            catch ( Throwable e )
+            {
+                errorReporter.reportError(
+                        this,
+                        format( "Hiccup meter thread encountered unexpected error - exiting\n%s",
+                                ConcurrentErrorReporter.stackTraceToString( e ) )
+                );
+            }
+            finally
+            {
+                if ( null != pauseLogStream )
+                {
+                    pauseLogStream.close();
+                }
+            }
+        }
+
+        private void writeIntervalHistograms()
+        {
+            hiccupIntervalHistogram = hiccupRecorder.getIntervalHistogram( hiccupIntervalHistogram );
+            gcIntervalHistogram = gcRecorder.getIntervalHistogram( gcIntervalHistogram );
+            hiccupHistogram.add( hiccupIntervalHistogram );
+            gcHistogram.add( gcIntervalHistogram );
+            if ( null != histogramLogWriter )
+            {
+                writeIntervalHistogram( hiccupIntervalHistogram, HICCUP_TAG );
+                writeIntervalHistogram( gcIntervalHistogram, GC_TAG );
+            }
+        }
+
+        private void writeIntervalHistogram( Histogram intervalHistogram, String tag )
+        {
+            if ( intervalHistogram.getTotalCount() > 0 )
+            {
+                intervalHistogram.setTag( tag );
+                // max column in milli seconds, as jHiccup does
+                histogramLogWriter.outputIntervalHistogram(
+                        (intervalHistogram.getStartTimeStamp() - startTimeAsMilli) / 1000.0,
+                        (intervalHistogram.getEndTimeStamp() - startTimeAsMilli) / 1000.0,
+                        intervalHistogram,
+                        1_000_000.0 );
+            }
+        }
+
+        private void shutdown()
+        {
+            continueRunning.set( false );
+        }
+    }
+}
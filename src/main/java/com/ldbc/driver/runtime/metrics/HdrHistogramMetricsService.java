@@ -0,0 +1,504 @@
+package com.ldbc.driver.runtime.metrics;
+
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationPhase;
+import com.ldbc.driver.control.LoggingService;
+import com.ldbc.driver.control.LoggingServiceFactory;
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.metrics.sbe.MetricsEvent;
+import com.ldbc.driver.temporal.TemporalUtil;
+import com.ldbc.driver.temporal.TimeSource;
+import com.lmax.disruptor.BlockingWaitStrategy;
+import com.lmax.disruptor.EventTranslatorVararg;
+import com.lmax.disruptor.RingBuffer;
+import com.lmax.disruptor.TimeoutException;
+import com.lmax.disruptor.dsl.Disruptor;
+import com.lmax.disruptor.dsl.ProducerType;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.SingleWriterRecorder;
+import uk.co.real_logic.sbe.codec.java.DirectBuffer;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.ldbc.driver.runtime.metrics.DisruptorSbeMetricsEvent.MESSAGE_HEADER_SIZE;
+import static com.ldbc.driver.runtime.metrics.DisruptorSbeMetricsEvent.MetricsCollectionEventFactory;
+import static com.ldbc.driver.runtime.metrics.DisruptorSbeMetricsEvent.SUBMIT_OPERATION_RESULT;
+import static java.lang.String.format;
+
+/**
+ * Metrics service without a metrics consumer thread.
+ * Every thread that submits results records runtimes into its own per operation type {@link SingleWriterRecorder}.
+ * Interval histograms are drained from all recorders and merged on demand, when status() or results() is requested.
+ * Only the results log (if any) is written asynchronously, by a dedicated disruptor consumer.
+ */
+public class HdrHistogramMetricsService implements MetricsService
+{
+    private static final long SHUTDOWN_WAIT_TIMEOUT_AS_MILLI = TimeUnit.SECONDS.toMillis( 5 );
+    private static final int RESULTS_LOG_RING_BUFFER_SIZE = 1024;
+    private static final int NUMBER_OF_SIGNIFICANT_DIGITS = 4;
+
+    private final AtomicLong initiatedResultsLogEvents = new AtomicLong( 0 );
+    private final AtomicBoolean shutdown = new AtomicBoolean( false );
+    private final TimeSource timeSource;
+    private final TimeUnit unit;
+    private final long highestExpectedRuntimeDurationAsNano;
+    private final MetricsManager metricsManager;
+    private final int operationTypeCount;
+    private final ConcurrentLinkedQueue<ThreadRecorders> allThreadRecorders;
+    private final ThreadLocal<ThreadRecorders> threadRecorders;
+    private final TemporalUtil temporalUtil = new TemporalUtil();
+    private final LoggingService loggingService;
+    // results log, null when there is no results log to write
+    private final ExecutorService executor;
+    private final Disruptor<DirectBuffer> disruptor;
+    private final RingBuffer<DirectBuffer> ringBuffer;
+    private final DisruptorSbeResultsLogEventHandler resultsLogEventHandler;
+
+    public HdrHistogramMetricsService(
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            TimeUnit unit,
+            long highestExpectedRuntimeDurationAsNano,
+            ResultsLogWriter resultsLogWriter,
+            Map<Integer,Class<? extends Operation>> operationTypeToClassMapping,
+            LoggingServiceFactory loggingServiceFactory ) throws MetricsCollectionException
+    {
+        this.timeSource = timeSource;
+        this.unit = unit;
+        this.highestExpectedRuntimeDurationAsNano = highestExpectedRuntimeDurationAsNano;
+        this.metricsManager = new MetricsManager(
+                timeSource,
+                unit,
+                highestExpectedRuntimeDurationAsNano,
+                operationTypeToClassMapping,
+                loggingServiceFactory );
+        String[] operationNames = MetricsManager.toOperationNameArray( operationTypeToClassMapping );
+        this.operationTypeCount = operationNames.length;
+        this.allThreadRecorders = new ConcurrentLinkedQueue<>();
+        this.threadRecorders = ThreadLocal.withInitial( this::newThreadRecorders );
+        this.loggingService = loggingServiceFactory.loggingServiceFor( getClass().getSimpleName() );
+
+        if ( resultsLogWriter instanceof NullResultsLogWriter )
+        {
+            this.executor = null;
+            this.disruptor = null;
+            this.ringBuffer = null;
+            this.resultsLogEventHandler = null;
+        }
+        else
+        {
+            this.executor = Executors.newSingleThreadExecutor();
+            this.disruptor = new Disruptor<>(
+                    new MetricsCollectionEventFactory(),
+                    RESULTS_LOG_RING_BUFFER_SIZE,
+                    executor,
+                    ProducerType.MULTI,
+                    new BlockingWaitStrategy()
+            );
+            this.resultsLogEventHandler =
+                    new DisruptorSbeResultsLogEventHandler( errorReporter, resultsLogWriter, operationNames );
+            disruptor.handleEventsWith( resultsLogEventHandler );
+            DisruptorExceptionHandler exceptionHandler = new DisruptorExceptionHandler( errorReporter );
+            disruptor.handleExceptionsFor( resultsLogEventHandler ).with( exceptionHandler );
+            disruptor.handleExceptionsWith( exceptionHandler );
+            this.ringBuffer = disruptor.start();
+        }
+    }
+
+    @Override
+    synchronized public void shutdown() throws MetricsCollectionException
+    {
+        if ( shutdown.get() )
+        {
+            throw new MetricsCollectionException( "Metrics service has already been shutdown" );
+        }
+        if ( null != disruptor )
+        {
+            shutdownResultsLog();
+        }
+        shutdown.set( true );
+    }
+
+    private void shutdownResultsLog() throws MetricsCollectionException
+    {
+        long startTimeMs = timeSource.nowAsMilli();
+        boolean shutdownSuccessful = false;
+        while ( timeSource.nowAsMilli() - startTimeMs < SHUTDOWN_WAIT_TIMEOUT_AS_MILLI )
+        {
+            if ( resultsLogEventHandler.processedEventCount() >= initiatedResultsLogEvents.get() )
+            {
+                shutdownSuccessful = true;
+                break;
+            }
+            LockSupport.parkNanos( TimeUnit.MILLISECONDS.toNanos( 100 ) );
+        }
+        if ( false == shutdownSuccessful )
+        {
+            String errMsg =
+                    format( "%s timed out waiting for last results to be logged\n%s/%s results logged",
+                            getClass().getSimpleName(),
+                            resultsLogEventHandler.processedEventCount(),
+                            initiatedResultsLogEvents.get()
+                    );
+            throw new MetricsCollectionException( errMsg );
+        }
+
+        // halt consumer before stopping its thread, otherwise it is interrupted mid-wait
+        try
+        {
+            disruptor.shutdown( SHUTDOWN_WAIT_TIMEOUT_AS_MILLI, TimeUnit.MILLISECONDS );
+        }
+        catch ( TimeoutException e )
+        {
+            String errMsg = format( "%s timed out waiting for %s to shutdown",
+                    getClass().getSimpleName(),
+                    disruptor.getClass().getSimpleName()
+            );
+            throw new MetricsCollectionException( errMsg, e );
+        }
+
+        try
+        {
+            executor.shutdown();
+            boolean terminatedSuccessfully =
+                    executor.awaitTermination( SHUTDOWN_WAIT_TIMEOUT_AS_MILLI, TimeUnit.MILLISECONDS );
+            if ( false == terminatedSuccessfully )
+            {
+                List<Runnable> stillRunningThreads = executor.shutdownNow();
+                if ( false == stillRunningThreads.isEmpty() )
+                {
+                    String errMsg = format(
+                            "%s shutdown before all executor threads could complete\n%s threads were queued for " +
+                            "execution but not yet started",
+                            getClass().getSimpleName(),
+                            stillRunningThreads.size() );
+                    throw new MetricsCollectionException( errMsg );
+                }
+            }
+        }
+        catch ( Exception e )
+        {
+            throw new MetricsCollectionException(
+                    "Error encountered while trying to shutdown results log disruptor executor", e );
+        }
+    }
+
+    @Override
+    public MetricsServiceWriter getWriter() throws MetricsCollectionException
+    {
+        if ( shutdown.get() )
+        {
+            throw new MetricsCollectionException( "Metrics service has already been shutdown" );
+        }
+        return new HdrHistogramMetricsServiceWriter( this );
+    }
+
+    private ThreadRecorders newThreadRecorders()
+    {
+        ThreadRecorders recorders = new ThreadRecorders( operationTypeCount, ringBuffer );
+        allThreadRecorders.add( recorders );
+        return recorders;
+    }
+
+    /**
+     * Drains the interval histograms of every thread into the accumulated (whole run) metrics.
+     * Synchronized, as interval histograms may only be taken by one reader at a time.
+     */
+    private synchronized void collect() throws MetricsCollectionException
+    {
+        for ( ThreadRecorders recorders : allThreadRecorders )
+        {
+            recorders.drainInto( metricsManager );
+        }
+    }
+
+    private synchronized WorkloadStatusSnapshot status() throws MetricsCollectionException
+    {
+        collect();
+        return metricsManager.status();
+    }
+
+    private synchronized WorkloadResultsSnapshot results() throws MetricsCollectionException
+    {
+        collect();
+        return metricsManager.snapshot();
+    }
+
+    private void submitOperationResult(
+            int operationType,
+            long scheduledStartTimeAsMilli,
+            long actualStartTimeAsMilli,
+            long runDurationAsNano,
+            int resultCode,
+            long originalStartTime,
+            long[] phaseDurationsAsNano,
+            int resultCardinality ) throws MetricsCollectionException
+    {
+        if ( shutdown.get() )
+        {
+            throw new MetricsCollectionException( "Metrics service has already been shutdown" );
+        }
+        ThreadRecorders recorders = threadRecorders.get();
+        if ( null != ringBuffer )
+        {
+            initiatedResultsLogEvents.incrementAndGet();
+            ringBuffer.publishEvent( recorders.submitOperationResultTranslator, operationType,
+                    scheduledStartTimeAsMilli, actualStartTimeAsMilli, runDurationAsNano, resultCode,
+                    originalStartTime, phaseDurationsAsNano, resultCardinality );
+        }
+        if ( runDurationAsNano > highestExpectedRuntimeDurationAsNano )
+        {
+            loggingService.info( format(
+                    "Error recording runtime - reported value exceeds maximum allowed. Time reported as maximum.\n"
+                    + "Reported: %s %s / %s\n"
+                    + "For operation type: %s\n"
+                    + "Maximum: %s %s / %s",
+                    runDurationAsNano,
+                    TimeUnit.NANOSECONDS.name(),
+                    temporalUtil.nanoDurationToString( runDurationAsNano ),
+                    operationType,
+                    highestExpectedRuntimeDurationAsNano,
+                    TimeUnit.NANOSECONDS.name(),
+                    temporalUtil.nanoDurationToString( highestExpectedRuntimeDurationAsNano ) ) );
+            runDurationAsNano = highestExpectedRuntimeDurationAsNano;
+        }
+        try
+        {
+            recorders.record(
+                    operationType,
+                    actualStartTimeAsMilli,
+                    runDurationAsNano,
+                    unit.convert( runDurationAsNano, TimeUnit.NANOSECONDS ) );
+            if ( null != phaseDurationsAsNano )
+            {
+                recorders.recordPhases( operationType, phaseDurationsAsNano, unit,
+                        highestExpectedRuntimeDurationAsNano );
+            }
+            if ( resultCardinality >= 0 )
+            {
+                recorders.recordResultCardinality( operationType, resultCardinality );
+            }
+        }
+        catch ( Throwable e )
+        {
+            throw new MetricsCollectionException(
+                    format( "Error encountered recording runtime %s %s for operation type %s",
+                            runDurationAsNano, TimeUnit.NANOSECONDS.name(), operationType ), e );
+        }
+    }
+
+    private static class HdrHistogramMetricsServiceWriter implements MetricsServiceWriter
+    {
+        private final HdrHistogramMetricsService metricsService;
+
+        private HdrHistogramMetricsServiceWriter( HdrHistogramMetricsService metricsService )
+        {
+            this.metricsService = metricsService;
+        }
+
+        @Override
+        public void submitOperationResult(
+                int operationType,
+                long scheduledStartTimeAsMilli,
+                long actualStartTimeAsMilli,
+                long runDurationAsNano,
+                int resultCode,
+                long originalStartTime,
+                long[] phaseDurationsAsNano,
+                int resultCardinality ) throws MetricsCollectionException
+        {
+            metricsService.submitOperationResult( operationType, scheduledStartTimeAsMilli, actualStartTimeAsMilli,
+                    runDurationAsNano, resultCode, originalStartTime, phaseDurationsAsNano, resultCardinality );
+        }
+
+        @Override
+        public WorkloadStatusSnapshot status() throws MetricsCollectionException
+        {
+            if ( metricsService.shutdown.get() )
+            {
+                throw new MetricsCollectionException( "Metrics service has already been shutdown" );
+            }
+            return metricsService.status();
+        }
+
+        @Override
+        public WorkloadResultsSnapshot results() throws MetricsCollectionException
+        {
+            if ( metricsService.shutdown.get() )
+            {
+                throw new MetricsCollectionException( "Metrics service has already been shutdown" );
+            }
+            return metricsService.results();
+        }
+    }
+
+    /**
+     * Recorders of one submitting thread. Recorders are auto-resizing and only created for the operation types that
+     * thread actually executes, which keeps the footprint small when there are many threads.
+     */
+    private static class ThreadRecorders
+    {
+        // written by the owning thread only, read when collecting
+        private final AtomicReferenceArray<SingleWriterRecorder> recorders;
+        // indexed by operation type * phase count + phase slot
+        private final AtomicReferenceArray<SingleWriterRecorder> phaseRecorders;
+        private final AtomicReferenceArray<SingleWriterRecorder> resultCardinalityRecorders;
+        // only touched while collecting
+        private final Histogram[] intervalHistograms;
+        private final Histogram[] phaseIntervalHistograms;
+        private final Histogram[] resultCardinalityIntervalHistograms;
+        private final SubmitOperationResultTranslator submitOperationResultTranslator;
+        private volatile long startTimeAsMilli = Long.MAX_VALUE;
+        private volatile long latestFinishTimeAsMilli = Long.MIN_VALUE;
+
+        private ThreadRecorders( int operationTypeCount, RingBuffer<DirectBuffer> ringBuffer )
+        {
+            this.recorders = new AtomicReferenceArray<>( operationTypeCount );
+            this.intervalHistograms = new Histogram[operationTypeCount];
+            this.phaseRecorders = new AtomicReferenceArray<>( operationTypeCount * OperationPhase.COUNT );
+            this.phaseIntervalHistograms = new Histogram[operationTypeCount * OperationPhase.COUNT];
+            this.resultCardinalityRecorders = new AtomicReferenceArray<>( operationTypeCount );
+            this.resultCardinalityIntervalHistograms = new Histogram[operationTypeCount];
+            this.submitOperationResultTranslator = (null == ringBuffer)
+                                                   ? null
+                                                   : new SubmitOperationResultTranslator( new MetricsEvent() );
+        }
+
+        private void record( int operationType, long actualStartTimeAsMilli, long runDurationAsNano, long runtime )
+        {
+            // times are updated before runtime is recorded, so collected times are never older than runtimes
+            if ( actualStartTimeAsMilli < startTimeAsMilli )
+            {
+                startTimeAsMilli = actualStartTimeAsMilli;
+            }
+            long operationFinishTimeAsMilli = actualStartTimeAsMilli + (runDurationAsNano / MetricsManager.ONE_MS_AS_NS);
+            if ( operationFinishTimeAsMilli > latestFinishTimeAsMilli )
+            {
+                latestFinishTimeAsMilli = operationFinishTimeAsMilli;
+            }
+            SingleWriterRecorder recorder = recorders.get( operationType );
+            if ( null == recorder )
+            {
+                recorder = new SingleWriterRecorder( NUMBER_OF_SIGNIFICANT_DIGITS );
+                recorders.set( operationType, recorder );
+            }
+            recorder.recordValue( runtime );
+        }
+
+        private void recordPhases( int operationType, long[] phaseDurationsAsNano, TimeUnit unit,
+                long highestExpectedRuntimeDurationAsNano )
+        {
+            for ( int slot = 0; slot < OperationPhase.COUNT; slot++ )
+            {
+                long phaseDurationAsNano = phaseDurationsAsNano[slot];
+                if ( phaseDurationAsNano < 0 )
+                {
+                    continue;
+                }
+                int index = operationType * OperationPhase.COUNT + slot;
+                SingleWriterRecorder recorder = phaseRecorders.get( index );
+                if ( null == recorder )
+                {
+                    recorder = new SingleWriterRecorder( NUMBER_OF_SIGNIFICANT_DIGITS );
+                    phaseRecorders.set( index, recorder );
+                }
+                recorder.recordValue( unit.convert(
+                        Math.min( phaseDurationAsNano, highestExpectedRuntimeDurationAsNano ),
+                        TimeUnit.NANOSECONDS ) );
+            }
+        }
+
+        private void recordResultCardinality( int operationType, int resultCardinality )
+        {
+            SingleWriterRecorder recorder = resultCardinalityRecorders.get( operationType );
+            if ( null == recorder )
+            {
+                recorder = new SingleWriterRecorder( NUMBER_OF_SIGNIFICANT_DIGITS );
+                resultCardinalityRecorders.set( operationType, recorder );
+            }
+            recorder.recordValue( resultCardinality );
+        }
+
+        private void drainInto( MetricsManager metricsManager ) throws MetricsCollectionException
+        {
+            for ( int operationType = 0; operationType < resultCardinalityIntervalHistograms.length; operationType++ )
+            {
+                SingleWriterRecorder recorder = resultCardinalityRecorders.get( operationType );
+                if ( null != recorder )
+                {
+                    resultCardinalityIntervalHistograms[operationType] =
+                            recorder.getIntervalHistogram( resultCardinalityIntervalHistograms[operationType] );
+                    if ( resultCardinalityIntervalHistograms[operationType].getTotalCount() > 0 )
+                    {
+                        metricsManager.addResultCardinalities(
+                                operationType,
+                                resultCardinalityIntervalHistograms[operationType] );
+                    }
+                }
+            }
+            for ( int index = 0; index < phaseIntervalHistograms.length; index++ )
+            {
+                SingleWriterRecorder recorder = phaseRecorders.get( index );
+                if ( null != recorder )
+                {
+                    phaseIntervalHistograms[index] = recorder.getIntervalHistogram( phaseIntervalHistograms[index] );
+                    if ( phaseIntervalHistograms[index].getTotalCount() > 0 )
+                    {
+                        metricsManager.addPhase(
+                                index / OperationPhase.COUNT,
+                                index % OperationPhase.COUNT,
+                                phaseIntervalHistograms[index] );
+                    }
+                }
+            }
+            for ( int operationType = 0; operationType < intervalHistograms.length; operationType++ )
+            {
+                SingleWriterRecorder recorder = recorders.get( operationType );
+                if ( null != recorder )
+                {
+                    intervalHistograms[operationType] =
+                            recorder.getIntervalHistogram( intervalHistograms[operationType] );
+                    if ( intervalHistograms[operationType].getTotalCount() > 0 )
+                    {
+                        metricsManager.add( operationType, intervalHistograms[operationType] );
+                    }
+                }
+            }
+            metricsManager.updateStartAndLatestFinishTimes( startTimeAsMilli, latestFinishTimeAsMilli );
+        }
+    }
+
+    private static class SubmitOperationResultTranslator implements EventTranslatorVararg<DirectBuffer>
+    {
+        private final MetricsEvent metricsEvent;
+
+        private SubmitOperationResultTranslator( MetricsEvent metricsEvent )
+        {
+            this.metricsEvent = metricsEvent;
+        }
+
+        @Override
+        public void translateTo( DirectBuffer event, long l, Object... fields )
+        {
+            metricsEvent.wrapForEncode( event, MESSAGE_HEADER_SIZE )
+                    .eventType( SUBMIT_OPERATION_RESULT )
+                    .operationType( (int) fields[0] )
+                    .scheduledStartTimeAsMilli( (long) fields[1] )
+                    .actualStartTimeAsMilli( (long) fields[2] )
+                    .runDurationAsNano( (long) fields[3] )
+                    .resultCode( (int) fields[4] )
+                    .originalStartTime( (long) fields[5] )
+                    .resultCardinality( (int) fields[7] );
+            DisruptorSbeMetricsEvent.encodePhaseDurations( metricsEvent, (long[]) fields[6] );
+        }
+    }
+}
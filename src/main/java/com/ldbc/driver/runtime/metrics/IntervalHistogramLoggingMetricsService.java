@@ -0,0 +1,343 @@
+package com.ldbc.driver.runtime.metrics;
+
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.scheduling.Spinner;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+import org.HdrHistogram.Recorder;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.PrintStream;
+import java.io.UnsupportedEncodingException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.lang.String.format;
+
+/**
+ * Decorates another metrics service, additionally recording runtimes into one interval {@link Recorder} per
+ * operation type. A background thread periodically writes the interval histograms, tagged with operation name, to
+ * an HdrHistogram interval log (see {@link HistogramLogWriter}), from which latency over time charts can be built
+ * without processing the full results log.
+ * <p>
+ * Runtimes are logged in the same unit as the workload results.
+ */
+public class IntervalHistogramLoggingMetricsService implements MetricsService
+{
+    private static final int NUMBER_OF_SIGNIFICANT_DIGITS = 3;
+    private static final long SHUTDOWN_WAIT_TIMEOUT_AS_MILLI = TimeUnit.SECONDS.toMillis( 5 );
+
+    private final MetricsService metricsService;
+    private final TimeUnit unit;
+    private final long highestExpectedRuntimeDurationAsNano;
+    private final Recorder[] recorders;
+    private final boolean recordInWriters;
+    private final IntervalHistogramLogThread intervalHistogramLogThread;
+    private final AtomicBoolean shutdown = new AtomicBoolean( false );
+
+    public IntervalHistogramLoggingMetricsService(
+            MetricsService metricsService,
+            ConcurrentErrorReporter errorReporter,
+            TimeUnit unit,
+            long highestExpectedRuntimeDurationAsNano,
+            Map<Integer,Class<? extends Operation>> operationTypeToClassMapping,
+            File intervalLog,
+            long logIntervalAsMilli ) throws MetricsCollectionException
+    {
+        this(
+                metricsService,
+                errorReporter,
+                unit,
+                highestExpectedRuntimeDurationAsNano,
+                operationTypeToClassMapping,
+                newIntervalRecorders( operationTypeToClassMapping ),
+                true,
+                intervalLog,
+                logIntervalAsMilli
+        );
+    }
+
+    /**
+     * For when the delegate metrics service itself records runtimes into the interval recorders, e.g.,
+     * {@link DisruptorSbeMetricsService} with an interval recorder consumer
+     *
+     * @param intervalRecorders as created by {@link #newIntervalRecorders(Map)}
+     */
+    public IntervalHistogramLoggingMetricsService(
+            MetricsService metricsService,
+            ConcurrentErrorReporter errorReporter,
+            TimeUnit unit,
+            Map<Integer,Class<? extends Operation>> operationTypeToClassMapping,
+            Recorder[] intervalRecorders,
+            File intervalLog,
+            long logIntervalAsMilli ) throws MetricsCollectionException
+    {
+        this(
+                metricsService,
+                errorReporter,
+                unit,
+                DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                operationTypeToClassMapping,
+                intervalRecorders,
+                false,
+                intervalLog,
+                logIntervalAsMilli
+        );
+    }
+
+    private IntervalHistogramLoggingMetricsService(
+            MetricsService metricsService,
+            ConcurrentErrorReporter errorReporter,
+            TimeUnit unit,
+            long highestExpectedRuntimeDurationAsNano,
+            Map<Integer,Class<? extends Operation>> operationTypeToClassMapping,
+            Recorder[] recorders,
+            boolean recordInWriters,
+            File intervalLog,
+            long logIntervalAsMilli ) throws MetricsCollectionException
+    {
+        if ( logIntervalAsMilli <= 0 )
+        {
+            throw new MetricsCollectionException( format( "Log interval must be positive: %s", logIntervalAsMilli ) );
+        }
+        this.metricsService = metricsService;
+        this.unit = unit;
+        this.highestExpectedRuntimeDurationAsNano = highestExpectedRuntimeDurationAsNano;
+        this.recorders = recorders;
+        this.recordInWriters = recordInWriters;
+        String[] operationNames = MetricsManager.toOperationNameArray( operationTypeToClassMapping );
+        PrintStream intervalLogStream;
+        try
+        {
+            intervalLogStream = new PrintStream( new FileOutputStream( intervalLog ), false, "UTF-8" );
+        }
+        catch ( FileNotFoundException | UnsupportedEncodingException e )
+        {
+            throw new MetricsCollectionException(
+                    format( "Error creating interval log: %s", intervalLog.getAbsolutePath() ), e );
+        }
+        this.intervalHistogramLogThread = new IntervalHistogramLogThread(
+                intervalLogStream,
+                recorders,
+                operationNames,
+                unit,
+                logIntervalAsMilli,
+                errorReporter );
+        this.intervalHistogramLogThread.start();
+    }
+
+    /**
+     * @return one recorder per operation type, indexed by operation type
+     */
+    public static Recorder[] newIntervalRecorders( Map<Integer,Class<? extends Operation>> operationTypeToClassMapping )
+            throws MetricsCollectionException
+    {
+        String[] operationNames = MetricsManager.toOperationNameArray( operationTypeToClassMapping );
+        Recorder[] recorders = new Recorder[operationNames.length];
+        for ( int operationType = 0; operationType < operationNames.length; operationType++ )
+        {
+            if ( null != operationNames[operationType] )
+            {
+                // auto-resizing, so footprint depends on the recorded range rather than the highest expected runtime
+                recorders[operationType] = new Recorder( NUMBER_OF_SIGNIFICANT_DIGITS );
+            }
+        }
+        return recorders;
+    }
+
+    @Override
+    public void shutdown() throws MetricsCollectionException
+    {
+        if ( shutdown.getAndSet( true ) )
+        {
+            throw new MetricsCollectionException( "Metrics service has already been shutdown" );
+        }
+        intervalHistogramLogThread.shutdown();
+        try
+        {
+            intervalHistogramLogThread.join( SHUTDOWN_WAIT_TIMEOUT_AS_MILLI );
+        }
+        catch ( InterruptedException e )
+        {
+            throw new MetricsCollectionException( "Interrupted while waiting for interval log to be written", e );
+        }
+        if ( intervalHistogramLogThread.isAlive() )
+        {
+            throw new MetricsCollectionException(
+                    format( "%s timed out waiting for interval log to be written", getClass().getSimpleName() ) );
+        }
+        metricsService.shutdown();
+    }
+
+    @Override
+    public MetricsServiceWriter getWriter() throws MetricsCollectionException
+    {
+        if ( false == recordInWriters )
+        {
+            return metricsService.getWriter();
+        }
+        return new IntervalHistogramLoggingMetricsServiceWriter(
+                metricsService.getWriter(),
+                recorders,
+                unit,
+                highestExpectedRuntimeDurationAsNano );
+    }
+
+    private static class IntervalHistogramLoggingMetricsServiceWriter implements MetricsServiceWriter
+    {
+        private final MetricsServiceWriter metricsServiceWriter;
+        private final Recorder[] recorders;
+        private final TimeUnit unit;
+        private final long highestExpectedRuntimeDurationAsNano;
+
+        private IntervalHistogramLoggingMetricsServiceWriter(
+                MetricsServiceWriter metricsServiceWriter,
+                Recorder[] recorders,
+                TimeUnit unit,
+                long highestExpectedRuntimeDurationAsNano )
+        {
+            this.metricsServiceWriter = metricsServiceWriter;
+            this.recorders = recorders;
+            this.unit = unit;
+            this.highestExpectedRuntimeDurationAsNano = highestExpectedRuntimeDurationAsNano;
+        }
+
+        @Override
+        public void submitOperationResult(
+                int operationType,
+                long scheduledStartTimeAsMilli,
+                long actualStartTimeAsMilli,
+                long runDurationAsNano,
+                int resultCode,
+                long originalStartTime,
+                long[] phaseDurationsAsNano,
+                int resultCardinality ) throws MetricsCollectionException
+        {
+            // delegate first, it rejects results after shutdown
+            metricsServiceWriter.submitOperationResult( operationType, scheduledStartTimeAsMilli,
+                    actualStartTimeAsMilli, runDurationAsNano, resultCode, originalStartTime, phaseDurationsAsNano,
+                    resultCardinality );
+            long runtime = unit.convert(
+                    Math.min( runDurationAsNano, highestExpectedRuntimeDurationAsNano ),
+                    TimeUnit.NANOSECONDS );
+            recorders[operationType].recordValue( runtime );
+        }
+
+        @Override
+        public WorkloadStatusSnapshot status() throws MetricsCollectionException
+        {
+            return metricsServiceWriter.status();
+        }
+
+        @Override
+        public WorkloadResultsSnapshot results() throws MetricsCollectionException
+        {
+            return metricsServiceWriter.results();
+        }
+    }
+
+    private static class IntervalHistogramLogThread extends Thread
+    {
+        private final PrintStream intervalLogStream;
+        private final HistogramLogWriter histogramLogWriter;
+        private final Recorder[] recorders;
+        private final Histogram[] intervalHistograms;
+        private final String[] operationNames;
+        private final TimeUnit unit;
+        private final long logIntervalAsMilli;
+        private final ConcurrentErrorReporter errorReporter;
+        private final AtomicBoolean continueRunning = new AtomicBoolean( true );
+        private long startTimeAsMilli;
+
+        private IntervalHistogramLogThread(
+                PrintStream intervalLogStream,
+                Recorder[] recorders,
+                String[] operationNames,
+                TimeUnit unit,
+                long logIntervalAsMilli,
+                ConcurrentErrorReporter errorReporter )
+        {
+            super( IntervalHistogramLogThread.class.getSimpleName() + "-" + System.currentTimeMillis() );
+            this.intervalLogStream = intervalLogStream;
+            this.histogramLogWriter = new HistogramLogWriter( intervalLogStream );
+            this.recorders = recorders;
+            this.intervalHistograms = new Histogram[recorders.length];
+            this.operationNames = operationNames;
+            this.unit = unit;
+            this.logIntervalAsMilli = logIntervalAsMilli;
+            this.errorReporter = errorReporter;
+        }
+
+        @Override
+        public void run()
+        {
+            try
+            {
+                startTimeAsMilli = System.currentTimeMillis();
+                histogramLogWriter.outputLogFormatVersion();
+                histogramLogWriter.outputComment( format( "Runtimes in %s", unit.name() ) );
+                histogramLogWriter.outputStartTime( startTimeAsMilli );
+                histogramLogWriter.setBaseTime( startTimeAsMilli );
+                histogramLogWriter.outputLegend();
+                long nextLogTimeAsMilli = startTimeAsMilli + logIntervalAsMilli;
+                while ( continueRunning.get() )
+                {
+                    long sleepAsMilli = nextLogTimeAsMilli - System.currentTimeMillis();
+                    if ( sleepAsMilli > 0 )
+                    {
+                        Spinner.powerNap( Math.min( sleepAsMilli, 100 ) );
+                        continue;
+                    }
+                    writeIntervalHistograms();
+                    nextLogTimeAsMilli += logIntervalAsMilli;
+                }
+                // last, partial, interval
+                writeIntervalHistograms();
+            }
+            catch ( Throwable e )
+            {
+                errorReporter.reportError(
+                        this,
+                        format( "Interval log thread encountered unexpected error - exiting\n%s",
+                                ConcurrentErrorReporter.stackTraceToString( e ) )
+                );
+            }
+            finally
+            {
+                intervalLogStream.close();
+            }
+        }
+
+        private void writeIntervalHistograms()
+        {
+            for ( int operationType = 0; operationType < recorders.length; operationType++ )
+            {
+                if ( null == recorders[operationType] )
+                {
+                    continue;
+                }
+                intervalHistograms[operationType] =
+                        recorders[operationType].getIntervalHistogram( intervalHistograms[operationType] );
+                if ( intervalHistograms[operationType].getTotalCount() > 0 )
+                {
+                    intervalHistograms[operationType].setTag( operationNames[operationType] );
+                    // max column in the same unit as the values, rather than HdrHistogram's default of ns to ms
+                    histogramLogWriter.outputIntervalHistogram(
+                            (intervalHistograms[operationType].getStartTimeStamp() - startTimeAsMilli) / 1000.0,
+                            (intervalHistograms[operationType].getEndTimeStamp() - startTimeAsMilli) / 1000.0,
+                            intervalHistograms[operationType],
+                            1.0 );
+                }
+            }
+        }
+
+        private void shutdown()
+        {
+            continueRunning.set( false );
+        }
+    }
+}
@@ -0,0 +1,445 @@
+package com.ldbc.driver.runtime.metrics;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import static java.lang.String.format;
+
+/**
+ * Exposes the most recently published {@link LiveMetricsSnapshot} as JMX MXBeans and/or, in Prometheus text
+ * format, over HTTP.
+ * <p>
+ * Readers only ever see the last published snapshot, they never call into the metrics service, so scraping does
+ * not interfere with workers.
+ */
+public class LiveMetricsExporter implements AutoCloseable
+{
+    public static final String JMX_DOMAIN = "com.ldbc.driver";
+    public static final String HTTP_PATH = "/metrics";
+    private static final String PROMETHEUS_CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+    private static final double[] QUANTILES = {0.5, 0.75, 0.9, 0.95, 0.99, 0.999};
+
+    public interface DriverMetricsMXBean
+    {
+        long getRunDurationAsMilli();
+
+        long getOperationCount();
+
+        double getThroughput();
+
+        long getCompletionTimeAsMilli();
+
+        long getErrorCount();
+
+        Map<String,Long> getUncompletedOperationHandlerCounts();
+
+        long getMetricsBackPressureCount();
+
+        long getMetricsBackPressureWaitTimeAsMilli();
+    }
+
+    public interface OperationMetricsMXBean
+    {
+        String getUnit();
+
+        long getCount();
+
+        double getMean();
+
+        long getMin();
+
+        long getMax();
+
+        long getPercentile50();
+
+        long getPercentile90();
+
+        long getPercentile95();
+
+        long getPercentile99();
+
+        long getPercentile99_9();
+    }
+
+    private final AtomicReference<LiveMetricsSnapshot> snapshot = new AtomicReference<>( LiveMetricsSnapshot.EMPTY );
+    private final boolean jmxEnabled;
+    private final List<ObjectName> registeredNames = new ArrayList<>();
+    private final HttpServer httpServer;
+
+    public LiveMetricsExporter( boolean jmxEnabled, int httpPort ) throws MetricsCollectionException
+    {
+        this( jmxEnabled, null, httpPort );
+    }
+
+    /**
+     * @param jmxEnabled register MXBeans with the platform MBean server
+     * @param httpHost host/address to serve Prometheus text on, null for the loopback address
+     * @param httpPort port to serve Prometheus text on, 0 to not start the HTTP endpoint
+     */
+    public LiveMetricsExporter( boolean jmxEnabled, String httpHost, int httpPort ) throws MetricsCollectionException
+    {
+        this.jmxEnabled = jmxEnabled;
+        if ( jmxEnabled )
+        {
+            register( objectName( "type=Driver" ), new DriverMetrics() );
+        }
+        if ( httpPort > 0 )
+        {
+            try
+            {
+                InetSocketAddress address = (null == httpHost)
+                                            ? new InetSocketAddress( InetAddress.getLoopbackAddress(), httpPort )
+                                            : new InetSocketAddress( httpHost, httpPort );
+                this.httpServer = HttpServer.create( address, 0 );
+            }
+            catch ( IOException e )
+            {
+                throw new MetricsCollectionException(
+                        format( "Error starting metrics endpoint on %s:%s", httpHost, httpPort ), e );
+            }
+            httpServer.createContext( HTTP_PATH, new HttpHandler()
+            {
+                @Override
+                public void handle( HttpExchange exchange ) throws IOException
+                {
+                    handleScrape( exchange );
+                }
+            } );
+            // default executor is a single background thread
+            httpServer.start();
+        }
+        else
+        {
+            this.httpServer = null;
+        }
+    }
+
+    public int httpPort()
+    {
+        return (null == httpServer) ? 0 : httpServer.getAddress().getPort();
+    }
+
+    /**
+     * @return address the HTTP endpoint is bound to, null if it was not started
+     */
+    public InetSocketAddress httpAddress()
+    {
+        return (null == httpServer) ? null : httpServer.getAddress();
+    }
+
+    public LiveMetricsSnapshot snapshot()
+    {
+        return snapshot.get();
+    }
+
+    public void publish( LiveMetricsSnapshot newSnapshot ) throws MetricsCollectionException
+    {
+        snapshot.set( newSnapshot );
+        if ( jmxEnabled )
+        {
+            // operation types are only known once they have been measured
+            for ( OperationMetricsSnapshot operationMetrics : newSnapshot.operationMetrics() )
+            {
+                ObjectName name = objectName( "type=Operation,name=" + ObjectName.quote( operationMetrics.name() ) );
+                if ( false == registeredNames.contains( name ) )
+                {
+                    register( name, new OperationMetrics( operationMetrics.name() ) );
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() throws MetricsCollectionException
+    {
+        if ( null != httpServer )
+        {
+            httpServer.stop( 0 );
+        }
+        MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        try
+        {
+            for ( ObjectName name : registeredNames )
+            {
+                mBeanServer.unregisterMBean( name );
+            }
+        }
+        catch ( Exception e )
+        {
+            throw new MetricsCollectionException( "Error unregistering driver MXBeans", e );
+        }
+        finally
+        {
+            registeredNames.clear();
+        }
+    }
+
+    private ObjectName objectName( String properties ) throws MetricsCollectionException
+    {
+        try
+        {
+            return new ObjectName( JMX_DOMAIN + ":" + properties );
+        }
+        catch ( Exception e )
+        {
+            throw new MetricsCollectionException( format( "Invalid MXBean name: %s", properties ), e );
+        }
+    }
+
+    private void register( ObjectName name, Object mxBean ) throws MetricsCollectionException
+    {
+        MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        try
+        {
+            // left over from a previous (e.g., warmup) run in the same JVM
+            if ( mBeanServer.isRegistered( name ) )
+            {
+                mBeanServer.unregisterMBean( name );
+            }
+            mBeanServer.registerMBean( mxBean, name );
+            registeredNames.add( name );
+        }
+        catch ( Exception e )
+        {
+            throw new MetricsCollectionException( format( "Error registering MXBean: %s", name ), e );
+        }
+    }
+
+    private void handleScrape( HttpExchange exchange ) throws IOException
+    {
+        byte[] body = toPrometheusText( snapshot.get() ).getBytes( StandardCharsets.UTF_8 );
+        exchange.getResponseHeaders().set( "Content-Type", PROMETHEUS_CONTENT_TYPE );
+        exchange.sendResponseHeaders( 200, body.length );
+        try ( OutputStream responseBody = exchange.getResponseBody() )
+        {
+            responseBody.write( body );
+        }
+    }
+
+    public static String toPrometheusText( LiveMetricsSnapshot snapshot )
+    {
+        StringBuilder sb = new StringBuilder();
+        gauge( sb, "ldbc_driver_run_duration_milliseconds", "Time since the first operation started",
+                snapshot.runDurationAsMilli() );
+        counter( sb, "ldbc_driver_operations_total", "Operations completed", snapshot.operationCount() );
+        gauge( sb, "ldbc_driver_throughput", "Operations completed per second", snapshot.throughput() );
+        gauge( sb, "ldbc_driver_completion_time_milliseconds", "Global completion time",
+                snapshot.completionTimeAsMilli() );
+        counter( sb, "ldbc_driver_errors_total", "Errors reported by the driver", snapshot.errorCount() );
+        // only metrics services with a ring buffer record back-pressure
+        if ( null != snapshot.metricsBackPressureCount() )
+        {
+            counter( sb, "ldbc_driver_metrics_back_pressure_total",
+                    "Results that found the metrics service ring buffer full", snapshot.metricsBackPressureCount() );
+            counter( sb, "ldbc_driver_metrics_back_pressure_wait_milliseconds_total",
+                    "Time spent waiting for metrics service ring buffer capacity",
+                    snapshot.metricsBackPressureWaitTimeAsMilli() );
+        }
+
+        header( sb, "ldbc_driver_executor_uncompleted_handlers",
+                "Operation handlers submitted to an executor but not yet completed", "gauge" );
+        for ( Map.Entry<String,Long> entry : snapshot.uncompletedOperationHandlerCounts().entrySet() )
+        {
+            sb.append( "ldbc_driver_executor_uncompleted_handlers{executor=\"" ).append( entry.getKey() )
+                    .append( "\"} " ).append( entry.getValue() ).append( '\n' );
+        }
+
+        String unit = snapshot.unit().name().toLowerCase( Locale.ROOT );
+        String runtimeName = "ldbc_driver_operation_runtime_" + unit;
+        header( sb, runtimeName, "Operation runtimes", "summary" );
+        for ( OperationMetricsSnapshot operationMetrics : snapshot.operationMetrics() )
+        {
+            ContinuousMetricSnapshot runtime = operationMetrics.runTimeMetric();
+            String operation = operationMetrics.name();
+            long[] values = {runtime.percentile50(), runtime.percentile75(), runtime.percentile90(),
+                    runtime.percentile95(), runtime.percentile99(), runtime.percentile99_9()};
+            for ( int i = 0; i < QUANTILES.length; i++ )
+            {
+                sb.append( runtimeName ).append( "{operation=\"" ).append( operation ).append( "\",quantile=\"" )
+                        .append( QUANTILES[i] ).append( "\"} " ).append( values[i] ).append( '\n' );
+            }
+            sb.append( runtimeName ).append( "_sum{operation=\"" ).append( operation ).append( "\"} " )
+                    .append( (long) (runtime.mean() * runtime.count()) ).append( '\n' );
+            sb.append( runtimeName ).append( "_count{operation=\"" ).append( operation ).append( "\"} " )
+                    .append( runtime.count() ).append( '\n' );
+        }
+        return sb.toString();
+    }
+
+    private static void gauge( StringBuilder sb, String name, String help, Number value )
+    {
+        header( sb, name, help, "gauge" );
+        sb.append( name ).append( ' ' ).append( value ).append( '\n' );
+    }
+
+    private static void counter( StringBuilder sb, String name, String help, long value )
+    {
+        header( sb, name, help, "counter" );
+        sb.append( name ).append( ' ' ).append( value ).append( '\n' );
+    }
+
+    private static void header( StringBuilder sb, String name, String help, String type )
+    {
+        sb.append( "# HELP " ).append( name ).append( ' ' ).append( help ).append( '\n' );
+        sb.append( "# TYPE " ).append( name ).append( ' ' ).append( type ).append( '\n' );
+    }
+
+    private class DriverMetrics implements DriverMetricsMXBean
+    {
+        @Override
+        public long getRunDurationAsMilli()
+        {
+            return snapshot.get().runDurationAsMilli();
+        }
+
+        @Override
+        public long getOperationCount()
+        {
+            return snapshot.get().operationCount();
+        }
+
+        @Override
+        public double getThroughput()
+        {
+            return snapshot.get().throughput();
+        }
+
+        @Override
+        public long getCompletionTimeAsMilli()
+        {
+            return snapshot.get().completionTimeAsMilli();
+        }
+
+        @Override
+        public long getErrorCount()
+        {
+            return snapshot.get().errorCount();
+        }
+
+        @Override
+        public Map<String,Long> getUncompletedOperationHandlerCounts()
+        {
+            return snapshot.get().uncompletedOperationHandlerCounts();
+        }
+
+        @Override
+        public long getMetricsBackPressureCount()
+        {
+            Long metricsBackPressureCount = snapshot.get().metricsBackPressureCount();
+            return (null == metricsBackPressureCount) ? 0 : metricsBackPressureCount;
+        }
+
+        @Override
+        public long getMetricsBackPressureWaitTimeAsMilli()
+        {
+            Long metricsBackPressureWaitTimeAsMilli = snapshot.get().metricsBackPressureWaitTimeAsMilli();
+            return (null == metricsBackPressureWaitTimeAsMilli) ? 0 : metricsBackPressureWaitTimeAsMilli;
+        }
+    }
+
+    private class OperationMetrics implements OperationMetricsMXBean
+    {
+        private final String operationName;
+
+        private OperationMetrics( String operationName )
+        {
+            this.operationName = operationName;
+        }
+
+        private ContinuousMetricSnapshot runtime()
+        {
+            for ( OperationMetricsSnapshot operationMetrics : snapshot.get().operationMetrics() )
+            {
+                if ( operationMetrics.name().equals( operationName ) )
+                {
+                    return operationMetrics.runTimeMetric();
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public String getUnit()
+        {
+            return snapshot.get().unit().name();
+        }
+
+        @Override
+        public long getCount()
+        {
+            ContinuousMetricSnapshot runtime = runtime();
+            return (null == runtime) ? 0 : runtime.count();
+        }
+
+        @Override
+        public double getMean()
+        {
+            ContinuousMetricSnapshot runtime = runtime();
+            return (null == runtime) ? 0 : runtime.mean();
+        }
+
+        @Override
+        public long getMin()
+        {
+            ContinuousMetricSnapshot runtime = runtime();
+            return (null == runtime) ? 0 : runtime.min();
+        }
+
+        @Override
+        public long getMax()
+        {
+            ContinuousMetricSnapshot runtime = runtime();
+            return (null == runtime) ? 0 : runtime.max();
+        }
+
+        @Override
+        public long getPercentile50()
+        {
+            ContinuousMetricSnapshot runtime = runtime();
+            return (null == runtime) ? 0 : runtime.percentile50();
+        }
+
+        @Override
+        public long getPercentile90()
+        {
+            ContinuousMetricSnapshot runtime = runtime();
+            return (null == runtime) ? 0 : runtime.percentile90();
+        }
+
+        @Override
+        public long getPercentile95()
+        {
+            ContinuousMetricSnapshot runtime = runtime();
+            return (null == runtime) ? 0 : runtime.percentile95();
+        }
+
+        @Override
+        public long getPercentile99()
+        {
+            ContinuousMetricSnapshot runtime = runtime();
+            return (null == runtime) ? 0 : runtime.percentile99();
+        }
+
+        @Override
+        public long getPercentile99_9()
+        {
+            ContinuousMetricSnapshot runtime = runtime();
+            return (null == runtime) ? 0 : runtime.percentile99_9();
+        }
+    }
+}
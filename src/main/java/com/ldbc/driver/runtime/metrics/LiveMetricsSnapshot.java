@@ -0,0 +1,117 @@
+package com.ldbc.driver.runtime.metrics;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Point in time view of a running workload, as exposed by {@link LiveMetricsExporter}
+ */
+public class LiveMetricsSnapshot
+{
+    public static final LiveMetricsSnapshot EMPTY = new LiveMetricsSnapshot(
+            -1,
+            0,
+            0,
+            0.0,
+            -1,
+            0,
+            Collections.<String,Long>emptyMap(),
+            new WorkloadResultsSnapshot( Collections.<OperationMetricsSnapshot>emptyList(), -1, -1, 0,
+                    TimeUnit.MILLISECONDS )
+    );
+
+    private final long snapshotTimeAsMilli;
+    private final long runDurationAsMilli;
+    private final long operationCount;
+    private final double throughput;
+    private final long completionTimeAsMilli;
+    private final long errorCount;
+    private final Map<String,Long> uncompletedOperationHandlerCounts;
+    private final WorkloadResultsSnapshot results;
+
+    public LiveMetricsSnapshot(
+            long snapshotTimeAsMilli,
+            long runDurationAsMilli,
+            long operationCount,
+            double throughput,
+            long completionTimeAsMilli,
+            long errorCount,
+            Map<String,Long> uncompletedOperationHandlerCounts,
+            WorkloadResultsSnapshot results )
+    {
+        this.snapshotTimeAsMilli = snapshotTimeAsMilli;
+        this.runDurationAsMilli = runDurationAsMilli;
+        this.operationCount = operationCount;
+        this.throughput = throughput;
+        this.completionTimeAsMilli = completionTimeAsMilli;
+        this.errorCount = errorCount;
+        this.uncompletedOperationHandlerCounts = Collections.unmodifiableMap( uncompletedOperationHandlerCounts );
+        this.results = results;
+    }
+
+    public long snapshotTimeAsMilli()
+    {
+        return snapshotTimeAsMilli;
+    }
+
+    public long runDurationAsMilli()
+    {
+        return runDurationAsMilli;
+    }
+
+    public long operationCount()
+    {
+        return operationCount;
+    }
+
+    public double throughput()
+    {
+        return throughput;
+    }
+
+    public long completionTimeAsMilli()
+    {
+        return completionTimeAsMilli;
+    }
+
+    public long errorCount()
+    {
+        return errorCount;
+    }
+
+    /**
+     * @return executor name to number of operation handlers submitted to that executor but not yet completed
+     */
+    public Map<String,Long> uncompletedOperationHandlerCounts()
+    {
+        return uncompletedOperationHandlerCounts;
+    }
+
+    /**
+     * @return number of results that found the ring buffer of the metrics service full, null if not recorded
+     */
+    public Long metricsBackPressureCount()
+    {
+        return results.metricsBackPressureCount();
+    }
+
+    /**
+     * @return total time submitters of results waited for ring buffer capacity, null if not recorded
+     */
+    public Long metricsBackPressureWaitTimeAsMilli()
+    {
+        return results.metricsBackPressureWaitTimeAsMilli();
+    }
+
+    public List<OperationMetricsSnapshot> operationMetrics()
+    {
+        return results.allMetrics();
+    }
+
+    public TimeUnit unit()
+    {
+        return results.unit();
+    }
+}
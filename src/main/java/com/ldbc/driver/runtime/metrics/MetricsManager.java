@@ -4,6 +4,7 @@ import com.google.common.collect.Ordering;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.control.LoggingServiceFactory;
 import com.ldbc.driver.temporal.TimeSource;
+import org.HdrHistogram.Histogram;
 
 import java.io.OutputStream;
 import java.nio.charset.Charset;
@@ -155,6 +156,67 @@ public class MetricsManager
         operationTypeMetricsManagers[operationType].measure( runDurationAsNano );
     }
 
+    /**
+     * @param phaseDurationsAsNano handler reported phase durations, indexed by phase slot, may be null
+     */
+    public void measurePhases( int operationType, long[] phaseDurationsAsNano ) throws MetricsCollectionException
+    {
+        if ( null != phaseDurationsAsNano )
+        {
+            operationTypeMetricsManagers[operationType].measurePhases( phaseDurationsAsNano );
+        }
+    }
+
+    /**
+     * Merges phase times that were recorded elsewhere into those of the given operation type and phase slot. Times
+     * must be expressed in the unit of this metrics manager.
+     */
+    public void addPhase( int operationType, int slot, Histogram phaseTimes ) throws MetricsCollectionException
+    {
+        operationTypeMetricsManagers[operationType].addPhase( slot, phaseTimes );
+    }
+
+    /**
+     * @param resultCardinality number of rows in the result, ignored if negative
+     */
+    public void measureResultCardinality( int operationType, int resultCardinality ) throws MetricsCollectionException
+    {
+        if ( resultCardinality >= 0 )
+        {
+            operationTypeMetricsManagers[operationType].measureResultCardinality( resultCardinality );
+        }
+    }
+
+    /**
+     * Merges result cardinalities that were recorded elsewhere into those of the given operation type.
+     */
+    public void addResultCardinalities( int operationType, Histogram resultCardinalities )
+            throws MetricsCollectionException
+    {
+        operationTypeMetricsManagers[operationType].addResultCardinalities( resultCardinalities );
+    }
+
+    /**
+     * Merges runtimes that were recorded elsewhere (e.g., by per-writer histogram recorders) into the runtimes of
+     * the given operation type. Runtimes must be expressed in the unit of this metrics manager.
+     */
+    public void add( int operationType, Histogram runtimes ) throws MetricsCollectionException
+    {
+        operationTypeMetricsManagers[operationType].add( runtimes );
+    }
+
+    public void updateStartAndLatestFinishTimes( long startTimeAsMilli, long latestFinishTimeAsMilli )
+    {
+        if ( startTimeAsMilli < this.startTimeAsMilli )
+        {
+            this.startTimeAsMilli = startTimeAsMilli;
+        }
+        if ( latestFinishTimeAsMilli > this.latestFinishTimeAsMilli )
+        {
+            this.latestFinishTimeAsMilli = latestFinishTimeAsMilli;
+        }
+    }
+
     public void applyResultsLog( ResultsLogReader reader ) throws MetricsCollectionException
     {
         Map<String,Integer> simpleNameToTypeMapping = simpleNameToTypeMapping( operationTypeToClassMapping );
@@ -162,6 +224,7 @@ public class MetricsManager
         {
             int operationType = simpleNameToTypeMapping.get( reader.getOperationName() );
             measure( reader.getActualStartTimeAsMilli(), reader.getRunDurationAsNano(), operationType );
+            measureResultCardinality( operationType, reader.getResultCardinality() );
         }
     }
 
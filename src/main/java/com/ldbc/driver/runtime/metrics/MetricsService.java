@@ -8,13 +8,33 @@ public interface MetricsService
 
     interface MetricsServiceWriter
     {
+        default void submitOperationResult(
+                int operationType,
+                long scheduledStartTimeAsMilli,
+                long actualStartTimeAsMilli,
+                long runDurationAsNano,
+                int resultCode,
+                long originalStartTime) throws MetricsCollectionException
+        {
+            submitOperationResult( operationType, scheduledStartTimeAsMilli, actualStartTimeAsMilli,
+                    runDurationAsNano, resultCode, originalStartTime, null, -1 );
+        }
+
+        /**
+         * @param phaseDurationsAsNano handler reported duration of each {@link com.ldbc.driver.OperationPhase},
+         * indexed by phase slot and negative for phases that were not reported, or null if none were. Only valid for
+         * the duration of the call.
+         * @param resultCardinality number of rows in the operation result, negative if not known
+         */
         void submitOperationResult(
                 int operationType,
                 long scheduledStartTimeAsMilli,
                 long actualStartTimeAsMilli,
                 long runDurationAsNano,
                 int resultCode,
-                long originalStartTime) throws MetricsCollectionException;
+                long originalStartTime,
+                long[] phaseDurationsAsNano,
+                int resultCardinality ) throws MetricsCollectionException;
 
         WorkloadStatusSnapshot status() throws MetricsCollectionException;
 
@@ -1,7 +1,11 @@
 package com.ldbc.driver.runtime.metrics;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 public class OperationMetricsSnapshot {
@@ -13,6 +17,14 @@ public class OperationMetricsSnapshot {
     private long count;
     @JsonProperty("run_time")
     private ContinuousMetricSnapshot rutTimeMetric;
+    // only present when handlers reported phase durations
+    @JsonProperty("phase_times")
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private Map<String, ContinuousMetricSnapshot> phaseTimeMetrics = new LinkedHashMap<>();
+    // only present when result cardinalities were recorded
+    @JsonProperty("result_cardinality")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private ContinuousMetricSnapshot resultCardinalityMetric;
 
     private OperationMetricsSnapshot() {
     }
@@ -21,10 +33,29 @@ public class OperationMetricsSnapshot {
                                     TimeUnit durationUnit,
                                     long count,
                                     ContinuousMetricSnapshot rutTimeMetric) {
+        this(name, durationUnit, count, rutTimeMetric, Collections.<String, ContinuousMetricSnapshot>emptyMap());
+    }
+
+    public OperationMetricsSnapshot(String name,
+                                    TimeUnit durationUnit,
+                                    long count,
+                                    ContinuousMetricSnapshot rutTimeMetric,
+                                    Map<String, ContinuousMetricSnapshot> phaseTimeMetrics) {
+        this(name, durationUnit, count, rutTimeMetric, phaseTimeMetrics, null);
+    }
+
+    public OperationMetricsSnapshot(String name,
+                                    TimeUnit durationUnit,
+                                    long count,
+                                    ContinuousMetricSnapshot rutTimeMetric,
+                                    Map<String, ContinuousMetricSnapshot> phaseTimeMetrics,
+                                    ContinuousMetricSnapshot resultCardinalityMetric) {
         this.name = name;
         this.durationUnit = durationUnit;
         this.count = count;
         this.rutTimeMetric = rutTimeMetric;
+        this.phaseTimeMetrics = new LinkedHashMap<>(phaseTimeMetrics);
+        this.resultCardinalityMetric = resultCardinalityMetric;
     }
 
     public String name() {
@@ -43,6 +74,22 @@ public class OperationMetricsSnapshot {
         return rutTimeMetric;
     }
 
+    /**
+     * @return phase name to times of that phase, for the phases handlers reported
+     */
+    public Map<String, ContinuousMetricSnapshot> phaseTimeMetrics() {
+        return (null == phaseTimeMetrics)
+                ? Collections.<String, ContinuousMetricSnapshot>emptyMap()
+                : phaseTimeMetrics;
+    }
+
+    /**
+     * @return number of rows in results of this operation type, or null if they were not recorded
+     */
+    public ContinuousMetricSnapshot resultCardinalityMetric() {
+        return resultCardinalityMetric;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -55,6 +102,9 @@ public class OperationMetricsSnapshot {
         if (name != null ? !name.equals(that.name) : that.name != null) return false;
         if (rutTimeMetric != null ? !rutTimeMetric.equals(that.rutTimeMetric) : that.rutTimeMetric != null)
             return false;
+        if (!phaseTimeMetrics().equals(that.phaseTimeMetrics())) return false;
+        if (resultCardinalityMetric != null ? !resultCardinalityMetric.equals(that.resultCardinalityMetric) : that.resultCardinalityMetric != null)
+            return false;
 
         return true;
     }
@@ -65,6 +115,8 @@ public class OperationMetricsSnapshot {
         result = 31 * result + (durationUnit != null ? durationUnit.hashCode() : 0);
         result = 31 * result + (int) (count ^ (count >>> 32));
         result = 31 * result + (rutTimeMetric != null ? rutTimeMetric.hashCode() : 0);
+        result = 31 * result + phaseTimeMetrics().hashCode();
+        result = 31 * result + (resultCardinalityMetric != null ? resultCardinalityMetric.hashCode() : 0);
         return result;
     }
 
@@ -75,6 +127,8 @@ public class OperationMetricsSnapshot {
                 ", durationUnit=" + durationUnit +
                 ", count=" + count +
                 ", rutTimeMetric=" + rutTimeMetric +
+                ", phaseTimeMetrics=" + phaseTimeMetrics() +
+                ", resultCardinalityMetric=" + resultCardinalityMetric +
                 '}';
     }
 }
@@ -0,0 +1,239 @@
+package com.ldbc.driver.runtime.metrics;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.temporal.TimeSource;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+
+/**
+ * Writes the lifecycle of individual operations to a trace file, in the Chrome trace event JSON format, which can
+ * be opened with chrome://tracing or https://ui.perfetto.dev
+ * <p>
+ * An operation is traced if it is sampled, if its execution took at least the threshold, or if it is a child of a
+ * traced operation. Each traced operation is a slice on the track of the thread that executed it, starting when the
+ * thread dequeued it, with nested slices for each stage it went through. A flow arrow connects it to the point at
+ * which it was dispatched, or spawned by its parent.
+ * <p>
+ * Traces are only written by threads executing operations, which all synchronize on the tracer, so sampling should
+ * be kept low enough for tracing not to become the bottleneck.
+ */
+public class OperationTracer
+{
+    public static final long NO_TRACE = -1;
+
+    private static final int PROCESS_ID = 1;
+
+    private final double sampleRate;
+    private final long thresholdAsNano;
+    private final long startTimeAsNano;
+    private final JsonGenerator jsonGenerator;
+    private final Set<Long> namedThreadIds = new HashSet<>();
+    private long nextTraceId = 0;
+    private boolean shutdown = false;
+
+    /**
+     * @param sampleRate fraction of operations to trace, in range [0,1]
+     * @param thresholdAsMilli operations executing for at least this are always traced, 0 disables
+     */
+    public OperationTracer( File traceFile, TimeSource timeSource, double sampleRate, long thresholdAsMilli )
+            throws MetricsCollectionException
+    {
+        this.sampleRate = sampleRate;
+        this.thresholdAsNano = TimeUnit.MILLISECONDS.toNanos( thresholdAsMilli );
+        this.startTimeAsNano = timeSource.nanoSnapshot();
+        try
+        {
+            this.jsonGenerator = new JsonFactory().createGenerator( traceFile, JsonEncoding.UTF8 );
+            jsonGenerator.writeStartObject();
+            jsonGenerator.writeStringField( "displayTimeUnit", "ms" );
+            jsonGenerator.writeObjectFieldStart( "otherData" );
+            jsonGenerator.writeNumberField( "start_time", timeSource.nowAsMilli() );
+            jsonGenerator.writeNumberField( "sample_rate", sampleRate );
+            jsonGenerator.writeNumberField( "threshold_ms", thresholdAsMilli );
+            jsonGenerator.writeEndObject();
+            jsonGenerator.writeArrayFieldStart( "traceEvents" );
+        }
+        catch ( IOException e )
+        {
+            throw new MetricsCollectionException( format( "Error creating trace file: %s", traceFile ), e );
+        }
+    }
+
+    /**
+     * Called by the thread that executed the operation, once it has completed.
+     * All times are from {@link TimeSource#nanoSnapshot()}.
+     *
+     * @param parentTraceId trace of the operation that spawned this one, {@link #NO_TRACE} if none
+     * @param checksPassedTimeAsNano when the completion time dependency was satisfied, -1 if the operation had none
+     * @return trace id of the operation, or {@link #NO_TRACE} if it was not traced
+     */
+    public long trace( Operation operation,
+            long parentTraceId,
+            Thread dispatchThread,
+            long dispatchTimeAsNano,
+            long dequeueTimeAsNano,
+            long checksPassedTimeAsNano,
+            long spinnerExitTimeAsNano,
+            long startTimeAsNano,
+            long endTimeAsNano,
+            long completedTimeAsNano ) throws MetricsCollectionException
+    {
+        boolean traced = NO_TRACE != parentTraceId ||
+                         (thresholdAsNano > 0 && endTimeAsNano - startTimeAsNano >= thresholdAsNano) ||
+                         (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+        if ( false == traced )
+        {
+            return NO_TRACE;
+        }
+        Thread thread = Thread.currentThread();
+        synchronized ( this )
+        {
+            if ( shutdown )
+            {
+                return NO_TRACE;
+            }
+            long traceId = nextTraceId++;
+            try
+            {
+                writeThreadName( dispatchThread );
+                writeThreadName( thread );
+
+                String dispatchName = (NO_TRACE == parentTraceId) ? "dispatch" : "spawn";
+                writeInstant( dispatchName, dispatchThread, dispatchTimeAsNano );
+                writeFlow( "s", dispatchName, traceId, dispatchThread, dispatchTimeAsNano );
+
+                jsonGenerator.writeStartObject();
+                writeEventHeader( "X", operation.getClass().getSimpleName(), thread, dequeueTimeAsNano );
+                writeDuration( dequeueTimeAsNano, completedTimeAsNano );
+                jsonGenerator.writeObjectFieldStart( "args" );
+                jsonGenerator.writeNumberField( "trace_id", traceId );
+                if ( NO_TRACE != parentTraceId )
+                {
+                    jsonGenerator.writeNumberField( "parent_trace_id", parentTraceId );
+                }
+                jsonGenerator.writeNumberField( "scheduled_start_time", operation.scheduledStartTimeAsMilli() );
+                jsonGenerator.writeNumberField( "time_stamp", operation.timeStamp() );
+                jsonGenerator.writeNumberField( "dependency_time_stamp", operation.dependencyTimeStamp() );
+                jsonGenerator.writeNumberField( "queue_wait_us", asMicro( dequeueTimeAsNano - dispatchTimeAsNano ) );
+                jsonGenerator.writeEndObject();
+                jsonGenerator.writeEndObject();
+
+                writeFlow( "f", dispatchName, traceId, thread, dequeueTimeAsNano );
+
+                long waitStartTimeAsNano = dequeueTimeAsNano;
+                if ( checksPassedTimeAsNano >= 0 )
+                {
+                    writeSlice( "ct_wait", thread, dequeueTimeAsNano, checksPassedTimeAsNano );
+                    waitStartTimeAsNano = checksPassedTimeAsNano;
+                }
+                writeSlice( "spinner_wait", thread, waitStartTimeAsNano, spinnerExitTimeAsNano );
+                writeSlice( "execute", thread, startTimeAsNano, endTimeAsNano );
+                writeSlice( "metrics_submit", thread, endTimeAsNano, completedTimeAsNano );
+            }
+            catch ( IOException e )
+            {
+                throw new MetricsCollectionException( format( "Error writing trace of: %s", operation ), e );
+            }
+            return traceId;
+        }
+    }
+
+    /**
+     * @return number of operations traced
+     */
+    public synchronized long shutdown() throws MetricsCollectionException
+    {
+        if ( false == shutdown )
+        {
+            shutdown = true;
+            try
+            {
+                jsonGenerator.writeEndArray();
+                jsonGenerator.writeEndObject();
+                jsonGenerator.close();
+            }
+            catch ( IOException e )
+            {
+                throw new MetricsCollectionException( "Error closing trace file", e );
+            }
+        }
+        return nextTraceId;
+    }
+
+    private void writeThreadName( Thread thread ) throws IOException
+    {
+        if ( namedThreadIds.add( thread.getId() ) )
+        {
+            jsonGenerator.writeStartObject();
+            jsonGenerator.writeStringField( "ph", "M" );
+            jsonGenerator.writeStringField( "name", "thread_name" );
+            jsonGenerator.writeNumberField( "pid", PROCESS_ID );
+            jsonGenerator.writeNumberField( "tid", thread.getId() );
+            jsonGenerator.writeObjectFieldStart( "args" );
+            jsonGenerator.writeStringField( "name", thread.getName() );
+            jsonGenerator.writeEndObject();
+            jsonGenerator.writeEndObject();
+        }
+    }
+
+    private void writeInstant( String name, Thread thread, long timeAsNano ) throws IOException
+    {
+        jsonGenerator.writeStartObject();
+        writeEventHeader( "i", name, thread, timeAsNano );
+        jsonGenerator.writeStringField( "s", "t" );
+        jsonGenerator.writeEndObject();
+    }
+
+    private void writeFlow( String phase, String name, long traceId, Thread thread, long timeAsNano )
+            throws IOException
+    {
+        jsonGenerator.writeStartObject();
+        writeEventHeader( phase, name, thread, timeAsNano );
+        jsonGenerator.writeNumberField( "id", traceId );
+        if ( "f".equals( phase ) )
+        {
+            // bind to the enclosing slice, the operation, rather than the next one
+            jsonGenerator.writeStringField( "bp", "e" );
+        }
+        jsonGenerator.writeEndObject();
+    }
+
+    private void writeSlice( String name, Thread thread, long fromTimeAsNano, long toTimeAsNano ) throws IOException
+    {
+        jsonGenerator.writeStartObject();
+        writeEventHeader( "X", name, thread, fromTimeAsNano );
+        writeDuration( fromTimeAsNano, toTimeAsNano );
+        jsonGenerator.writeEndObject();
+    }
+
+    private void writeEventHeader( String phase, String name, Thread thread, long timeAsNano ) throws IOException
+    {
+        jsonGenerator.writeStringField( "ph", phase );
+        jsonGenerator.writeStringField( "name", name );
+        jsonGenerator.writeStringField( "cat", "operation" );
+        jsonGenerator.writeNumberField( "pid", PROCESS_ID );
+        jsonGenerator.writeNumberField( "tid", thread.getId() );
+        jsonGenerator.writeNumberField( "ts", asMicro( timeAsNano - startTimeAsNano ) );
+    }
+
+    private void writeDuration( long fromTimeAsNano, long toTimeAsNano ) throws IOException
+    {
+        jsonGenerator.writeNumberField( "dur", asMicro( Math.max( 0, toTimeAsNano - fromTimeAsNano ) ) );
+    }
+
+    // trace event times are in micro seconds, fractions keep nano second precision
+    private static double asMicro( long durationAsNano )
+    {
+        return durationAsNano / 1000d;
+    }
+}
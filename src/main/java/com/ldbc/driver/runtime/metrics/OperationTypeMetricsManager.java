@@ -1,10 +1,14 @@
 package com.ldbc.driver.runtime.metrics;
 
+import com.ldbc.driver.OperationPhase;
 import com.ldbc.driver.control.LoggingService;
 import com.ldbc.driver.control.LoggingServiceFactory;
 import com.ldbc.driver.temporal.TemporalUtil;
+import org.HdrHistogram.Histogram;
 
 import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 import static java.lang.String.format;
@@ -12,9 +16,14 @@ import static java.lang.String.format;
 public class OperationTypeMetricsManager
 {
     private static final String METRIC_RUNTIME = "Runtime";
+    private static final String METRIC_RESULT_CARDINALITY = "Result Cardinality";
 
     private final TemporalUtil temporalUtil = new TemporalUtil();
     private final ContinuousMetricManager runTimeMetric;
+    // created on first use, as most handlers do not report phases
+    private final ContinuousMetricManager[] phaseTimeMetrics = new ContinuousMetricManager[OperationPhase.COUNT];
+    // created on first use, as results of some operation types are never counted
+    private ContinuousMetricManager resultCardinalityMetric = null;
     private final String name;
     private final TimeUnit unit;
     private final long highestExpectedRuntimeDurationAsNano;
@@ -87,9 +96,125 @@ public class OperationTypeMetricsManager
         }
     }
 
+    void add( Histogram runtimes ) throws MetricsCollectionException
+    {
+        try
+        {
+            runTimeMetric.addMeasurements( runtimes );
+        }
+        catch ( Throwable e )
+        {
+            String errMsg = format(
+                    "Error encountered adding %s runtimes to: %s\nHighest expected value: %s %s",
+                    runtimes.getTotalCount(),
+                    name,
+                    unit.convert( highestExpectedRuntimeDurationAsNano, TimeUnit.NANOSECONDS ),
+                    unit.name()
+            );
+            throw new MetricsCollectionException( errMsg, e );
+        }
+    }
+
+    /**
+     * @param phaseDurationsAsNano indexed by phase slot, negative for phases that were not reported
+     */
+    void measurePhases( long[] phaseDurationsAsNano ) throws MetricsCollectionException
+    {
+        for ( int slot = 0; slot < phaseDurationsAsNano.length; slot++ )
+        {
+            long phaseDurationAsNano = phaseDurationsAsNano[slot];
+            if ( phaseDurationAsNano >= 0 )
+            {
+                phaseTimeMetric( slot ).addMeasurement( unit.convert(
+                        Math.min( phaseDurationAsNano, highestExpectedRuntimeDurationAsNano ),
+                        TimeUnit.NANOSECONDS ) );
+            }
+        }
+    }
+
+    void addPhase( int slot, Histogram phaseTimes ) throws MetricsCollectionException
+    {
+        try
+        {
+            phaseTimeMetric( slot ).addMeasurements( phaseTimes );
+        }
+        catch ( Throwable e )
+        {
+            String errMsg = format(
+                    "Error encountered adding %s %s phase times to: %s\nHighest expected value: %s %s",
+                    phaseTimes.getTotalCount(),
+                    OperationPhase.fromSlot( slot ).metricName(),
+                    name,
+                    unit.convert( highestExpectedRuntimeDurationAsNano, TimeUnit.NANOSECONDS ),
+                    unit.name()
+            );
+            throw new MetricsCollectionException( errMsg, e );
+        }
+    }
+
+    private ContinuousMetricManager phaseTimeMetric( int slot )
+    {
+        if ( null == phaseTimeMetrics[slot] )
+        {
+            phaseTimeMetrics[slot] = new ContinuousMetricManager(
+                    OperationPhase.fromSlot( slot ).metricName(),
+                    unit,
+                    unit.convert( highestExpectedRuntimeDurationAsNano, TimeUnit.NANOSECONDS ),
+                    4
+            );
+        }
+        return phaseTimeMetrics[slot];
+    }
+
+    void measureResultCardinality( int resultCardinality )
+    {
+        resultCardinalityMetric().addMeasurement( resultCardinality );
+    }
+
+    void addResultCardinalities( Histogram resultCardinalities ) throws MetricsCollectionException
+    {
+        try
+        {
+            resultCardinalityMetric().addMeasurements( resultCardinalities );
+        }
+        catch ( Throwable e )
+        {
+            String errMsg = format(
+                    "Error encountered adding %s result cardinalities to: %s",
+                    resultCardinalities.getTotalCount(),
+                    name
+            );
+            throw new MetricsCollectionException( errMsg, e );
+        }
+    }
+
+    private ContinuousMetricManager resultCardinalityMetric()
+    {
+        if ( null == resultCardinalityMetric )
+        {
+            resultCardinalityMetric = new ContinuousMetricManager( METRIC_RESULT_CARDINALITY, null, 3 );
+        }
+        return resultCardinalityMetric;
+    }
+
     public OperationMetricsSnapshot snapshot()
     {
-        return new OperationMetricsSnapshot( name, unit, count(), runTimeMetric.snapshot() );
+        Map<String,ContinuousMetricSnapshot> phaseTimeSnapshots = new LinkedHashMap<>();
+        for ( int slot = 0; slot < phaseTimeMetrics.length; slot++ )
+        {
+            if ( null != phaseTimeMetrics[slot] )
+            {
+                phaseTimeSnapshots.put( OperationPhase.fromSlot( slot ).metricName(),
+                        phaseTimeMetrics[slot].snapshot() );
+            }
+        }
+        return new OperationMetricsSnapshot(
+                name,
+                unit,
+                count(),
+                runTimeMetric.snapshot(),
+                phaseTimeSnapshots,
+                (null == resultCardinalityMetric) ? null : resultCardinalityMetric.snapshot() );
     }
 
     public String name()
@@ -0,0 +1,64 @@
+package com.ldbc.driver.runtime.metrics;
+
+import java.io.File;
+
+import static java.lang.String.format;
+
+/**
+ * Converts a results log (e.g., a binary one) to the CSV format written by {@link SimpleResultsLogWriter}, which
+ * is what the validation and plotting scripts expect.
+ */
+public class ResultsLogCsvConverter
+{
+    public static void main( String[] args ) throws Exception
+    {
+        if ( args.length != 2 )
+        {
+            System.out.println( format( "Usage: %s <binary results log> <csv results log>",
+                    ResultsLogCsvConverter.class.getName() ) );
+            System.exit( 1 );
+        }
+        File binaryResultsLog = new File( args[0] );
+        File csvResultsLog = new File( args[1] );
+        long count = binaryToCsv( binaryResultsLog, csvResultsLog );
+        System.out.println( format( "Converted %s results from %s to %s",
+                count, binaryResultsLog.getAbsolutePath(), csvResultsLog.getAbsolutePath() ) );
+    }
+
+    public static long binaryToCsv( File binaryResultsLog, File csvResultsLog ) throws Exception
+    {
+        try ( ResultsLogReader reader = new BinaryResultsLogReader( binaryResultsLog ) )
+        {
+            return toCsv( reader, csvResultsLog );
+        }
+    }
+
+    /**
+     * Result cardinalities are converted too, if the log contains them
+     *
+     * @return number of results written
+     */
+    public static long toCsv( ResultsLogReader reader, File csvResultsLog ) throws Exception
+    {
+        long count = 0;
+        try ( ResultsLogWriter writer = new SimpleResultsLogWriter(
+                csvResultsLog,
+                reader.unit(),
+                reader.hasResultCardinality() ) )
+        {
+            while ( reader.next() )
+            {
+                writer.write(
+                        reader.getOperationName(),
+                        reader.getScheduledStartTimeAsMilli(),
+                        reader.getActualStartTimeAsMilli(),
+                        reader.getRunDurationAsNano(),
+                        reader.getResultCode(),
+                        reader.getOriginalStartTime(),
+                        reader.getResultCardinality() );
+                count++;
+            }
+        }
+        return count;
+    }
+}
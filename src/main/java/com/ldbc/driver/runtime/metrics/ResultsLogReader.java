@@ -19,4 +19,20 @@ public interface ResultsLogReader extends AutoCloseable
     int getResultCode();
 
     long getOriginalStartTime();
+
+    /**
+     * @return true if the log contains result cardinalities
+     */
+    default boolean hasResultCardinality()
+    {
+        return false;
+    }
+
+    /**
+     * @return number of rows in the result, negative if not known or not logged
+     */
+    default int getResultCardinality()
+    {
+        return -1;
+    }
 }
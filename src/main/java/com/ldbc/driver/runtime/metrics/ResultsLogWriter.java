@@ -10,6 +10,7 @@ public interface ResultsLogWriter extends AutoCloseable
     String HEADER_EXECUTION_DURATION_PREFIX = "execution_duration_";
     String HEADER_RESULT_CODE = "result_code";
     String HEADER_ORIGINAL_START_TIME = "original_start_time";
+    String HEADER_RESULT_CARDINALITY = "result_cardinality";
 
     int INDEX_OPERATION_TYPE = 0;
     int INDEX_SCHEDULED_START_TIME = 1;
@@ -17,6 +18,7 @@ public interface ResultsLogWriter extends AutoCloseable
     int INDEX_EXECUTION_DURATION = 3;
     int INDEX_RESULT_CODE = 4;
     int INDEX_ORIGINAL_START_TIME = 5;
+    int INDEX_RESULT_CARDINALITY = 6;
 
     void write(
             String operationName,
@@ -25,4 +27,20 @@ public interface ResultsLogWriter extends AutoCloseable
             long runDurationAsNano,
             int resultCode,
             long originalStartTime ) throws IOException;
+
+    /**
+     * Writers that were asked to log result cardinalities override this, others ignore the cardinality
+     */
+    default void write(
+            String operationName,
+            long scheduledStartTimeAsMilli,
+            long actualStartTimeAsMilli,
+            long runDurationAsNano,
+            int resultCode,
+            long originalStartTime,
+            int resultCardinality ) throws IOException
+    {
+        write( operationName, scheduledStartTimeAsMilli, actualStartTimeAsMilli, runDurationAsNano, resultCode,
+                originalStartTime );
+    }
 }
@@ -0,0 +1,235 @@
+package com.ldbc.driver.runtime.metrics;
+
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.control.LoggingServiceFactory;
+import com.ldbc.driver.temporal.SystemTimeSource;
+import org.HdrHistogram.EncodableHistogram;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogReader;
+import org.HdrHistogram.HistogramLogWriter;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+
+/**
+ * Combines the results of several runs, e.g., of driver processes that each executed a shard of the load, by
+ * merging their runtime histograms per operation type. Unlike averaging percentiles of the individual runs, the
+ * combined percentiles are those of all operations together.
+ * <p>
+ * Results can come from results logs, which are exact, or from interval histogram logs (see
+ * {@link IntervalHistogramLoggingMetricsService}), which are cheaper to read. Runtimes are additionally merged into
+ * time windows of fixed size, aligned to the epoch so windows of different processes line up, from which a combined
+ * interval histogram log can be written. Histograms read from interval logs are assigned to the window their
+ * interval starts in.
+ */
+public class ResultsMerger
+{
+    private static final int NUMBER_OF_SIGNIFICANT_DIGITS = 3;
+
+    private final TimeUnit unit;
+    private final long highestExpectedRuntimeDurationAsNano;
+    private final long windowAsMilli;
+    private final MetricsManager metricsManager;
+    private final String[] operationNames;
+    private final Map<String,Integer> operationTypes;
+    private final TreeMap<Long,Histogram[]> windows = new TreeMap<>();
+
+    /**
+     * @param unit unit of the merged results, interval logs must have been written in this unit
+     * @param windowAsMilli size of the time windows, 0 to not merge into windows
+     */
+    public ResultsMerger(
+            TimeUnit unit,
+            long highestExpectedRuntimeDurationAsNano,
+            Map<Integer,Class<? extends Operation>> operationTypeToClassMapping,
+            long windowAsMilli,
+            LoggingServiceFactory loggingServiceFactory ) throws MetricsCollectionException
+    {
+        if ( windowAsMilli < 0 )
+        {
+            throw new MetricsCollectionException( format( "Window size must not be negative: %s", windowAsMilli ) );
+        }
+        this.unit = unit;
+        this.highestExpectedRuntimeDurationAsNano = highestExpectedRuntimeDurationAsNano;
+        this.windowAsMilli = windowAsMilli;
+        this.metricsManager = new MetricsManager(
+                new SystemTimeSource(),
+                unit,
+                highestExpectedRuntimeDurationAsNano,
+                operationTypeToClassMapping,
+                loggingServiceFactory );
+        this.operationNames = MetricsManager.toOperationNameArray( operationTypeToClassMapping );
+        this.operationTypes = new HashMap<>();
+        for ( int operationType = 0; operationType < operationNames.length; operationType++ )
+        {
+            if ( null != operationNames[operationType] )
+            {
+                operationTypes.put( operationNames[operationType], operationType );
+            }
+        }
+    }
+
+    /**
+     * @return number of results merged
+     */
+    public long addResultsLog( ResultsLogReader reader ) throws MetricsCollectionException
+    {
+        long count = 0;
+        while ( reader.next() )
+        {
+            int operationType = operationTypeFor( reader.getOperationName() );
+            long actualStartTimeAsMilli = reader.getActualStartTimeAsMilli();
+            long runDurationAsNano = reader.getRunDurationAsNano();
+            metricsManager.measure( actualStartTimeAsMilli, runDurationAsNano, operationType );
+            metricsManager.measureResultCardinality( operationType, reader.getResultCardinality() );
+            if ( windowAsMilli > 0 )
+            {
+                windowHistogram( actualStartTimeAsMilli, operationType ).recordValue( unit.convert(
+                        Math.min( runDurationAsNano, highestExpectedRuntimeDurationAsNano ),
+                        TimeUnit.NANOSECONDS ) );
+            }
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * @return number of results merged
+     */
+    public long addIntervalLog( File intervalLog ) throws MetricsCollectionException
+    {
+        long count = 0;
+        try ( InputStream intervalLogStream = new FileInputStream( intervalLog ) )
+        {
+            HistogramLogReader reader = new HistogramLogReader( intervalLogStream );
+            EncodableHistogram encodableHistogram;
+            while ( null != (encodableHistogram = reader.nextIntervalHistogram()) )
+            {
+                if ( false == encodableHistogram instanceof Histogram )
+                {
+                    throw new MetricsCollectionException( format( "Unexpected histogram type in %s: %s",
+                            intervalLog.getAbsolutePath(), encodableHistogram.getClass().getName() ) );
+                }
+                Histogram histogram = (Histogram) encodableHistogram;
+                int operationType = operationTypeFor( histogram.getTag() );
+                metricsManager.add( operationType, histogram );
+                metricsManager.updateStartAndLatestFinishTimes(
+                        histogram.getStartTimeStamp(),
+                        histogram.getEndTimeStamp() );
+                if ( windowAsMilli > 0 )
+                {
+                    windowHistogram( histogram.getStartTimeStamp(), operationType ).add( histogram );
+                }
+                count += histogram.getTotalCount();
+            }
+        }
+        catch ( IOException e )
+        {
+            throw new MetricsCollectionException(
+                    format( "Error reading interval log: %s", intervalLog.getAbsolutePath() ), e );
+        }
+        return count;
+    }
+
+    private int operationTypeFor( String operationName ) throws MetricsCollectionException
+    {
+        Integer operationType = operationTypes.get( operationName );
+        if ( null == operationType )
+        {
+            throw new MetricsCollectionException( format( "Unknown operation: %s", operationName ) );
+        }
+        return operationType;
+    }
+
+    private Histogram windowHistogram( long timeAsMilli, int operationType )
+    {
+        long windowStartAsMilli = Math.floorDiv( timeAsMilli, windowAsMilli ) * windowAsMilli;
+        Histogram[] window = windows.get( windowStartAsMilli );
+        if ( null == window )
+        {
+            window = new Histogram[operationNames.length];
+            windows.put( windowStartAsMilli, window );
+        }
+        if ( null == window[operationType] )
+        {
+            // auto-resizing, so footprint depends on the recorded range rather than the highest expected runtime
+            window[operationType] = new Histogram( NUMBER_OF_SIGNIFICANT_DIGITS );
+            window[operationType].setStartTimeStamp( windowStartAsMilli );
+            window[operationType].setEndTimeStamp( windowStartAsMilli + windowAsMilli );
+            window[operationType].setTag( operationNames[operationType] );
+        }
+        return window[operationType];
+    }
+
+    public WorkloadResultsSnapshot results()
+    {
+        return metricsManager.snapshot();
+    }
+
+    /**
+     * @return number of windows
+     */
+    public int windowCount()
+    {
+        return windows.size();
+    }
+
+    /**
+     * Writes the merged time windows as an interval histogram log, in the same format as
+     * {@link IntervalHistogramLoggingMetricsService}
+     */
+    public void writeIntervalLog( File intervalLog ) throws MetricsCollectionException
+    {
+        if ( windows.isEmpty() )
+        {
+            throw new MetricsCollectionException( "No time windows to write" );
+        }
+        try ( PrintStream intervalLogStream = new PrintStream( new FileOutputStream( intervalLog ), false, "UTF-8" ) )
+        {
+            long startTimeAsMilli = windows.firstKey();
+            HistogramLogWriter histogramLogWriter = new HistogramLogWriter( intervalLogStream );
+            histogramLogWriter.outputLogFormatVersion();
+            histogramLogWriter.outputComment( format( "Runtimes in %s", unit.name() ) );
+            histogramLogWriter.outputComment( format( "Merged into windows of %s ms", windowAsMilli ) );
+            histogramLogWriter.outputStartTime( startTimeAsMilli );
+            // explicit, so readers never mistake the relative timestamps of the windows for absolute ones
+            histogramLogWriter.outputBaseTime( startTimeAsMilli );
+            histogramLogWriter.setBaseTime( startTimeAsMilli );
+            histogramLogWriter.outputLegend();
+            for ( Histogram[] window : windows.values() )
+            {
+                for ( Histogram histogram : window )
+                {
+                    if ( null != histogram )
+                    {
+                        // max column in the same unit as the values, rather than HdrHistogram's default of ns to ms
+                        histogramLogWriter.outputIntervalHistogram(
+                                (histogram.getStartTimeStamp() - startTimeAsMilli) / 1000.0,
+                                (histogram.getEndTimeStamp() - startTimeAsMilli) / 1000.0,
+                                histogram,
+                                1.0 );
+                    }
+                }
+            }
+            if ( intervalLogStream.checkError() )
+            {
+                throw new IOException( "Error writing to stream" );
+            }
+        }
+        catch ( IOException e )
+        {
+            throw new MetricsCollectionException(
+                    format( "Error writing interval log: %s", intervalLog.getAbsolutePath() ), e );
+        }
+    }
+}
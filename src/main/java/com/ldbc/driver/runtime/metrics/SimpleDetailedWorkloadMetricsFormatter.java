@@ -49,39 +49,66 @@ public class SimpleDetailedWorkloadMetricsFormatter implements WorkloadMetricsFo
         {
             sb.append( formatOneMetricRuntime( OFFSET, metric ) );
         }
+        List<ContinuousMetricSnapshot> driverOverheadMetrics = workloadResultsSnapshot.driverOverheadMetrics();
+        if ( null != driverOverheadMetrics && false == driverOverheadMetrics.isEmpty() )
+        {
+            sb.append( "------------------------------------------------------------------------------\n" );
+            sb.append( "Driver Overhead\n" );
+            for ( ContinuousMetricSnapshot metric : driverOverheadMetrics )
+            {
+                String name = (null == metric.name()) ? DEFAULT_NAME : metric.name();
+                String unit = (null == metric.unit()) ? DEFAULT_UNIT : metric.unit().toString();
+                sb.append( formatOneContinuousMetric( OFFSET, name, unit, metric ) );
+            }
+        }
+        Long metricsBackPressureCount = workloadResultsSnapshot.metricsBackPressureCount();
+        if ( null != metricsBackPressureCount )
+        {
+            sb.append( "------------------------------------------------------------------------------\n" );
+            sb.append( String.format( "%1$-" + padRightDistance + "s", "Metrics Back-Pressure:" ) )
+                    .append( INTEGER_FORMATTER.format( metricsBackPressureCount ) ).append( " results, waited " )
+                    .append( INTEGER_FORMATTER.format( workloadResultsSnapshot.metricsBackPressureWaitTimeAsMilli() ) )
+                    .append( " (ms)\n" );
+        }
         sb.append( "------------------------------------------------------------------------------\n" );
         return sb.toString();
     }
 
     private String formatOneMetricRuntime( String offset, OperationMetricsSnapshot metric )
     {
-        int padRightDistance = 20;
         String name = (null == metric.name()) ? DEFAULT_NAME : metric.name();
         String unit = (null == metric.durationUnit()) ? DEFAULT_UNIT : metric.durationUnit().toString();
+        return formatOneContinuousMetric( offset, name, unit, metric.runTimeMetric() );
+    }
+
+    private String formatOneContinuousMetric( String offset, String name, String unit,
+            ContinuousMetricSnapshot metric )
+    {
+        int padRightDistance = 20;
         StringBuilder sb = new StringBuilder();
         sb.append( offset ).append( String.format( "%s\n", name ) );
         sb.append( offset ).append( offset ).append( String.format( "%1$-" + padRightDistance + "s", "Units:" ) )
                 .append( unit ).append( "\n" );
         sb.append( offset ).append( offset ).append( String.format( "%1$-" + padRightDistance + "s", "Count:" ) )
-                .append( INTEGER_FORMATTER.format( metric.runTimeMetric().count() ) ).append( "\n" );
+                .append( INTEGER_FORMATTER.format( metric.count() ) ).append( "\n" );
         sb.append( offset ).append( offset ).append( String.format( "%1$-" + padRightDistance + "s", "Min:" ) )
-                .append( INTEGER_FORMATTER.format( metric.runTimeMetric().min() ) ).append( "\n" );
+                .append( INTEGER_FORMATTER.format( metric.min() ) ).append( "\n" );
         sb.append( offset ).append( offset ).append( String.format( "%1$-" + padRightDistance + "s", "Max:" ) )
-                .append( INTEGER_FORMATTER.format( metric.runTimeMetric().max() ) ).append( "\n" );
+                .append( INTEGER_FORMATTER.format( metric.max() ) ).append( "\n" );
         sb.append( offset ).append( offset ).append( String.format( "%1$-" + padRightDistance + "s", "Mean:" ) )
-                .append( FLOAT_FORMATTER.format( metric.runTimeMetric().mean() ) ).append( "\n" );
+                .append( FLOAT_FORMATTER.format( metric.mean() ) ).append( "\n" );
         sb.append( offset ).append( offset )
                 .append( String.format( "%1$-" + padRightDistance + "s", "50th Percentile:" ) )
-                .append( INTEGER_FORMATTER.format( metric.runTimeMetric().percentile50() ) ).append( "\n" );
+                .append( INTEGER_FORMATTER.format( metric.percentile50() ) ).append( "\n" );
         sb.append( offset ).append( offset )
                 .append( String.format( "%1$-" + padRightDistance + "s", "90th Percentile:" ) )
-                .append( INTEGER_FORMATTER.format( metric.runTimeMetric().percentile90() ) ).append( "\n" );
+                .append( INTEGER_FORMATTER.format( metric.percentile90() ) ).append( "\n" );
         sb.append( offset ).append( offset )
                 .append( String.format( "%1$-" + padRightDistance + "s", "95th Percentile:" ) )
-                .append( INTEGER_FORMATTER.format( metric.runTimeMetric().percentile95() ) ).append( "\n" );
+                .append( INTEGER_FORMATTER.format( metric.percentile95() ) ).append( "\n" );
         sb.append( offset ).append( offset )
                 .append( String.format( "%1$-" + padRightDistance + "s", "99th Percentile:" ) )
-                .append( INTEGER_FORMATTER.format( metric.runTimeMetric().percentile99() ) ).append( "\n" );
+                .append( INTEGER_FORMATTER.format( metric.percentile99() ) ).append( "\n" );
         return sb.toString();
     }
 }
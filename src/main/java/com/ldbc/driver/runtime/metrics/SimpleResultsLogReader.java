@@ -8,10 +8,12 @@ import java.util.Arrays;
 import java.util.concurrent.TimeUnit;
 
 import static com.ldbc.driver.runtime.metrics.ResultsLogWriter.HEADER_EXECUTION_DURATION_PREFIX;
+import static com.ldbc.driver.runtime.metrics.ResultsLogWriter.HEADER_RESULT_CARDINALITY;
 import static com.ldbc.driver.runtime.metrics.ResultsLogWriter.INDEX_ACTUAL_START_TIME;
 import static com.ldbc.driver.runtime.metrics.ResultsLogWriter.INDEX_EXECUTION_DURATION;
 import static com.ldbc.driver.runtime.metrics.ResultsLogWriter.INDEX_OPERATION_TYPE;
 import static com.ldbc.driver.runtime.metrics.ResultsLogWriter.INDEX_ORIGINAL_START_TIME;
+import static com.ldbc.driver.runtime.metrics.ResultsLogWriter.INDEX_RESULT_CARDINALITY;
 import static com.ldbc.driver.runtime.metrics.ResultsLogWriter.INDEX_RESULT_CODE;
 import static com.ldbc.driver.runtime.metrics.ResultsLogWriter.INDEX_SCHEDULED_START_TIME;
 import static java.util.concurrent.TimeUnit.valueOf;
@@ -20,15 +22,19 @@ public class SimpleResultsLogReader implements ResultsLogReader
 {
     private final SimpleCsvFileReader reader;
     private final TimeUnit unit;
+    private final boolean hasResultCardinality;
     private String[] row = null;
 
     public SimpleResultsLogReader( File resultsLog ) throws IOException
     {
         this.reader = new SimpleCsvFileReader( resultsLog, SimpleCsvFileReader.DEFAULT_COLUMN_SEPARATOR_REGEX_STRING );
-        this.unit = processHeaders();
+        String[] headers = processHeaders();
+        this.unit = valueOf( headers[INDEX_EXECUTION_DURATION].replace( HEADER_EXECUTION_DURATION_PREFIX, "" ) );
+        this.hasResultCardinality = headers.length > INDEX_RESULT_CARDINALITY &&
+                                    headers[INDEX_RESULT_CARDINALITY].equals( HEADER_RESULT_CARDINALITY );
     }
 
-    private TimeUnit processHeaders()
+    private String[] processHeaders()
     {
         if ( reader.hasNext() )
         {
@@ -37,7 +43,7 @@ public class SimpleResultsLogReader implements ResultsLogReader
             {
                 throw new RuntimeException( "Expected first row to be headers but was: " + Arrays.toString( headers ) );
             }
-            return valueOf( headers[INDEX_EXECUTION_DURATION].replace( HEADER_EXECUTION_DURATION_PREFIX, "" ) );
+            return headers;
         }
         else
         {
@@ -108,6 +114,19 @@ public class SimpleResultsLogReader implements ResultsLogReader
         return Long.parseLong( row[INDEX_ORIGINAL_START_TIME] );
     }
 
+    @Override
+    public boolean hasResultCardinality()
+    {
+        return hasResultCardinality;
+    }
+
+    @Override
+    public int getResultCardinality()
+    {
+        assertRowNotNull( row );
+        return (hasResultCardinality) ? Integer.parseInt( row[INDEX_RESULT_CARDINALITY] ) : -1;
+    }
+
     private void assertRowNotNull( String[] row )
     {
         if ( null == row )
@@ -10,20 +10,46 @@ public class SimpleResultsLogWriter implements ResultsLogWriter
 {
     private final SimpleCsvFileWriter writer;
     private final TimeUnit unit;
+    private final boolean includeResultCardinality;
 
     public SimpleResultsLogWriter( File resultsLog, TimeUnit unit ) throws IOException
+    {
+        this( resultsLog, unit, false );
+    }
+
+    /**
+     * @param includeResultCardinality if true a result_cardinality column is appended to every row
+     */
+    public SimpleResultsLogWriter( File resultsLog, TimeUnit unit, boolean includeResultCardinality )
+            throws IOException
     {
         this.writer = new SimpleCsvFileWriter( resultsLog, SimpleCsvFileWriter.DEFAULT_COLUMN_SEPARATOR );
         this.unit = unit;
+        this.includeResultCardinality = includeResultCardinality;
         resultsLog.createNewFile();
-        writer.writeRow(
-                HEADER_OPERATION_TYPE,
-                HEADER_SCHEDULED_START_TIME,
-                HEADER_ACTUAL_START_TIME,
-                HEADER_EXECUTION_DURATION_PREFIX + unit.name(),
-                HEADER_RESULT_CODE,
-                HEADER_ORIGINAL_START_TIME
-        );
+        if ( includeResultCardinality )
+        {
+            writer.writeRow(
+                    HEADER_OPERATION_TYPE,
+                    HEADER_SCHEDULED_START_TIME,
+                    HEADER_ACTUAL_START_TIME,
+                    HEADER_EXECUTION_DURATION_PREFIX + unit.name(),
+                    HEADER_RESULT_CODE,
+                    HEADER_ORIGINAL_START_TIME,
+                    HEADER_RESULT_CARDINALITY
+            );
+        }
+        else
+        {
+            writer.writeRow(
+                    HEADER_OPERATION_TYPE,
+                    HEADER_SCHEDULED_START_TIME,
+                    HEADER_ACTUAL_START_TIME,
+                    HEADER_EXECUTION_DURATION_PREFIX + unit.name(),
+                    HEADER_RESULT_CODE,
+                    HEADER_ORIGINAL_START_TIME
+            );
+        }
     }
 
     @Override
@@ -35,6 +61,33 @@ public class SimpleResultsLogWriter implements ResultsLogWriter
             int resultCode,
             long originalStartTime ) throws IOException
     {
+        write( operationName, scheduledStartTimeAsMilli, actualStartTimeAsMilli, runDurationAsNano, resultCode,
+                originalStartTime, -1 );
+    }
+
+    @Override
+    public void write(
+            String operationName,
+            long scheduledStartTimeAsMilli,
+            long actualStartTimeAsMilli,
+            long runDurationAsNano,
+            int resultCode,
+            long originalStartTime,
+            int resultCardinality ) throws IOException
+    {
+        if ( includeResultCardinality )
+        {
+            writer.writeRow(
+                    operationName,
+                    Long.toString( scheduledStartTimeAsMilli ),
+                    Long.toString( actualStartTimeAsMilli ),
+                    Long.toString( unit.convert( runDurationAsNano, TimeUnit.NANOSECONDS ) ),
+                    Integer.toString( resultCode ),
+                    Long.toString( originalStartTime ),
+                    Integer.toString( resultCardinality )
+            );
+            return;
+        }
         writer.writeRow(
                 operationName,
                 Long.toString( scheduledStartTimeAsMilli ),
@@ -22,6 +22,8 @@ abstract class ThreadedQueuedMetricsEvent {
         private final long runDurationAsNano;
         private final int resultCode;
         private final long originalStartTime;
+        private final long[] phaseDurationsAsNano;
+        private final int resultCardinality;
 
         public SubmitOperationResult(
                 int operationType,
@@ -29,13 +31,18 @@ abstract class ThreadedQueuedMetricsEvent {
                 long actualStartTimeAsMilli,
                 long runDurationAsNano,
                 int resultCode,
-                long originalStartTime) {
+                long originalStartTime,
+                long[] phaseDurationsAsNano,
+                int resultCardinality) {
             this.operationType = operationType;
             this.scheduledStartTimeAsMilli = scheduledStartTimeAsMilli;
             this.actualStartTimeAsMilli = actualStartTimeAsMilli;
             this.runDurationAsNano = runDurationAsNano;
             this.resultCode = resultCode;
             this.originalStartTime = originalStartTime;
+            // queued, so must not share the array of the submitter
+            this.phaseDurationsAsNano = (null == phaseDurationsAsNano) ? null : phaseDurationsAsNano.clone();
+            this.resultCardinality = resultCardinality;
         }
 
         public int operationType() {
@@ -62,6 +69,14 @@ abstract class ThreadedQueuedMetricsEvent {
         	return originalStartTime;
         }
 
+        public long[] phaseDurationsAsNano() {
+            return phaseDurationsAsNano;
+        }
+
+        public int resultCardinality() {
+            return resultCardinality;
+        }
+
         @Override
         public MetricsEventType type() {
             return MetricsEventType.SUBMIT_RESULT;
@@ -171,8 +171,8 @@ public class ThreadedQueuedMetricsService implements MetricsService
 
         @Override
         public void submitOperationResult( int operationType, long scheduledStartTimeAsMilli,
-                long actualStartTimeAsMilli, long runDurationAsNano, int resultCode, long originalStartTime )
-                throws MetricsCollectionException
+                long actualStartTimeAsMilli, long runDurationAsNano, int resultCode, long originalStartTime,
+                long[] phaseDurationsAsNano, int resultCardinality ) throws MetricsCollectionException
         {
             if ( null != alreadyShutdownPolicy )
             {
@@ -187,7 +187,9 @@ public class ThreadedQueuedMetricsService implements MetricsService
                         actualStartTimeAsMilli,
                         runDurationAsNano,
                         resultCode,
-                        originalStartTime
+                        originalStartTime,
+                        phaseDurationsAsNano,
+                        resultCardinality
                 );
                 queueEventSubmitter.submitEventToQueue( event );
             }
@@ -121,6 +121,14 @@ public class ThreadedQueuedMetricsServiceThread extends Thread
                         submitOperationResultEvent.runDurationAsNano(),
                         submitOperationResultEvent.operationType()
                 );
+                metricsManager.measurePhases(
+                        submitOperationResultEvent.operationType(),
+                        submitOperationResultEvent.phaseDurationsAsNano()
+                );
+                metricsManager.measureResultCardinality(
+                        submitOperationResultEvent.operationType(),
+                        submitOperationResultEvent.resultCardinality()
+                );
             }
             catch ( MetricsCollectionException e )
             {
@@ -1,5 +1,6 @@
 package com.ldbc.driver.runtime.metrics;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -38,6 +39,21 @@ public class WorkloadResultsSnapshot
     @JsonProperty( value = "throughput" )
     private double throughput;
 
+    // time operations spent in the driver around their execution, only present if it was recorded
+    @JsonProperty( value = "driver_overhead" )
+    @JsonInclude( JsonInclude.Include.NON_NULL )
+    private List<ContinuousMetricSnapshot> driverOverheadMetrics = null;
+
+    // results that found the ring buffer of the metrics service full, and the time their submitters waited for it,
+    // only present for metrics services with a ring buffer
+    @JsonProperty( value = "metrics_back_pressure_count" )
+    @JsonInclude( JsonInclude.Include.NON_NULL )
+    private Long metricsBackPressureCount = null;
+
+    @JsonProperty( value = "metrics_back_pressure_wait_time" )
+    @JsonInclude( JsonInclude.Include.NON_NULL )
+    private Long metricsBackPressureWaitTimeAsUnit = null;
+
     public static WorkloadResultsSnapshot fromJson( File jsonFile ) throws IOException
     {
         return new ObjectMapper().readValue( jsonFile, WorkloadResultsSnapshot.class );
@@ -69,6 +85,46 @@ public class WorkloadResultsSnapshot
         this.unit = unit;
     }
 
+    /**
+     * @return copy of this snapshot, with the given driver overhead metrics
+     */
+    public WorkloadResultsSnapshot withDriverOverheadMetrics( List<ContinuousMetricSnapshot> driverOverheadMetrics )
+    {
+        WorkloadResultsSnapshot snapshot = copy();
+        snapshot.driverOverheadMetrics = driverOverheadMetrics;
+        return snapshot;
+    }
+
+    /**
+     * @return copy of this snapshot, with the given metrics service back-pressure
+     */
+    public WorkloadResultsSnapshot withMetricsBackPressure( long metricsBackPressureCount,
+            long metricsBackPressureWaitTimeAsNano )
+    {
+        WorkloadResultsSnapshot snapshot = copy();
+        snapshot.metricsBackPressureCount = metricsBackPressureCount;
+        snapshot.metricsBackPressureWaitTimeAsUnit =
+                unit.convert( metricsBackPressureWaitTimeAsNano, TimeUnit.NANOSECONDS );
+        return snapshot;
+    }
+
+    private WorkloadResultsSnapshot copy()
+    {
+        WorkloadResultsSnapshot snapshot = new WorkloadResultsSnapshot();
+        snapshot.metrics = metrics;
+        snapshot.formatVersion = formatVersion;
+        snapshot.unit = unit;
+        snapshot.startTimeAsUnit = startTimeAsUnit;
+        snapshot.latestFinishTimeAsUnit = latestFinishTimeAsUnit;
+        snapshot.totalRunDurationAsUnit = totalRunDurationAsUnit;
+        snapshot.operationCount = operationCount;
+        snapshot.throughput = throughput;
+        snapshot.driverOverheadMetrics = driverOverheadMetrics;
+        snapshot.metricsBackPressureCount = metricsBackPressureCount;
+        snapshot.metricsBackPressureWaitTimeAsUnit = metricsBackPressureWaitTimeAsUnit;
+        return snapshot;
+    }
+
     @JsonProperty( value = "all_metrics" )
     public List<OperationMetricsSnapshot> allMetrics()
     {
@@ -112,6 +168,30 @@ public class WorkloadResultsSnapshot
         return throughput;
     }
 
+    /**
+     * @return one metric per driver overhead stage, null if driver overhead was not recorded
+     */
+    public List<ContinuousMetricSnapshot> driverOverheadMetrics()
+    {
+        return driverOverheadMetrics;
+    }
+
+    /**
+     * @return number of results that found the ring buffer of the metrics service full, null if not recorded
+     */
+    public Long metricsBackPressureCount()
+    {
+        return metricsBackPressureCount;
+    }
+
+    /**
+     * @return total time submitters of results waited for ring buffer capacity, null if not recorded
+     */
+    public Long metricsBackPressureWaitTimeAsMilli()
+    {
+        return (null == metricsBackPressureWaitTimeAsUnit) ? null : unit.toMillis( metricsBackPressureWaitTimeAsUnit );
+    }
+
     public String toJson()
     {
         try
@@ -136,6 +216,9 @@ public class WorkloadResultsSnapshot
                ", totalRunDurationAsUnit=" + totalRunDurationAsUnit +
                ", operationCount=" + operationCount +
                ", throughput=" + throughput +
+               ", driverOverheadMetrics=" + driverOverheadMetrics +
+               ", metricsBackPressureCount=" + metricsBackPressureCount +
+               ", metricsBackPressureWaitTimeAsUnit=" + metricsBackPressureWaitTimeAsUnit +
                '}';
     }
 
@@ -161,6 +244,16 @@ public class WorkloadResultsSnapshot
         { return false; }
         if ( unit != that.unit )
         { return false; }
+        if ( driverOverheadMetrics != null ? !driverOverheadMetrics.equals( that.driverOverheadMetrics )
+                                           : that.driverOverheadMetrics != null )
+        { return false; }
+        if ( metricsBackPressureCount != null ? !metricsBackPressureCount.equals( that.metricsBackPressureCount )
+                                              : that.metricsBackPressureCount != null )
+        { return false; }
+        if ( metricsBackPressureWaitTimeAsUnit != null
+             ? !metricsBackPressureWaitTimeAsUnit.equals( that.metricsBackPressureWaitTimeAsUnit )
+             : that.metricsBackPressureWaitTimeAsUnit != null )
+        { return false; }
 
         return true;
     }
@@ -174,6 +267,10 @@ public class WorkloadResultsSnapshot
         result = 31 * result + (int) (latestFinishTimeAsUnit ^ (latestFinishTimeAsUnit >>> 32));
         result = 31 * result + (int) (totalRunDurationAsUnit ^ (totalRunDurationAsUnit >>> 32));
         result = 31 * result + (int) (operationCount ^ (operationCount >>> 32));
+        result = 31 * result + (driverOverheadMetrics != null ? driverOverheadMetrics.hashCode() : 0);
+        result = 31 * result + (metricsBackPressureCount != null ? metricsBackPressureCount.hashCode() : 0);
+        result = 31 * result +
+                 (metricsBackPressureWaitTimeAsUnit != null ? metricsBackPressureWaitTimeAsUnit.hashCode() : 0);
         return result;
     }
 }
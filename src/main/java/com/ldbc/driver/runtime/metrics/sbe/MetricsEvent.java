@@ -5,7 +5,7 @@ import uk.co.real_logic.sbe.codec.java.*;
 
 public class MetricsEvent
 {
-    public static final int BLOCK_LENGTH = 41;
+    public static final int BLOCK_LENGTH = 77;
     public static final int TEMPLATE_ID = 1;
     public static final int SCHEMA_ID = 1;
     public static final int SCHEMA_VERSION = 0;
@@ -386,4 +386,104 @@ public class MetricsEvent
         CodecUtil.int64Put(buffer, offset + 33, value, java.nio.ByteOrder.LITTLE_ENDIAN);
         return this;
     }
+
+    public static int phaseDurationsAsNanoId()
+    {
+        return 8;
+    }
+
+    public static String phaseDurationsAsNanoMetaAttribute(final MetaAttribute metaAttribute)
+    {
+        switch (metaAttribute)
+        {
+            case EPOCH: return "unix";
+            case TIME_UNIT: return "nanosecond";
+            case SEMANTIC_TYPE: return "";
+        }
+
+        return "";
+    }
+
+    public static long phaseDurationsAsNanoNullValue()
+    {
+        return -9223372036854775808L;
+    }
+
+    public static long phaseDurationsAsNanoMinValue()
+    {
+        return -9223372036854775807L;
+    }
+
+    public static long phaseDurationsAsNanoMaxValue()
+    {
+        return 9223372036854775807L;
+    }
+
+    public static int phaseDurationsAsNanoLength()
+    {
+        return 4;
+    }
+
+    public long phaseDurationsAsNano(final int index)
+    {
+        if (index < 0 || index >= 4)
+        {
+            throw new IndexOutOfBoundsException("index out of range: index=" + index);
+        }
+
+        return CodecUtil.int64Get(buffer, this.offset + 41 + (index * 8), java.nio.ByteOrder.LITTLE_ENDIAN);
+    }
+
+    public void phaseDurationsAsNano(final int index, final long value)
+    {
+        if (index < 0 || index >= 4)
+        {
+            throw new IndexOutOfBoundsException("index out of range: index=" + index);
+        }
+
+        CodecUtil.int64Put(buffer, this.offset + 41 + (index * 8), value, java.nio.ByteOrder.LITTLE_ENDIAN);
+    }
+
+    public static int resultCardinalityId()
+    {
+        return 9;
+    }
+
+    public static String resultCardinalityMetaAttribute(final MetaAttribute metaAttribute)
+    {
+        switch (metaAttribute)
+        {
+            case EPOCH: return "unix";
+            case TIME_UNIT: return "nanosecond";
+            case SEMANTIC_TYPE: return "";
+        }
+
+        return "";
+    }
+
+    public static int resultCardinalityNullValue()
+    {
+        return -2147483648;
+    }
+
+    public static int resultCardinalityMinValue()
+    {
+        return -2147483647;
+    }
+
+    public static int resultCardinalityMaxValue()
+    {
+        return 2147483647;
+    }
+
+    public int resultCardinality()
+    {
+        return CodecUtil.int32Get(buffer, offset + 73, java.nio.ByteOrder.LITTLE_ENDIAN);
+    }
+
+    public MetricsEvent resultCardinality(final int value)
+    {
+        CodecUtil.int32Put(buffer, offset + 73, value, java.nio.ByteOrder.LITTLE_ENDIAN);
+        return this;
+    }
 }
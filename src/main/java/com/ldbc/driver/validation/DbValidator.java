@@ -12,92 +12,313 @@ import com.ldbc.driver.WorkloadException;
 import com.ldbc.driver.runtime.ConcurrentErrorReporter;
 
 import java.text.DecimalFormat;
+import java.util.ArrayDeque;
 import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 
 import static java.lang.String.format;
 
+/**
+ * Executes validation parameters against a database and compares the results it returns with the expected ones.
+ * <p>
+ * With more than one thread, parameters are executed concurrently by that many workers, through the same handlers of
+ * the database. At most maxInFlight parameters are read ahead of the oldest one not yet completed, and outcomes are
+ * reported to {@link DbValidationResult} in the order of the parameters, so the result does not depend on the thread
+ * count.
+ */
 public class DbValidator
 {
+    private static final long PROGRESS_INTERVAL_AS_NANO = TimeUnit.SECONDS.toNanos( 1 );
+
+    private final int threadCount;
+    private final int maxInFlight;
+
+    public DbValidator()
+    {
+        this( 1 );
+    }
+
+    public DbValidator( int threadCount )
+    {
+        this( threadCount, threadCount * 4 );
+    }
+
+    public DbValidator( int threadCount, int maxInFlight )
+    {
+        if ( threadCount < 1 || maxInFlight < threadCount )
+        {
+            throw new IllegalArgumentException(
+                    format( "Thread count must be positive and at most max in flight: %s / %s",
+                            threadCount, maxInFlight ) );
+        }
+        this.threadCount = threadCount;
+        this.maxInFlight = maxInFlight;
+    }
+
     public DbValidationResult validate( Iterator<ValidationParam> validationParameters,
             Db db,
             int validationParamsCount,
             Workload workload ) throws WorkloadException
     {
         System.out.println( "----" );
-        DecimalFormat numberFormat = new DecimalFormat( "###,###,###,###,###" );
         DbValidationResult dbValidationResult = new DbValidationResult( db );
         ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
-        ResultReporter resultReporter = new ResultReporter.SimpleResultReporter( errorReporter );
+        Progress progress = new Progress( validationParamsCount );
 
-        int validationParamsProcessedSoFar = 0;
-        int validationParamsCrashedSoFar = 0;
-        int validationParamsIncorrectSoFar = 0;
-
-        while ( validationParameters.hasNext() )
+        if ( 1 == threadCount )
         {
-            ValidationParam validationParam = validationParameters.next();
-            Operation operation = validationParam.operation();
-            Object expectedOperationResult = validationParam.operationResult();
-
-            OperationHandlerRunnableContext handlerRunner;
-            try
+            while ( validationParameters.hasNext() )
             {
-                handlerRunner = db.getOperationHandlerRunnableContext( operation );
+                ValidationOutcome outcome = execute( validationParameters.next(), db, workload, errorReporter );
+                report( outcome, dbValidationResult, progress );
             }
-            catch ( Throwable e )
-            {
-
-                dbValidationResult.reportMissingHandlerForOperation( operation );
-                continue;
-            }
-
+        }
+        else
+        {
+            ExecutorService workers = workers( threadCount );
             try
             {
-                OperationHandler handler = handlerRunner.operationHandler();
-                DbConnectionState dbConnectionState = handlerRunner.dbConnectionState();
-                System.out.print( format(
-                        "Processed %s / %s -- Crashed %s -- Incorrect %s -- Currently processing %s...\r",
-                        numberFormat.format( validationParamsProcessedSoFar ),
-                        numberFormat.format( validationParamsCount ),
-                        numberFormat.format( validationParamsCrashedSoFar ),
-                        numberFormat.format( validationParamsIncorrectSoFar ),
-                        operation.getClass().getSimpleName()
-                ) );
-                handler.executeOperation( operation, dbConnectionState, resultReporter );
-                if ( null == resultReporter.result() )
+                Queue<Future<ValidationOutcome>> inFlight = new ArrayDeque<>( maxInFlight );
+                while ( validationParameters.hasNext() )
+                {
+                    if ( inFlight.size() == maxInFlight )
+                    {
+                        report( outcomeOf( inFlight.remove() ), dbValidationResult, progress );
+                    }
+                    final ValidationParam validationParam = validationParameters.next();
+                    inFlight.add( workers.submit( new Callable<ValidationOutcome>()
+                    {
+                        @Override
+                        public ValidationOutcome call() throws WorkloadException
+                        {
+                            return execute( validationParam, db, workload, errorReporter );
+                        }
+                    } ) );
+                }
+                while ( false == inFlight.isEmpty() )
                 {
-                    throw new DbException(
-                            format( "Db returned null result for: %s", operation.getClass().getSimpleName() ) );
+                    report( outcomeOf( inFlight.remove() ), dbValidationResult, progress );
                 }
             }
-            catch ( Throwable e )
+            finally
             {
-                // Not necessary, but perhaps useful for debugging
-                e.printStackTrace();
-                validationParamsCrashedSoFar++;
-                dbValidationResult
-                        .reportUnableToExecuteOperation( operation, ConcurrentErrorReporter.stackTraceToString( e ) );
-                continue;
+                workers.shutdownNow();
             }
-            finally
+        }
+        progress.print();
+        System.out.println();
+        System.out.println( "----" );
+        return dbValidationResult;
+    }
+
+    private static ValidationOutcome execute( ValidationParam validationParam,
+            Db db,
+            Workload workload,
+            ConcurrentErrorReporter errorReporter ) throws WorkloadException
+    {
+        Operation operation = validationParam.operation();
+        Object expectedOperationResult = validationParam.operationResult();
+
+        OperationHandlerRunnableContext handlerRunner;
+        try
+        {
+            handlerRunner = db.getOperationHandlerRunnableContext( operation );
+        }
+        catch ( Throwable e )
+        {
+            return ValidationOutcome.missingHandler( operation );
+        }
+
+        ResultReporter resultReporter = new ResultReporter.SimpleResultReporter( errorReporter );
+        try
+        {
+            OperationHandler handler = handlerRunner.operationHandler();
+            DbConnectionState dbConnectionState = handlerRunner.dbConnectionState();
+            handler.executeOperation( operation, dbConnectionState, resultReporter );
+            if ( null == resultReporter.result() )
+            {
+                throw new DbException(
+                        format( "Db returned null result for: %s", operation.getClass().getSimpleName() ) );
+            }
+        }
+        catch ( Throwable e )
+        {
+            // Not necessary, but perhaps useful for debugging
+            e.printStackTrace();
+            return ValidationOutcome.unableToExecute( operation, ConcurrentErrorReporter.stackTraceToString( e ) );
+        }
+        finally
+        {
+            handlerRunner.cleanup();
+        }
+
+        Object actualOperationResult = resultReporter.result();
+
+        if ( false == workload.resultsEqual( operation, expectedOperationResult, actualOperationResult ) )
+        {
+            return ValidationOutcome.incorrectResult( operation, expectedOperationResult, actualOperationResult );
+        }
+
+        return ValidationOutcome.success( operation );
+    }
+
+    private static void report( ValidationOutcome outcome, DbValidationResult dbValidationResult, Progress progress )
+    {
+        switch ( outcome.type )
+        {
+        case MISSING_HANDLER:
+            dbValidationResult.reportMissingHandlerForOperation( outcome.operation );
+            break;
+        case UNABLE_TO_EXECUTE:
+            progress.crashed++;
+            dbValidationResult.reportUnableToExecuteOperation( outcome.operation, outcome.errorMessage );
+            break;
+        case INCORRECT_RESULT:
+            progress.incorrect++;
+            dbValidationResult.reportIncorrectResultForOperation(
+                    outcome.operation, outcome.expectedResult, outcome.actualResult );
+            break;
+        case SUCCESS:
+            dbValidationResult.reportSuccessfulExecution( outcome.operation );
+            break;
+        }
+        progress.operationCompleted( outcome );
+    }
+
+    private static ValidationOutcome outcomeOf( Future<ValidationOutcome> future ) throws WorkloadException
+    {
+        try
+        {
+            return future.get();
+        }
+        catch ( ExecutionException e )
+        {
+            throw (e.getCause() instanceof WorkloadException)
+                  ? (WorkloadException) e.getCause()
+                  : new WorkloadException( "Error encountered while validating database", e.getCause() );
+        }
+        catch ( InterruptedException e )
+        {
+            Thread.currentThread().interrupt();
+            throw new WorkloadException( "Interrupted while validating database", e );
+        }
+    }
+
+    private static ExecutorService workers( int threadCount )
+    {
+        ThreadFactory threadFactory = new ThreadFactory()
+        {
+            private int count = 0;
+
+            @Override
+            public synchronized Thread newThread( Runnable runnable )
             {
-                validationParamsProcessedSoFar++;
-                handlerRunner.cleanup();
+                Thread thread = new Thread( runnable,
+                        DbValidator.class.getSimpleName() + "-thread(" + count++ + ")" );
+                thread.setDaemon( true );
+                return thread;
             }
+        };
+        return Executors.newFixedThreadPool( threadCount, threadFactory );
+    }
 
-            Object actualOperationResult = resultReporter.result();
+    private static class ValidationOutcome
+    {
+        private enum Type
+        {
+            MISSING_HANDLER,
+            UNABLE_TO_EXECUTE,
+            INCORRECT_RESULT,
+            SUCCESS
+        }
 
-            if ( false == workload.resultsEqual( operation, expectedOperationResult, actualOperationResult ) )
+        private final Type type;
+        private final Operation operation;
+        private final String errorMessage;
+        private final Object expectedResult;
+        private final Object actualResult;
+
+        private static ValidationOutcome missingHandler( Operation operation )
+        {
+            return new ValidationOutcome( Type.MISSING_HANDLER, operation, null, null, null );
+        }
+
+        private static ValidationOutcome unableToExecute( Operation operation, String errorMessage )
+        {
+            return new ValidationOutcome( Type.UNABLE_TO_EXECUTE, operation, errorMessage, null, null );
+        }
+
+        private static ValidationOutcome incorrectResult( Operation operation, Object expectedResult,
+                Object actualResult )
+        {
+            return new ValidationOutcome( Type.INCORRECT_RESULT, operation, null, expectedResult, actualResult );
+        }
+
+        private static ValidationOutcome success( Operation operation )
+        {
+            return new ValidationOutcome( Type.SUCCESS, operation, null, null, null );
+        }
+
+        private ValidationOutcome( Type type, Operation operation, String errorMessage, Object expectedResult,
+                Object actualResult )
+        {
+            this.type = type;
+            this.operation = operation;
+            this.errorMessage = errorMessage;
+            this.expectedResult = expectedResult;
+            this.actualResult = actualResult;
+        }
+    }
+
+    // printed at most once per PROGRESS_INTERVAL_AS_NANO, rather than once per operation
+    private static class Progress
+    {
+        private final DecimalFormat numberFormat = new DecimalFormat( "###,###,###,###,###" );
+        private final int validationParamsCount;
+        private int processed = 0;
+        private int crashed = 0;
+        private int incorrect = 0;
+        private String lastOperationType = "";
+        private long lastPrintTimeAsNano = System.nanoTime();
+
+        private Progress( int validationParamsCount )
+        {
+            this.validationParamsCount = validationParamsCount;
+        }
+
+        private void operationCompleted( ValidationOutcome outcome )
+        {
+            // operations without a handler are not executed
+            if ( ValidationOutcome.Type.MISSING_HANDLER != outcome.type )
             {
-                validationParamsIncorrectSoFar++;
-                dbValidationResult
-                        .reportIncorrectResultForOperation( operation, expectedOperationResult, actualOperationResult );
-                continue;
+                processed++;
             }
+            lastOperationType = outcome.operation.getClass().getSimpleName();
+            long nowAsNano = System.nanoTime();
+            if ( nowAsNano - lastPrintTimeAsNano >= PROGRESS_INTERVAL_AS_NANO )
+            {
+                lastPrintTimeAsNano = nowAsNano;
+                print();
+            }
+        }
 
-            dbValidationResult.reportSuccessfulExecution( operation );
+        private void print()
+        {
+            System.out.print( format(
+                    "Processed %s / %s -- Crashed %s -- Incorrect %s -- Last processed %s...\r",
+                    numberFormat.format( processed ),
+                    numberFormat.format( validationParamsCount ),
+                    numberFormat.format( crashed ),
+                    numberFormat.format( incorrect ),
+                    lastOperationType
+            ) );
         }
-        System.out.println( "----" );
-        return dbValidationResult;
     }
-}
\ No newline at end of file
+}
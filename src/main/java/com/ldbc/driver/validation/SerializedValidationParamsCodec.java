@@ -0,0 +1,51 @@
+package com.ldbc.driver.validation;
+
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.Workload;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Stores operations and results as their string serialization, i.e., {@link Workload#serializeOperation(Operation)}
+ * and {@link Operation#serializeResult(Object)}, the same content as the columns of JSON validation parameters files
+ */
+public class SerializedValidationParamsCodec extends ValidationParamsCodec
+{
+    private final Workload workload;
+
+    public SerializedValidationParamsCodec( Workload workload )
+    {
+        this.workload = workload;
+    }
+
+    @Override
+    public void writeOperation( Operation operation, DataOutput output )
+            throws IOException, SerializingMarshallingException
+    {
+        writeString( workload.serializeOperation( operation ), output );
+    }
+
+    @Override
+    public Operation readOperation( int operationType, DataInput input )
+            throws IOException, SerializingMarshallingException
+    {
+        return workload.marshalOperation( readString( input ) );
+    }
+
+    @Override
+    public void writeResult( Operation operation, Object result, DataOutput output )
+            throws IOException, SerializingMarshallingException
+    {
+        writeString( operation.serializeResult( result ), output );
+    }
+
+    @Override
+    public Object readResult( Operation operation, DataInput input )
+            throws IOException, SerializingMarshallingException
+    {
+        return operation.marshalResult( readString( input ) );
+    }
+}
@@ -0,0 +1,171 @@
+package com.ldbc.driver.validation;
+
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.Workload;
+import com.ldbc.driver.generator.GeneratorException;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static com.ldbc.driver.validation.ValidationParamsBinaryWriter.MAGIC;
+import static com.ldbc.driver.validation.ValidationParamsBinaryWriter.VERSION;
+import static java.lang.String.format;
+
+/**
+ * Reads validation parameters written by {@link ValidationParamsBinaryWriter}, one record at a time, decoding each
+ * with the {@link ValidationParamsCodec} of the workload
+ */
+public class ValidationParamsBinaryReader implements Iterator<ValidationParam>, Closeable
+{
+    private static final int BUFFER_SIZE_IN_BYTES = 1024 * 1024;
+
+    private final File validationParamsFile;
+    private final ValidationParamsCodec codec;
+    private final DataInputStream input;
+    private final int entryCount;
+    private final RecordInputStream record = new RecordInputStream();
+    private final DataInputStream recordInput = new DataInputStream( record );
+    private byte[] recordBytes = new byte[1024];
+    private int entriesRead = 0;
+
+    /**
+     * @return true if the file starts like a binary validation parameters file, false if it is e.g. JSON/CSV
+     */
+    public static boolean isBinaryValidationParams( File validationParamsFile ) throws IOException
+    {
+        try ( DataInputStream input = new DataInputStream( new FileInputStream( validationParamsFile ) ) )
+        {
+            return MAGIC == input.readInt();
+        }
+        catch ( EOFException e )
+        {
+            return false;
+        }
+    }
+
+    public ValidationParamsBinaryReader( File validationParamsFile, Workload workload ) throws IOException
+    {
+        this.validationParamsFile = validationParamsFile;
+        this.codec = workload.validationParamsCodec();
+        this.input = new DataInputStream(
+                new BufferedInputStream( new FileInputStream( validationParamsFile ), BUFFER_SIZE_IN_BYTES ) );
+        try
+        {
+            if ( MAGIC != input.readInt() )
+            {
+                throw new IOException( format( "Not a binary validation parameters file: %s",
+                        validationParamsFile.getAbsolutePath() ) );
+            }
+            int version = input.readInt();
+            if ( VERSION != version )
+            {
+                throw new IOException( format( "Unsupported binary validation parameters version: %s", version ) );
+            }
+            this.entryCount = input.readInt();
+            if ( entryCount < 0 )
+            {
+                throw new IOException(
+                        format( "Incomplete binary validation parameters file, its writer was not closed: %s",
+                                validationParamsFile.getAbsolutePath() ) );
+            }
+        }
+        catch ( IOException e )
+        {
+            input.close();
+            throw e;
+        }
+    }
+
+    /**
+     * @return number of validation parameters in the file, read from its header
+     */
+    public int entryCount()
+    {
+        return entryCount;
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+        return entriesRead < entryCount;
+    }
+
+    @Override
+    public ValidationParam next()
+    {
+        if ( false == hasNext() )
+        {
+            throw new NoSuchElementException();
+        }
+        try
+        {
+            int recordLength = input.readInt();
+            if ( recordBytes.length < recordLength )
+            {
+                recordBytes = new byte[Math.max( recordBytes.length * 2, recordLength )];
+            }
+            input.readFully( recordBytes, 0, recordLength );
+            record.reset( recordBytes, recordLength );
+            ValidationParam validationParam = readRecord( codec, recordInput );
+            if ( record.available() > 0 )
+            {
+                throw new IOException( format( "%s bytes of the record were not decoded", record.available() ) );
+            }
+            entriesRead++;
+            return validationParam;
+        }
+        catch ( IOException | SerializingMarshallingException e )
+        {
+            throw new GeneratorException( format( "Error reading validation parameter %s of %s",
+                    entriesRead, validationParamsFile.getAbsolutePath() ), e );
+        }
+    }
+
+    @Override
+    public void remove()
+    {
+        throw new UnsupportedOperationException( "remove() not supported by " + getClass().getName() );
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        input.close();
+    }
+
+    static ValidationParam readRecord( ValidationParamsCodec codec, DataInput input )
+            throws IOException, SerializingMarshallingException
+    {
+        int operationType = input.readInt();
+        Operation operation = codec.readOperation( operationType, input );
+        Object operationResult = codec.readResult( operation, input );
+        return ValidationParam.createUntyped( operation, operationResult );
+    }
+
+    // decodes records from one reused buffer
+    private static class RecordInputStream extends ByteArrayInputStream
+    {
+        private RecordInputStream()
+        {
+            super( new byte[0] );
+        }
+
+        private void reset( byte[] bytes, int length )
+        {
+            buf = bytes;
+            pos = 0;
+            count = length;
+            mark = 0;
+        }
+    }
+}
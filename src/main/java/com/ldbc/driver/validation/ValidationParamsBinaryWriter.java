@@ -0,0 +1,119 @@
+package com.ldbc.driver.validation;
+
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.Workload;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+import static java.lang.String.format;
+
+/**
+ * Writes validation parameters in a compact binary format, encoded by the {@link ValidationParamsCodec} of the
+ * workload, which {@link ValidationParamsBinaryReader} reads back without parsing JSON.
+ * <p>
+ * Layout (big endian):
+ * <pre>
+ * header:  magic (int) | version (int) | entry count (int, -1 until the writer is closed)
+ * records: record length in bytes, excluding itself (int) | operation type (int) | operation fields | result fields
+ * </pre>
+ */
+public class ValidationParamsBinaryWriter implements Closeable
+{
+    static final int MAGIC = 0x4C565053;
+    static final int VERSION = 1;
+    static final int ENTRY_COUNT_POSITION = 8;
+    private static final int BUFFER_SIZE_IN_BYTES = 1024 * 1024;
+
+    private final File validationParamsFile;
+    private final ValidationParamsCodec codec;
+    private final boolean performSerializationMarshallingChecks;
+    private final DataOutputStream output;
+    private final ByteArrayOutputStream record = new ByteArrayOutputStream( 1024 );
+    private final DataOutputStream recordOutput = new DataOutputStream( record );
+    private int entriesWritten = 0;
+    private boolean closed = false;
+
+    public ValidationParamsBinaryWriter( File validationParamsFile,
+            Workload workload,
+            boolean performSerializationMarshallingChecks ) throws IOException
+    {
+        this.validationParamsFile = validationParamsFile;
+        this.codec = workload.validationParamsCodec();
+        this.performSerializationMarshallingChecks = performSerializationMarshallingChecks;
+        this.output = new DataOutputStream(
+                new BufferedOutputStream( new FileOutputStream( validationParamsFile ), BUFFER_SIZE_IN_BYTES ) );
+        output.writeInt( MAGIC );
+        output.writeInt( VERSION );
+        output.writeInt( -1 );
+    }
+
+    public void write( ValidationParam validationParam ) throws IOException, SerializingMarshallingException
+    {
+        Operation operation = validationParam.operation();
+        Object operationResult = validationParam.operationResult();
+        record.reset();
+        recordOutput.writeInt( operation.type() );
+        codec.writeOperation( operation, recordOutput );
+        codec.writeResult( operation, operationResult, recordOutput );
+
+        // Assert that serialization/marshalling is performed correctly
+        if ( performSerializationMarshallingChecks )
+        {
+            ValidationParam marshaledValidationParam = ValidationParamsBinaryReader.readRecord(
+                    codec,
+                    new DataInputStream( new ByteArrayInputStream( record.toByteArray() ) ) );
+            if ( false == marshaledValidationParam.operation().equals( operation ) ||
+                 false == marshaledValidationParam.operationResult().equals( operationResult ) )
+            {
+                throw new SerializingMarshallingException(
+                        format( ""
+                                + "Validation parameter and encoded-then-decoded validation parameter do not equal\n"
+                                + "Operation: %s\n"
+                                + "Actual Result: %s\n"
+                                + "Decoded Operation: %s\n"
+                                + "Decoded Result: %s",
+                                operation, operationResult,
+                                marshaledValidationParam.operation(), marshaledValidationParam.operationResult() )
+                );
+            }
+        }
+
+        output.writeInt( record.size() );
+        record.writeTo( output );
+        entriesWritten++;
+    }
+
+    public int entriesWritten()
+    {
+        return entriesWritten;
+    }
+
+    /**
+     * Completes the file by setting the entry count in its header
+     */
+    @Override
+    public void close() throws IOException
+    {
+        if ( closed )
+        {
+            return;
+        }
+        closed = true;
+        output.close();
+        try ( RandomAccessFile file = new RandomAccessFile( validationParamsFile, "rw" ) )
+        {
+            file.seek( ENTRY_COUNT_POSITION );
+            file.writeInt( entriesWritten );
+        }
+    }
+}
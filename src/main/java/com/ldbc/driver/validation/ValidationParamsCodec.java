@@ -0,0 +1,258 @@
+package com.ldbc.driver.validation;
+
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.SerializingMarshallingException;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.lang.String.format;
+
+/**
+ * Encodes the operations of a workload, and their results, into the records of binary validation parameters files,
+ * see {@link ValidationParamsBinaryWriter}.
+ * <p>
+ * Workloads return one from {@link com.ldbc.driver.Workload#validationParamsCodec()}, by default a
+ * {@link SerializedValidationParamsCodec}, which stores the output of their string serialization. Workloads with many
+ * validation parameters should override it with a codec writing the fields of each operation type directly.
+ * <p>
+ * Helpers write strings as their UTF-8 length in bytes (int, -1 if null) followed by the bytes, and collections as
+ * their size (int, -1 if null) followed by the elements.
+ */
+public abstract class ValidationParamsCodec
+{
+    private static final byte NULL_VALUE = 0;
+    private static final byte STRING_VALUE = 1;
+    private static final byte INTEGER_VALUE = 2;
+    private static final byte LONG_VALUE = 3;
+    private static final byte DOUBLE_VALUE = 4;
+    private static final byte BOOLEAN_VALUE = 5;
+    private static final byte LIST_VALUE = 6;
+    private static final byte MAP_VALUE = 7;
+
+    /**
+     * Writes the fields of operation, its type is written by the caller
+     */
+    public abstract void writeOperation( Operation operation, DataOutput output )
+            throws IOException, SerializingMarshallingException;
+
+    public abstract Operation readOperation( int operationType, DataInput input )
+            throws IOException, SerializingMarshallingException;
+
+    public abstract void writeResult( Operation operation, Object result, DataOutput output )
+            throws IOException, SerializingMarshallingException;
+
+    public abstract Object readResult( Operation operation, DataInput input )
+            throws IOException, SerializingMarshallingException;
+
+    protected static void writeString( String value, DataOutput output ) throws IOException
+    {
+        if ( null == value )
+        {
+            output.writeInt( -1 );
+        }
+        else
+        {
+            byte[] bytes = value.getBytes( StandardCharsets.UTF_8 );
+            output.writeInt( bytes.length );
+            output.write( bytes );
+        }
+    }
+
+    protected static String readString( DataInput input ) throws IOException
+    {
+        int length = input.readInt();
+        if ( -1 == length )
+        {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        input.readFully( bytes );
+        return new String( bytes, StandardCharsets.UTF_8 );
+    }
+
+    protected static void writeStrings( Iterable<String> values, DataOutput output ) throws IOException
+    {
+        if ( null == values )
+        {
+            output.writeInt( -1 );
+            return;
+        }
+        List<String> valuesList = asList( values );
+        output.writeInt( valuesList.size() );
+        for ( String value : valuesList )
+        {
+            writeString( value, output );
+        }
+    }
+
+    protected static List<String> readStrings( DataInput input ) throws IOException
+    {
+        int size = input.readInt();
+        if ( -1 == size )
+        {
+            return null;
+        }
+        List<String> values = new ArrayList<>( size );
+        for ( int i = 0; i < size; i++ )
+        {
+            values.add( readString( input ) );
+        }
+        return values;
+    }
+
+    protected static void writeLongs( Iterable<? extends Number> values, DataOutput output ) throws IOException
+    {
+        if ( null == values )
+        {
+            output.writeInt( -1 );
+            return;
+        }
+        List<? extends Number> valuesList = asList( values );
+        output.writeInt( valuesList.size() );
+        for ( Number value : valuesList )
+        {
+            output.writeLong( value.longValue() );
+        }
+    }
+
+    protected static List<Long> readLongs( DataInput input ) throws IOException
+    {
+        int size = input.readInt();
+        if ( -1 == size )
+        {
+            return null;
+        }
+        List<Long> values = new ArrayList<>( size );
+        for ( int i = 0; i < size; i++ )
+        {
+            values.add( input.readLong() );
+        }
+        return values;
+    }
+
+    /**
+     * Writes values of fields without a fixed type, e.g., the untyped tuples of some results, tagged with their type,
+     * so they are read back as instances of the same classes.
+     * Supports null, String, Integer, Long, Double, Boolean, and lists and maps of those.
+     */
+    protected static void writeValue( Object value, DataOutput output ) throws IOException
+    {
+        if ( null == value )
+        {
+            output.writeByte( NULL_VALUE );
+        }
+        else if ( value instanceof String )
+        {
+            output.writeByte( STRING_VALUE );
+            writeString( (String) value, output );
+        }
+        else if ( value instanceof Integer )
+        {
+            output.writeByte( INTEGER_VALUE );
+            output.writeInt( (Integer) value );
+        }
+        else if ( value instanceof Long )
+        {
+            output.writeByte( LONG_VALUE );
+            output.writeLong( (Long) value );
+        }
+        else if ( value instanceof Double )
+        {
+            output.writeByte( DOUBLE_VALUE );
+            output.writeDouble( (Double) value );
+        }
+        else if ( value instanceof Boolean )
+        {
+            output.writeByte( BOOLEAN_VALUE );
+            output.writeBoolean( (Boolean) value );
+        }
+        else if ( value instanceof Iterable )
+        {
+            output.writeByte( LIST_VALUE );
+            List<?> values = asList( (Iterable<?>) value );
+            output.writeInt( values.size() );
+            for ( Object element : values )
+            {
+                writeValue( element, output );
+            }
+        }
+        else if ( value instanceof Map )
+        {
+            output.writeByte( MAP_VALUE );
+            Map<?,?> values = (Map<?,?>) value;
+            output.writeInt( values.size() );
+            for ( Map.Entry<?,?> entry : values.entrySet() )
+            {
+                writeValue( entry.getKey(), output );
+                writeValue( entry.getValue(), output );
+            }
+        }
+        else
+        {
+            throw new IOException( format( "Unsupported value type: %s", value.getClass().getName() ) );
+        }
+    }
+
+    protected static Object readValue( DataInput input ) throws IOException
+    {
+        byte valueType = input.readByte();
+        switch ( valueType )
+        {
+        case NULL_VALUE:
+            return null;
+        case STRING_VALUE:
+            return readString( input );
+        case INTEGER_VALUE:
+            return input.readInt();
+        case LONG_VALUE:
+            return input.readLong();
+        case DOUBLE_VALUE:
+            return input.readDouble();
+        case BOOLEAN_VALUE:
+            return input.readBoolean();
+        case LIST_VALUE:
+        {
+            int size = input.readInt();
+            List<Object> values = new ArrayList<>( size );
+            for ( int i = 0; i < size; i++ )
+            {
+                values.add( readValue( input ) );
+            }
+            return values;
+        }
+        case MAP_VALUE:
+        {
+            int size = input.readInt();
+            Map<Object,Object> values = new LinkedHashMap<>();
+            for ( int i = 0; i < size; i++ )
+            {
+                values.put( readValue( input ), readValue( input ) );
+            }
+            return values;
+        }
+        default:
+            throw new IOException( format( "Unknown value type: %s", valueType ) );
+        }
+    }
+
+    private static <T> List<T> asList( Iterable<T> values )
+    {
+        if ( values instanceof List )
+        {
+            return (List<T>) values;
+        }
+        List<T> valuesList = new ArrayList<>();
+        for ( T value : values )
+        {
+            valuesList.add( value );
+        }
+        return valuesList;
+    }
+}
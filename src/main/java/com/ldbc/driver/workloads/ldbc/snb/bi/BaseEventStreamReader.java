@@ -5,11 +5,14 @@ import com.google.common.base.Charsets;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.WorkloadException;
 import com.ldbc.driver.csv.charseeker.BufferedCharSeeker;
+import com.ldbc.driver.csv.charseeker.CharReadable;
 import com.ldbc.driver.csv.charseeker.CharSeeker;
 import com.ldbc.driver.csv.charseeker.CharSeekerParams;
 import com.ldbc.driver.csv.charseeker.Extractors;
 import com.ldbc.driver.csv.charseeker.Mark;
 import com.ldbc.driver.csv.charseeker.Readables;
+import com.ldbc.driver.csv.charseeker.ThreadAheadReadable;
+import com.ldbc.driver.generator.ColumnarParameters;
 import com.ldbc.driver.generator.CsvEventStreamReaderBasicCharSeeker;
 import com.ldbc.driver.generator.GeneratorFactory;
 import com.ldbc.driver.generator.NoRemoveIterator;
@@ -19,6 +22,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.util.Iterator;
+import java.util.zip.GZIPInputStream;
 
 import static java.lang.String.format;
 
@@ -34,12 +38,13 @@ abstract class BaseEventStreamReader extends NoRemoveIterator<Operation> impleme
             GeneratorFactory gf ) throws WorkloadException
     {
         this.parametersInputStream = parametersInputStream;
-        charSeeker = new BufferedCharSeeker(
-                Readables.wrap(
-                        new InputStreamReader( parametersInputStream, Charsets.UTF_8 )
-                ),
-                charSeekerParams.bufferSize()
-        );
+        CharReadable parameters = Readables.wrap( new InputStreamReader( parametersInputStream, Charsets.UTF_8 ) );
+        if ( parametersInputStream instanceof GZIPInputStream )
+        {
+            // compressed parameters are decompressed by a read-ahead thread, rather than while parsing them
+            parameters = ThreadAheadReadable.threadAhead( parameters, charSeekerParams.bufferSize() );
+        }
+        charSeeker = new BufferedCharSeeker( parameters, charSeekerParams.bufferSize() );
         Mark mark = new Mark();
         // skip headers
         try
@@ -55,7 +60,7 @@ abstract class BaseEventStreamReader extends NoRemoveIterator<Operation> impleme
                     format( "Unable to advance parameters stream beyond headers: %s", parametersInputStream ), e );
         }
 
-        parametersIterator = gf.repeating(
+        parametersIterator = ColumnarParameters.load(
                 new CsvEventStreamReaderBasicCharSeeker<>(
                         charSeeker,
                         new Extractors( charSeekerParams.arrayDelimiter(), charSeekerParams.tupleDelimiter() ),
@@ -63,7 +68,7 @@ abstract class BaseEventStreamReader extends NoRemoveIterator<Operation> impleme
                         decoder(),
                         charSeekerParams.columnDelimiter()
                 )
-        );
+        ).repeatingRows();
     }
 
     @Override
@@ -10,13 +10,13 @@ import com.ldbc.driver.WorkloadException;
 import com.ldbc.driver.WorkloadStreams;
 import com.ldbc.driver.control.ConsoleAndFileDriverConfiguration;
 import com.ldbc.driver.csv.charseeker.CharSeekerParams;
+import com.ldbc.driver.csv.charseeker.Readables;
 import com.ldbc.driver.generator.GeneratorFactory;
 
 import java.io.Closeable;
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
@@ -33,31 +33,31 @@ public class LdbcSnbBiWorkload extends Workload
     // TODO these things should really all be in an instance of LdbcSnbBiWorkloadConfiguration or ...State
     // TODO alternatively they could be CloseableStream (or similar) where files and everything are in 1 class
     private List<Closeable> readOperationFileReaders = new ArrayList<>();
-    private FileInputStream readOperation1FileInputStream;
-    private FileInputStream readOperation2FileInputStream;
-    private FileInputStream readOperation3FileInputStream;
-    private FileInputStream readOperation4FileInputStream;
-    private FileInputStream readOperation5FileInputStream;
-    private FileInputStream readOperation6FileInputStream;
-    private FileInputStream readOperation7FileInputStream;
-    private FileInputStream readOperation8FileInputStream;
-    private FileInputStream readOperation9FileInputStream;
-    private FileInputStream readOperation10FileInputStream;
-    private FileInputStream readOperation11FileInputStream;
-    private FileInputStream readOperation12FileInputStream;
-    private FileInputStream readOperation13FileInputStream;
-    private FileInputStream readOperation14FileInputStream;
-    private FileInputStream readOperation15FileInputStream;
-    private FileInputStream readOperation16FileInputStream;
-    private FileInputStream readOperation17FileInputStream;
-    private FileInputStream readOperation18FileInputStream;
-    private FileInputStream readOperation19FileInputStream;
-    private FileInputStream readOperation20FileInputStream;
-    private FileInputStream readOperation21FileInputStream;
-    private FileInputStream readOperation22FileInputStream;
-    private FileInputStream readOperation23FileInputStream;
-    private FileInputStream readOperation24FileInputStream;
-    private FileInputStream readOperation25FileInputStream;
+    private InputStream readOperation1FileInputStream;
+    private InputStream readOperation2FileInputStream;
+    private InputStream readOperation3FileInputStream;
+    private InputStream readOperation4FileInputStream;
+    private InputStream readOperation5FileInputStream;
+    private InputStream readOperation6FileInputStream;
+    private InputStream readOperation7FileInputStream;
+    private InputStream readOperation8FileInputStream;
+    private InputStream readOperation9FileInputStream;
+    private InputStream readOperation10FileInputStream;
+    private InputStream readOperation11FileInputStream;
+    private InputStream readOperation12FileInputStream;
+    private InputStream readOperation13FileInputStream;
+    private InputStream readOperation14FileInputStream;
+    private InputStream readOperation15FileInputStream;
+    private InputStream readOperation16FileInputStream;
+    private InputStream readOperation17FileInputStream;
+    private InputStream readOperation18FileInputStream;
+    private InputStream readOperation19FileInputStream;
+    private InputStream readOperation20FileInputStream;
+    private InputStream readOperation21FileInputStream;
+    private InputStream readOperation22FileInputStream;
+    private InputStream readOperation23FileInputStream;
+    private InputStream readOperation24FileInputStream;
+    private InputStream readOperation25FileInputStream;
 
     // TODO these things should really all be in an instance of LdbcSnbBiWorkloadConfiguration or ...State
     private LdbcSnbBiWorkloadConfiguration.LdbcSnbBiInterleaves interleaves = null;
@@ -111,93 +111,70 @@ public class LdbcSnbBiWorkload extends Workload
         }
         for ( String readOperationParamsFilename : LdbcSnbBiWorkloadConfiguration.OPERATION_PARAMS_FILENAMES )
         {
-            if ( false == new File( parametersDir, readOperationParamsFilename ).exists() )
+            File readOperationParamsFile =
+                    Readables.plainOrGzipped( new File( parametersDir, readOperationParamsFilename ) );
+            if ( false == readOperationParamsFile.exists() )
             {
                 throw new WorkloadException( format(
                         "Read operation parameters file does not exist: %s",
-                        new File( parametersDir, readOperationParamsFilename ).getAbsolutePath()
+                        readOperationParamsFile.getAbsolutePath()
                 ) );
             }
         }
         try
         {
-            readOperation1FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_1_PARAMS_FILENAME )
-            );
-            readOperation2FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_2_PARAMS_FILENAME )
-            );
-            readOperation3FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_3_PARAMS_FILENAME )
-            );
-            readOperation4FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_4_PARAMS_FILENAME )
-            );
-            readOperation5FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_5_PARAMS_FILENAME )
-            );
-            readOperation6FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_6_PARAMS_FILENAME )
-            );
-            readOperation7FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_7_PARAMS_FILENAME )
-            );
-            readOperation8FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_8_PARAMS_FILENAME )
-            );
-            readOperation9FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_9_PARAMS_FILENAME )
-            );
-            readOperation10FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_10_PARAMS_FILENAME )
-            );
-            readOperation11FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_11_PARAMS_FILENAME )
-            );
-            readOperation12FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_12_PARAMS_FILENAME )
-            );
-            readOperation13FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_13_PARAMS_FILENAME )
-            );
-            readOperation14FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_14_PARAMS_FILENAME )
-            );
-            readOperation15FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_15_PARAMS_FILENAME )
-            );
-            readOperation16FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_16_PARAMS_FILENAME )
-            );
-            readOperation17FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_17_PARAMS_FILENAME )
-            );
-            readOperation18FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_18_PARAMS_FILENAME )
-            );
-            readOperation19FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_19_PARAMS_FILENAME )
-            );
-            readOperation20FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_20_PARAMS_FILENAME )
-            );
-            readOperation21FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_21_PARAMS_FILENAME )
-            );
-            readOperation22FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_22_PARAMS_FILENAME )
-            );
-            readOperation23FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_23_PARAMS_FILENAME )
-            );
-            readOperation24FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_24_PARAMS_FILENAME )
-            );
-            readOperation25FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_25_PARAMS_FILENAME )
-            );
+            readOperation1FileInputStream = Readables.inputStream( Readables.plainOrGzipped(
+                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_1_PARAMS_FILENAME ) ) );
+            readOperation2FileInputStream = Readables.inputStream( Readables.plainOrGzipped(
+                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_2_PARAMS_FILENAME ) ) );
+            readOperation3FileInputStream = Readables.inputStream( Readables.plainOrGzipped(
+                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_3_PARAMS_FILENAME ) ) );
+            readOperation4FileInputStream = Readables.inputStream( Readables.plainOrGzipped(
+                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_4_PARAMS_FILENAME ) ) );
+            readOperation5FileInputStream = Readables.inputStream( Readables.plainOrGzipped(
+                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_5_PARAMS_FILENAME ) ) );
+            readOperation6FileInputStream = Readables.inputStream( Readables.plainOrGzipped(
+                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_6_PARAMS_FILENAME ) ) );
+            readOperation7FileInputStream = Readables.inputStream( Readables.plainOrGzipped(
+                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_7_PARAMS_FILENAME ) ) );
+            readOperation8FileInputStream = Readables.inputStream( Readables.plainOrGzipped(
+                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_8_PARAMS_FILENAME ) ) );
+            readOperation9FileInputStream = Readables.inputStream( Readables.plainOrGzipped(
+                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_9_PARAMS_FILENAME ) ) );
+            readOperation10FileInputStream = Readables.inputStream( Readables.plainOrGzipped(
+                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_10_PARAMS_FILENAME ) ) );
+            readOperation11FileInputStream = Readables.inputStream( Readables.plainOrGzipped(
+                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_11_PARAMS_FILENAME ) ) );
+            readOperation12FileInputStream = Readables.inputStream( Readables.plainOrGzipped(
+                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_12_PARAMS_FILENAME ) ) );
+            readOperation13FileInputStream = Readables.inputStream( Readables.plainOrGzipped(
+                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_13_PARAMS_FILENAME ) ) );
+            readOperation14FileInputStream = Readables.inputStream( Readables.plainOrGzipped(
+                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_14_PARAMS_FILENAME ) ) );
+            readOperation15FileInputStream = Readables.inputStream( Readables.plainOrGzipped(
+                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_15_PARAMS_FILENAME ) ) );
+            readOperation16FileInputStream = Readables.inputStream( Readables.plainOrGzipped(
+                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_16_PARAMS_FILENAME ) ) );
+            readOperation17FileInputStream = Readables.inputStream( Readables.plainOrGzipped(
+                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_17_PARAMS_FILENAME ) ) );
+            readOperation18FileInputStream = Readables.inputStream( Readables.plainOrGzipped(
+                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_18_PARAMS_FILENAME ) ) );
+            readOperation19FileInputStream = Readables.inputStream( Readables.plainOrGzipped(
+                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_19_PARAMS_FILENAME ) ) );
+            readOperation20FileInputStream = Readables.inputStream( Readables.plainOrGzipped(
+                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_20_PARAMS_FILENAME ) ) );
+            readOperation21FileInputStream = Readables.inputStream( Readables.plainOrGzipped(
+                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_21_PARAMS_FILENAME ) ) );
+            readOperation22FileInputStream = Readables.inputStream( Readables.plainOrGzipped(
+                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_22_PARAMS_FILENAME ) ) );
+            readOperation23FileInputStream = Readables.inputStream( Readables.plainOrGzipped(
+                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_23_PARAMS_FILENAME ) ) );
+            readOperation24FileInputStream = Readables.inputStream( Readables.plainOrGzipped(
+                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_24_PARAMS_FILENAME ) ) );
+            readOperation25FileInputStream = Readables.inputStream( Readables.plainOrGzipped(
+                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_25_PARAMS_FILENAME ) ) );
         }
-        catch ( FileNotFoundException e )
+        catch ( IOException e )
         {
             throw new WorkloadException( "Error load query parameters file", e );
         }
@@ -0,0 +1,183 @@
+package com.ldbc.driver.workloads.ldbc.snb.interactive;
+
+import com.ldbc.driver.generator.GeneratorException;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+import static java.lang.String.format;
+
+/**
+ * List field of an update operation, kept as it was read (e.g., "1;2;3") and only decoded into its elements when it
+ * is first accessed, so fields that connectors ignore, and operations that are filtered out, are never decoded.
+ * Once decoded it behaves as {@link ArrayList}, as eagerly decoded fields do, including being modifiable.
+ * <p>
+ * As decoding is deferred, so are errors, which are thrown as {@link GeneratorException} on first access.
+ */
+abstract class LazyDecodedList<T> extends AbstractList<T> implements RandomAccess
+{
+    // null when the field is empty
+    private final String encoded;
+    private final char arrayDelimiter;
+    private volatile List<T> decoded = null;
+
+    static List<String> strings( String encoded, char arrayDelimiter )
+    {
+        return new LazyDecodedList<String>( encoded, arrayDelimiter )
+        {
+            @Override
+            String decodeElement( String encoded, int from, int to )
+            {
+                return encoded.substring( from, to );
+            }
+        };
+    }
+
+    static List<Long> longs( String encoded, char arrayDelimiter )
+    {
+        return new LazyDecodedList<Long>( encoded, arrayDelimiter )
+        {
+            @Override
+            Long decodeElement( String encoded, int from, int to )
+            {
+                return parseLong( encoded, from, to );
+            }
+        };
+    }
+
+    /**
+     * @param encoded organizations as (organization id, year) tuples
+     */
+    static List<LdbcUpdate1AddPerson.Organization> organizations( String encoded, char arrayDelimiter,
+            final char tupleDelimiter )
+    {
+        return new LazyDecodedList<LdbcUpdate1AddPerson.Organization>( encoded, arrayDelimiter )
+        {
+            @Override
+            LdbcUpdate1AddPerson.Organization decodeElement( String encoded, int from, int to )
+            {
+                int tupleDelimiterIndex = encoded.indexOf( tupleDelimiter, from );
+                if ( -1 == tupleDelimiterIndex || tupleDelimiterIndex >= to )
+                {
+                    throw new NumberFormatException(
+                            format( "No year found in organization: %s", encoded.substring( from, to ) ) );
+                }
+                return new LdbcUpdate1AddPerson.Organization(
+                        parseLong( encoded, from, tupleDelimiterIndex ),
+                        (int) parseLong( encoded, tupleDelimiterIndex + 1, to )
+                );
+            }
+        };
+    }
+
+    private LazyDecodedList( String encoded, char arrayDelimiter )
+    {
+        this.encoded = encoded;
+        this.arrayDelimiter = arrayDelimiter;
+    }
+
+    abstract T decodeElement( String encoded, int from, int to );
+
+    boolean isDecoded()
+    {
+        return null != decoded;
+    }
+
+    private List<T> decoded()
+    {
+        List<T> list = decoded;
+        if ( null == list )
+        {
+            synchronized ( this )
+            {
+                list = decoded;
+                if ( null == list )
+                {
+                    list = decode();
+                    decoded = list;
+                }
+            }
+        }
+        return list;
+    }
+
+    private List<T> decode()
+    {
+        if ( null == encoded )
+        {
+            return new ArrayList<>();
+        }
+        List<T> list = new ArrayList<>();
+        try
+        {
+            int from = 0;
+            int to;
+            while ( -1 != (to = encoded.indexOf( arrayDelimiter, from )) )
+            {
+                list.add( decodeElement( encoded, from, to ) );
+                from = to + 1;
+            }
+            list.add( decodeElement( encoded, from, encoded.length() ) );
+        }
+        catch ( NumberFormatException e )
+        {
+            throw new GeneratorException( format( "Error decoding list: %s", encoded ), e );
+        }
+        return list;
+    }
+
+    private static long parseLong( String encoded, int from, int to )
+    {
+        if ( from == to )
+        {
+            throw new NumberFormatException( "Empty number" );
+        }
+        boolean negative = '-' == encoded.charAt( from );
+        long value = 0;
+        for ( int i = negative ? from + 1 : from; i < to; i++ )
+        {
+            char c = encoded.charAt( i );
+            if ( c < '0' || c > '9' )
+            {
+                throw new NumberFormatException( format( "Not a number: %s", encoded.substring( from, to ) ) );
+            }
+            value = value * 10 + (c - '0');
+        }
+        return negative ? -value : value;
+    }
+
+    @Override
+    public T get( int index )
+    {
+        return decoded().get( index );
+    }
+
+    @Override
+    public int size()
+    {
+        return decoded().size();
+    }
+
+    @Override
+    public T set( int index, T element )
+    {
+        return decoded().set( index, element );
+    }
+
+    @Override
+    public void add( int index, T element )
+    {
+        decoded().add( index, element );
+        modCount++;
+    }
+
+    @Override
+    public T remove( int index )
+    {
+        T element = decoded().remove( index );
+        modCount++;
+        return element;
+    }
+}
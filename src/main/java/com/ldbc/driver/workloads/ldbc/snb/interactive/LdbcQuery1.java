@@ -5,6 +5,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationPool;
 import com.ldbc.driver.SerializingMarshallingException;
 
 import java.io.IOException;
@@ -24,9 +25,9 @@ public class LdbcQuery1 extends Operation<List<LdbcQuery1Result>>
     public static final String FIRST_NAME = "firstName";
     public static final String LIMIT = "limit";
 
-    private final long personId;
-    private final String firstName;
-    private final int limit;
+    private long personId;
+    private String firstName;
+    private int limit;
 
     public LdbcQuery1( long personId, String firstName, int limit )
     {
@@ -35,18 +36,32 @@ public class LdbcQuery1 extends Operation<List<LdbcQuery1Result>>
         this.limit = limit;
     }
 
+    /**
+     * Reinitializes an operation taken from an {@link OperationPool}
+     */
+    LdbcQuery1 reset( long personId, String firstName, int limit )
+    {
+        this.personId = personId;
+        this.firstName = firstName;
+        this.limit = limit;
+        return this;
+    }
+
     public long personId()
     {
+        checkNotRecycled();
         return personId;
     }
 
     public String firstName()
     {
+        checkNotRecycled();
         return firstName;
     }
 
     public int limit()
     {
+        checkNotRecycled();
         return limit;
     }
 
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationPool;
 import com.ldbc.driver.SerializingMarshallingException;
 
 import java.io.IOException;
@@ -23,9 +24,9 @@ public class LdbcQuery10 extends Operation<List<LdbcQuery10Result>>
     public static final String MONTH = "month";
     public static final String LIMIT = "limit";
 
-    private final long personId;
-    private final int month;
-    private final int limit;
+    private long personId;
+    private int month;
+    private int limit;
 
     public LdbcQuery10( long personId, int month, int limit )
     {
@@ -34,18 +35,32 @@ public class LdbcQuery10 extends Operation<List<LdbcQuery10Result>>
         this.limit = limit;
     }
 
+    /**
+     * Reinitializes an operation taken from an {@link OperationPool}
+     */
+    LdbcQuery10 reset( long personId, int month, int limit )
+    {
+        this.personId = personId;
+        this.month = month;
+        this.limit = limit;
+        return this;
+    }
+
     public long personId()
     {
+        checkNotRecycled();
         return personId;
     }
 
     public int month()
     {
+        checkNotRecycled();
         return month;
     }
 
     public int limit()
     {
+        checkNotRecycled();
         return limit;
     }
 
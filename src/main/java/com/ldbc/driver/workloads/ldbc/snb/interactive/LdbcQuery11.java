@@ -4,6 +4,7 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationPool;
 import com.ldbc.driver.SerializingMarshallingException;
 
 import java.io.IOException;
@@ -24,10 +25,10 @@ public class LdbcQuery11 extends Operation<List<LdbcQuery11Result>>
     public static final String WORK_FROM_YEAR = "workFromYear";
     public static final String LIMIT = "limit";
 
-    private final long personId;
-    private final String countryName;
-    private final int workFromYear;
-    private final int limit;
+    private long personId;
+    private String countryName;
+    private int workFromYear;
+    private int limit;
 
     public LdbcQuery11( long personId, String countryName, int workFromYear, int limit )
     {
@@ -37,23 +38,39 @@ public class LdbcQuery11 extends Operation<List<LdbcQuery11Result>>
         this.limit = limit;
     }
 
+    /**
+     * Reinitializes an operation taken from an {@link OperationPool}
+     */
+    LdbcQuery11 reset( long personId, String countryName, int workFromYear, int limit )
+    {
+        this.personId = personId;
+        this.countryName = countryName;
+        this.workFromYear = workFromYear;
+        this.limit = limit;
+        return this;
+    }
+
     public long personId()
     {
+        checkNotRecycled();
         return personId;
     }
 
     public String countryName()
     {
+        checkNotRecycled();
         return countryName;
     }
 
     public int workFromYear()
     {
+        checkNotRecycled();
         return workFromYear;
     }
 
     public int limit()
     {
+        checkNotRecycled();
         return limit;
     }
 
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationPool;
 import com.ldbc.driver.SerializingMarshallingException;
 
 import java.io.IOException;
@@ -23,9 +24,9 @@ public class LdbcQuery12 extends Operation<List<LdbcQuery12Result>>
     public static final String TAG_CLASS_NAME = "tagClassName";
     public static final String LIMIT = "limit";
 
-    private final long personId;
-    private final String tagClassName;
-    private final int limit;
+    private long personId;
+    private String tagClassName;
+    private int limit;
 
     public LdbcQuery12( long personId, String tagClassName, int limit )
     {
@@ -34,18 +35,32 @@ public class LdbcQuery12 extends Operation<List<LdbcQuery12Result>>
         this.limit = limit;
     }
 
+    /**
+     * Reinitializes an operation taken from an {@link OperationPool}
+     */
+    LdbcQuery12 reset( long personId, String tagClassName, int limit )
+    {
+        this.personId = personId;
+        this.tagClassName = tagClassName;
+        this.limit = limit;
+        return this;
+    }
+
     public long personId()
     {
+        checkNotRecycled();
         return personId;
     }
 
     public String tagClassName()
     {
+        checkNotRecycled();
         return tagClassName;
     }
 
     public int limit()
     {
+        checkNotRecycled();
         return limit;
     }
 
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationPool;
 import com.ldbc.driver.SerializingMarshallingException;
 
 import java.io.IOException;
@@ -21,8 +22,8 @@ public class LdbcQuery13 extends Operation<LdbcQuery13Result>
     public static final String PERSON1_ID = "person1Id";
     public static final String PERSON2_ID = "person2Id";
 
-    private final long person1Id;
-    private final long person2Id;
+    private long person1Id;
+    private long person2Id;
 
     public LdbcQuery13( long person1Id, long person2Id )
     {
@@ -30,13 +31,25 @@ public class LdbcQuery13 extends Operation<LdbcQuery13Result>
         this.person2Id = person2Id;
     }
 
+    /**
+     * Reinitializes an operation taken from an {@link OperationPool}
+     */
+    LdbcQuery13 reset( long person1Id, long person2Id )
+    {
+        this.person1Id = person1Id;
+        this.person2Id = person2Id;
+        return this;
+    }
+
     public long person1Id()
     {
+        checkNotRecycled();
         return person1Id;
     }
 
     public long person2Id()
     {
+        checkNotRecycled();
         return person2Id;
     }
 
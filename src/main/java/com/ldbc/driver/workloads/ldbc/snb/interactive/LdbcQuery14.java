@@ -6,6 +6,7 @@ import com.google.common.base.Function;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Iterables;
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationPool;
 import com.ldbc.driver.SerializingMarshallingException;
 
 import java.io.IOException;
@@ -23,8 +24,8 @@ public class LdbcQuery14 extends Operation<List<LdbcQuery14Result>>
     public static final String PERSON1_ID = "person1Id";
     public static final String PERSON2_ID = "person2Id";
 
-    private final long person1Id;
-    private final long person2Id;
+    private long person1Id;
+    private long person2Id;
 
     public LdbcQuery14( long person1Id, long person2Id )
     {
@@ -32,13 +33,25 @@ public class LdbcQuery14 extends Operation<List<LdbcQuery14Result>>
         this.person2Id = person2Id;
     }
 
+    /**
+     * Reinitializes an operation taken from an {@link OperationPool}
+     */
+    LdbcQuery14 reset( long person1Id, long person2Id )
+    {
+        this.person1Id = person1Id;
+        this.person2Id = person2Id;
+        return this;
+    }
+
     public long person1Id()
     {
+        checkNotRecycled();
         return person1Id;
     }
 
     public long person2Id()
     {
+        checkNotRecycled();
         return person2Id;
     }
 
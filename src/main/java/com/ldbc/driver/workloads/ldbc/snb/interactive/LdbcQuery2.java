@@ -4,6 +4,7 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationPool;
 import com.ldbc.driver.SerializingMarshallingException;
 
 import java.io.IOException;
@@ -24,9 +25,9 @@ public class LdbcQuery2 extends Operation<List<LdbcQuery2Result>>
     public static String MAX_DATE = "maxDate";
     public static String LIMIT = "limit";
 
-    private final long personId;
-    private final Date maxDate;
-    private final int limit;
+    private long personId;
+    private Date maxDate;
+    private int limit;
 
     public LdbcQuery2( long personId, Date maxDate, int limit )
     {
@@ -36,18 +37,32 @@ public class LdbcQuery2 extends Operation<List<LdbcQuery2Result>>
         this.limit = limit;
     }
 
+    /**
+     * Reinitializes an operation taken from an {@link OperationPool}
+     */
+    LdbcQuery2 reset( long personId, Date maxDate, int limit )
+    {
+        this.personId = personId;
+        this.maxDate = maxDate;
+        this.limit = limit;
+        return this;
+    }
+
     public long personId()
     {
+        checkNotRecycled();
         return personId;
     }
 
     public Date maxDate()
     {
+        checkNotRecycled();
         return maxDate;
     }
 
     public int limit()
     {
+        checkNotRecycled();
         return limit;
     }
 
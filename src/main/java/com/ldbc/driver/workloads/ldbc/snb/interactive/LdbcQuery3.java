@@ -4,6 +4,7 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationPool;
 import com.ldbc.driver.SerializingMarshallingException;
 
 import java.io.IOException;
@@ -27,12 +28,12 @@ public class LdbcQuery3 extends Operation<List<LdbcQuery3Result>>
     public static final String DURATION_DAYS= "durationDays";
     public static final String LIMIT = "limit";
 
-    private final long personId;
-    private final String countryXName;
-    private final String countryYName;
-    private final Date startDate;
-    private final int durationDays;
-    private final int limit;
+    private long personId;
+    private String countryXName;
+    private String countryYName;
+    private Date startDate;
+    private int durationDays;
+    private int limit;
 
     public LdbcQuery3( long personId, String countryXName, String countryYName, Date startDate, int durationDays,
             int limit )
@@ -45,33 +46,54 @@ public class LdbcQuery3 extends Operation<List<LdbcQuery3Result>>
         this.limit = limit;
     }
 
+    /**
+     * Reinitializes an operation taken from an {@link OperationPool}
+     */
+    LdbcQuery3 reset( long personId, String countryXName, String countryYName, Date startDate, int durationDays,
+            int limit )
+    {
+        this.personId = personId;
+        this.countryXName = countryXName;
+        this.countryYName = countryYName;
+        this.startDate = startDate;
+        this.durationDays = durationDays;
+        this.limit = limit;
+        return this;
+    }
+
     public long personId()
     {
+        checkNotRecycled();
         return personId;
     }
 
     public String countryXName()
     {
+        checkNotRecycled();
         return countryXName;
     }
 
     public String countryYName()
     {
+        checkNotRecycled();
         return countryYName;
     }
 
     public Date startDate()
     {
+        checkNotRecycled();
         return startDate;
     }
 
     public int durationDays()
     {
+        checkNotRecycled();
         return durationDays;
     }
 
     public int limit()
     {
+        checkNotRecycled();
         return limit;
     }
 
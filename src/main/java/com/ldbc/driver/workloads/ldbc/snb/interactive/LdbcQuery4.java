@@ -4,6 +4,7 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationPool;
 import com.ldbc.driver.SerializingMarshallingException;
 
 import java.io.IOException;
@@ -25,10 +26,10 @@ public class LdbcQuery4 extends Operation<List<LdbcQuery4Result>>
     public static final String DURATION_DAYS = "durationDays";
     public static final String LIMIT = "limit";
 
-    private final long personId;
-    private final Date startDate;
-    private final int durationDays;
-    private final int limit;
+    private long personId;
+    private Date startDate;
+    private int durationDays;
+    private int limit;
 
     public LdbcQuery4( long personId, Date startDate, int durationDays, int limit )
     {
@@ -38,23 +39,39 @@ public class LdbcQuery4 extends Operation<List<LdbcQuery4Result>>
         this.limit = limit;
     }
 
+    /**
+     * Reinitializes an operation taken from an {@link OperationPool}
+     */
+    LdbcQuery4 reset( long personId, Date startDate, int durationDays, int limit )
+    {
+        this.personId = personId;
+        this.startDate = startDate;
+        this.durationDays = durationDays;
+        this.limit = limit;
+        return this;
+    }
+
     public long personId()
     {
+        checkNotRecycled();
         return personId;
     }
 
     public Date startDate()
     {
+        checkNotRecycled();
         return startDate;
     }
 
     public int durationDays()
     {
+        checkNotRecycled();
         return durationDays;
     }
 
     public int limit()
     {
+        checkNotRecycled();
         return limit;
     }
 
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationPool;
 import com.ldbc.driver.SerializingMarshallingException;
 
 import java.io.IOException;
@@ -24,9 +25,9 @@ public class LdbcQuery5 extends Operation<List<LdbcQuery5Result>>
     public static final String MIN_DATE = "minDate";
     public static final String LIMIT = "limit";
 
-    private final long personId;
-    private final Date minDate;
-    private final int limit;
+    private long personId;
+    private Date minDate;
+    private int limit;
 
     public LdbcQuery5( long personId, Date minDate, int limit )
     {
@@ -36,18 +37,32 @@ public class LdbcQuery5 extends Operation<List<LdbcQuery5Result>>
         this.limit = limit;
     }
 
+    /**
+     * Reinitializes an operation taken from an {@link OperationPool}
+     */
+    LdbcQuery5 reset( long personId, Date minDate, int limit )
+    {
+        this.personId = personId;
+        this.minDate = minDate;
+        this.limit = limit;
+        return this;
+    }
+
     public long personId()
     {
+        checkNotRecycled();
         return personId;
     }
 
     public Date minDate()
     {
+        checkNotRecycled();
         return minDate;
     }
 
     public int limit()
     {
+        checkNotRecycled();
         return limit;
     }
 
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationPool;
 import com.ldbc.driver.SerializingMarshallingException;
 
 import java.io.IOException;
@@ -23,9 +24,9 @@ public class LdbcQuery6 extends Operation<List<LdbcQuery6Result>>
     public static final String TAG_NAME = "tagName";
     public static final String LIMIT = "limit";
 
-    private final long personId;
-    private final String tagName;
-    private final int limit;
+    private long personId;
+    private String tagName;
+    private int limit;
 
     public LdbcQuery6( long personId, String tagName, int limit )
     {
@@ -34,18 +35,32 @@ public class LdbcQuery6 extends Operation<List<LdbcQuery6Result>>
         this.limit = limit;
     }
 
+    /**
+     * Reinitializes an operation taken from an {@link OperationPool}
+     */
+    LdbcQuery6 reset( long personId, String tagName, int limit )
+    {
+        this.personId = personId;
+        this.tagName = tagName;
+        this.limit = limit;
+        return this;
+    }
+
     public long personId()
     {
+        checkNotRecycled();
         return personId;
     }
 
     public String tagName()
     {
+        checkNotRecycled();
         return tagName;
     }
 
     public int limit()
     {
+        checkNotRecycled();
         return limit;
     }
 
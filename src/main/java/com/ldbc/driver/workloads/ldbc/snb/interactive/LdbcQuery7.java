@@ -4,6 +4,7 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationPool;
 import com.ldbc.driver.SerializingMarshallingException;
 
 import java.io.IOException;
@@ -22,8 +23,8 @@ public class LdbcQuery7 extends Operation<List<LdbcQuery7Result>>
     public static final String PERSON_ID = "personId";
     public static final String LIMIT = "limit";
 
-    private final long personId;
-    private final int limit;
+    private long personId;
+    private int limit;
 
     public LdbcQuery7( long personId, int limit )
     {
@@ -32,13 +33,25 @@ public class LdbcQuery7 extends Operation<List<LdbcQuery7Result>>
         this.limit = limit;
     }
 
+    /**
+     * Reinitializes an operation taken from an {@link OperationPool}
+     */
+    LdbcQuery7 reset( long personId, int limit )
+    {
+        this.personId = personId;
+        this.limit = limit;
+        return this;
+    }
+
     public long personId()
     {
+        checkNotRecycled();
         return personId;
     }
 
     public int limit()
     {
+        checkNotRecycled();
         return limit;
     }
 
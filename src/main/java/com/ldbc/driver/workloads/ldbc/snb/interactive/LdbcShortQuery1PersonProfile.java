@@ -4,6 +4,7 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationPool;
 import com.ldbc.driver.SerializingMarshallingException;
 
 import java.io.IOException;
@@ -19,15 +20,25 @@ public class LdbcShortQuery1PersonProfile extends Operation<LdbcShortQuery1Perso
     public static final int TYPE = 101;
     public static final String PERSON_ID = "personId";
 
-    private final long personId;
+    private long personId;
 
     public LdbcShortQuery1PersonProfile( long personId )
     {
         this.personId = personId;
     }
 
+    /**
+     * Reinitializes an operation taken from an {@link OperationPool}
+     */
+    LdbcShortQuery1PersonProfile reset( long personId )
+    {
+        this.personId = personId;
+        return this;
+    }
+
     public long personId()
     {
+        checkNotRecycled();
         return personId;
     }
 
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationPool;
 import com.ldbc.driver.SerializingMarshallingException;
 
 import java.io.IOException;
@@ -19,15 +20,25 @@ public class LdbcShortQuery3PersonFriends extends Operation<List<LdbcShortQuery3
     private static final ObjectMapper objectMapper = new ObjectMapper();
     public static final String PERSON_ID = "personId";
 
-    private final long personId;
+    private long personId;
 
     public LdbcShortQuery3PersonFriends( long personId )
     {
         this.personId = personId;
     }
 
+    /**
+     * Reinitializes an operation taken from an {@link OperationPool}
+     */
+    LdbcShortQuery3PersonFriends reset( long personId )
+    {
+        this.personId = personId;
+        return this;
+    }
+
     public long personId()
     {
+        checkNotRecycled();
         return personId;
     }
 
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationPool;
 import com.ldbc.driver.SerializingMarshallingException;
 
 import java.io.IOException;
@@ -19,15 +20,25 @@ public class LdbcShortQuery5MessageCreator extends Operation<LdbcShortQuery5Mess
     private static final ObjectMapper objectMapper = new ObjectMapper();
     public static final String MESSAGE_ID = "messageId";
 
-    private final long messageId;
+    private long messageId;
 
     public LdbcShortQuery5MessageCreator( long messageId )
     {
         this.messageId = messageId;
     }
 
+    /**
+     * Reinitializes an operation taken from an {@link OperationPool}
+     */
+    LdbcShortQuery5MessageCreator reset( long messageId )
+    {
+        this.messageId = messageId;
+        return this;
+    }
+
     public long messageId()
     {
+        checkNotRecycled();
         return messageId;
     }
 
@@ -0,0 +1,1138 @@
+package com.ldbc.driver.workloads.ldbc.snb.interactive;
+
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationPool;
+import com.ldbc.driver.OperationPools;
+import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.validation.ValidationParamsCodec;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static java.lang.String.format;
+
+/**
+ * Writes the fields of each Interactive operation type, and of its result, in constructor order, so binary validation
+ * parameters files and workload schedules are written and read without building JSON.
+ * Dates are written as longs, and the untyped organization tuples of {@link LdbcQuery1Result} as tagged values.
+ */
+public class LdbcSnbInteractiveValidationParamsCodec extends ValidationParamsCodec
+{
+    private final OperationPool<LdbcQuery1> query1Pool;
+    private final OperationPool<LdbcQuery2> query2Pool;
+    private final OperationPool<LdbcQuery3> query3Pool;
+    private final OperationPool<LdbcQuery4> query4Pool;
+    private final OperationPool<LdbcQuery5> query5Pool;
+    private final OperationPool<LdbcQuery6> query6Pool;
+    private final OperationPool<LdbcQuery7> query7Pool;
+    private final OperationPool<LdbcQuery8> query8Pool;
+    private final OperationPool<LdbcQuery9> query9Pool;
+    private final OperationPool<LdbcQuery10> query10Pool;
+    private final OperationPool<LdbcQuery11> query11Pool;
+    private final OperationPool<LdbcQuery12> query12Pool;
+    private final OperationPool<LdbcQuery13> query13Pool;
+    private final OperationPool<LdbcQuery14> query14Pool;
+
+    public LdbcSnbInteractiveValidationParamsCodec()
+    {
+        this( OperationPools.disabled() );
+    }
+
+    /**
+     * @param operationPools pools long reads are taken from when read, as by the readers of their parameters files
+     */
+    public LdbcSnbInteractiveValidationParamsCodec( OperationPools operationPools )
+    {
+        this.query1Pool = operationPools.poolFor( LdbcQuery1.class );
+        this.query2Pool = operationPools.poolFor( LdbcQuery2.class );
+        this.query3Pool = operationPools.poolFor( LdbcQuery3.class );
+        this.query4Pool = operationPools.poolFor( LdbcQuery4.class );
+        this.query5Pool = operationPools.poolFor( LdbcQuery5.class );
+        this.query6Pool = operationPools.poolFor( LdbcQuery6.class );
+        this.query7Pool = operationPools.poolFor( LdbcQuery7.class );
+        this.query8Pool = operationPools.poolFor( LdbcQuery8.class );
+        this.query9Pool = operationPools.poolFor( LdbcQuery9.class );
+        this.query10Pool = operationPools.poolFor( LdbcQuery10.class );
+        this.query11Pool = operationPools.poolFor( LdbcQuery11.class );
+        this.query12Pool = operationPools.poolFor( LdbcQuery12.class );
+        this.query13Pool = operationPools.poolFor( LdbcQuery13.class );
+        this.query14Pool = operationPools.poolFor( LdbcQuery14.class );
+    }
+
+    @Override
+    public void writeOperation( Operation operation, DataOutput output )
+            throws IOException, SerializingMarshallingException
+    {
+        switch ( operation.type() )
+        {
+        case LdbcQuery1.TYPE:
+        {
+            LdbcQuery1 query = (LdbcQuery1) operation;
+            output.writeLong( query.personId() );
+            writeString( query.firstName(), output );
+            output.writeInt( query.limit() );
+            break;
+        }
+        case LdbcQuery2.TYPE:
+        {
+            LdbcQuery2 query = (LdbcQuery2) operation;
+            output.writeLong( query.personId() );
+            output.writeLong( query.maxDate().getTime() );
+            output.writeInt( query.limit() );
+            break;
+        }
+        case LdbcQuery3.TYPE:
+        {
+            LdbcQuery3 query = (LdbcQuery3) operation;
+            output.writeLong( query.personId() );
+            writeString( query.countryXName(), output );
+            writeString( query.countryYName(), output );
+            output.writeLong( query.startDate().getTime() );
+            output.writeInt( query.durationDays() );
+            output.writeInt( query.limit() );
+            break;
+        }
+        case LdbcQuery4.TYPE:
+        {
+            LdbcQuery4 query = (LdbcQuery4) operation;
+            output.writeLong( query.personId() );
+            output.writeLong( query.startDate().getTime() );
+            output.writeInt( query.durationDays() );
+            output.writeInt( query.limit() );
+            break;
+        }
+        case LdbcQuery5.TYPE:
+        {
+            LdbcQuery5 query = (LdbcQuery5) operation;
+            output.writeLong( query.personId() );
+            output.writeLong( query.minDate().getTime() );
+            output.writeInt( query.limit() );
+            break;
+        }
+        case LdbcQuery6.TYPE:
+        {
+            LdbcQuery6 query = (LdbcQuery6) operation;
+            output.writeLong( query.personId() );
+            writeString( query.tagName(), output );
+            output.writeInt( query.limit() );
+            break;
+        }
+        case LdbcQuery7.TYPE:
+        {
+            LdbcQuery7 query = (LdbcQuery7) operation;
+            output.writeLong( query.personId() );
+            output.writeInt( query.limit() );
+            break;
+        }
+        case LdbcQuery8.TYPE:
+        {
+            LdbcQuery8 query = (LdbcQuery8) operation;
+            output.writeLong( query.personId() );
+            output.writeInt( query.limit() );
+            break;
+        }
+        case LdbcQuery9.TYPE:
+        {
+            LdbcQuery9 query = (LdbcQuery9) operation;
+            output.writeLong( query.personId() );
+            output.writeLong( query.maxDate().getTime() );
+            output.writeInt( query.limit() );
+            break;
+        }
+        case LdbcQuery10.TYPE:
+        {
+            LdbcQuery10 query = (LdbcQuery10) operation;
+            output.writeLong( query.personId() );
+            output.writeInt( query.month() );
+            output.writeInt( query.limit() );
+            break;
+        }
+        case LdbcQuery11.TYPE:
+        {
+            LdbcQuery11 query = (LdbcQuery11) operation;
+            output.writeLong( query.personId() );
+            writeString( query.countryName(), output );
+            output.writeInt( query.workFromYear() );
+            output.writeInt( query.limit() );
+            break;
+        }
+        case LdbcQuery12.TYPE:
+        {
+            LdbcQuery12 query = (LdbcQuery12) operation;
+            output.writeLong( query.personId() );
+            writeString( query.tagClassName(), output );
+            output.writeInt( query.limit() );
+            break;
+        }
+        case LdbcQuery13.TYPE:
+        {
+            LdbcQuery13 query = (LdbcQuery13) operation;
+            output.writeLong( query.person1Id() );
+            output.writeLong( query.person2Id() );
+            break;
+        }
+        case LdbcQuery14.TYPE:
+        {
+            LdbcQuery14 query = (LdbcQuery14) operation;
+            output.writeLong( query.person1Id() );
+            output.writeLong( query.person2Id() );
+            break;
+        }
+        case LdbcShortQuery1PersonProfile.TYPE:
+            output.writeLong( ((LdbcShortQuery1PersonProfile) operation).personId() );
+            break;
+        case LdbcShortQuery2PersonPosts.TYPE:
+        {
+            LdbcShortQuery2PersonPosts query = (LdbcShortQuery2PersonPosts) operation;
+            output.writeLong( query.personId() );
+            output.writeInt( query.limit() );
+            break;
+        }
+        case LdbcShortQuery3PersonFriends.TYPE:
+            output.writeLong( ((LdbcShortQuery3PersonFriends) operation).personId() );
+            break;
+        case LdbcShortQuery4MessageContent.TYPE:
+            output.writeLong( ((LdbcShortQuery4MessageContent) operation).messageId() );
+            break;
+        case LdbcShortQuery5MessageCreator.TYPE:
+            output.writeLong( ((LdbcShortQuery5MessageCreator) operation).messageId() );
+            break;
+        case LdbcShortQuery6MessageForum.TYPE:
+            output.writeLong( ((LdbcShortQuery6MessageForum) operation).messageId() );
+            break;
+        case LdbcShortQuery7MessageReplies.TYPE:
+            output.writeLong( ((LdbcShortQuery7MessageReplies) operation).messageId() );
+            break;
+        case LdbcUpdate1AddPerson.TYPE:
+        {
+            LdbcUpdate1AddPerson update = (LdbcUpdate1AddPerson) operation;
+            output.writeLong( update.personId() );
+            writeString( update.personFirstName(), output );
+            writeString( update.personLastName(), output );
+            writeString( update.gender(), output );
+            output.writeLong( update.birthday().getTime() );
+            output.writeLong( update.creationDate().getTime() );
+            writeString( update.locationIp(), output );
+            writeString( update.browserUsed(), output );
+            output.writeLong( update.cityId() );
+            writeStrings( update.languages(), output );
+            writeStrings( update.emails(), output );
+            writeLongs( update.tagIds(), output );
+            writeOrganizations( update.studyAt(), output );
+            writeOrganizations( update.workAt(), output );
+            break;
+        }
+        case LdbcUpdate2AddPostLike.TYPE:
+        {
+            LdbcUpdate2AddPostLike update = (LdbcUpdate2AddPostLike) operation;
+            output.writeLong( update.personId() );
+            output.writeLong( update.postId() );
+            output.writeLong( update.creationDate().getTime() );
+            break;
+        }
+        case LdbcUpdate3AddCommentLike.TYPE:
+        {
+            LdbcUpdate3AddCommentLike update = (LdbcUpdate3AddCommentLike) operation;
+            output.writeLong( update.personId() );
+            output.writeLong( update.commentId() );
+            output.writeLong( update.creationDate().getTime() );
+            break;
+        }
+        case LdbcUpdate4AddForum.TYPE:
+        {
+            LdbcUpdate4AddForum update = (LdbcUpdate4AddForum) operation;
+            output.writeLong( update.forumId() );
+            writeString( update.forumTitle(), output );
+            output.writeLong( update.creationDate().getTime() );
+            output.writeLong( update.moderatorPersonId() );
+            writeLongs( update.tagIds(), output );
+            break;
+        }
+        case LdbcUpdate5AddForumMembership.TYPE:
+        {
+            LdbcUpdate5AddForumMembership update = (LdbcUpdate5AddForumMembership) operation;
+            output.writeLong( update.forumId() );
+            output.writeLong( update.personId() );
+            output.writeLong( update.joinDate().getTime() );
+            break;
+        }
+        case LdbcUpdate6AddPost.TYPE:
+        {
+            LdbcUpdate6AddPost update = (LdbcUpdate6AddPost) operation;
+            output.writeLong( update.postId() );
+            writeString( update.imageFile(), output );
+            output.writeLong( update.creationDate().getTime() );
+            writeString( update.locationIp(), output );
+            writeString( update.browserUsed(), output );
+            writeString( update.language(), output );
+            writeString( update.content(), output );
+            output.writeInt( update.length() );
+            output.writeLong( update.authorPersonId() );
+            output.writeLong( update.forumId() );
+            output.writeLong( update.countryId() );
+            writeLongs( update.tagIds(), output );
+            break;
+        }
+        case LdbcUpdate7AddComment.TYPE:
+        {
+            LdbcUpdate7AddComment update = (LdbcUpdate7AddComment) operation;
+            output.writeLong( update.commentId() );
+            output.writeLong( update.creationDate().getTime() );
+            writeString( update.locationIp(), output );
+            writeString( update.browserUsed(), output );
+            writeString( update.content(), output );
+            output.writeInt( update.length() );
+            output.writeLong( update.authorPersonId() );
+            output.writeLong( update.countryId() );
+            output.writeLong( update.replyToPostId() );
+            output.writeLong( update.replyToCommentId() );
+            writeLongs( update.tagIds(), output );
+            break;
+        }
+        case LdbcUpdate8AddFriendship.TYPE:
+        {
+            LdbcUpdate8AddFriendship update = (LdbcUpdate8AddFriendship) operation;
+            output.writeLong( update.person1Id() );
+            output.writeLong( update.person2Id() );
+            output.writeLong( update.creationDate().getTime() );
+            break;
+        }
+        default:
+            throw new SerializingMarshallingException(
+                    format( "Unsupported operation type: %s", operation.getClass().getName() ) );
+        }
+    }
+
+    @Override
+    public Operation readOperation( int operationType, DataInput input )
+            throws IOException, SerializingMarshallingException
+    {
+        switch ( operationType )
+        {
+        case LdbcQuery1.TYPE:
+        {
+            long personId = input.readLong();
+            String firstName = readString( input );
+            int limit = input.readInt();
+            LdbcQuery1 query = query1Pool.take();
+            return (null == query)
+                   ? query1Pool.adopt( new LdbcQuery1( personId, firstName, limit ) )
+                   : query.reset( personId, firstName, limit );
+        }
+        case LdbcQuery2.TYPE:
+        {
+            long personId = input.readLong();
+            Date maxDate = readDate( input );
+            int limit = input.readInt();
+            LdbcQuery2 query = query2Pool.take();
+            return (null == query)
+                   ? query2Pool.adopt( new LdbcQuery2( personId, maxDate, limit ) )
+                   : query.reset( personId, maxDate, limit );
+        }
+        case LdbcQuery3.TYPE:
+        {
+            long personId = input.readLong();
+            String countryXName = readString( input );
+            String countryYName = readString( input );
+            Date startDate = readDate( input );
+            int durationDays = input.readInt();
+            int limit = input.readInt();
+            LdbcQuery3 query = query3Pool.take();
+            return (null == query)
+                   ? query3Pool.adopt(
+                           new LdbcQuery3( personId, countryXName, countryYName, startDate, durationDays, limit ) )
+                   : query.reset( personId, countryXName, countryYName, startDate, durationDays, limit );
+        }
+        case LdbcQuery4.TYPE:
+        {
+            long personId = input.readLong();
+            Date startDate = readDate( input );
+            int durationDays = input.readInt();
+            int limit = input.readInt();
+            LdbcQuery4 query = query4Pool.take();
+            return (null == query)
+                   ? query4Pool.adopt( new LdbcQuery4( personId, startDate, durationDays, limit ) )
+                   : query.reset( personId, startDate, durationDays, limit );
+        }
+        case LdbcQuery5.TYPE:
+        {
+            long personId = input.readLong();
+            Date minDate = readDate( input );
+            int limit = input.readInt();
+            LdbcQuery5 query = query5Pool.take();
+            return (null == query)
+                   ? query5Pool.adopt( new LdbcQuery5( personId, minDate, limit ) )
+                   : query.reset( personId, minDate, limit );
+        }
+        case LdbcQuery6.TYPE:
+        {
+            long personId = input.readLong();
+            String tagName = readString( input );
+            int limit = input.readInt();
+            LdbcQuery6 query = query6Pool.take();
+            return (null == query)
+                   ? query6Pool.adopt( new LdbcQuery6( personId, tagName, limit ) )
+                   : query.reset( personId, tagName, limit );
+        }
+        case LdbcQuery7.TYPE:
+        {
+            long personId = input.readLong();
+            int limit = input.readInt();
+            LdbcQuery7 query = query7Pool.take();
+            return (null == query)
+                   ? query7Pool.adopt( new LdbcQuery7( personId, limit ) )
+                   : query.reset( personId, limit );
+        }
+        case LdbcQuery8.TYPE:
+        {
+            long personId = input.readLong();
+            int limit = input.readInt();
+            LdbcQuery8 query = query8Pool.take();
+            return (null == query)
+                   ? query8Pool.adopt( new LdbcQuery8( personId, limit ) )
+                   : query.reset( personId, limit );
+        }
+        case LdbcQuery9.TYPE:
+        {
+            long personId = input.readLong();
+            Date maxDate = readDate( input );
+            int limit = input.readInt();
+            LdbcQuery9 query = query9Pool.take();
+            return (null == query)
+                   ? query9Pool.adopt( new LdbcQuery9( personId, maxDate, limit ) )
+                   : query.reset( personId, maxDate, limit );
+        }
+        case LdbcQuery10.TYPE:
+        {
+            long personId = input.readLong();
+            int month = input.readInt();
+            int limit = input.readInt();
+            LdbcQuery10 query = query10Pool.take();
+            return (null == query)
+                   ? query10Pool.adopt( new LdbcQuery10( personId, month, limit ) )
+                   : query.reset( personId, month, limit );
+        }
+        case LdbcQuery11.TYPE:
+        {
+            long personId = input.readLong();
+            String countryName = readString( input );
+            int workFromYear = input.readInt();
+            int limit = input.readInt();
+            LdbcQuery11 query = query11Pool.take();
+            return (null == query)
+                   ? query11Pool.adopt( new LdbcQuery11( personId, countryName, workFromYear, limit ) )
+                   : query.reset( personId, countryName, workFromYear, limit );
+        }
+        case LdbcQuery12.TYPE:
+        {
+            long personId = input.readLong();
+            String tagClassName = readString( input );
+            int limit = input.readInt();
+            LdbcQuery12 query = query12Pool.take();
+            return (null == query)
+                   ? query12Pool.adopt( new LdbcQuery12( personId, tagClassName, limit ) )
+                   : query.reset( personId, tagClassName, limit );
+        }
+        case LdbcQuery13.TYPE:
+        {
+            long person1Id = input.readLong();
+            long person2Id = input.readLong();
+            LdbcQuery13 query = query13Pool.take();
+            return (null == query)
+                   ? query13Pool.adopt( new LdbcQuery13( person1Id, person2Id ) )
+                   : query.reset( person1Id, person2Id );
+        }
+        case LdbcQuery14.TYPE:
+        {
+            long person1Id = input.readLong();
+            long person2Id = input.readLong();
+            LdbcQuery14 query = query14Pool.take();
+            return (null == query)
+                   ? query14Pool.adopt( new LdbcQuery14( person1Id, person2Id ) )
+                   : query.reset( person1Id, person2Id );
+        }
+        case LdbcShortQuery1PersonProfile.TYPE:
+            return new LdbcShortQuery1PersonProfile( input.readLong() );
+        case LdbcShortQuery2PersonPosts.TYPE:
+            return new LdbcShortQuery2PersonPosts( input.readLong(), input.readInt() );
+        case LdbcShortQuery3PersonFriends.TYPE:
+            return new LdbcShortQuery3PersonFriends( input.readLong() );
+        case LdbcShortQuery4MessageContent.TYPE:
+            return new LdbcShortQuery4MessageContent( input.readLong() );
+        case LdbcShortQuery5MessageCreator.TYPE:
+            return new LdbcShortQuery5MessageCreator( input.readLong() );
+        case LdbcShortQuery6MessageForum.TYPE:
+            return new LdbcShortQuery6MessageForum( input.readLong() );
+        case LdbcShortQuery7MessageReplies.TYPE:
+            return new LdbcShortQuery7MessageReplies( input.readLong() );
+        case LdbcUpdate1AddPerson.TYPE:
+            return new LdbcUpdate1AddPerson(
+                    input.readLong(),
+                    readString( input ),
+                    readString( input ),
+                    readString( input ),
+                    readDate( input ),
+                    readDate( input ),
+                    readString( input ),
+                    readString( input ),
+                    input.readLong(),
+                    readStrings( input ),
+                    readStrings( input ),
+                    readLongs( input ),
+                    readOrganizations( input ),
+                    readOrganizations( input ) );
+        case LdbcUpdate2AddPostLike.TYPE:
+            return new LdbcUpdate2AddPostLike( input.readLong(), input.readLong(), readDate( input ) );
+        case LdbcUpdate3AddCommentLike.TYPE:
+            return new LdbcUpdate3AddCommentLike( input.readLong(), input.readLong(), readDate( input ) );
+        case LdbcUpdate4AddForum.TYPE:
+            return new LdbcUpdate4AddForum(
+                    input.readLong(),
+                    readString( input ),
+                    readDate( input ),
+                    input.readLong(),
+                    readLongs( input ) );
+        case LdbcUpdate5AddForumMembership.TYPE:
+            return new LdbcUpdate5AddForumMembership( input.readLong(), input.readLong(), readDate( input ) );
+        case LdbcUpdate6AddPost.TYPE:
+            return new LdbcUpdate6AddPost(
+                    input.readLong(),
+                    readString( input ),
+                    readDate( input ),
+                    readString( input ),
+                    readString( input ),
+                    readString( input ),
+                    readString( input ),
+                    input.readInt(),
+                    input.readLong(),
+                    input.readLong(),
+                    input.readLong(),
+                    readLongs( input ) );
+        case LdbcUpdate7AddComment.TYPE:
+            return new LdbcUpdate7AddComment(
+                    input.readLong(),
+                    readDate( input ),
+                    readString( input ),
+                    readString( input ),
+                    readString( input ),
+                    input.readInt(),
+                    input.readLong(),
+                    input.readLong(),
+                    input.readLong(),
+                    input.readLong(),
+                    readLongs( input ) );
+        case LdbcUpdate8AddFriendship.TYPE:
+            return new LdbcUpdate8AddFriendship( input.readLong(), input.readLong(), readDate( input ) );
+        default:
+            throw new SerializingMarshallingException( format( "Unknown operation type: %s", operationType ) );
+        }
+    }
+
+    @Override
+    public void writeResult( Operation operation, Object result, DataOutput output )
+            throws IOException, SerializingMarshallingException
+    {
+        switch ( operation.type() )
+        {
+        case LdbcQuery1.TYPE:
+        {
+            List<LdbcQuery1Result> results = (List<LdbcQuery1Result>) result;
+            output.writeInt( results.size() );
+            for ( LdbcQuery1Result row : results )
+            {
+                output.writeLong( row.friendId() );
+                writeString( row.friendLastName(), output );
+                output.writeInt( row.distanceFromPerson() );
+                output.writeLong( row.friendBirthday() );
+                output.writeLong( row.friendCreationDate() );
+                writeString( row.friendGender(), output );
+                writeString( row.friendBrowserUsed(), output );
+                writeString( row.friendLocationIp(), output );
+                writeStrings( row.friendEmails(), output );
+                writeStrings( row.friendLanguages(), output );
+                writeString( row.friendCityName(), output );
+                writeValue( row.friendUniversities(), output );
+                writeValue( row.friendCompanies(), output );
+            }
+            break;
+        }
+        case LdbcQuery2.TYPE:
+        {
+            List<LdbcQuery2Result> results = (List<LdbcQuery2Result>) result;
+            output.writeInt( results.size() );
+            for ( LdbcQuery2Result row : results )
+            {
+                output.writeLong( row.personId() );
+                writeString( row.personFirstName(), output );
+                writeString( row.personLastName(), output );
+                output.writeLong( row.postOrCommentId() );
+                writeString( row.postOrCommentContent(), output );
+                output.writeLong( row.postOrCommentCreationDate() );
+            }
+            break;
+        }
+        case LdbcQuery3.TYPE:
+        {
+            List<LdbcQuery3Result> results = (List<LdbcQuery3Result>) result;
+            output.writeInt( results.size() );
+            for ( LdbcQuery3Result row : results )
+            {
+                output.writeLong( row.personId() );
+                writeString( row.personFirstName(), output );
+                writeString( row.personLastName(), output );
+                output.writeLong( row.xCount() );
+                output.writeLong( row.yCount() );
+                output.writeLong( row.count() );
+            }
+            break;
+        }
+        case LdbcQuery4.TYPE:
+        {
+            List<LdbcQuery4Result> results = (List<LdbcQuery4Result>) result;
+            output.writeInt( results.size() );
+            for ( LdbcQuery4Result row : results )
+            {
+                writeString( row.tagName(), output );
+                output.writeInt( row.postCount() );
+            }
+            break;
+        }
+        case LdbcQuery5.TYPE:
+        {
+            List<LdbcQuery5Result> results = (List<LdbcQuery5Result>) result;
+            output.writeInt( results.size() );
+            for ( LdbcQuery5Result row : results )
+            {
+                writeString( row.forumTitle(), output );
+                output.writeInt( row.postCount() );
+            }
+            break;
+        }
+        case LdbcQuery6.TYPE:
+        {
+            List<LdbcQuery6Result> results = (List<LdbcQuery6Result>) result;
+            output.writeInt( results.size() );
+            for ( LdbcQuery6Result row : results )
+            {
+                writeString( row.tagName(), output );
+                output.writeInt( row.postCount() );
+            }
+            break;
+        }
+        case LdbcQuery7.TYPE:
+        {
+            List<LdbcQuery7Result> results = (List<LdbcQuery7Result>) result;
+            output.writeInt( results.size() );
+            for ( LdbcQuery7Result row : results )
+            {
+                output.writeLong( row.personId() );
+                writeString( row.personFirstName(), output );
+                writeString( row.personLastName(), output );
+                output.writeLong( row.likeCreationDate() );
+                output.writeLong( row.commentOrPostId() );
+                writeString( row.commentOrPostContent(), output );
+                output.writeInt( row.minutesLatency() );
+                output.writeBoolean( row.isNew() );
+            }
+            break;
+        }
+        case LdbcQuery8.TYPE:
+        {
+            List<LdbcQuery8Result> results = (List<LdbcQuery8Result>) result;
+            output.writeInt( results.size() );
+            for ( LdbcQuery8Result row : results )
+            {
+                output.writeLong( row.personId() );
+                writeString( row.personFirstName(), output );
+                writeString( row.personLastName(), output );
+                output.writeLong( row.commentCreationDate() );
+                output.writeLong( row.commentId() );
+                writeString( row.commentContent(), output );
+            }
+            break;
+        }
+        case LdbcQuery9.TYPE:
+        {
+            List<LdbcQuery9Result> results = (List<LdbcQuery9Result>) result;
+            output.writeInt( results.size() );
+            for ( LdbcQuery9Result row : results )
+            {
+                output.writeLong( row.personId() );
+                writeString( row.personFirstName(), output );
+                writeString( row.personLastName(), output );
+                output.writeLong( row.commentOrPostId() );
+                writeString( row.commentOrPostContent(), output );
+                output.writeLong( row.commentOrPostCreationDate() );
+            }
+            break;
+        }
+        case LdbcQuery10.TYPE:
+        {
+            List<LdbcQuery10Result> results = (List<LdbcQuery10Result>) result;
+            output.writeInt( results.size() );
+            for ( LdbcQuery10Result row : results )
+            {
+                output.writeLong( row.personId() );
+                writeString( row.personFirstName(), output );
+                writeString( row.personLastName(), output );
+                output.writeInt( row.commonInterestScore() );
+                writeString( row.personGender(), output );
+                writeString( row.personCityName(), output );
+            }
+            break;
+        }
+        case LdbcQuery11.TYPE:
+        {
+            List<LdbcQuery11Result> results = (List<LdbcQuery11Result>) result;
+            output.writeInt( results.size() );
+            for ( LdbcQuery11Result row : results )
+            {
+                output.writeLong( row.personId() );
+                writeString( row.personFirstName(), output );
+                writeString( row.personLastName(), output );
+                writeString( row.organizationName(), output );
+                output.writeInt( row.organizationWorkFromYear() );
+            }
+            break;
+        }
+        case LdbcQuery12.TYPE:
+        {
+            List<LdbcQuery12Result> results = (List<LdbcQuery12Result>) result;
+            output.writeInt( results.size() );
+            for ( LdbcQuery12Result row : results )
+            {
+                output.writeLong( row.personId() );
+                writeString( row.personFirstName(), output );
+                writeString( row.personLastName(), output );
+                writeStrings( row.tagNames(), output );
+                output.writeInt( row.replyCount() );
+            }
+            break;
+        }
+        case LdbcQuery13.TYPE:
+            output.writeInt( ((LdbcQuery13Result) result).shortestPathLength() );
+            break;
+        case LdbcQuery14.TYPE:
+        {
+            List<LdbcQuery14Result> results = (List<LdbcQuery14Result>) result;
+            output.writeInt( results.size() );
+            for ( LdbcQuery14Result row : results )
+            {
+                writeLongs( row.personsIdsInPath(), output );
+                output.writeDouble( row.pathWeight() );
+            }
+            break;
+        }
+        case LdbcShortQuery1PersonProfile.TYPE:
+        {
+            LdbcShortQuery1PersonProfileResult row = (LdbcShortQuery1PersonProfileResult) result;
+            writeString( row.firstName(), output );
+            writeString( row.lastName(), output );
+            output.writeLong( row.birthday() );
+            writeString( row.locationIp(), output );
+            writeString( row.browserUsed(), output );
+            output.writeLong( row.cityId() );
+            writeString( row.gender(), output );
+            output.writeLong( row.creationDate() );
+            break;
+        }
+        case LdbcShortQuery2PersonPosts.TYPE:
+        {
+            List<LdbcShortQuery2PersonPostsResult> results = (List<LdbcShortQuery2PersonPostsResult>) result;
+            output.writeInt( results.size() );
+            for ( LdbcShortQuery2PersonPostsResult row : results )
+            {
+                output.writeLong( row.messageId() );
+                writeString( row.messageContent(), output );
+                output.writeLong( row.messageCreationDate() );
+                output.writeLong( row.originalPostId() );
+                output.writeLong( row.originalPostAuthorId() );
+                writeString( row.originalPostAuthorFirstName(), output );
+                writeString( row.originalPostAuthorLastName(), output );
+            }
+            break;
+        }
+        case LdbcShortQuery3PersonFriends.TYPE:
+        {
+            List<LdbcShortQuery3PersonFriendsResult> results = (List<LdbcShortQuery3PersonFriendsResult>) result;
+            output.writeInt( results.size() );
+            for ( LdbcShortQuery3PersonFriendsResult row : results )
+            {
+                output.writeLong( row.personId() );
+                writeString( row.firstName(), output );
+                writeString( row.lastName(), output );
+                output.writeLong( row.friendshipCreationDate() );
+            }
+            break;
+        }
+        case LdbcShortQuery4MessageContent.TYPE:
+        {
+            LdbcShortQuery4MessageContentResult row = (LdbcShortQuery4MessageContentResult) result;
+            writeString( row.messageContent(), output );
+            output.writeLong( row.messageCreationDate() );
+            break;
+        }
+        case LdbcShortQuery5MessageCreator.TYPE:
+        {
+            LdbcShortQuery5MessageCreatorResult row = (LdbcShortQuery5MessageCreatorResult) result;
+            output.writeLong( row.personId() );
+            writeString( row.firstName(), output );
+            writeString( row.lastName(), output );
+            break;
+        }
+        case LdbcShortQuery6MessageForum.TYPE:
+        {
+            LdbcShortQuery6MessageForumResult row = (LdbcShortQuery6MessageForumResult) result;
+            output.writeLong( row.forumId() );
+            writeString( row.forumTitle(), output );
+            output.writeLong( row.moderatorId() );
+            writeString( row.moderatorFirstName(), output );
+            writeString( row.moderatorLastName(), output );
+            break;
+        }
+        case LdbcShortQuery7MessageReplies.TYPE:
+        {
+            List<LdbcShortQuery7MessageRepliesResult> results = (List<LdbcShortQuery7MessageRepliesResult>) result;
+            output.writeInt( results.size() );
+            for ( LdbcShortQuery7MessageRepliesResult row : results )
+            {
+                output.writeLong( row.commentId() );
+                writeString( row.commentContent(), output );
+                output.writeLong( row.commentCreationDate() );
+                output.writeLong( row.replyAuthorId() );
+                writeString( row.replyAuthorFirstName(), output );
+                writeString( row.replyAuthorLastName(), output );
+                output.writeBoolean( row.isReplyAuthorKnowsOriginalMessageAuthor() );
+            }
+            break;
+        }
+        case LdbcUpdate1AddPerson.TYPE:
+        case LdbcUpdate2AddPostLike.TYPE:
+        case LdbcUpdate3AddCommentLike.TYPE:
+        case LdbcUpdate4AddForum.TYPE:
+        case LdbcUpdate5AddForumMembership.TYPE:
+        case LdbcUpdate6AddPost.TYPE:
+        case LdbcUpdate7AddComment.TYPE:
+        case LdbcUpdate8AddFriendship.TYPE:
+            // LdbcNoResult has no fields
+            break;
+        default:
+            throw new SerializingMarshallingException(
+                    format( "Unsupported operation type: %s", operation.getClass().getName() ) );
+        }
+    }
+
+    @Override
+    public Object readResult( Operation operation, DataInput input )
+            throws IOException, SerializingMarshallingException
+    {
+        switch ( operation.type() )
+        {
+        case LdbcQuery1.TYPE:
+        {
+            int size = input.readInt();
+            List<LdbcQuery1Result> results = new ArrayList<>( size );
+            for ( int i = 0; i < size; i++ )
+            {
+                results.add( new LdbcQuery1Result(
+                        input.readLong(),
+                        readString( input ),
+                        input.readInt(),
+                        input.readLong(),
+                        input.readLong(),
+                        readString( input ),
+                        readString( input ),
+                        readString( input ),
+                        readStrings( input ),
+                        readStrings( input ),
+                        readString( input ),
+                        (Iterable<List<Object>>) readValue( input ),
+                        (Iterable<List<Object>>) readValue( input ) ) );
+            }
+            return results;
+        }
+        case LdbcQuery2.TYPE:
+        {
+            int size = input.readInt();
+            List<LdbcQuery2Result> results = new ArrayList<>( size );
+            for ( int i = 0; i < size; i++ )
+            {
+                results.add( new LdbcQuery2Result(
+                        input.readLong(),
+                        readString( input ),
+                        readString( input ),
+                        input.readLong(),
+                        readString( input ),
+                        input.readLong() ) );
+            }
+            return results;
+        }
+        case LdbcQuery3.TYPE:
+        {
+            int size = input.readInt();
+            List<LdbcQuery3Result> results = new ArrayList<>( size );
+            for ( int i = 0; i < size; i++ )
+            {
+                results.add( new LdbcQuery3Result(
+                        input.readLong(),
+                        readString( input ),
+                        readString( input ),
+                        input.readLong(),
+                        input.readLong(),
+                        input.readLong() ) );
+            }
+            return results;
+        }
+        case LdbcQuery4.TYPE:
+        {
+            int size = input.readInt();
+            List<LdbcQuery4Result> results = new ArrayList<>( size );
+            for ( int i = 0; i < size; i++ )
+            {
+                results.add( new LdbcQuery4Result( readString( input ), input.readInt() ) );
+            }
+            return results;
+        }
+        case LdbcQuery5.TYPE:
+        {
+            int size = input.readInt();
+            List<LdbcQuery5Result> results = new ArrayList<>( size );
+            for ( int i = 0; i < size; i++ )
+            {
+                results.add( new LdbcQuery5Result( readString( input ), input.readInt() ) );
+            }
+            return results;
+        }
+        case LdbcQuery6.TYPE:
+        {
+            int size = input.readInt();
+            List<LdbcQuery6Result> results = new ArrayList<>( size );
+            for ( int i = 0; i < size; i++ )
+            {
+                results.add( new LdbcQuery6Result( readString( input ), input.readInt() ) );
+            }
+            return results;
+        }
+        case LdbcQuery7.TYPE:
+        {
+            int size = input.readInt();
+            List<LdbcQuery7Result> results = new ArrayList<>( size );
+            for ( int i = 0; i < size; i++ )
+            {
+                results.add( new LdbcQuery7Result(
+                        input.readLong(),
+                        readString( input ),
+                        readString( input ),
+                        input.readLong(),
+                        input.readLong(),
+                        readString( input ),
+                        input.readInt(),
+                        input.readBoolean() ) );
+            }
+            return results;
+        }
+        case LdbcQuery8.TYPE:
+        {
+            int size = input.readInt();
+            List<LdbcQuery8Result> results = new ArrayList<>( size );
+            for ( int i = 0; i < size; i++ )
+            {
+                results.add( new LdbcQuery8Result(
+                        input.readLong(),
+                        readString( input ),
+                        readString( input ),
+                        input.readLong(),
+                        input.readLong(),
+                        readString( input ) ) );
+            }
+            return results;
+        }
+        case LdbcQuery9.TYPE:
+        {
+            int size = input.readInt();
+            List<LdbcQuery9Result> results = new ArrayList<>( size );
+            for ( int i = 0; i < size; i++ )
+            {
+                results.add( new LdbcQuery9Result(
+                        input.readLong(),
+                        readString( input ),
+                        readString( input ),
+                        input.readLong(),
+                        readString( input ),
+                        input.readLong() ) );
+            }
+            return results;
+        }
+        case LdbcQuery10.TYPE:
+        {
+            int size = input.readInt();
+            List<LdbcQuery10Result> results = new ArrayList<>( size );
+            for ( int i = 0; i < size; i++ )
+            {
+                results.add( new LdbcQuery10Result(
+                        input.readLong(),
+                        readString( input ),
+                        readString( input ),
+                        input.readInt(),
+                        readString( input ),
+                        readString( input ) ) );
+            }
+            return results;
+        }
+        case LdbcQuery11.TYPE:
+        {
+            int size = input.readInt();
+            List<LdbcQuery11Result> results = new ArrayList<>( size );
+            for ( int i = 0; i < size; i++ )
+            {
+                results.add( new LdbcQuery11Result(
+                        input.readLong(),
+                        readString( input ),
+                        readString( input ),
+                        readString( input ),
+                        input.readInt() ) );
+            }
+            return results;
+        }
+        case LdbcQuery12.TYPE:
+        {
+            int size = input.readInt();
+            List<LdbcQuery12Result> results = new ArrayList<>( size );
+            for ( int i = 0; i < size; i++ )
+            {
+                results.add( new LdbcQuery12Result(
+                        input.readLong(),
+                        readString( input ),
+                        readString( input ),
+                        readStrings( input ),
+                        input.readInt() ) );
+            }
+            return results;
+        }
+        case LdbcQuery13.TYPE:
+            return new LdbcQuery13Result( input.readInt() );
+        case LdbcQuery14.TYPE:
+        {
+            int size = input.readInt();
+            List<LdbcQuery14Result> results = new ArrayList<>( size );
+            for ( int i = 0; i < size; i++ )
+            {
+                results.add( new LdbcQuery14Result( readLongs( input ), input.readDouble() ) );
+            }
+            return results;
+        }
+        case LdbcShortQuery1PersonProfile.TYPE:
+            return new LdbcShortQuery1PersonProfileResult(
+                    readString( input ),
+                    readString( input ),
+                    input.readLong(),
+                    readString( input ),
+                    readString( input ),
+                    input.readLong(),
+                    readString( input ),
+                    input.readLong() );
+        case LdbcShortQuery2PersonPosts.TYPE:
+        {
+            int size = input.readInt();
+            List<LdbcShortQuery2PersonPostsResult> results = new ArrayList<>( size );
+            for ( int i = 0; i < size; i++ )
+            {
+                results.add( new LdbcShortQuery2PersonPostsResult(
+                        input.readLong(),
+                        readString( input ),
+                        input.readLong(),
+                        input.readLong(),
+                        input.readLong(),
+                        readString( input ),
+                        readString( input ) ) );
+            }
+            return results;
+        }
+        case LdbcShortQuery3PersonFriends.TYPE:
+        {
+            int size = input.readInt();
+            List<LdbcShortQuery3PersonFriendsResult> results = new ArrayList<>( size );
+            for ( int i = 0; i < size; i++ )
+            {
+                results.add( new LdbcShortQuery3PersonFriendsResult(
+                        input.readLong(),
+                        readString( input ),
+                        readString( input ),
+                        input.readLong() ) );
+            }
+            return results;
+        }
+        case LdbcShortQuery4MessageContent.TYPE:
+            return new LdbcShortQuery4MessageContentResult( readString( input ), input.readLong() );
+        case LdbcShortQuery5MessageCreator.TYPE:
+            return new LdbcShortQuery5MessageCreatorResult( input.readLong(), readString( input ), readString( input ) );
+        case LdbcShortQuery6MessageForum.TYPE:
+            return new LdbcShortQuery6MessageForumResult(
+                    input.readLong(),
+                    readString( input ),
+                    input.readLong(),
+                    readString( input ),
+                    readString( input ) );
+        case LdbcShortQuery7MessageReplies.TYPE:
+        {
+            int size = input.readInt();
+            List<LdbcShortQuery7MessageRepliesResult> results = new ArrayList<>( size );
+            for ( int i = 0; i < size; i++ )
+            {
+                results.add( new LdbcShortQuery7MessageRepliesResult(
+                        input.readLong(),
+                        readString( input ),
+                        input.readLong(),
+                        input.readLong(),
+                        readString( input ),
+                        readString( input ),
+                        input.readBoolean() ) );
+            }
+            return results;
+        }
+        case LdbcUpdate1AddPerson.TYPE:
+        case LdbcUpdate2AddPostLike.TYPE:
+        case LdbcUpdate3AddCommentLike.TYPE:
+        case LdbcUpdate4AddForum.TYPE:
+        case LdbcUpdate5AddForumMembership.TYPE:
+        case LdbcUpdate6AddPost.TYPE:
+        case LdbcUpdate7AddComment.TYPE:
+        case LdbcUpdate8AddFriendship.TYPE:
+            return LdbcNoResult.INSTANCE;
+        default:
+            throw new SerializingMarshallingException(
+                    format( "Unsupported operation type: %s", operation.getClass().getName() ) );
+        }
+    }
+
+    private static Date readDate( DataInput input ) throws IOException
+    {
+        return new Date( input.readLong() );
+    }
+
+    private static void writeOrganizations( List<LdbcUpdate1AddPerson.Organization> organizations, DataOutput output )
+            throws IOException
+    {
+        output.writeInt( organizations.size() );
+        for ( LdbcUpdate1AddPerson.Organization organization : organizations )
+        {
+            output.writeLong( organization.organizationId() );
+            output.writeInt( organization.year() );
+        }
+    }
+
+    private static List<LdbcUpdate1AddPerson.Organization> readOrganizations( DataInput input ) throws IOException
+    {
+        int size = input.readInt();
+        List<LdbcUpdate1AddPerson.Organization> organizations = new ArrayList<>( size );
+        for ( int i = 0; i < size; i++ )
+        {
+            organizations.add( new LdbcUpdate1AddPerson.Organization( input.readLong(), input.readInt() ) );
+        }
+        return organizations;
+    }
+}
@@ -12,32 +12,41 @@ import com.google.common.collect.PeekingIterator;
 import com.google.common.collect.Sets;
 import com.ldbc.driver.ChildOperationGenerator;
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationPools;
 import com.ldbc.driver.SerializingMarshallingException;
 import com.ldbc.driver.Workload;
 import com.ldbc.driver.WorkloadException;
 import com.ldbc.driver.WorkloadStreams;
 import com.ldbc.driver.control.ConsoleAndFileDriverConfiguration;
+import com.ldbc.driver.control.DriverConfigurationException;
+import com.ldbc.driver.control.DriverRuntimeConfiguration;
 import com.ldbc.driver.csv.charseeker.BufferedCharSeeker;
 import com.ldbc.driver.csv.charseeker.CharSeeker;
 import com.ldbc.driver.csv.charseeker.Extractors;
+import com.ldbc.driver.csv.charseeker.MappedByteBufferCharSeeker;
 import com.ldbc.driver.csv.charseeker.Mark;
 import com.ldbc.driver.csv.charseeker.Readables;
 import com.ldbc.driver.csv.charseeker.ThreadAheadReadable;
 import com.ldbc.driver.csv.simple.SimpleCsvFileReader;
+import com.ldbc.driver.generator.ColumnarParameters;
 import com.ldbc.driver.generator.CsvEventStreamReaderBasicCharSeeker;
+import com.ldbc.driver.generator.DecodeAheadPool;
 import com.ldbc.driver.generator.GeneratorFactory;
+import com.ldbc.driver.generator.PeriodicOperationScheduler;
 import com.ldbc.driver.generator.RandomDataGeneratorFactory;
 import com.ldbc.driver.util.ClassLoaderHelper;
 import com.ldbc.driver.util.ClassLoadingException;
 import com.ldbc.driver.util.Tuple;
 import com.ldbc.driver.util.Tuple2;
+import com.ldbc.driver.util.Tuple3;
+import com.ldbc.driver.validation.ValidationParamsCodec;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.Equator;
 
+import java.io.BufferedReader;
 import java.io.Closeable;
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.util.ArrayList;
@@ -48,9 +57,15 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.NoSuchElementException;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
 import static java.lang.String.format;
@@ -62,7 +77,6 @@ public class LdbcSnbInteractiveWorkload extends Workload
     private List<Closeable> personUpdateOperationsFileReaders = new ArrayList<>();
     private List<File> personUpdateOperationFiles = new ArrayList<>();
 
-    private List<Closeable> readOperationFileReaders = new ArrayList<>();
     private File readOperation1File;
     private File readOperation2File;
     private File readOperation3File;
@@ -101,6 +115,14 @@ public class LdbcSnbInteractiveWorkload extends Workload
     private Set<Class> enabledShortReadOperationTypes;
     private Set<Class> enabledWriteOperationTypes;
     private LdbcSnbInteractiveWorkloadConfiguration.UpdateStreamParser parser;
+    private int decodeAheadThreads;
+    private DecodeAheadPool decodeAheadPool = null;
+    private int initThreads;
+    // read operations are taken from, and returned to once executed
+    private OperationPools operationPools = OperationPools.disabled();
+    private File workloadStreamsIndexFile;
+    // operations still to skip in each stream, while retrieving streams that start after their first operations
+    private long[] startForStream = null;
 
     @Override
     public Map<Integer,Class<? extends Operation>> operationTypeToClassMapping()
@@ -126,6 +148,19 @@ public class LdbcSnbInteractiveWorkload extends Workload
                     missingPropertyParameters.toString() ) );
         }
 
+        String parserString = params.get( LdbcSnbInteractiveWorkloadConfiguration.UPDATE_STREAM_PARSER );
+        if ( null == parserString )
+        {
+            parserString = LdbcSnbInteractiveWorkloadConfiguration.DEFAULT_UPDATE_STREAM_PARSER.name();
+        }
+        if ( false == LdbcSnbInteractiveWorkloadConfiguration.isValidParser( parserString ) )
+        {
+            throw new WorkloadException( "Invalid parser: " + parserString );
+        }
+        this.parser = LdbcSnbInteractiveWorkloadConfiguration.UpdateStreamParser.valueOf( parserString.trim() );
+        // update stream offsets are persisted next to the workload streams index, if there is one
+        this.workloadStreamsIndexFile = DriverRuntimeConfiguration.workloadStreamsIndexFile( params );
+
         if ( params.containsKey( LdbcSnbInteractiveWorkloadConfiguration.UPDATES_DIRECTORY ) )
         {
             String updatesDirectoryPath =
@@ -142,9 +177,17 @@ public class LdbcSnbInteractiveWorkload extends Workload
                         updatesDirectory.getAbsolutePath() ) );
             }
             forumUpdateOperationFiles = LdbcSnbInteractiveWorkloadConfiguration
-                    .forumUpdateFilesInDirectory( updatesDirectory );
+                    .forumUpdateFilesInDirectory( updatesDirectory, parser );
             personUpdateOperationFiles =
-                    LdbcSnbInteractiveWorkloadConfiguration.personUpdateFilesInDirectory( updatesDirectory );
+                    LdbcSnbInteractiveWorkloadConfiguration.personUpdateFilesInDirectory( updatesDirectory, parser );
+            if ( LdbcSnbInteractiveWorkloadConfiguration.UpdateStreamParser.BINARY == parser &&
+                 forumUpdateOperationFiles.isEmpty() && personUpdateOperationFiles.isEmpty() &&
+                 false == WriteEventStreamBinaryConverter.csvUpdateStreamFiles( updatesDirectory ).isEmpty() )
+            {
+                throw new WorkloadException( format( "No binary update streams found, convert them with %s\n" +
+                                                     "Directory: %s",
+                        WriteEventStreamBinaryConverter.class.getName(), updatesDirectory.getAbsolutePath() ) );
+            }
         }
         else
         {
@@ -162,7 +205,8 @@ public class LdbcSnbInteractiveWorkload extends Workload
         for ( String readOperationParamsFilename :
                 LdbcSnbInteractiveWorkloadConfiguration.READ_OPERATION_PARAMS_FILENAMES )
         {
-            File readOperationParamsFile = new File( parametersDir, readOperationParamsFilename );
+            File readOperationParamsFile =
+                    Readables.plainOrGzipped( new File( parametersDir, readOperationParamsFilename ) );
             if ( false == readOperationParamsFile.exists() )
             {
                 throw new WorkloadException(
@@ -170,34 +214,34 @@ public class LdbcSnbInteractiveWorkload extends Workload
                                 readOperationParamsFile.getAbsolutePath() ) );
             }
         }
-        readOperation1File =
-                new File( parametersDir, LdbcSnbInteractiveWorkloadConfiguration.READ_OPERATION_1_PARAMS_FILENAME );
-        readOperation2File =
-                new File( parametersDir, LdbcSnbInteractiveWorkloadConfiguration.READ_OPERATION_2_PARAMS_FILENAME );
-        readOperation3File =
-                new File( parametersDir, LdbcSnbInteractiveWorkloadConfiguration.READ_OPERATION_3_PARAMS_FILENAME );
-        readOperation4File =
-                new File( parametersDir, LdbcSnbInteractiveWorkloadConfiguration.READ_OPERATION_4_PARAMS_FILENAME );
-        readOperation5File =
-                new File( parametersDir, LdbcSnbInteractiveWorkloadConfiguration.READ_OPERATION_5_PARAMS_FILENAME );
-        readOperation7File =
-                new File( parametersDir, LdbcSnbInteractiveWorkloadConfiguration.READ_OPERATION_7_PARAMS_FILENAME );
-        readOperation8File =
-                new File( parametersDir, LdbcSnbInteractiveWorkloadConfiguration.READ_OPERATION_8_PARAMS_FILENAME );
-        readOperation9File =
-                new File( parametersDir, LdbcSnbInteractiveWorkloadConfiguration.READ_OPERATION_9_PARAMS_FILENAME );
-        readOperation6File =
-                new File( parametersDir, LdbcSnbInteractiveWorkloadConfiguration.READ_OPERATION_6_PARAMS_FILENAME );
-        readOperation10File =
-                new File( parametersDir, LdbcSnbInteractiveWorkloadConfiguration.READ_OPERATION_10_PARAMS_FILENAME );
-        readOperation11File =
-                new File( parametersDir, LdbcSnbInteractiveWorkloadConfiguration.READ_OPERATION_11_PARAMS_FILENAME );
-        readOperation12File =
-                new File( parametersDir, LdbcSnbInteractiveWorkloadConfiguration.READ_OPERATION_12_PARAMS_FILENAME );
-        readOperation13File =
-                new File( parametersDir, LdbcSnbInteractiveWorkloadConfiguration.READ_OPERATION_13_PARAMS_FILENAME );
-        readOperation14File =
-                new File( parametersDir, LdbcSnbInteractiveWorkloadConfiguration.READ_OPERATION_14_PARAMS_FILENAME );
+        readOperation1File = Readables.plainOrGzipped(
+                new File( parametersDir, LdbcSnbInteractiveWorkloadConfiguration.READ_OPERATION_1_PARAMS_FILENAME ) );
+        readOperation2File = Readables.plainOrGzipped(
+                new File( parametersDir, LdbcSnbInteractiveWorkloadConfiguration.READ_OPERATION_2_PARAMS_FILENAME ) );
+        readOperation3File = Readables.plainOrGzipped(
+                new File( parametersDir, LdbcSnbInteractiveWorkloadConfiguration.READ_OPERATION_3_PARAMS_FILENAME ) );
+        readOperation4File = Readables.plainOrGzipped(
+                new File( parametersDir, LdbcSnbInteractiveWorkloadConfiguration.READ_OPERATION_4_PARAMS_FILENAME ) );
+        readOperation5File = Readables.plainOrGzipped(
+                new File( parametersDir, LdbcSnbInteractiveWorkloadConfiguration.READ_OPERATION_5_PARAMS_FILENAME ) );
+        readOperation7File = Readables.plainOrGzipped(
+                new File( parametersDir, LdbcSnbInteractiveWorkloadConfiguration.READ_OPERATION_7_PARAMS_FILENAME ) );
+        readOperation8File = Readables.plainOrGzipped(
+                new File( parametersDir, LdbcSnbInteractiveWorkloadConfiguration.READ_OPERATION_8_PARAMS_FILENAME ) );
+        readOperation9File = Readables.plainOrGzipped(
+                new File( parametersDir, LdbcSnbInteractiveWorkloadConfiguration.READ_OPERATION_9_PARAMS_FILENAME ) );
+        readOperation6File = Readables.plainOrGzipped(
+                new File( parametersDir, LdbcSnbInteractiveWorkloadConfiguration.READ_OPERATION_6_PARAMS_FILENAME ) );
+        readOperation10File = Readables.plainOrGzipped(
+                new File( parametersDir, LdbcSnbInteractiveWorkloadConfiguration.READ_OPERATION_10_PARAMS_FILENAME ) );
+        readOperation11File = Readables.plainOrGzipped(
+                new File( parametersDir, LdbcSnbInteractiveWorkloadConfiguration.READ_OPERATION_11_PARAMS_FILENAME ) );
+        readOperation12File = Readables.plainOrGzipped(
+                new File( parametersDir, LdbcSnbInteractiveWorkloadConfiguration.READ_OPERATION_12_PARAMS_FILENAME ) );
+        readOperation13File = Readables.plainOrGzipped(
+                new File( parametersDir, LdbcSnbInteractiveWorkloadConfiguration.READ_OPERATION_13_PARAMS_FILENAME ) );
+        readOperation14File = Readables.plainOrGzipped(
+                new File( parametersDir, LdbcSnbInteractiveWorkloadConfiguration.READ_OPERATION_14_PARAMS_FILENAME ) );
 
         enabledLongReadOperationTypes = new HashSet<>();
         for ( String longReadOperationEnableKey : LdbcSnbInteractiveWorkloadConfiguration
@@ -392,24 +436,65 @@ public class LdbcSnbInteractiveWorkload extends Workload
             throw new WorkloadException( "Unable to parse one of the read operation interleave values", e );
         }
 
-        String parserString = params.get( LdbcSnbInteractiveWorkloadConfiguration.UPDATE_STREAM_PARSER );
-        if ( null == parserString )
+        this.compressionRatio = Double.parseDouble(
+                params.get( ConsoleAndFileDriverConfiguration.TIME_COMPRESSION_RATIO_ARG ).trim()
+        );
+
+        String decodeAheadThreadsString = params.get( LdbcSnbInteractiveWorkloadConfiguration.DECODE_AHEAD_THREADS );
+        try
         {
-            parserString = LdbcSnbInteractiveWorkloadConfiguration.DEFAULT_UPDATE_STREAM_PARSER.name();
+            this.decodeAheadThreads = (null == decodeAheadThreadsString)
+                                      ? LdbcSnbInteractiveWorkloadConfiguration.DEFAULT_DECODE_AHEAD_THREADS
+                                      : Integer.parseInt( decodeAheadThreadsString.trim() );
         }
-        if ( false == LdbcSnbInteractiveWorkloadConfiguration.isValidParser( parserString ) )
+        catch ( NumberFormatException e )
         {
-            throw new WorkloadException( "Invalid parser: " + parserString );
+            throw new WorkloadException( format( "Unable to parse %s: %s",
+                    LdbcSnbInteractiveWorkloadConfiguration.DECODE_AHEAD_THREADS, decodeAheadThreadsString ), e );
+        }
+        if ( decodeAheadThreads < 0 )
+        {
+            throw new WorkloadException( format( "%s must not be negative: %s",
+                    LdbcSnbInteractiveWorkloadConfiguration.DECODE_AHEAD_THREADS, decodeAheadThreads ) );
+        }
+
+        String initThreadsString = params.get( LdbcSnbInteractiveWorkloadConfiguration.INIT_THREADS );
+        try
+        {
+            this.initThreads = (null == initThreadsString)
+                               ? LdbcSnbInteractiveWorkloadConfiguration.DEFAULT_INIT_THREADS
+                               : Integer.parseInt( initThreadsString.trim() );
+        }
+        catch ( NumberFormatException e )
+        {
+            throw new WorkloadException( format( "Unable to parse %s: %s",
+                    LdbcSnbInteractiveWorkloadConfiguration.INIT_THREADS, initThreadsString ), e );
+        }
+        if ( initThreads < 1 )
+        {
+            throw new WorkloadException( format( "%s must be at least 1: %s",
+                    LdbcSnbInteractiveWorkloadConfiguration.INIT_THREADS, initThreads ) );
+        }
+
+        try
+        {
+            this.operationPools = OperationPools.fromParams( params );
+        }
+        catch ( DriverConfigurationException e )
+        {
+            throw new WorkloadException( "Unable to configure operation recycling", e );
         }
-        this.parser = LdbcSnbInteractiveWorkloadConfiguration.UpdateStreamParser.valueOf( parserString.trim() );
-        this.compressionRatio = Double.parseDouble(
-                params.get( ConsoleAndFileDriverConfiguration.TIME_COMPRESSION_RATIO_ARG ).trim()
-        );
     }
 
     @Override
     synchronized protected void onClose() throws IOException
     {
+        // stop decoding before closing the files being decoded
+        if ( null != decodeAheadPool )
+        {
+            decodeAheadPool.close();
+        }
+
         for ( Closeable forumUpdateOperationsFileReader : forumUpdateOperationsFileReaders )
         {
             forumUpdateOperationsFileReader.close();
@@ -419,16 +504,52 @@ public class LdbcSnbInteractiveWorkload extends Workload
         {
             personUpdateOperationsFileReader.close();
         }
+    }
+
+    @Override
+    protected Iterator<Operation> decodeAhead( Iterator<Operation> stream )
+    {
+        return (null == decodeAheadPool) ? stream : decodeAheadPool.decodeAhead( stream );
+    }
 
-        for ( Closeable readOperationFileReader : readOperationFileReaders )
+    private CharSeeker parametersFileCharSeeker( File parametersFile, int bufferSize ) throws WorkloadException
+    {
+        try
+        {
+            if ( Readables.isGzipped( parametersFile ) )
+            {
+                return new BufferedCharSeeker( Readables.utf8ReadAhead( parametersFile, bufferSize ), bufferSize );
+            }
+            else if ( LdbcSnbInteractiveWorkloadConfiguration.UpdateStreamParser.CHAR_SEEKER_MAPPED == parser ||
+                 LdbcSnbInteractiveWorkloadConfiguration.UpdateStreamParser.BINARY == parser )
+            {
+                return new MappedByteBufferCharSeeker( parametersFile );
+            }
+            else
+            {
+                return new BufferedCharSeeker(
+                        Readables.wrap(
+                                new InputStreamReader( new FileInputStream( parametersFile ), Charsets.UTF_8 )
+                        ),
+                        bufferSize
+                );
+            }
+        }
+        catch ( IOException e )
         {
-            readOperationFileReader.close();
+            throw new WorkloadException(
+                    format( "Unable to open parameters file: %s", parametersFile.getAbsolutePath() ),
+                    e );
         }
     }
 
     private Tuple2<Iterator<Operation>,Closeable> fileToWriteStreamParser( File updateOperationsFile,
             LdbcSnbInteractiveWorkloadConfiguration.UpdateStreamParser parser ) throws IOException, WorkloadException
     {
+        if ( Readables.isGzipped( updateOperationsFile ) )
+        {
+            return gzippedFileToWriteStreamParser( updateOperationsFile, parser );
+        }
         switch ( parser )
         {
         case REGEX:
@@ -453,6 +574,18 @@ public class LdbcSnbInteractiveWorkload extends Workload
             return Tuple.<Iterator<Operation>,Closeable>tuple2(
                     WriteEventStreamReaderCharSeeker.create( charSeeker, extractors, '|' ), charSeeker );
         }
+        case CHAR_SEEKER_MAPPED:
+        {
+            MappedByteBufferCharSeeker charSeeker = new MappedByteBufferCharSeeker( updateOperationsFile );
+            Extractors extractors = new Extractors( ';', ',' );
+            return Tuple.<Iterator<Operation>,Closeable>tuple2(
+                    WriteEventStreamReaderCharSeeker.create( charSeeker, extractors, '|' ), charSeeker );
+        }
+        case BINARY:
+        {
+            WriteEventStreamReaderBinary binaryReader = new WriteEventStreamReaderBinary( updateOperationsFile );
+            return Tuple.<Iterator<Operation>,Closeable>tuple2( binaryReader, binaryReader );
+        }
         case CHAR_SEEKER_THREAD:
         {
             int bufferSize = 1 * 1024 * 1024;
@@ -476,1061 +609,681 @@ public class LdbcSnbInteractiveWorkload extends Workload
                 csvFileReader );
     }
 
-    @Override
-    protected WorkloadStreams getStreams( GeneratorFactory gf, boolean hasDbConnected ) throws WorkloadException
+    // gzipped files can not be mapped, so they are read by a thread ahead, which also decompresses them
+    private Tuple2<Iterator<Operation>,Closeable> gzippedFileToWriteStreamParser( File updateOperationsFile,
+            LdbcSnbInteractiveWorkloadConfiguration.UpdateStreamParser parser ) throws IOException
     {
-        long workloadStartTimeAsMilli = Long.MAX_VALUE;
-        WorkloadStreams ldbcSnbInteractiveWorkloadStreams = new WorkloadStreams();
-        List<Iterator<?>> asynchronousDependencyStreamsList = new ArrayList<>();
-        List<Iterator<?>> asynchronousNonDependencyStreamsList = new ArrayList<>();
-        Set<Class<? extends Operation>> dependentAsynchronousOperationTypes = Sets.newHashSet();
-        Set<Class<? extends Operation>> dependencyAsynchronousOperationTypes = Sets.newHashSet();
+        if ( LdbcSnbInteractiveWorkloadConfiguration.UpdateStreamParser.REGEX == parser )
+        {
+            SimpleCsvFileReader csvFileReader = new SimpleCsvFileReader(
+                    new BufferedReader(
+                            new InputStreamReader( Readables.inputStream( updateOperationsFile ), Charsets.UTF_8 )
+                    ),
+                    SimpleCsvFileReader.DEFAULT_COLUMN_SEPARATOR_REGEX_STRING
+            );
+            return Tuple.<Iterator<Operation>,Closeable>tuple2( WriteEventStreamReaderRegex.create( csvFileReader ),
+                    csvFileReader );
+        }
+        int bufferSize = 1 * 1024 * 1024;
+        BufferedCharSeeker charSeeker = new BufferedCharSeeker(
+                Readables.utf8ReadAhead( updateOperationsFile, bufferSize ),
+                bufferSize
+        );
+        Extractors extractors = new Extractors( ';', ',' );
+        return Tuple.<Iterator<Operation>,Closeable>tuple2(
+                WriteEventStreamReaderCharSeeker.create( charSeeker, extractors, '|' ), charSeeker );
+    }
 
-        /* *******
-         * *******
-         * *******
-         *  WRITES
-         * *******
-         * *******
-         * *******/
+    // operations still to skip in the stream, streamIndex may be beyond the streams when opening them speculatively
+    private long startOperationOf( int streamIndex )
+    {
+        return (null == startForStream || streamIndex >= startForStream.length) ? 0 : startForStream[streamIndex];
+    }
 
-        // TODO put person/forum update stream pairs into same streams, to half required thread count
-         /*
-         * Create person write operation streams
-         */
-        if ( enabledWriteOperationTypes.contains( LdbcUpdate1AddPerson.class ) )
+    private boolean isSeekableTo( File updateOperationsFile, long startOperation )
+    {
+        // when some update types are disabled, operations of the stream are not those of the file
+        boolean updatesUnfiltered =
+                enabledWriteOperationTypes.size() == LdbcSnbInteractiveWorkloadConfiguration.WRITE_OPERATION_ENABLE_KEYS
+                        .size();
+        return startOperation > 0 && null != workloadStreamsIndexFile && updatesUnfiltered &&
+               WriteEventStreamOffsetIndex.isSeekable( parser ) && false == Readables.isGzipped( updateOperationsFile );
+    }
+
+    // returns (operations, closeable, scheduled_start_time_of_first_operation_of_stream), operations start from
+    // startOperation when the file is seekable to it, otherwise from the first operation
+    private Tuple3<Iterator<Operation>,Closeable,Long> updateOperationsFrom( File updateOperationsFile,
+            long startOperation ) throws IOException, WorkloadException
+    {
+        if ( isSeekableTo( updateOperationsFile, startOperation ) )
+        {
+            WriteEventStreamOffsetIndex offsetIndex = new WriteEventStreamOffsetIndex(
+                    updateOperationsFile,
+                    WriteEventStreamOffsetIndex.offsetsFileFor( workloadStreamsIndexFile, updateOperationsFile ),
+                    parser
+            );
+            Tuple2<Iterator<Operation>,Closeable> parserAndCloseable = offsetIndex.operationsFrom( startOperation );
+            return Tuple.tuple3( parserAndCloseable._1(), parserAndCloseable._2(),
+                    offsetIndex.firstScheduledStartTimeAsMilli() );
+        }
+        Tuple2<Iterator<Operation>,Closeable> parserAndCloseable =
+                fileToWriteStreamParser( updateOperationsFile, parser );
+        PeekingIterator<Operation> operations = Iterators.peekingIterator( parserAndCloseable._1() );
+        return Tuple.<Iterator<Operation>,Closeable,Long>tuple3( operations, parserAndCloseable._2(),
+                (operations.hasNext()) ? operations.peek().scheduledStartTimeAsMilli() : -1l );
+    }
+
+    /**
+     * Update stream opened by a thread of the initialization pool, for the stream index it would have if all update
+     * streams before it are not empty, from startOperation of that index. It is opened again, serially, in the rare
+     * case that an update stream before it is empty, and it would not start from the same operation.
+     */
+    private Tuple3<Iterator<Operation>,Closeable,Long> openedUpdateOperations(
+            Future<Tuple3<Iterator<Operation>,Closeable,Long>> openedUpdateOperations,
+            File updateOperationsFile,
+            long openedFromOperation,
+            int streamIndex ) throws IOException, WorkloadException
+    {
+        Tuple3<Iterator<Operation>,Closeable,Long> parserAndCloseable =
+                resultOf( openedUpdateOperations, updateOperationsFile );
+        long startOperation = startOperationOf( streamIndex );
+        if ( startOperation != openedFromOperation )
+        {
+            parserAndCloseable._2().close();
+            parserAndCloseable = updateOperationsFrom( updateOperationsFile, startOperation );
+        }
+        if ( isSeekableTo( updateOperationsFile, startOperation ) )
+        {
+            // already skipped, by seeking
+            startForStream[streamIndex] = 0;
+        }
+        return parserAndCloseable;
+    }
+
+    /**
+     * Closes update streams opened by threads of the initialization pool that were not handed to the workload,
+     * because opening another update stream failed, waiting for those still being opened
+     */
+    private static void closeOpenedUpdateOperations(
+            List<Future<Tuple3<Iterator<Operation>,Closeable,Long>>> openedUpdateOperations )
+    {
+        boolean interrupted = false;
+        for ( Future<Tuple3<Iterator<Operation>,Closeable,Long>> openedUpdateOperation : openedUpdateOperations )
         {
-            for ( File personUpdateOperationFile : personUpdateOperationFiles )
+            while ( true )
             {
-                Iterator<Operation> personUpdateOperationsParser;
                 try
                 {
-                    Tuple2<Iterator<Operation>,Closeable> parserAndCloseable =
-                            fileToWriteStreamParser( personUpdateOperationFile, parser );
-                    personUpdateOperationsParser = parserAndCloseable._1();
-                    personUpdateOperationsFileReaders.add( parserAndCloseable._2() );
+                    openedUpdateOperation.get()._2().close();
+                    break;
                 }
-                catch ( IOException e )
+                catch ( InterruptedException e )
                 {
-                    throw new WorkloadException(
-                            "Unable to open person update stream: " + personUpdateOperationFile.getAbsolutePath(), e );
+                    interrupted = true;
                 }
-                if ( false == personUpdateOperationsParser.hasNext() )
+                catch ( ExecutionException | IOException e )
                 {
-                    // Update stream is empty
-                    System.out.println(
-                            format( ""
-                                    + "***********************************************\n"
-                                    + "  !! WARMING !!\n"
-                                    + "  Update stream is empty: %s\n"
-                                    + "  Check that data generation process completed successfully\n"
-                                    + "***********************************************",
-                                    personUpdateOperationFile.getAbsolutePath()
-                            )
-                    );
-                    continue;
+                    // it was not opened, or can not be closed, either way the original failure is reported
+                    break;
                 }
-                PeekingIterator<Operation> unfilteredPersonUpdateOperations =
-                        Iterators.peekingIterator( personUpdateOperationsParser );
+            }
+        }
+        if ( interrupted )
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
 
-                try
+    private Callable<Tuple3<Iterator<Operation>,Closeable,Long>> updateOperationsOpener(
+            final File updateOperationsFile, final long startOperation )
+    {
+        return new Callable<Tuple3<Iterator<Operation>,Closeable,Long>>()
+        {
+            @Override
+            public Tuple3<Iterator<Operation>,Closeable,Long> call() throws IOException, WorkloadException
+            {
+                return updateOperationsFrom( updateOperationsFile, startOperation );
+            }
+        };
+    }
+
+    // loads all parameters of a parameters file, after skipping the headers of its columns
+    private Callable<ColumnarParameters> parametersLoader( final File parametersFile,
+            final CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder, final int columnCount )
+    {
+        return new Callable<ColumnarParameters>()
+        {
+            @Override
+            public ColumnarParameters call() throws WorkloadException
+            {
+                int bufferSize = 1 * 1024 * 1024;
+                char columnDelimiter = '|';
+                char arrayDelimiter = ';';
+                char tupleDelimiter = ',';
+                Extractors extractors = new Extractors( arrayDelimiter, tupleDelimiter );
+                // parameters are all loaded into memory, so the file is closed straight after
+                try ( CharSeeker charSeeker = parametersFileCharSeeker( parametersFile, bufferSize ) )
                 {
-                    if ( unfilteredPersonUpdateOperations.peek().scheduledStartTimeAsMilli() <
-                         workloadStartTimeAsMilli )
+                    Mark mark = new Mark();
+                    // skip headers
+                    try
+                    {
+                        for ( int column = 0; column < columnCount; column++ )
+                        {
+                            charSeeker.seek( mark, new int[]{columnDelimiter} );
+                        }
+                    }
+                    catch ( IOException e )
                     {
-                        workloadStartTimeAsMilli = unfilteredPersonUpdateOperations.peek().scheduledStartTimeAsMilli();
+                        throw new WorkloadException( format( "Unable to advance parameters file beyond headers: %s",
+                                parametersFile.getAbsolutePath() ), e );
                     }
+                    return ColumnarParameters.load(
+                            new CsvEventStreamReaderBasicCharSeeker<>(
+                                    charSeeker,
+                                    extractors,
+                                    mark,
+                                    decoder,
+                                    columnDelimiter
+                            )
+                    );
                 }
-                catch ( NoSuchElementException e )
+                catch ( IOException e )
                 {
-                    // do nothing, exception just means that stream was empty
+                    throw new WorkloadException(
+                            format( "Unable to close parameters file: %s", parametersFile.getAbsolutePath() ), e );
                 }
+            }
+        };
+    }
 
-                // Filter Write Operations
-                Predicate<Operation> enabledWriteOperationsFilter = new Predicate<Operation>()
-                {
-                    @Override
-                    public boolean apply( Operation operation )
-                    {
-                        return enabledWriteOperationTypes.contains( operation.getClass() );
-                    }
-                };
-                Iterator<Operation> filteredPersonUpdateOperations =
-                        Iterators.filter( unfilteredPersonUpdateOperations, enabledWriteOperationsFilter );
-
-                Set<Class<? extends Operation>> dependentPersonUpdateOperationTypes = Sets.newHashSet();
-                Set<Class<? extends Operation>> dependencyPersonUpdateOperationTypes =
-                        Sets.<Class<? extends Operation>>newHashSet(
-                                LdbcUpdate1AddPerson.class
-                        );
+    private static <T> T resultOf( Future<T> future, File file ) throws WorkloadException
+    {
+        try
+        {
+            return future.get();
+        }
+        catch ( InterruptedException e )
+        {
+            Thread.currentThread().interrupt();
+            throw new WorkloadException( format( "Interrupted while opening: %s", file.getAbsolutePath() ), e );
+        }
+        catch ( ExecutionException e )
+        {
+            if ( e.getCause() instanceof WorkloadException )
+            {
+                throw (WorkloadException) e.getCause();
+            }
+            throw new WorkloadException( format( "Unable to open: %s", file.getAbsolutePath() ), e.getCause() );
+        }
+    }
 
-                ChildOperationGenerator personUpdateChildOperationGenerator = null;
+    /**
+     * Pool on which workload inputs are opened and loaded, its threads time out once idle, so it need not be shut
+     * down when opening streams fails part way
+     */
+    private static ExecutorService initPool( int threadCount )
+    {
+        ThreadFactory threadFactory = new ThreadFactory()
+        {
+            private int count = 0;
 
-                ldbcSnbInteractiveWorkloadStreams.addBlockingStream(
-                        dependentPersonUpdateOperationTypes,
-                        dependencyPersonUpdateOperationTypes,
-                        filteredPersonUpdateOperations,
-                        Collections.<Operation>emptyIterator(),
-                        personUpdateChildOperationGenerator
-                );
+            @Override
+            public synchronized Thread newThread( Runnable runnable )
+            {
+                Thread thread = new Thread( runnable,
+                        LdbcSnbInteractiveWorkload.class.getSimpleName() + "-init-thread(" + count++ + ")" );
+                thread.setDaemon( true );
+                return thread;
             }
+        };
+        ThreadPoolExecutor initPool = new ThreadPoolExecutor( threadCount, threadCount, 1, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<Runnable>(), threadFactory );
+        initPool.allowCoreThreadTimeOut( true );
+        return initPool;
+    }
+
+    /**
+     * Update streams are read from their offsets directly, when they can be, see {@link WriteEventStreamOffsetIndex}
+     */
+    @Override
+    protected WorkloadStreams getStreams( GeneratorFactory gf, boolean hasDbConnected, long[] startForStream )
+            throws WorkloadException
+    {
+        this.startForStream = startForStream.clone();
+        try
+        {
+            WorkloadStreams workloadStreams = getStreams( gf, hasDbConnected );
+            WorkloadStreams.skipOperations( gf, workloadStreams, this.startForStream );
+            return workloadStreams;
+        }
+        finally
+        {
+            this.startForStream = null;
+        }
+    }
+
+    @Override
+    protected WorkloadStreams getStreams( GeneratorFactory gf, boolean hasDbConnected ) throws WorkloadException
+    {
+        long workloadStartTimeAsMilli = Long.MAX_VALUE;
+        WorkloadStreams ldbcSnbInteractiveWorkloadStreams = new WorkloadStreams();
+        if ( decodeAheadThreads > 0 )
+        {
+            decodeAheadPool = new DecodeAheadPool( decodeAheadThreads );
         }
+        List<Iterator<?>> asynchronousDependencyStreamsList = new ArrayList<>();
+        Set<Class<? extends Operation>> dependentAsynchronousOperationTypes = Sets.newHashSet();
+        Set<Class<? extends Operation>> dependencyAsynchronousOperationTypes = Sets.newHashSet();
 
         /*
-         * Create forum write operation streams
+         * Open update streams, and load parameters files, on the initialization pool
+         */
+        boolean personUpdatesEnabled = enabledWriteOperationTypes.contains( LdbcUpdate1AddPerson.class );
+        boolean forumUpdatesEnabled = enabledWriteOperationTypes.contains( LdbcUpdate2AddPostLike.class ) ||
+                                      enabledWriteOperationTypes.contains( LdbcUpdate3AddCommentLike.class ) ||
+                                      enabledWriteOperationTypes.contains( LdbcUpdate4AddForum.class ) ||
+                                      enabledWriteOperationTypes.contains( LdbcUpdate5AddForumMembership.class ) ||
+                                      enabledWriteOperationTypes.contains( LdbcUpdate6AddPost.class ) ||
+                                      enabledWriteOperationTypes.contains( LdbcUpdate7AddComment.class ) ||
+                                      enabledWriteOperationTypes.contains( LdbcUpdate8AddFriendship.class );
+        ExecutorService initPool = initPool( initThreads );
+        // stream indexes are those the streams have if no update stream is empty
+        List<Future<Tuple3<Iterator<Operation>,Closeable,Long>>> openedPersonUpdateOperations = new ArrayList<>();
+        List<Long> openedPersonUpdateOperationsFrom = new ArrayList<>();
+        if ( personUpdatesEnabled )
+        {
+            for ( int i = 0; i < personUpdateOperationFiles.size(); i++ )
+            {
+                long startOperation = startOperationOf( i * 2 + 2 );
+                openedPersonUpdateOperations.add( initPool.submit(
+                        updateOperationsOpener( personUpdateOperationFiles.get( i ), startOperation ) ) );
+                openedPersonUpdateOperationsFrom.add( startOperation );
+            }
+        }
+        List<Future<Tuple3<Iterator<Operation>,Closeable,Long>>> openedForumUpdateOperations = new ArrayList<>();
+        List<Long> openedForumUpdateOperationsFrom = new ArrayList<>();
+        if ( forumUpdatesEnabled )
+        {
+            for ( int i = 0; i < forumUpdateOperationFiles.size(); i++ )
+            {
+                long startOperation = startOperationOf( (openedPersonUpdateOperations.size() + i) * 2 + 3 );
+                openedForumUpdateOperations.add( initPool.submit(
+                        updateOperationsOpener( forumUpdateOperationFiles.get( i ), startOperation ) ) );
+                openedForumUpdateOperationsFrom.add( startOperation );
+            }
+        }
+        // parameters files are loaded completely, into columnar stores
+        Future<ColumnarParameters>[] readOperationParameters = new Future[14];
+        readOperationParameters[0] = initPool.submit( parametersLoader(
+                readOperation1File, new Query1EventStreamReader.Query1Decoder(), 2 ) );
+        readOperationParameters[1] = initPool.submit( parametersLoader(
+                readOperation2File, new Query2EventStreamReader.Query2Decoder(), 2 ) );
+        readOperationParameters[2] = initPool.submit( parametersLoader(
+                readOperation3File, new Query3EventStreamReader.Query3Decoder(), 5 ) );
+        readOperationParameters[3] = initPool.submit( parametersLoader(
+                readOperation4File, new Query4EventStreamReader.Query4Decoder(), 3 ) );
+        readOperationParameters[4] = initPool.submit( parametersLoader(
+                readOperation5File, new Query5EventStreamReader.Query5Decoder(), 2 ) );
+        readOperationParameters[5] = initPool.submit( parametersLoader(
+                readOperation6File, new Query6EventStreamReader.Query6Decoder(), 2 ) );
+        readOperationParameters[6] = initPool.submit( parametersLoader(
+                readOperation7File, new Query7EventStreamReader.Query7Decoder(), 1 ) );
+        readOperationParameters[7] = initPool.submit( parametersLoader(
+                readOperation8File, new Query8EventStreamReader.Query8Decoder(), 1 ) );
+        readOperationParameters[8] = initPool.submit( parametersLoader(
+                readOperation9File, new Query9EventStreamReader.Query9Decoder(), 2 ) );
+        readOperationParameters[9] = initPool.submit( parametersLoader(
+                readOperation10File, new Query10EventStreamReader.Query10Decoder(), 2 ) );
+        readOperationParameters[10] = initPool.submit( parametersLoader(
+                readOperation11File, new Query11EventStreamReader.Query11Decoder(), 3 ) );
+        readOperationParameters[11] = initPool.submit( parametersLoader(
+                readOperation12File, new Query12EventStreamReader.Query12Decoder(), 2 ) );
+        readOperationParameters[12] = initPool.submit( parametersLoader(
+                readOperation13File, new Query13EventStreamReader.Query13Decoder(), 2 ) );
+        readOperationParameters[13] = initPool.submit( parametersLoader(
+                readOperation14File, new Query14EventStreamReader.Query14Decoder(), 2 ) );
+        initPool.shutdown();
+
+        /* *******
+         * *******
+         * *******
+         *  WRITES
+         * *******
+         * *******
+         * *******/
+
+        // TODO put person/forum update stream pairs into same streams, to half required thread count
+         /*
+         * Create person write operation streams
          */
-        if ( enabledWriteOperationTypes.contains( LdbcUpdate2AddPostLike.class ) ||
-             enabledWriteOperationTypes.contains( LdbcUpdate3AddCommentLike.class ) ||
-             enabledWriteOperationTypes.contains( LdbcUpdate4AddForum.class ) ||
-             enabledWriteOperationTypes.contains( LdbcUpdate5AddForumMembership.class ) ||
-             enabledWriteOperationTypes.contains( LdbcUpdate6AddPost.class ) ||
-             enabledWriteOperationTypes.contains( LdbcUpdate7AddComment.class ) ||
-             enabledWriteOperationTypes.contains( LdbcUpdate8AddFriendship.class )
-                )
+        if ( personUpdatesEnabled )
         {
-            for ( File forumUpdateOperationFile : forumUpdateOperationFiles )
+            for ( int i = 0; i < personUpdateOperationFiles.size(); i++ )
             {
-                Iterator<Operation> forumUpdateOperationsParser;
+                File personUpdateOperationFile = personUpdateOperationFiles.get( i );
+                Iterator<Operation> personUpdateOperationsParser;
+                long firstPersonUpdateScheduledStartTimeAsMilli;
                 try
                 {
-                    Tuple2<Iterator<Operation>,Closeable> parserAndCloseable =
-                            fileToWriteStreamParser( forumUpdateOperationFile, parser );
-                    forumUpdateOperationsParser = parserAndCloseable._1();
-                    forumUpdateOperationsFileReaders.add( parserAndCloseable._2() );
+                    Tuple3<Iterator<Operation>,Closeable,Long> parserAndCloseable = openedUpdateOperations(
+                            openedPersonUpdateOperations.get( i ),
+                            personUpdateOperationFile,
+                            openedPersonUpdateOperationsFrom.get( i ),
+                            ldbcSnbInteractiveWorkloadStreams.blockingStreamDefinitions().size() * 2 + 2 );
+                    personUpdateOperationsParser = decodeAhead( parserAndCloseable._1() );
+                    personUpdateOperationsFileReaders.add( parserAndCloseable._2() );
+                    firstPersonUpdateScheduledStartTimeAsMilli = parserAndCloseable._3();
                 }
                 catch ( IOException e )
-                {
-                    throw new WorkloadException(
-                            "Unable to open forum update stream: " + forumUpdateOperationFile.getAbsolutePath(), e );
-                }
-                if ( false == forumUpdateOperationsParser.hasNext() )
-                {
-                    // Update stream is empty
-                    System.out.println(
-                            format( ""
-                                    + "***********************************************\n"
-                                    + "  !! WARMING !!\n"
-                                    + "  Update stream is empty: %s\n"
-                                    + "  Check that data generation process completed successfully\n"
-                                    + "***********************************************",
-                                    forumUpdateOperationFile.getAbsolutePath()
-                            )
-                    );
-                    continue;
-                }
-                PeekingIterator<Operation> unfilteredForumUpdateOperations =
-                        Iterators.peekingIterator( forumUpdateOperationsParser );
-
-                try
-                {
-                    if ( unfilteredForumUpdateOperations.peek().scheduledStartTimeAsMilli() < workloadStartTimeAsMilli )
-                    {
-                        workloadStartTimeAsMilli = unfilteredForumUpdateOperations.peek().scheduledStartTimeAsMilli();
-                    }
-                }
-                catch ( NoSuchElementException e )
-                {
-                    // do nothing, exception just means that stream was empty
-                }
-
-                // Filter Write Operations
-                Predicate<Operation> enabledWriteOperationsFilter = new Predicate<Operation>()
-                {
-                    @Override
-                    public boolean apply( Operation operation )
-                    {
-                        return enabledWriteOperationTypes.contains( operation.getClass() );
-                    }
-                };
-                Iterator<Operation> filteredForumUpdateOperations =
-                        Iterators.filter( unfilteredForumUpdateOperations, enabledWriteOperationsFilter );
-
-                Set<Class<? extends Operation>> dependentForumUpdateOperationTypes =
-                        Sets.<Class<? extends Operation>>newHashSet(
-                                LdbcUpdate2AddPostLike.class,
-                                LdbcUpdate3AddCommentLike.class,
-                                LdbcUpdate4AddForum.class,
-                                LdbcUpdate5AddForumMembership.class,
-                                LdbcUpdate6AddPost.class,
-                                LdbcUpdate7AddComment.class,
-                                LdbcUpdate8AddFriendship.class
-                        );
-                Set<Class<? extends Operation>> dependencyForumUpdateOperationTypes = Sets.newHashSet();
-
-                ChildOperationGenerator forumUpdateChildOperationGenerator = null;
-
-                ldbcSnbInteractiveWorkloadStreams.addBlockingStream(
-                        dependentForumUpdateOperationTypes,
-                        dependencyForumUpdateOperationTypes,
-                        Collections.<Operation>emptyIterator(),
-                        filteredForumUpdateOperations,
-                        forumUpdateChildOperationGenerator
-                );
-            }
-        }
-
-        if ( Long.MAX_VALUE == workloadStartTimeAsMilli )
-        { workloadStartTimeAsMilli = 0; }
-
-        /* *******
-         * *******
-         * *******
-         *  LONG READS
-         * *******
-         * *******
-         * *******/
-
-        /*
-         * Create read operation streams, with specified interleaves
-         */
-        int bufferSize = 1 * 1024 * 1024;
-        char columnDelimiter = '|';
-        char arrayDelimiter = ';';
-        char tupleDelimiter = ',';
-
-        Iterator<Operation> readOperation1Stream;
-        {
-            CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder =
-                    new Query1EventStreamReader.Query1Decoder();
-            Extractors extractors = new Extractors( arrayDelimiter, tupleDelimiter );
-            CharSeeker charSeeker;
-            try
-            {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation1File ), Charsets.UTF_8 )
-                        ),
-                        bufferSize
-                );
-            }
-            catch ( FileNotFoundException e )
-            {
-                throw new WorkloadException(
-                        format( "Unable to open parameters file: %s", readOperation1File.getAbsolutePath() ),
-                        e );
-            }
-            Mark mark = new Mark();
-            // skip headers
-            try
-            {
-                charSeeker.seek( mark, new int[]{columnDelimiter} );
-                charSeeker.seek( mark, new int[]{columnDelimiter} );
-            }
-            catch ( IOException e )
-            {
-                throw new WorkloadException( format( "Unable to advance parameters file beyond headers: %s",
-                        readOperation1File.getAbsolutePath() ), e );
-            }
-
-            Iterator<Operation> operation1StreamWithoutTimes = new Query1EventStreamReader(
-                    gf.repeating(
-                            new CsvEventStreamReaderBasicCharSeeker<>(
-                                    charSeeker,
-                                    extractors,
-                                    mark,
-                                    decoder,
-                                    columnDelimiter
-                            )
-                    )
-            );
-
-            Iterator<Long> operation1StartTimes =
-                    gf.incrementing( workloadStartTimeAsMilli + readOperation1InterleaveAsMilli,
-                            readOperation1InterleaveAsMilli );
-
-            readOperation1Stream = gf.assignStartTimes(
-                    operation1StartTimes,
-                    operation1StreamWithoutTimes
-            );
-
-            readOperationFileReaders.add( charSeeker );
-        }
-
-        Iterator<Operation> readOperation2Stream;
-        {
-            CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder =
-                    new Query2EventStreamReader.Query2Decoder();
-            Extractors extractors = new Extractors( arrayDelimiter, tupleDelimiter );
-            CharSeeker charSeeker;
-            try
-            {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation2File ), Charsets.UTF_8 )
-                        ),
-                        bufferSize
-                );
-            }
-            catch ( FileNotFoundException e )
-            {
-                throw new WorkloadException(
-                        format( "Unable to open parameters file: %s", readOperation2File.getAbsolutePath() ),
-                        e );
-            }
-            Mark mark = new Mark();
-            // skip headers
-            try
-            {
-                charSeeker.seek( mark, new int[]{columnDelimiter} );
-                charSeeker.seek( mark, new int[]{columnDelimiter} );
-            }
-            catch ( IOException e )
-            {
-                throw new WorkloadException( format( "Unable to advance parameters file beyond headers: %s",
-                        readOperation2File.getAbsolutePath() ), e );
-            }
-
-            Iterator<Operation> operation2StreamWithoutTimes = new Query2EventStreamReader(
-                    gf.repeating(
-                            new CsvEventStreamReaderBasicCharSeeker<>(
-                                    charSeeker,
-                                    extractors,
-                                    mark,
-                                    decoder,
-                                    columnDelimiter
-                            )
-                    )
-            );
-
-            Iterator<Long> operation2StartTimes =
-                    gf.incrementing( workloadStartTimeAsMilli + readOperation2InterleaveAsMilli,
-                            readOperation2InterleaveAsMilli );
-
-            readOperation2Stream = gf.assignStartTimes(
-                    operation2StartTimes,
-                    operation2StreamWithoutTimes
-            );
-
-            readOperationFileReaders.add( charSeeker );
-        }
-
-        Iterator<Operation> readOperation3Stream;
-        {
-            CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder =
-                    new Query3EventStreamReader.Query3Decoder();
-            Extractors extractors = new Extractors( arrayDelimiter, tupleDelimiter );
-            CharSeeker charSeeker;
-            try
-            {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation3File ), Charsets.UTF_8 )
-                        ),
-                        bufferSize
-                );
-            }
-            catch ( FileNotFoundException e )
-            {
-                throw new WorkloadException(
-                        format( "Unable to open parameters file: %s", readOperation3File.getAbsolutePath() ),
-                        e );
-            }
-            Mark mark = new Mark();
-            // skip headers
-            try
-            {
-                charSeeker.seek( mark, new int[]{columnDelimiter} );
-                charSeeker.seek( mark, new int[]{columnDelimiter} );
-                charSeeker.seek( mark, new int[]{columnDelimiter} );
-                charSeeker.seek( mark, new int[]{columnDelimiter} );
-                charSeeker.seek( mark, new int[]{columnDelimiter} );
-            }
-            catch ( IOException e )
-            {
-                throw new WorkloadException( format( "Unable to advance parameters file beyond headers: %s",
-                        readOperation3File.getAbsolutePath() ), e );
-            }
-
-            Iterator<Operation> operation3StreamWithoutTimes = new Query3EventStreamReader(
-                    gf.repeating(
-                            new CsvEventStreamReaderBasicCharSeeker<>(
-                                    charSeeker,
-                                    extractors,
-                                    mark,
-                                    decoder,
-                                    columnDelimiter
-                            )
-                    )
-            );
-
-            Iterator<Long> operation3StartTimes =
-                    gf.incrementing( workloadStartTimeAsMilli + readOperation3InterleaveAsMilli,
-                            readOperation3InterleaveAsMilli );
-
-            readOperation3Stream = gf.assignStartTimes(
-                    operation3StartTimes,
-                    operation3StreamWithoutTimes
-            );
-
-            readOperationFileReaders.add( charSeeker );
-        }
-
-        Iterator<Operation> readOperation4Stream;
-        {
-            CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder =
-                    new Query4EventStreamReader.Query4Decoder();
-            Extractors extractors = new Extractors( arrayDelimiter, tupleDelimiter );
-            CharSeeker charSeeker;
-            try
-            {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation4File ), Charsets.UTF_8 )
-                        ),
-                        bufferSize
-                );
-            }
-            catch ( FileNotFoundException e )
-            {
-                throw new WorkloadException(
-                        format( "Unable to open parameters file: %s", readOperation4File.getAbsolutePath() ),
-                        e );
-            }
-            Mark mark = new Mark();
-            // skip headers
-            try
-            {
-                charSeeker.seek( mark, new int[]{columnDelimiter} );
-                charSeeker.seek( mark, new int[]{columnDelimiter} );
-                charSeeker.seek( mark, new int[]{columnDelimiter} );
-            }
-            catch ( IOException e )
-            {
-                throw new WorkloadException( format( "Unable to advance parameters file beyond headers: %s",
-                        readOperation4File.getAbsolutePath() ), e );
-            }
-
-            Iterator<Operation> operation4StreamWithoutTimes = new Query4EventStreamReader(
-                    gf.repeating(
-                            new CsvEventStreamReaderBasicCharSeeker<>(
-                                    charSeeker,
-                                    extractors,
-                                    mark,
-                                    decoder,
-                                    columnDelimiter
-                            )
-                    )
-            );
-
-            Iterator<Long> operation4StartTimes =
-                    gf.incrementing( workloadStartTimeAsMilli + readOperation4InterleaveAsMilli,
-                            readOperation4InterleaveAsMilli );
-
-            readOperation4Stream = gf.assignStartTimes(
-                    operation4StartTimes,
-                    operation4StreamWithoutTimes
-            );
-
-            readOperationFileReaders.add( charSeeker );
-        }
-
-        Iterator<Operation> readOperation5Stream;
-        {
-            CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder =
-                    new Query5EventStreamReader.Query5Decoder();
-            Extractors extractors = new Extractors( arrayDelimiter, tupleDelimiter );
-            CharSeeker charSeeker;
-            try
-            {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation5File ), Charsets.UTF_8 )
-                        ),
-                        bufferSize
-                );
-            }
-            catch ( FileNotFoundException e )
-            {
-                throw new WorkloadException(
-                        format( "Unable to open parameters file: %s", readOperation5File.getAbsolutePath() ),
-                        e );
-            }
-            Mark mark = new Mark();
-            // skip headers
-            try
-            {
-                charSeeker.seek( mark, new int[]{columnDelimiter} );
-                charSeeker.seek( mark, new int[]{columnDelimiter} );
-            }
-            catch ( IOException e )
-            {
-                throw new WorkloadException( format( "Unable to advance parameters file beyond headers: %s",
-                        readOperation5File.getAbsolutePath() ), e );
-            }
-
-            Iterator<Operation> operation5StreamWithoutTimes = new Query5EventStreamReader(
-                    gf.repeating(
-                            new CsvEventStreamReaderBasicCharSeeker<>(
-                                    charSeeker,
-                                    extractors,
-                                    mark,
-                                    decoder,
-                                    columnDelimiter
-                            )
-                    )
-            );
-
-            Iterator<Long> operation5StartTimes =
-                    gf.incrementing( workloadStartTimeAsMilli + readOperation5InterleaveAsMilli,
-                            readOperation5InterleaveAsMilli );
-
-            readOperation5Stream = gf.assignStartTimes(
-                    operation5StartTimes,
-                    operation5StreamWithoutTimes
-            );
-
-            readOperationFileReaders.add( charSeeker );
-        }
-
-        Iterator<Operation> readOperation6Stream;
-        {
-            CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder =
-                    new Query6EventStreamReader.Query6Decoder();
-            Extractors extractors = new Extractors( arrayDelimiter, tupleDelimiter );
-            CharSeeker charSeeker;
-            try
-            {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation6File ), Charsets.UTF_8 )
-                        ),
-                        bufferSize
-                );
-            }
-            catch ( FileNotFoundException e )
-            {
-                throw new WorkloadException(
-                        format( "Unable to open parameters file: %s", readOperation6File.getAbsolutePath() ),
-                        e );
-            }
-            Mark mark = new Mark();
-            // skip headers
-            try
-            {
-                charSeeker.seek( mark, new int[]{columnDelimiter} );
-                charSeeker.seek( mark, new int[]{columnDelimiter} );
-            }
-            catch ( IOException e )
-            {
-                throw new WorkloadException( format( "Unable to advance parameters file beyond headers: %s",
-                        readOperation6File.getAbsolutePath() ), e );
-            }
-
-            Iterator<Operation> operation6StreamWithoutTimes = new Query6EventStreamReader(
-                    gf.repeating(
-                            new CsvEventStreamReaderBasicCharSeeker<>(
-                                    charSeeker,
-                                    extractors,
-                                    mark,
-                                    decoder,
-                                    columnDelimiter
-                            )
-                    )
-            );
-
-            Iterator<Long> operation6StartTimes =
-                    gf.incrementing( workloadStartTimeAsMilli + readOperation6InterleaveAsMilli,
-                            readOperation6InterleaveAsMilli );
-
-            readOperation6Stream = gf.assignStartTimes(
-                    operation6StartTimes,
-                    operation6StreamWithoutTimes
-            );
-
-            readOperationFileReaders.add( charSeeker );
-        }
-
-        Iterator<Operation> readOperation7Stream;
-        {
-            CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder =
-                    new Query7EventStreamReader.Query7Decoder();
-            Extractors extractors = new Extractors( arrayDelimiter, tupleDelimiter );
-            CharSeeker charSeeker;
-            try
-            {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation7File ), Charsets.UTF_8 )
-                        ),
-                        bufferSize
-                );
-            }
-            catch ( FileNotFoundException e )
-            {
-                throw new WorkloadException(
-                        format( "Unable to open parameters file: %s", readOperation7File.getAbsolutePath() ),
-                        e );
-            }
-            Mark mark = new Mark();
-            // skip headers
-            try
-            {
-                charSeeker.seek( mark, new int[]{columnDelimiter} );
-            }
-            catch ( IOException e )
-            {
-                throw new WorkloadException( format( "Unable to advance parameters file beyond headers: %s",
-                        readOperation7File.getAbsolutePath() ), e );
-            }
-
-            Iterator<Operation> operation7StreamWithoutTimes = new Query7EventStreamReader(
-                    gf.repeating(
-                            new CsvEventStreamReaderBasicCharSeeker<>(
-                                    charSeeker,
-                                    extractors,
-                                    mark,
-                                    decoder,
-                                    columnDelimiter
-                            )
-                    )
-            );
-
-            Iterator<Long> operation7StartTimes =
-                    gf.incrementing( workloadStartTimeAsMilli + readOperation7InterleaveAsMilli,
-                            readOperation7InterleaveAsMilli );
-
-            readOperation7Stream = gf.assignStartTimes(
-                    operation7StartTimes,
-                    operation7StreamWithoutTimes
-            );
-
-            readOperationFileReaders.add( charSeeker );
-        }
-
-        Iterator<Operation> readOperation8Stream;
-        {
-            CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder =
-                    new Query8EventStreamReader.Query8Decoder();
-            Extractors extractors = new Extractors( arrayDelimiter, tupleDelimiter );
-            CharSeeker charSeeker;
-            try
-            {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation8File ), Charsets.UTF_8 )
-                        ),
-                        bufferSize
-                );
-            }
-            catch ( FileNotFoundException e )
-            {
-                throw new WorkloadException(
-                        format( "Unable to open parameters file: %s", readOperation8File.getAbsolutePath() ),
-                        e );
-            }
-            Mark mark = new Mark();
-            // skip headers
-            try
-            {
-                charSeeker.seek( mark, new int[]{columnDelimiter} );
-            }
-            catch ( IOException e )
-            {
-                throw new WorkloadException( format( "Unable to advance parameters file beyond headers: %s",
-                        readOperation8File.getAbsolutePath() ), e );
-            }
-
-            Iterator<Operation> operation8StreamWithoutTimes = new Query8EventStreamReader(
-                    gf.repeating(
-                            new CsvEventStreamReaderBasicCharSeeker<>(
-                                    charSeeker,
-                                    extractors,
-                                    mark,
-                                    decoder,
-                                    columnDelimiter
-                            )
-                    )
-            );
-
-            Iterator<Long> operation8StartTimes =
-                    gf.incrementing( workloadStartTimeAsMilli + readOperation8InterleaveAsMilli,
-                            readOperation8InterleaveAsMilli );
-
-            readOperation8Stream = gf.assignStartTimes(
-                    operation8StartTimes,
-                    operation8StreamWithoutTimes
-            );
-
-            readOperationFileReaders.add( charSeeker );
-        }
-
-        Iterator<Operation> readOperation9Stream;
-        {
-            CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder =
-                    new Query9EventStreamReader.Query9Decoder();
-            Extractors extractors = new Extractors( arrayDelimiter, tupleDelimiter );
-            CharSeeker charSeeker;
-            try
-            {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation9File ), Charsets.UTF_8 )
-                        ),
-                        bufferSize
-                );
-            }
-            catch ( FileNotFoundException e )
-            {
-                throw new WorkloadException(
-                        format( "Unable to open parameters file: %s", readOperation9File.getAbsolutePath() ),
-                        e );
-            }
-            Mark mark = new Mark();
-            // skip headers
-            try
-            {
-                charSeeker.seek( mark, new int[]{columnDelimiter} );
-                charSeeker.seek( mark, new int[]{columnDelimiter} );
-            }
-            catch ( IOException e )
-            {
-                throw new WorkloadException( format( "Unable to advance parameters file beyond headers: %s",
-                        readOperation9File.getAbsolutePath() ), e );
-            }
-
-            Iterator<Operation> operation9StreamWithoutTimes = new Query9EventStreamReader(
-                    gf.repeating(
-                            new CsvEventStreamReaderBasicCharSeeker<>(
-                                    charSeeker,
-                                    extractors,
-                                    mark,
-                                    decoder,
-                                    columnDelimiter
-                            )
-                    )
-            );
-
-            Iterator<Long> operation9StartTimes =
-                    gf.incrementing( workloadStartTimeAsMilli + readOperation9InterleaveAsMilli,
-                            readOperation9InterleaveAsMilli );
-
-            readOperation9Stream = gf.assignStartTimes(
-                    operation9StartTimes,
-                    operation9StreamWithoutTimes
-            );
-
-            readOperationFileReaders.add( charSeeker );
-        }
-
-        Iterator<Operation> readOperation10Stream;
-        {
-            CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder =
-                    new Query10EventStreamReader.Query10Decoder();
-            Extractors extractors = new Extractors( arrayDelimiter, tupleDelimiter );
-            CharSeeker charSeeker;
-            try
-            {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation10File ), Charsets.UTF_8 )
-                        ),
-                        bufferSize
-                );
-            }
-            catch ( FileNotFoundException e )
-            {
-                throw new WorkloadException(
-                        format( "Unable to open parameters file: %s", readOperation10File.getAbsolutePath() ),
-                        e );
-            }
-            Mark mark = new Mark();
-            // skip headers
-            try
-            {
-                charSeeker.seek( mark, new int[]{columnDelimiter} );
-                charSeeker.seek( mark, new int[]{columnDelimiter} );
-            }
-            catch ( IOException e )
-            {
-                throw new WorkloadException( format( "Unable to advance parameters file beyond headers: %s",
-                        readOperation10File.getAbsolutePath() ), e );
-            }
-
-            Iterator<Operation> operation10StreamWithoutTimes = new Query10EventStreamReader(
-                    gf.repeating(
-                            new CsvEventStreamReaderBasicCharSeeker<>(
-                                    charSeeker,
-                                    extractors,
-                                    mark,
-                                    decoder,
-                                    columnDelimiter
-                            )
-                    )
-            );
-
-            Iterator<Long> operation10StartTimes =
-                    gf.incrementing( workloadStartTimeAsMilli + readOperation10InterleaveAsMilli,
-                            readOperation10InterleaveAsMilli );
-
-            readOperation10Stream = gf.assignStartTimes(
-                    operation10StartTimes,
-                    operation10StreamWithoutTimes
-            );
-
-            readOperationFileReaders.add( charSeeker );
-        }
-
-        Iterator<Operation> readOperation11Stream;
-        {
-            CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder =
-                    new Query11EventStreamReader.Query11Decoder();
-            Extractors extractors = new Extractors( arrayDelimiter, tupleDelimiter );
-            CharSeeker charSeeker;
-            try
-            {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation11File ), Charsets.UTF_8 )
-                        ),
-                        bufferSize
-                );
-            }
-            catch ( FileNotFoundException e )
-            {
-                throw new WorkloadException(
-                        format( "Unable to open parameters file: %s", readOperation11File.getAbsolutePath() ),
-                        e );
-            }
-            Mark mark = new Mark();
-            // skip headers
-            try
-            {
-                charSeeker.seek( mark, new int[]{columnDelimiter} );
-                charSeeker.seek( mark, new int[]{columnDelimiter} );
-                charSeeker.seek( mark, new int[]{columnDelimiter} );
-            }
-            catch ( IOException e )
-            {
-                throw new WorkloadException( format( "Unable to advance parameters file beyond headers: %s",
-                        readOperation11File.getAbsolutePath() ), e );
-            }
-
-            Iterator<Operation> operation11StreamWithoutTimes = new Query11EventStreamReader(
-                    gf.repeating(
-                            new CsvEventStreamReaderBasicCharSeeker<>(
-                                    charSeeker,
-                                    extractors,
-                                    mark,
-                                    decoder,
-                                    columnDelimiter
+                {
+                    closeOpenedUpdateOperations( openedPersonUpdateOperations.subList( i + 1,
+                            openedPersonUpdateOperations.size() ) );
+                    closeOpenedUpdateOperations( openedForumUpdateOperations );
+                    throw new WorkloadException(
+                            "Unable to open person update stream: " + personUpdateOperationFile.getAbsolutePath(), e );
+                }
+                catch ( WorkloadException e )
+                {
+                    closeOpenedUpdateOperations( openedPersonUpdateOperations.subList( i + 1,
+                            openedPersonUpdateOperations.size() ) );
+                    closeOpenedUpdateOperations( openedForumUpdateOperations );
+                    throw e;
+                }
+                if ( -1 == firstPersonUpdateScheduledStartTimeAsMilli )
+                {
+                    // Update stream is empty
+                    System.out.println(
+                            format( ""
+                                    + "***********************************************\n"
+                                    + "  !! WARMING !!\n"
+                                    + "  Update stream is empty: %s\n"
+                                    + "  Check that data generation process completed successfully\n"
+                                    + "***********************************************",
+                                    personUpdateOperationFile.getAbsolutePath()
                             )
-                    )
-            );
+                    );
+                    continue;
+                }
+                PeekingIterator<Operation> unfilteredPersonUpdateOperations =
+                        Iterators.peekingIterator( personUpdateOperationsParser );
 
-            Iterator<Long> operation11StartTimes =
-                    gf.incrementing( workloadStartTimeAsMilli + readOperation11InterleaveAsMilli,
-                            readOperation11InterleaveAsMilli );
+                // of the whole stream, even when it does not start from its first operation
+                if ( firstPersonUpdateScheduledStartTimeAsMilli < workloadStartTimeAsMilli )
+                {
+                    workloadStartTimeAsMilli = firstPersonUpdateScheduledStartTimeAsMilli;
+                }
 
-            readOperation11Stream = gf.assignStartTimes(
-                    operation11StartTimes,
-                    operation11StreamWithoutTimes
-            );
+                // Filter Write Operations
+                Predicate<Operation> enabledWriteOperationsFilter = new Predicate<Operation>()
+                {
+                    @Override
+                    public boolean apply( Operation operation )
+                    {
+                        return enabledWriteOperationTypes.contains( operation.getClass() );
+                    }
+                };
+                Iterator<Operation> filteredPersonUpdateOperations =
+                        Iterators.filter( unfilteredPersonUpdateOperations, enabledWriteOperationsFilter );
 
-            readOperationFileReaders.add( charSeeker );
-        }
+                Set<Class<? extends Operation>> dependentPersonUpdateOperationTypes = Sets.newHashSet();
+                Set<Class<? extends Operation>> dependencyPersonUpdateOperationTypes =
+                        Sets.<Class<? extends Operation>>newHashSet(
+                                LdbcUpdate1AddPerson.class
+                        );
 
-        Iterator<Operation> readOperation12Stream;
-        {
-            CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder =
-                    new Query12EventStreamReader.Query12Decoder();
-            Extractors extractors = new Extractors( arrayDelimiter, tupleDelimiter );
-            CharSeeker charSeeker;
-            try
-            {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation12File ), Charsets.UTF_8 )
-                        ),
-                        bufferSize
+                ChildOperationGenerator personUpdateChildOperationGenerator = null;
+
+                ldbcSnbInteractiveWorkloadStreams.addBlockingStream(
+                        dependentPersonUpdateOperationTypes,
+                        dependencyPersonUpdateOperationTypes,
+                        filteredPersonUpdateOperations,
+                        Collections.<Operation>emptyIterator(),
+                        personUpdateChildOperationGenerator
                 );
             }
-            catch ( FileNotFoundException e )
-            {
-                throw new WorkloadException(
-                        format( "Unable to open parameters file: %s", readOperation12File.getAbsolutePath() ),
-                        e );
-            }
-            Mark mark = new Mark();
-            // skip headers
-            try
-            {
-                charSeeker.seek( mark, new int[]{columnDelimiter} );
-                charSeeker.seek( mark, new int[]{columnDelimiter} );
-            }
-            catch ( IOException e )
-            {
-                throw new WorkloadException( format( "Unable to advance parameters file beyond headers: %s",
-                        readOperation12File.getAbsolutePath() ), e );
-            }
-
-            Iterator<Operation> operation12StreamWithoutTimes = new Query12EventStreamReader(
-                    gf.repeating(
-                            new CsvEventStreamReaderBasicCharSeeker<>(
-                                    charSeeker,
-                                    extractors,
-                                    mark,
-                                    decoder,
-                                    columnDelimiter
-                            )
-                    )
-            );
-
-            Iterator<Long> operation12StartTimes =
-                    gf.incrementing( workloadStartTimeAsMilli + readOperation12InterleaveAsMilli,
-                            readOperation12InterleaveAsMilli );
-
-            readOperation12Stream = gf.assignStartTimes(
-                    operation12StartTimes,
-                    operation12StreamWithoutTimes
-            );
-
-            readOperationFileReaders.add( charSeeker );
         }
 
-        Iterator<Operation> readOperation13Stream;
+        /*
+         * Create forum write operation streams
+         */
+        if ( forumUpdatesEnabled )
         {
-            CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder =
-                    new Query13EventStreamReader.Query13Decoder();
-            Extractors extractors = new Extractors( arrayDelimiter, tupleDelimiter );
-            CharSeeker charSeeker;
-            try
-            {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation13File ), Charsets.UTF_8 )
-                        ),
-                        bufferSize
-                );
-            }
-            catch ( FileNotFoundException e )
+            for ( int i = 0; i < forumUpdateOperationFiles.size(); i++ )
             {
-                throw new WorkloadException(
-                        format( "Unable to open parameters file: %s", readOperation13File.getAbsolutePath() ),
-                        e );
-            }
-            Mark mark = new Mark();
-            // skip headers
-            try
-            {
-                charSeeker.seek( mark, new int[]{columnDelimiter} );
-                charSeeker.seek( mark, new int[]{columnDelimiter} );
-            }
-            catch ( IOException e )
-            {
-                throw new WorkloadException( format( "Unable to advance parameters file beyond headers: %s",
-                        readOperation13File.getAbsolutePath() ), e );
-            }
-
-            Iterator<Operation> operation13StreamWithoutTimes = new Query13EventStreamReader(
-                    gf.repeating(
-                            new CsvEventStreamReaderBasicCharSeeker<>(
-                                    charSeeker,
-                                    extractors,
-                                    mark,
-                                    decoder,
-                                    columnDelimiter
+                File forumUpdateOperationFile = forumUpdateOperationFiles.get( i );
+                Iterator<Operation> forumUpdateOperationsParser;
+                long firstForumUpdateScheduledStartTimeAsMilli;
+                try
+                {
+                    Tuple3<Iterator<Operation>,Closeable,Long> parserAndCloseable = openedUpdateOperations(
+                            openedForumUpdateOperations.get( i ),
+                            forumUpdateOperationFile,
+                            openedForumUpdateOperationsFrom.get( i ),
+                            ldbcSnbInteractiveWorkloadStreams.blockingStreamDefinitions().size() * 2 + 3 );
+                    forumUpdateOperationsParser = decodeAhead( parserAndCloseable._1() );
+                    forumUpdateOperationsFileReaders.add( parserAndCloseable._2() );
+                    firstForumUpdateScheduledStartTimeAsMilli = parserAndCloseable._3();
+                }
+                catch ( IOException e )
+                {
+                    closeOpenedUpdateOperations( openedForumUpdateOperations.subList( i + 1,
+                            openedForumUpdateOperations.size() ) );
+                    throw new WorkloadException(
+                            "Unable to open forum update stream: " + forumUpdateOperationFile.getAbsolutePath(), e );
+                }
+                catch ( WorkloadException e )
+                {
+                    closeOpenedUpdateOperations( openedForumUpdateOperations.subList( i + 1,
+                            openedForumUpdateOperations.size() ) );
+                    throw e;
+                }
+                if ( -1 == firstForumUpdateScheduledStartTimeAsMilli )
+                {
+                    // Update stream is empty
+                    System.out.println(
+                            format( ""
+                                    + "***********************************************\n"
+                                    + "  !! WARMING !!\n"
+                                    + "  Update stream is empty: %s\n"
+                                    + "  Check that data generation process completed successfully\n"
+                                    + "***********************************************",
+                                    forumUpdateOperationFile.getAbsolutePath()
                             )
-                    )
-            );
+                    );
+                    continue;
+                }
+                PeekingIterator<Operation> unfilteredForumUpdateOperations =
+                        Iterators.peekingIterator( forumUpdateOperationsParser );
 
-            Iterator<Long> operation13StartTimes =
-                    gf.incrementing( workloadStartTimeAsMilli + readOperation13InterleaveAsMilli,
-                            readOperation13InterleaveAsMilli );
+                // of the whole stream, even when it does not start from its first operation
+                if ( firstForumUpdateScheduledStartTimeAsMilli < workloadStartTimeAsMilli )
+                {
+                    workloadStartTimeAsMilli = firstForumUpdateScheduledStartTimeAsMilli;
+                }
 
-            readOperation13Stream = gf.assignStartTimes(
-                    operation13StartTimes,
-                    operation13StreamWithoutTimes
-            );
+                // Filter Write Operations
+                Predicate<Operation> enabledWriteOperationsFilter = new Predicate<Operation>()
+                {
+                    @Override
+                    public boolean apply( Operation operation )
+                    {
+                        return enabledWriteOperationTypes.contains( operation.getClass() );
+                    }
+                };
+                Iterator<Operation> filteredForumUpdateOperations =
+                        Iterators.filter( unfilteredForumUpdateOperations, enabledWriteOperationsFilter );
 
-            readOperationFileReaders.add( charSeeker );
-        }
+                Set<Class<? extends Operation>> dependentForumUpdateOperationTypes =
+                        Sets.<Class<? extends Operation>>newHashSet(
+                                LdbcUpdate2AddPostLike.class,
+                                LdbcUpdate3AddCommentLike.class,
+                                LdbcUpdate4AddForum.class,
+                                LdbcUpdate5AddForumMembership.class,
+                                LdbcUpdate6AddPost.class,
+                                LdbcUpdate7AddComment.class,
+                                LdbcUpdate8AddFriendship.class
+                        );
+                Set<Class<? extends Operation>> dependencyForumUpdateOperationTypes = Sets.newHashSet();
 
-        Iterator<Operation> readOperation14Stream;
-        {
-            CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder =
-                    new Query14EventStreamReader.Query14Decoder();
-            Extractors extractors = new Extractors( arrayDelimiter, tupleDelimiter );
-            CharSeeker charSeeker;
-            try
-            {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader( new FileInputStream( readOperation14File ), Charsets.UTF_8 )
-                        ),
-                        bufferSize
+                ChildOperationGenerator forumUpdateChildOperationGenerator = null;
+
+                ldbcSnbInteractiveWorkloadStreams.addBlockingStream(
+                        dependentForumUpdateOperationTypes,
+                        dependencyForumUpdateOperationTypes,
+                        Collections.<Operation>emptyIterator(),
+                        filteredForumUpdateOperations,
+                        forumUpdateChildOperationGenerator
                 );
             }
-            catch ( FileNotFoundException e )
-            {
-                throw new WorkloadException(
-                        format( "Unable to open parameters file: %s", readOperation14File.getAbsolutePath() ),
-                        e );
-            }
-            Mark mark = new Mark();
-            // skip headers
-            try
-            {
-                charSeeker.seek( mark, new int[]{columnDelimiter} );
-                charSeeker.seek( mark, new int[]{columnDelimiter} );
-            }
-            catch ( IOException e )
-            {
-                throw new WorkloadException( format( "Unable to advance parameters file beyond headers: %s",
-                        readOperation14File.getAbsolutePath() ), e );
-            }
-
-            Iterator<Operation> operation14StreamWithoutTimes = new Query14EventStreamReader(
-                    gf.repeating(
-                            new CsvEventStreamReaderBasicCharSeeker<>(
-                                    charSeeker,
-                                    extractors,
-                                    mark,
-                                    decoder,
-                                    columnDelimiter
-                            )
-                    )
-            );
+        }
 
-            Iterator<Long> operation14StartTimes =
-                    gf.incrementing( workloadStartTimeAsMilli + readOperation14InterleaveAsMilli,
-                            readOperation14InterleaveAsMilli );
+        if ( Long.MAX_VALUE == workloadStartTimeAsMilli )
+        { workloadStartTimeAsMilli = 0; }
 
-            readOperation14Stream = gf.assignStartTimes(
-                    operation14StartTimes,
-                    operation14StreamWithoutTimes
-            );
+        /* *******
+         * *******
+         * *******
+         *  LONG READS
+         * *******
+         * *******
+         * *******/
 
-            readOperationFileReaders.add( charSeeker );
-        }
+        /*
+         * Create read operation streams, from their parameters loaded on the initialization pool, start times are
+         * assigned by the long read scheduler, below
+         */
+        Iterator<Operation> readOperation1Stream = new Query1EventStreamReader.Query1ColumnarReader(
+                resultOf( readOperationParameters[0], readOperation1File ),
+                operationPools.poolFor( LdbcQuery1.class )
+        );
+        Iterator<Operation> readOperation2Stream = new Query2EventStreamReader.Query2ColumnarReader(
+                resultOf( readOperationParameters[1], readOperation2File ),
+                operationPools.poolFor( LdbcQuery2.class )
+        );
+        Iterator<Operation> readOperation3Stream = new Query3EventStreamReader.Query3ColumnarReader(
+                resultOf( readOperationParameters[2], readOperation3File ),
+                operationPools.poolFor( LdbcQuery3.class )
+        );
+        Iterator<Operation> readOperation4Stream = new Query4EventStreamReader.Query4ColumnarReader(
+                resultOf( readOperationParameters[3], readOperation4File ),
+                operationPools.poolFor( LdbcQuery4.class )
+        );
+        Iterator<Operation> readOperation5Stream = new Query5EventStreamReader.Query5ColumnarReader(
+                resultOf( readOperationParameters[4], readOperation5File ),
+                operationPools.poolFor( LdbcQuery5.class )
+        );
+        Iterator<Operation> readOperation6Stream = new Query6EventStreamReader.Query6ColumnarReader(
+                resultOf( readOperationParameters[5], readOperation6File ),
+                operationPools.poolFor( LdbcQuery6.class )
+        );
+        Iterator<Operation> readOperation7Stream = new Query7EventStreamReader.Query7ColumnarReader(
+                resultOf( readOperationParameters[6], readOperation7File ),
+                operationPools.poolFor( LdbcQuery7.class )
+        );
+        Iterator<Operation> readOperation8Stream = new Query8EventStreamReader.Query8ColumnarReader(
+                resultOf( readOperationParameters[7], readOperation8File ),
+                operationPools.poolFor( LdbcQuery8.class )
+        );
+        Iterator<Operation> readOperation9Stream = new Query9EventStreamReader.Query9ColumnarReader(
+                resultOf( readOperationParameters[8], readOperation9File ),
+                operationPools.poolFor( LdbcQuery9.class )
+        );
+        Iterator<Operation> readOperation10Stream = new Query10EventStreamReader.Query10ColumnarReader(
+                resultOf( readOperationParameters[9], readOperation10File ),
+                operationPools.poolFor( LdbcQuery10.class )
+        );
+        Iterator<Operation> readOperation11Stream = new Query11EventStreamReader.Query11ColumnarReader(
+                resultOf( readOperationParameters[10], readOperation11File ),
+                operationPools.poolFor( LdbcQuery11.class )
+        );
+        Iterator<Operation> readOperation12Stream = new Query12EventStreamReader.Query12ColumnarReader(
+                resultOf( readOperationParameters[11], readOperation12File ),
+                operationPools.poolFor( LdbcQuery12.class )
+        );
+        Iterator<Operation> readOperation13Stream = new Query13EventStreamReader.Query13ColumnarReader(
+                resultOf( readOperationParameters[12], readOperation13File ),
+                operationPools.poolFor( LdbcQuery13.class )
+        );
+        Iterator<Operation> readOperation14Stream = new Query14EventStreamReader.Query14ColumnarReader(
+                resultOf( readOperationParameters[13], readOperation14File ),
+                operationPools.poolFor( LdbcQuery14.class )
+        );
 
+        /*
+         * Schedule long reads, each type periodically, every interleave of that type
+         */
+        PeriodicOperationScheduler longReadScheduler = new PeriodicOperationScheduler();
         if ( enabledLongReadOperationTypes.contains( LdbcQuery1.class ) )
-        { asynchronousNonDependencyStreamsList.add( readOperation1Stream ); }
+        {
+            longReadScheduler.addStream( workloadStartTimeAsMilli + readOperation1InterleaveAsMilli,
+                    readOperation1InterleaveAsMilli, decodeAhead( readOperation1Stream ) );
+        }
         if ( enabledLongReadOperationTypes.contains( LdbcQuery2.class ) )
-        { asynchronousNonDependencyStreamsList.add( readOperation2Stream ); }
+        {
+            longReadScheduler.addStream( workloadStartTimeAsMilli + readOperation2InterleaveAsMilli,
+                    readOperation2InterleaveAsMilli, decodeAhead( readOperation2Stream ) );
+        }
         if ( enabledLongReadOperationTypes.contains( LdbcQuery3.class ) )
-        { asynchronousNonDependencyStreamsList.add( readOperation3Stream ); }
+        {
+            longReadScheduler.addStream( workloadStartTimeAsMilli + readOperation3InterleaveAsMilli,
+                    readOperation3InterleaveAsMilli, decodeAhead( readOperation3Stream ) );
+        }
         if ( enabledLongReadOperationTypes.contains( LdbcQuery4.class ) )
-        { asynchronousNonDependencyStreamsList.add( readOperation4Stream ); }
+        {
+            longReadScheduler.addStream( workloadStartTimeAsMilli + readOperation4InterleaveAsMilli,
+                    readOperation4InterleaveAsMilli, decodeAhead( readOperation4Stream ) );
+        }
         if ( enabledLongReadOperationTypes.contains( LdbcQuery5.class ) )
-        { asynchronousNonDependencyStreamsList.add( readOperation5Stream ); }
+        {
+            longReadScheduler.addStream( workloadStartTimeAsMilli + readOperation5InterleaveAsMilli,
+                    readOperation5InterleaveAsMilli, decodeAhead( readOperation5Stream ) );
+        }
         if ( enabledLongReadOperationTypes.contains( LdbcQuery6.class ) )
-        { asynchronousNonDependencyStreamsList.add( readOperation6Stream ); }
+        {
+            longReadScheduler.addStream( workloadStartTimeAsMilli + readOperation6InterleaveAsMilli,
+                    readOperation6InterleaveAsMilli, decodeAhead( readOperation6Stream ) );
+        }
         if ( enabledLongReadOperationTypes.contains( LdbcQuery7.class ) )
-        { asynchronousNonDependencyStreamsList.add( readOperation7Stream ); }
+        {
+            longReadScheduler.addStream( workloadStartTimeAsMilli + readOperation7InterleaveAsMilli,
+                    readOperation7InterleaveAsMilli, decodeAhead( readOperation7Stream ) );
+        }
         if ( enabledLongReadOperationTypes.contains( LdbcQuery8.class ) )
-        { asynchronousNonDependencyStreamsList.add( readOperation8Stream ); }
+        {
+            longReadScheduler.addStream( workloadStartTimeAsMilli + readOperation8InterleaveAsMilli,
+                    readOperation8InterleaveAsMilli, decodeAhead( readOperation8Stream ) );
+        }
         if ( enabledLongReadOperationTypes.contains( LdbcQuery9.class ) )
-        { asynchronousNonDependencyStreamsList.add( readOperation9Stream ); }
+        {
+            longReadScheduler.addStream( workloadStartTimeAsMilli + readOperation9InterleaveAsMilli,
+                    readOperation9InterleaveAsMilli, decodeAhead( readOperation9Stream ) );
+        }
         if ( enabledLongReadOperationTypes.contains( LdbcQuery10.class ) )
-        { asynchronousNonDependencyStreamsList.add( readOperation10Stream ); }
+        {
+            longReadScheduler.addStream( workloadStartTimeAsMilli + readOperation10InterleaveAsMilli,
+                    readOperation10InterleaveAsMilli, decodeAhead( readOperation10Stream ) );
+        }
         if ( enabledLongReadOperationTypes.contains( LdbcQuery11.class ) )
-        { asynchronousNonDependencyStreamsList.add( readOperation11Stream ); }
+        {
+            longReadScheduler.addStream( workloadStartTimeAsMilli + readOperation11InterleaveAsMilli,
+                    readOperation11InterleaveAsMilli, decodeAhead( readOperation11Stream ) );
+        }
         if ( enabledLongReadOperationTypes.contains( LdbcQuery12.class ) )
-        { asynchronousNonDependencyStreamsList.add( readOperation12Stream ); }
+        {
+            longReadScheduler.addStream( workloadStartTimeAsMilli + readOperation12InterleaveAsMilli,
+                    readOperation12InterleaveAsMilli, decodeAhead( readOperation12Stream ) );
+        }
         if ( enabledLongReadOperationTypes.contains( LdbcQuery13.class ) )
-        { asynchronousNonDependencyStreamsList.add( readOperation13Stream ); }
+        {
+            longReadScheduler.addStream( workloadStartTimeAsMilli + readOperation13InterleaveAsMilli,
+                    readOperation13InterleaveAsMilli, decodeAhead( readOperation13Stream ) );
+        }
         if ( enabledLongReadOperationTypes.contains( LdbcQuery14.class ) )
-        { asynchronousNonDependencyStreamsList.add( readOperation14Stream ); }
+        {
+            longReadScheduler.addStream( workloadStartTimeAsMilli + readOperation14InterleaveAsMilli,
+                    readOperation14InterleaveAsMilli, decodeAhead( readOperation14Stream ) );
+        }
 
         /*
          * Merge all dependency asynchronous operation streams, ordered by operation start times
@@ -1539,12 +1292,9 @@ public class LdbcSnbInteractiveWorkload extends Workload
                 asynchronousDependencyStreamsList.toArray( new Iterator[asynchronousDependencyStreamsList.size()] )
         );
         /*
-         * Merge all non dependency asynchronous operation streams, ordered by operation start times
+         * Non dependency asynchronous operations are the long reads, already ordered by operation start times
          */
-        Iterator<Operation> asynchronousNonDependencyStreams = gf.mergeSortOperationsByTimeStamp(
-                asynchronousNonDependencyStreamsList
-                        .toArray( new Iterator[asynchronousNonDependencyStreamsList.size()] )
-        );
+        Iterator<Operation> asynchronousNonDependencyStreams = longReadScheduler;
 
         /* *******
          * *******
@@ -1603,7 +1353,8 @@ public class LdbcSnbInteractiveWorkload extends Workload
                     randomFactory,
                     longReadInterleavesAsMilli,
                     scheduledStartTimePolicy,
-                    bufferReplenishFun
+                    bufferReplenishFun,
+                    operationPools
             );
         }
 
@@ -2621,6 +2372,18 @@ public class LdbcSnbInteractiveWorkload extends Workload
                         serializedOperation ) );
     }
 
+    @Override
+    public ValidationParamsCodec validationParamsCodec()
+    {
+        return new LdbcSnbInteractiveValidationParamsCodec();
+    }
+
+    @Override
+    protected ValidationParamsCodec workloadScheduleCodec()
+    {
+        return new LdbcSnbInteractiveValidationParamsCodec( operationPools );
+    }
+
     private static final Equator<LdbcQuery14Result> LDBC_QUERY_14_RESULT_EQUATOR = new Equator<LdbcQuery14Result>()
     {
         @Override
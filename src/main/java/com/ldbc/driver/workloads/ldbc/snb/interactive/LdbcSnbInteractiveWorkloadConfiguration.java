@@ -6,6 +6,7 @@ import com.ldbc.driver.WorkloadException;
 import com.ldbc.driver.control.ConsoleAndFileDriverConfiguration;
 import com.ldbc.driver.control.DriverConfigurationException;
 import com.ldbc.driver.control.DriverConfigurationFileHelper;
+import com.ldbc.driver.csv.charseeker.Readables;
 import com.ldbc.driver.util.FileUtils;
 import com.ldbc.driver.util.MapUtils;
 
@@ -42,11 +43,23 @@ public abstract class LdbcSnbInteractiveWorkloadConfiguration
     {
         REGEX,
         CHAR_SEEKER,
-        CHAR_SEEKER_THREAD
+        CHAR_SEEKER_THREAD,
+        // also used for parameters files, as with BINARY, the other parsers read those with BufferedCharSeeker
+        CHAR_SEEKER_MAPPED,
+        // reads the .bin update streams produced by WriteEventStreamBinaryConverter, rather than the .csv ones
+        BINARY
     }
 
     public final static String UPDATE_STREAM_PARSER = LDBC_SNB_INTERACTIVE_PARAM_NAME_PREFIX + "update_parser";
-    public final static UpdateStreamParser DEFAULT_UPDATE_STREAM_PARSER = UpdateStreamParser.CHAR_SEEKER;
+    public final static UpdateStreamParser DEFAULT_UPDATE_STREAM_PARSER = UpdateStreamParser.CHAR_SEEKER_MAPPED;
+    // Threads decoding update streams and parameters files ahead of the threads dispatching their operations,
+    // 0 to decode them on the dispatching threads
+    public final static String DECODE_AHEAD_THREADS = LDBC_SNB_INTERACTIVE_PARAM_NAME_PREFIX + "decode_ahead_threads";
+    public final static int DEFAULT_DECODE_AHEAD_THREADS = 0;
+    // Threads opening update streams and loading parameters files while workload streams are created, 1 to open and
+    // load them one after the other
+    public final static String INIT_THREADS = LDBC_SNB_INTERACTIVE_PARAM_NAME_PREFIX + "init_threads";
+    public final static int DEFAULT_INIT_THREADS = 4;
     public final static String LDBC_INTERACTIVE_PACKAGE_PREFIX =
             removeSuffix( LdbcQuery1.class.getName(), LdbcQuery1.class.getSimpleName() );
 
@@ -556,13 +569,39 @@ public abstract class LdbcSnbInteractiveWorkloadConfiguration
         }
     }
 
-    public static List<File> forumUpdateFilesInDirectory( File directory )
+    public static List<File> forumUpdateFilesInDirectory( File directory, UpdateStreamParser parser )
     {
-        return FileUtils.filesWithSuffixInDirectory( directory, "_forum.csv" );
+        return updateFilesInDirectory( directory, "_forum" + updateFileExtension( parser ), parser );
     }
 
-    public static List<File> personUpdateFilesInDirectory( File directory )
+    public static List<File> personUpdateFilesInDirectory( File directory, UpdateStreamParser parser )
     {
-        return FileUtils.filesWithSuffixInDirectory( directory, "_person.csv" );
+        return updateFilesInDirectory( directory, "_person" + updateFileExtension( parser ), parser );
+    }
+
+    // csv update streams may be gzipped, those that are not are read when both are present
+    private static List<File> updateFilesInDirectory( File directory, String fileNameSuffix,
+            UpdateStreamParser parser )
+    {
+        List<File> updateFiles = FileUtils.filesWithSuffixInDirectory( directory, fileNameSuffix );
+        if ( UpdateStreamParser.BINARY != parser )
+        {
+            for ( File gzippedUpdateFile : FileUtils
+                    .filesWithSuffixInDirectory( directory, fileNameSuffix + Readables.GZIP_SUFFIX ) )
+            {
+                File updateFile =
+                        new File( directory, removeSuffix( gzippedUpdateFile.getName(), Readables.GZIP_SUFFIX ) );
+                if ( false == updateFiles.contains( updateFile ) )
+                {
+                    updateFiles.add( gzippedUpdateFile );
+                }
+            }
+        }
+        return updateFiles;
+    }
+
+    private static String updateFileExtension( UpdateStreamParser parser )
+    {
+        return (UpdateStreamParser.BINARY == parser) ? ".bin" : ".csv";
     }
 }
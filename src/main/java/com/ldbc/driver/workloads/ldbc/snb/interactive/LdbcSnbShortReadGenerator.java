@@ -5,6 +5,8 @@ import com.google.common.collect.Ordering;
 import com.google.common.collect.Queues;
 import com.ldbc.driver.ChildOperationGenerator;
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationPool;
+import com.ldbc.driver.OperationPools;
 import com.ldbc.driver.WorkloadException;
 import com.ldbc.driver.generator.RandomDataGeneratorFactory;
 import com.ldbc.driver.util.Tuple;
@@ -31,6 +33,13 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
     private final Queue<Long> messageIdBuffer;
     private final long[] interleavesAsMilli;
     private final BufferReplenishFun bufferReplenishFun;
+    private final OperationPool<LdbcShortQuery1PersonProfile> shortQuery1Pool;
+    private final OperationPool<LdbcShortQuery2PersonPosts> shortQuery2Pool;
+    private final OperationPool<LdbcShortQuery3PersonFriends> shortQuery3Pool;
+    private final OperationPool<LdbcShortQuery4MessageContent> shortQuery4Pool;
+    private final OperationPool<LdbcShortQuery5MessageCreator> shortQuery5Pool;
+    private final OperationPool<LdbcShortQuery6MessageForum> shortQuery6Pool;
+    private final OperationPool<LdbcShortQuery7MessageReplies> shortQuery7Pool;
 
     public static enum SCHEDULED_START_TIME_POLICY
     {
@@ -51,6 +60,45 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
             SCHEDULED_START_TIME_POLICY scheduledStartTimePolicy,
             BufferReplenishFun bufferReplenishFun )
     {
+        this(
+                initialProbability,
+                probabilityDegradationFactor,
+                updateInterleaveAsMilli,
+                enabledShortReadOperationTypes,
+                compressionRatio,
+                personIdBuffer,
+                messageIdBuffer,
+                randomFactory,
+                longReadInterleaves,
+                scheduledStartTimePolicy,
+                bufferReplenishFun,
+                OperationPools.disabled()
+        );
+    }
+
+    /**
+     * @param operationPools pools short reads are taken from, and returned to once executed
+     */
+    public LdbcSnbShortReadGenerator( double initialProbability,
+            double probabilityDegradationFactor,
+            long updateInterleaveAsMilli,
+            Set<Class> enabledShortReadOperationTypes,
+            double compressionRatio,
+            Queue<Long> personIdBuffer,
+            Queue<Long> messageIdBuffer,
+            RandomDataGeneratorFactory randomFactory,
+            Map<Integer,Long> longReadInterleaves,
+            SCHEDULED_START_TIME_POLICY scheduledStartTimePolicy,
+            BufferReplenishFun bufferReplenishFun,
+            OperationPools operationPools )
+    {
+        this.shortQuery1Pool = operationPools.poolFor( LdbcShortQuery1PersonProfile.class );
+        this.shortQuery2Pool = operationPools.poolFor( LdbcShortQuery2PersonPosts.class );
+        this.shortQuery3Pool = operationPools.poolFor( LdbcShortQuery3PersonFriends.class );
+        this.shortQuery4Pool = operationPools.poolFor( LdbcShortQuery4MessageContent.class );
+        this.shortQuery5Pool = operationPools.poolFor( LdbcShortQuery5MessageCreator.class );
+        this.shortQuery6Pool = operationPools.poolFor( LdbcShortQuery6MessageForum.class );
+        this.shortQuery7Pool = operationPools.poolFor( LdbcShortQuery7MessageReplies.class );
         this.initialProbability = initialProbability;
         this.personIdBuffer = personIdBuffer;
         this.messageIdBuffer = messageIdBuffer;
@@ -898,7 +946,10 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
             }
             else
             {
-                Operation operation = new LdbcShortQuery1PersonProfile( id );
+                LdbcShortQuery1PersonProfile operation = shortQuery1Pool.take();
+                operation = (null == operation)
+                            ? shortQuery1Pool.adopt( new LdbcShortQuery1PersonProfile( id ) )
+                            : operation.reset( id );
                 operation.setScheduledStartTimeAsMilli(
                         scheduledStartTimeFactory.nextScheduledStartTime(
                                 previousOperation,
@@ -965,7 +1016,11 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
             }
             else
             {
-                Operation operation = new LdbcShortQuery2PersonPosts( id, LdbcShortQuery2PersonPosts.DEFAULT_LIMIT );
+                LdbcShortQuery2PersonPosts operation = shortQuery2Pool.take();
+                operation = (null == operation)
+                            ? shortQuery2Pool.adopt(
+                                    new LdbcShortQuery2PersonPosts( id, LdbcShortQuery2PersonPosts.DEFAULT_LIMIT ) )
+                            : operation.reset( id, LdbcShortQuery2PersonPosts.DEFAULT_LIMIT );
                 operation.setScheduledStartTimeAsMilli(
                         scheduledStartTimeFactory.nextScheduledStartTime(
                                 previousOperation,
@@ -1032,7 +1087,10 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
             }
             else
             {
-                Operation operation = new LdbcShortQuery3PersonFriends( id );
+                LdbcShortQuery3PersonFriends operation = shortQuery3Pool.take();
+                operation = (null == operation)
+                            ? shortQuery3Pool.adopt( new LdbcShortQuery3PersonFriends( id ) )
+                            : operation.reset( id );
                 operation.setScheduledStartTimeAsMilli(
                         scheduledStartTimeFactory.nextScheduledStartTime(
                                 previousOperation,
@@ -1099,7 +1157,10 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
             }
             else
             {
-                Operation operation = new LdbcShortQuery4MessageContent( id );
+                LdbcShortQuery4MessageContent operation = shortQuery4Pool.take();
+                operation = (null == operation)
+                            ? shortQuery4Pool.adopt( new LdbcShortQuery4MessageContent( id ) )
+                            : operation.reset( id );
                 operation.setScheduledStartTimeAsMilli(
                         scheduledStartTimeFactory.nextScheduledStartTime(
                                 previousOperation,
@@ -1166,7 +1227,10 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
             }
             else
             {
-                Operation operation = new LdbcShortQuery5MessageCreator( id );
+                LdbcShortQuery5MessageCreator operation = shortQuery5Pool.take();
+                operation = (null == operation)
+                            ? shortQuery5Pool.adopt( new LdbcShortQuery5MessageCreator( id ) )
+                            : operation.reset( id );
                 operation.setScheduledStartTimeAsMilli(
                         scheduledStartTimeFactory.nextScheduledStartTime(
                                 previousOperation,
@@ -1233,7 +1297,10 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
             }
             else
             {
-                Operation operation = new LdbcShortQuery6MessageForum( id );
+                LdbcShortQuery6MessageForum operation = shortQuery6Pool.take();
+                operation = (null == operation)
+                            ? shortQuery6Pool.adopt( new LdbcShortQuery6MessageForum( id ) )
+                            : operation.reset( id );
                 operation.setScheduledStartTimeAsMilli(
                         scheduledStartTimeFactory.nextScheduledStartTime(
                                 previousOperation,
@@ -1300,7 +1367,10 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
             }
             else
             {
-                Operation operation = new LdbcShortQuery7MessageReplies( id );
+                LdbcShortQuery7MessageReplies operation = shortQuery7Pool.take();
+                operation = (null == operation)
+                            ? shortQuery7Pool.adopt( new LdbcShortQuery7MessageReplies( id ) )
+                            : operation.reset( id );
                 operation.setScheduledStartTimeAsMilli(
                         scheduledStartTimeFactory.nextScheduledStartTime(
                                 previousOperation,
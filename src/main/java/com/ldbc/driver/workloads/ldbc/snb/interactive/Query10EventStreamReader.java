@@ -2,11 +2,14 @@ package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
 
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationPool;
 import com.ldbc.driver.csv.charseeker.CharSeeker;
 import com.ldbc.driver.csv.charseeker.Extractors;
 import com.ldbc.driver.csv.charseeker.Mark;
+import com.ldbc.driver.generator.ColumnarParameters;
 import com.ldbc.driver.generator.CsvEventStreamReaderBasicCharSeeker;
 import com.ldbc.driver.generator.GeneratorException;
+import com.ldbc.driver.generator.NoRemoveIterator;
 
 import java.io.IOException;
 import java.util.Iterator;
@@ -47,6 +50,46 @@ public class Query10EventStreamReader implements Iterator<Operation>
         throw new UnsupportedOperationException( format( "%s does not support remove()", getClass().getSimpleName() ) );
     }
 
+    /**
+     * Reads parameters, as decoded by {@link Query10Decoder}, from {@link ColumnarParameters}, repeating them
+     */
+    public static class Query10ColumnarReader extends NoRemoveIterator<Operation>
+    {
+        private final ColumnarParameters.RepeatingCursor parameters;
+        private final OperationPool<LdbcQuery10> operationPool;
+
+        public Query10ColumnarReader( ColumnarParameters parameters )
+        {
+            this( parameters, OperationPool.<LdbcQuery10>disabled() );
+        }
+
+        public Query10ColumnarReader( ColumnarParameters parameters, OperationPool<LdbcQuery10> operationPool )
+        {
+            this.parameters = parameters.repeatingCursor();
+            this.operationPool = operationPool;
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return parameters.hasNext();
+        }
+
+        @Override
+        public Operation next()
+        {
+            parameters.next();
+            long personId = parameters.longValue( 0 );
+            int month = parameters.intValue( 1 );
+            LdbcQuery10 operation = operationPool.take();
+            operation = (null == operation)
+                        ? operationPool.adopt( new LdbcQuery10( personId, month, LdbcQuery10.DEFAULT_LIMIT ) )
+                        : operation.reset( personId, month, LdbcQuery10.DEFAULT_LIMIT );
+            operation.setDependencyTimeStamp( 0 );
+            return operation;
+        }
+    }
+
     public static class Query10Decoder implements CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]>
     {
         /*
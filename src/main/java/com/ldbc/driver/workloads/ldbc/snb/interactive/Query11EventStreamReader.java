@@ -2,11 +2,14 @@ package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
 
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationPool;
 import com.ldbc.driver.csv.charseeker.CharSeeker;
 import com.ldbc.driver.csv.charseeker.Extractors;
 import com.ldbc.driver.csv.charseeker.Mark;
+import com.ldbc.driver.generator.ColumnarParameters;
 import com.ldbc.driver.generator.CsvEventStreamReaderBasicCharSeeker;
 import com.ldbc.driver.generator.GeneratorException;
+import com.ldbc.driver.generator.NoRemoveIterator;
 
 import java.io.IOException;
 import java.util.Iterator;
@@ -48,6 +51,48 @@ public class Query11EventStreamReader implements Iterator<Operation>
         throw new UnsupportedOperationException( format( "%s does not support remove()", getClass().getSimpleName() ) );
     }
 
+    /**
+     * Reads parameters, as decoded by {@link Query11Decoder}, from {@link ColumnarParameters}, repeating them
+     */
+    public static class Query11ColumnarReader extends NoRemoveIterator<Operation>
+    {
+        private final ColumnarParameters.RepeatingCursor parameters;
+        private final OperationPool<LdbcQuery11> operationPool;
+
+        public Query11ColumnarReader( ColumnarParameters parameters )
+        {
+            this( parameters, OperationPool.<LdbcQuery11>disabled() );
+        }
+
+        public Query11ColumnarReader( ColumnarParameters parameters, OperationPool<LdbcQuery11> operationPool )
+        {
+            this.parameters = parameters.repeatingCursor();
+            this.operationPool = operationPool;
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return parameters.hasNext();
+        }
+
+        @Override
+        public Operation next()
+        {
+            parameters.next();
+            long personId = parameters.longValue( 0 );
+            String countryName = parameters.stringValue( 1 );
+            int workFromYear = parameters.intValue( 2 );
+            LdbcQuery11 operation = operationPool.take();
+            operation = (null == operation)
+                        ? operationPool.adopt( new LdbcQuery11( personId, countryName, workFromYear,
+                                LdbcQuery11.DEFAULT_LIMIT ) )
+                        : operation.reset( personId, countryName, workFromYear, LdbcQuery11.DEFAULT_LIMIT );
+            operation.setDependencyTimeStamp( 0 );
+            return operation;
+        }
+    }
+
     public static class Query11Decoder implements CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]>
     {
         /*
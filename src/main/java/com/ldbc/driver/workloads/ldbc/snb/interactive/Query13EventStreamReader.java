@@ -2,11 +2,14 @@ package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
 
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationPool;
 import com.ldbc.driver.csv.charseeker.CharSeeker;
 import com.ldbc.driver.csv.charseeker.Extractors;
 import com.ldbc.driver.csv.charseeker.Mark;
+import com.ldbc.driver.generator.ColumnarParameters;
 import com.ldbc.driver.generator.CsvEventStreamReaderBasicCharSeeker;
 import com.ldbc.driver.generator.GeneratorException;
+import com.ldbc.driver.generator.NoRemoveIterator;
 
 import java.io.IOException;
 import java.util.Iterator;
@@ -46,6 +49,46 @@ public class Query13EventStreamReader implements Iterator<Operation>
         throw new UnsupportedOperationException( format( "%s does not support remove()", getClass().getSimpleName() ) );
     }
 
+    /**
+     * Reads parameters, as decoded by {@link Query13Decoder}, from {@link ColumnarParameters}, repeating them
+     */
+    public static class Query13ColumnarReader extends NoRemoveIterator<Operation>
+    {
+        private final ColumnarParameters.RepeatingCursor parameters;
+        private final OperationPool<LdbcQuery13> operationPool;
+
+        public Query13ColumnarReader( ColumnarParameters parameters )
+        {
+            this( parameters, OperationPool.<LdbcQuery13>disabled() );
+        }
+
+        public Query13ColumnarReader( ColumnarParameters parameters, OperationPool<LdbcQuery13> operationPool )
+        {
+            this.parameters = parameters.repeatingCursor();
+            this.operationPool = operationPool;
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return parameters.hasNext();
+        }
+
+        @Override
+        public Operation next()
+        {
+            parameters.next();
+            long person1Id = parameters.longValue( 0 );
+            long person2Id = parameters.longValue( 1 );
+            LdbcQuery13 operation = operationPool.take();
+            operation = (null == operation)
+                        ? operationPool.adopt( new LdbcQuery13( person1Id, person2Id ) )
+                        : operation.reset( person1Id, person2Id );
+            operation.setDependencyTimeStamp( 0 );
+            return operation;
+        }
+    }
+
     public static class Query13Decoder implements CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]>
     {
         /*
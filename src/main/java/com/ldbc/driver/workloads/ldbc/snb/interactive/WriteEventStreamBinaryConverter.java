@@ -0,0 +1,82 @@
+package com.ldbc.driver.workloads.ldbc.snb.interactive;
+
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.csv.charseeker.Extractors;
+import com.ldbc.driver.csv.charseeker.MappedByteBufferCharSeeker;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static java.lang.String.format;
+
+/**
+ * One-off conversion of the CSV update streams in a directory to the binary format of
+ * {@link WriteEventStreamWriterBinary}, written next to them, e.g., updateStream_0_0_forum.csv to
+ * updateStream_0_0_forum.bin, which the workload reads when its update parser is
+ * {@link LdbcSnbInteractiveWorkloadConfiguration.UpdateStreamParser#BINARY}.
+ */
+public class WriteEventStreamBinaryConverter
+{
+    public static void main( String[] args ) throws Exception
+    {
+        if ( args.length != 1 )
+        {
+            System.out.println( format( "Usage: %s <updates directory>",
+                    WriteEventStreamBinaryConverter.class.getName() ) );
+            System.exit( 1 );
+        }
+        File updatesDirectory = new File( args[0] );
+        if ( false == updatesDirectory.isDirectory() )
+        {
+            System.out.println( format( "Updates directory does not exist: %s", updatesDirectory.getAbsolutePath() ) );
+            System.exit( 1 );
+        }
+        for ( File csvUpdateStreamFile : csvUpdateStreamFiles( updatesDirectory ) )
+        {
+            File binaryUpdateStreamFile = binaryUpdateStreamFileFor( csvUpdateStreamFile );
+            long count = csvToBinary( csvUpdateStreamFile, binaryUpdateStreamFile );
+            System.out.println( format( "Converted %s operations from %s to %s",
+                    count, csvUpdateStreamFile.getAbsolutePath(), binaryUpdateStreamFile.getAbsolutePath() ) );
+        }
+    }
+
+    public static List<File> csvUpdateStreamFiles( File updatesDirectory )
+    {
+        List<File> csvUpdateStreamFiles = new ArrayList<>();
+        csvUpdateStreamFiles.addAll( LdbcSnbInteractiveWorkloadConfiguration.forumUpdateFilesInDirectory(
+                updatesDirectory, LdbcSnbInteractiveWorkloadConfiguration.UpdateStreamParser.CHAR_SEEKER ) );
+        csvUpdateStreamFiles.addAll( LdbcSnbInteractiveWorkloadConfiguration.personUpdateFilesInDirectory(
+                updatesDirectory, LdbcSnbInteractiveWorkloadConfiguration.UpdateStreamParser.CHAR_SEEKER ) );
+        return csvUpdateStreamFiles;
+    }
+
+    public static File binaryUpdateStreamFileFor( File csvUpdateStreamFile )
+    {
+        String name = csvUpdateStreamFile.getName();
+        String binaryName = (name.endsWith( ".csv" )) ? name.substring( 0, name.length() - 4 ) + ".bin" : name + ".bin";
+        return new File( csvUpdateStreamFile.getParentFile(), binaryName );
+    }
+
+    /**
+     * @return number of operations converted
+     */
+    public static long csvToBinary( File csvUpdateStreamFile, File binaryUpdateStreamFile ) throws IOException
+    {
+        long count = 0;
+        try ( MappedByteBufferCharSeeker charSeeker = new MappedByteBufferCharSeeker( csvUpdateStreamFile );
+              WriteEventStreamWriterBinary writer = new WriteEventStreamWriterBinary( binaryUpdateStreamFile ) )
+        {
+            Iterator<Operation> operations =
+                    WriteEventStreamReaderCharSeeker.create( charSeeker, new Extractors( ';', ',' ), '|' );
+            while ( operations.hasNext() )
+            {
+                writer.write( operations.next() );
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,274 @@
+package com.ldbc.driver.workloads.ldbc.snb.interactive;
+
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.csv.charseeker.BufferedCharSeeker;
+import com.ldbc.driver.csv.charseeker.Extractors;
+import com.ldbc.driver.csv.charseeker.MappedByteBufferCharSeeker;
+import com.ldbc.driver.util.Tuple;
+import com.ldbc.driver.util.Tuple2;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Iterator;
+
+import static java.lang.String.format;
+
+/**
+ * File positions of the operations of an update stream, every {@link #DEFAULT_INTERVAL} operations, so it can be
+ * read from any operation without parsing all those before it. Positions are found by parsing the update stream,
+ * only as far as has been asked for, and persisted in a sidecar file, along with the size and modification time of
+ * the update stream they were found in.
+ * <p>
+ * Only update streams read with
+ * {@link LdbcSnbInteractiveWorkloadConfiguration.UpdateStreamParser#CHAR_SEEKER_MAPPED} or
+ * {@link LdbcSnbInteractiveWorkloadConfiguration.UpdateStreamParser#BINARY} can be read from a position.
+ */
+public class WriteEventStreamOffsetIndex
+{
+    static final int MAGIC = 0x4C55504F;
+    static final int VERSION = 1;
+    public static final int DEFAULT_INTERVAL = 64 * 1024;
+
+    private final File updateStreamFile;
+    private final File offsetsFile;
+    private final LdbcSnbInteractiveWorkloadConfiguration.UpdateStreamParser parser;
+    private final int interval;
+    // offsets[i] is the position of operation i * interval
+    private long[] offsets = new long[16];
+    private int offsetCount = 0;
+    // all operations have been parsed
+    private boolean complete = false;
+    private long firstScheduledStartTimeAsMilli = -1;
+
+    public static boolean isSeekable( LdbcSnbInteractiveWorkloadConfiguration.UpdateStreamParser parser )
+    {
+        return LdbcSnbInteractiveWorkloadConfiguration.UpdateStreamParser.CHAR_SEEKER_MAPPED == parser ||
+               LdbcSnbInteractiveWorkloadConfiguration.UpdateStreamParser.BINARY == parser;
+    }
+
+    /**
+     * @return sidecar file of the update stream, next to the workload streams index it belongs to
+     */
+    public static File offsetsFileFor( File workloadStreamsIndexFile, File updateStreamFile )
+    {
+        return new File( workloadStreamsIndexFile.getAbsoluteFile().getParentFile(),
+                workloadStreamsIndexFile.getName() + "." + updateStreamFile.getName() + ".offsets" );
+    }
+
+    public WriteEventStreamOffsetIndex(
+            File updateStreamFile,
+            File offsetsFile,
+            LdbcSnbInteractiveWorkloadConfiguration.UpdateStreamParser parser ) throws IOException
+    {
+        this( updateStreamFile, offsetsFile, parser, DEFAULT_INTERVAL );
+    }
+
+    public WriteEventStreamOffsetIndex(
+            File updateStreamFile,
+            File offsetsFile,
+            LdbcSnbInteractiveWorkloadConfiguration.UpdateStreamParser parser,
+            int interval ) throws IOException
+    {
+        if ( false == isSeekable( parser ) )
+        {
+            throw new IOException( format( "Update streams can not be read from a position with parser %s", parser ) );
+        }
+        this.updateStreamFile = updateStreamFile;
+        this.offsetsFile = offsetsFile;
+        this.parser = parser;
+        this.interval = interval;
+        if ( false == read() )
+        {
+            addOffset( (LdbcSnbInteractiveWorkloadConfiguration.UpdateStreamParser.BINARY == parser)
+                       ? WriteEventStreamReaderBinary.HEADER_SIZE_IN_BYTES
+                       : 0 );
+            try ( PositionalParser positionalParser = new PositionalParser( offsets[0] ) )
+            {
+                if ( positionalParser.operations.hasNext() )
+                {
+                    firstScheduledStartTimeAsMilli = positionalParser.operations.next().scheduledStartTimeAsMilli();
+                }
+                else
+                {
+                    complete = true;
+                }
+            }
+            write();
+        }
+    }
+
+    /**
+     * @return scheduled start time of the first operation, -1 if the update stream is empty
+     */
+    public long firstScheduledStartTimeAsMilli()
+    {
+        return firstScheduledStartTimeAsMilli;
+    }
+
+    /**
+     * @return operations of the update stream, starting from its startOperation-th (counting from 0), and what to
+     * close once done with them
+     */
+    public Tuple2<Iterator<Operation>,Closeable> operationsFrom( long startOperation ) throws IOException
+    {
+        long indexedOperation = startOperation / interval;
+        if ( indexedOperation >= offsetCount && false == complete )
+        {
+            extendTo( indexedOperation );
+        }
+        int offsetIndex = (int) Math.min( indexedOperation, offsetCount - 1 );
+        PositionalParser positionalParser = new PositionalParser( offsets[offsetIndex] );
+        // at most interval operations, or none, when the offset of startOperation is indexed
+        for ( long skipped = (long) offsetIndex * interval;
+              skipped < startOperation && positionalParser.operations.hasNext(); skipped++ )
+        {
+            positionalParser.operations.next();
+        }
+        return Tuple.<Iterator<Operation>,Closeable>tuple2( positionalParser.operations, positionalParser );
+    }
+
+    private void extendTo( long indexedOperation ) throws IOException
+    {
+        try ( PositionalParser positionalParser = new PositionalParser( offsets[offsetCount - 1] ) )
+        {
+            while ( offsetCount <= indexedOperation && false == complete )
+            {
+                int parsed = 0;
+                while ( parsed < interval && positionalParser.operations.hasNext() )
+                {
+                    positionalParser.operations.next();
+                    parsed++;
+                }
+                if ( parsed == interval )
+                {
+                    addOffset( positionalParser.positionAfterLastOperation() );
+                }
+                if ( parsed < interval || false == positionalParser.operations.hasNext() )
+                {
+                    complete = true;
+                }
+            }
+        }
+        write();
+    }
+
+    private void addOffset( long offset )
+    {
+        if ( offsetCount == offsets.length )
+        {
+            offsets = Arrays.copyOf( offsets, offsets.length * 2 );
+        }
+        offsets[offsetCount++] = offset;
+    }
+
+    private boolean read() throws IOException
+    {
+        if ( false == offsetsFile.exists() )
+        {
+            return false;
+        }
+        try ( DataInputStream in = new DataInputStream( new BufferedInputStream( new FileInputStream( offsetsFile ) ) ) )
+        {
+            if ( MAGIC != in.readInt() || VERSION != in.readInt() ||
+                 updateStreamFile.length() != in.readLong() || updateStreamFile.lastModified() != in.readLong() ||
+                 interval != in.readInt() )
+            {
+                return false;
+            }
+            complete = in.readBoolean();
+            firstScheduledStartTimeAsMilli = in.readLong();
+            int count = in.readInt();
+            for ( int i = 0; i < count; i++ )
+            {
+                addOffset( in.readLong() );
+            }
+            return offsetCount > 0;
+        }
+        catch ( EOFException e )
+        {
+            // truncated, e.g., written by an older version, it is rebuilt
+            offsetCount = 0;
+            complete = false;
+            firstScheduledStartTimeAsMilli = -1;
+            return false;
+        }
+    }
+
+    private void write() throws IOException
+    {
+        // written aside, so an interrupted write does not leave corrupt offsets behind
+        File tempOffsetsFile = new File( offsetsFile.getAbsolutePath() + ".tmp" );
+        try ( DataOutputStream out =
+                      new DataOutputStream( new BufferedOutputStream( new FileOutputStream( tempOffsetsFile ) ) ) )
+        {
+            out.writeInt( MAGIC );
+            out.writeInt( VERSION );
+            out.writeLong( updateStreamFile.length() );
+            out.writeLong( updateStreamFile.lastModified() );
+            out.writeInt( interval );
+            out.writeBoolean( complete );
+            out.writeLong( firstScheduledStartTimeAsMilli );
+            out.writeInt( offsetCount );
+            for ( int i = 0; i < offsetCount; i++ )
+            {
+                out.writeLong( offsets[i] );
+            }
+        }
+        Files.move( tempOffsetsFile.toPath(), offsetsFile.toPath(), StandardCopyOption.REPLACE_EXISTING );
+    }
+
+    private class PositionalParser implements Closeable
+    {
+        private final MappedByteBufferCharSeeker charSeeker;
+        private final WriteEventStreamReaderBinary binaryReader;
+        private final Iterator<Operation> operations;
+
+        private PositionalParser( long startPosition ) throws IOException
+        {
+            if ( LdbcSnbInteractiveWorkloadConfiguration.UpdateStreamParser.BINARY == parser )
+            {
+                charSeeker = null;
+                binaryReader = new WriteEventStreamReaderBinary( updateStreamFile, startPosition );
+                operations = binaryReader;
+            }
+            else
+            {
+                charSeeker = new MappedByteBufferCharSeeker( updateStreamFile,
+                        MappedByteBufferCharSeeker.DEFAULT_WINDOW_SIZE, BufferedCharSeeker.DEFAULT_QUOTE_CHAR,
+                        startPosition );
+                binaryReader = null;
+                operations = WriteEventStreamReaderCharSeeker.create( charSeeker, new Extractors( ';', ',' ), '|' );
+            }
+        }
+
+        // only valid after next(), and before hasNext(), which parses the next operation
+        private long positionAfterLastOperation() throws IOException
+        {
+            return (null == binaryReader) ? charSeeker.position() : binaryReader.position();
+        }
+
+        @Override
+        public void close() throws IOException
+        {
+            if ( null == binaryReader )
+            {
+                charSeeker.close();
+            }
+            else
+            {
+                binaryReader.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,300 @@
+package com.ldbc.driver.workloads.ldbc.snb.interactive;
+
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.generator.GeneratorException;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static com.ldbc.driver.workloads.ldbc.snb.interactive.WriteEventStreamWriterBinary.MAGIC;
+import static com.ldbc.driver.workloads.ldbc.snb.interactive.WriteEventStreamWriterBinary.VERSION;
+import static java.lang.String.format;
+
+/**
+ * Reads update streams written by {@link WriteEventStreamWriterBinary}, decoding each record straight into its
+ * operation. Records are read into a buffer that grows to fit the largest record.
+ */
+public class WriteEventStreamReaderBinary implements Iterator<Operation>, Closeable
+{
+    static final int HEADER_SIZE_IN_BYTES = 8;
+    private static final int BUFFER_SIZE_IN_BYTES = 1024 * 1024;
+
+    private final File updateStreamFile;
+    private final FileChannel channel;
+    private ByteBuffer buffer = ByteBuffer.allocate( BUFFER_SIZE_IN_BYTES );
+    private boolean endOfFile = false;
+    private Operation nextOperation = null;
+
+    public WriteEventStreamReaderBinary( File updateStreamFile ) throws IOException
+    {
+        this( updateStreamFile, HEADER_SIZE_IN_BYTES );
+    }
+
+    /**
+     * Starts reading from startPosition, which must be the start of a record, e.g., one returned by
+     * {@link #position()}
+     */
+    public WriteEventStreamReaderBinary( File updateStreamFile, long startPosition ) throws IOException
+    {
+        this.updateStreamFile = updateStreamFile;
+        this.channel = new RandomAccessFile( updateStreamFile, "r" ).getChannel();
+        // empty until the first read
+        buffer.flip();
+        if ( false == fill( 8 ) || MAGIC != buffer.getInt() )
+        {
+            channel.close();
+            throw new IOException( format( "Not a binary update stream: %s", updateStreamFile.getAbsolutePath() ) );
+        }
+        int version = buffer.getInt();
+        if ( VERSION != version )
+        {
+            channel.close();
+            throw new IOException( format( "Unsupported binary update stream version: %s", version ) );
+        }
+        if ( startPosition < HEADER_SIZE_IN_BYTES || startPosition > channel.size() )
+        {
+            channel.close();
+            throw new IOException( format( "Start position %s is outside of the records of %s",
+                    startPosition, updateStreamFile.getAbsolutePath() ) );
+        }
+        if ( HEADER_SIZE_IN_BYTES != startPosition )
+        {
+            channel.position( startPosition );
+            buffer.clear();
+            buffer.flip();
+        }
+    }
+
+    /**
+     * @return file position of the record after the last operation returned, or buffered by {@link #hasNext()}
+     */
+    public long position() throws IOException
+    {
+        return channel.position() - buffer.remaining();
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+        if ( null == nextOperation )
+        {
+            nextOperation = readOperation();
+        }
+        return null != nextOperation;
+    }
+
+    @Override
+    public Operation next()
+    {
+        if ( false == hasNext() )
+        {
+            throw new NoSuchElementException( "No more update operations" );
+        }
+        Operation operation = nextOperation;
+        nextOperation = null;
+        return operation;
+    }
+
+    @Override
+    public void remove()
+    {
+        throw new UnsupportedOperationException( format( "%s does not support remove()", getClass().getSimpleName() ) );
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        channel.close();
+    }
+
+    private Operation readOperation()
+    {
+        try
+        {
+            if ( false == fill( 4 ) )
+            {
+                return null;
+            }
+            int recordLength = buffer.getInt();
+            if ( false == fill( recordLength ) )
+            {
+                throw new GeneratorException(
+                        format( "Binary update stream is truncated: %s", updateStreamFile.getAbsolutePath() ) );
+            }
+            return decodeOperation();
+        }
+        catch ( IOException e )
+        {
+            throw new GeneratorException(
+                    format( "Error reading binary update stream: %s", updateStreamFile.getAbsolutePath() ), e );
+        }
+    }
+
+    private Operation decodeOperation()
+    {
+        int type = buffer.getInt();
+        long scheduledStartTimeAsMilli = buffer.getLong();
+        long dependencyTimeStamp = buffer.getLong();
+        Operation operation;
+        switch ( type )
+        {
+        case LdbcUpdate1AddPerson.TYPE:
+            operation = new LdbcUpdate1AddPerson(
+                    buffer.getLong(),
+                    getString(),
+                    getString(),
+                    getString(),
+                    getDate(),
+                    getDate(),
+                    getString(),
+                    getString(),
+                    buffer.getLong(),
+                    getStrings(),
+                    getStrings(),
+                    getLongs(),
+                    getOrganizations(),
+                    getOrganizations() );
+            break;
+        case LdbcUpdate2AddPostLike.TYPE:
+            operation = new LdbcUpdate2AddPostLike( buffer.getLong(), buffer.getLong(), getDate() );
+            break;
+        case LdbcUpdate3AddCommentLike.TYPE:
+            operation = new LdbcUpdate3AddCommentLike( buffer.getLong(), buffer.getLong(), getDate() );
+            break;
+        case LdbcUpdate4AddForum.TYPE:
+            operation = new LdbcUpdate4AddForum( buffer.getLong(), getString(), getDate(), buffer.getLong(),
+                    getLongs() );
+            break;
+        case LdbcUpdate5AddForumMembership.TYPE:
+            operation = new LdbcUpdate5AddForumMembership( buffer.getLong(), buffer.getLong(), getDate() );
+            break;
+        case LdbcUpdate6AddPost.TYPE:
+            operation = new LdbcUpdate6AddPost(
+                    buffer.getLong(),
+                    getString(),
+                    getDate(),
+                    getString(),
+                    getString(),
+                    getString(),
+                    getString(),
+                    buffer.getInt(),
+                    buffer.getLong(),
+                    buffer.getLong(),
+                    buffer.getLong(),
+                    getLongs() );
+            break;
+        case LdbcUpdate7AddComment.TYPE:
+            operation = new LdbcUpdate7AddComment(
+                    buffer.getLong(),
+                    getDate(),
+                    getString(),
+                    getString(),
+                    getString(),
+                    buffer.getInt(),
+                    buffer.getLong(),
+                    buffer.getLong(),
+                    buffer.getLong(),
+                    buffer.getLong(),
+                    getLongs() );
+            break;
+        case LdbcUpdate8AddFriendship.TYPE:
+            operation = new LdbcUpdate8AddFriendship( buffer.getLong(), buffer.getLong(), getDate() );
+            break;
+        default:
+            throw new GeneratorException( format( "Unknown operation type %s in binary update stream: %s",
+                    type, updateStreamFile.getAbsolutePath() ) );
+        }
+        operation.setScheduledStartTimeAsMilli( scheduledStartTimeAsMilli );
+        operation.setTimeStamp( scheduledStartTimeAsMilli );
+        operation.setDependencyTimeStamp( dependencyTimeStamp );
+        return operation;
+    }
+
+    /**
+     * @return false if the end of the file was reached before the requested number of bytes could be buffered
+     */
+    private boolean fill( int bytes ) throws IOException
+    {
+        if ( buffer.remaining() >= bytes )
+        {
+            return true;
+        }
+        if ( buffer.capacity() < bytes )
+        {
+            ByteBuffer largerBuffer = ByteBuffer.allocate( bytes );
+            largerBuffer.put( buffer );
+            buffer = largerBuffer;
+        }
+        else
+        {
+            buffer.compact();
+        }
+        while ( false == endOfFile && buffer.position() < bytes )
+        {
+            endOfFile = -1 == channel.read( buffer );
+        }
+        buffer.flip();
+        return buffer.remaining() >= bytes;
+    }
+
+    private Date getDate()
+    {
+        return new Date( buffer.getLong() );
+    }
+
+    private String getString()
+    {
+        int length = buffer.getInt();
+        if ( -1 == length )
+        {
+            return null;
+        }
+        String value = new String( buffer.array(), buffer.arrayOffset() + buffer.position(), length,
+                StandardCharsets.UTF_8 );
+        buffer.position( buffer.position() + length );
+        return value;
+    }
+
+    private List<String> getStrings()
+    {
+        int size = buffer.getInt();
+        List<String> values = new ArrayList<>( size );
+        for ( int i = 0; i < size; i++ )
+        {
+            values.add( getString() );
+        }
+        return values;
+    }
+
+    private List<Long> getLongs()
+    {
+        int size = buffer.getInt();
+        List<Long> values = new ArrayList<>( size );
+        for ( int i = 0; i < size; i++ )
+        {
+            values.add( buffer.getLong() );
+        }
+        return values;
+    }
+
+    private List<LdbcUpdate1AddPerson.Organization> getOrganizations()
+    {
+        int size = buffer.getInt();
+        List<LdbcUpdate1AddPerson.Organization> values = new ArrayList<>( size );
+        for ( int i = 0; i < size; i++ )
+        {
+            values.add( new LdbcUpdate1AddPerson.Organization( buffer.getLong(), buffer.getInt() ) );
+        }
+        return values;
+    }
+}
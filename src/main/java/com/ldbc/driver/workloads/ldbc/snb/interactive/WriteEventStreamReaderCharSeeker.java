@@ -1,6 +1,5 @@
 package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
-import com.google.common.collect.Lists;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.csv.charseeker.CharSeeker;
 import com.ldbc.driver.csv.charseeker.Extractors;
@@ -103,54 +102,44 @@ public class WriteEventStreamReaderCharSeeker {
 
                 List<String> languages;
                 if (charSeeker.seek(mark, columnDelimiters)) {
-                    languages = Lists.newArrayList(charSeeker.extract(mark, extractors.stringArray()).value());
+                    languages = LazyDecodedList.strings(
+                            charSeeker.extract(mark, extractors.string()).value(), extractors.arrayDelimiter());
                 } else {
                     throw new GeneratorException("Error retrieving languages");
                 }
 
                 List<String> emails;
                 if (charSeeker.seek(mark, columnDelimiters)) {
-                    emails = Lists.newArrayList(charSeeker.extract(mark, extractors.stringArray()).value());
+                    emails = LazyDecodedList.strings(
+                            charSeeker.extract(mark, extractors.string()).value(), extractors.arrayDelimiter());
                 } else {
                     throw new GeneratorException("Error retrieving emails");
                 }
 
-                List<Long> tagIds = new ArrayList<>();
+                List<Long> tagIds;
                 if (charSeeker.seek(mark, columnDelimiters)) {
-                    long[] tagIdsArray = charSeeker.extract(mark, extractors.longArray()).value();
-                    for (long tagId : tagIdsArray) {
-                        tagIds.add(tagId);
-                    }
+                    tagIds = LazyDecodedList.longs(
+                            charSeeker.extract(mark, extractors.string()).value(), extractors.arrayDelimiter());
                 } else {
                     throw new GeneratorException("Error retrieving tags");
                 }
 
                 List<LdbcUpdate1AddPerson.Organization> studyAts;
                 if (charSeeker.seek(mark, columnDelimiters)) {
-                    studyAts = new ArrayList<>();
-                    int[][] studyAtsArray = charSeeker.extract(mark, extractors.intTupleArray(2)).value();
-                    for (int i = 0; i < studyAtsArray.length; i++) {
-                        studyAts.add(new LdbcUpdate1AddPerson.Organization(
-                                        studyAtsArray[i][0],
-                                        studyAtsArray[i][1]
-                                )
-                        );
-                    }
+                    studyAts = LazyDecodedList.organizations(
+                            charSeeker.extract(mark, extractors.string()).value(),
+                            extractors.arrayDelimiter(),
+                            extractors.tupleDelimiter());
                 } else {
                     throw new GeneratorException("Error retrieving universities");
                 }
 
                 List<LdbcUpdate1AddPerson.Organization> workAts;
                 if (charSeeker.seek(mark, columnDelimiters)) {
-                    workAts = new ArrayList<>();
-                    int[][] workAtsArray = charSeeker.extract(mark, extractors.intTupleArray(2)).value();
-                    for (int i = 0; i < workAtsArray.length; i++) {
-                        workAts.add(new LdbcUpdate1AddPerson.Organization(
-                                        workAtsArray[i][0],
-                                        workAtsArray[i][1]
-                                )
-                        );
-                    }
+                    workAts = LazyDecodedList.organizations(
+                            charSeeker.extract(mark, extractors.string()).value(),
+                            extractors.arrayDelimiter(),
+                            extractors.tupleDelimiter());
                 } else {
                     throw new GeneratorException("Error retrieving companies");
                 }
@@ -290,11 +279,8 @@ public class WriteEventStreamReaderCharSeeker {
 
                 List<Long> tagIds;
                 if (charSeeker.seek(mark, columnDelimiters)) {
-                    tagIds = new ArrayList<>();
-                    long[] tagIdsArray = charSeeker.extract(mark, extractors.longArray()).value();
-                    for (long tagId : tagIdsArray) {
-                        tagIds.add(tagId);
-                    }
+                    tagIds = LazyDecodedList.longs(
+                            charSeeker.extract(mark, extractors.string()).value(), extractors.arrayDelimiter());
                 } else {
                     throw new GeneratorException("Error retrieving tags");
                 }
@@ -436,11 +422,8 @@ public class WriteEventStreamReaderCharSeeker {
 
                 List<Long> tagIds;
                 if (charSeeker.seek(mark, columnDelimiters)) {
-                    tagIds = new ArrayList<>();
-                    long[] tagIdsArray = charSeeker.extract(mark, extractors.longArray()).value();
-                    for (long tagId : tagIdsArray) {
-                        tagIds.add(tagId);
-                    }
+                    tagIds = LazyDecodedList.longs(
+                            charSeeker.extract(mark, extractors.string()).value(), extractors.arrayDelimiter());
                 } else {
                     throw new GeneratorException("Error retrieving tags");
                 }
@@ -548,11 +531,8 @@ public class WriteEventStreamReaderCharSeeker {
 
                 List<Long> tagIds;
                 if (charSeeker.seek(mark, columnDelimiters)) {
-                    tagIds = new ArrayList<>();
-                    long[] tagIdsArray = charSeeker.extract(mark, extractors.longArray()).value();
-                    for (long tagId : tagIdsArray) {
-                        tagIds.add(tagId);
-                    }
+                    tagIds = LazyDecodedList.longs(
+                            charSeeker.extract(mark, extractors.string()).value(), extractors.arrayDelimiter());
                 } else {
                     throw new GeneratorException("Error retrieving tags");
                 }
@@ -0,0 +1,236 @@
+package com.ldbc.driver.workloads.ldbc.snb.interactive;
+
+import com.ldbc.driver.Operation;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+
+import static java.lang.String.format;
+
+/**
+ * Writes update operations in a compact binary format, which {@link WriteEventStreamReaderBinary} decodes straight
+ * into operations, without the parsing of the CSV update streams.
+ * <p>
+ * Layout (big endian):
+ * <pre>
+ * header:  magic (int) | version (int)
+ * records: record length in bytes, excluding itself (int) | operation type (int) | scheduled start time (long) |
+ *          dependency time stamp (long) | operation fields, in constructor order
+ * </pre>
+ * Dates are written as longs, strings as their UTF-8 length in bytes (int, -1 if null) followed by the bytes, and
+ * lists as their size (int) followed by the elements.
+ * Use {@link WriteEventStreamBinaryConverter} to convert the CSV update streams.
+ */
+public class WriteEventStreamWriterBinary implements Closeable
+{
+    static final int MAGIC = 0x4C555053;
+    static final int VERSION = 1;
+    private static final int BUFFER_SIZE_IN_BYTES = 1024 * 1024;
+
+    private final OutputStream outputStream;
+    private ByteBuffer record = ByteBuffer.allocate( 1024 );
+
+    public WriteEventStreamWriterBinary( File updateStreamFile ) throws IOException
+    {
+        this.outputStream = new BufferedOutputStream( new FileOutputStream( updateStreamFile ), BUFFER_SIZE_IN_BYTES );
+        record.putInt( MAGIC );
+        record.putInt( VERSION );
+        outputStream.write( record.array(), 0, record.position() );
+    }
+
+    public void write( Operation operation ) throws IOException
+    {
+        record.clear();
+        // record length, set once the record is complete
+        record.putInt( 0 );
+        record.putInt( operation.type() );
+        record.putLong( operation.scheduledStartTimeAsMilli() );
+        record.putLong( operation.dependencyTimeStamp() );
+        switch ( operation.type() )
+        {
+        case LdbcUpdate1AddPerson.TYPE:
+        {
+            LdbcUpdate1AddPerson update = (LdbcUpdate1AddPerson) operation;
+            putLong( update.personId() );
+            putString( update.personFirstName() );
+            putString( update.personLastName() );
+            putString( update.gender() );
+            putDate( update.birthday() );
+            putDate( update.creationDate() );
+            putString( update.locationIp() );
+            putString( update.browserUsed() );
+            putLong( update.cityId() );
+            putStrings( update.languages() );
+            putStrings( update.emails() );
+            putLongs( update.tagIds() );
+            putOrganizations( update.studyAt() );
+            putOrganizations( update.workAt() );
+            break;
+        }
+        case LdbcUpdate2AddPostLike.TYPE:
+        {
+            LdbcUpdate2AddPostLike update = (LdbcUpdate2AddPostLike) operation;
+            putLong( update.personId() );
+            putLong( update.postId() );
+            putDate( update.creationDate() );
+            break;
+        }
+        case LdbcUpdate3AddCommentLike.TYPE:
+        {
+            LdbcUpdate3AddCommentLike update = (LdbcUpdate3AddCommentLike) operation;
+            putLong( update.personId() );
+            putLong( update.commentId() );
+            putDate( update.creationDate() );
+            break;
+        }
+        case LdbcUpdate4AddForum.TYPE:
+        {
+            LdbcUpdate4AddForum update = (LdbcUpdate4AddForum) operation;
+            putLong( update.forumId() );
+            putString( update.forumTitle() );
+            putDate( update.creationDate() );
+            putLong( update.moderatorPersonId() );
+            putLongs( update.tagIds() );
+            break;
+        }
+        case LdbcUpdate5AddForumMembership.TYPE:
+        {
+            LdbcUpdate5AddForumMembership update = (LdbcUpdate5AddForumMembership) operation;
+            putLong( update.forumId() );
+            putLong( update.personId() );
+            putDate( update.joinDate() );
+            break;
+        }
+        case LdbcUpdate6AddPost.TYPE:
+        {
+            LdbcUpdate6AddPost update = (LdbcUpdate6AddPost) operation;
+            putLong( update.postId() );
+            putString( update.imageFile() );
+            putDate( update.creationDate() );
+            putString( update.locationIp() );
+            putString( update.browserUsed() );
+            putString( update.language() );
+            putString( update.content() );
+            putInt( update.length() );
+            putLong( update.authorPersonId() );
+            putLong( update.forumId() );
+            putLong( update.countryId() );
+            putLongs( update.tagIds() );
+            break;
+        }
+        case LdbcUpdate7AddComment.TYPE:
+        {
+            LdbcUpdate7AddComment update = (LdbcUpdate7AddComment) operation;
+            putLong( update.commentId() );
+            putDate( update.creationDate() );
+            putString( update.locationIp() );
+            putString( update.browserUsed() );
+            putString( update.content() );
+            putInt( update.length() );
+            putLong( update.authorPersonId() );
+            putLong( update.countryId() );
+            putLong( update.replyToPostId() );
+            putLong( update.replyToCommentId() );
+            putLongs( update.tagIds() );
+            break;
+        }
+        case LdbcUpdate8AddFriendship.TYPE:
+        {
+            LdbcUpdate8AddFriendship update = (LdbcUpdate8AddFriendship) operation;
+            putLong( update.person1Id() );
+            putLong( update.person2Id() );
+            putDate( update.creationDate() );
+            break;
+        }
+        default:
+            throw new IOException( format( "Unsupported operation type: %s", operation.getClass().getName() ) );
+        }
+        record.putInt( 0, record.position() - 4 );
+        outputStream.write( record.array(), 0, record.position() );
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        outputStream.close();
+    }
+
+    private void ensureRemaining( int bytes )
+    {
+        if ( record.remaining() < bytes )
+        {
+            ByteBuffer largerRecord = ByteBuffer.allocate( Math.max( record.capacity() * 2, record.position() + bytes ) );
+            record.flip();
+            largerRecord.put( record );
+            record = largerRecord;
+        }
+    }
+
+    private void putInt( int value )
+    {
+        ensureRemaining( 4 );
+        record.putInt( value );
+    }
+
+    private void putLong( long value )
+    {
+        ensureRemaining( 8 );
+        record.putLong( value );
+    }
+
+    private void putDate( Date value )
+    {
+        putLong( value.getTime() );
+    }
+
+    private void putString( String value )
+    {
+        if ( null == value )
+        {
+            putInt( -1 );
+        }
+        else
+        {
+            byte[] bytes = value.getBytes( StandardCharsets.UTF_8 );
+            ensureRemaining( 4 + bytes.length );
+            record.putInt( bytes.length );
+            record.put( bytes );
+        }
+    }
+
+    private void putStrings( List<String> values )
+    {
+        putInt( values.size() );
+        for ( String value : values )
+        {
+            putString( value );
+        }
+    }
+
+    private void putLongs( List<Long> values )
+    {
+        putInt( values.size() );
+        for ( Long value : values )
+        {
+            putLong( value );
+        }
+    }
+
+    private void putOrganizations( List<LdbcUpdate1AddPerson.Organization> values )
+    {
+        putInt( values.size() );
+        for ( LdbcUpdate1AddPerson.Organization value : values )
+        {
+            putLong( value.organizationId() );
+            putInt( value.year() );
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.ldbc.driver;
+
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery1;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class OperationPoolTest
+{
+    @Test
+    public void shouldNotRecycleOperationsWhenDisabled()
+    {
+        // Given
+        OperationPool<LdbcQuery1> pool = OperationPool.disabled();
+
+        // When
+        LdbcQuery1 operation = pool.adopt( new LdbcQuery1( 1, "name", 20 ) );
+
+        // Then
+        assertThat( pool.isEnabled(), is( false ) );
+        assertThat( ((Operation) operation).pool(), nullValue() );
+        assertThat( pool.take(), nullValue() );
+    }
+
+    @Test
+    public void shouldReuseRecycledOperations()
+    {
+        // Given
+        OperationPool<LdbcQuery1> pool = new OperationPool<>( 2, false );
+        LdbcQuery1 operation = pool.adopt( new LdbcQuery1( 1, "name", 20 ) );
+        operation.setScheduledStartTimeAsMilli( 1 );
+        operation.setTimeStamp( 2 );
+        operation.setDependencyTimeStamp( 3 );
+
+        // When
+        assertThat( pool.take(), nullValue() );
+        pool.recycle( operation );
+
+        // Then
+        try
+        {
+            operation.personId();
+            fail( "Recycled operation should not be usable" );
+        }
+        catch ( IllegalStateException e )
+        {
+            // expected
+        }
+        LdbcQuery1 reusedOperation = pool.take();
+        assertThat( reusedOperation, sameInstance( operation ) );
+        assertThat( reusedOperation.scheduledStartTimeAsMilli(), is( -1l ) );
+        assertThat( reusedOperation.timeStamp(), is( -1l ) );
+        assertThat( reusedOperation.dependencyTimeStamp(), is( -1l ) );
+        assertThat( reusedOperation.personId(), is( 1l ) );
+        assertThat( pool.take(), nullValue() );
+    }
+
+    @Test
+    public void shouldFailToRecycleOperationsTwice()
+    {
+        // Given
+        OperationPool<LdbcQuery1> pool = new OperationPool<>( 2, false );
+        LdbcQuery1 operation = pool.adopt( new LdbcQuery1( 1, "name", 20 ) );
+        pool.recycle( operation );
+
+        // When
+        try
+        {
+            pool.recycle( operation );
+            fail( "Operation should not be recycled twice" );
+        }
+        catch ( IllegalStateException e )
+        {
+            // Then
+            // expected
+        }
+    }
+
+    @Test
+    public void shouldQuarantineRecycledOperationsWhenDetectingRetention()
+    {
+        // Given
+        OperationPool<LdbcQuery1> pool = new OperationPool<>( 2, true );
+        LdbcQuery1 operation1 = pool.adopt( new LdbcQuery1( 1, "name", 20 ) );
+        LdbcQuery1 operation2 = pool.adopt( new LdbcQuery1( 2, "name", 20 ) );
+        LdbcQuery1 operation3 = pool.adopt( new LdbcQuery1( 3, "name", 20 ) );
+
+        // When
+        pool.recycle( operation1 );
+        pool.recycle( operation2 );
+
+        // Then
+        assertThat( pool.take(), nullValue() );
+        pool.recycle( operation3 );
+        assertThat( pool.take(), sameInstance( operation1 ) );
+        assertThat( pool.take(), nullValue() );
+        try
+        {
+            operation2.personId();
+            fail( "Quarantined operation should not be usable" );
+        }
+        catch ( IllegalStateException e )
+        {
+            // expected
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import com.ldbc.driver.control.ConsoleAndFileDriverConfiguration;
 import com.ldbc.driver.control.DriverConfigurationException;
+import com.ldbc.driver.control.DriverRuntimeConfiguration;
 import com.ldbc.driver.control.Log4jLoggingServiceFactory;
 import com.ldbc.driver.control.LoggingServiceFactory;
 import com.ldbc.driver.generator.GeneratorFactory;
@@ -18,9 +19,13 @@ import com.ldbc.driver.workloads.dummy.TimedNamedOperation2;
 import com.ldbc.driver.workloads.dummy.TimedNamedOperation2Factory;
 import com.ldbc.driver.workloads.dummy.TimedNamedOperation3;
 import com.ldbc.driver.workloads.dummy.TimedNamedOperation3Factory;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
+import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -36,6 +41,9 @@ import static org.junit.Assert.assertThat;
 
 public class WorkloadStreamsTest
 {
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
 
     @Test
     public void shouldReturnSameWorkloadStreamsAsCreatedWith()
@@ -339,6 +347,74 @@ public class WorkloadStreamsTest
         workload.close();
     }
 
+    @Test
+    public void shouldCalculateTheSameOffsetsAndLimitsFromWorkloadStreamsIndex()
+            throws WorkloadException, DriverConfigurationException, IOException
+    {
+        // Given
+        File indexFile = new File( temporaryFolder.getRoot(), "workload_streams.index" );
+        ConsoleAndFileDriverConfiguration configuration =
+                ConsoleAndFileDriverConfiguration.fromDefaults( null, null, 100 );
+        ConsoleAndFileDriverConfiguration indexedConfiguration = (ConsoleAndFileDriverConfiguration) configuration
+                .applyArg( DriverRuntimeConfiguration.WORKLOAD_STREAMS_INDEX, indexFile.getAbsolutePath() );
+
+        // When
+        // builds the index, at offsets 10 and 110
+        List<String> indexBuilt = offsetAndLimitedOperations( indexedConfiguration, 10, 100 );
+        WorkloadStreamsIndex index =
+                WorkloadStreamsIndex.read( indexFile, WorkloadStreamsIndex.keyFor( indexedConfiguration ) );
+        // reads both offsets from the index
+        List<String> indexRead = offsetAndLimitedOperations( indexedConfiguration, 10, 100 );
+        // resumes from offset 10
+        List<String> indexResumed = offsetAndLimitedOperations( indexedConfiguration, 50, 30 );
+
+        // Then
+        assertThat( indexFile.exists(), is( true ) );
+        assertThat( index.checkpointFor( 10 ).operationCountForStream(),
+                equalTo( new long[]{5, 1, 1, 1, 1, 1} ) );
+        assertThat( index.checkpointFor( 110 ).operationCount(), is( 110l ) );
+        assertThat( indexBuilt, equalTo( offsetAndLimitedOperations( configuration, 10, 100 ) ) );
+        assertThat( indexRead, equalTo( indexBuilt ) );
+        assertThat( indexResumed, equalTo( offsetAndLimitedOperations( configuration, 50, 30 ) ) );
+        // limited operations, followed by the minimum time stamp
+        assertThat( indexResumed.size(), is( 30 + 1 ) );
+    }
+
+    private List<String> offsetAndLimitedOperations( ConsoleAndFileDriverConfiguration configuration, long offset,
+            long limit ) throws WorkloadException, IOException
+    {
+        GeneratorFactory gf = new GeneratorFactory( new RandomDataGeneratorFactory( 42l ) );
+        WorkloadFactory workloadFactory = new WorkloadFactory()
+        {
+            @Override
+            public Workload createWorkload() throws WorkloadException
+            {
+                return new TestWorkload();
+            }
+        };
+        Tuple3<WorkloadStreams,Workload,Long> limitedWorkloadStreamsAndWorkload =
+                WorkloadStreams.createNewWorkloadWithOffsetAndLimitedWorkloadStreams(
+                        workloadFactory,
+                        configuration,
+                        gf,
+                        false,
+                        offset,
+                        limit,
+                        new Log4jLoggingServiceFactory( false )
+                );
+        List<String> operations = new ArrayList<>();
+        Iterator<Operation> operationIterator = WorkloadStreams.mergeSortedByStartTimeExcludingChildOperationGenerators(
+                gf, limitedWorkloadStreamsAndWorkload._1() );
+        while ( operationIterator.hasNext() )
+        {
+            Operation operation = operationIterator.next();
+            operations.add( operation.type() + ":" + operation.timeStamp() );
+        }
+        operations.add( "minimum:" + limitedWorkloadStreamsAndWorkload._3() );
+        limitedWorkloadStreamsAndWorkload._2().close();
+        return operations;
+    }
+
     @Test
     public void shouldLimitStreamsCorrectly() throws WorkloadException
     {
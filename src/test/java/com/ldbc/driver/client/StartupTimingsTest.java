@@ -0,0 +1,36 @@
+package com.ldbc.driver.client;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class StartupTimingsTest
+{
+    @Test
+    public void shouldTimeEachPhaseFromTheEndOfThePhaseBeforeIt() throws InterruptedException
+    {
+        // Given
+        StartupTimings startupTimings = new StartupTimings();
+
+        // When
+        Thread.sleep( 20 );
+        startupTimings.phaseCompleted( "first" );
+        startupTimings.phaseCompleted( "second" );
+        Thread.sleep( 20 );
+        startupTimings.phaseCompleted( "third" );
+
+        // Then
+        assertThat( startupTimings.phases(), equalTo( Arrays.asList( "first", "second", "third" ) ) );
+        assertThat( startupTimings.durationAsNano( "first" ) >= 20_000_000, is( true ) );
+        assertThat( startupTimings.durationAsNano( "second" ) < startupTimings.durationAsNano( "first" ), is( true ) );
+        assertThat( startupTimings.durationAsNano( "third" ) >= 20_000_000, is( true ) );
+        assertThat( startupTimings.totalDurationAsNano(),
+                is( startupTimings.durationAsNano( "first" ) + startupTimings.durationAsNano( "second" ) +
+                    startupTimings.durationAsNano( "third" ) ) );
+        assertThat( startupTimings.toString().split( "\n" ).length, is( 1 + 3 + 1 ) );
+    }
+}
@@ -0,0 +1,130 @@
+package com.ldbc.driver.csv;
+
+import com.google.common.base.Charsets;
+import com.ldbc.driver.csv.charseeker.BufferedCharSeeker;
+import com.ldbc.driver.csv.charseeker.CharSeeker;
+import com.ldbc.driver.csv.charseeker.Extractors;
+import com.ldbc.driver.csv.charseeker.MappedByteBufferCharSeeker;
+import com.ldbc.driver.csv.charseeker.Mark;
+import com.ldbc.driver.csv.charseeker.Readables;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class MappedByteBufferCharSeekerTest
+{
+    private static final int[] COLUMN_DELIMITERS = new int[]{'|'};
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void shouldSeekAndExtractTheSameValuesAsBufferedCharSeeker() throws Exception
+    {
+        String[] data = new String[]{
+                "",
+                "\n",
+                "a",
+                "a|b|c",
+                "a|b|c\n",
+                "a||c\r\nd|e|\n\nf",
+                "1|-22|333\n4|5|6\n",
+                "\"quoted\"|\"with|delimiter\"|\"with \"\"double\"\" quotes\"|\"with \\\"slash\\\" quotes\"\n",
+                "\"\"|\"\"\"\"|x\"y\n",
+                "ünïcødé|日本語|€1\nascii|ñ|\"ç\"\n"
+        };
+        for ( String csv : data )
+        {
+            File file = writeFile( csv );
+            for ( int windowSize : new int[]{MappedByteBufferCharSeeker.DEFAULT_WINDOW_SIZE, 32} )
+            {
+                List<String> expected =
+                        strings( new BufferedCharSeeker( Readables.wrap( new StringReader( csv ) ), 1024 ) );
+                List<String> actual = strings( new MappedByteBufferCharSeeker( file, windowSize, '"' ) );
+                assertThat( "Window " + windowSize + " on: " + csv, actual, equalTo( expected ) );
+            }
+        }
+    }
+
+    @Test
+    public void shouldExtractNumbersWithoutDecodingAcrossWindows() throws Exception
+    {
+        StringBuilder csv = new StringBuilder();
+        for ( int i = 0; i < 1000; i++ )
+        {
+            csv.append( i ).append( '|' ).append( -i * 1000000000L ).append( '|' ).append( i ).append( ';' )
+                    .append( i + 1 ).append( '|' ).append( "name" ).append( i ).append( '\n' );
+        }
+        Extractors extractors = new Extractors( ';', ',' );
+        Mark mark = new Mark();
+        try ( CharSeeker charSeeker = new MappedByteBufferCharSeeker( writeFile( csv.toString() ), 64, '"' ) )
+        {
+            for ( int i = 0; i < 1000; i++ )
+            {
+                assertThat( charSeeker.seek( mark, COLUMN_DELIMITERS ), is( true ) );
+                assertThat( charSeeker.extract( mark, extractors.int_() ).intValue(), equalTo( i ) );
+                charSeeker.seek( mark, COLUMN_DELIMITERS );
+                assertThat( charSeeker.extract( mark, extractors.long_() ).longValue(), equalTo( -i * 1000000000L ) );
+                charSeeker.seek( mark, COLUMN_DELIMITERS );
+                assertThat( charSeeker.extract( mark, extractors.longArray() ).value(),
+                        equalTo( new long[]{i, i + 1} ) );
+                charSeeker.seek( mark, COLUMN_DELIMITERS );
+                assertThat( mark.isEndOfLine(), is( true ) );
+                assertThat( charSeeker.extract( mark, extractors.string() ).value(), equalTo( "name" + i ) );
+            }
+            assertThat( charSeeker.seek( mark, COLUMN_DELIMITERS ), is( false ) );
+        }
+    }
+
+    @Test( expected = IllegalStateException.class )
+    public void shouldFailOnValuesLargerThanWindow() throws Exception
+    {
+        try ( CharSeeker charSeeker = new MappedByteBufferCharSeeker( writeFile( "a|0123456789abcdef|b" ), 8, '"' ) )
+        {
+            Mark mark = new Mark();
+            while ( charSeeker.seek( mark, COLUMN_DELIMITERS ) )
+            {
+                // seek through
+            }
+        }
+    }
+
+    private File writeFile( String csv ) throws Exception
+    {
+        File file = temporaryFolder.newFile();
+        Files.write( file.toPath(), csv.getBytes( Charsets.UTF_8 ) );
+        return file;
+    }
+
+    // every value, with its line number and whether it ends its line
+    private List<String> strings( CharSeeker charSeeker ) throws Exception
+    {
+        Extractors extractors = new Extractors( ';', ',' );
+        Mark mark = new Mark();
+        List<String> strings = new ArrayList<>();
+        try
+        {
+            while ( charSeeker.seek( mark, COLUMN_DELIMITERS ) )
+            {
+                strings.add( mark.lineNumber() + ":" + mark.isEndOfLine() + ":" +
+                             charSeeker.extract( mark, extractors.string() ).value() );
+            }
+            strings.add( "eof:" + mark.lineNumber() );
+        }
+        finally
+        {
+            charSeeker.close();
+        }
+        return strings;
+    }
+}
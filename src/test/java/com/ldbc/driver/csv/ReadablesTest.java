@@ -0,0 +1,76 @@
+package com.ldbc.driver.csv;
+
+import com.ldbc.driver.csv.charseeker.BufferedCharSeeker;
+import com.ldbc.driver.csv.charseeker.CharSeeker;
+import com.ldbc.driver.csv.charseeker.Extractors;
+import com.ldbc.driver.csv.charseeker.Mark;
+import com.ldbc.driver.csv.charseeker.Readables;
+import com.ldbc.driver.testutils.TestUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class ReadablesTest {
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void shouldPreferPlainFilesToGzippedFiles() throws Exception {
+        File plainDirectory = temporaryFolder.newFolder();
+        File gzippedDirectory = temporaryFolder.newFolder();
+        File plainFile = new File(plainDirectory, "a.csv");
+        Files.write(plainFile.toPath(), "a".getBytes(StandardCharsets.UTF_8));
+        TestUtils.gzipFilesInto(plainDirectory, gzippedDirectory);
+        TestUtils.gzipFilesInto(plainDirectory, plainDirectory);
+
+        assertThat(Readables.plainOrGzipped(plainFile), equalTo(plainFile));
+        assertThat(Readables.plainOrGzipped(new File(gzippedDirectory, "a.csv")),
+                equalTo(new File(gzippedDirectory, "a.csv.gz")));
+        assertThat(Readables.plainOrGzipped(new File(gzippedDirectory, "b.csv")),
+                equalTo(new File(gzippedDirectory, "b.csv")));
+        assertThat(Readables.isGzipped(new File(gzippedDirectory, "a.csv.gz")), is(true));
+        assertThat(Readables.isGzipped(plainFile), is(false));
+    }
+
+    @Test
+    public void shouldReadGzippedFilesAsTheirPlainEquivalents() throws Exception {
+        File plainDirectory = temporaryFolder.newFolder();
+        File gzippedDirectory = temporaryFolder.newFolder();
+        StringBuilder data = new StringBuilder();
+        for (int i = 0; i < 100000; i++) {
+            data.append(i).append("|ü").append(i).append('\n');
+        }
+        Files.write(new File(plainDirectory, "a.csv").toPath(), data.toString().getBytes(StandardCharsets.UTF_8));
+        TestUtils.gzipFilesInto(plainDirectory, gzippedDirectory);
+
+        int bufferSize = 1024;
+        List<String> plainValues = values(new File(plainDirectory, "a.csv"), bufferSize);
+        List<String> gzippedValues = values(new File(gzippedDirectory, "a.csv.gz"), bufferSize);
+
+        assertThat(plainValues.size(), is(200000));
+        assertThat(plainValues.get(199999), equalTo("ü99999"));
+        assertThat(gzippedValues, equalTo(plainValues));
+    }
+
+    private static List<String> values(File file, int bufferSize) throws Exception {
+        List<String> values = new ArrayList<>();
+        try (CharSeeker charSeeker = new BufferedCharSeeker(Readables.utf8ReadAhead(file, bufferSize), bufferSize)) {
+            Extractors extractors = new Extractors(';', ',');
+            Mark mark = new Mark();
+            while (charSeeker.seek(mark, new int[]{'|'})) {
+                values.add(charSeeker.extract(mark, extractors.string()).value());
+            }
+        }
+        return values;
+    }
+}
@@ -0,0 +1,105 @@
+package com.ldbc.driver.generator;
+
+import com.google.common.collect.Lists;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class ColumnarParametersTest
+{
+    @Test
+    public void shouldRepeatNothingWhenThereAreNoParameters()
+    {
+        // Given
+        ColumnarParameters parameters = ColumnarParameters.load( new ArrayList<Object[]>().iterator() );
+
+        // When
+        ColumnarParameters.RepeatingCursor cursor = parameters.repeatingCursor();
+
+        // Then
+        assertThat( parameters.rowCount(), is( 0 ) );
+        assertThat( cursor.hasNext(), is( false ) );
+        assertThat( parameters.repeatingRows().hasNext(), is( false ) );
+    }
+
+    @Test
+    public void shouldRepeatRowsAsTheyWereRead()
+    {
+        // Given
+        List<Object[]> rows = new ArrayList<>();
+        for ( int i = 0; i < 5000; i++ )
+        {
+            rows.add( new Object[]{
+                    (long) i * 1_000_000_000_000l,
+                    "name" + (i % 7) + "é",
+                    new Date( i * 1000l ),
+                    i % 13,
+                    Arrays.asList( "a" + i, "b" )
+            } );
+        }
+
+        // When
+        ColumnarParameters parameters = ColumnarParameters.load( rows.iterator() );
+
+        // Then
+        assertThat( parameters.rowCount(), is( 5000 ) );
+        assertThat( parameters.columnCount(), is( 5 ) );
+        ColumnarParameters.RepeatingCursor cursor = parameters.repeatingCursor();
+        for ( int i = 0; i < 12000; i++ )
+        {
+            Object[] row = rows.get( i % 5000 );
+            cursor.next();
+            assertThat( cursor.longValue( 0 ), equalTo( row[0] ) );
+            assertThat( cursor.stringValue( 1 ), equalTo( row[1] ) );
+            assertThat( cursor.dateValue( 2 ), equalTo( row[2] ) );
+            assertThat( cursor.intValue( 3 ), equalTo( row[3] ) );
+            assertThat( cursor.value( 4 ), equalTo( row[4] ) );
+        }
+        List<Object[]> repeatedRows = Lists.newArrayList( new GeneratorFactory( new RandomDataGeneratorFactory( 42l ) )
+                .limit( parameters.repeatingRows(), 10001 ) );
+        for ( int i = 0; i < repeatedRows.size(); i++ )
+        {
+            assertThat( repeatedRows.get( i ), equalTo( rows.get( i % 5000 ) ) );
+        }
+    }
+
+    @Test
+    public void shouldKeepValuesOfColumnsWithMoreThanOneTypeAsTheyAre()
+    {
+        // Given
+        List<Object[]> rows = new ArrayList<>();
+        rows.add( new Object[]{1l, "a"} );
+        rows.add( new Object[]{2l, "b"} );
+        rows.add( new Object[]{3, null} );
+
+        // When
+        ColumnarParameters parameters = ColumnarParameters.load( rows.iterator() );
+
+        // Then
+        assertThat( parameters.row( 0 ), equalTo( rows.get( 0 ) ) );
+        assertThat( parameters.row( 1 ), equalTo( rows.get( 1 ) ) );
+        assertThat( parameters.row( 2 ), equalTo( rows.get( 2 ) ) );
+    }
+
+    @Test( expected = GeneratorException.class )
+    public void shouldNotReadValuesAsAnotherType()
+    {
+        // Given
+        List<Object[]> rows = new ArrayList<>();
+        rows.add( new Object[]{1l, "a"} );
+        ColumnarParameters.RepeatingCursor cursor = ColumnarParameters.load( rows.iterator() ).repeatingCursor();
+
+        // When
+        cursor.next();
+
+        // Then
+        cursor.longValue( 1 );
+    }
+}
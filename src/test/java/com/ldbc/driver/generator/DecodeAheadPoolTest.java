@@ -0,0 +1,133 @@
+package com.ldbc.driver.generator;
+
+import com.google.common.collect.Lists;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class DecodeAheadPoolTest
+{
+    @Test
+    public void shouldDecodeMoreStreamsThanThreadsWithoutChangingThem()
+    {
+        // Given
+        DecodeAheadPool pool = new DecodeAheadPool( 2, 3, 2 );
+        int streamCount = 10;
+        List<Iterator<Integer>> streams = new ArrayList<>();
+        for ( int stream = 0; stream < streamCount; stream++ )
+        {
+            // includes empty streams, and streams ending at a batch boundary
+            streams.add( pool.decodeAhead( range( stream * 1000, stream * 1000 + stream * stream ) ) );
+        }
+
+        // When
+        // interleaving consumption, so streams only progress while others are parked on full queues
+        List<List<Integer>> decoded = new ArrayList<>();
+        for ( int stream = 0; stream < streamCount; stream++ )
+        {
+            decoded.add( new ArrayList<Integer>() );
+        }
+        boolean remaining = true;
+        while ( remaining )
+        {
+            remaining = false;
+            for ( int stream = 0; stream < streamCount; stream++ )
+            {
+                if ( streams.get( stream ).hasNext() )
+                {
+                    decoded.get( stream ).add( streams.get( stream ).next() );
+                    remaining = true;
+                }
+            }
+        }
+        pool.close();
+
+        // Then
+        for ( int stream = 0; stream < streamCount; stream++ )
+        {
+            assertThat( decoded.get( stream ), equalTo( Lists.newArrayList( range( stream * 1000,
+                    stream * 1000 + stream * stream ) ) ) );
+        }
+    }
+
+    @Test
+    public void shouldReturnElementsDecodedBeforeAnError()
+    {
+        // Given
+        DecodeAheadPool pool = new DecodeAheadPool( 1, 4, 2 );
+        final Iterator<Integer> source = range( 0, 6 );
+        Iterator<Integer> failing = new NoRemoveIterator<Integer>()
+        {
+            @Override
+            public boolean hasNext()
+            {
+                return true;
+            }
+
+            @Override
+            public Integer next()
+            {
+                if ( source.hasNext() )
+                {
+                    return source.next();
+                }
+                throw new GeneratorException( "Broken stream" );
+            }
+        };
+
+        // When
+        Iterator<Integer> stream = pool.decodeAhead( failing );
+
+        // Then
+        for ( int i = 0; i < 6; i++ )
+        {
+            assertThat( stream.next(), is( i ) );
+        }
+        try
+        {
+            stream.hasNext();
+            fail( "Error should have been thrown" );
+        }
+        catch ( GeneratorException e )
+        {
+            assertThat( e.getCause().getMessage(), equalTo( "Broken stream" ) );
+        }
+        pool.close();
+    }
+
+    @Test
+    public void shouldStopDecodingInfiniteStreamsWhenClosed()
+    {
+        // Given
+        DecodeAheadPool pool = new DecodeAheadPool( 2 );
+        Iterator<Long> stream = pool.decodeAhead( new GeneratorFactory( new RandomDataGeneratorFactory( 42l ) )
+                .incrementing( 0l, 1l ) );
+
+        // When
+        for ( long i = 0; i < 10_000; i++ )
+        {
+            assertThat( stream.next(), is( i ) );
+        }
+
+        // Then
+        // returns, rather than decoding forever
+        pool.close();
+    }
+
+    private static Iterator<Integer> range( int from, int to )
+    {
+        List<Integer> range = new ArrayList<>();
+        for ( int i = from; i < to; i++ )
+        {
+            range.add( i );
+        }
+        return range.iterator();
+    }
+}
@@ -0,0 +1,103 @@
+package com.ldbc.driver.generator;
+
+import com.google.common.collect.Lists;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class LoserTreeMergeGeneratorTest
+{
+    private static final LoserTreeMergeGenerator.KeyFunction<long[]> FIRST_VALUE =
+            new LoserTreeMergeGenerator.KeyFunction<long[]>()
+            {
+                @Override
+                public long keyOf( long[] element )
+                {
+                    return element[0];
+                }
+            };
+
+    @Test
+    public void shouldMergeNothingWhenThereAreNoGenerators()
+    {
+        // Given
+        Iterator<long[]> merged = new LoserTreeMergeGenerator<>( FIRST_VALUE );
+
+        // When
+        boolean hasNext = merged.hasNext();
+
+        // Then
+        assertThat( hasNext, is( false ) );
+    }
+
+    @Test
+    public void shouldMergeEmptyAndUnevenLengthGenerators()
+    {
+        // Given
+        GeneratorFactory gf = new GeneratorFactory( new RandomDataGeneratorFactory( 42l ) );
+        Iterator<Long> g1 = gf.identity( 0l, 1l, 3l, 4l );
+        Iterator<Long> g2 = gf.identity();
+        Iterator<Long> g3 = gf.identity( 0l, 2l, 4l, 8l );
+        Iterator<Long> g4 = gf.identity( 10l );
+        Iterator<Long> g5 = gf.identity( -1l, 0l );
+
+        // When
+        List<Long> merged = Lists.newArrayList( gf.mergeSortNumbers( g1, g2, g3, g4, g5 ) );
+
+        // Then
+        assertThat( merged, equalTo( (List<Long>) Lists.newArrayList( -1l, 0l, 0l, 0l, 1l, 2l, 3l, 4l, 4l, 8l, 10l ) ) );
+    }
+
+    @Test
+    public void shouldMergeElementsWithEqualKeysInTheOrderOfTheirGenerators()
+    {
+        // Given
+        // element is {key, generator, position in generator}
+        List<Iterator<long[]>> generators = new ArrayList<>();
+        List<long[]> expected = new ArrayList<>();
+        Random random = new Random( 42 );
+        int generatorCount = 13;
+        for ( int generator = 0; generator < generatorCount; generator++ )
+        {
+            List<long[]> generatorElements = new ArrayList<>();
+            long key = 0;
+            int length = random.nextInt( 1000 );
+            for ( int position = 0; position < length; position++ )
+            {
+                key += random.nextInt( 3 );
+                generatorElements.add( new long[]{key, generator, position} );
+            }
+            generators.add( generatorElements.iterator() );
+            expected.addAll( generatorElements );
+        }
+        // stable, so equal keys stay in order of generator then position
+        Collections.sort( expected, new Comparator<long[]>()
+        {
+            @Override
+            public int compare( long[] o1, long[] o2 )
+            {
+                return Long.compare( o1[0], o2[0] );
+            }
+        } );
+
+        // When
+        Iterator<long[]> merged =
+                new LoserTreeMergeGenerator<>( FIRST_VALUE, generators.toArray( new Iterator[generators.size()] ) );
+
+        // Then
+        for ( long[] expectedElement : expected )
+        {
+            assertThat( merged.next(), is( expectedElement ) );
+        }
+        assertThat( merged.hasNext(), is( false ) );
+    }
+}
@@ -0,0 +1,111 @@
+package com.ldbc.driver.generator;
+
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.workloads.dummy.TimedNamedOperation1;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class PeriodicOperationSchedulerTest
+{
+    private final GeneratorFactory gf = new GeneratorFactory( new RandomDataGeneratorFactory( 42l ) );
+
+    @Test
+    public void shouldScheduleNothingWhenThereAreNoStreams()
+    {
+        // Given
+        PeriodicOperationScheduler scheduler = new PeriodicOperationScheduler();
+
+        // When
+        boolean hasNext = scheduler.hasNext();
+
+        // Then
+        assertThat( hasNext, is( false ) );
+    }
+
+    @Test
+    public void shouldScheduleOperationsAsMergingStreamsOfIncrementingStartTimesDoes()
+    {
+        // Given
+        long workloadStartTimeAsMilli = 1000;
+        long[] intervalsAsMilli = new long[]{7, 3, 7, 100, 1, 0};
+        int[] lengths = new int[]{500, 1000, 500, 20, 0, 3};
+        List<List<Operation>> scheduledStreams = streams( intervalsAsMilli.length, lengths );
+        List<List<Operation>> mergedStreams = streams( intervalsAsMilli.length, lengths );
+        PeriodicOperationScheduler scheduler = new PeriodicOperationScheduler();
+        Iterator<Operation>[] timedStreams = new Iterator[intervalsAsMilli.length];
+        for ( int i = 0; i < intervalsAsMilli.length; i++ )
+        {
+            scheduler.addStream( workloadStartTimeAsMilli + intervalsAsMilli[i], intervalsAsMilli[i],
+                    scheduledStreams.get( i ).iterator() );
+            timedStreams[i] = gf.assignStartTimes(
+                    gf.incrementing( workloadStartTimeAsMilli + intervalsAsMilli[i], intervalsAsMilli[i] ),
+                    mergedStreams.get( i ).iterator()
+            );
+        }
+
+        // When
+        Iterator<Operation> merged = gf.mergeSortOperationsByTimeStamp( timedStreams );
+
+        // Then
+        int count = 0;
+        while ( merged.hasNext() )
+        {
+            Operation expected = merged.next();
+            Operation scheduled = scheduler.next();
+            assertThat( scheduled, equalTo( expected ) );
+            assertThat( scheduled.scheduledStartTimeAsMilli(), is( expected.scheduledStartTimeAsMilli() ) );
+            assertThat( scheduled.timeStamp(), is( expected.timeStamp() ) );
+            count++;
+        }
+        assertThat( scheduler.hasNext(), is( false ) );
+        assertThat( count, is( 2023 ) );
+    }
+
+    @Test
+    public void shouldOnlyTakeOperationsFromStreamsOnceTheyAreDue()
+    {
+        // Given
+        Operation operation1 = new TimedNamedOperation1( -1, -1, 0, "1" );
+        Operation operation2 = new TimedNamedOperation1( -1, -1, 0, "2" );
+        List<Operation> stream2 = new ArrayList<>();
+        stream2.add( operation2 );
+        Iterator<Operation> lazyStream2 = stream2.iterator();
+        PeriodicOperationScheduler scheduler = new PeriodicOperationScheduler()
+                .addStream( 10, 10, gf.identity( operation1 ) )
+                .addStream( 20, 10, lazyStream2 );
+
+        // When
+        Operation first = scheduler.next();
+
+        // Then
+        assertThat( first, sameInstance( operation1 ) );
+        assertThat( first.timeStamp(), is( 10l ) );
+        assertThat( lazyStream2.hasNext(), is( true ) );
+        assertThat( scheduler.next(), sameInstance( operation2 ) );
+        assertThat( operation2.scheduledStartTimeAsMilli(), is( 20l ) );
+        assertThat( scheduler.hasNext(), is( false ) );
+    }
+
+    private static List<List<Operation>> streams( int count, int[] lengths )
+    {
+        List<List<Operation>> streams = new ArrayList<>();
+        for ( int stream = 0; stream < count; stream++ )
+        {
+            List<Operation> operations = new ArrayList<>();
+            for ( int i = 0; i < lengths[stream]; i++ )
+            {
+                operations.add( new TimedNamedOperation1( -1, -1, 0, stream + "-" + i ) );
+            }
+            streams.add( operations );
+        }
+        return streams;
+    }
+}
@@ -1,20 +1,31 @@
 package com.ldbc.driver.runtime.metrics;
 
+import com.google.common.collect.Sets;
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationPhase;
 import com.ldbc.driver.WorkloadException;
+import com.ldbc.driver.control.DriverRuntimeConfiguration;
 import com.ldbc.driver.control.Log4jLoggingServiceFactory;
 import com.ldbc.driver.control.LoggingServiceFactory;
 import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.scheduling.Spinner;
 import com.ldbc.driver.temporal.SystemTimeSource;
 import com.ldbc.driver.temporal.TimeSource;
 import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery1;
 import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery2;
 import com.ldbc.driver.workloads.ldbc.snb.interactive.db.DummyLdbcSnbInteractiveOperationInstances;
+import com.lmax.disruptor.BlockingWaitStrategy;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
 import org.junit.Test;
 
+import java.io.IOException;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
@@ -83,6 +94,212 @@ public class DisruptorSbeMetricsServiceTest
         }
     }
 
+    @Test
+    public void shouldWriteResultsLogAndRecordIntervalsInParallelConsumersAndReportBackPressure()
+            throws Exception
+    {
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        final AtomicLong writtenCount = new AtomicLong( 0 );
+        // slow disk
+        ResultsLogWriter resultsLogWriter = new ResultsLogWriter()
+        {
+            @Override
+            public void write( String operationName, long scheduledStartTimeAsMilli, long actualStartTimeAsMilli,
+                    long runDurationAsNano, int resultCode, long originalStartTime ) throws IOException
+            {
+                Spinner.powerNap( 1 );
+                writtenCount.incrementAndGet();
+            }
+
+            @Override
+            public void close()
+            {
+            }
+        };
+        Map<Integer,Class<? extends Operation>> operationTypeToClassMapping = new HashMap<>();
+        operationTypeToClassMapping.put( LdbcQuery1.TYPE, LdbcQuery1.class );
+        operationTypeToClassMapping.put( LdbcQuery2.TYPE, LdbcQuery2.class );
+        Recorder[] intervalRecorders =
+                IntervalHistogramLoggingMetricsService.newIntervalRecorders( operationTypeToClassMapping );
+        DisruptorSbeMetricsService metricsService = new DisruptorSbeMetricsService(
+                timeSource,
+                errorReporter,
+                TimeUnit.MILLISECONDS,
+                DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                resultsLogWriter,
+                operationTypeToClassMapping,
+                loggingServiceFactory,
+                4,
+                DisruptorSbeMetricsService.waitStrategyFor( DriverRuntimeConfiguration.MetricsWaitStrategy.YIELDING ),
+                intervalRecorders
+        );
+        MetricsService.MetricsServiceWriter metricsServiceWriter = metricsService.getWriter();
+        for ( int i = 0; i < 50; i++ )
+        {
+            metricsServiceWriter.submitOperationResult( LdbcQuery1.TYPE, 1, 2, TimeUnit.MILLISECONDS.toNanos( 3 ), 0,
+                    1 );
+            metricsServiceWriter.submitOperationResult( LdbcQuery2.TYPE, 1, 2, TimeUnit.MILLISECONDS.toNanos( 5 ), 0,
+                    1 );
+        }
+        WorkloadResultsSnapshot results = metricsServiceWriter.results();
+        assertThat( results.totalOperationCount(), equalTo( 100L ) );
+        metricsService.shutdown();
+
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+        assertThat( writtenCount.get(), equalTo( 100L ) );
+        assertThat( intervalRecorders[LdbcQuery1.TYPE].getIntervalHistogram().getTotalCount(), equalTo( 50L ) );
+        Histogram query2Intervals = intervalRecorders[LdbcQuery2.TYPE].getIntervalHistogram();
+        assertThat( query2Intervals.getTotalCount(), equalTo( 50L ) );
+        assertThat( query2Intervals.getMaxValue(), equalTo( 5L ) );
+        // four slot ring buffer and a slow results log consumer
+        assertThat( metricsService.producerWaitCount() > 0, is( true ) );
+        assertThat( metricsService.producerWaitTimeAsNano() > 0, is( true ) );
+        // back-pressure is reported with the results, so it is exported in the results summary
+        assertThat( results.metricsBackPressureCount(), equalTo( metricsService.producerWaitCount() ) );
+        assertThat( results.metricsBackPressureWaitTimeAsMilli(),
+                equalTo( TimeUnit.NANOSECONDS.toMillis( metricsService.producerWaitTimeAsNano() ) ) );
+        WorkloadResultsSnapshot exportedResults = WorkloadResultsSnapshot.fromJson( results.toJson() );
+        assertThat( exportedResults.metricsBackPressureCount(), equalTo( metricsService.producerWaitCount() ) );
+        assertThat( exportedResults.metricsBackPressureWaitTimeAsMilli() > 0, is( true ) );
+    }
+
+    @Test
+    public void shouldRejectRingBufferSizeThatIsNotPowerOfTwo() throws Exception
+    {
+        boolean exceptionThrown = false;
+        try
+        {
+            new DisruptorSbeMetricsService(
+                    timeSource,
+                    new ConcurrentErrorReporter(),
+                    TimeUnit.MILLISECONDS,
+                    DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                    new NullResultsLogWriter(),
+                    new HashMap<Integer,Class<? extends Operation>>(),
+                    loggingServiceFactory,
+                    1000,
+                    new BlockingWaitStrategy(),
+                    null
+            );
+        }
+        catch ( MetricsCollectionException e )
+        {
+            exceptionThrown = true;
+        }
+        assertThat( exceptionThrown, is( true ) );
+    }
+
+    @Test
+    public void shouldAggregateResultCardinalitiesPerOperationType() throws Exception
+    {
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        Map<Integer,Class<? extends Operation>> operationTypeToClassMapping = new HashMap<>();
+        operationTypeToClassMapping.put( LdbcQuery1.TYPE, LdbcQuery1.class );
+        operationTypeToClassMapping.put( LdbcQuery2.TYPE, LdbcQuery2.class );
+        MetricsService metricsService = new DisruptorSbeMetricsService(
+                timeSource,
+                errorReporter,
+                TimeUnit.MILLISECONDS,
+                DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                new NullResultsLogWriter(),
+                operationTypeToClassMapping,
+                loggingServiceFactory
+        );
+        try
+        {
+            MetricsService.MetricsServiceWriter metricsServiceWriter = metricsService.getWriter();
+            metricsServiceWriter.submitOperationResult( LdbcQuery1.TYPE, 1, 2, TimeUnit.MILLISECONDS.toNanos( 1 ), 0,
+                    1, null, 0 );
+            metricsServiceWriter.submitOperationResult( LdbcQuery1.TYPE, 1, 2, TimeUnit.MILLISECONDS.toNanos( 1 ), 0,
+                    1, null, 20 );
+            metricsServiceWriter.submitOperationResult( LdbcQuery1.TYPE, 1, 2, TimeUnit.MILLISECONDS.toNanos( 1 ), 0,
+                    1, null, 100_000 );
+            // cardinality not known
+            metricsServiceWriter.submitOperationResult( LdbcQuery2.TYPE, 1, 2, TimeUnit.MILLISECONDS.toNanos( 1 ), 0,
+                    1, null, -1 );
+
+            Map<String,OperationMetricsSnapshot> metricsByName = new HashMap<>();
+            for ( OperationMetricsSnapshot operationMetrics : metricsServiceWriter.results().allMetrics() )
+            {
+                metricsByName.put( operationMetrics.name(), operationMetrics );
+            }
+            ContinuousMetricSnapshot query1Cardinalities =
+                    metricsByName.get( LdbcQuery1.class.getSimpleName() ).resultCardinalityMetric();
+            assertThat( query1Cardinalities.count(), equalTo( 3L ) );
+            assertThat( query1Cardinalities.min(), equalTo( 0L ) );
+            assertThat( query1Cardinalities.percentile50(), equalTo( 20L ) );
+            assertThat( query1Cardinalities.max() / 100, equalTo( 1_000L ) );
+            assertThat( query1Cardinalities.unit(), is( (TimeUnit) null ) );
+            assertThat( metricsByName.get( LdbcQuery2.class.getSimpleName() ).resultCardinalityMetric(),
+                    is( (ContinuousMetricSnapshot) null ) );
+            assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+        }
+        finally
+        {
+            metricsService.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldAggregateReportedPhaseDurationsPerOperationType() throws Exception
+    {
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        Map<Integer,Class<? extends Operation>> operationTypeToClassMapping = new HashMap<>();
+        operationTypeToClassMapping.put( LdbcQuery1.TYPE, LdbcQuery1.class );
+        operationTypeToClassMapping.put( LdbcQuery2.TYPE, LdbcQuery2.class );
+        MetricsService metricsService = new DisruptorSbeMetricsService(
+                timeSource,
+                errorReporter,
+                TimeUnit.MILLISECONDS,
+                DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                new NullResultsLogWriter(),
+                operationTypeToClassMapping,
+                loggingServiceFactory
+        );
+        try
+        {
+            MetricsService.MetricsServiceWriter metricsServiceWriter = metricsService.getWriter();
+            long[] phaseDurationsAsNano = new long[OperationPhase.COUNT];
+            Arrays.fill( phaseDurationsAsNano, -1 );
+            phaseDurationsAsNano[OperationPhase.CONNECTION_ACQUISITION.ordinal()] = TimeUnit.MILLISECONDS.toNanos( 2 );
+            phaseDurationsAsNano[OperationPhase.QUERY_EXECUTION.ordinal()] = TimeUnit.MILLISECONDS.toNanos( 5 );
+            metricsServiceWriter.submitOperationResult( LdbcQuery1.TYPE, 1, 2, TimeUnit.MILLISECONDS.toNanos( 8 ), 0,
+                    1, phaseDurationsAsNano, -1 );
+            phaseDurationsAsNano[OperationPhase.QUERY_EXECUTION.ordinal()] = TimeUnit.MILLISECONDS.toNanos( 7 );
+            metricsServiceWriter.submitOperationResult( LdbcQuery1.TYPE, 1, 2, TimeUnit.MILLISECONDS.toNanos( 10 ),
+                    0, 1, phaseDurationsAsNano, -1 );
+            // no phases reported
+            metricsServiceWriter.submitOperationResult( LdbcQuery2.TYPE, 1, 2, TimeUnit.MILLISECONDS.toNanos( 3 ), 0,
+                    1 );
+
+            Map<String,OperationMetricsSnapshot> metricsByName = new HashMap<>();
+            for ( OperationMetricsSnapshot operationMetrics : metricsServiceWriter.results().allMetrics() )
+            {
+                metricsByName.put( operationMetrics.name(), operationMetrics );
+            }
+            Map<String,ContinuousMetricSnapshot> query1Phases =
+                    metricsByName.get( LdbcQuery1.class.getSimpleName() ).phaseTimeMetrics();
+            assertThat( query1Phases.keySet(), equalTo( (Set<String>) Sets.newHashSet(
+                    OperationPhase.CONNECTION_ACQUISITION.metricName(),
+                    OperationPhase.QUERY_EXECUTION.metricName() ) ) );
+            ContinuousMetricSnapshot connectionTimes =
+                    query1Phases.get( OperationPhase.CONNECTION_ACQUISITION.metricName() );
+            assertThat( connectionTimes.count(), equalTo( 2L ) );
+            assertThat( connectionTimes.max(), equalTo( 2L ) );
+            ContinuousMetricSnapshot queryTimes = query1Phases.get( OperationPhase.QUERY_EXECUTION.metricName() );
+            assertThat( queryTimes.count(), equalTo( 2L ) );
+            assertThat( queryTimes.min(), equalTo( 5L ) );
+            assertThat( queryTimes.max(), equalTo( 7L ) );
+            assertThat( metricsByName.get( LdbcQuery2.class.getSimpleName() ).phaseTimeMetrics().isEmpty(),
+                    is( true ) );
+            assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+        }
+        finally
+        {
+            metricsService.shutdown();
+        }
+    }
+
     public void shouldReturnCorrectMeasurements( MetricsService.MetricsServiceWriter metricsServiceWriter )
             throws WorkloadException, MetricsCollectionException
     {
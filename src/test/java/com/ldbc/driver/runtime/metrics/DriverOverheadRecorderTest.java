@@ -0,0 +1,45 @@
+package com.ldbc.driver.runtime.metrics;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class DriverOverheadRecorderTest
+{
+    @Test
+    public void shouldOnlySnapshotRecordedStages()
+    {
+        DriverOverheadRecorder recorder = new DriverOverheadRecorder();
+        assertThat( recorder.snapshot().isEmpty(), equalTo( true ) );
+
+        recorder.record( DriverOverheadRecorder.Stage.SPINNER_WAIT, TimeUnit.MICROSECONDS.toNanos( 30 ) );
+        recorder.record( DriverOverheadRecorder.Stage.QUEUE_WAIT, TimeUnit.MICROSECONDS.toNanos( 10 ) );
+        recorder.record( DriverOverheadRecorder.Stage.QUEUE_WAIT, TimeUnit.MICROSECONDS.toNanos( 20 ) );
+        // clock skew between threads must not produce negative durations
+        recorder.record( DriverOverheadRecorder.Stage.QUEUE_WAIT, -1 );
+
+        List<ContinuousMetricSnapshot> snapshots = recorder.snapshot();
+        assertThat( snapshots.size(), equalTo( 2 ) );
+        ContinuousMetricSnapshot queueWait = snapshots.get( 0 );
+        assertThat( queueWait.name(), equalTo( DriverOverheadRecorder.Stage.QUEUE_WAIT.metricName() ) );
+        assertThat( queueWait.unit(), equalTo( TimeUnit.MICROSECONDS ) );
+        assertThat( queueWait.count(), equalTo( 3L ) );
+        assertThat( queueWait.min(), equalTo( 0L ) );
+        assertThat( queueWait.max(), equalTo( 20L ) );
+        assertThat( snapshots.get( 1 ).name(), equalTo( DriverOverheadRecorder.Stage.SPINNER_WAIT.metricName() ) );
+    }
+
+    @Test
+    public void shouldAccumulateAcrossSnapshots()
+    {
+        DriverOverheadRecorder recorder = new DriverOverheadRecorder();
+        recorder.record( DriverOverheadRecorder.Stage.METRICS_SUBMIT, TimeUnit.MICROSECONDS.toNanos( 1 ) );
+        assertThat( recorder.snapshot().get( 0 ).count(), equalTo( 1L ) );
+        recorder.record( DriverOverheadRecorder.Stage.METRICS_SUBMIT, TimeUnit.MICROSECONDS.toNanos( 2 ) );
+        assertThat( recorder.snapshot().get( 0 ).count(), equalTo( 2L ) );
+    }
+}
@@ -0,0 +1,164 @@
+package com.ldbc.driver.runtime.metrics;
+
+import com.ldbc.driver.csv.simple.SimpleCsvFileReader;
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.scheduling.Spinner;
+import com.ldbc.driver.temporal.SystemTimeSource;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery1;
+import org.HdrHistogram.EncodableHistogram;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogReader;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class DriverPauseMonitorTest
+{
+    private static final String QUERY1 = LdbcQuery1.class.getSimpleName();
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void shouldFlagResultsOverlappingDriverPauses() throws Exception
+    {
+        List<DriverPause> pauses = new ArrayList<>();
+        // the same pause, reported by both sources, is only counted once
+        pauses.add( new DriverPause( 1000, MILLISECONDS.toNanos( 50 ), DriverPause.Source.GC, "young" ) );
+        pauses.add( new DriverPause( 1010, MILLISECONDS.toNanos( 45 ), DriverPause.Source.HICCUP, null ) );
+        pauses.add( new DriverPause( 2000, MILLISECONDS.toNanos( 20 ), DriverPause.Source.HICCUP, null ) );
+
+        File resultsLog = temporaryFolder.newFile();
+        try ( ResultsLogWriter writer = new SimpleResultsLogWriter( resultsLog, MILLISECONDS ) )
+        {
+            // before all pauses
+            writer.write( QUERY1, 900, 900, MILLISECONDS.toNanos( 10 ), 0, 900 );
+            // overlaps [1000,1055) for 30 ms
+            writer.write( QUERY1, 1025, 1025, MILLISECONDS.toNanos( 100 ), 0, 1025 );
+            // between pauses
+            writer.write( QUERY1, 1500, 1500, MILLISECONDS.toNanos( 100 ), 0, 1500 );
+            // spans both pauses
+            writer.write( QUERY1, 990, 990, MILLISECONDS.toNanos( 1100 ), 0, 990 );
+            // within the second pause
+            writer.write( QUERY1, 2005, 2005, MILLISECONDS.toNanos( 1 ), 0, 2005 );
+        }
+
+        File resultsOverlappingPauses = temporaryFolder.newFile();
+        long count;
+        try ( ResultsLogReader reader = new SimpleResultsLogReader( resultsLog ) )
+        {
+            count = DriverPauseMonitor.writeResultsOverlappingPauses( reader, pauses, resultsOverlappingPauses );
+        }
+        assertThat( count, equalTo( 3L ) );
+
+        List<String[]> rows = readRows( resultsOverlappingPauses );
+        assertThat( rows.size(), equalTo( 4 ) );
+        assertThat( rows.get( 0 )[5], equalTo( DriverPauseMonitor.HEADER_PAUSE_OVERLAP ) );
+        assertRow( rows.get( 1 ), "2", "1025", "30" );
+        assertRow( rows.get( 2 ), "4", "990", "75" );
+        assertRow( rows.get( 3 ), "5", "2005", "1" );
+    }
+
+    @Test
+    public void shouldWritePauseTimeline() throws Exception
+    {
+        List<DriverPause> pauses = new ArrayList<>();
+        pauses.add( new DriverPause( 1000, TimeUnit.MICROSECONDS.toNanos( 1500 ), DriverPause.Source.HICCUP, null ) );
+        pauses.add( new DriverPause( 2000, MILLISECONDS.toNanos( 7 ), DriverPause.Source.GC, "G1 Young" ) );
+        File timeline = temporaryFolder.newFile();
+        DriverPauseMonitor.writeTimeline( pauses, timeline );
+
+        List<String[]> rows = readRows( timeline );
+        assertThat( rows.size(), equalTo( 3 ) );
+        assertThat( rows.get( 0 )[1], equalTo( DriverPauseMonitor.HEADER_DURATION ) );
+        assertThat( rows.get( 1 )[0], equalTo( "1000" ) );
+        assertThat( rows.get( 1 )[1], equalTo( "1500" ) );
+        assertThat( rows.get( 1 )[2], equalTo( "HICCUP" ) );
+        assertThat( rows.get( 2 )[2], equalTo( "GC" ) );
+        assertThat( rows.get( 2 )[3], equalTo( "G1 Young" ) );
+        // end times are rounded up
+        assertThat( pauses.get( 0 ).endTimeAsMilli(), equalTo( 1002L ) );
+        assertThat( pauses.get( 1 ).endTimeAsMilli(), equalTo( 2007L ) );
+    }
+
+    @Test
+    public void shouldRecordHiccupsAndGarbageCollections() throws Exception
+    {
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        File pauseLog = temporaryFolder.newFile();
+        DriverPauseMonitor pauseMonitor =
+                new DriverPauseMonitor( new SystemTimeSource(), errorReporter, 1, 10, pauseLog, 100 );
+        pauseMonitor.start();
+        Spinner.powerNap( 200 );
+        System.gc();
+        // notifications are delivered asynchronously
+        long timeoutAsMilli = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis( 10 );
+        while ( gcPauseCount( pauseMonitor.pauses() ) == 0 && System.currentTimeMillis() < timeoutAsMilli )
+        {
+            Spinner.powerNap( 10 );
+        }
+        List<DriverPause> pauses = pauseMonitor.shutdown();
+
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+        assertThat( gcPauseCount( pauses ) > 0, is( true ) );
+        assertThat( pauseMonitor.hiccupHistogram().getTotalCount() > 0, is( true ) );
+        assertThat( pauseMonitor.gcHistogram().getTotalCount() > 0, is( true ) );
+
+        boolean hiccupLogged = false;
+        boolean gcLogged = false;
+        HistogramLogReader reader = new HistogramLogReader( pauseLog );
+        EncodableHistogram histogram;
+        while ( null != (histogram = reader.nextIntervalHistogram()) )
+        {
+            hiccupLogged |= DriverPauseMonitor.HICCUP_TAG.equals( ((Histogram) histogram).getTag() );
+            gcLogged |= DriverPauseMonitor.GC_TAG.equals( ((Histogram) histogram).getTag() );
+        }
+        assertThat( hiccupLogged, is( true ) );
+        assertThat( gcLogged, is( true ) );
+    }
+
+    private long gcPauseCount( List<DriverPause> pauses )
+    {
+        long count = 0;
+        for ( DriverPause pause : pauses )
+        {
+            if ( DriverPause.Source.GC == pause.source() )
+            {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private void assertRow( String[] row, String resultsLogRow, String actualStartTime, String overlapAsMilli )
+    {
+        assertThat( row[0], equalTo( resultsLogRow ) );
+        assertThat( row[1], equalTo( QUERY1 ) );
+        assertThat( row[3], equalTo( actualStartTime ) );
+        assertThat( row[5], equalTo( overlapAsMilli ) );
+    }
+
+    private List<String[]> readRows( File csvFile ) throws Exception
+    {
+        List<String[]> rows = new ArrayList<>();
+        try ( SimpleCsvFileReader reader =
+                      new SimpleCsvFileReader( csvFile, SimpleCsvFileReader.DEFAULT_COLUMN_SEPARATOR_REGEX_STRING ) )
+        {
+            while ( reader.hasNext() )
+            {
+                rows.add( reader.next() );
+            }
+        }
+        return rows;
+    }
+}
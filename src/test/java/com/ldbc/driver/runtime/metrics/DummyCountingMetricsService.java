@@ -20,7 +20,9 @@ public class DummyCountingMetricsService implements MetricsService, MetricsServi
                                       long actualStartTimeAsMilli,
                                       long runDurationAsNano,
                                       int resultCode,
-                                      long originalStartTime) throws MetricsCollectionException {
+                                      long originalStartTime,
+                                      long[] phaseDurationsAsNano,
+                                      int resultCardinality) throws MetricsCollectionException {
         count++;
     }
 
@@ -0,0 +1,287 @@
+package com.ldbc.driver.runtime.metrics;
+
+import com.google.common.collect.Sets;
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationPhase;
+import com.ldbc.driver.WorkloadException;
+import com.ldbc.driver.control.Log4jLoggingServiceFactory;
+import com.ldbc.driver.control.LoggingServiceFactory;
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.temporal.SystemTimeSource;
+import com.ldbc.driver.temporal.TimeSource;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery1;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery2;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.db.DummyLdbcSnbInteractiveOperationInstances;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class HdrHistogramMetricsServiceTest
+{
+    private TimeSource timeSource = new SystemTimeSource();
+    private LoggingServiceFactory loggingServiceFactory = new Log4jLoggingServiceFactory( false );
+
+    @Test
+    public void shouldNotAcceptOperationResultsAfterShutdown() throws WorkloadException, MetricsCollectionException
+    {
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        ResultsLogWriter resultsLogWriter = new NullResultsLogWriter();
+        Map<Integer,Class<? extends Operation>> operationTypeToClassMapping = new HashMap<>();
+        operationTypeToClassMapping.put( LdbcQuery1.TYPE, LdbcQuery1.class );
+        operationTypeToClassMapping.put( LdbcQuery2.TYPE, LdbcQuery2.class );
+        MetricsService metricsService = new HdrHistogramMetricsService(
+                timeSource,
+                errorReporter,
+                TimeUnit.MILLISECONDS,
+                DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                resultsLogWriter,
+                operationTypeToClassMapping,
+                loggingServiceFactory
+        );
+        metricsService.shutdown();
+        boolean exceptionThrown = false;
+        try
+        {
+            shouldReturnCorrectMeasurements( metricsService.getWriter() );
+        }
+        catch ( MetricsCollectionException e )
+        {
+            exceptionThrown = true;
+        }
+        assertThat( exceptionThrown, is( true ) );
+    }
+
+    @Test
+    public void shouldReturnCorrectMeasurements() throws WorkloadException, MetricsCollectionException
+    {
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        ResultsLogWriter resultsLogWriter = new NullResultsLogWriter();
+        Map<Integer,Class<? extends Operation>> operationTypeToClassMapping = new HashMap<>();
+        operationTypeToClassMapping.put( LdbcQuery1.TYPE, LdbcQuery1.class );
+        operationTypeToClassMapping.put( LdbcQuery2.TYPE, LdbcQuery2.class );
+        MetricsService metricsService = new HdrHistogramMetricsService(
+                timeSource,
+                errorReporter,
+                TimeUnit.MILLISECONDS,
+                DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                resultsLogWriter,
+                operationTypeToClassMapping,
+                loggingServiceFactory
+        );
+        try
+        {
+            shouldReturnCorrectMeasurements( metricsService.getWriter() );
+        }
+        finally
+        {
+            System.out.println( errorReporter.toString() );
+            metricsService.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldMergeMeasurementsFromAllWriters() throws WorkloadException, MetricsCollectionException
+    {
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        ResultsLogWriter resultsLogWriter = new NullResultsLogWriter();
+        Map<Integer,Class<? extends Operation>> operationTypeToClassMapping = new HashMap<>();
+        operationTypeToClassMapping.put( LdbcQuery1.TYPE, LdbcQuery1.class );
+        operationTypeToClassMapping.put( LdbcQuery2.TYPE, LdbcQuery2.class );
+        MetricsService metricsService = new HdrHistogramMetricsService(
+                timeSource,
+                errorReporter,
+                TimeUnit.MILLISECONDS,
+                DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                resultsLogWriter,
+                operationTypeToClassMapping,
+                loggingServiceFactory
+        );
+        try
+        {
+            MetricsService.MetricsServiceWriter writer1 = metricsService.getWriter();
+            MetricsService.MetricsServiceWriter writer2 = metricsService.getWriter();
+
+            writer1.submitOperationResult( LdbcQuery1.TYPE, 1, 2, TimeUnit.MILLISECONDS.toNanos( 1 ), 0, 1 );
+            writer2.submitOperationResult( LdbcQuery1.TYPE, 1, 8, TimeUnit.MILLISECONDS.toNanos( 3 ), 0, 1 );
+            assertThat( writer1.results().totalOperationCount(), equalTo( 2l ) );
+
+            writer2.submitOperationResult( LdbcQuery2.TYPE, 1, 11, TimeUnit.MILLISECONDS.toNanos( 5 ), 0, 1 );
+            WorkloadResultsSnapshot results = writer1.results();
+            assertThat( results.totalOperationCount(), equalTo( 3l ) );
+            assertThat( results.startTimeAsMilli(), equalTo( 2l ) );
+            assertThat( results.latestFinishTimeAsMilli(), equalTo( 16l ) );
+        }
+        finally
+        {
+            System.out.println( errorReporter.toString() );
+            metricsService.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldAggregateResultCardinalitiesPerOperationType() throws Exception
+    {
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        Map<Integer,Class<? extends Operation>> operationTypeToClassMapping = new HashMap<>();
+        operationTypeToClassMapping.put( LdbcQuery1.TYPE, LdbcQuery1.class );
+        operationTypeToClassMapping.put( LdbcQuery2.TYPE, LdbcQuery2.class );
+        MetricsService metricsService = new HdrHistogramMetricsService(
+                timeSource,
+                errorReporter,
+                TimeUnit.MILLISECONDS,
+                DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                new NullResultsLogWriter(),
+                operationTypeToClassMapping,
+                loggingServiceFactory
+        );
+        try
+        {
+            MetricsService.MetricsServiceWriter metricsServiceWriter = metricsService.getWriter();
+            metricsServiceWriter.submitOperationResult( LdbcQuery1.TYPE, 1, 2, TimeUnit.MILLISECONDS.toNanos( 1 ), 0,
+                    1, null, 0 );
+            metricsServiceWriter.submitOperationResult( LdbcQuery1.TYPE, 1, 2, TimeUnit.MILLISECONDS.toNanos( 1 ), 0,
+                    1, null, 20 );
+            metricsServiceWriter.submitOperationResult( LdbcQuery1.TYPE, 1, 2, TimeUnit.MILLISECONDS.toNanos( 1 ), 0,
+                    1, null, 100_000 );
+            // cardinality not known
+            metricsServiceWriter.submitOperationResult( LdbcQuery2.TYPE, 1, 2, TimeUnit.MILLISECONDS.toNanos( 1 ), 0,
+                    1, null, -1 );
+
+            Map<String,OperationMetricsSnapshot> metricsByName = new HashMap<>();
+            for ( OperationMetricsSnapshot operationMetrics : metricsServiceWriter.results().allMetrics() )
+            {
+                metricsByName.put( operationMetrics.name(), operationMetrics );
+            }
+            ContinuousMetricSnapshot query1Cardinalities =
+                    metricsByName.get( LdbcQuery1.class.getSimpleName() ).resultCardinalityMetric();
+            assertThat( query1Cardinalities.count(), equalTo( 3L ) );
+            assertThat( query1Cardinalities.min(), equalTo( 0L ) );
+            assertThat( query1Cardinalities.percentile50(), equalTo( 20L ) );
+            assertThat( query1Cardinalities.max() / 100, equalTo( 1_000L ) );
+            assertThat( query1Cardinalities.unit(), is( (TimeUnit) null ) );
+            assertThat( metricsByName.get( LdbcQuery2.class.getSimpleName() ).resultCardinalityMetric(),
+                    is( (ContinuousMetricSnapshot) null ) );
+            assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+        }
+        finally
+        {
+            metricsService.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldAggregateReportedPhaseDurationsPerOperationType() throws Exception
+    {
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        Map<Integer,Class<? extends Operation>> operationTypeToClassMapping = new HashMap<>();
+        operationTypeToClassMapping.put( LdbcQuery1.TYPE, LdbcQuery1.class );
+        operationTypeToClassMapping.put( LdbcQuery2.TYPE, LdbcQuery2.class );
+        MetricsService metricsService = new HdrHistogramMetricsService(
+                timeSource,
+                errorReporter,
+                TimeUnit.MILLISECONDS,
+                DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                new NullResultsLogWriter(),
+                operationTypeToClassMapping,
+                loggingServiceFactory
+        );
+        try
+        {
+            MetricsService.MetricsServiceWriter metricsServiceWriter = metricsService.getWriter();
+            long[] phaseDurationsAsNano = new long[OperationPhase.COUNT];
+            Arrays.fill( phaseDurationsAsNano, -1 );
+            phaseDurationsAsNano[OperationPhase.CONNECTION_ACQUISITION.ordinal()] = TimeUnit.MILLISECONDS.toNanos( 2 );
+            phaseDurationsAsNano[OperationPhase.QUERY_EXECUTION.ordinal()] = TimeUnit.MILLISECONDS.toNanos( 5 );
+            metricsServiceWriter.submitOperationResult( LdbcQuery1.TYPE, 1, 2, TimeUnit.MILLISECONDS.toNanos( 8 ), 0,
+                    1, phaseDurationsAsNano, -1 );
+            phaseDurationsAsNano[OperationPhase.QUERY_EXECUTION.ordinal()] = TimeUnit.MILLISECONDS.toNanos( 7 );
+            metricsServiceWriter.submitOperationResult( LdbcQuery1.TYPE, 1, 2, TimeUnit.MILLISECONDS.toNanos( 10 ),
+                    0, 1, phaseDurationsAsNano, -1 );
+            // no phases reported
+            metricsServiceWriter.submitOperationResult( LdbcQuery2.TYPE, 1, 2, TimeUnit.MILLISECONDS.toNanos( 3 ), 0,
+                    1 );
+
+            Map<String,OperationMetricsSnapshot> metricsByName = new HashMap<>();
+            for ( OperationMetricsSnapshot operationMetrics : metricsServiceWriter.results().allMetrics() )
+            {
+                metricsByName.put( operationMetrics.name(), operationMetrics );
+            }
+            Map<String,ContinuousMetricSnapshot> query1Phases =
+                    metricsByName.get( LdbcQuery1.class.getSimpleName() ).phaseTimeMetrics();
+            assertThat( query1Phases.keySet(), equalTo( (Set<String>) Sets.newHashSet(
+                    OperationPhase.CONNECTION_ACQUISITION.metricName(),
+                    OperationPhase.QUERY_EXECUTION.metricName() ) ) );
+            ContinuousMetricSnapshot connectionTimes =
+                    query1Phases.get( OperationPhase.CONNECTION_ACQUISITION.metricName() );
+            assertThat( connectionTimes.count(), equalTo( 2L ) );
+            assertThat( connectionTimes.max(), equalTo( 2L ) );
+            ContinuousMetricSnapshot queryTimes = query1Phases.get( OperationPhase.QUERY_EXECUTION.metricName() );
+            assertThat( queryTimes.count(), equalTo( 2L ) );
+            assertThat( queryTimes.min(), equalTo( 5L ) );
+            assertThat( queryTimes.max(), equalTo( 7L ) );
+            assertThat( metricsByName.get( LdbcQuery2.class.getSimpleName() ).phaseTimeMetrics().isEmpty(),
+                    is( true ) );
+            assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+        }
+        finally
+        {
+            metricsService.shutdown();
+        }
+    }
+
+    public void shouldReturnCorrectMeasurements( MetricsService.MetricsServiceWriter metricsServiceWriter )
+            throws WorkloadException, MetricsCollectionException
+    {
+        assertThat( metricsServiceWriter.results().startTimeAsMilli(), equalTo( -1l ) );
+        assertThat( metricsServiceWriter.results().latestFinishTimeAsMilli(), is( -1l ) );
+
+        // scheduled: 1, actual: 2, duration: 1
+        Operation operation1 = DummyLdbcSnbInteractiveOperationInstances.read1();
+        operation1.setScheduledStartTimeAsMilli( 1l );
+        operation1.setTimeStamp( 1l );
+        int operation1ResultCode = 1;
+        long operation1ActualStartTime = 2;
+        long operation1RunDuration = TimeUnit.MILLISECONDS.toNanos( 1 );
+
+        metricsServiceWriter.submitOperationResult( operation1.type(), operation1.scheduledStartTimeAsMilli(),
+                operation1ActualStartTime, operation1RunDuration, operation1ResultCode, operation1.timeStamp() );
+
+        assertThat( metricsServiceWriter.results().startTimeAsMilli(), equalTo( 2l ) );
+        assertThat( metricsServiceWriter.results().latestFinishTimeAsMilli(), equalTo( 3l ) );
+
+        Operation operation2 = DummyLdbcSnbInteractiveOperationInstances.read1();
+        operation2.setScheduledStartTimeAsMilli( 1l );
+        operation2.setTimeStamp( 1l );
+        int operation2ResultCode = 2;
+        long operation2ActualStartTime = 8;
+        long operation2RunDuration = TimeUnit.MILLISECONDS.toNanos( 3 );
+
+        metricsServiceWriter.submitOperationResult( operation2.type(), operation2.scheduledStartTimeAsMilli(),
+                operation2ActualStartTime, operation2RunDuration, operation2ResultCode, operation2.timeStamp() );
+
+        assertThat( metricsServiceWriter.results().startTimeAsMilli(), equalTo( 2l ) );
+        assertThat( metricsServiceWriter.results().latestFinishTimeAsMilli(), equalTo( 11l ) );
+
+        Operation operation3 = DummyLdbcSnbInteractiveOperationInstances.read2();
+        operation3.setScheduledStartTimeAsMilli( 1l );
+        operation3.setTimeStamp( 1l );
+        int operation3ResultCode = 2;
+        long operation3ActualStartTime = 11;
+        long operation3RunDuration = TimeUnit.MILLISECONDS.toNanos( 5 );
+
+        metricsServiceWriter.submitOperationResult( operation3.type(), operation3.scheduledStartTimeAsMilli(),
+                operation3ActualStartTime, operation3RunDuration, operation3ResultCode, operation3.timeStamp() );
+
+        WorkloadResultsSnapshot results = metricsServiceWriter.results();
+        assertThat( results.startTimeAsMilli(), equalTo( 2l ) );
+        assertThat( results.latestFinishTimeAsMilli(), equalTo( 16l ) );
+    }
+}
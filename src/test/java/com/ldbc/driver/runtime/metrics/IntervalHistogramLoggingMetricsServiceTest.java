@@ -0,0 +1,92 @@
+package com.ldbc.driver.runtime.metrics;
+
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.control.Log4jLoggingServiceFactory;
+import com.ldbc.driver.control.LoggingServiceFactory;
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.temporal.SystemTimeSource;
+import com.ldbc.driver.temporal.TimeSource;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery1;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery2;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogReader;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class IntervalHistogramLoggingMetricsServiceTest
+{
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private TimeSource timeSource = new SystemTimeSource();
+    private LoggingServiceFactory loggingServiceFactory = new Log4jLoggingServiceFactory( false );
+
+    @Test
+    public void shouldLogIntervalHistogramsPerOperationTypeAndDelegateResults() throws Exception
+    {
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        Map<Integer,Class<? extends Operation>> operationTypeToClassMapping = new HashMap<>();
+        operationTypeToClassMapping.put( LdbcQuery1.TYPE, LdbcQuery1.class );
+        operationTypeToClassMapping.put( LdbcQuery2.TYPE, LdbcQuery2.class );
+        File intervalLog = temporaryFolder.newFile();
+        MetricsService metricsService = new IntervalHistogramLoggingMetricsService(
+                new DisruptorSbeMetricsService(
+                        timeSource,
+                        errorReporter,
+                        TimeUnit.MILLISECONDS,
+                        DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                        new NullResultsLogWriter(),
+                        operationTypeToClassMapping,
+                        loggingServiceFactory
+                ),
+                errorReporter,
+                TimeUnit.MILLISECONDS,
+                DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                operationTypeToClassMapping,
+                intervalLog,
+                20
+        );
+        MetricsService.MetricsServiceWriter writer = metricsService.getWriter();
+        for ( int i = 0; i < 10; i++ )
+        {
+            writer.submitOperationResult( LdbcQuery1.TYPE, 1, 2, TimeUnit.MILLISECONDS.toNanos( 1 ), 0, 1 );
+            writer.submitOperationResult( LdbcQuery2.TYPE, 1, 2, TimeUnit.MILLISECONDS.toNanos( 7 ), 0, 1 );
+            Thread.sleep( 5 );
+        }
+        writer.submitOperationResult( LdbcQuery2.TYPE, 1, 2, TimeUnit.MILLISECONDS.toNanos( 9 ), 0, 1 );
+        assertThat( writer.results().totalOperationCount(), equalTo( 21L ) );
+        metricsService.shutdown();
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+
+        long query1Count = 0;
+        long query2Count = 0;
+        long query2Max = 0;
+        HistogramLogReader reader = new HistogramLogReader( intervalLog );
+        Histogram intervalHistogram;
+        while ( null != (intervalHistogram = (Histogram) reader.nextIntervalHistogram()) )
+        {
+            if ( LdbcQuery1.class.getSimpleName().equals( intervalHistogram.getTag() ) )
+            {
+                query1Count += intervalHistogram.getTotalCount();
+            }
+            else if ( LdbcQuery2.class.getSimpleName().equals( intervalHistogram.getTag() ) )
+            {
+                query2Count += intervalHistogram.getTotalCount();
+                query2Max = Math.max( query2Max, intervalHistogram.getMaxValue() );
+            }
+        }
+        assertThat( query1Count, equalTo( 10L ) );
+        assertThat( query2Count, equalTo( 11L ) );
+        assertThat( query2Max, equalTo( 9L ) );
+    }
+}
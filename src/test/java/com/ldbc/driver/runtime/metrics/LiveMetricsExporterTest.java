@@ -0,0 +1,140 @@
+package com.ldbc.driver.runtime.metrics;
+
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.control.Log4jLoggingServiceFactory;
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.temporal.SystemTimeSource;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery1;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class LiveMetricsExporterTest
+{
+    @Test
+    public void shouldExposeLatestSnapshotOverJmxAndHttp() throws Exception
+    {
+        int port;
+        try ( ServerSocket serverSocket = new ServerSocket( 0 ) )
+        {
+            port = serverSocket.getLocalPort();
+        }
+        MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        ObjectName driverName = new ObjectName( LiveMetricsExporter.JMX_DOMAIN + ":type=Driver" );
+        ObjectName query1Name = new ObjectName( LiveMetricsExporter.JMX_DOMAIN + ":type=Operation,name=" +
+                                                ObjectName.quote( LdbcQuery1.class.getSimpleName() ) );
+
+        try ( LiveMetricsExporter exporter = new LiveMetricsExporter( true, port ) )
+        {
+            assertThat( exporter.httpPort(), equalTo( port ) );
+            // not exposed on other network interfaces unless a host is configured
+            assertThat( exporter.httpAddress().getAddress().isLoopbackAddress(), is( true ) );
+            assertThat( (Long) mBeanServer.getAttribute( driverName, "OperationCount" ), equalTo( 0L ) );
+            assertThat( mBeanServer.isRegistered( query1Name ), is( false ) );
+
+            exporter.publish( snapshot() );
+
+            assertThat( (Long) mBeanServer.getAttribute( driverName, "OperationCount" ), equalTo( 3L ) );
+            assertThat( (Long) mBeanServer.getAttribute( driverName, "ErrorCount" ), equalTo( 1L ) );
+            assertThat( (Long) mBeanServer.getAttribute( driverName, "MetricsBackPressureCount" ),
+                    equalTo( exporter.snapshot().metricsBackPressureCount() ) );
+            assertThat( (Long) mBeanServer.getAttribute( query1Name, "Count" ), equalTo( 3L ) );
+            assertThat( (Long) mBeanServer.getAttribute( query1Name, "Max" ), equalTo( 7L ) );
+
+            String text = scrape( port );
+            assertThat( text, equalTo( LiveMetricsExporter.toPrometheusText( exporter.snapshot() ) ) );
+            assertThat( text, containsString( "ldbc_driver_operations_total 3\n" ) );
+            assertThat( text, containsString( "ldbc_driver_errors_total 1\n" ) );
+            assertThat( text, containsString(
+                    "ldbc_driver_metrics_back_pressure_total " + exporter.snapshot().metricsBackPressureCount() ) );
+            assertThat( text, containsString( "ldbc_driver_metrics_back_pressure_wait_milliseconds_total " +
+                                              exporter.snapshot().metricsBackPressureWaitTimeAsMilli() ) );
+            assertThat( text, containsString( "ldbc_driver_executor_uncompleted_handlers{executor=\"asynchronous\"} 2\n" ) );
+            assertThat( text, containsString(
+                    "ldbc_driver_operation_runtime_milliseconds{operation=\"LdbcQuery1\",quantile=\"0.999\"} 7\n" ) );
+            assertThat( text, containsString(
+                    "ldbc_driver_operation_runtime_milliseconds_count{operation=\"LdbcQuery1\"} 3\n" ) );
+        }
+
+        assertThat( mBeanServer.isRegistered( driverName ), is( false ) );
+        assertThat( mBeanServer.isRegistered( query1Name ), is( false ) );
+        // port should have been released
+        try ( ServerSocket serverSocket = new ServerSocket( port ) )
+        {
+            assertThat( serverSocket.getLocalPort(), equalTo( port ) );
+        }
+    }
+
+    private LiveMetricsSnapshot snapshot() throws Exception
+    {
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        Map<Integer,Class<? extends Operation>> operationTypeToClassMapping = new HashMap<>();
+        operationTypeToClassMapping.put( LdbcQuery1.TYPE, LdbcQuery1.class );
+        MetricsService metricsService = new DisruptorSbeMetricsService(
+                new SystemTimeSource(),
+                errorReporter,
+                TimeUnit.MILLISECONDS,
+                DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                new NullResultsLogWriter(),
+                operationTypeToClassMapping,
+                new Log4jLoggingServiceFactory( false )
+        );
+        MetricsService.MetricsServiceWriter writer = metricsService.getWriter();
+        writer.submitOperationResult( LdbcQuery1.TYPE, 1, 2, TimeUnit.MILLISECONDS.toNanos( 1 ), 0, 1 );
+        writer.submitOperationResult( LdbcQuery1.TYPE, 1, 3, TimeUnit.MILLISECONDS.toNanos( 3 ), 0, 1 );
+        writer.submitOperationResult( LdbcQuery1.TYPE, 1, 4, TimeUnit.MILLISECONDS.toNanos( 7 ), 0, 1 );
+        WorkloadResultsSnapshot results = writer.results();
+        metricsService.shutdown();
+        Map<String,Long> uncompletedOperationHandlerCounts = new HashMap<>();
+        uncompletedOperationHandlerCounts.put( "asynchronous", 2L );
+        return new LiveMetricsSnapshot(
+                System.currentTimeMillis(),
+                10,
+                results.totalOperationCount(),
+                300.0,
+                4,
+                1,
+                uncompletedOperationHandlerCounts,
+                results );
+    }
+
+    private String scrape( int port ) throws Exception
+    {
+        String host = InetAddress.getLoopbackAddress().getHostAddress();
+        HttpURLConnection connection = (HttpURLConnection) new URL(
+                "http://" + host + ":" + port + LiveMetricsExporter.HTTP_PATH ).openConnection();
+        try ( InputStream inputStream = connection.getInputStream() )
+        {
+            assertThat( connection.getResponseCode(), equalTo( 200 ) );
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            int read;
+            while ( -1 != (read = inputStream.read( buffer )) )
+            {
+                bytes.write( buffer, 0, read );
+            }
+            return new String( bytes.toByteArray(), StandardCharsets.UTF_8 );
+        }
+        finally
+        {
+            connection.disconnect();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.ldbc.driver.runtime.metrics;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.temporal.SystemTimeSource;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery1;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcShortQuery1PersonProfile;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class OperationTracerTest
+{
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void shouldTraceSlowOperationsAndTheirChildren() throws Exception
+    {
+        File traceFile = temporaryFolder.newFile();
+        // sampling disabled, only operations executing for at least 10 ms are traced
+        OperationTracer tracer = new OperationTracer( traceFile, new SystemTimeSource(), 0, 10 );
+        Thread thread = Thread.currentThread();
+
+        long fastTraceId = traceOperation( tracer, new LdbcQuery1( 1, "a", 1 ), OperationTracer.NO_TRACE, thread,
+                MILLISECONDS.toNanos( 9 ), -1 );
+        assertThat( fastTraceId, equalTo( OperationTracer.NO_TRACE ) );
+
+        long slowTraceId = traceOperation( tracer, new LdbcQuery1( 2, "b", 1 ), OperationTracer.NO_TRACE, thread,
+                MILLISECONDS.toNanos( 10 ), 5 );
+        assertThat( slowTraceId, equalTo( 0L ) );
+
+        // children of traced operations are traced, however fast
+        long childTraceId = traceOperation( tracer, new LdbcShortQuery1PersonProfile( 2 ), slowTraceId, thread,
+                MILLISECONDS.toNanos( 1 ), -1 );
+        assertThat( childTraceId, equalTo( 1L ) );
+
+        assertThat( tracer.shutdown(), equalTo( 2L ) );
+        // nothing is traced after shutdown
+        assertThat( traceOperation( tracer, new LdbcQuery1( 3, "c", 1 ), OperationTracer.NO_TRACE, thread,
+                MILLISECONDS.toNanos( 100 ), -1 ), equalTo( OperationTracer.NO_TRACE ) );
+
+        JsonNode trace = new ObjectMapper().readTree( traceFile );
+        assertThat( trace.get( "otherData" ).get( "threshold_ms" ).asLong(), equalTo( 10L ) );
+        List<JsonNode> operationSlices = new ArrayList<>();
+        List<String> stageNames = new ArrayList<>();
+        int threadNames = 0;
+        for ( JsonNode event : trace.get( "traceEvents" ) )
+        {
+            assertThat( event.get( "tid" ).asLong(), equalTo( thread.getId() ) );
+            if ( "M".equals( event.get( "ph" ).asText() ) )
+            {
+                threadNames++;
+            }
+            else if ( "X".equals( event.get( "ph" ).asText() ) && event.has( "args" ) )
+            {
+                operationSlices.add( event );
+            }
+            else if ( "X".equals( event.get( "ph" ).asText() ) )
+            {
+                stageNames.add( event.get( "name" ).asText() );
+            }
+        }
+        // dispatch and execution happened on the same thread, which is only named once
+        assertThat( threadNames, equalTo( 1 ) );
+        assertThat( operationSlices.size(), equalTo( 2 ) );
+        assertThat( operationSlices.get( 0 ).get( "name" ).asText(), equalTo( LdbcQuery1.class.getSimpleName() ) );
+        assertThat( operationSlices.get( 0 ).get( "args" ).has( "parent_trace_id" ), equalTo( false ) );
+        assertThat( operationSlices.get( 1 ).get( "name" ).asText(),
+                equalTo( LdbcShortQuery1PersonProfile.class.getSimpleName() ) );
+        assertThat( operationSlices.get( 1 ).get( "args" ).get( "parent_trace_id" ).asLong(), equalTo( 0L ) );
+        // only the first operation had a completion time dependency
+        assertThat( stageNames.toString(), stageNames.size(), equalTo( 4 + 3 ) );
+        assertThat( stageNames.get( 0 ), equalTo( "ct_wait" ) );
+        assertThat( stageNames.get( 4 ), equalTo( "spinner_wait" ) );
+    }
+
+    @Test
+    public void shouldTraceSampledOperations() throws Exception
+    {
+        File traceFile = temporaryFolder.newFile();
+        OperationTracer tracer = new OperationTracer( traceFile, new SystemTimeSource(), 1, 0 );
+        for ( int i = 0; i < 10; i++ )
+        {
+            long traceId = traceOperation( tracer, new LdbcQuery1( i, "a", 1 ), OperationTracer.NO_TRACE,
+                    Thread.currentThread(), 0, -1 );
+            assertThat( traceId, equalTo( (long) i ) );
+        }
+        assertThat( tracer.shutdown(), equalTo( 10L ) );
+        assertThat( new ObjectMapper().readTree( traceFile ).get( "traceEvents" ).size() > 0, equalTo( true ) );
+    }
+
+    // dispatched at 100 ms, with 1 ms between stages, ctWaitAsMilli < 0 for no completion time dependency
+    private long traceOperation( OperationTracer tracer, Operation operation, long parentTraceId, Thread thread,
+            long executionDurationAsNano, long ctWaitAsMilli ) throws MetricsCollectionException
+    {
+        long dispatchTimeAsNano = MILLISECONDS.toNanos( 100 );
+        long dequeueTimeAsNano = dispatchTimeAsNano + MILLISECONDS.toNanos( 1 );
+        long checksPassedTimeAsNano =
+                (ctWaitAsMilli < 0) ? -1 : dequeueTimeAsNano + MILLISECONDS.toNanos( ctWaitAsMilli );
+        long spinnerExitTimeAsNano = Math.max( dequeueTimeAsNano, checksPassedTimeAsNano ) + MILLISECONDS.toNanos( 1 );
+        long startTimeAsNano = spinnerExitTimeAsNano;
+        long endTimeAsNano = startTimeAsNano + executionDurationAsNano;
+        long completedTimeAsNano = endTimeAsNano + MILLISECONDS.toNanos( 1 );
+        return tracer.trace( operation, parentTraceId, thread, dispatchTimeAsNano, dequeueTimeAsNano,
+                checksPassedTimeAsNano, spinnerExitTimeAsNano, startTimeAsNano, endTimeAsNano, completedTimeAsNano );
+    }
+}
@@ -112,4 +112,178 @@ public class ResultsLogReaderWriterTest
             assertFalse( reader.next() );
         }
     }
+
+    @Test
+    public void shouldWriteAndReadSameValuesWithBinaryLog() throws Exception
+    {
+        File resultsLog = temporaryFolder.newFile();
+        TimeUnit unit = MILLISECONDS;
+        // tiny buffer, to force several flushes
+        int bufferSizeInBytes = BinaryResultsLogWriter.RECORD_SIZE_IN_BYTES * 3;
+        int count = 100;
+
+        try ( ResultsLogWriter writer =
+                      new BinaryResultsLogWriter( resultsLog, unit, new String[]{"a", null, "b"}, bufferSizeInBytes ) )
+        {
+            writer.write(
+                    "a",
+                    Long.MAX_VALUE,
+                    Long.MAX_VALUE,
+                    Long.MAX_VALUE,
+                    Integer.MAX_VALUE,
+                    Long.MAX_VALUE );
+            for ( int i = 0; i < count; i++ )
+            {
+                writer.write( "b", i, i + 1, i + 2, i + 3, i + 4 );
+            }
+        }
+
+        try ( BinaryResultsLogReader reader = new BinaryResultsLogReader( resultsLog ) )
+        {
+            assertThat( reader.unit(), equalTo( unit ) );
+            assertThat( reader.recordCount(), equalTo( count + 1L ) );
+
+            assertTrue( reader.next() );
+            assertThat( reader.getOperationName(), equalTo( "a" ) );
+            assertThat( reader.getScheduledStartTimeAsMilli(), equalTo( Long.MAX_VALUE ) );
+            assertThat( reader.getActualStartTimeAsMilli(), equalTo( Long.MAX_VALUE ) );
+            assertThat( reader.getRunDurationAsNano(), equalTo( Long.MAX_VALUE ) );
+            assertThat( reader.getResultCode(), equalTo( Integer.MAX_VALUE ) );
+            assertThat( reader.getOriginalStartTime(), equalTo( Long.MAX_VALUE ) );
+
+            for ( int i = 0; i < count; i++ )
+            {
+                assertTrue( reader.next() );
+                assertThat( reader.getOperationType(), equalTo( 2 ) );
+                assertThat( reader.getOperationName(), equalTo( "b" ) );
+                assertThat( reader.getScheduledStartTimeAsMilli(), equalTo( (long) i ) );
+                assertThat( reader.getActualStartTimeAsMilli(), equalTo( i + 1L ) );
+                assertThat( reader.getRunDurationAsNano(), equalTo( i + 2L ) );
+                assertThat( reader.getResultCode(), equalTo( i + 3 ) );
+                assertThat( reader.getOriginalStartTime(), equalTo( i + 4L ) );
+            }
+
+            assertFalse( reader.next() );
+        }
+    }
+
+    @Test
+    public void shouldConvertBinaryLogToCsvLog() throws Exception
+    {
+        File binaryResultsLog = temporaryFolder.newFile();
+        File csvResultsLog = temporaryFolder.newFile();
+        TimeUnit unit = MILLISECONDS;
+
+        try ( ResultsLogWriter writer = new BinaryResultsLogWriter( binaryResultsLog, unit, new String[]{"a", "b"} ) )
+        {
+            writer.write( "a", 1, 2, MILLISECONDS.toNanos( 3 ), 4, 5 );
+            writer.write( "b", 0, 0, 0, Integer.MIN_VALUE, 0 );
+        }
+
+        assertThat( ResultsLogCsvConverter.binaryToCsv( binaryResultsLog, csvResultsLog ), equalTo( 2L ) );
+
+        try ( ResultsLogReader reader = new SimpleResultsLogReader( csvResultsLog ) )
+        {
+            assertThat( reader.unit(), equalTo( unit ) );
+
+            assertTrue( reader.next() );
+            assertThat( reader.getOperationName(), equalTo( "a" ) );
+            assertThat( reader.getScheduledStartTimeAsMilli(), equalTo( 1L ) );
+            assertThat( reader.getActualStartTimeAsMilli(), equalTo( 2L ) );
+            assertThat( reader.getRunDurationAsNano(), equalTo( MILLISECONDS.toNanos( 3 ) ) );
+            assertThat( reader.getResultCode(), equalTo( 4 ) );
+            assertThat( reader.getOriginalStartTime(), equalTo( 5L ) );
+
+            assertTrue( reader.next() );
+            assertThat( reader.getOperationName(), equalTo( "b" ) );
+            assertThat( reader.getResultCode(), equalTo( Integer.MIN_VALUE ) );
+
+            assertFalse( reader.next() );
+        }
+    }
+
+    @Test
+    public void shouldWriteAndReadResultCardinalityWhenRequested() throws Exception
+    {
+        File withoutCardinality = temporaryFolder.newFile();
+        File withCardinality = temporaryFolder.newFile();
+
+        try ( ResultsLogWriter writer = new SimpleResultsLogWriter( withoutCardinality, MILLISECONDS ) )
+        {
+            writer.write( "a", 1, 2, MILLISECONDS.toNanos( 3 ), 4, 5, 6 );
+        }
+        try ( ResultsLogWriter writer = new SimpleResultsLogWriter( withCardinality, MILLISECONDS, true ) )
+        {
+            writer.write( "a", 1, 2, MILLISECONDS.toNanos( 3 ), 4, 5, 6 );
+            writer.write( "b", 1, 2, MILLISECONDS.toNanos( 3 ), 4, 5 );
+        }
+
+        try ( ResultsLogReader reader = new SimpleResultsLogReader( withoutCardinality ) )
+        {
+            assertFalse( reader.hasResultCardinality() );
+            assertTrue( reader.next() );
+            assertThat( reader.getOriginalStartTime(), equalTo( 5L ) );
+            assertThat( reader.getResultCardinality(), equalTo( -1 ) );
+            assertFalse( reader.next() );
+        }
+        try ( ResultsLogReader reader = new SimpleResultsLogReader( withCardinality ) )
+        {
+            assertTrue( reader.hasResultCardinality() );
+            assertTrue( reader.next() );
+            assertThat( reader.getOperationName(), equalTo( "a" ) );
+            assertThat( reader.getOriginalStartTime(), equalTo( 5L ) );
+            assertThat( reader.getResultCardinality(), equalTo( 6 ) );
+            assertTrue( reader.next() );
+            assertThat( reader.getOperationName(), equalTo( "b" ) );
+            assertThat( reader.getResultCardinality(), equalTo( -1 ) );
+            assertFalse( reader.next() );
+        }
+    }
+
+    @Test
+    public void shouldWriteReadAndConvertResultCardinalityWithBinaryLog() throws Exception
+    {
+        File binaryResultsLog = temporaryFolder.newFile();
+        File csvResultsLog = temporaryFolder.newFile();
+        TimeUnit unit = MILLISECONDS;
+        // tiny buffer, to force several flushes
+        int bufferSizeInBytes = BinaryResultsLogWriter.RECORD_WITH_RESULT_CARDINALITY_SIZE_IN_BYTES * 3;
+        int count = 100;
+
+        try ( ResultsLogWriter writer = new BinaryResultsLogWriter(
+                binaryResultsLog, unit, new String[]{"a", "b"}, bufferSizeInBytes, true ) )
+        {
+            for ( int i = 0; i < count; i++ )
+            {
+                writer.write( "b", i, i + 1, i + 2, i + 3, i + 4, i );
+            }
+        }
+
+        try ( BinaryResultsLogReader reader = new BinaryResultsLogReader( binaryResultsLog ) )
+        {
+            assertTrue( reader.hasResultCardinality() );
+            assertThat( reader.recordCount(), equalTo( (long) count ) );
+            for ( int i = 0; i < count; i++ )
+            {
+                assertTrue( reader.next() );
+                assertThat( reader.getOperationName(), equalTo( "b" ) );
+                assertThat( reader.getOriginalStartTime(), equalTo( i + 4L ) );
+                assertThat( reader.getResultCardinality(), equalTo( i ) );
+            }
+            assertFalse( reader.next() );
+        }
+
+        assertThat( ResultsLogCsvConverter.binaryToCsv( binaryResultsLog, csvResultsLog ), equalTo( (long) count ) );
+
+        try ( ResultsLogReader reader = new SimpleResultsLogReader( csvResultsLog ) )
+        {
+            assertTrue( reader.hasResultCardinality() );
+            for ( int i = 0; i < count; i++ )
+            {
+                assertTrue( reader.next() );
+                assertThat( reader.getResultCardinality(), equalTo( i ) );
+            }
+            assertFalse( reader.next() );
+        }
+    }
 }
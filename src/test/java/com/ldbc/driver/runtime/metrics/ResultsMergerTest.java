@@ -0,0 +1,178 @@
+package com.ldbc.driver.runtime.metrics;
+
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.control.Log4jLoggingServiceFactory;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery1;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery2;
+import org.HdrHistogram.EncodableHistogram;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogReader;
+import org.HdrHistogram.HistogramLogWriter;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.PrintStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public class ResultsMergerTest
+{
+    private static final String QUERY1 = LdbcQuery1.class.getSimpleName();
+    private static final String QUERY2 = LdbcQuery2.class.getSimpleName();
+    // interval log timestamps are only treated as relative to the start time if that is a plausible epoch time
+    private static final long START_TIME_AS_MILLI = 1_500_000_000_000L;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void shouldMergeHistogramsRatherThanPercentilesOfResultsLogs() throws Exception
+    {
+        // fast process: 90 x 1ms, slow process: 10 x 100ms
+        File fastResultsLog = temporaryFolder.newFile();
+        try ( ResultsLogWriter writer = new SimpleResultsLogWriter( fastResultsLog, MILLISECONDS, true ) )
+        {
+            for ( int i = 0; i < 90; i++ )
+            {
+                writer.write( QUERY1, 1000 + i, 1000 + i, MILLISECONDS.toNanos( 1 ), 0, 1000 + i, 5 );
+            }
+        }
+        File slowResultsLog = temporaryFolder.newFile();
+        try ( ResultsLogWriter writer = new SimpleResultsLogWriter( slowResultsLog, MILLISECONDS ) )
+        {
+            for ( int i = 0; i < 10; i++ )
+            {
+                writer.write( QUERY1, 2500 + i, 2500 + i, MILLISECONDS.toNanos( 100 ), 0, 2500 + i );
+            }
+        }
+
+        ResultsMerger resultsMerger = resultsMerger( 1000 );
+        try ( ResultsLogReader reader = new SimpleResultsLogReader( fastResultsLog ) )
+        {
+            assertThat( resultsMerger.addResultsLog( reader ), equalTo( 90L ) );
+        }
+        try ( ResultsLogReader reader = new SimpleResultsLogReader( slowResultsLog ) )
+        {
+            assertThat( resultsMerger.addResultsLog( reader ), equalTo( 10L ) );
+        }
+
+        WorkloadResultsSnapshot results = resultsMerger.results();
+        assertThat( results.totalOperationCount(), equalTo( 100L ) );
+        assertThat( results.startTimeAsMilli(), equalTo( 1000L ) );
+        assertThat( results.latestFinishTimeAsMilli(), equalTo( 2609L ) );
+        OperationMetricsSnapshot query1 = metricsFor( results, QUERY1 );
+        assertThat( query1.runTimeMetric().count(), equalTo( 100L ) );
+        assertThat( query1.runTimeMetric().percentile50(), equalTo( 1L ) );
+        assertThat( query1.runTimeMetric().percentile95(), equalTo( 100L ) );
+        assertThat( query1.resultCardinalityMetric().count(), equalTo( 90L ) );
+        assertThat( results.allMetrics().size(), equalTo( 1 ) );
+
+        // windows [1000,2000) and [2000,3000)
+        assertThat( resultsMerger.windowCount(), equalTo( 2 ) );
+        File intervalLog = temporaryFolder.newFile();
+        resultsMerger.writeIntervalLog( intervalLog );
+        HistogramLogReader reader = new HistogramLogReader( intervalLog );
+        Histogram first = (Histogram) reader.nextIntervalHistogram();
+        assertThat( first.getTag(), equalTo( QUERY1 ) );
+        assertThat( first.getStartTimeStamp(), equalTo( 1000L ) );
+        assertThat( first.getTotalCount(), equalTo( 90L ) );
+        Histogram second = (Histogram) reader.nextIntervalHistogram();
+        assertThat( second.getStartTimeStamp(), equalTo( 2000L ) );
+        assertThat( second.getTotalCount(), equalTo( 10L ) );
+        assertThat( second.getMaxValue(), equalTo( 100L ) );
+        assertThat( reader.nextIntervalHistogram(), is( (EncodableHistogram) null ) );
+    }
+
+    @Test
+    public void shouldMergeIntervalLogsWithResultsLogs() throws Exception
+    {
+        File intervalLog = temporaryFolder.newFile();
+        try ( PrintStream intervalLogStream = new PrintStream( new FileOutputStream( intervalLog ), false, "UTF-8" ) )
+        {
+            long startTimeAsMilli = START_TIME_AS_MILLI;
+            HistogramLogWriter histogramLogWriter = new HistogramLogWriter( intervalLogStream );
+            histogramLogWriter.outputLogFormatVersion();
+            histogramLogWriter.outputStartTime( startTimeAsMilli );
+            histogramLogWriter.setBaseTime( startTimeAsMilli );
+            histogramLogWriter.outputLegend();
+            Histogram query2 = new Histogram( 3 );
+            query2.recordValueWithCount( 7, 4 );
+            query2.setStartTimeStamp( startTimeAsMilli );
+            query2.setEndTimeStamp( startTimeAsMilli + 500 );
+            query2.setTag( QUERY2 );
+            histogramLogWriter.outputIntervalHistogram( 0, 0.5, query2, 1.0 );
+        }
+        File resultsLog = temporaryFolder.newFile();
+        try ( ResultsLogWriter writer = new SimpleResultsLogWriter( resultsLog, MILLISECONDS ) )
+        {
+            writer.write( QUERY2, START_TIME_AS_MILLI + 100, START_TIME_AS_MILLI + 100, MILLISECONDS.toNanos( 3 ), 0,
+                    START_TIME_AS_MILLI + 100 );
+        }
+
+        ResultsMerger resultsMerger = resultsMerger( 0 );
+        assertThat( resultsMerger.addIntervalLog( intervalLog ), equalTo( 4L ) );
+        try ( ResultsLogReader reader = new SimpleResultsLogReader( resultsLog ) )
+        {
+            assertThat( resultsMerger.addResultsLog( reader ), equalTo( 1L ) );
+        }
+
+        WorkloadResultsSnapshot results = resultsMerger.results();
+        assertThat( results.startTimeAsMilli(), equalTo( START_TIME_AS_MILLI ) );
+        assertThat( results.latestFinishTimeAsMilli(), equalTo( START_TIME_AS_MILLI + 500 ) );
+        OperationMetricsSnapshot query2 = metricsFor( results, QUERY2 );
+        assertThat( query2.runTimeMetric().count(), equalTo( 5L ) );
+        assertThat( query2.runTimeMetric().min(), equalTo( 3L ) );
+        assertThat( query2.runTimeMetric().max(), equalTo( 7L ) );
+        assertThat( query2.resultCardinalityMetric(), is( nullValue() ) );
+        assertThat( resultsMerger.windowCount(), equalTo( 0 ) );
+    }
+
+    @Test( expected = MetricsCollectionException.class )
+    public void shouldRejectUnknownOperations() throws Exception
+    {
+        File resultsLog = temporaryFolder.newFile();
+        try ( ResultsLogWriter writer = new SimpleResultsLogWriter( resultsLog, MILLISECONDS ) )
+        {
+            writer.write( "Unknown", 1, 1, 1, 0, 1 );
+        }
+        try ( ResultsLogReader reader = new SimpleResultsLogReader( resultsLog ) )
+        {
+            resultsMerger( 0 ).addResultsLog( reader );
+        }
+    }
+
+    private ResultsMerger resultsMerger( long windowAsMilli ) throws MetricsCollectionException
+    {
+        Map<Integer,Class<? extends Operation>> operationTypeToClassMapping = new HashMap<>();
+        operationTypeToClassMapping.put( LdbcQuery1.TYPE, LdbcQuery1.class );
+        operationTypeToClassMapping.put( LdbcQuery2.TYPE, LdbcQuery2.class );
+        return new ResultsMerger(
+                TimeUnit.MILLISECONDS,
+                DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                operationTypeToClassMapping,
+                windowAsMilli,
+                new Log4jLoggingServiceFactory( false ) );
+    }
+
+    private OperationMetricsSnapshot metricsFor( WorkloadResultsSnapshot results, String operationName )
+    {
+        for ( OperationMetricsSnapshot operationMetrics : results.allMetrics() )
+        {
+            if ( operationName.equals( operationMetrics.name() ) )
+            {
+                return operationMetrics;
+            }
+        }
+        throw new AssertionError( "No metrics for: " + operationName );
+    }
+}
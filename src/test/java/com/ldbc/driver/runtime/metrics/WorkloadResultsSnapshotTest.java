@@ -1,5 +1,6 @@
 package com.ldbc.driver.runtime.metrics;
 
+import com.google.common.collect.Lists;
 import com.ldbc.driver.WorkloadException;
 import org.junit.Test;
 
@@ -10,6 +11,7 @@ import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.junit.Assert.assertThat;
 
 public class WorkloadResultsSnapshotTest
@@ -59,6 +61,85 @@ public class WorkloadResultsSnapshotTest
         assertThat( snapshot1, equalTo( snapshot2 ) );
     }
 
+    @Test
+    public void shouldOnlySerializePhaseTimesWhenPresent() throws IOException
+    {
+        ContinuousMetricManager runTimeMetric = new ContinuousMetricManager( "Runtime", TimeUnit.MILLISECONDS, 100, 4 );
+        runTimeMetric.addMeasurement( 10 );
+        ContinuousMetricManager queryExecutionMetric =
+                new ContinuousMetricManager( "query_execution", TimeUnit.MILLISECONDS, 100, 4 );
+        queryExecutionMetric.addMeasurement( 7 );
+        Map<String,ContinuousMetricSnapshot> phaseTimeMetrics = new HashMap<>();
+        phaseTimeMetrics.put( "query_execution", queryExecutionMetric.snapshot() );
+
+        WorkloadResultsSnapshot withoutPhases = new WorkloadResultsSnapshot(
+                Lists.newArrayList( new OperationMetricsSnapshot( "Op", TimeUnit.MILLISECONDS, 1,
+                        runTimeMetric.snapshot() ) ),
+                1, 11, 1, TimeUnit.MILLISECONDS );
+        assertThat( withoutPhases.toJson().contains( "phase_times" ), equalTo( false ) );
+        assertThat( WorkloadResultsSnapshot.fromJson( withoutPhases.toJson() ), equalTo( withoutPhases ) );
+
+        WorkloadResultsSnapshot withPhases = new WorkloadResultsSnapshot(
+                Lists.newArrayList( new OperationMetricsSnapshot( "Op", TimeUnit.MILLISECONDS, 1,
+                        runTimeMetric.snapshot(), phaseTimeMetrics ) ),
+                1, 11, 1, TimeUnit.MILLISECONDS );
+        assertThat( withPhases.toJson().contains( "phase_times" ), equalTo( true ) );
+        WorkloadResultsSnapshot deserialized = WorkloadResultsSnapshot.fromJson( withPhases.toJson() );
+        assertThat( deserialized, equalTo( withPhases ) );
+        assertThat( deserialized.allMetrics().get( 0 ).phaseTimeMetrics().get( "query_execution" ).max(),
+                equalTo( 7L ) );
+        assertThat( deserialized, not( equalTo( withoutPhases ) ) );
+    }
+
+    @Test
+    public void shouldOnlySerializeDriverOverheadWhenPresent() throws IOException
+    {
+        ContinuousMetricManager runTimeMetric = new ContinuousMetricManager( "Runtime", TimeUnit.MILLISECONDS, 100, 4 );
+        runTimeMetric.addMeasurement( 10 );
+        WorkloadResultsSnapshot withoutOverhead = new WorkloadResultsSnapshot(
+                Lists.newArrayList( new OperationMetricsSnapshot( "Op", TimeUnit.MILLISECONDS, 1,
+                        runTimeMetric.snapshot() ) ),
+                1, 11, 1, TimeUnit.MILLISECONDS );
+        assertThat( withoutOverhead.toJson().contains( "driver_overhead" ), equalTo( false ) );
+
+        DriverOverheadRecorder driverOverheadRecorder = new DriverOverheadRecorder();
+        driverOverheadRecorder.record( DriverOverheadRecorder.Stage.QUEUE_WAIT, TimeUnit.MICROSECONDS.toNanos( 5 ) );
+        WorkloadResultsSnapshot withOverhead =
+                withoutOverhead.withDriverOverheadMetrics( driverOverheadRecorder.snapshot() );
+        assertThat( withOverhead.toJson().contains( "driver_overhead" ), equalTo( true ) );
+        WorkloadResultsSnapshot deserialized = WorkloadResultsSnapshot.fromJson( withOverhead.toJson() );
+        assertThat( deserialized, equalTo( withOverhead ) );
+        assertThat( deserialized, not( equalTo( withoutOverhead ) ) );
+        assertThat( deserialized.driverOverheadMetrics().get( 0 ).name(), equalTo( "queue_wait" ) );
+        assertThat( deserialized.totalOperationCount(), equalTo( withoutOverhead.totalOperationCount() ) );
+    }
+
+    @Test
+    public void shouldOnlySerializeMetricsBackPressureWhenPresent() throws IOException
+    {
+        ContinuousMetricManager runTimeMetric = new ContinuousMetricManager( "Runtime", TimeUnit.MILLISECONDS, 100, 4 );
+        runTimeMetric.addMeasurement( 10 );
+        WorkloadResultsSnapshot withoutBackPressure = new WorkloadResultsSnapshot(
+                Lists.newArrayList( new OperationMetricsSnapshot( "Op", TimeUnit.MILLISECONDS, 1,
+                        runTimeMetric.snapshot() ) ),
+                1, 11, 1, TimeUnit.MILLISECONDS );
+        assertThat( withoutBackPressure.toJson().contains( "metrics_back_pressure" ), equalTo( false ) );
+        assertThat( withoutBackPressure.metricsBackPressureCount(), nullValue() );
+
+        WorkloadResultsSnapshot withBackPressure =
+                withoutBackPressure.withMetricsBackPressure( 3, TimeUnit.MILLISECONDS.toNanos( 7 ) );
+        assertThat( withBackPressure.toJson().contains( "\"metrics_back_pressure_count\" : 3" ), equalTo( true ) );
+        assertThat( withBackPressure.toJson().contains( "\"metrics_back_pressure_wait_time\" : 7" ),
+                equalTo( true ) );
+        WorkloadResultsSnapshot deserialized = WorkloadResultsSnapshot.fromJson( withBackPressure.toJson() );
+        assertThat( deserialized, equalTo( withBackPressure ) );
+        assertThat( deserialized, not( equalTo( withoutBackPressure ) ) );
+        assertThat( deserialized.metricsBackPressureCount(), equalTo( 3L ) );
+        assertThat( deserialized.metricsBackPressureWaitTimeAsMilli(), equalTo( 7L ) );
+        assertThat( new SimpleDetailedWorkloadMetricsFormatter().format( deserialized )
+                .contains( "3 results, waited 7 (ms)" ), equalTo( true ) );
+    }
+
     private WorkloadResultsSnapshot createSnapshot( int seed, TimeUnit timeUnit1, TimeUnit timeUnit2,
             TimeUnit timeUnit3, TimeUnit timeUnit4 )
     {
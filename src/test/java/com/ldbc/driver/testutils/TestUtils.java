@@ -4,7 +4,12 @@ import com.ldbc.driver.temporal.TimeSource;
 import org.apache.commons.io.FileUtils;
 
 import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.util.Iterator;
+import java.util.zip.GZIPOutputStream;
 
 import static java.lang.String.format;
 
@@ -15,6 +20,24 @@ public class TestUtils
         return FileUtils.toFile( TestUtils.class.getResource( path ) );
     }
 
+    /**
+     * Copies each file of the directory into the other directory, gzipped, e.g., a.csv as a.csv.gz
+     */
+    public static void gzipFilesInto( File directory, File gzippedFilesDirectory ) throws IOException
+    {
+        for ( File file : directory.listFiles() )
+        {
+            if ( file.isFile() )
+            {
+                try ( OutputStream gzippedFile = new GZIPOutputStream(
+                        new FileOutputStream( new File( gzippedFilesDirectory, file.getName() + ".gz" ) ) ) )
+                {
+                    Files.copy( file.toPath(), gzippedFile );
+                }
+            }
+        }
+    }
+
     public static ThreadPoolLoadGenerator newThreadPoolLoadGenerator( int threadCount, long sleepDurationAsMilli )
     {
         return new ThreadPoolLoadGenerator( threadCount, sleepDurationAsMilli );
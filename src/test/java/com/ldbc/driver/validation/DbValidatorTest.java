@@ -33,6 +33,7 @@ import java.util.List;
 import java.util.Map;
 
 import static java.lang.String.format;
+import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 
@@ -154,6 +155,84 @@ public class DbValidatorTest
                 validationResult.isSuccessful(), is( true ) );
     }
 
+    @Test
+    public void shouldReportTheSameResultInTheSameOrderWhenValidatingWithSeveralThreads()
+            throws WorkloadException, DbException, IOException, DriverConfigurationException
+    {
+        // Given
+        LoggingService loggingService = new Log4jLoggingServiceFactory( false ).loggingServiceFor( "Test" );
+        long operationCount = 1;
+        ConsoleAndFileDriverConfiguration configuration = ConsoleAndFileDriverConfiguration.fromDefaults(
+                DummyLdbcSnbInteractiveDb.class.getName(),
+                LdbcSnbInteractiveWorkload.class.getName(),
+                operationCount
+        );
+
+        Map<String,String> paramsMap = LdbcSnbInteractiveWorkloadConfiguration.defaultConfigSF1();
+        paramsMap.put( LdbcSnbInteractiveWorkloadConfiguration.PARAMETERS_DIRECTORY,
+                TestUtils.getResource( "/snb/interactive/" ).getAbsolutePath() );
+        paramsMap.put( LdbcSnbInteractiveWorkloadConfiguration.UPDATES_DIRECTORY,
+                TestUtils.getResource( "/snb/interactive/" ).getAbsolutePath() );
+        configuration = (ConsoleAndFileDriverConfiguration) configuration.applyArgs( paramsMap );
+        configuration = (ConsoleAndFileDriverConfiguration) configuration.applyArgs(
+                MapUtils.loadPropertiesToMap( TestUtils.getResource( "/snb/interactive/updateStream.properties" ) )
+        );
+
+        Workload workload = new LdbcSnbInteractiveWorkload();
+        workload.init( configuration );
+
+        GeneratorFactory gf = new GeneratorFactory( new RandomDataGeneratorFactory( 42l ) );
+        List<ValidationParam> validationParamsList =
+                Lists.newArrayList( gf.limit( gf.repeating( buildParams().iterator() ), 10000 ) );
+
+        // incorrect results of different sizes, so the order in which they are reported can be told apart
+        int[] incorrectPositions = new int[]{3, 2500, 2501, 7777, 9999};
+        for ( int i = 0; i < incorrectPositions.length; i++ )
+        {
+            List<LdbcQuery14Result> unexpectedResult14 = DummyLdbcSnbInteractiveOperationResultSets.read14Results();
+            for ( int j = 0; j <= i; j++ )
+            {
+                unexpectedResult14.add( DummyLdbcSnbInteractiveOperationResultInstances.read14Result() );
+            }
+            validationParamsList.set( incorrectPositions[i],
+                    ValidationParam.createTyped( DummyLdbcSnbInteractiveOperationInstances.read14(),
+                            unexpectedResult14 ) );
+        }
+
+        Db db = new DummyLdbcSnbInteractiveDb();
+        db.init(
+                new HashMap<String,String>(),
+                loggingService,
+                workload.operationTypeToClassMapping()
+        );
+
+        // When
+        DbValidationResult sequentialValidationResult = new DbValidator( 1 ).validate(
+                validationParamsList.iterator(),
+                db,
+                validationParamsList.size(),
+                workload
+        );
+        DbValidationResult concurrentValidationResult = new DbValidator( 4 ).validate(
+                validationParamsList.iterator(),
+                db,
+                validationParamsList.size(),
+                workload
+        );
+
+        // Then
+        System.out.println( concurrentValidationResult.resultMessage() );
+        assertThat( concurrentValidationResult.isSuccessful(), is( false ) );
+        assertThat( concurrentValidationResult.resultMessage(),
+                equalTo( sequentialValidationResult.resultMessage() ) );
+        assertThat( concurrentValidationResult.actualResultsForFailedOperationsAsJsonString( workload ),
+                equalTo( sequentialValidationResult.actualResultsForFailedOperationsAsJsonString( workload ) ) );
+        assertThat( concurrentValidationResult.expectedResultsForFailedOperationsAsJsonString( workload ),
+                equalTo( sequentialValidationResult.expectedResultsForFailedOperationsAsJsonString( workload ) ) );
+        workload.close();
+        db.close();
+    }
+
     List<ValidationParam> buildParams()
     {
         ValidationParam validationParamLong1 = ValidationParam.createTyped(
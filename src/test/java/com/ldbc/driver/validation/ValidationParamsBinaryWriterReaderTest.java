@@ -0,0 +1,139 @@
+package com.ldbc.driver.validation;
+
+import com.google.common.collect.Lists;
+import com.ldbc.driver.SerializingMarshallingException;
+import com.ldbc.driver.Workload;
+import com.ldbc.driver.WorkloadException;
+import com.ldbc.driver.control.ConsoleAndFileDriverConfiguration;
+import com.ldbc.driver.control.DriverConfigurationException;
+import com.ldbc.driver.csv.simple.SimpleCsvFileWriter;
+import com.ldbc.driver.generator.GeneratorFactory;
+import com.ldbc.driver.generator.RandomDataGeneratorFactory;
+import com.ldbc.driver.testutils.TestUtils;
+import com.ldbc.driver.util.MapUtils;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcSnbInteractiveWorkload;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcSnbInteractiveWorkloadConfiguration;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.db.DummyLdbcSnbInteractiveDb;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class ValidationParamsBinaryWriterReaderTest
+{
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void shouldReadTheValidationParamsWrittenWithTheInteractiveCodec()
+            throws IOException, DriverConfigurationException, WorkloadException, SerializingMarshallingException
+    {
+        // Given
+        Workload workload = new LdbcSnbInteractiveWorkload();
+        workload.init( configuration() );
+        GeneratorFactory gf = new GeneratorFactory( new RandomDataGeneratorFactory( 42l ) );
+        List<ValidationParam> validationParams = Lists.newArrayList( gf.limit(
+                gf.repeating( new ValidationParamsToCsvRowsToValidationParamsTest().buildParams( null ).iterator() ),
+                1000 ) );
+        File validationParamsFile = temporaryFolder.newFile();
+
+        // When
+        writeValidationParams( validationParamsFile, workload, validationParams );
+
+        // Then
+        assertThat( ValidationParamsBinaryReader.isBinaryValidationParams( validationParamsFile ), is( true ) );
+        try ( ValidationParamsBinaryReader reader = new ValidationParamsBinaryReader( validationParamsFile, workload ) )
+        {
+            assertThat( reader.entryCount(), is( 1000 ) );
+            assertThat( Lists.newArrayList( reader ), equalTo( validationParams ) );
+        }
+        workload.close();
+    }
+
+    @Test
+    public void shouldReadTheValidationParamsWrittenWithTheSerializedCodec()
+            throws IOException, DriverConfigurationException, WorkloadException, SerializingMarshallingException
+    {
+        // Given
+        Workload workload = new LdbcSnbInteractiveWorkload()
+        {
+            @Override
+            public ValidationParamsCodec validationParamsCodec()
+            {
+                return new SerializedValidationParamsCodec( this );
+            }
+        };
+        workload.init( configuration() );
+        List<ValidationParam> validationParams =
+                new ValidationParamsToCsvRowsToValidationParamsTest().buildParams( null );
+        File validationParamsFile = temporaryFolder.newFile();
+
+        // When
+        writeValidationParams( validationParamsFile, workload, validationParams );
+
+        // Then
+        try ( ValidationParamsBinaryReader reader = new ValidationParamsBinaryReader( validationParamsFile, workload ) )
+        {
+            assertThat( reader.entryCount(), is( validationParams.size() ) );
+            assertThat( Lists.newArrayList( reader ), equalTo( validationParams ) );
+        }
+        workload.close();
+    }
+
+    @Test
+    public void shouldNotDetectJsonValidationParamsAsBinary() throws IOException
+    {
+        // Given
+        File validationParamsFile = temporaryFolder.newFile();
+        try ( SimpleCsvFileWriter writer =
+                      new SimpleCsvFileWriter( validationParamsFile, SimpleCsvFileWriter.DEFAULT_COLUMN_SEPARATOR ) )
+        {
+            writer.writeRow( "[\"com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery13\",1,2]", "[3]" );
+        }
+        File emptyFile = temporaryFolder.newFile();
+
+        // When/Then
+        assertThat( ValidationParamsBinaryReader.isBinaryValidationParams( validationParamsFile ), is( false ) );
+        assertThat( ValidationParamsBinaryReader.isBinaryValidationParams( emptyFile ), is( false ) );
+    }
+
+    private static void writeValidationParams( File validationParamsFile, Workload workload,
+            List<ValidationParam> validationParams ) throws IOException, SerializingMarshallingException
+    {
+        boolean performSerializationMarshallingChecks = true;
+        try ( ValidationParamsBinaryWriter writer =
+                      new ValidationParamsBinaryWriter( validationParamsFile, workload,
+                              performSerializationMarshallingChecks ) )
+        {
+            for ( ValidationParam validationParam : validationParams )
+            {
+                writer.write( validationParam );
+            }
+            assertThat( writer.entriesWritten(), is( validationParams.size() ) );
+        }
+    }
+
+    private static ConsoleAndFileDriverConfiguration configuration()
+            throws DriverConfigurationException, IOException
+    {
+        ConsoleAndFileDriverConfiguration configuration = ConsoleAndFileDriverConfiguration.fromDefaults(
+                DummyLdbcSnbInteractiveDb.class.getName(), LdbcSnbInteractiveWorkload.class.getName(), 1 );
+        Map<String,String> paramsMap = LdbcSnbInteractiveWorkloadConfiguration.defaultConfigSF1();
+        paramsMap.put( LdbcSnbInteractiveWorkloadConfiguration.PARAMETERS_DIRECTORY,
+                TestUtils.getResource( "/snb/interactive/" ).getAbsolutePath() );
+        paramsMap.put( LdbcSnbInteractiveWorkloadConfiguration.UPDATES_DIRECTORY,
+                TestUtils.getResource( "/snb/interactive/" ).getAbsolutePath() );
+        configuration = (ConsoleAndFileDriverConfiguration) configuration.applyArgs( paramsMap );
+        return (ConsoleAndFileDriverConfiguration) configuration.applyArgs(
+                MapUtils.loadPropertiesToMap( TestUtils.getResource( "/snb/interactive/updateStream.properties" ) )
+        );
+    }
+}
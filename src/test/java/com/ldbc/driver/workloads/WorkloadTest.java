@@ -16,6 +16,7 @@ import com.ldbc.driver.control.ConsoleAndFileDriverConfiguration;
 import com.ldbc.driver.control.ControlService;
 import com.ldbc.driver.control.DriverConfiguration;
 import com.ldbc.driver.control.DriverConfigurationException;
+import com.ldbc.driver.control.DriverRuntimeConfiguration;
 import com.ldbc.driver.control.LocalControlService;
 import com.ldbc.driver.control.Log4jLoggingServiceFactory;
 import com.ldbc.driver.generator.GeneratorFactory;
@@ -27,6 +28,7 @@ import com.ldbc.driver.util.Bucket;
 import com.ldbc.driver.util.Histogram;
 import com.ldbc.driver.util.Tuple2;
 import com.ldbc.driver.validation.DbValidationResult;
+import com.ldbc.driver.validation.ValidationParamsBinaryReader;
 import com.ldbc.driver.validation.WorkloadValidationResult;
 import com.ldbc.driver.validation.WorkloadValidator;
 import org.junit.Rule;
@@ -552,9 +554,29 @@ public abstract class WorkloadTest
 
     @Test
     public void shouldCreateValidationParametersThenUseThemToPerformDatabaseValidationThenPass() throws Exception
+    {
+        createValidationParametersThenUseThemToPerformDatabaseValidationThenPass(
+                DriverRuntimeConfiguration.ValidationParamsFormat.JSON );
+    }
+
+    @Test
+    public void shouldCreateBinaryValidationParametersThenUseThemToPerformDatabaseValidationThenPass()
+            throws Exception
+    {
+        createValidationParametersThenUseThemToPerformDatabaseValidationThenPass(
+                DriverRuntimeConfiguration.ValidationParamsFormat.BINARY );
+    }
+
+    private void createValidationParametersThenUseThemToPerformDatabaseValidationThenPass(
+            DriverRuntimeConfiguration.ValidationParamsFormat validationParamsFormat ) throws Exception
     {
         for ( DriverConfiguration configuration : withSkip( withWarmup( withTempResultDirs( configurations() ) ) ) )
         {
+            configuration = configuration.applyArg(
+                    DriverRuntimeConfiguration.VALIDATION_PARAMS_FORMAT,
+                    validationParamsFormat.name()
+            );
+
             // **************************************************
             // where validation parameters should be written (ensure file does not yet exist)
             // **************************************************
@@ -598,6 +620,8 @@ public abstract class WorkloadTest
             // check that validation file creation worked
             // **************************************************
             assertTrue( validationParamsFile.length() > 0 );
+            assertThat( ValidationParamsBinaryReader.isBinaryValidationParams( validationParamsFile ),
+                    is( DriverRuntimeConfiguration.ValidationParamsFormat.BINARY == validationParamsFormat ) );
 
             // **************************************************
             // configuration for using validation parameters file to validate the database
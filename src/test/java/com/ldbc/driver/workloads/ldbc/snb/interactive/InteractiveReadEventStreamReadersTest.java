@@ -1,7 +1,9 @@
 package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
+import com.google.common.collect.Lists;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.csv.charseeker.*;
+import com.ldbc.driver.generator.ColumnarParameters;
 import com.ldbc.driver.generator.CsvEventStreamReaderBasicCharSeeker;
 import com.ldbc.driver.workloads.OperationTest;
 import org.junit.Test;
@@ -709,4 +711,87 @@ public class InteractiveReadEventStreamReadersTest
         assertThat(reader.hasNext(), is(false));
     }
 
+    @Test
+    public void shouldReadTheSameEventsFromColumnarParameters() throws IOException, ParseException {
+        // Given
+        List<Object[]> rows;
+
+        // When
+
+        // Then
+        rows = rows(InteractiveReadEventStreamReadersTestData.QUERY_1_CSV_ROWS(), new Query1EventStreamReader.Query1Decoder());
+        assertSameOperationsRepeated(new Query1EventStreamReader(rows.iterator()),
+                new Query1EventStreamReader.Query1ColumnarReader(ColumnarParameters.load(rows.iterator())), rows.size());
+
+        rows = rows(InteractiveReadEventStreamReadersTestData.QUERY_2_CSV_ROWS(), new Query2EventStreamReader.Query2Decoder());
+        assertSameOperationsRepeated(new Query2EventStreamReader(rows.iterator()),
+                new Query2EventStreamReader.Query2ColumnarReader(ColumnarParameters.load(rows.iterator())), rows.size());
+
+        rows = rows(InteractiveReadEventStreamReadersTestData.QUERY_3_CSV_ROWS(), new Query3EventStreamReader.Query3Decoder());
+        assertSameOperationsRepeated(new Query3EventStreamReader(rows.iterator()),
+                new Query3EventStreamReader.Query3ColumnarReader(ColumnarParameters.load(rows.iterator())), rows.size());
+
+        rows = rows(InteractiveReadEventStreamReadersTestData.QUERY_4_CSV_ROWS(), new Query4EventStreamReader.Query4Decoder());
+        assertSameOperationsRepeated(new Query4EventStreamReader(rows.iterator()),
+                new Query4EventStreamReader.Query4ColumnarReader(ColumnarParameters.load(rows.iterator())), rows.size());
+
+        rows = rows(InteractiveReadEventStreamReadersTestData.QUERY_5_CSV_ROWS(), new Query5EventStreamReader.Query5Decoder());
+        assertSameOperationsRepeated(new Query5EventStreamReader(rows.iterator()),
+                new Query5EventStreamReader.Query5ColumnarReader(ColumnarParameters.load(rows.iterator())), rows.size());
+
+        rows = rows(InteractiveReadEventStreamReadersTestData.QUERY_6_CSV_ROWS(), new Query6EventStreamReader.Query6Decoder());
+        assertSameOperationsRepeated(new Query6EventStreamReader(rows.iterator()),
+                new Query6EventStreamReader.Query6ColumnarReader(ColumnarParameters.load(rows.iterator())), rows.size());
+
+        rows = rows(InteractiveReadEventStreamReadersTestData.QUERY_7_CSV_ROWS(), new Query7EventStreamReader.Query7Decoder());
+        assertSameOperationsRepeated(new Query7EventStreamReader(rows.iterator()),
+                new Query7EventStreamReader.Query7ColumnarReader(ColumnarParameters.load(rows.iterator())), rows.size());
+
+        rows = rows(InteractiveReadEventStreamReadersTestData.QUERY_8_CSV_ROWS(), new Query8EventStreamReader.Query8Decoder());
+        assertSameOperationsRepeated(new Query8EventStreamReader(rows.iterator()),
+                new Query8EventStreamReader.Query8ColumnarReader(ColumnarParameters.load(rows.iterator())), rows.size());
+
+        rows = rows(InteractiveReadEventStreamReadersTestData.QUERY_9_CSV_ROWS(), new Query9EventStreamReader.Query9Decoder());
+        assertSameOperationsRepeated(new Query9EventStreamReader(rows.iterator()),
+                new Query9EventStreamReader.Query9ColumnarReader(ColumnarParameters.load(rows.iterator())), rows.size());
+
+        rows = rows(InteractiveReadEventStreamReadersTestData.QUERY_10_CSV_ROWS(), new Query10EventStreamReader.Query10Decoder());
+        assertSameOperationsRepeated(new Query10EventStreamReader(rows.iterator()),
+                new Query10EventStreamReader.Query10ColumnarReader(ColumnarParameters.load(rows.iterator())), rows.size());
+
+        rows = rows(InteractiveReadEventStreamReadersTestData.QUERY_11_CSV_ROWS(), new Query11EventStreamReader.Query11Decoder());
+        assertSameOperationsRepeated(new Query11EventStreamReader(rows.iterator()),
+                new Query11EventStreamReader.Query11ColumnarReader(ColumnarParameters.load(rows.iterator())), rows.size());
+
+        rows = rows(InteractiveReadEventStreamReadersTestData.QUERY_12_CSV_ROWS(), new Query12EventStreamReader.Query12Decoder());
+        assertSameOperationsRepeated(new Query12EventStreamReader(rows.iterator()),
+                new Query12EventStreamReader.Query12ColumnarReader(ColumnarParameters.load(rows.iterator())), rows.size());
+
+        rows = rows(InteractiveReadEventStreamReadersTestData.QUERY_13_CSV_ROWS(), new Query13EventStreamReader.Query13Decoder());
+        assertSameOperationsRepeated(new Query13EventStreamReader(rows.iterator()),
+                new Query13EventStreamReader.Query13ColumnarReader(ColumnarParameters.load(rows.iterator())), rows.size());
+
+        rows = rows(InteractiveReadEventStreamReadersTestData.QUERY_14_CSV_ROWS(), new Query14EventStreamReader.Query14Decoder());
+        assertSameOperationsRepeated(new Query14EventStreamReader(rows.iterator()),
+                new Query14EventStreamReader.Query14ColumnarReader(ColumnarParameters.load(rows.iterator())), rows.size());
+    }
+
+    private static List<Object[]> rows(String data, CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder) throws IOException {
+        CharSeeker charSeeker = new BufferedCharSeeker(Readables.wrap(new StringReader(data)));
+        List<Object[]> rows = Lists.newArrayList(
+                new CsvEventStreamReaderBasicCharSeeker<>(charSeeker, new Extractors(';', ','), new Mark(), decoder, '|')
+        );
+        charSeeker.close();
+        return rows;
+    }
+
+    private static void assertSameOperationsRepeated(Iterator<Operation> operations, Iterator<Operation> columnarOperations, int rowCount) {
+        List<Operation> expectedOperations = Lists.newArrayList(operations);
+        assertThat(expectedOperations.size(), is(rowCount));
+        for (int i = 0; i < rowCount * 2; i++) {
+            Operation operation = columnarOperations.next();
+            assertThat(operation, equalTo(expectedOperations.get(i % rowCount)));
+            assertThat(operation.parameterMap(), equalTo(expectedOperations.get(i % rowCount).parameterMap()));
+        }
+    }
 }
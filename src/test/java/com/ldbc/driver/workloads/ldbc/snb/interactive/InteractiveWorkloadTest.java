@@ -4,14 +4,21 @@ import com.google.common.collect.Lists;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.Workload;
 import com.ldbc.driver.WorkloadException;
+import com.ldbc.driver.WorkloadSchedule;
+import com.ldbc.driver.WorkloadStreams;
 import com.ldbc.driver.control.ConsoleAndFileDriverConfiguration;
 import com.ldbc.driver.control.DriverConfiguration;
+import com.ldbc.driver.control.DriverRuntimeConfiguration;
+import com.ldbc.driver.control.Log4jLoggingServiceFactory;
+import com.ldbc.driver.generator.GeneratorFactory;
+import com.ldbc.driver.generator.RandomDataGeneratorFactory;
 import com.ldbc.driver.testutils.TestUtils;
 import com.ldbc.driver.util.Bucket;
 import com.ldbc.driver.util.Histogram;
 import com.ldbc.driver.util.MapUtils;
 import com.ldbc.driver.util.Tuple;
 import com.ldbc.driver.util.Tuple2;
+import com.ldbc.driver.util.Tuple3;
 import com.ldbc.driver.util.TypeChangeFun;
 import com.ldbc.driver.workloads.ClassNameWorkloadFactory;
 import com.ldbc.driver.workloads.WorkloadTest;
@@ -20,11 +27,20 @@ import com.ldbc.driver.workloads.ldbc.snb.interactive.db.DummyLdbcSnbInteractive
 import com.ldbc.driver.workloads.ldbc.snb.interactive.db.DummyLdbcSnbInteractiveOperationResultSets;
 import org.junit.Test;
 
+import java.io.File;
+import java.io.FileOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
+import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
@@ -242,6 +258,67 @@ public class InteractiveWorkloadTest extends WorkloadTest
                                 TestUtils.getResource( "/snb/interactive/updateStream.properties" )
                         )
                 ),
+                // SHORT AND LONG READS, NO WRITES, DECODE AHEAD
+                ConsoleAndFileDriverConfiguration.fromDefaults(
+                        DummyLdbcSnbInteractiveDb.class.getName(),
+                        LdbcSnbInteractiveWorkload.class.getName(),
+                        1_000_000
+                ).applyArg( ConsoleAndFileDriverConfiguration.WARMUP_COUNT_ARG, Long.toString( 100_000 )
+                ).applyArgs(
+                        LdbcSnbInteractiveWorkloadConfiguration.withoutWrites(
+                                LdbcSnbInteractiveWorkloadConfiguration.defaultConfigSF1()
+                        )
+                ).applyArg(
+                        ConsoleAndFileDriverConfiguration.IGNORE_SCHEDULED_START_TIMES_ARG,
+                        "false"
+                ).applyArg(
+                        ConsoleAndFileDriverConfiguration.TIME_COMPRESSION_RATIO_ARG,
+                        "0.000001"
+                ).applyArg(
+                        LdbcSnbInteractiveWorkloadConfiguration.PARAMETERS_DIRECTORY,
+                        TestUtils.getResource( "/snb/interactive/" ).getAbsolutePath()
+                ).applyArg( LdbcSnbInteractiveWorkloadConfiguration.UPDATES_DIRECTORY,
+                        TestUtils.getResource( "/snb/interactive/" ).getAbsolutePath()
+                ).applyArgs(
+                        MapUtils.loadPropertiesToMap(
+                                TestUtils.getResource( "/snb/interactive/updateStream.properties" )
+                        )
+                ).applyArg(
+                        LdbcSnbInteractiveWorkloadConfiguration.DECODE_AHEAD_THREADS,
+                        Integer.toString( 1 )
+                ),
+                // SHORT AND LONG READS, NO WRITES, TRACING
+                ConsoleAndFileDriverConfiguration.fromDefaults(
+                        DummyLdbcSnbInteractiveDb.class.getName(),
+                        LdbcSnbInteractiveWorkload.class.getName(),
+                        1_000_000
+                ).applyArg( ConsoleAndFileDriverConfiguration.WARMUP_COUNT_ARG, Long.toString( 100_000 )
+                ).applyArgs(
+                        LdbcSnbInteractiveWorkloadConfiguration.withoutWrites(
+                                LdbcSnbInteractiveWorkloadConfiguration.defaultConfigSF1()
+                        )
+                ).applyArg(
+                        ConsoleAndFileDriverConfiguration.IGNORE_SCHEDULED_START_TIMES_ARG,
+                        "false"
+                ).applyArg(
+                        ConsoleAndFileDriverConfiguration.TIME_COMPRESSION_RATIO_ARG,
+                        "0.000001"
+                ).applyArg(
+                        LdbcSnbInteractiveWorkloadConfiguration.PARAMETERS_DIRECTORY,
+                        TestUtils.getResource( "/snb/interactive/" ).getAbsolutePath()
+                ).applyArg( LdbcSnbInteractiveWorkloadConfiguration.UPDATES_DIRECTORY,
+                        TestUtils.getResource( "/snb/interactive/" ).getAbsolutePath()
+                ).applyArgs(
+                        MapUtils.loadPropertiesToMap(
+                                TestUtils.getResource( "/snb/interactive/updateStream.properties" )
+                        )
+                ).applyArg(
+                        DriverRuntimeConfiguration.TRACE_SAMPLE_RATE,
+                        Double.toString( 0.001 )
+                ).applyArg(
+                        DriverRuntimeConfiguration.TRACE_THRESHOLD_AS_MILLI,
+                        Long.toString( 100 )
+                ),
                 // WRITES ONLY
                 ConsoleAndFileDriverConfiguration.fromDefaults(
                         DummyLdbcSnbInteractiveDb.class.getName(),
@@ -270,6 +347,86 @@ public class InteractiveWorkloadTest extends WorkloadTest
                                 TestUtils.getResource( "/snb/interactive/updateStream.properties" )
                         )
                 ),
+                // WRITES ONLY, DECODE AHEAD
+                ConsoleAndFileDriverConfiguration.fromDefaults(
+                        DummyLdbcSnbInteractiveDb.class.getName(),
+                        LdbcSnbInteractiveWorkload.class.getName(),
+                        50_000
+                ).applyArg( ConsoleAndFileDriverConfiguration.WARMUP_COUNT_ARG, Long.toString( 1_000 )
+                ).applyArgs(
+                        LdbcSnbInteractiveWorkloadConfiguration.withoutLongReads(
+                                LdbcSnbInteractiveWorkloadConfiguration.withoutShortReads(
+                                        LdbcSnbInteractiveWorkloadConfiguration.defaultConfigSF1()
+                                )
+                        )
+                ).applyArg(
+                        ConsoleAndFileDriverConfiguration.IGNORE_SCHEDULED_START_TIMES_ARG,
+                        "false"
+                ).applyArg(
+                        ConsoleAndFileDriverConfiguration.TIME_COMPRESSION_RATIO_ARG,
+                        "0.00001"
+                ).applyArg(
+                        LdbcSnbInteractiveWorkloadConfiguration.PARAMETERS_DIRECTORY,
+                        TestUtils.getResource( "/snb/interactive/" ).getAbsolutePath()
+                ).applyArg( LdbcSnbInteractiveWorkloadConfiguration.UPDATES_DIRECTORY,
+                        TestUtils.getResource( "/snb/interactive/" ).getAbsolutePath()
+                ).applyArgs(
+                        MapUtils.loadPropertiesToMap(
+                                TestUtils.getResource( "/snb/interactive/updateStream.properties" )
+                        )
+                ).applyArg(
+                        LdbcSnbInteractiveWorkloadConfiguration.DECODE_AHEAD_THREADS,
+                        Integer.toString( 2 )
+                ),
+                // WRITES ONLY, BINARY RESULTS LOG, RECORDER METRICS SERVICE, INTERVAL LOG, PAUSE MONITOR, DRIVER OVERHEAD
+                ConsoleAndFileDriverConfiguration.fromDefaults(
+                        DummyLdbcSnbInteractiveDb.class.getName(),
+                        LdbcSnbInteractiveWorkload.class.getName(),
+                        50_000
+                ).applyArg( ConsoleAndFileDriverConfiguration.WARMUP_COUNT_ARG, Long.toString( 1_000 )
+                ).applyArgs(
+                        LdbcSnbInteractiveWorkloadConfiguration.withoutLongReads(
+                                LdbcSnbInteractiveWorkloadConfiguration.withoutShortReads(
+                                        LdbcSnbInteractiveWorkloadConfiguration.defaultConfigSF1()
+                                )
+                        )
+                ).applyArg(
+                        ConsoleAndFileDriverConfiguration.IGNORE_SCHEDULED_START_TIMES_ARG,
+                        "false"
+                ).applyArg(
+                        ConsoleAndFileDriverConfiguration.TIME_COMPRESSION_RATIO_ARG,
+                        "0.00001"
+                ).applyArg(
+                        LdbcSnbInteractiveWorkloadConfiguration.PARAMETERS_DIRECTORY,
+                        TestUtils.getResource( "/snb/interactive/" ).getAbsolutePath()
+                ).applyArg( LdbcSnbInteractiveWorkloadConfiguration.UPDATES_DIRECTORY,
+                        TestUtils.getResource( "/snb/interactive/" ).getAbsolutePath()
+                ).applyArgs(
+                        MapUtils.loadPropertiesToMap(
+                                TestUtils.getResource( "/snb/interactive/updateStream.properties" )
+                        )
+                ).applyArg(
+                        DriverRuntimeConfiguration.RESULTS_LOG_FORMAT,
+                        DriverRuntimeConfiguration.ResultsLogFormat.BINARY.name()
+                ).applyArg(
+                        DriverRuntimeConfiguration.METRICS_SERVICE,
+                        DriverRuntimeConfiguration.MetricsServiceType.HDR_RECORDER.name()
+                ).applyArg(
+                        DriverRuntimeConfiguration.INTERVAL_LOG_INTERVAL_AS_MILLI,
+                        Long.toString( 100 )
+                ).applyArg(
+                        DriverRuntimeConfiguration.JMX_ENABLED,
+                        Boolean.toString( true )
+                ).applyArg(
+                        DriverRuntimeConfiguration.LIVE_METRICS_INTERVAL_AS_MILLI,
+                        Long.toString( 100 )
+                ).applyArg(
+                        DriverRuntimeConfiguration.PAUSE_MONITOR_RESOLUTION_AS_MILLI,
+                        Long.toString( 1 )
+                ).applyArg(
+                        DriverRuntimeConfiguration.DRIVER_OVERHEAD,
+                        Boolean.toString( true )
+                ),
                 // FULL WORKLOAD
                 ConsoleAndFileDriverConfiguration.fromDefaults(
                         DummyLdbcSnbInteractiveDb.class.getName(),
@@ -293,6 +450,13 @@ public class InteractiveWorkloadTest extends WorkloadTest
                         MapUtils.loadPropertiesToMap(
                                 TestUtils.getResource( "/snb/interactive/updateStream.properties" )
                         )
+                
+                ).applyArg(
+                        DriverRuntimeConfiguration.OPERATION_RECYCLING,
+                        DriverRuntimeConfiguration.OperationRecycling.POOLED_DETECT_RETENTION.name()
+                ).applyArg(
+                        DriverRuntimeConfiguration.OPERATION_POOL_SIZE,
+                        Long.toString( 16 )
                 ),
                 // FULL WORKLOAD
                 ConsoleAndFileDriverConfiguration.fromDefaults(
@@ -412,6 +576,230 @@ public class InteractiveWorkloadTest extends WorkloadTest
         );
     }
 
+    @Test
+    public void shouldRetrieveTheSameOperationsFromGzippedParametersAndUpdateStreams() throws Exception
+    {
+        // Given
+        File gzippedDirectory = temporaryFolder.newFolder();
+        TestUtils.gzipFilesInto( TestUtils.getResource( "/snb/interactive/" ), gzippedDirectory );
+        Map<String,String> paramsMap = LdbcSnbInteractiveWorkloadConfiguration.defaultConfigSF1();
+        paramsMap.putAll( MapUtils.loadPropertiesToMap(
+                TestUtils.getResource( "/snb/interactive/updateStream.properties" ) ) );
+        ConsoleAndFileDriverConfiguration configuration = (ConsoleAndFileDriverConfiguration)
+                ConsoleAndFileDriverConfiguration.fromDefaults( null, LdbcSnbInteractiveWorkload.class.getName(), 500 )
+                        .applyArgs( paramsMap );
+
+        for ( LdbcSnbInteractiveWorkloadConfiguration.UpdateStreamParser parser :
+                new LdbcSnbInteractiveWorkloadConfiguration.UpdateStreamParser[]{
+                        LdbcSnbInteractiveWorkloadConfiguration.UpdateStreamParser.CHAR_SEEKER_MAPPED,
+                        LdbcSnbInteractiveWorkloadConfiguration.UpdateStreamParser.REGEX} )
+        {
+            // When
+            List<String> operations = offsetAndLimitedOperations( directoriesAndParser( configuration,
+                    TestUtils.getResource( "/snb/interactive/" ), parser ), 0, 5000 );
+            List<String> gzippedOperations = offsetAndLimitedOperations( directoriesAndParser( configuration,
+                    gzippedDirectory, parser ), 0, 5000 );
+
+            // Then
+            // update streams are merged in the order they are listed in their directory, which decides the order
+            // of operations with equal start times, so only the operations retrieved are compared
+            Collections.sort( operations );
+            Collections.sort( gzippedOperations );
+            assertThat( operations.isEmpty(), is( false ) );
+            assertThat( parser.name(), gzippedOperations, equalTo( operations ) );
+        }
+    }
+
+    private static ConsoleAndFileDriverConfiguration configurationFor( File directory ) throws Exception
+    {
+        Map<String,String> paramsMap = LdbcSnbInteractiveWorkloadConfiguration.defaultConfigSF1();
+        paramsMap.putAll( MapUtils.loadPropertiesToMap(
+                TestUtils.getResource( "/snb/interactive/updateStream.properties" ) ) );
+        return directoriesAndParser(
+                (ConsoleAndFileDriverConfiguration) ConsoleAndFileDriverConfiguration
+                        .fromDefaults( null, LdbcSnbInteractiveWorkload.class.getName(), 500 ).applyArgs( paramsMap ),
+                directory,
+                LdbcSnbInteractiveWorkloadConfiguration.DEFAULT_UPDATE_STREAM_PARSER
+        );
+    }
+
+    private static ConsoleAndFileDriverConfiguration directoriesAndParser(
+            ConsoleAndFileDriverConfiguration configuration, File directory,
+            LdbcSnbInteractiveWorkloadConfiguration.UpdateStreamParser parser ) throws Exception
+    {
+        Map<String,String> paramsMap = new HashMap<>();
+        paramsMap.put( LdbcSnbInteractiveWorkloadConfiguration.PARAMETERS_DIRECTORY, directory.getAbsolutePath() );
+        paramsMap.put( LdbcSnbInteractiveWorkloadConfiguration.UPDATES_DIRECTORY, directory.getAbsolutePath() );
+        paramsMap.put( LdbcSnbInteractiveWorkloadConfiguration.UPDATE_STREAM_PARSER, parser.name() );
+        return (ConsoleAndFileDriverConfiguration) configuration.applyArgs( paramsMap );
+    }
+
+    @Test
+    public void shouldReplayTheSameOperationsFromWorkloadSchedule() throws Exception
+    {
+        // Given
+        File scheduleFile = new File( temporaryFolder.newFolder(), "workload.schedule" );
+        File writtenScheduleFile = WorkloadSchedule.scheduleFileFor( scheduleFile, 100, 2000 );
+
+        // When
+        // writes the schedule, then replays it
+        List<String> scheduleWritten =
+                offsetAndLimitedOperations( scheduledConfiguration( scheduleFile ), 100, 2000 );
+        long writtenScheduleFileLastModified = writtenScheduleFile.lastModified();
+        List<String> scheduleReplayed =
+                offsetAndLimitedOperations( scheduledConfiguration( scheduleFile ), 100, 2000 );
+
+        // Then
+        assertThat( writtenScheduleFile.exists(), is( true ) );
+        assertThat( writtenScheduleFile.lastModified(), is( writtenScheduleFileLastModified ) );
+        // limit includes the short reads generated as child operations, which are not scheduled
+        assertThat( scheduleWritten.size() > 1, is( true ) );
+        assertThat( scheduleWritten,
+                equalTo( offsetAndLimitedOperations( scheduledConfiguration( null ), 100, 2000 ) ) );
+        assertThat( scheduleReplayed, equalTo( scheduleWritten ) );
+    }
+
+    @Test
+    public void shouldReplayTheSameOperationsFromWorkloadScheduleWhenDecodingAheadPooledOperations() throws Exception
+    {
+        // Given
+        File scheduleFile = new File( temporaryFolder.newFolder(), "workload.schedule" );
+        Map<String,String> paramsMap = new HashMap<>();
+        paramsMap.put( LdbcSnbInteractiveWorkloadConfiguration.DECODE_AHEAD_THREADS, "2" );
+        paramsMap.put( DriverRuntimeConfiguration.OPERATION_RECYCLING,
+                DriverRuntimeConfiguration.OperationRecycling.POOLED.name() );
+
+        // When
+        // writes the schedule, then replays it
+        List<String> scheduleWritten = offsetAndLimitedOperations(
+                (ConsoleAndFileDriverConfiguration) scheduledConfiguration( scheduleFile ).applyArgs( paramsMap ),
+                100, 2000 );
+        List<String> scheduleReplayed = offsetAndLimitedOperations(
+                (ConsoleAndFileDriverConfiguration) scheduledConfiguration( scheduleFile ).applyArgs( paramsMap ),
+                100, 2000 );
+
+        // Then
+        assertThat( scheduleWritten.size() > 1, is( true ) );
+        assertThat( scheduleWritten,
+                equalTo( offsetAndLimitedOperations( scheduledConfiguration( null ), 100, 2000 ) ) );
+        assertThat( scheduleReplayed, equalTo( scheduleWritten ) );
+    }
+
+    @Test
+    public void shouldRetrieveTheSameOperationsWhenOpeningStreamsOnSeveralThreads() throws Exception
+    {
+        // Given
+        // an empty update stream shifts the indexes of the streams after it
+        File directory = temporaryFolder.newFolder();
+        for ( File file : TestUtils.getResource( "/snb/interactive/" ).listFiles() )
+        {
+            if ( file.isFile() )
+            {
+                Files.copy( file.toPath(), new File( directory, file.getName() ).toPath() );
+            }
+        }
+        new FileOutputStream( new File( directory, "updateStream_0_1_person.csv" ) ).close();
+        File indexFile = new File( temporaryFolder.newFolder(), "workload_streams.index" );
+
+        // When
+        List<List<String>> operationsForInitThreads = new ArrayList<>();
+        for ( int initThreads : new int[]{1, 4} )
+        {
+            // the first run builds the index, the second seeks update streams to their offsets with it
+            for ( int run = 0; run < 2; run++ )
+            {
+                ConsoleAndFileDriverConfiguration configuration = (ConsoleAndFileDriverConfiguration)
+                        configurationFor( directory )
+                                .applyArg( DriverRuntimeConfiguration.WORKLOAD_STREAMS_INDEX,
+                                        indexFile.getAbsolutePath() )
+                                .applyArg( LdbcSnbInteractiveWorkloadConfiguration.INIT_THREADS,
+                                        Integer.toString( initThreads ) );
+                operationsForInitThreads.add( offsetAndLimitedOperations( configuration, 300, 1000 ) );
+            }
+        }
+
+        // Then
+        assertThat( operationsForInitThreads.get( 0 ).size() > 1, is( true ) );
+        assertThat( operationsForInitThreads.get( 1 ), equalTo( operationsForInitThreads.get( 0 ) ) );
+        assertThat( operationsForInitThreads.get( 2 ), equalTo( operationsForInitThreads.get( 0 ) ) );
+        assertThat( operationsForInitThreads.get( 3 ), equalTo( operationsForInitThreads.get( 0 ) ) );
+    }
+
+    @Test
+    public void shouldFailToOpenStreamsWhenAnUpdateStreamIsCorruptWhenOpeningThemOnSeveralThreads() throws Exception
+    {
+        // Given
+        File directory = temporaryFolder.newFolder();
+        for ( File file : TestUtils.getResource( "/snb/interactive/" ).listFiles() )
+        {
+            if ( file.isFile() )
+            {
+                Files.copy( file.toPath(), new File( directory, file.getName() ).toPath() );
+            }
+        }
+        // fails the first update stream, while the update streams after it are opened on other threads
+        try ( FileOutputStream corruptUpdateStream =
+                      new FileOutputStream( new File( directory, "updateStream_0_0_person.csv" ) ) )
+        {
+            corruptUpdateStream.write( "corrupt|update|stream\n".getBytes( StandardCharsets.UTF_8 ) );
+        }
+        ConsoleAndFileDriverConfiguration configuration = (ConsoleAndFileDriverConfiguration)
+                configurationFor( directory )
+                        .applyArg( LdbcSnbInteractiveWorkloadConfiguration.INIT_THREADS, Integer.toString( 4 ) );
+
+        // When
+        String failure = null;
+        try
+        {
+            offsetAndLimitedOperations( configuration, 0, 1000 );
+        }
+        catch ( WorkloadException e )
+        {
+            failure = e.getMessage();
+        }
+
+        // Then
+        assertThat( failure, containsString( "updateStream_0_0_person.csv" ) );
+    }
+
+    // workloads add to the parameters of configurations they are initialized with, so each run gets its own
+    private static ConsoleAndFileDriverConfiguration scheduledConfiguration( File scheduleFile ) throws Exception
+    {
+        ConsoleAndFileDriverConfiguration configuration =
+                configurationFor( TestUtils.getResource( "/snb/interactive/" ) );
+        return (null == scheduleFile)
+               ? configuration
+               : (ConsoleAndFileDriverConfiguration) configuration
+                       .applyArg( DriverRuntimeConfiguration.WORKLOAD_SCHEDULE, scheduleFile.getAbsolutePath() );
+    }
+
+    private static List<String> offsetAndLimitedOperations( ConsoleAndFileDriverConfiguration configuration,
+            long offset, long limit ) throws Exception
+    {
+        GeneratorFactory gf = new GeneratorFactory( new RandomDataGeneratorFactory( 42l ) );
+        Tuple3<WorkloadStreams,Workload,Long> workloadStreamsAndWorkload =
+                WorkloadStreams.createNewWorkloadWithOffsetAndLimitedWorkloadStreams(
+                        configuration,
+                        gf,
+                        false,
+                        offset,
+                        limit,
+                        new Log4jLoggingServiceFactory( false )
+                );
+        List<String> operations = new ArrayList<>();
+        Iterator<Operation> operationIterator = WorkloadStreams.mergeSortedByStartTimeExcludingChildOperationGenerators(
+                gf, workloadStreamsAndWorkload._1() );
+        while ( operationIterator.hasNext() )
+        {
+            Operation operation = operationIterator.next();
+            operations.add( operation.scheduledStartTimeAsMilli() + ":" + operation.timeStamp() + ":" +
+                            operation.dependencyTimeStamp() + ":" + operation );
+        }
+        operations.add( "minimum:" + workloadStreamsAndWorkload._3() );
+        workloadStreamsAndWorkload._2().close();
+        return operations;
+    }
+
     @Test
     public void shouldConvertFrequenciesToInterleavesWhenAllFrequenciesProvidedAndAllUpdatesEnabled() throws Exception
     {
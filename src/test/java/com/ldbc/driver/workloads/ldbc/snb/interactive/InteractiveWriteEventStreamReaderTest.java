@@ -7,12 +7,21 @@ import com.ldbc.driver.csv.charseeker.CharSeeker;
 import com.ldbc.driver.csv.charseeker.Extractors;
 import com.ldbc.driver.csv.charseeker.Readables;
 import com.ldbc.driver.csv.simple.SimpleCsvFileReader;
+import com.ldbc.driver.generator.GeneratorException;
+import com.ldbc.driver.testutils.TestUtils;
 import com.ldbc.driver.workloads.OperationTest;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
 import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.text.ParseException;
 import java.util.Date;
 import java.util.Iterator;
@@ -24,6 +33,8 @@ import static org.junit.Assert.assertThat;
 
 public class InteractiveWriteEventStreamReaderTest
 {
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
 
     @Test
     public void shouldParseAllEventTypesWithWriteEventStreamReaderRegex_DATE() throws IOException, ParseException {
@@ -46,6 +57,77 @@ public class InteractiveWriteEventStreamReaderTest
         charSeeker.close();
     }
 
+    @Test
+    public void shouldParseAllEventTypesWithWriteEventStreamReaderBinary_DATE() throws IOException, ParseException {
+        File csvFile = temporaryFolder.newFile();
+        Files.write(csvFile.toPath(), InteractiveWriteEventStreamReaderTestData.ROWS_FOR_ALL_EVENT_TYPES.getBytes(StandardCharsets.UTF_8));
+        File binaryFile = temporaryFolder.newFile();
+        assertThat(WriteEventStreamBinaryConverter.csvToBinary(csvFile, binaryFile), is(9l));
+        try (WriteEventStreamReaderBinary writeEventStreamReader = new WriteEventStreamReaderBinary(binaryFile)) {
+            doShouldParseAllEventTypes(writeEventStreamReader);
+            assertThat(writeEventStreamReader.hasNext(), is(false));
+        }
+    }
+
+    @Test
+    public void shouldReadTheSameOperationsFromBinaryAndCsvUpdateStreams() throws IOException {
+        List<File> csvFiles = WriteEventStreamBinaryConverter.csvUpdateStreamFiles(TestUtils.getResource("/snb/interactive/"));
+        assertThat(csvFiles.isEmpty(), is(false));
+        for (File csvFile : csvFiles) {
+            File binaryFile = temporaryFolder.newFile();
+            long count = WriteEventStreamBinaryConverter.csvToBinary(csvFile, binaryFile);
+            try (CharSeeker charSeeker = new BufferedCharSeeker(Readables.wrap(new InputStreamReader(new FileInputStream(csvFile), StandardCharsets.UTF_8)));
+                 WriteEventStreamReaderBinary binaryReader = new WriteEventStreamReaderBinary(binaryFile)) {
+                Iterator<Operation> csvReader = WriteEventStreamReaderCharSeeker.create(charSeeker, new Extractors(';', ','), '|');
+                long binaryCount = 0;
+                while (csvReader.hasNext()) {
+                    Operation csvOperation = csvReader.next();
+                    Operation binaryOperation = binaryReader.next();
+                    assertThat(binaryOperation, equalTo(csvOperation));
+                    assertThat(binaryOperation.scheduledStartTimeAsMilli(), is(csvOperation.scheduledStartTimeAsMilli()));
+                    assertThat(binaryOperation.timeStamp(), is(csvOperation.timeStamp()));
+                    assertThat(binaryOperation.dependencyTimeStamp(), is(csvOperation.dependencyTimeStamp()));
+                    binaryCount++;
+                }
+                assertThat(binaryReader.hasNext(), is(false));
+                assertThat(binaryCount, is(count));
+            }
+        }
+    }
+
+    @Test
+    public void shouldDecodeListFieldsOnlyOnceTheyAreAccessedWithWriteEventStreamReaderCharSeeker() throws IOException {
+        String data = InteractiveWriteEventStreamReaderTestData.ROWS_FOR_ALL_EVENT_TYPES;
+        CharSeeker charSeeker = new BufferedCharSeeker(Readables.wrap(new StringReader(data)));
+        Iterator<Operation> writeEventStreamReader = WriteEventStreamReaderCharSeeker.create(charSeeker, new Extractors(';', ','), '|');
+
+        LdbcUpdate1AddPerson addPerson = (LdbcUpdate1AddPerson) writeEventStreamReader.next();
+        assertThat(((LazyDecodedList) addPerson.languages()).isDecoded(), is(false));
+        assertThat(((LazyDecodedList) addPerson.emails()).isDecoded(), is(false));
+        assertThat(((LazyDecodedList) addPerson.tagIds()).isDecoded(), is(false));
+        assertThat(((LazyDecodedList) addPerson.studyAt()).isDecoded(), is(false));
+        assertThat(((LazyDecodedList) addPerson.workAt()).isDecoded(), is(false));
+
+        assertThat(addPerson.workAt().size(), is(4));
+        assertThat(((LazyDecodedList) addPerson.workAt()).isDecoded(), is(true));
+        assertThat(((LazyDecodedList) addPerson.tagIds()).isDecoded(), is(false));
+        assertThat(addPerson.tagIds(), equalTo((List) Lists.newArrayList(1612L)));
+        assertThat(((LazyDecodedList) addPerson.tagIds()).isDecoded(), is(true));
+        charSeeker.close();
+    }
+
+    @Test(expected = GeneratorException.class)
+    public void shouldFailToDecodeInvalidListFieldsOnceTheyAreAccessedWithWriteEventStreamReaderCharSeeker() throws IOException {
+        String data = "42|666|4|2118|Forum|1234567890|989|3;x;5\n";
+        CharSeeker charSeeker = new BufferedCharSeeker(Readables.wrap(new StringReader(data)));
+        Iterator<Operation> writeEventStreamReader = WriteEventStreamReaderCharSeeker.create(charSeeker, new Extractors(';', ','), '|');
+
+        Operation operation = writeEventStreamReader.next();
+        charSeeker.close();
+        // fails only now, as the malformed tag id is not decoded until the tag ids are accessed
+        operation.hashCode();
+    }
+
     public void doShouldParseAllEventTypes(Iterator<Operation> writeEventStreamReader) throws IOException, ParseException {
         // Then
         Date birthday;
@@ -0,0 +1,151 @@
+package com.ldbc.driver.workloads.ldbc.snb.interactive;
+
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.Workload;
+import com.ldbc.driver.WorkloadStreams;
+import com.ldbc.driver.control.ConsoleAndFileDriverConfiguration;
+import com.ldbc.driver.control.DriverRuntimeConfiguration;
+import com.ldbc.driver.control.Log4jLoggingServiceFactory;
+import com.ldbc.driver.generator.GeneratorFactory;
+import com.ldbc.driver.generator.RandomDataGeneratorFactory;
+import com.ldbc.driver.testutils.TestUtils;
+import com.ldbc.driver.util.MapUtils;
+import com.ldbc.driver.util.Tuple2;
+import com.ldbc.driver.util.Tuple3;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.Closeable;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class WriteEventStreamOffsetIndexTest
+{
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void shouldReadCsvAndBinaryUpdateStreamsFromAnyOperation() throws Exception
+    {
+        // Given
+        File csvUpdateStreamFile = TestUtils.getResource( "/snb/interactive/updateStream_0_0_forum.csv" );
+        File binaryUpdateStreamFile = temporaryFolder.newFile( "updateStream_0_0_forum.bin" );
+        long operationCount = WriteEventStreamBinaryConverter.csvToBinary( csvUpdateStreamFile,
+                binaryUpdateStreamFile );
+        List<Operation> operations = operationsFrom(
+                new WriteEventStreamOffsetIndex( csvUpdateStreamFile, temporaryFolder.newFile(),
+                        LdbcSnbInteractiveWorkloadConfiguration.UpdateStreamParser.CHAR_SEEKER_MAPPED, 1000 ), 0 );
+        assertThat( (long) operations.size(), is( operationCount ) );
+
+        for ( LdbcSnbInteractiveWorkloadConfiguration.UpdateStreamParser parser :
+                new LdbcSnbInteractiveWorkloadConfiguration.UpdateStreamParser[]{
+                        LdbcSnbInteractiveWorkloadConfiguration.UpdateStreamParser.CHAR_SEEKER_MAPPED,
+                        LdbcSnbInteractiveWorkloadConfiguration.UpdateStreamParser.BINARY} )
+        {
+            File updateStreamFile =
+                    (LdbcSnbInteractiveWorkloadConfiguration.UpdateStreamParser.BINARY == parser)
+                    ? binaryUpdateStreamFile
+                    : csvUpdateStreamFile;
+            File offsetsFile = new File( temporaryFolder.getRoot(), parser.name() + ".offsets" );
+            for ( long startOperation : new long[]{5500, 0, 1, 999, 1000, 1001, operationCount - 1, operationCount,
+                    operationCount + 100} )
+            {
+                // When
+                // offsets are extended as needed, and persisted, so every index is created from the previous one
+                WriteEventStreamOffsetIndex offsetIndex =
+                        new WriteEventStreamOffsetIndex( updateStreamFile, offsetsFile, parser, 1000 );
+
+                // Then
+                assertThat( offsetIndex.firstScheduledStartTimeAsMilli(),
+                        is( operations.get( 0 ).scheduledStartTimeAsMilli() ) );
+                assertThat( parser + " from " + startOperation,
+                        operationsFrom( offsetIndex, startOperation ),
+                        equalTo( operations.subList( (int) Math.min( startOperation, operationCount ),
+                                operations.size() ) ) );
+            }
+        }
+    }
+
+    @Test
+    public void shouldRetrieveTheSameWorkloadStreamsWhenSeekingUpdateStreams() throws Exception
+    {
+        // Given
+        Map<String,String> paramsMap = LdbcSnbInteractiveWorkloadConfiguration.defaultConfigSF1();
+        paramsMap.put( LdbcSnbInteractiveWorkloadConfiguration.PARAMETERS_DIRECTORY,
+                TestUtils.getResource( "/snb/interactive/" ).getAbsolutePath() );
+        paramsMap.put( LdbcSnbInteractiveWorkloadConfiguration.UPDATES_DIRECTORY,
+                TestUtils.getResource( "/snb/interactive/" ).getAbsolutePath() );
+        paramsMap.put( LdbcSnbInteractiveWorkloadConfiguration.UPDATE_STREAM_PARSER,
+                LdbcSnbInteractiveWorkloadConfiguration.UpdateStreamParser.CHAR_SEEKER_MAPPED.name() );
+        paramsMap.putAll( MapUtils.loadPropertiesToMap(
+                TestUtils.getResource( "/snb/interactive/updateStream.properties" ) ) );
+        ConsoleAndFileDriverConfiguration configuration = (ConsoleAndFileDriverConfiguration)
+                ConsoleAndFileDriverConfiguration.fromDefaults( null, LdbcSnbInteractiveWorkload.class.getName(), 500 )
+                        .applyArgs( paramsMap );
+        ConsoleAndFileDriverConfiguration indexedConfiguration = (ConsoleAndFileDriverConfiguration) configuration
+                .applyArg( DriverRuntimeConfiguration.WORKLOAD_STREAMS_INDEX,
+                        new File( temporaryFolder.getRoot(), "workload_streams.index" ).getAbsolutePath() );
+
+        // When
+        List<String> operations = offsetAndLimitedOperations( configuration, 2000, 500 );
+        List<String> indexBuiltOperations = offsetAndLimitedOperations( indexedConfiguration, 2000, 500 );
+        List<String> indexReadOperations = offsetAndLimitedOperations( indexedConfiguration, 2000, 500 );
+
+        // Then
+        // limit includes short reads, which are generated by child operation generators, and not here
+        assertThat( operations.isEmpty(), is( false ) );
+        assertThat( indexBuiltOperations, equalTo( operations ) );
+        assertThat( indexReadOperations, equalTo( operations ) );
+        boolean seekedUpdateStream = false;
+        for ( File file : temporaryFolder.getRoot().listFiles() )
+        {
+            seekedUpdateStream = seekedUpdateStream || file.getName().endsWith( ".offsets" );
+        }
+        assertThat( seekedUpdateStream, is( true ) );
+    }
+
+    private static List<Operation> operationsFrom( WriteEventStreamOffsetIndex offsetIndex, long startOperation )
+            throws Exception
+    {
+        Tuple2<Iterator<Operation>,Closeable> operationsAndCloseable = offsetIndex.operationsFrom( startOperation );
+        List<Operation> operations = new ArrayList<>();
+        while ( operationsAndCloseable._1().hasNext() )
+        {
+            operations.add( operationsAndCloseable._1().next() );
+        }
+        operationsAndCloseable._2().close();
+        return operations;
+    }
+
+    private static List<String> offsetAndLimitedOperations( ConsoleAndFileDriverConfiguration configuration,
+            long offset, long limit ) throws Exception
+    {
+        GeneratorFactory gf = new GeneratorFactory( new RandomDataGeneratorFactory( 42l ) );
+        Tuple3<WorkloadStreams,Workload,Long> workloadStreamsAndWorkload =
+                WorkloadStreams.createNewWorkloadWithOffsetAndLimitedWorkloadStreams(
+                        configuration,
+                        gf,
+                        false,
+                        offset,
+                        limit,
+                        new Log4jLoggingServiceFactory( false )
+                );
+        List<String> operations = new ArrayList<>();
+        Iterator<Operation> operationIterator = WorkloadStreams.mergeSortedByStartTimeExcludingChildOperationGenerators(
+                gf, workloadStreamsAndWorkload._1() );
+        while ( operationIterator.hasNext() )
+        {
+            operations.add( operationIterator.next().toString() );
+        }
+        workloadStreamsAndWorkload._2().close();
+        return operations;
+    }
+}